@@ -0,0 +1,92 @@
+/*
+ * $Id$
+ *
+ * Created on 16 Oct 2026
+ *
+ * This software is published under the terms of the
+ * software license which has been included
+ * with this distribution in the LICENSE.txt file.
+ *
+ */
+
+package org.jastronomy.jsofa.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jastronomy.jsofa.JSOFA;
+import org.jastronomy.jsofa.JSOFA.Astrom;
+import org.jastronomy.jsofa.JSOFA.ObservedPositionEO;
+import org.jastronomy.jsofa.JSOFA.SphericalCoordinate;
+import org.jastronomy.jsofa.JSOFAException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the ICRS to observed astrometry routines, using the
+ * site, star and conditions of the SOFA test cases.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AstrometryBenchmark {
+
+    /** star */
+    double rc = 2.71, dc = 0.174, pr = 1e-5, pd = 5e-6, px = 0.1, rv = 55.0;
+
+    /** time and Earth orientation */
+    double utc1 = 2456384.5, utc2 = 0.969254051, dut1 = 0.1550675;
+    double xp = 2.47230737e-7, yp = 1.82640464e-6;
+
+    /** site and atmosphere */
+    double elong = -0.527800806, phi = -1.2345856, hm = 2738.0;
+    double phpa = 731.0, tc = 12.8, rh = 0.59, wl = 0.55;
+
+    /** observed place */
+    double ob1 = 2.710085107986886201, ob2 = 0.1717653160128817066;
+
+    /** astrometry parameters prepared once for the quick routines */
+    Astrom astrom;
+
+    @Setup
+    public void setup() throws JSOFAException {
+        astrom = new Astrom();
+        JSOFA.jauApco13(utc1, utc2, dut1, elong, phi, hm, xp, yp,
+                phpa, tc, rh, wl, astrom);
+    }
+
+    @Benchmark
+    public Astrom apco13() throws JSOFAException {
+        final Astrom a = new Astrom();
+        JSOFA.jauApco13(utc1, utc2, dut1, elong, phi, hm, xp, yp,
+                phpa, tc, rh, wl, a);
+        return a;
+    }
+
+    @Benchmark
+    public SphericalCoordinate atciq() {
+        return JSOFA.jauAtciq(rc, dc, pr, pd, px, rv, astrom);
+    }
+
+    @Benchmark
+    public ObservedPositionEO atco13() throws JSOFAException {
+        return JSOFA.jauAtco13(rc, dc, pr, pd, px, rv, utc1, utc2, dut1,
+                elong, phi, hm, xp, yp, phpa, tc, rh, wl);
+    }
+
+    @Benchmark
+    public SphericalCoordinate atoc13() throws JSOFAException {
+        return JSOFA.jauAtoc13("R", ob1, ob2, utc1, utc2, dut1,
+                elong, phi, hm, xp, yp, phpa, tc, rh, wl);
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * $Id$
+ *
+ * Created on 16 Oct 2026
+ *
+ * This software is published under the terms of the
+ * software license which has been included
+ * with this distribution in the LICENSE.txt file.
+ *
+ */
+
+package org.jastronomy.jsofa.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jastronomy.jsofa.JSOFA;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the Earth and planetary ephemerides.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EphemerisBenchmark {
+
+    /** TDB as a 2-part Julian Date */
+    double date1 = 2400000.5, date2 = 53411.52501161;
+
+    /** heliocentric and barycentric Earth position/velocity */
+    final double pvh[][] = new double[2][3], pvb[][] = new double[2][3];
+
+    /** planet position/velocity */
+    final double pv[][] = new double[2][3];
+
+    @Benchmark
+    public double[][] epv00() {
+        JSOFA.jauEpv00(date1, date2, pvh, pvb);
+        return pvb;
+    }
+
+    @Benchmark
+    public double[][] plan94() {
+        JSOFA.jauPlan94(date1, date2, 5, pv);
+        return pv;
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * $Id$
+ *
+ * Created on 16 Oct 2026
+ *
+ * This software is published under the terms of the
+ * software license which has been included
+ * with this distribution in the LICENSE.txt file.
+ *
+ */
+
+package org.jastronomy.jsofa.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jastronomy.jsofa.JSOFA;
+import org.jastronomy.jsofa.JSOFA.GeodeticCoord;
+import org.jastronomy.jsofa.JSOFAException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the geocentric to geodetic transformation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GeodesyBenchmark {
+
+    /** WGS84 equatorial radius (m) and flattening */
+    double a = 6378137.0, f = 1.0 / 298.257223563;
+
+    /** geocentric position (m) */
+    final double xyz[] = { 2e6, 3e6, 5.244e6 };
+
+    @Benchmark
+    public GeodeticCoord gc2gde() throws JSOFAException {
+        return JSOFA.jauGc2gde(a, f, xyz);
+    }
+}
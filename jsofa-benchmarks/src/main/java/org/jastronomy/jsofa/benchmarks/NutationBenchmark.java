@@ -0,0 +1,87 @@
+/*
+ * $Id$
+ *
+ * Created on 16 Oct 2026
+ *
+ * This software is published under the terms of the
+ * software license which has been included
+ * with this distribution in the LICENSE.txt file.
+ *
+ */
+
+package org.jastronomy.jsofa.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jastronomy.jsofa.JSOFA;
+import org.jastronomy.jsofa.JSOFA.FundamentalArguments;
+import org.jastronomy.jsofa.JSOFA.ICRFrame;
+import org.jastronomy.jsofa.JSOFA.NutationTerms;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the nutation series and the CIP X,Y,s series.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NutationBenchmark {
+
+    /** TT as a 2-part Julian Date */
+    double date1 = 2400000.5, date2 = 53736.0;
+
+    @Benchmark
+    public NutationTerms nut00a() {
+        return JSOFA.jauNut00a(date1, date2);
+    }
+
+    @Benchmark
+    public NutationTerms nut06a() {
+        return JSOFA.jauNut06a(date1, date2);
+    }
+
+    @Benchmark
+    public ICRFrame xys06a() {
+        return JSOFA.jauXys06a(date1, date2);
+    }
+
+    /** TT of the stream of distinct dates */
+    double stream = 53736.0;
+
+    /* A new date every call, so the per-thread fundamental arguments are
+       evaluated afresh each time, with and without the memo. */
+    @Benchmark
+    public NutationTerms nut00aStream() {
+        stream += 1e-3;
+        return JSOFA.jauNut00a(date1, stream);
+    }
+
+    @Benchmark
+    public NutationTerms nut00aStreamDirect() {
+        stream += 1e-3;
+        return JSOFA.jauNut00a(new FundamentalArguments(date1, stream));
+    }
+
+    @Benchmark
+    public FundamentalArguments fa03Stream() {
+        stream += 1e-3;
+        return JSOFA.jauFa03(date1, stream);
+    }
+
+    @Benchmark
+    public FundamentalArguments fa03StreamDirect() {
+        stream += 1e-3;
+        return new FundamentalArguments(date1, stream);
+    }
+}
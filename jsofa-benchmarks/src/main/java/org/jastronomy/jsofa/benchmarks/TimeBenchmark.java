@@ -0,0 +1,65 @@
+/*
+ * $Id$
+ *
+ * Created on 16 Oct 2026
+ *
+ * This software is published under the terms of the
+ * software license which has been included
+ * with this distribution in the LICENSE.txt file.
+ *
+ */
+
+package org.jastronomy.jsofa.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jastronomy.jsofa.JSOFA;
+import org.jastronomy.jsofa.JSOFA.JulianDate;
+import org.jastronomy.jsofa.JSOFAException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the time scale routines.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TimeBenchmark {
+
+    /** UTC calendar date */
+    int iy = 2003, im = 6, id = 1;
+    double fd = 0.25;
+
+    /** UTC as a 2-part quasi Julian Date */
+    double utc1 = 2453750.5, utc2 = 0.892100694;
+
+    /** TT as a 2-part Julian Date and site for TDB-TT */
+    double tt1 = 2448939.5, tt2 = 0.123;
+    double ut = 0.76543, elong = 5.0123, u = 5525.242, v = 3190.0;
+
+    @Benchmark
+    public double dat() throws JSOFAException {
+        return JSOFA.jauDat(iy, im, id, fd);
+    }
+
+    @Benchmark
+    public JulianDate utctai() throws JSOFAException {
+        return JSOFA.jauUtctai(utc1, utc2);
+    }
+
+    @Benchmark
+    public double dtdb() {
+        return JSOFA.jauDtdb(tt1, tt2, ut, elong, u, v);
+    }
+}
@@ -0,0 +1,407 @@
+/*
+ * $Id$
+ *
+ * Created on 16 Oct 2026
+ *
+ * This software is published under the terms of the
+ * software license which has been included
+ * with this distribution in the LICENSE.txt file.
+ *
+ */
+
+package org.jastronomy.jsofa;
+
+import static java.lang.StrictMath.*;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import org.jastronomy.jsofa.JSOFA.Astrom;
+import org.jastronomy.jsofa.JSOFA.Ldbody;
+import org.jastronomy.jsofa.JSOFA.ObservedPosition;
+
+/**
+ * The quick astrometric transformations applied to many stars at once.
+ *
+ * The stars are given as parallel arrays (one array per catalog quantity)
+ * and the results are written into arrays supplied by the caller, so that
+ * nothing is allocated per star. All the stars share the one set of
+ * star-independent parameters, as prepared by {@link JSOFA#jauApco13} or
+ * kept by a {@link TrackingContext}.
+ *
+ * Each method can optionally spread the work over a {@link ForkJoinPool},
+ * in slices of {@value #SLICE} stars. The results are the same as those of
+ * {@link JSOFA#jauAtciq}, {@link JSOFA#jauAtciqn} and {@link JSOFA#jauAtioq}
+ * star by star, whether or not a pool is used. The Astrom must not be
+ * changed while a batch is in progress.
+ */
+@ThreadSafe
+public final class AstrometryBatch {
+
+    /** number of stars handled by one task when a pool is used */
+    public static final int SLICE = 4096;
+
+    private AstrometryBatch() {
+    }
+
+    /**
+     * Quick ICRS to CIRS transformation for many stars, as
+     * {@link JSOFA#jauAtciq}.
+     *
+     *<!-- Given: -->
+     * @param rc,dc   double[n]  ICRS RA,Dec at J2000.0 (radians)
+     * @param pr      double[n]  RA proper motion (radians/year)
+     * @param pd      double[n]  Dec proper motion (radians/year)
+     * @param px      double[n]  parallax (arcsec)
+     * @param rv      double[n]  radial velocity (km/s, +ve if receding)
+     * @param astrom  Astrom     star-independent astrometry parameters
+     *
+     *<!-- Returned: -->
+     * @param ri,di   double[n]  <u>returned</u> CIRS RA,Dec (radians)
+     * @param pool    ForkJoinPool  pool to use, or null to work in the calling thread
+     * @throws JSOFAIllegalParameter  the arrays are not all the same length.
+     */
+    public static void atciq(double rc[], double dc[], double pr[], double pd[], double px[], double rv[],
+            Astrom astrom, double ri[], double di[], ForkJoinPool pool) throws JSOFAIllegalParameter {
+        check(rc.length, dc, pr, pd, px, rv, ri, di);
+        run(new Task(Task.ATCIQ, rc, dc, pr, pd, px, rv, astrom, ri, di, null, null, null, null, null,
+                0, rc.length), pool);
+    }
+
+    /**
+     * Quick ICRS to CIRS transformation for many stars, with light
+     * deflection by several solar-system bodies, as {@link JSOFA#jauAtciqn}.
+     *
+     *<!-- Given: -->
+     * @param rc,dc   double[n]  ICRS RA,Dec at J2000.0 (radians)
+     * @param pr      double[n]  RA proper motion (radians/year)
+     * @param pd      double[n]  Dec proper motion (radians/year)
+     * @param px      double[n]  parallax (arcsec)
+     * @param rv      double[n]  radial velocity (km/s, +ve if receding)
+     * @param astrom  Astrom     star-independent astrometry parameters
+     * @param bodies  Deflectors the deflecting bodies, prepared for the
+     *                           observer in astrom
+     *
+     *<!-- Returned: -->
+     * @param ri,di   double[n]  <u>returned</u> CIRS RA,Dec (radians)
+     * @param pool    ForkJoinPool  pool to use, or null to work in the calling thread
+     * @throws JSOFAIllegalParameter  the arrays are not all the same length.
+     */
+    public static void atciqn(double rc[], double dc[], double pr[], double pd[], double px[], double rv[],
+            Astrom astrom, Deflectors bodies, double ri[], double di[], ForkJoinPool pool) throws JSOFAIllegalParameter {
+        check(rc.length, dc, pr, pd, px, rv, ri, di);
+        Task t = new Task(Task.ATCIQN, rc, dc, pr, pd, px, rv, astrom, ri, di, null, null, null, null, null,
+                0, rc.length);
+        t.bodies = bodies;
+        run(t, pool);
+    }
+
+    /**
+     * Quick CIRS to observed place transformation for many stars, as
+     * {@link JSOFA#jauAtioq}. Any of the output arrays may be null if that
+     * quantity is not wanted.
+     *
+     *<!-- Given: -->
+     * @param ri,di   double[n]  CIRS RA,Dec (radians)
+     * @param astrom  Astrom     star-independent astrometry parameters
+     *
+     *<!-- Returned: -->
+     * @param aob     double[n]  <u>returned</u> observed azimuth (radians: N=0,E=90)
+     * @param zob     double[n]  <u>returned</u> observed zenith distance (radians)
+     * @param hob     double[n]  <u>returned</u> observed hour angle (radians)
+     * @param dob     double[n]  <u>returned</u> observed declination (radians)
+     * @param rob     double[n]  <u>returned</u> observed right ascension (CIO-based, radians)
+     * @param pool    ForkJoinPool  pool to use, or null to work in the calling thread
+     * @throws JSOFAIllegalParameter  the arrays are not all the same length.
+     */
+    public static void atioq(double ri[], double di[], Astrom astrom,
+            double aob[], double zob[], double hob[], double dob[], double rob[],
+            ForkJoinPool pool) throws JSOFAIllegalParameter {
+        check(ri.length, di, aob, zob, hob, dob, rob);
+        run(new Task(Task.ATIOQ, null, null, null, null, null, null, astrom, ri, di, aob, zob, hob, dob, rob,
+                0, ri.length), pool);
+    }
+
+    /**
+     * Quick ICRS to observed place transformation for many stars: the
+     * combination of {@link JSOFA#jauAtciq} and {@link JSOFA#jauAtioq}, as
+     * in {@link JSOFA#jauAtco13} but with the star-independent parameters
+     * supplied. Any of the output arrays may be null if that quantity is not
+     * wanted.
+     *
+     *<!-- Given: -->
+     * @param rc,dc   double[n]  ICRS RA,Dec at J2000.0 (radians)
+     * @param pr      double[n]  RA proper motion (radians/year)
+     * @param pd      double[n]  Dec proper motion (radians/year)
+     * @param px      double[n]  parallax (arcsec)
+     * @param rv      double[n]  radial velocity (km/s, +ve if receding)
+     * @param astrom  Astrom     star-independent astrometry parameters
+     *
+     *<!-- Returned: -->
+     * @param aob     double[n]  <u>returned</u> observed azimuth (radians: N=0,E=90)
+     * @param zob     double[n]  <u>returned</u> observed zenith distance (radians)
+     * @param hob     double[n]  <u>returned</u> observed hour angle (radians)
+     * @param dob     double[n]  <u>returned</u> observed declination (radians)
+     * @param rob     double[n]  <u>returned</u> observed right ascension (CIO-based, radians)
+     * @param pool    ForkJoinPool  pool to use, or null to work in the calling thread
+     * @throws JSOFAIllegalParameter  the arrays are not all the same length.
+     */
+    public static void atco(double rc[], double dc[], double pr[], double pd[], double px[], double rv[],
+            Astrom astrom, double aob[], double zob[], double hob[], double dob[], double rob[],
+            ForkJoinPool pool) throws JSOFAIllegalParameter {
+        check(rc.length, dc, pr, pd, px, rv, aob, zob, hob, dob, rob);
+        run(new Task(Task.ATCO, rc, dc, pr, pd, px, rv, astrom, null, null, aob, zob, hob, dob, rob,
+                0, rc.length), pool);
+    }
+
+    /**
+     * Check that the given arrays, where not null, all have length n.
+     */
+    private static void check(int n, double[]... a) throws JSOFAIllegalParameter {
+        for (double x[] : a) {
+            if (x != null && x.length != n)
+                throw new JSOFAIllegalParameter("batch arrays differ in length", JSOFAIllegalParameter.BATCH_LENGTH);
+        }
+    }
+
+    /**
+     * Run a task in the pool, or directly if there is none.
+     */
+    private static void run(Task t, ForkJoinPool pool) {
+        if (pool == null || t.to - t.from <= SLICE) {
+            t.slice(t.from, t.to);
+        } else {
+            pool.invoke(t);
+        }
+    }
+
+    /**
+     * Solar-system bodies deflecting starlight, prepared for one observer
+     * and epoch, for {@link AstrometryBatch#atciqn}.
+     *
+     * The observer to body vectors, which {@link JSOFA#jauLdn} forms again
+     * for every star, are computed once here and held in flat arrays, so
+     * that only the light-time backtracking, which depends on the star
+     * direction, is done per star. Instances are immutable and may be shared
+     * between threads.
+     */
+    @ThreadSafe
+    public static final class Deflectors {
+
+        /** light time for 1 AU (days) */
+        private static final double CR = JSOFA.AULT/JSOFA.DAYSEC;
+
+        /** number of bodies */
+        private final int n;
+        /** masses (solar masses) */
+        private final double bm[];
+        /** deflection limiters (radians^2/2) */
+        private final double dl[];
+        /** body to observer vectors at the epoch of observation (au), 3 per body */
+        private final double v[];
+        /** body velocities (au/day), 3 per body */
+        private final double vel[];
+
+        /**
+         * Prepare the bodies for an observer.
+         *
+         *<!-- Given: -->
+         * @param n       int        number of bodies
+         * @param b       Ldbody[n]  data for each of the n bodies, as for {@link JSOFA#jauLdn}
+         * @param astrom  Astrom     star-independent astrometry parameters,
+         *                           giving the barycentric observer position
+         */
+        public Deflectors(int n, Ldbody b[], Astrom astrom) {
+            this.n = n;
+            bm = new double[n];
+            dl = new double[n];
+            v = new double[3*n];
+            vel = new double[3*n];
+            for (int i = 0; i < n; i++) {
+                bm[i] = b[i].bm;
+                dl[i] = b[i].dl;
+                for (int k = 0; k < 3; k++) {
+                    v[3*i+k] = astrom.eb[k] - b[i].pv[0][k];
+                    vel[3*i+k] = b[i].pv[1][k];
+                }
+            }
+        }
+
+        /**
+         * @return the number of bodies.
+         */
+        public int size() {
+            return n;
+        }
+
+        /**
+         * Apply the deflection by each body in turn to a star direction, as
+         * {@link JSOFA#jauLdn}.
+         * @param sn  double[3]  star direction, replaced by the deflected direction
+         * @param u   double[3]  workspace
+         */
+        void deflect(double sn[], double u[]) {
+            double v0, v1, v2, dt, e0, e1, e2, r;
+
+            for (int i = 0; i < n; i++) {
+                v0 = v[3*i];
+                v1 = v[3*i+1];
+                v2 = v[3*i+2];
+
+            /* Minus the time since the light passed the body (days). */
+                dt = (sn[0] * v0 + sn[1] * v1 + sn[2] * v2) * CR;
+
+            /* Neutralize if the star is "behind" the observer. */
+                dt = min(dt, 0.0);
+
+            /* Backtrack the body to the time the light was passing the body. */
+                e0 = v0 + -dt * vel[3*i];
+                e1 = v1 + -dt * vel[3*i+1];
+                e2 = v2 + -dt * vel[3*i+2];
+
+            /* Body to observer vector as magnitude and direction. */
+                r = sqrt(e0 * e0 + e1 * e1 + e2 * e2);
+                if (r == 0.0) {
+                    u[0] = u[1] = u[2] = 0.0;
+                } else {
+                    final double w = 1.0/r;
+                    u[0] = w * e0;
+                    u[1] = w * e1;
+                    u[2] = w * e2;
+                }
+
+            /* Apply light deflection for this body. */
+                JSOFA.jauLd(bm[i], sn, sn, u, r, dl[i], sn);
+            }
+        }
+    }
+
+    /**
+     * A range of stars to transform, split in halves until it is no longer
+     * than {@link AstrometryBatch#SLICE}.
+     */
+    private static final class Task extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        static final int ATCIQ = 0, ATIOQ = 1, ATCO = 2, ATCIQN = 3;
+
+        final int op;
+        final double rc[], dc[], pr[], pd[], px[], rv[];
+        final Astrom astrom;
+        final double ri[], di[];
+        final double aob[], zob[], hob[], dob[], rob[];
+        final int from, to;
+        /** deflecting bodies, for ATCIQN */
+        Deflectors bodies;
+
+        Task(int op, double rc[], double dc[], double pr[], double pd[], double px[], double rv[],
+                Astrom astrom, double ri[], double di[],
+                double aob[], double zob[], double hob[], double dob[], double rob[],
+                int from, int to) {
+            this.op = op;
+            this.rc = rc;
+            this.dc = dc;
+            this.pr = pr;
+            this.pd = pd;
+            this.px = px;
+            this.rv = rv;
+            this.astrom = astrom;
+            this.ri = ri;
+            this.di = di;
+            this.aob = aob;
+            this.zob = zob;
+            this.hob = hob;
+            this.dob = dob;
+            this.rob = rob;
+            this.from = from;
+            this.to = to;
+        }
+
+        private Task part(int from, int to) {
+            Task t = new Task(op, rc, dc, pr, pd, px, rv, astrom, ri, di, aob, zob, hob, dob, rob, from, to);
+            t.bodies = bodies;
+            return t;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SLICE) {
+                slice(from, to);
+            } else {
+                final int mid = (from + to) >>> 1;
+                invokeAll(part(from, mid), part(mid, to));
+            }
+        }
+
+        /**
+         * Transform the stars from index from (inclusive) to to (exclusive).
+         */
+        void slice(int from, int to) {
+            final double p[] = new double[3];
+            final ObservedPosition ob = new ObservedPosition(0.0, 0.0, 0.0, 0.0, 0.0);
+            final double radec[] = new double[2];
+            final double u[] = new double[3];
+
+            for (int i = from; i < to; i++) {
+                double r, d;
+                if (op == ATIOQ) {
+                    r = ri[i];
+                    d = di[i];
+                } else {
+                    icrsToCirs(rc[i], dc[i], pr[i], pd[i], px[i], rv[i], astrom, bodies, p, u, radec);
+                    r = radec[0];
+                    d = radec[1];
+                    if (op == ATCIQ || op == ATCIQN) {
+                        ri[i] = r;
+                        di[i] = d;
+                        continue;
+                    }
+                }
+                JSOFA.jauAtioq(r, d, astrom, ob);
+                if (aob != null) aob[i] = ob.aob;
+                if (zob != null) zob[i] = ob.zob;
+                if (hob != null) hob[i] = ob.hob;
+                if (dob != null) dob[i] = ob.dob;
+                if (rob != null) rob[i] = ob.rob;
+            }
+        }
+    }
+
+    /**
+     * The steps of {@link JSOFA#jauAtciq}, or of {@link JSOFA#jauAtciqn} if
+     * bodies is not null, for one star, using the workspaces p and u and
+     * writing the CIRS RA,Dec into radec.
+     */
+    private static void icrsToCirs(double rc, double dc, double pr, double pd, double px, double rv,
+            Astrom astrom, Deflectors bodies, double p[], double u[], double radec[]) {
+        double x, y, z, d2;
+
+    /* Proper motion and parallax, giving BCRS coordinate direction. */
+        JSOFA.jauPmpx(rc, dc, pr, pd, px, rv, astrom.pmt, astrom.eb, p);
+
+    /* Light deflection, giving BCRS natural direction. */
+        if (bodies == null) {
+            JSOFA.jauLdsun(p, astrom.eh, astrom.em, p);
+        } else {
+            bodies.deflect(p, u);
+        }
+
+    /* Aberration, giving GCRS proper direction. */
+        JSOFA.jauAb(p, astrom.v, astrom.em, astrom.bm1, p);
+
+    /* Bias-precession-nutation, giving CIRS proper direction. */
+        JSOFA.jauRxp(astrom.bpn, p, p);
+
+    /* CIRS RA,Dec. */
+        x = p[0];
+        y = p[1];
+        z = p[2];
+        d2 = x*x + y*y;
+        radec[0] = JSOFA.jauAnp((d2 == 0.0) ? 0.0 : atan2(y, x));
+        radec[1] = (z == 0.0) ? 0.0 : atan2(z, sqrt(d2));
+    }
+}
+
+/*
+ * $Log$
+ */
@@ -0,0 +1,113 @@
+/*
+ * $Id$
+ *
+ * Created on 16 Oct 2026
+ *
+ * This software is published under the terms of the
+ * software license which has been included
+ * with this distribution in the LICENSE.txt file.
+ *
+ */
+
+package org.jastronomy.jsofa;
+
+import static java.lang.StrictMath.*;
+
+import java.nio.DoubleBuffer;
+
+/**
+ * Chebyshev series fitting and evaluation shared by the interpolated
+ * ephemerides.
+ *
+ * A series of n coefficients over an interval is fitted by sampling the
+ * function at the n Chebyshev nodes of the interval, which gives the
+ * interpolating polynomial directly without solving any equations.
+ *
+ * @see EarthEphemerisCache
+ * @see EphemerisFile
+ */
+final class Chebyshev {
+
+    private Chebyshev() {
+    }
+
+    /**
+     * @param j  index of the node, 0 to n-1
+     * @param n  number of nodes
+     * @return the node, in the normalized interval -1 to +1.
+     */
+    static double node(int j, int n) {
+        return cos(PI * (j + 0.5) / n);
+    }
+
+    /**
+     * Fit series to function values at the nodes.
+     * @param f    double[m][n]  values of m functions at the n nodes
+     * @param n    number of nodes and of coefficients per series
+     * @param c    <u>returned</u> coefficients, n per function
+     * @param off  index in c of the first coefficient of the first function
+     */
+    static void fit(double f[][], int n, double c[], int off) {
+        final int m = f.length;
+        for (int i = 0; i < m; i++) {
+            for (int k = 0; k < n; k++) {
+                c[off + i * n + k] = 0.0;
+            }
+        }
+        for (int k = 0; k < n; k++) {
+            for (int j = 0; j < n; j++) {
+                final double w = cos(PI * k * (j + 0.5) / n) * 2.0 / n;
+                for (int i = 0; i < m; i++) {
+                    c[off + i * n + k] += w * f[i][j];
+                }
+            }
+        }
+        for (int i = 0; i < m; i++) {
+            c[off + i * n] *= 0.5;
+        }
+    }
+
+    /**
+     * Sum a Chebyshev series by Clenshaw's recurrence.
+     * @param c    coefficients
+     * @param off  index of the first coefficient in c
+     * @param n    number of coefficients
+     * @param x    argument, -1 to +1
+     * @return the value of the series.
+     */
+    static double clenshaw(double c[], int off, int n, double x) {
+        final double x2 = 2.0 * x;
+        double b1 = 0.0, b2 = 0.0;
+        for (int m = n - 1; m > 0; m--) {
+            final double b0 = x2 * b1 - b2 + c[off + m];
+            b2 = b1;
+            b1 = b0;
+        }
+        return x * b1 - b2 + c[off];
+    }
+
+    /**
+     * Sum a Chebyshev series held in a buffer, as
+     * {@link #clenshaw(double[], int, int, double)}.
+     * @param c    coefficients; only absolute gets are used, so the buffer
+     *             may be shared between threads
+     * @param off  index of the first coefficient in c
+     * @param n    number of coefficients
+     * @param x    argument, -1 to +1
+     * @return the value of the series.
+     */
+    static double clenshaw(DoubleBuffer c, int off, int n, double x) {
+        final double x2 = 2.0 * x;
+        double b1 = 0.0, b2 = 0.0;
+        for (int m = n - 1; m > 0; m--) {
+            final double b0 = x2 * b1 - b2 + c.get(off + m);
+            b2 = b1;
+            b1 = b0;
+        }
+        return x * b1 - b2 + c.get(off);
+    }
+}
+
+/*
+ * $Log$
+ */
@@ -0,0 +1,256 @@
+/*
+ * $Id$
+ *
+ * Created on 16 Oct 2026
+ *
+ * This software is published under the terms of the
+ * software license which has been included
+ * with this distribution in the LICENSE.txt file.
+ *
+ */
+
+package org.jastronomy.jsofa;
+
+import static java.lang.StrictMath.*;
+
+/**
+ * Earth position and velocity, heliocentric and barycentric, from the
+ * {@link JSOFA#jauEpv00} model at successive points of a uniform time grid.
+ *
+ * Every term of the model has the form a cos(b + c t), possibly times t or
+ * t squared. From one grid point to the next its phase advances by the
+ * constant c dt, so instead of evaluating the sine and cosine afresh the
+ * generator rotates the previous values through that angle, which costs
+ * four multiplications and two additions per term.
+ *
+ * The rotations slowly accumulate rounding error, so every so many steps
+ * the generator re-anchors, computing the sines and cosines directly. At
+ * those points the results are identical to jauEpv00 for the same date;
+ * in between, over 1900-2100 AD, they differ by up to 4e-13 au in position
+ * and 6e-15 au/day in velocity. Most of that difference is jauEpv00's own
+ * rounding of the phases b + c t, which grows with the distance from
+ * J2000, so it is much the same for any re-anchoring interval from 10 to
+ * the default of {@value #DEFAULT_REANCHOR} steps.
+ *
+ * Instances are not thread-safe.
+ *
+ * @see JSOFA#jauEpv00
+ * @see EarthEphemerisCache
+ */
+@NotThreadSafe
+public final class EarthEphemerisSeries {
+
+    /** default number of steps between re-anchorings */
+    public static final int DEFAULT_REANCHOR = 500;
+
+    /*
+    ** Matrix elements for orienting the analytical model to DE405, as
+    ** in jauEpv00.
+    */
+    private static final double am12 =  0.000000211284,
+                                am13 = -0.000000091603,
+                                am21 = -0.000000230286,
+                                am22 =  0.917482137087,
+                                am23 = -0.397776982902,
+                                am32 =  0.397776982902,
+                                am33 =  0.917482137087;
+
+    /** index in the term arrays of the first term of each series, x,y,z
+     *  sets of Sun to Earth T^0, T^1, T^2 then SSB to Sun T^0, T^1, T^2,
+     *  followed by the total number of terms */
+    private static final int first[] = new int[19];
+    /** amplitude, phase and frequency of each term */
+    private static final double ta[], tb[], tc[];
+
+    static {
+        final double series[][] = {
+            JSOFA.Ephemeris.e0x, JSOFA.Ephemeris.e1x, JSOFA.Ephemeris.e2x,
+            JSOFA.Ephemeris.s0x, JSOFA.Ephemeris.s1x, JSOFA.Ephemeris.s2x,
+            JSOFA.Ephemeris.e0y, JSOFA.Ephemeris.e1y, JSOFA.Ephemeris.e2y,
+            JSOFA.Ephemeris.s0y, JSOFA.Ephemeris.s1y, JSOFA.Ephemeris.s2y,
+            JSOFA.Ephemeris.e0z, JSOFA.Ephemeris.e1z, JSOFA.Ephemeris.e2z,
+            JSOFA.Ephemeris.s0z, JSOFA.Ephemeris.s1z, JSOFA.Ephemeris.s2z
+        };
+        for (int s = 0; s < 18; s++) {
+            first[s + 1] = first[s] + series[s].length / 3;
+        }
+        final int n = first[18];
+        ta = new double[n];
+        tb = new double[n];
+        tc = new double[n];
+        for (int s = 0; s < 18; s++) {
+            for (int j = first[s], idx = 0; j < first[s + 1]; j++) {
+                ta[j] = series[s][idx++];
+                tb[j] = series[s][idx++];
+                tc[j] = series[s][idx++];
+            }
+        }
+    }
+
+    /** the first date of the grid, first part */
+    private final double date1;
+    /** the first date of the grid, second part */
+    private final double date2;
+    /** grid interval (days) */
+    private final double step;
+    /** number of steps between re-anchorings */
+    private final int reanchor;
+
+    /** cosine and sine of the phase of each term at the next point */
+    private final double cp[], sp[];
+    /** cosine and sine of the change of phase of each term per step */
+    private final double cd[], sd[];
+
+    /** ecliptic heliocentric and barycentric position and velocity */
+    private final double ph[] = new double[3], vh[] = new double[3],
+                         pb[] = new double[3], vb[] = new double[3];
+
+    /** index of the next point */
+    private long k;
+
+    /**
+     * Create a generator with the default re-anchoring interval.
+     * @param date1,date2  double  TDB date of the first point (Note 1 of jauEpv00)
+     * @param step         double  grid interval (days, may be negative)
+     */
+    public EarthEphemerisSeries(double date1, double date2, double step) {
+        this(date1, date2, step, DEFAULT_REANCHOR);
+    }
+
+    /**
+     * Create a generator.
+     * @param date1,date2  double  TDB date of the first point (Note 1 of jauEpv00)
+     * @param step         double  grid interval (days, may be negative)
+     * @param reanchor     int     number of steps between re-anchorings; 1
+     *                             gives results identical to jauEpv00
+     * @throws IllegalArgumentException if reanchor is not positive.
+     */
+    public EarthEphemerisSeries(double date1, double date2, double step, int reanchor) {
+        if (reanchor < 1) throw new IllegalArgumentException("bad re-anchoring interval");
+        this.date1 = date1;
+        this.date2 = date2;
+        this.step = step;
+        this.reanchor = reanchor;
+
+        final int n = first[18];
+        cp = new double[n];
+        sp = new double[n];
+        cd = new double[n];
+        sd = new double[n];
+        final double dt = step / JSOFA.DJY;
+        for (int j = 0; j < n; j++) {
+            cd[j] = cos(tc[j] * dt);
+            sd[j] = sin(tc[j] * dt);
+        }
+    }
+
+    /**
+     * @return the index of the next point, counting the first as zero.
+     */
+    public long getIndex() {
+        return k;
+    }
+
+    /**
+     * @return the second part of the TDB date of the next point, to go
+     *         with the first part given to the constructor.
+     */
+    public double getDate2() {
+        return date2 + k * step;
+    }
+
+    /**
+     * Earth position and velocity at the next point of the grid, as
+     * {@link JSOFA#jauEpv00}, and advance to the following point.
+     *
+     *<!-- Returned: -->
+     * @param pvh  double[2][3]  <u>returned</u> heliocentric Earth position/velocity (au, au/day)
+     * @param pvb  double[2][3]  <u>returned</u> barycentric Earth position/velocity (au, au/day)
+     * @return     int           status: 0 = OK, +1 = warning: date outside
+     *                           the range 1900-2100 AD
+     */
+    public int next(double pvh[][], double pvb[][]) {
+        final int n = first[18];
+
+    /* Time since reference epoch, Julian years. */
+        final double t = ((date1 - JSOFA.DJ00) + (date2 + k * step)) / JSOFA.DJY;
+        final double t2 = t * t;
+
+    /* Fresh sines and cosines at the anchor points. */
+        if (k % reanchor == 0) {
+            for (int j = 0; j < n; j++) {
+                final double p = tb[j] + tc[j] * t;
+                cp[j] = cos(p);
+                sp[j] = sin(p);
+            }
+        }
+
+    /* X then Y then Z, in the same order as jauEpv00. */
+        for (int i = 0; i < 3; i++) {
+            double xyz = 0.0, xyzd = 0.0;
+            for (int h = 0; h < 2; h++) {
+                final int s = 6 * i + 3 * h;
+
+            /* T^0 terms. */
+                for (int j = first[s]; j < first[s + 1]; j++) {
+                    final double a = ta[j], c = tc[j];
+                    xyz  += a * cp[j];
+                    xyzd -= a * c * sp[j];
+                }
+
+            /* T^1 terms. */
+                for (int j = first[s + 1]; j < first[s + 2]; j++) {
+                    final double a = ta[j], ct = tc[j] * t;
+                    xyz  += a * t * cp[j];
+                    xyzd += a * (cp[j] - ct * sp[j]);
+                }
+
+            /* T^2 terms. */
+                for (int j = first[s + 2]; j < first[s + 3]; j++) {
+                    final double a = ta[j], ct = tc[j] * t;
+                    xyz  += a * t2 * cp[j];
+                    xyzd += a * t * (2.0 * cp[j] - ct * sp[j]);
+                }
+
+            /* Heliocentric, then (adding SSB to Sun) barycentric. */
+                if (h == 0) {
+                    ph[i] = xyz;
+                    vh[i] = xyzd / JSOFA.DJY;
+                } else {
+                    pb[i] = xyz;
+                    vb[i] = xyzd / JSOFA.DJY;
+                }
+            }
+        }
+
+    /* Advance every phase by one step. */
+        for (int j = 0; j < n; j++) {
+            final double c = cp[j], s = sp[j];
+            cp[j] = c * cd[j] - s * sd[j];
+            sp[j] = s * cd[j] + c * sd[j];
+        }
+        k++;
+
+    /* Rotate from ecliptic to BCRS coordinates. */
+        rotate(ph, pvh[0]);
+        rotate(vh, pvh[1]);
+        rotate(pb, pvb[0]);
+        rotate(vb, pvb[1]);
+
+        return abs(t) <= 100.0 ? 0 : 1;
+    }
+
+    /**
+     * Rotate a vector from the ecliptic frame of the model to the BCRS.
+     */
+    private static void rotate(double e[], double r[]) {
+        final double x = e[0], y = e[1], z = e[2];
+        r[0] =      x + am12*y + am13*z;
+        r[1] = am21*x + am22*y + am23*z;
+        r[2] =          am32*y + am33*z;
+    }
+}
+
+/*
+ * $Log$
+ */
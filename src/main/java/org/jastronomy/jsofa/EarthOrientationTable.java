@@ -0,0 +1,355 @@
+/*
+ * $Id$
+ *
+ * Created on 16 Oct 2026
+ *
+ * This software is published under the terms of the
+ * software license which has been included
+ * with this distribution in the LICENSE.txt file.
+ *
+ */
+
+package org.jastronomy.jsofa;
+
+import static java.lang.StrictMath.*;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * An immutable table of the Earth orientation parameters UT1-UTC and the
+ * polar motion xp, yp at daily intervals, interpolated to any UTC date in
+ * the range of the table, to supply the dut1, xp and yp arguments of the
+ * JSOFA functions with names ending in "13".
+ *
+ * The values are held in arrays indexed by day from the first date, so a
+ * lookup is a subtraction, a Lagrange interpolation over a fixed number of
+ * points (four, as recommended by the IERS, or two for linear
+ * interpolation) and, for UT1-UTC, a Delta(AT) lookup. UT1-UTC jumps by a
+ * second at each leap second, so it is held and interpolated as UT1-TAI,
+ * with Delta(AT) from the leap second table in force when the table was
+ * made.
+ *
+ * Tables can be read from the IERS finals2000A files (the Bulletin A
+ * values) and the IERS C04 series. These omit the diurnal and
+ * semidiurnal variations from the ocean tides and from libration (IERS
+ * Conventions 2010, Sections 5.5.1 and 5.5.3), which reach some tenths of
+ * a milliarcsecond in polar motion and some tens of microseconds in
+ * UT1-UTC. JSOFA does not provide those models; an implementation of them
+ * can be attached with a {@link Correction}.
+ *
+ * Instances are safe to share between threads.
+ *
+ * @see JSOFA#jauApco13(double, double, EarthOrientationTable, double, double, double, double, double, double, double, JSOFA.Astrom)
+ * @see JSOFA#jauUtcut1(double, double, EarthOrientationTable)
+ */
+@ThreadSafe
+public final class EarthOrientationTable {
+
+    /** default number of points in each interpolation */
+    public static final int DEFAULT_POINTS = 4;
+
+    /**
+     * Corrections for the diurnal and semidiurnal variations not included
+     * in the tabulated values. JSOFA has no implementations; the ocean tide
+     * and libration models of the IERS Conventions must be supplied by the
+     * caller. Implementations must be safe to call from several threads at
+     * once.
+     */
+    public interface Correction {
+        /**
+         * Add the corrections for a date.
+         * @param mjd  double     UTC as an MJD
+         * @param eop  double[3]  UT1-UTC (s), xp and yp (radians), to
+         *                        which the corrections are added
+         */
+        void correct(double mjd, double eop[]);
+    }
+
+    /** MJD of the first entry */
+    private final double mjd0;
+    /** UT1-TAI (s), xp and yp (radians) at each day */
+    private final double ut1mtai[], xp[], yp[];
+    /** the leap second table used for UT1-TAI */
+    private final LeapSecondTable leaps;
+    /** number of points in each interpolation */
+    private final int npts;
+    /** the corrections to add, or null */
+    private final Correction correction;
+    /** MJD of the last entry that is not a prediction */
+    private final double observed;
+
+    /**
+     * Create a table.
+     * @param mjd0   double     MJD of the first entry; the others follow at
+     *                          one day intervals
+     * @param dut1   double[n]  UT1-UTC at 0h UTC (s)
+     * @param xp,yp  double[n]  polar motion at 0h UTC (arcsec)
+     * @throws JSOFAIllegalParameter if the arrays differ in length or have
+     *                          fewer than two entries.
+     * @throws JSOFAInternalError if a date precedes UTC.
+     */
+    public EarthOrientationTable(double mjd0, double dut1[], double xp[], double yp[]) throws JSOFAIllegalParameter, JSOFAInternalError {
+        final int n = dut1.length;
+        if (n < 2 || xp.length != n || yp.length != n)
+            throw new JSOFAIllegalParameter("inconsistent Earth orientation table", -1);
+        this.mjd0 = mjd0;
+        leaps = JSOFA.getLeapSecondProvider().getLeapSecondTable();
+        ut1mtai = new double[n];
+        this.xp = new double[n];
+        this.yp = new double[n];
+        for (int i = 0; i < n; i++) {
+            final double mjd = mjd0 + i;
+            if (leaps.indexOf(mjd) < 0) throw new JSOFAInternalError("Earth orientation before UTC start", 1);
+            ut1mtai[i] = dut1[i] - leaps.deltaAT(mjd);
+            this.xp[i] = xp[i] * JSOFA.DAS2R;
+            this.yp[i] = yp[i] * JSOFA.DAS2R;
+        }
+        npts = min(DEFAULT_POINTS, n);
+        correction = null;
+        observed = mjd0 + n - 1;
+    }
+
+    /**
+     * A table sharing the values of another.
+     */
+    private EarthOrientationTable(EarthOrientationTable t, int npts, Correction correction, double observed) {
+        mjd0 = t.mjd0;
+        ut1mtai = t.ut1mtai;
+        xp = t.xp;
+        yp = t.yp;
+        leaps = t.leaps;
+        this.npts = npts;
+        this.correction = correction;
+        this.observed = observed;
+    }
+
+    /**
+     * @param npts  int  number of points in each interpolation, from 2
+     *                   (linear) to the size of the table
+     * @return a table with the same values interpolated over npts points.
+     * @throws IllegalArgumentException if npts is out of range.
+     */
+    public EarthOrientationTable withInterpolation(int npts) {
+        if (npts < 2 || npts > ut1mtai.length)
+            throw new IllegalArgumentException("bad number of interpolation points");
+        return new EarthOrientationTable(this, npts, correction, observed);
+    }
+
+    /**
+     * @param correction  Correction  corrections to add to the interpolated
+     *                                values, or null for none
+     * @return a table with the same values and the given corrections.
+     */
+    public EarthOrientationTable withCorrection(Correction correction) {
+        return new EarthOrientationTable(this, npts, correction, observed);
+    }
+
+    /**
+     * @return the MJD of the first entry.
+     */
+    public double getFirstMJD() {
+        return mjd0;
+    }
+
+    /**
+     * @return the MJD of the last entry.
+     */
+    public double getLastMJD() {
+        return mjd0 + ut1mtai.length - 1;
+    }
+
+    /**
+     * @return the MJD of the last entry that is not a prediction, which is
+     *         the last entry unless the table was read from a finals2000A
+     *         file with predictions; the values after it will be revised.
+     */
+    public double getLastObservedMJD() {
+        return observed;
+    }
+
+    /**
+     * The Earth orientation parameters at a date.
+     *
+     *<!-- Given: -->
+     * @param utc1,utc2  double     UTC as a 2-part quasi Julian Date
+     *
+     *<!-- Returned: -->
+     * @param eop        double[3]  <u>returned</u> UT1-UTC (s), xp and yp (radians)
+     * @throws JSOFAIllegalParameter if the date is outside the table.
+     */
+    public void eop(double utc1, double utc2, double eop[]) throws JSOFAIllegalParameter {
+        final double mjd = (utc1 - JSOFA.DJM0) + utc2;
+        final double t = mjd - mjd0;
+        final int n = ut1mtai.length;
+        if (!(t >= 0.0 && t <= n - 1))
+            throw new JSOFAIllegalParameter("date outside Earth orientation table", -1);
+
+    /* The points around the date, kept within the table. */
+        int i0 = (int) floor(t) - (npts / 2 - 1);
+        if (i0 < 0) i0 = 0;
+        if (i0 > n - npts) i0 = n - npts;
+        final double p = t - i0;
+
+    /* Lagrange interpolation. */
+        double u = 0.0, x = 0.0, y = 0.0;
+        for (int j = 0; j < npts; j++) {
+            double w = 1.0;
+            for (int m = 0; m < npts; m++) {
+                if (m != j) w *= (p - m) / (j - m);
+            }
+            u += w * ut1mtai[i0 + j];
+            x += w * xp[i0 + j];
+            y += w * yp[i0 + j];
+        }
+        eop[0] = u + leaps.deltaAT(mjd);
+        eop[1] = x;
+        eop[2] = y;
+        if (correction != null) correction.correct(mjd, eop);
+    }
+
+    /**
+     * UT1-UTC at a date.
+     *
+     *<!-- Given: -->
+     * @param utc1,utc2  double  UTC as a 2-part quasi Julian Date
+     *
+     * @return double  UT1-UTC (s)
+     * @throws JSOFAIllegalParameter if the date is outside the table.
+     */
+    public double dut1(double utc1, double utc2) throws JSOFAIllegalParameter {
+        final double e[] = new double[3];
+        eop(utc1, utc2, e);
+        return e[0];
+    }
+
+    /**
+     * Read the Bulletin A values from a file in the format of the IERS
+     * finals2000A files, https://datacenter.iers.org/products/eop/rapid/standard/finals2000A.all
+     * (or finals2000A.data, .daily), for example
+     * <pre>
+     * 73 1 2 41684.00 I  0.120733 0.009786  0.136966 0.015902  I 0.8084178 0.0002710 ...
+     * </pre>
+     * using the MJD (columns 8-15), PM-x (19-27), PM-y (38-46) and UT1-UTC
+     * (59-68). Reading stops at the first entry without UT1-UTC, where the
+     * predictions end.
+     *
+     * The predicted values (flag P in column 17 for polar motion or column
+     * 58 for UT1-UTC) are read too, so that the table reaches the present
+     * and a little beyond; {@link #getLastObservedMJD} gives the last entry
+     * before them, for applications that must not use predictions.
+     * @param in  source of the file contents; not closed by this method.
+     * @return the table.
+     * @throws IOException if the source cannot be read, a line is malformed
+     *                     or the dates are not consecutive.
+     * @throws JSOFAIllegalParameter if the table has fewer than two entries.
+     * @throws JSOFAInternalError if a date precedes UTC.
+     */
+    public static EarthOrientationTable readFinals2000A(Reader in) throws IOException, JSOFAIllegalParameter, JSOFAInternalError {
+        final Columns c = new Columns();
+        final BufferedReader r = new BufferedReader(in);
+        String line;
+        int nline = 0;
+        while ((line = r.readLine()) != null) {
+            nline++;
+            if (line.trim().isEmpty()) continue;
+            if (line.length() < 68 || line.substring(58, 68).trim().isEmpty()) break;
+            if (c.observed < 0 && (line.charAt(16) == 'P' || line.charAt(57) == 'P')) c.observed = c.n;
+            try {
+                c.add(Double.parseDouble(line.substring(7, 15).trim()),
+                      Double.parseDouble(line.substring(58, 68).trim()),
+                      Double.parseDouble(line.substring(18, 27).trim()),
+                      Double.parseDouble(line.substring(37, 46).trim()),
+                      "finals2000A line " + nline);
+            } catch (NumberFormatException e) {
+                throw new IOException("finals2000A line " + nline + ": malformed entry", e);
+            }
+        }
+        return c.table();
+    }
+
+    /**
+     * Read a file in the format of the IERS C04 series,
+     * https://hpiers.obspm.fr/iers/eop/eopc04/, either the EOP 14 C04
+     * layout
+     * <pre>
+     * 1962   1   1  37665  -0.012700   0.213000   0.0326338 ...
+     * </pre>
+     * or the EOP 20 C04 layout, which has an hour before the MJD
+     * <pre>
+     * 1962  01  01  00  37665.00  -0.012700   0.213000   0.0326338 ...
+     * </pre>
+     * Lines that do not start with a digit (the headers) are ignored.
+     * @param in  source of the file contents; not closed by this method.
+     * @return the table.
+     * @throws IOException if the source cannot be read, a line is malformed
+     *                     or the dates are not consecutive.
+     * @throws JSOFAIllegalParameter if the table has fewer than two entries.
+     * @throws JSOFAInternalError if a date precedes UTC.
+     */
+    public static EarthOrientationTable readC04(Reader in) throws IOException, JSOFAIllegalParameter, JSOFAInternalError {
+        final Columns c = new Columns();
+        final BufferedReader r = new BufferedReader(in);
+        String line;
+        int nline = 0;
+        while ((line = r.readLine()) != null) {
+            nline++;
+            line = line.trim();
+            if (line.isEmpty() || !Character.isDigit(line.charAt(0))) continue;
+            final String f[] = line.split("\\s+");
+            // year month day [hour] mjd x y ut1-utc ...
+            try {
+                final int k = abs(Double.parseDouble(f[4])) > 1000.0 ? 4 : 3;
+                c.add(Double.parseDouble(f[k]), Double.parseDouble(f[k + 3]),
+                      Double.parseDouble(f[k + 1]), Double.parseDouble(f[k + 2]),
+                      "C04 line " + nline);
+            } catch (NumberFormatException e) {
+                throw new IOException("C04 line " + nline + ": malformed entry", e);
+            } catch (ArrayIndexOutOfBoundsException e) {
+                throw new IOException("C04 line " + nline + ": malformed entry", e);
+            }
+        }
+        return c.table();
+    }
+
+    /**
+     * The columns of a table as they are read.
+     */
+    private static final class Columns {
+        double mjd0;
+        /** number of entries */
+        int n;
+        /** number of entries before the first prediction, or -1 if none */
+        int observed = -1;
+        double dut1[] = new double[1024], xp[] = new double[1024], yp[] = new double[1024];
+
+        void add(double mjd, double u, double x, double y, String where) throws IOException {
+            if (n == 0) {
+                mjd0 = mjd;
+            } else if (mjd != mjd0 + n) {
+                throw new IOException(where + ": date not the day after the last");
+            }
+            if (n == dut1.length) {
+                dut1 = Arrays.copyOf(dut1, 2 * n);
+                xp = Arrays.copyOf(xp, 2 * n);
+                yp = Arrays.copyOf(yp, 2 * n);
+            }
+            dut1[n] = u;
+            xp[n] = x;
+            yp[n] = y;
+            n++;
+        }
+
+        EarthOrientationTable table() throws JSOFAIllegalParameter, JSOFAInternalError {
+            final EarthOrientationTable t = new EarthOrientationTable(mjd0, Arrays.copyOf(dut1, n),
+                    Arrays.copyOf(xp, n), Arrays.copyOf(yp, n));
+            return observed < 0 ? t : new EarthOrientationTable(t, t.npts, null, mjd0 + observed - 1);
+        }
+    }
+}
+
+/*
+ * $Log$
+ */
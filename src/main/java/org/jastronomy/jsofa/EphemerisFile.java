@@ -0,0 +1,364 @@
+/*
+ * $Id$
+ *
+ * Created on 16 Oct 2026
+ *
+ * This software is published under the terms of the
+ * software license which has been included
+ * with this distribution in the LICENSE.txt file.
+ *
+ */
+
+package org.jastronomy.jsofa;
+
+import static java.lang.StrictMath.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * A precomputed ephemeris of the Earth ({@link JSOFA#jauEpv00}) and the
+ * major planets ({@link JSOFA#jauPlan94}) held as Chebyshev series in a
+ * binary file, read through a memory mapping.
+ *
+ * The file is written once, for example with
+ * <pre>
+ *     java org.jastronomy.jsofa.EphemerisFile jsofa.eph 1900 2100
+ * </pre>
+ * after which any number of processes can {@link #open} it. The mapping is
+ * read only and shared, so the operating system keeps one copy of the
+ * coefficients in its page cache for all of them, and opening costs no
+ * fitting or parsing.
+ *
+ * The file is little-endian. A 64 byte header holds
+ * <pre>
+ *     offset  type       contents
+ *        0    byte[8]    "JSOFAEPH"
+ *        8    int        format version (1)
+ *       12    int        number of coefficients per component, n
+ *       16    int        number of segments
+ *       20    int        number of components per segment (60)
+ *       24    double     start of the first segment (TDB days from J2000.0)
+ *       32    double     segment length (days)
+ *       40    byte[24]   reserved (zero)
+ * </pre>
+ * followed by the segments in time order. Each segment holds n doubles for
+ * each of 60 components: the twelve jauEpv00 components (heliocentric
+ * position and velocity then barycentric position and velocity, each x, y,
+ * z), then position and velocity for planets 1 to 8 as numbered by
+ * jauPlan94.
+ *
+ * The Earth series are fitted exactly as by {@link EarthEphemerisCache},
+ * so with the same segment length and number of coefficients the results
+ * are identical to it. With the defaults, over 1900-2100, the deviation
+ * from jauEpv00 was measured at up to 3.2e-13 au in position and 8e-14
+ * au/day in velocity. The planetary series deviate most for Mercury, up to
+ * 1.5e-12 au in position and 2.5e-13 au/day in velocity at the ends of
+ * that range (about 2.3e-13 au near J2000.0), and by less than 8e-13 au in
+ * position for the other planets.
+ *
+ * Instances are safe to share between threads.
+ *
+ * @see EarthEphemerisCache
+ */
+@ThreadSafe
+public final class EphemerisFile {
+
+    /** default segment length (days) */
+    public static final double DEFAULT_SPAN = 8.0;
+    /** default number of Chebyshev coefficients per component */
+    public static final int DEFAULT_COEFFICIENTS = 12;
+
+    /** file identification */
+    private static final byte MAGIC[] = { 'J', 'S', 'O', 'F', 'A', 'E', 'P', 'H' };
+    /** format version */
+    private static final int VERSION = 1;
+    /** header length (bytes) */
+    private static final int HEADER = 64;
+    /** components per segment */
+    private static final int NCOMP = 12 + 8 * 6;
+
+    /** the coefficients, as a view of the mapped file */
+    private final DoubleBuffer data;
+    /** number of coefficients per component */
+    private final int ncoeff;
+    /** number of segments */
+    private final int nseg;
+    /** start of the first segment (TDB days from J2000.0) */
+    private final double origin;
+    /** index of the first segment, counted from J2000.0 */
+    private final long first;
+    /** segment length (days) */
+    private final double span;
+
+    private EphemerisFile(DoubleBuffer data, int ncoeff, int nseg, double origin, double span) {
+        this.data = data;
+        this.ncoeff = ncoeff;
+        this.nseg = nseg;
+        this.origin = origin;
+        this.span = span;
+        first = round(origin / span);
+    }
+
+    /**
+     * Write an ephemeris file covering a range of dates.
+     * @param file    the file to create or overwrite
+     * @param date1   start of the range (TDB Julian Date)
+     * @param date2   end of the range (TDB Julian Date)
+     * @param span    segment length (days)
+     * @param ncoeff  number of Chebyshev coefficients per component
+     * @throws IOException if the file cannot be written.
+     * @throws IllegalArgumentException if the range is empty, the span or
+     *         number of coefficients is not positive, or the file would
+     *         exceed 2 GB.
+     */
+    public static void write(File file, double date1, double date2, double span, int ncoeff) throws IOException {
+        if (!(span > 0.0) || ncoeff < 1 || !(date2 > date1))
+            throw new IllegalArgumentException("bad ephemeris file parameters");
+
+    /* Segments aligned on J2000.0, as in EarthEphemerisCache. */
+        final long k0 = (long) floor((date1 - JSOFA.DJ00) / span);
+        final long k1 = (long) ceil((date2 - JSOFA.DJ00) / span);
+        final long size = HEADER + (k1 - k0) * NCOMP * ncoeff * 8L;
+        if (size > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("ephemeris file too large");
+        final int nseg = (int) (k1 - k0);
+
+        final RandomAccessFile raf = new RandomAccessFile(file, "rw");
+        try {
+            raf.setLength(0);
+            final FileChannel ch = raf.getChannel();
+
+            final ByteBuffer header = ByteBuffer.allocate(HEADER).order(ByteOrder.LITTLE_ENDIAN);
+            header.put(MAGIC).putInt(VERSION).putInt(ncoeff).putInt(nseg).putInt(NCOMP)
+                  .putDouble(k0 * span).putDouble(span);
+            header.clear();
+            writeFully(ch, header);
+
+            final double c[] = new double[NCOMP * ncoeff];
+            final ByteBuffer seg = ByteBuffer.allocate(c.length * 8).order(ByteOrder.LITTLE_ENDIAN);
+            for (long k = k0; k < k1; k++) {
+                fit(k * span + 0.5 * span, 0.5 * span, ncoeff, c);
+                seg.clear();
+                seg.asDoubleBuffer().put(c);
+                writeFully(ch, seg);
+            }
+        } finally {
+            raf.close();
+        }
+    }
+
+    /**
+     * Map an ephemeris file.
+     * @param file  the file, as written by {@link #write}
+     * @return the ephemeris.
+     * @throws IOException if the file cannot be read or is not a valid
+     *         ephemeris file.
+     */
+    public static EphemerisFile open(File file) throws IOException {
+        final RandomAccessFile raf = new RandomAccessFile(file, "r");
+        final MappedByteBuffer map;
+        try {
+            final long length = raf.length();
+            if (length < HEADER || length > Integer.MAX_VALUE)
+                throw new IOException(file + ": not an ephemeris file");
+            map = raf.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, length);
+        } finally {
+
+        /* The mapping stays valid after the channel is closed. */
+            raf.close();
+        }
+        map.order(ByteOrder.LITTLE_ENDIAN);
+
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (map.get(i) != MAGIC[i]) throw new IOException(file + ": not an ephemeris file");
+        }
+        if (map.getInt(8) != VERSION)
+            throw new IOException(file + ": unsupported ephemeris file version " + map.getInt(8));
+        final int ncoeff = map.getInt(12), nseg = map.getInt(16);
+        if (ncoeff < 1 || nseg < 1 || map.getInt(20) != NCOMP
+                || map.capacity() != HEADER + (long) nseg * NCOMP * ncoeff * 8L)
+            throw new IOException(file + ": corrupt ephemeris file");
+
+        map.position(HEADER);
+        final DoubleBuffer data = map.slice().order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer();
+        return new EphemerisFile(data, ncoeff, nseg, map.getDouble(24), map.getDouble(32));
+    }
+
+    /**
+     * @return the start of the period covered (TDB Julian Date).
+     */
+    public double getStart() {
+        return JSOFA.DJ00 + origin;
+    }
+
+    /**
+     * @return the end of the period covered (TDB Julian Date).
+     */
+    public double getEnd() {
+        return JSOFA.DJ00 + (origin + nseg * span);
+    }
+
+    /**
+     * @return the segment length (days).
+     */
+    public double getSpan() {
+        return span;
+    }
+
+    /**
+     * @return the number of Chebyshev coefficients per component.
+     */
+    public int getCoefficients() {
+        return ncoeff;
+    }
+
+    /**
+     * Earth position and velocity, heliocentric and barycentric, with
+     * respect to the Barycentric Celestial Reference System, as
+     * {@link JSOFA#jauEpv00}.
+     *
+     *<!-- Given: -->
+     * @param date1,date2  double        TDB date (Note 1 of jauEpv00)
+     *
+     *<!-- Returned: -->
+     * @param pvh          double[2][3]  <u>returned</u> heliocentric Earth position/velocity (au, au/day)
+     * @param pvb          double[2][3]  <u>returned</u> barycentric Earth position/velocity (au, au/day)
+     * @return             int           status: 0 = OK, +1 = warning: date outside
+     *                                   the range 1900-2100 AD
+     * @throws JSOFAIllegalParameter  date outside the file.
+     */
+    public int epv(double date1, double date2, double pvh[][], double pvb[][]) throws JSOFAIllegalParameter {
+        final double t = (date1 - JSOFA.DJ00) + date2;
+        final long k = (long) floor(t / span);
+        final int base = base(k);
+        final double x = x(t, k);
+        final int n = ncoeff;
+        for (int i = 0; i < 3; i++) {
+            pvh[0][i] = Chebyshev.clenshaw(data, base + i * n, n, x);
+            pvh[1][i] = Chebyshev.clenshaw(data, base + (3 + i) * n, n, x);
+        }
+        for (int i = 0; i < 3; i++) {
+            pvb[0][i] = Chebyshev.clenshaw(data, base + (6 + i) * n, n, x);
+            pvb[1][i] = Chebyshev.clenshaw(data, base + (9 + i) * n, n, x);
+        }
+        return abs(t / JSOFA.DJY) <= 100.0 ? 0 : 1;
+    }
+
+    /**
+     * Approximate heliocentric position and velocity of a major planet, as
+     * {@link JSOFA#jauPlan94}.
+     *
+     *<!-- Given: -->
+     * @param date1,date2  double        TDB date (Note 1 of jauPlan94)
+     * @param np           int           planet (1=Mercury, 2=Venus, 3=EMB, 4=Mars,
+     *                                   5=Jupiter, 6=Saturn, 7=Uranus, 8=Neptune)
+     *
+     *<!-- Returned: -->
+     * @param pv           double[2][3]  <u>returned</u> planet p,v (heliocentric, J2000.0, au, au/d)
+     * @return             int           status: -1 = illegal NP (outside 1-8)
+     *                                            0 = OK
+     *                                           +1 = warning: year outside 1000-3000
+     * @throws JSOFAIllegalParameter  date outside the file.
+     */
+    public int plan(double date1, double date2, int np, double pv[][]) throws JSOFAIllegalParameter {
+        if (np < 1 || np > 8) {
+            for (int k = 0; k < 2; k++) {
+                for (int i = 0; i < 3; i++) {
+                    pv[k][i] = 0.0;
+                }
+            }
+            return -1;
+        }
+        final double t = (date1 - JSOFA.DJ00) + date2;
+        final long k = (long) floor(t / span);
+        final int n = ncoeff;
+        final int base = base(k) + (12 + 6 * (np - 1)) * n;
+        final double x = x(t, k);
+        for (int j = 0; j < 2; j++) {
+            for (int i = 0; i < 3; i++) {
+                pv[j][i] = Chebyshev.clenshaw(data, base + (3 * j + i) * n, n, x);
+            }
+        }
+        return abs(t / JSOFA.DJM) <= 1.0 ? 0 : 1;
+    }
+
+    /**
+     * Index of the first coefficient of segment k (counted from J2000.0).
+     */
+    private int base(long k) throws JSOFAIllegalParameter {
+        final long s = k - first;
+        if (s < 0 || s >= nseg)
+            throw new JSOFAIllegalParameter("date outside ephemeris file", -1);
+        return (int) s * NCOMP * ncoeff;
+    }
+
+    /**
+     * Normalized time, -1 to +1, within segment k.
+     */
+    private double x(double t, long k) {
+        final double half = 0.5 * span;
+        return (t - (k * span + half)) / half;
+    }
+
+    /**
+     * Fit all the components over one segment.
+     */
+    private static void fit(double mid, double half, int n, double c[]) {
+        EarthEphemerisCache.fit(mid, half, n, c, 0);
+
+        final double f[][] = new double[6 * 8][n];
+        final double pv[] = new double[6 * 8];
+        for (int j = 0; j < n; j++) {
+            try {
+                JSOFA.jauPlan94(JSOFA.DJ00, mid + half * Chebyshev.node(j, n), pv);
+            } catch (JSOFAIllegalParameter e) {
+                throw new IllegalStateException(e);
+            }
+            for (int i = 0; i < pv.length; i++) {
+                f[i][j] = pv[i];
+            }
+        }
+        Chebyshev.fit(f, n, c, 12 * n);
+    }
+
+    private static void writeFully(FileChannel ch, ByteBuffer b) throws IOException {
+        while (b.hasRemaining()) {
+            ch.write(b);
+        }
+    }
+
+    /**
+     * Write an ephemeris file from the command line:
+     * <pre>
+     *     EphemerisFile file [first-year last-year [span coefficients]]
+     * </pre>
+     * The file covers 1 January of the first year to 1 January of the year
+     * after the last, by default 1900 to 2100.
+     * @param args  command line arguments
+     * @throws Exception if the arguments are bad or the file cannot be written.
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length != 1 && args.length != 3 && args.length != 5) {
+            System.err.println("usage: EphemerisFile file [first-year last-year [span coefficients]]");
+            System.exit(1);
+        }
+        final int iy1 = args.length > 1 ? Integer.parseInt(args[1]) : 1900;
+        final int iy2 = args.length > 1 ? Integer.parseInt(args[2]) : 2100;
+        final double span = args.length > 3 ? Double.parseDouble(args[3]) : DEFAULT_SPAN;
+        final int ncoeff = args.length > 3 ? Integer.parseInt(args[4]) : DEFAULT_COEFFICIENTS;
+        final JSOFA.JulianDate d1 = JSOFA.jauCal2jd(iy1, 1, 1);
+        final JSOFA.JulianDate d2 = JSOFA.jauCal2jd(iy2 + 1, 1, 1);
+        write(new File(args[0]), d1.djm0 + d1.djm1, d2.djm0 + d2.djm1, span, ncoeff);
+    }
+}
+
+/*
+ * $Log$
+ */
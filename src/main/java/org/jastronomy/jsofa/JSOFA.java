@@ -15,10 +15,19 @@ import static java.lang.StrictMath.*;
  * 
  * This code has been created by hand translating the official C version.
  * 
+ * <p>All the routines may be called from many threads at once. They keep no
+ * shared mutable state: the few caches (such as the last fundamental
+ * arguments, see {@link #jauFa03}) are held per thread, and the leap second
+ * provider is replaced atomically. Arguments that are filled in by a
+ * routine, such as {@link Astrom} and the result arrays, belong to the
+ * caller and must not be shared with other threads while they are being
+ * written; see {@link NotThreadSafe}.
+ * 
  * @author Paul Harrison (paul.harrison@manchester.ac.uk) 02 Apr 2014
  * @version JSOFA Release 20131202b
  * @since 26 Jan 2010
  */
+@ThreadSafe
 public class JSOFA {
     /** tracked IAU SOFA release {@value}. */
     public final static String SOFA_RELEASE = "2015-02-09";
@@ -1613,6 +1622,47 @@ public class JSOFA {
 
         }
     
+    /**
+    **  Form the celestial to terrestrial matrix given the date, the UT1 and
+    **  the polar motion, using the IAU 2006 precession and IAU 2000A
+    **  nutation models, as a flat r-matrix.
+    **  See {@link #jauC2t06a(double, double, double, double, double, double)}.
+    **
+    **  The r-matrix is held as a flat double[9] in row-major order, so
+    **  that element [i][j] of the usual form is element [3*i+j].
+    **
+    **<!-- Given: -->
+    **     @param tta,ttb   double         TT as a 2-part Julian Date
+    **     @param uta,utb   double         UT1 as a 2-part Julian Date
+    **     @param xp,yp     double         coordinates of the pole (radians)
+    **
+    **<!-- Returned: -->
+    **     @param rc2t      double[9]      <u>returned</u> celestial-to-terrestrial matrix
+    **     @return rc2t
+    */
+    public static double[] jauC2t06a(final double tta, final double ttb, final double uta, final double utb,
+                  final double xp, final double yp, double rc2t[])
+    {
+       double era, sp, rpom[] = new double[9];
+
+
+    /* Form the celestial-to-intermediate matrix for this TT. */
+       jauCr(jauC2i06a(tta, ttb), rc2t);
+
+    /* Predict the Earth rotation angle for this UT1. */
+       era = jauEra00(uta, utb);
+
+    /* Estimate s'. */
+       sp = jauSp00(tta, ttb);
+
+    /* Form the polar motion matrix. */
+       jauPom00(xp, yp, sp, rpom);
+
+    /* Combine to form the celestial-to-terrestrial matrix. */
+       return jauC2tcio(rc2t, era, rpom, rc2t);
+
+        }
+    
 
     /**
     **  Assemble the celestial to terrestrial matrix from CIO-based
@@ -1680,9 +1730,39 @@ public class JSOFA {
     /* Construct the matrix. */
        jauCr(rc2i, r);
        jauRz(era, r);
-       double[][] rc2t = jauRxr(rpom, r);
 
-       return rc2t;
+       return jauRxr(rpom, r, r);
+
+        }
+    
+    /**
+    **  Assemble the celestial to terrestrial matrix from CIO-based
+    **  components, as a flat r-matrix.
+    **  See {@link #jauC2tcio(double[][], double, double[][])}.
+    **
+    **  The r-matrix is held as a flat double[9] in row-major order, so
+    **  that element [i][j] of the usual form is element [3*i+j].
+    **
+    **<!-- Given: -->
+    **     @param rc2i      double[9]       celestial-to-intermediate matrix
+    **     @param era       double          Earth rotation angle (radians)
+    **     @param rpom      double[9]       polar-motion matrix
+    **
+    **<!-- Returned: -->
+    **     @param rc2t      double[9]       <u>returned</u> celestial-to-terrestrial matrix
+    **     @return rc2t
+    **
+    **  Note:
+    **     It is permissible for rc2i and rc2t to be the same array.
+    */
+    public static double[] jauC2tcio(final double rc2i[], final double era, final double rpom[], double rc2t[])
+    {
+
+    /* Construct the matrix. */
+       System.arraycopy(rc2i, 0, rc2t, 0, 9);
+       jauRz(era, rc2t);
+
+       return jauRxr(rpom, rc2t, rc2t);
 
         }
     
@@ -2036,43 +2116,57 @@ public class JSOFA {
     **  <!-- Copyright (C) 2009 IAU SOFA Review Board.  See notes at end -->
     */
     public static JulianDate jauCal2jd(int iy, int im, int id) throws JSOFAIllegalParameter
+    {
+       return new JulianDate(DJM0, jauCal2mjd(iy, im, id));
+    }
+
+    /** Month lengths in days */
+    private static final int MTAB[] = {31, 28, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
+
+    /**
+    **  Gregorian Calendar to Modified Julian Date, as {@link #jauCal2jd}
+    **  but returning only the MJD, the zero-point being always
+    **  2400000.5, so that nothing is allocated.
+    **
+    **<!-- Given: -->
+    **     @param iy,im,id   int      year, month, day in Gregorian calendar
+    **
+    **     @return double   Modified Julian Date for 0 hrs
+    **     @throws JSOFAIllegalParameter  bad year or month
+    */
+    public static double jauCal2mjd(int iy, int im, int id) throws JSOFAIllegalParameter
     {
        int j, ly, my;
        long iypmy;
-       double djm0, djm;
+       double djm;
 
     /* Earliest year allowed (4800BC) */
        final int IYMIN = -4799;
 
-    /* Month lengths in days */
-       final int mtab[]
-                         = {31, 28, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
-
 
     /* Preset status. */
        j = 0;
 
     /* Validate year and month. */
-       if (iy < IYMIN) throw new JSOFAIllegalParameter("bad year", -1);
-       if (im < 1 || im > 12) throw new JSOFAIllegalParameter("bad month", -2);
+       if (iy < IYMIN) throw new JSOFAIllegalParameter("bad year", -1, false);
+       if (im < 1 || im > 12) throw new JSOFAIllegalParameter("bad month", -2, false);
 
     /* If February in a leap year, 1, otherwise 0. */
        ly = ((im == 2) && (iy%4 == 0) && (iy%100 != 0 || (iy%400 == 0)))?1:0;
 
     /* Validate day, taking into account leap years. */
-       if ( (id < 1) || (id > (mtab[im-1] + ly))) j = -3;
+       if ( (id < 1) || (id > (MTAB[im-1] + ly))) j = -3;
 
     /* Return result. */
        my = (im - 14) / 12;
        iypmy = (long) (iy + my);
-       djm0 = DJM0;
        djm = (double)((1461L * (iypmy + 4800L)) / 4L
                      + (367L * (long) (im - 2 - 12 * my)) / 12L
                      - (3L * ((iypmy + 4900L) / 100L)) / 4L
                      + (long) id - 2432076L);
 
     /* Return status. */
-       return new JulianDate(djm0, djm);
+       return djm;
 
         }
     
@@ -2177,6 +2271,55 @@ public class JSOFA {
 
         }
     
+    /**
+    **  Copy an r-matrix into a flat r-matrix.
+    **
+    **  The r-matrix is held as a flat double[9] in row-major order, so
+    **  that element [i][j] of the usual form is element [3*i+j].
+    **
+    **<p>Status:  vector/matrix support function.
+    **
+    **<!-- Given: -->
+    **     @param r        double[3][3]    r-matrix to be copied
+    **
+    **<!-- Returned: -->
+    **     @param c        double[9]       <u>returned</u> copy
+    */
+    public static void jauCr(double r[][], double c[])
+    {
+       c[0] = r[0][0]; c[1] = r[0][1]; c[2] = r[0][2];
+       c[3] = r[1][0]; c[4] = r[1][1]; c[5] = r[1][2];
+       c[6] = r[2][0]; c[7] = r[2][1]; c[8] = r[2][2];
+
+       return;
+
+        }
+    
+
+    /**
+    **  Copy a flat r-matrix into an r-matrix.
+    **
+    **  The r-matrix is held as a flat double[9] in row-major order, so
+    **  that element [i][j] of the usual form is element [3*i+j].
+    **
+    **<p>Status:  vector/matrix support function.
+    **
+    **<!-- Given: -->
+    **     @param r        double[9]       r-matrix to be copied
+    **
+    **<!-- Returned: -->
+    **     @param c        double[3][3]    <u>returned</u> copy
+    */
+    public static void jauCr(double r[], double c[][])
+    {
+       c[0][0] = r[0]; c[0][1] = r[1]; c[0][2] = r[2];
+       c[1][0] = r[3]; c[1][1] = r[4]; c[1][2] = r[5];
+       c[2][0] = r[6]; c[2][1] = r[7]; c[2][2] = r[8];
+
+       return;
+
+        }
+    
 
     /**
     **  Decompose days to hours, minutes, seconds, fraction.
@@ -2407,10 +2550,47 @@ public class JSOFA {
  * @throws JSOFAIllegalParameter 
 */
 public static CalendarHMS jauD2dtf(final String scale, int ndp, double d1, double d2 ) throws JSOFAIllegalParameter, JSOFAInternalError
+{
+ return d2dtf(scale, ndp, d1, d2, null);
+}
+
+    /**
+    **  Format for output a 2-part Julian Date (or in the case of UTC a
+    **  quasi-JD form that includes special provision for leap seconds),
+    **  reporting the SOFA status instead of throwing an exception. As
+    **  {@link #jauD2dtf(String, int, double, double)}, except that the
+    **  "dubious year" warning is returned as status +1, and dates before
+    **  UTC are a warning, for which Delta(AT) is taken as zero, rather than
+    **  an error.
+    **
+    **<!-- Given: -->
+    **     @param scale      String   time scale ID
+    **     @param ndp        int      resolution
+    **     @param d1,d2      double   time as a 2-part Julian Date
+    **     @param status     int[1]   <u>returned</u> status: +1 = dubious year,
+    **                                0 = OK, -1 = unacceptable date
+    **     @return the date and time, or null if the date is unacceptable
+    */
+    public static CalendarHMS jauD2dtf(final String scale, int ndp, double d1, double d2, int status[])
+    {
+        status[0] = 0;
+        try {
+            return d2dtf(scale, ndp, d1, d2, status);
+        } catch (JSOFAException e) {
+            status[0] = -1;
+            return null;
+        }
+    }
+
+    /**
+     * Implementation of {@link #jauD2dtf(String, int, double, double)},
+     * reporting the status in js[0] or, if js is null, by exceptions.
+     */
+    private static CalendarHMS d2dtf(final String scale, int ndp, double d1, double d2, int js[]) throws JSOFAIllegalParameter, JSOFAInternalError
 {
  boolean leap;
  char s;
- int iy1, im1, id1, js, iy2, im2, id2, ihmsf1[] = new int[4], i;
+ int iy1, im1, id1, iy2, im2, id2, ihmsf1[] = new int[4], i;
  double a1, b1, fd, dat0, dat12, w, dat24, dleap;
 
 
@@ -2430,10 +2610,10 @@ public static CalendarHMS jauD2dtf(final String scale, int ndp, double d1, doubl
  if ( scale.equalsIgnoreCase("UTC") ) {
 
  /* TAI-UTC at 0h today. */
-     dat0 = jauDat(iy1, im1, id1, 0.0 );
+     dat0 = dat(iy1, im1, id1, 0.0, js);
 
  /* TAI-UTC at 12h today (to detect drift). */
-     dat12 = jauDat(iy1, im1, id1, 0.5);
+     dat12 = dat(iy1, im1, id1, 0.5, js);
 
  /* TAI-UTC at 0h tomorrow (to detect jumps). */
     cal = jauJd2cal(a1+1.5, b1-fd);
@@ -2441,7 +2621,7 @@ public static CalendarHMS jauD2dtf(final String scale, int ndp, double d1, doubl
     im2 = cal.im;
     id2 = cal.id;
     w = cal.fd;
-    dat24 = jauDat(iy2, im2, id2, 0.0);
+    dat24 = dat(iy2, im2, id2, 0.0, js);
 
  /* Any sudden change in TAI-UTC (seconds). */
     dleap = dat24 - (2.0*dat12 - dat0);
@@ -2649,7 +2829,7 @@ if ( ihr >= 0 && ihr <= 23 ) {
 } else {
  js = -4;
 }
-if ( js < 0 ) throw new JSOFAInternalError("problem with time", js);
+if ( js < 0 ) throw new JSOFAInternalError("problem with time", js, false);
 
 /* The time in days. */
 time  = ( 60.0 * ( (double) ( 60 * ihr + imn ) ) + sec ) / day;
@@ -2664,6 +2844,112 @@ return new JulianDate(dj, time) ;
 /** Release year for this version of jauDat {@value} */
 public final static int IYV = 2015;
 
+    /* Reference dates (MJD) and drift rates (s/day), pre leap seconds */
+    private static final double DAT_DRIFT[][] = {
+          { 37300.0, 0.0012960 },
+          { 37300.0, 0.0012960 },
+          { 37300.0, 0.0012960 },
+          { 37665.0, 0.0011232 },
+          { 37665.0, 0.0011232 },
+          { 38761.0, 0.0012960 },
+          { 38761.0, 0.0012960 },
+          { 38761.0, 0.0012960 },
+          { 38761.0, 0.0012960 },
+          { 38761.0, 0.0012960 },
+          { 38761.0, 0.0012960 },
+          { 38761.0, 0.0012960 },
+          { 39126.0, 0.0025920 },
+          { 39126.0, 0.0025920 }
+       };
+
+    /* Dates and Delta(AT)s: year, month, Delta(AT) */
+    private static final double DAT_CHANGES[][] = {
+          { 1960,  1,  1.4178180 },
+          { 1961,  1,  1.4228180 },
+          { 1961,  8,  1.3728180 },
+          { 1962,  1,  1.8458580 },
+          { 1963, 11,  1.9458580 },
+          { 1964,  1,  3.2401300 },
+          { 1964,  4,  3.3401300 },
+          { 1964,  9,  3.4401300 },
+          { 1965,  1,  3.5401300 },
+          { 1965,  3,  3.6401300 },
+          { 1965,  7,  3.7401300 },
+          { 1965,  9,  3.8401300 },
+          { 1966,  1,  4.3131700 },
+          { 1968,  2,  4.2131700 },
+          { 1972,  1,       10.0 },
+          { 1972,  7,       11.0 },
+          { 1973,  1,       12.0 },
+          { 1974,  1,       13.0 },
+          { 1975,  1,       14.0 },
+          { 1976,  1,       15.0 },
+          { 1977,  1,       16.0 },
+          { 1978,  1,       17.0 },
+          { 1979,  1,       18.0 },
+          { 1980,  1,       19.0 },
+          { 1981,  7,       20.0 },
+          { 1982,  7,       21.0 },
+          { 1983,  7,       22.0 },
+          { 1985,  7,       23.0 },
+          { 1988,  1,       24.0 },
+          { 1990,  1,       25.0 },
+          { 1991,  1,       26.0 },
+          { 1992,  7,       27.0 },
+          { 1993,  7,       28.0 },
+          { 1994,  7,       29.0 },
+          { 1996,  1,       30.0 },
+          { 1997,  7,       31.0 },
+          { 1999,  1,       32.0 },
+          { 2006,  1,       33.0 },
+          { 2009,  1,       34.0 },
+          { 2012,  7,       35.0 },
+          { 2015,  7,       36.0 }
+       };
+
+    /** The table of Delta(AT) changes built in to this release of jauDat. */
+    public static final LeapSecondTable BUILTIN_LEAP_SECONDS = datTable();
+
+    /** The source of the leap second table used by jauDat. */
+    private static volatile LeapSecondProvider leapSecondProvider = BUILTIN_LEAP_SECONDS;
+
+    /**
+     * Set the source of the leap second table used by jauDat, and hence by
+     * all the routines that take or return UTC. The change is atomic and
+     * takes effect for all subsequent calls in every thread; calls that are
+     * in progress may see either the old or the new table.
+     *
+     * @param provider the new source, or null to revert to {@link #BUILTIN_LEAP_SECONDS}.
+     * @see LeapSecondTable#readTaiUtc
+     * @see LeapSecondTable#readLeapSecondDat
+     */
+    public static void setLeapSecondProvider(LeapSecondProvider provider) {
+        leapSecondProvider = provider == null ? BUILTIN_LEAP_SECONDS : provider;
+    }
+
+    /**
+     * @return the source of the leap second table currently used by jauDat.
+     */
+    public static LeapSecondProvider getLeapSecondProvider() {
+        return leapSecondProvider;
+    }
+
+    private static LeapSecondTable datTable() {
+        final int n = DAT_CHANGES.length;
+        final int year[] = new int[n], month[] = new int[n];
+        final double delat[] = new double[n];
+        for (int i = 0; i < n; i++) {
+            year[i] = (int)DAT_CHANGES[i][0];
+            month[i] = (int)DAT_CHANGES[i][1];
+            delat[i] = DAT_CHANGES[i][2];
+        }
+        try {
+            return new LeapSecondTable(year, month, delat, DAT_DRIFT, jauCal2mjd(IYV + 6, 1, 1));
+        } catch (JSOFAIllegalParameter e) {
+            throw new IllegalStateException("invalid built-in leap second table", e);
+        }
+    }
+
     /**
     **  For a given UTC date, calculate delta(AT) = TAI-UTC.
     **<pre>
@@ -2678,7 +2964,7 @@ public final static int IYV = 2015;
     **     :                                          :
     **     :  1) A new line must be added to the set  :
     **     :     of statements that initialize the    :
-    **     :     array "changes".                     :
+    **     :     array "DAT_CHANGES".                 :
     **     :                                          :
     **     :  2) The parameter IYV must be set to     :
     **     :     the current year.                    :
@@ -2699,6 +2985,11 @@ public final static int IYV = 2015;
     **     :                                          :
     **     :__________________________________________:
     **</pre>
+    **<p>The table used is the one supplied by the current
+    **  {@link #setLeapSecondProvider leap second provider}, which is
+    **  {@link #BUILTIN_LEAP_SECONDS} unless the application has installed
+    **  another, for example one read from the IERS Leap_Second.dat file.
+    **
     **<p>This function is derived from the International Astronomical Union's
     **  SOFA (Standards Of Fundamental Astronomy) software collection.
     **
@@ -2727,14 +3018,20 @@ public final static int IYV = 2015;
     **
     ** <li> UTC began at 1960 January 1.0 (JD 2436934.5) and it is improper
     **     to call the function with an earlier date.  If this is attempted,
-    **     zero is returned together with a warning status.
+    **     zero is returned together with a warning status.  The same
+    **     applies to any date before the first entry of the leap second
+    **     table in force, which need not start in January.
     **
     **     Because leap seconds cannot, in principle, be predicted in
     **     advance, a reliable check for dates beyond the valid range is
-    **     impossible.  To guard against gross errors, a year five or more
-    **     after the release year of the present function (see parameter
-    **     IYV) is considered dubious.  In this case a warning status is
-    **     returned but the result is computed in the normal way.
+    **     impossible.  To guard against gross errors, a date on or after
+    **     the expiry of the leap second table (see
+    **     {@link LeapSecondTable#getExpiryMJD}) is considered dubious.  For
+    **     the built-in table this is a year five or more after the release
+    **     year of the present function (see parameter IYV).  In this case a
+    **     warning status is returned by
+    **     {@link #jauDat(int, int, int, double, int[])} but the result is
+    **     computed in the normal way;  this form does not report it.
     **
     **     For both too-early and too-late years, the warning status is
     **     j=+1.  This is distinct from the error status j=-1, which
@@ -2786,86 +3083,8 @@ public final static int IYV = 2015;
     public static double jauDat(int iy, int im, int id, double fd ) throws JSOFAIllegalParameter, JSOFAInternalError
     {
 
-    /* Reference dates (MJD) and drift rates (s/day), pre leap seconds */
-      final double drift[][] = {
-          { 37300.0, 0.0012960 },
-          { 37300.0, 0.0012960 },
-          { 37300.0, 0.0012960 },
-          { 37665.0, 0.0011232 },
-          { 37665.0, 0.0011232 },
-          { 38761.0, 0.0012960 },
-          { 38761.0, 0.0012960 },
-          { 38761.0, 0.0012960 },
-          { 38761.0, 0.0012960 },
-          { 38761.0, 0.0012960 },
-          { 38761.0, 0.0012960 },
-          { 38761.0, 0.0012960 },
-          { 39126.0, 0.0025920 },
-          { 39126.0, 0.0025920 }
-       };
-
-    /* Number of Delta(AT) expressions before leap seconds were introduced */
-    final int NERA1 = drift.length;
-    class LeapInfo {
-        final public int iyear, month;
-        final public double delat;
-        public LeapInfo(int i, int m, double t) {
-           iyear = i;
-           month = m;
-           delat = t;
-        }
-     }
-
-    /* Dates and Delta(AT)s */
-     LeapInfo changes[] = {
-          new LeapInfo( 1960,  1,  1.4178180 ),
-          new LeapInfo( 1961,  1,  1.4228180 ),
-          new LeapInfo( 1961,  8,  1.3728180 ),
-          new LeapInfo( 1962,  1,  1.8458580 ),
-          new LeapInfo( 1963, 11,  1.9458580 ),
-          new LeapInfo( 1964,  1,  3.2401300 ),
-          new LeapInfo( 1964,  4,  3.3401300 ),
-          new LeapInfo( 1964,  9,  3.4401300 ),
-          new LeapInfo( 1965,  1,  3.5401300 ),
-          new LeapInfo( 1965,  3,  3.6401300 ),
-          new LeapInfo( 1965,  7,  3.7401300 ),
-          new LeapInfo( 1965,  9,  3.8401300 ),
-          new LeapInfo( 1966,  1,  4.3131700 ),
-          new LeapInfo( 1968,  2,  4.2131700 ),
-          new LeapInfo( 1972,  1, 10.0       ),
-          new LeapInfo( 1972,  7, 11.0       ),
-          new LeapInfo( 1973,  1, 12.0       ),
-          new LeapInfo( 1974,  1, 13.0       ),
-          new LeapInfo( 1975,  1, 14.0       ),
-          new LeapInfo( 1976,  1, 15.0       ),
-          new LeapInfo( 1977,  1, 16.0       ),
-          new LeapInfo( 1978,  1, 17.0       ),
-          new LeapInfo( 1979,  1, 18.0       ),
-          new LeapInfo( 1980,  1, 19.0       ),
-          new LeapInfo( 1981,  7, 20.0       ),
-          new LeapInfo( 1982,  7, 21.0       ),
-          new LeapInfo( 1983,  7, 22.0       ),
-          new LeapInfo( 1985,  7, 23.0       ),
-          new LeapInfo( 1988,  1, 24.0       ),
-          new LeapInfo( 1990,  1, 25.0       ),
-          new LeapInfo( 1991,  1, 26.0       ),
-          new LeapInfo( 1992,  7, 27.0       ),
-          new LeapInfo( 1993,  7, 28.0       ),
-          new LeapInfo( 1994,  7, 29.0       ),
-          new LeapInfo( 1996,  1, 30.0       ),
-          new LeapInfo( 1997,  7, 31.0       ),
-          new LeapInfo( 1999,  1, 32.0       ),
-          new LeapInfo( 2006,  1, 33.0       ),
-          new LeapInfo( 2009,  1, 34.0       ),
-          new LeapInfo( 2012,  7, 35.0       ),
-          new LeapInfo( 2015,  7, 36.0       )
-       };
-
-    /* Number of Delta(AT) changes */
-       final int NDAT = changes.length;
-
     /* Miscellaneous local variables */
-       int j, i, m;
+       int i;
        double da, djm0, djm;
 
 
@@ -2873,31 +3092,26 @@ public final static int IYV = 2015;
        double deltat = da = 0.0;
 
     /* If invalid fraction of a day, set error status and give up. */
-       if (fd < 0.0 || fd > 1.0) throw new JSOFAIllegalParameter("bad day fraction", -4);
+       if (fd < 0.0 || fd > 1.0) throw new JSOFAIllegalParameter("bad day fraction", -4, false);
 
     /* Convert the date into an MJD. */
        JulianDate jd = jauCal2jd(iy, im, id);
        djm0 = jd.djm0 ; djm = jd.djm1;
 
-    /* If pre-UTC year, set warning status and give up. */
-       if (iy < changes[0].iyear) throw new JSOFAInternalError("year before UTC start", 1);
-
-    /* If suspiciously late year, set warning status but proceed. */
-       if (iy > IYV + 5) j = 1;
+    /* Get the leap second table currently in force. */
+       final LeapSecondTable table = leapSecondProvider.getLeapSecondTable();
 
-    /* Combine year and month to form a date-ordered integer... */
-       m = 12*iy + im;
+    /* Use the MJD of the start of the month to find the preceding table entry. */
+       i = table.indexOf(djm - (id - 1));
 
-    /* ...and use it to find the preceding table entry. */
-       for (i = NDAT-1; i >=0; i--) {
-          if (m >= (12 * changes[i].iyear + changes[i].month)) break;
-       }
+    /* If before the first entry (pre-UTC), set warning status and give up. */
+       if (i < 0) throw new JSOFAInternalError("date before UTC start", 1, false);
 
-    /* Get the Delta(AT). */
-       da = changes[i].delat;
+    /* A suspiciously late date is only a warning, which this form cannot
+       return;  the status form reports it. */
 
-    /* If pre-1972, adjust for drift. */
-       if (i < NERA1) da += (djm + fd - drift[i][0]) * drift[i][1];
+    /* Get the Delta(AT), adjusting for drift if pre-1972. */
+       da = table.deltaAT(i, djm + fd);
 
     /* Return the Delta(AT) value. */
        deltat = da;
@@ -2907,6 +3121,1017 @@ public final static int IYV = 2015;
 
         }
     
+    /**
+    **  For a given UTC date, calculate delta(AT) = TAI-UTC, reporting the
+    **  SOFA status instead of throwing an exception.
+    **
+    **  As {@link #jauDat(int, int, int, double)}, except that dates before
+    **  UTC give zero with status +1 as in the C library, and that nothing
+    **  is thrown, so that the function can be used for bulk processing of
+    **  historical data where the warnings are routine.
+    **
+    **<!-- Given: -->
+    **     @param iy     int      UTC:  year (Notes 1 and 2)
+    **     @param im     int            month (Note 2)
+    **     @param id     int            day (Notes 2 and 3)
+    **     @param fd     double         fraction of day (Note 4)
+    **
+    **<!-- Returned: -->
+    **     @param status int[1]   <u>returned</u> status:
+    **                               1 = dubious year (Note 1)
+    **                               0 = OK
+    **                              -1 = bad year
+    **                              -2 = bad month
+    **                              -3 = bad day (Note 3)
+    **                              -4 = bad fraction (Note 4)
+    **     @return       double   TAI minus UTC, seconds, or zero if not available
+    */
+    public static double jauDat(int iy, int im, int id, double fd, int status[])
+    {
+       int i;
+       double djm;
+
+
+    /* If invalid fraction of a day, set error status and give up. */
+       if (fd < 0.0 || fd > 1.0) {
+          status[0] = -4;
+          return 0.0;
+       }
+
+    /* Convert the date into an MJD. */
+       try {
+          djm = jauCal2jd(iy, im, id).djm1;
+       } catch (JSOFAIllegalParameter e) {
+          status[0] = e.getStatus();
+          return 0.0;
+       }
+
+    /* Validate the day, which jauCal2jd does not report. */
+       final int ly = ((im == 2) && (iy%4 == 0) && (iy%100 != 0 || (iy%400 == 0)))?1:0;
+       if ( (id < 1) || (id > (MTAB[im-1] + ly))) {
+          status[0] = -3;
+          return 0.0;
+       }
+
+    /* Get the leap second table currently in force. */
+       final LeapSecondTable table = leapSecondProvider.getLeapSecondTable();
+
+    /* Find the preceding table entry. */
+       i = table.indexOf(djm - (id - 1));
+
+    /* If before the first entry (pre-UTC), set warning status and give up. */
+       if (i < 0) {
+          status[0] = 1;
+          return 0.0;
+       }
+
+    /* If past the expiry of the table, set warning status but proceed. */
+       status[0] = (djm >= table.getExpiryMJD()) ? 1 : 0;
+
+    /* Get the Delta(AT). */
+       return table.deltaAT(i, djm + fd);
+
+        }
+
+    /**
+     * Delta(AT) for the functions that can report their status either way:
+     * with js null as {@link #jauDat(int, int, int, double)}, otherwise as
+     * {@link #jauDat(int, int, int, double, int[])}, keeping any earlier
+     * warning in js[0] and throwing (without a stack trace) on error.
+     * Also used by {@link TimeScaleBatch}.
+     */
+    static double dat(int iy, int im, int id, double fd, int js[]) throws JSOFAIllegalParameter, JSOFAInternalError
+    {
+       if (js == null) return jauDat(iy, im, id, fd);
+       final int warn = js[0];
+       final double da = jauDat(iy, im, id, fd, js);
+       if (js[0] < 0) throw new JSOFAIllegalParameter("bad date", js[0], false);
+       if (warn > js[0]) js[0] = warn;
+       return da;
+    }
+    
+
+    /*
+    ** =====================
+    ** Fairhead et al. model
+    ** =====================
+    **
+    ** Coefficients for jauDtdb, held as a static table so that they are set
+    ** up once rather than on every call.
+    **
+    ** 787 sets of three coefficients.
+    **
+    ** Each set is
+    **    amplitude (microseconds)
+    **      frequency (radians per Julian millennium since J2000.0)
+    **      phase (radians)
+    **
+    ** Sets   1-474 are the T**0 terms
+    **  "   475-679  "   "  T**1
+    **  "   680-764  "   "  T**2
+    **  "   765-784  "   "  T**3
+    **  "   785-787  "   "  T**4
+    **
+    ** The sets are unpacked into three parallel arrays for the summation.
+    */
+    private static final class Fairhead {
+        /** amplitude (microseconds) */
+        static final double amp[];
+        /** frequency (radians per Julian millennium since J2000.0) */
+        static final double freq[];
+        /** phase (radians) */
+        static final double phase[];
+        /** index of the first set for each power of T, then the total number of sets */
+        static final int group[] = { 0, 474, 679, 764, 784, 787 };
+
+        static {
+            final double fairhd[] = sets();
+            final int n = fairhd.length / 3;
+            amp = new double[n];
+            freq = new double[n];
+            phase = new double[n];
+            for (int j = 0; j < n; j++) {
+                amp[j]   = fairhd[3*j];
+                freq[j]  = fairhd[3*j+1];
+                phase[j] = fairhd[3*j+2];
+            }
+        }
+
+        private static double[] sets() {
+            return new double[] {
+            /* 1, 10 */
+             1656.674564e-6,     6283.075849991,  6.240054195,
+               22.417471e-6,     5753.384884897,  4.296977442,
+               13.839792e-6,    12566.151699983,  6.196904410,
+                4.770086e-6,      529.690965095,  0.444401603,
+                4.676740e-6,     6069.776754553,  4.021195093,
+                2.256707e-6,      213.299095438,  5.543113262,
+                1.694205e-6,      -3.523118349,   5.025132748,
+                1.554905e-6,    77713.771467920,  5.198467090,
+                1.276839e-6,     7860.419392439,  5.988822341,
+                1.193379e-6,     5223.693919802,  3.649823730,
+            /* 11, 20 */
+                1.115322e-6,     3930.209696220,  1.422745069,
+                0.794185e-6,    11506.769769794,  2.322313077,
+                0.447061e-6,       26.298319800,  3.615796498,
+                0.435206e-6,     -398.149003408,  4.349338347,
+                0.600309e-6,     1577.343542448,  2.678271909,
+                0.496817e-6,     6208.294251424,  5.696701824,
+                0.486306e-6,     5884.926846583,  0.520007179,
+                0.432392e-6,       74.781598567,  2.435898309,
+                0.468597e-6,     6244.942814354,  5.866398759,
+                0.375510e-6,     5507.553238667,  4.103476804,
+            /* 21, 30 */
+                0.243085e-6,     -775.522611324,  3.651837925,
+                0.173435e-6,    18849.227549974,  6.153743485,
+                0.230685e-6,     5856.477659115,  4.773852582,
+                0.203747e-6,    12036.460734888,  4.333987818,
+                0.143935e-6,     -796.298006816,  5.957517795,
+                0.159080e-6,    10977.078804699,  1.890075226,
+                0.119979e-6,       38.133035638,  4.551585768,
+                0.118971e-6,     5486.777843175,  1.914547226,
+                0.116120e-6,     1059.381930189,  0.873504123,
+                0.137927e-6,    11790.629088659,  1.135934669,
+            /* 31, 40 */
+                0.098358e-6,     2544.314419883,  0.092793886,
+                0.101868e-6,    -5573.142801634,  5.984503847,
+                0.080164e-6,      206.185548437,  2.095377709,
+                0.079645e-6,     4694.002954708,  2.949233637,
+                0.062617e-6,       20.775395492,  2.654394814,
+                0.075019e-6,     2942.463423292,  4.980931759,
+                0.064397e-6,     5746.271337896,  1.280308748,
+                0.063814e-6,     5760.498431898,  4.167901731,
+                0.048042e-6,     2146.165416475,  1.495846011,
+                0.048373e-6,      155.420399434,  2.251573730,
+            /* 41, 50 */
+                0.058844e-6,      426.598190876,  4.839650148,
+                0.046551e-6,       -0.980321068,  0.921573539,
+                0.054139e-6,    17260.154654690,  3.411091093,
+                0.042411e-6,     6275.962302991,  2.869567043,
+                0.040184e-6,       -7.113547001,  3.565975565,
+                0.036564e-6,     5088.628839767,  3.324679049,
+                0.040759e-6,    12352.852604545,  3.981496998,
+                0.036507e-6,      801.820931124,  6.248866009,
+                0.036955e-6,     3154.687084896,  5.071801441,
+                0.042732e-6,      632.783739313,  5.720622217,
+            /* 51, 60 */
+                0.042560e-6,   161000.685737473,  1.270837679,
+                0.040480e-6,    15720.838784878,  2.546610123,
+                0.028244e-6,    -6286.598968340,  5.069663519,
+                0.033477e-6,     6062.663207553,  4.144987272,
+                0.034867e-6,      522.577418094,  5.210064075,
+                0.032438e-6,     6076.890301554,  0.749317412,
+                0.030215e-6,     7084.896781115,  3.389610345,
+                0.029247e-6,   -71430.695617928,  4.183178762,
+                0.033529e-6,     9437.762934887,  2.404714239,
+                0.032423e-6,     8827.390269875,  5.541473556,
+            /* 61, 70 */
+                0.027567e-6,     6279.552731642,  5.040846034,
+                0.029862e-6,    12139.553509107,  1.770181024,
+                0.022509e-6,    10447.387839604,  1.460726241,
+                0.020937e-6,     8429.241266467,  0.652303414,
+                0.020322e-6,      419.484643875,  3.735430632,
+                0.024816e-6,    -1194.447010225,  1.087136918,
+                0.025196e-6,     1748.016413067,  2.901883301,
+                0.021691e-6,    14143.495242431,  5.952658009,
+                0.017673e-6,     6812.766815086,  3.186129845,
+                0.022567e-6,     6133.512652857,  3.307984806,
+            /* 71, 80 */
+                0.016155e-6,    10213.285546211,  1.331103168,
+                0.014751e-6,     1349.867409659,  4.308933301,
+                0.015949e-6,     -220.412642439,  4.005298270,
+                0.015974e-6,    -2352.866153772,  6.145309371,
+                0.014223e-6,    17789.845619785,  2.104551349,
+                0.017806e-6,       73.297125859,  3.475975097,
+                0.013671e-6,     -536.804512095,  5.971672571,
+                0.011942e-6,     8031.092263058,  2.053414715,
+                0.014318e-6,    16730.463689596,  3.016058075,
+                0.012462e-6,      103.092774219,  1.737438797,
+            /* 81, 90 */
+                0.010962e-6,        3.590428652,  2.196567739,
+                0.015078e-6,    19651.048481098,  3.969480770,
+                0.010396e-6,      951.718406251,  5.717799605,
+                0.011707e-6,    -4705.732307544,  2.654125618,
+                0.010453e-6,     5863.591206116,  1.913704550,
+                0.012420e-6,     4690.479836359,  4.734090399,
+                0.011847e-6,     5643.178563677,  5.489005403,
+                0.008610e-6,     3340.612426700,  3.661698944,
+                0.011622e-6,     5120.601145584,  4.863931876,
+                0.010825e-6,      553.569402842,  0.842715011,
+            /* 91, 100 */
+                0.008666e-6,     -135.065080035,  3.293406547,
+                0.009963e-6,      149.563197135,  4.870690598,
+                0.009858e-6,     6309.374169791,  1.061816410,
+                0.007959e-6,      316.391869657,  2.465042647,
+                0.010099e-6,      283.859318865,  1.942176992,
+                0.007147e-6,     -242.728603974,  3.661486981,
+                0.007505e-6,     5230.807466803,  4.920937029,
+                0.008323e-6,    11769.853693166,  1.229392026,
+                0.007490e-6,    -6256.777530192,  3.658444681,
+                0.009370e-6,   149854.400134205,  0.673880395,
+            /* 101, 110 */
+                0.007117e-6,       38.027672636,  5.294249518,
+                0.007857e-6,    12168.002696575,  0.525733528,
+                0.007019e-6,     6206.809778716,  0.837688810,
+                0.006056e-6,      955.599741609,  4.194535082,
+                0.008107e-6,    13367.972631107,  3.793235253,
+                0.006731e-6,     5650.292110678,  5.639906583,
+                0.007332e-6,       36.648562930,  0.114858677,
+                0.006366e-6,     4164.311989613,  2.262081818,
+                0.006858e-6,     5216.580372801,  0.642063318,
+                0.006919e-6,     6681.224853400,  6.018501522,
+            /* 111, 120 */
+                0.006826e-6,     7632.943259650,  3.458654112,
+                0.005308e-6,    -1592.596013633,  2.500382359,
+                0.005096e-6,    11371.704689758,  2.547107806,
+                0.004841e-6,     5333.900241022,  0.437078094,
+                0.005582e-6,     5966.683980335,  2.246174308,
+                0.006304e-6,    11926.254413669,  2.512929171,
+                0.006603e-6,    23581.258177318,  5.393136889,
+                0.005123e-6,       -1.484472708,  2.999641028,
+                0.004648e-6,     1589.072895284,  1.275847090,
+                0.005119e-6,     6438.496249426,  1.486539246,
+            /* 121, 130 */
+                0.004521e-6,     4292.330832950,  6.140635794,
+                0.005680e-6,    23013.539539587,  4.557814849,
+                0.005488e-6,       -3.455808046,  0.090675389,
+                0.004193e-6,     7234.794256242,  4.869091389,
+                0.003742e-6,     7238.675591600,  4.691976180,
+                0.004148e-6,     -110.206321219,  3.016173439,
+                0.004553e-6,    11499.656222793,  5.554998314,
+                0.004892e-6,     5436.993015240,  1.475415597,
+                0.004044e-6,     4732.030627343,  1.398784824,
+                0.004164e-6,    12491.370101415,  5.650931916,
+            /* 131, 140 */
+                0.004349e-6,    11513.883316794,  2.181745369,
+                0.003919e-6,    12528.018664345,  5.823319737,
+                0.003129e-6,     6836.645252834,  0.003844094,
+                0.004080e-6,    -7058.598461315,  3.690360123,
+                0.003270e-6,       76.266071276,  1.517189902,
+                0.002954e-6,     6283.143160294,  4.447203799,
+                0.002872e-6,       28.449187468,  1.158692983,
+                0.002881e-6,      735.876513532,  0.349250250,
+                0.003279e-6,     5849.364112115,  4.893384368,
+                0.003625e-6,     6209.778724132,  1.473760578,
+            /* 141, 150 */
+                0.003074e-6,      949.175608970,  5.185878737,
+                0.002775e-6,     9917.696874510,  1.030026325,
+                0.002646e-6,    10973.555686350,  3.918259169,
+                0.002575e-6,    25132.303399966,  6.109659023,
+                0.003500e-6,      263.083923373,  1.892100742,
+                0.002740e-6,    18319.536584880,  4.320519510,
+                0.002464e-6,      202.253395174,  4.698203059,
+                0.002409e-6,        2.542797281,  5.325009315,
+                0.003354e-6,   -90955.551694697,  1.942656623,
+                0.002296e-6,     6496.374945429,  5.061810696,
+            /* 151, 160 */
+                0.003002e-6,     6172.869528772,  2.797822767,
+                0.003202e-6,    27511.467873537,  0.531673101,
+                0.002954e-6,    -6283.008539689,  4.533471191,
+                0.002353e-6,      639.897286314,  3.734548088,
+                0.002401e-6,    16200.772724501,  2.605547070,
+                0.003053e-6,   233141.314403759,  3.029030662,
+                0.003024e-6,    83286.914269554,  2.355556099,
+                0.002863e-6,    17298.182327326,  5.240963796,
+                0.002103e-6,    -7079.373856808,  5.756641637,
+                0.002303e-6,    83996.847317911,  2.013686814,
+            /* 161, 170 */
+                0.002303e-6,    18073.704938650,  1.089100410,
+                0.002381e-6,       63.735898303,  0.759188178,
+                0.002493e-6,     6386.168624210,  0.645026535,
+                0.002366e-6,        3.932153263,  6.215885448,
+                0.002169e-6,    11015.106477335,  4.845297676,
+                0.002397e-6,     6243.458341645,  3.809290043,
+                0.002183e-6,     1162.474704408,  6.179611691,
+                0.002353e-6,     6246.427287062,  4.781719760,
+                0.002199e-6,     -245.831646229,  5.956152284,
+                0.001729e-6,     3894.181829542,  1.264976635,
+            /* 171, 180 */
+                0.001896e-6,    -3128.388765096,  4.914231596,
+                0.002085e-6,       35.164090221,  1.405158503,
+                0.002024e-6,    14712.317116458,  2.752035928,
+                0.001737e-6,     6290.189396992,  5.280820144,
+                0.002229e-6,      491.557929457,  1.571007057,
+                0.001602e-6,    14314.168113050,  4.203664806,
+                0.002186e-6,      454.909366527,  1.402101526,
+                0.001897e-6,    22483.848574493,  4.167932508,
+                0.001825e-6,    -3738.761430108,  0.545828785,
+                0.001894e-6,     1052.268383188,  5.817167450,
+            /* 181, 190 */
+                0.001421e-6,       20.355319399,  2.419886601,
+                0.001408e-6,    10984.192351700,  2.732084787,
+                0.001847e-6,    10873.986030480,  2.903477885,
+                0.001391e-6,    -8635.942003763,  0.593891500,
+                0.001388e-6,       -7.046236698,  1.166145902,
+                0.001810e-6,   -88860.057071188,  0.487355242,
+                0.001288e-6,    -1990.745017041,  3.913022880,
+                0.001297e-6,    23543.230504682,  3.063805171,
+                0.001335e-6,     -266.607041722,  3.995764039,
+                0.001376e-6,    10969.965257698,  5.152914309,
+            /* 191, 200 */
+                0.001745e-6,   244287.600007027,  3.626395673,
+                0.001649e-6,    31441.677569757,  1.952049260,
+                0.001416e-6,     9225.539273283,  4.996408389,
+                0.001238e-6,     4804.209275927,  5.503379738,
+                0.001472e-6,     4590.910180489,  4.164913291,
+                0.001169e-6,     6040.347246017,  5.841719038,
+                0.001039e-6,     5540.085789459,  2.769753519,
+                0.001004e-6,     -170.672870619,  0.755008103,
+                0.001284e-6,    10575.406682942,  5.306538209,
+                0.001278e-6,       71.812653151,  4.713486491,
+            /* 201, 210 */
+                0.001321e-6,    18209.330263660,  2.624866359,
+                0.001297e-6,    21228.392023546,  0.382603541,
+                0.000954e-6,     6282.095528923,  0.882213514,
+                0.001145e-6,     6058.731054289,  1.169483931,
+                0.000979e-6,     5547.199336460,  5.448375984,
+                0.000987e-6,    -6262.300454499,  2.656486959,
+                0.001070e-6,  -154717.609887482,  1.827624012,
+                0.000991e-6,     4701.116501708,  4.387001801,
+                0.001155e-6,      -14.227094002,  3.042700750,
+                0.001176e-6,      277.034993741,  3.335519004,
+            /* 211, 220 */
+                0.000890e-6,    13916.019109642,  5.601498297,
+                0.000884e-6,    -1551.045222648,  1.088831705,
+                0.000876e-6,     5017.508371365,  3.969902609,
+                0.000806e-6,    15110.466119866,  5.142876744,
+                0.000773e-6,    -4136.910433516,  0.022067765,
+                0.001077e-6,      175.166059800,  1.844913056,
+                0.000954e-6,    -6284.056171060,  0.968480906,
+                0.000737e-6,     5326.786694021,  4.923831588,
+                0.000845e-6,     -433.711737877,  4.749245231,
+                0.000819e-6,     8662.240323563,  5.991247817,
+            /* 221, 230 */
+                0.000852e-6,      199.072001436,  2.189604979,
+                0.000723e-6,    17256.631536341,  6.068719637,
+                0.000940e-6,     6037.244203762,  6.197428148,
+                0.000885e-6,    11712.955318231,  3.280414875,
+                0.000706e-6,    12559.038152982,  2.824848947,
+                0.000732e-6,     2379.164473572,  2.501813417,
+                0.000764e-6,    -6127.655450557,  2.236346329,
+                0.000908e-6,      131.541961686,  2.521257490,
+                0.000907e-6,    35371.887265976,  3.370195967,
+                0.000673e-6,     1066.495477190,  3.876512374,
+            /* 231, 240 */
+                0.000814e-6,    17654.780539750,  4.627122566,
+                0.000630e-6,       36.027866677,  0.156368499,
+                0.000798e-6,      515.463871093,  5.151962502,
+                0.000798e-6,      148.078724426,  5.909225055,
+                0.000806e-6,      309.278322656,  6.054064447,
+                0.000607e-6,      -39.617508346,  2.839021623,
+                0.000601e-6,      412.371096874,  3.984225404,
+                0.000646e-6,    11403.676995575,  3.852959484,
+                0.000704e-6,    13521.751441591,  2.300991267,
+                0.000603e-6,   -65147.619767937,  4.140083146,
+            /* 241, 250 */
+                0.000609e-6,    10177.257679534,  0.437122327,
+                0.000631e-6,     5767.611978898,  4.026532329,
+                0.000576e-6,    11087.285125918,  4.760293101,
+                0.000674e-6,    14945.316173554,  6.270510511,
+                0.000726e-6,     5429.879468239,  6.039606892,
+                0.000710e-6,    28766.924424484,  5.672617711,
+                0.000647e-6,    11856.218651625,  3.397132627,
+                0.000678e-6,    -5481.254918868,  6.249666675,
+                0.000618e-6,    22003.914634870,  2.466427018,
+                0.000738e-6,     6134.997125565,  2.242668890,
+            /* 251, 260 */
+                0.000660e-6,      625.670192312,  5.864091907,
+                0.000694e-6,     3496.032826134,  2.668309141,
+                0.000531e-6,     6489.261398429,  1.681888780,
+                0.000611e-6,  -143571.324284214,  2.424978312,
+                0.000575e-6,    12043.574281889,  4.216492400,
+                0.000553e-6,    12416.588502848,  4.772158039,
+                0.000689e-6,     4686.889407707,  6.224271088,
+                0.000495e-6,     7342.457780181,  3.817285811,
+                0.000567e-6,     3634.621024518,  1.649264690,
+                0.000515e-6,    18635.928454536,  3.945345892,
+            /* 261, 270 */
+                0.000486e-6,     -323.505416657,  4.061673868,
+                0.000662e-6,    25158.601719765,  1.794058369,
+                0.000509e-6,      846.082834751,  3.053874588,
+                0.000472e-6,   -12569.674818332,  5.112133338,
+                0.000461e-6,     6179.983075773,  0.513669325,
+                0.000641e-6,    83467.156352816,  3.210727723,
+                0.000520e-6,    10344.295065386,  2.445597761,
+                0.000493e-6,    18422.629359098,  1.676939306,
+                0.000478e-6,     1265.567478626,  5.487314569,
+                0.000472e-6,      -18.159247265,  1.999707589,
+            /* 271, 280 */
+                0.000559e-6,    11190.377900137,  5.783236356,
+                0.000494e-6,     9623.688276691,  3.022645053,
+                0.000463e-6,     5739.157790895,  1.411223013,
+                0.000432e-6,    16858.482532933,  1.179256434,
+                0.000574e-6,    72140.628666286,  1.758191830,
+                0.000484e-6,    17267.268201691,  3.290589143,
+                0.000550e-6,     4907.302050146,  0.864024298,
+                0.000399e-6,       14.977853527,  2.094441910,
+                0.000491e-6,      224.344795702,  0.878372791,
+                0.000432e-6,    20426.571092422,  6.003829241,
+            /* 281, 290 */
+                0.000481e-6,     5749.452731634,  4.309591964,
+                0.000480e-6,     5757.317038160,  1.142348571,
+                0.000485e-6,     6702.560493867,  0.210580917,
+                0.000426e-6,     6055.549660552,  4.274476529,
+                0.000480e-6,     5959.570433334,  5.031351030,
+                0.000466e-6,    12562.628581634,  4.959581597,
+                0.000520e-6,    39302.096962196,  4.788002889,
+                0.000458e-6,    12132.439962106,  1.880103788,
+                0.000470e-6,    12029.347187887,  1.405611197,
+                0.000416e-6,    -7477.522860216,  1.082356330,
+            /* 291, 300 */
+                0.000449e-6,    11609.862544012,  4.179989585,
+                0.000465e-6,    17253.041107690,  0.353496295,
+                0.000362e-6,    -4535.059436924,  1.583849576,
+                0.000383e-6,    21954.157609398,  3.747376371,
+                0.000389e-6,       17.252277143,  1.395753179,
+                0.000331e-6,    18052.929543158,  0.566790582,
+                0.000430e-6,    13517.870106233,  0.685827538,
+                0.000368e-6,    -5756.908003246,  0.731374317,
+                0.000330e-6,    10557.594160824,  3.710043680,
+                0.000332e-6,    20199.094959633,  1.652901407,
+            /* 301, 310 */
+                0.000384e-6,    11933.367960670,  5.827781531,
+                0.000387e-6,    10454.501386605,  2.541182564,
+                0.000325e-6,    15671.081759407,  2.178850542,
+                0.000318e-6,      138.517496871,  2.253253037,
+                0.000305e-6,     9388.005909415,  0.578340206,
+                0.000352e-6,     5749.861766548,  3.000297967,
+                0.000311e-6,     6915.859589305,  1.693574249,
+                0.000297e-6,    24072.921469776,  1.997249392,
+                0.000363e-6,     -640.877607382,  5.071820966,
+                0.000323e-6,    12592.450019783,  1.072262823,
+            /* 311, 320 */
+                0.000341e-6,    12146.667056108,  4.700657997,
+                0.000290e-6,     9779.108676125,  1.812320441,
+                0.000342e-6,     6132.028180148,  4.322238614,
+                0.000329e-6,     6268.848755990,  3.033827743,
+                0.000374e-6,    17996.031168222,  3.388716544,
+                0.000285e-6,     -533.214083444,  4.687313233,
+                0.000338e-6,     6065.844601290,  0.877776108,
+                0.000276e-6,       24.298513841,  0.770299429,
+                0.000336e-6,    -2388.894020449,  5.353796034,
+                0.000290e-6,     3097.883822726,  4.075291557,
+            /* 321, 330 */
+                0.000318e-6,      709.933048357,  5.941207518,
+                0.000271e-6,    13095.842665077,  3.208912203,
+                0.000331e-6,     6073.708907816,  4.007881169,
+                0.000292e-6,      742.990060533,  2.714333592,
+                0.000362e-6,    29088.811415985,  3.215977013,
+                0.000280e-6,    12359.966151546,  0.710872502,
+                0.000267e-6,    10440.274292604,  4.730108488,
+                0.000262e-6,      838.969287750,  1.327720272,
+                0.000250e-6,    16496.361396202,  0.898769761,
+                0.000325e-6,    20597.243963041,  0.180044365,
+            /* 331, 340 */
+                0.000268e-6,     6148.010769956,  5.152666276,
+                0.000284e-6,     5636.065016677,  5.655385808,
+                0.000301e-6,     6080.822454817,  2.135396205,
+                0.000294e-6,     -377.373607916,  3.708784168,
+                0.000236e-6,     2118.763860378,  1.733578756,
+                0.000234e-6,     5867.523359379,  5.575209112,
+                0.000268e-6,  -226858.238553767,  0.069432392,
+                0.000265e-6,   167283.761587465,  4.369302826,
+                0.000280e-6,    28237.233459389,  5.304829118,
+                0.000292e-6,    12345.739057544,  4.096094132,
+            /* 341, 350 */
+                0.000223e-6,    19800.945956225,  3.069327406,
+                0.000301e-6,    43232.306658416,  6.205311188,
+                0.000264e-6,    18875.525869774,  1.417263408,
+                0.000304e-6,    -1823.175188677,  3.409035232,
+                0.000301e-6,      109.945688789,  0.510922054,
+                0.000260e-6,      813.550283960,  2.389438934,
+                0.000299e-6,   316428.228673312,  5.384595078,
+                0.000211e-6,     5756.566278634,  3.789392838,
+                0.000209e-6,     5750.203491159,  1.661943545,
+                0.000240e-6,    12489.885628707,  5.684549045,
+            /* 351, 360 */
+                0.000216e-6,     6303.851245484,  3.862942261,
+                0.000203e-6,     1581.959348283,  5.549853589,
+                0.000200e-6,     5642.198242609,  1.016115785,
+                0.000197e-6,      -70.849445304,  4.690702525,
+                0.000227e-6,     6287.008003254,  2.911891613,
+                0.000197e-6,      533.623118358,  1.048982898,
+                0.000205e-6,    -6279.485421340,  1.829362730,
+                0.000209e-6,   -10988.808157535,  2.636140084,
+                0.000208e-6,     -227.526189440,  4.127883842,
+                0.000191e-6,      415.552490612,  4.401165650,
+            /* 361, 370 */
+                0.000190e-6,    29296.615389579,  4.175658539,
+                0.000264e-6,    66567.485864652,  4.601102551,
+                0.000256e-6,    -3646.350377354,  0.506364778,
+                0.000188e-6,    13119.721102825,  2.032195842,
+                0.000185e-6,     -209.366942175,  4.694756586,
+                0.000198e-6,    25934.124331089,  3.832703118,
+                0.000195e-6,     4061.219215394,  3.308463427,
+                0.000234e-6,     5113.487598583,  1.716090661,
+                0.000188e-6,     1478.866574064,  5.686865780,
+                0.000222e-6,    11823.161639450,  1.942386641,
+            /* 371, 380 */
+                0.000181e-6,    10770.893256262,  1.999482059,
+                0.000171e-6,     6546.159773364,  1.182807992,
+                0.000206e-6,       70.328180442,  5.934076062,
+                0.000169e-6,    20995.392966449,  2.169080622,
+                0.000191e-6,    10660.686935042,  5.405515999,
+                0.000228e-6,    33019.021112205,  4.656985514,
+                0.000184e-6,    -4933.208440333,  3.327476868,
+                0.000220e-6,     -135.625325010,  1.765430262,
+                0.000166e-6,    23141.558382925,  3.454132746,
+                0.000191e-6,     6144.558353121,  5.020393445,
+            /* 381, 390 */
+                0.000180e-6,     6084.003848555,  0.602182191,
+                0.000163e-6,    17782.732072784,  4.960593133,
+                0.000225e-6,    16460.333529525,  2.596451817,
+                0.000222e-6,     5905.702242076,  3.731990323,
+                0.000204e-6,      227.476132789,  5.636192701,
+                0.000159e-6,    16737.577236597,  3.600691544,
+                0.000200e-6,     6805.653268085,  0.868220961,
+                0.000187e-6,    11919.140866668,  2.629456641,
+                0.000161e-6,      127.471796607,  2.862574720,
+                0.000205e-6,     6286.666278643,  1.742882331,
+            /* 391, 400 */
+                0.000189e-6,      153.778810485,  4.812372643,
+                0.000168e-6,    16723.350142595,  0.027860588,
+                0.000149e-6,    11720.068865232,  0.659721876,
+                0.000189e-6,     5237.921013804,  5.245313000,
+                0.000143e-6,     6709.674040867,  4.317625647,
+                0.000146e-6,     4487.817406270,  4.815297007,
+                0.000144e-6,     -664.756045130,  5.381366880,
+                0.000175e-6,     5127.714692584,  4.728443327,
+                0.000162e-6,     6254.626662524,  1.435132069,
+                0.000187e-6,    47162.516354635,  1.354371923,
+            /* 401, 410 */
+                0.000146e-6,    11080.171578918,  3.369695406,
+                0.000180e-6,     -348.924420448,  2.490902145,
+                0.000148e-6,      151.047669843,  3.799109588,
+                0.000157e-6,     6197.248551160,  1.284375887,
+                0.000167e-6,      146.594251718,  0.759969109,
+                0.000133e-6,    -5331.357443741,  5.409701889,
+                0.000154e-6,       95.979227218,  3.366890614,
+                0.000148e-6,    -6418.140930027,  3.384104996,
+                0.000128e-6,    -6525.804453965,  3.803419985,
+                0.000130e-6,    11293.470674356,  0.939039445,
+            /* 411, 420 */
+                0.000152e-6,    -5729.506447149,  0.734117523,
+                0.000138e-6,      210.117701700,  2.564216078,
+                0.000123e-6,     6066.595360816,  4.517099537,
+                0.000140e-6,    18451.078546566,  0.642049130,
+                0.000126e-6,    11300.584221356,  3.485280663,
+                0.000119e-6,    10027.903195729,  3.217431161,
+                0.000151e-6,     4274.518310832,  4.404359108,
+                0.000117e-6,     6072.958148291,  0.366324650,
+                0.000165e-6,    -7668.637425143,  4.298212528,
+                0.000117e-6,    -6245.048177356,  5.379518958,
+            /* 421, 430 */
+                0.000130e-6,    -5888.449964932,  4.527681115,
+                0.000121e-6,     -543.918059096,  6.109429504,
+                0.000162e-6,     9683.594581116,  5.720092446,
+                0.000141e-6,     6219.339951688,  0.679068671,
+                0.000118e-6,    22743.409379516,  4.881123092,
+                0.000129e-6,     1692.165669502,  0.351407289,
+                0.000126e-6,     5657.405657679,  5.146592349,
+                0.000114e-6,      728.762966531,  0.520791814,
+                0.000120e-6,       52.596639600,  0.948516300,
+                0.000115e-6,       65.220371012,  3.504914846,
+            /* 431, 440 */
+                0.000126e-6,     5881.403728234,  5.577502482,
+                0.000158e-6,   163096.180360983,  2.957128968,
+                0.000134e-6,    12341.806904281,  2.598576764,
+                0.000151e-6,    16627.370915377,  3.985702050,
+                0.000109e-6,     1368.660252845,  0.014730471,
+                0.000131e-6,     6211.263196841,  0.085077024,
+                0.000146e-6,     5792.741760812,  0.708426604,
+                0.000146e-6,      -77.750543984,  3.121576600,
+                0.000107e-6,     5341.013788022,  0.288231904,
+                0.000138e-6,     6281.591377283,  2.797450317,
+            /* 441, 450 */
+                0.000113e-6,    -6277.552925684,  2.788904128,
+                0.000115e-6,     -525.758811831,  5.895222200,
+                0.000138e-6,     6016.468808270,  6.096188999,
+                0.000139e-6,    23539.707386333,  2.028195445,
+                0.000146e-6,    -4176.041342449,  4.660008502,
+                0.000107e-6,    16062.184526117,  4.066520001,
+                0.000142e-6,    83783.548222473,  2.936315115,
+                0.000128e-6,     9380.959672717,  3.223844306,
+                0.000135e-6,     6205.325306007,  1.638054048,
+                0.000101e-6,     2699.734819318,  5.481603249,
+            /* 451, 460 */
+                0.000104e-6,     -568.821874027,  2.205734493,
+                0.000103e-6,     6321.103522627,  2.440421099,
+                0.000119e-6,     6321.208885629,  2.547496264,
+                0.000138e-6,     1975.492545856,  2.314608466,
+                0.000121e-6,      137.033024162,  4.539108237,
+                0.000123e-6,    19402.796952817,  4.538074405,
+                0.000119e-6,    22805.735565994,  2.869040566,
+                0.000133e-6,    64471.991241142,  6.056405489,
+                0.000129e-6,      -85.827298831,  2.540635083,
+                0.000131e-6,    13613.804277336,  4.005732868,
+            /* 461, 470 */
+                0.000104e-6,     9814.604100291,  1.959967212,
+                0.000112e-6,    16097.679950283,  3.589026260,
+                0.000123e-6,     2107.034507542,  1.728627253,
+                0.000121e-6,    36949.230808424,  6.072332087,
+                0.000108e-6,   -12539.853380183,  3.716133846,
+                0.000113e-6,    -7875.671863624,  2.725771122,
+                0.000109e-6,     4171.425536614,  4.033338079,
+                0.000101e-6,     6247.911759770,  3.441347021,
+                0.000113e-6,     7330.728427345,  0.656372122,
+                0.000113e-6,    51092.726050855,  2.791483066,
+            /* 471, 480 */
+                0.000106e-6,     5621.842923210,  1.815323326,
+                0.000101e-6,      111.430161497,  5.711033677,
+                0.000103e-6,      909.818733055,  2.812745443,
+                0.000101e-6,     1790.642637886,  1.965746028,
+            /* T */
+              102.156724e-6,     6283.075849991,  4.249032005,
+                1.706807e-6,    12566.151699983,  4.205904248,
+                0.269668e-6,      213.299095438,  3.400290479,
+                0.265919e-6,      529.690965095,  5.836047367,
+                0.210568e-6,       -3.523118349,  6.262738348,
+                0.077996e-6,     5223.693919802,  4.670344204,
+            /* 481, 490 */
+                0.054764e-6,     1577.343542448,  4.534800170,
+                0.059146e-6,       26.298319800,  1.083044735,
+                0.034420e-6,     -398.149003408,  5.980077351,
+                0.032088e-6,    18849.227549974,  4.162913471,
+                0.033595e-6,     5507.553238667,  5.980162321,
+                0.029198e-6,     5856.477659115,  0.623811863,
+                0.027764e-6,      155.420399434,  3.745318113,
+                0.025190e-6,     5746.271337896,  2.980330535,
+                0.022997e-6,     -796.298006816,  1.174411803,
+                0.024976e-6,     5760.498431898,  2.467913690,
+            /* 491, 500 */
+                0.021774e-6,      206.185548437,  3.854787540,
+                0.017925e-6,     -775.522611324,  1.092065955,
+                0.013794e-6,      426.598190876,  2.699831988,
+                0.013276e-6,     6062.663207553,  5.845801920,
+                0.011774e-6,    12036.460734888,  2.292832062,
+                0.012869e-6,     6076.890301554,  5.333425680,
+                0.012152e-6,     1059.381930189,  6.222874454,
+                0.011081e-6,       -7.113547001,  5.154724984,
+                0.010143e-6,     4694.002954708,  4.044013795,
+                0.009357e-6,     5486.777843175,  3.416081409,
+            /* 501, 510 */
+                0.010084e-6,      522.577418094,  0.749320262,
+                0.008587e-6,    10977.078804699,  2.777152598,
+                0.008628e-6,     6275.962302991,  4.562060226,
+                0.008158e-6,     -220.412642439,  5.806891533,
+                0.007746e-6,     2544.314419883,  1.603197066,
+                0.007670e-6,     2146.165416475,  3.000200440,
+                0.007098e-6,       74.781598567,  0.443725817,
+                0.006180e-6,     -536.804512095,  1.302642751,
+                0.005818e-6,     5088.628839767,  4.827723531,
+                0.004945e-6,    -6286.598968340,  0.268305170,
+            /* 511, 520 */
+                0.004774e-6,     1349.867409659,  5.808636673,
+                0.004687e-6,     -242.728603974,  5.154890570,
+                0.006089e-6,     1748.016413067,  4.403765209,
+                0.005975e-6,    -1194.447010225,  2.583472591,
+                0.004229e-6,      951.718406251,  0.931172179,
+                0.005264e-6,      553.569402842,  2.336107252,
+                0.003049e-6,     5643.178563677,  1.362634430,
+                0.002974e-6,     6812.766815086,  1.583012668,
+                0.003403e-6,    -2352.866153772,  2.552189886,
+                0.003030e-6,      419.484643875,  5.286473844,
+            /* 521, 530 */
+                0.003210e-6,       -7.046236698,  1.863796539,
+                0.003058e-6,     9437.762934887,  4.226420633,
+                0.002589e-6,    12352.852604545,  1.991935820,
+                0.002927e-6,     5216.580372801,  2.319951253,
+                0.002425e-6,     5230.807466803,  3.084752833,
+                0.002656e-6,     3154.687084896,  2.487447866,
+                0.002445e-6,    10447.387839604,  2.347139160,
+                0.002990e-6,     4690.479836359,  6.235872050,
+                0.002890e-6,     5863.591206116,  0.095197563,
+                0.002498e-6,     6438.496249426,  2.994779800,
+            /* 531, 540 */
+                0.001889e-6,     8031.092263058,  3.569003717,
+                0.002567e-6,      801.820931124,  3.425611498,
+                0.001803e-6,   -71430.695617928,  2.192295512,
+                0.001782e-6,        3.932153263,  5.180433689,
+                0.001694e-6,    -4705.732307544,  4.641779174,
+                0.001704e-6,    -1592.596013633,  3.997097652,
+                0.001735e-6,     5849.364112115,  0.417558428,
+                0.001643e-6,     8429.241266467,  2.180619584,
+                0.001680e-6,       38.133035638,  4.164529426,
+                0.002045e-6,     7084.896781115,  0.526323854,
+            /* 541, 550 */
+                0.001458e-6,     4292.330832950,  1.356098141,
+                0.001437e-6,       20.355319399,  3.895439360,
+                0.001738e-6,     6279.552731642,  0.087484036,
+                0.001367e-6,    14143.495242431,  3.987576591,
+                0.001344e-6,     7234.794256242,  0.090454338,
+                0.001438e-6,    11499.656222793,  0.974387904,
+                0.001257e-6,     6836.645252834,  1.509069366,
+                0.001358e-6,    11513.883316794,  0.495572260,
+                0.001628e-6,     7632.943259650,  4.968445721,
+                0.001169e-6,      103.092774219,  2.838496795,
+            /* 551, 560 */
+                0.001162e-6,     4164.311989613,  3.408387778,
+                0.001092e-6,     6069.776754553,  3.617942651,
+                0.001008e-6,    17789.845619785,  0.286350174,
+                0.001008e-6,      639.897286314,  1.610762073,
+                0.000918e-6,    10213.285546211,  5.532798067,
+                0.001011e-6,    -6256.777530192,  0.661826484,
+                0.000753e-6,    16730.463689596,  3.905030235,
+                0.000737e-6,    11926.254413669,  4.641956361,
+                0.000694e-6,     3340.612426700,  2.111120332,
+                0.000701e-6,     3894.181829542,  2.760823491,
+            /* 561, 570 */
+                0.000689e-6,     -135.065080035,  4.768800780,
+                0.000700e-6,    13367.972631107,  5.760439898,
+                0.000664e-6,     6040.347246017,  1.051215840,
+                0.000654e-6,     5650.292110678,  4.911332503,
+                0.000788e-6,     6681.224853400,  4.699648011,
+                0.000628e-6,     5333.900241022,  5.024608847,
+                0.000755e-6,     -110.206321219,  4.370971253,
+                0.000628e-6,     6290.189396992,  3.660478857,
+                0.000635e-6,    25132.303399966,  4.121051532,
+                0.000534e-6,     5966.683980335,  1.173284524,
+            /* 571, 580 */
+                0.000543e-6,     -433.711737877,  0.345585464,
+                0.000517e-6,    -1990.745017041,  5.414571768,
+                0.000504e-6,     5767.611978898,  2.328281115,
+                0.000485e-6,     5753.384884897,  1.685874771,
+                0.000463e-6,     7860.419392439,  5.297703006,
+                0.000604e-6,      515.463871093,  0.591998446,
+                0.000443e-6,    12168.002696575,  4.830881244,
+                0.000570e-6,      199.072001436,  3.899190272,
+                0.000465e-6,    10969.965257698,  0.476681802,
+                0.000424e-6,    -7079.373856808,  1.112242763,
+            /* 581, 590 */
+                0.000427e-6,      735.876513532,  1.994214480,
+                0.000478e-6,    -6127.655450557,  3.778025483,
+                0.000414e-6,    10973.555686350,  5.441088327,
+                0.000512e-6,     1589.072895284,  0.107123853,
+                0.000378e-6,    10984.192351700,  0.915087231,
+                0.000402e-6,    11371.704689758,  4.107281715,
+                0.000453e-6,     9917.696874510,  1.917490952,
+                0.000395e-6,      149.563197135,  2.763124165,
+                0.000371e-6,     5739.157790895,  3.112111866,
+                0.000350e-6,    11790.629088659,  0.440639857,
+            /* 591, 600 */
+                0.000356e-6,     6133.512652857,  5.444568842,
+                0.000344e-6,      412.371096874,  5.676832684,
+                0.000383e-6,      955.599741609,  5.559734846,
+                0.000333e-6,     6496.374945429,  0.261537984,
+                0.000340e-6,     6055.549660552,  5.975534987,
+                0.000334e-6,     1066.495477190,  2.335063907,
+                0.000399e-6,    11506.769769794,  5.321230910,
+                0.000314e-6,    18319.536584880,  2.313312404,
+                0.000424e-6,     1052.268383188,  1.211961766,
+                0.000307e-6,       63.735898303,  3.169551388,
+            /* 601, 610 */
+                0.000329e-6,       29.821438149,  6.106912080,
+                0.000357e-6,     6309.374169791,  4.223760346,
+                0.000312e-6,    -3738.761430108,  2.180556645,
+                0.000301e-6,      309.278322656,  1.499984572,
+                0.000268e-6,    12043.574281889,  2.447520648,
+                0.000257e-6,    12491.370101415,  3.662331761,
+                0.000290e-6,      625.670192312,  1.272834584,
+                0.000256e-6,     5429.879468239,  1.913426912,
+                0.000339e-6,     3496.032826134,  4.165930011,
+                0.000283e-6,     3930.209696220,  4.325565754,
+            /* 611, 620 */
+                0.000241e-6,    12528.018664345,  3.832324536,
+                0.000304e-6,     4686.889407707,  1.612348468,
+                0.000259e-6,    16200.772724501,  3.470173146,
+                0.000238e-6,    12139.553509107,  1.147977842,
+                0.000236e-6,     6172.869528772,  3.776271728,
+                0.000296e-6,    -7058.598461315,  0.460368852,
+                0.000306e-6,    10575.406682942,  0.554749016,
+                0.000251e-6,    17298.182327326,  0.834332510,
+                0.000290e-6,     4732.030627343,  4.759564091,
+                0.000261e-6,     5884.926846583,  0.298259862,
+            /* 621, 630 */
+                0.000249e-6,     5547.199336460,  3.749366406,
+                0.000213e-6,    11712.955318231,  5.415666119,
+                0.000223e-6,     4701.116501708,  2.703203558,
+                0.000268e-6,     -640.877607382,  0.283670793,
+                0.000209e-6,     5636.065016677,  1.238477199,
+                0.000193e-6,    10177.257679534,  1.943251340,
+                0.000182e-6,     6283.143160294,  2.456157599,
+                0.000184e-6,     -227.526189440,  5.888038582,
+                0.000182e-6,    -6283.008539689,  0.241332086,
+                0.000228e-6,    -6284.056171060,  2.657323816,
+            /* 631, 640 */
+                0.000166e-6,     7238.675591600,  5.930629110,
+                0.000167e-6,     3097.883822726,  5.570955333,
+                0.000159e-6,     -323.505416657,  5.786670700,
+                0.000154e-6,    -4136.910433516,  1.517805532,
+                0.000176e-6,    12029.347187887,  3.139266834,
+                0.000167e-6,    12132.439962106,  3.556352289,
+                0.000153e-6,      202.253395174,  1.463313961,
+                0.000157e-6,    17267.268201691,  1.586837396,
+                0.000142e-6,    83996.847317911,  0.022670115,
+                0.000152e-6,    17260.154654690,  0.708528947,
+            /* 641, 650 */
+                0.000144e-6,     6084.003848555,  5.187075177,
+                0.000135e-6,     5756.566278634,  1.993229262,
+                0.000134e-6,     5750.203491159,  3.457197134,
+                0.000144e-6,     5326.786694021,  6.066193291,
+                0.000160e-6,    11015.106477335,  1.710431974,
+                0.000133e-6,     3634.621024518,  2.836451652,
+                0.000134e-6,    18073.704938650,  5.453106665,
+                0.000134e-6,     1162.474704408,  5.326898811,
+                0.000128e-6,     5642.198242609,  2.511652591,
+                0.000160e-6,      632.783739313,  5.628785365,
+            /* 651, 660 */
+                0.000132e-6,    13916.019109642,  0.819294053,
+                0.000122e-6,    14314.168113050,  5.677408071,
+                0.000125e-6,    12359.966151546,  5.251984735,
+                0.000121e-6,     5749.452731634,  2.210924603,
+                0.000136e-6,     -245.831646229,  1.646502367,
+                0.000120e-6,     5757.317038160,  3.240883049,
+                0.000134e-6,    12146.667056108,  3.059480037,
+                0.000137e-6,     6206.809778716,  1.867105418,
+                0.000141e-6,    17253.041107690,  2.069217456,
+                0.000129e-6,    -7477.522860216,  2.781469314,
+            /* 661, 670 */
+                0.000116e-6,     5540.085789459,  4.281176991,
+                0.000116e-6,     9779.108676125,  3.320925381,
+                0.000129e-6,     5237.921013804,  3.497704076,
+                0.000113e-6,     5959.570433334,  0.983210840,
+                0.000122e-6,     6282.095528923,  2.674938860,
+                0.000140e-6,      -11.045700264,  4.957936982,
+                0.000108e-6,    23543.230504682,  1.390113589,
+                0.000106e-6,   -12569.674818332,  0.429631317,
+                0.000110e-6,     -266.607041722,  5.501340197,
+                0.000115e-6,    12559.038152982,  4.691456618,
+            /* 671, 680 */
+                0.000134e-6,    -2388.894020449,  0.577313584,
+                0.000109e-6,    10440.274292604,  6.218148717,
+                0.000102e-6,     -543.918059096,  1.477842615,
+                0.000108e-6,    21228.392023546,  2.237753948,
+                0.000101e-6,    -4535.059436924,  3.100492232,
+                0.000103e-6,       76.266071276,  5.594294322,
+                0.000104e-6,      949.175608970,  5.674287810,
+                0.000101e-6,    13517.870106233,  2.196632348,
+                0.000100e-6,    11933.367960670,  4.056084160,
+            /* T^2 */
+                4.322990e-6,     6283.075849991,  2.642893748,
+            /* 681, 690 */
+                0.406495e-6,        0.000000000,  4.712388980,
+                0.122605e-6,    12566.151699983,  2.438140634,
+                0.019476e-6,      213.299095438,  1.642186981,
+                0.016916e-6,      529.690965095,  4.510959344,
+                0.013374e-6,       -3.523118349,  1.502210314,
+                0.008042e-6,       26.298319800,  0.478549024,
+                0.007824e-6,      155.420399434,  5.254710405,
+                0.004894e-6,     5746.271337896,  4.683210850,
+                0.004875e-6,     5760.498431898,  0.759507698,
+                0.004416e-6,     5223.693919802,  6.028853166,
+            /* 691, 700 */
+                0.004088e-6,       -7.113547001,  0.060926389,
+                0.004433e-6,    77713.771467920,  3.627734103,
+                0.003277e-6,    18849.227549974,  2.327912542,
+                0.002703e-6,     6062.663207553,  1.271941729,
+                0.003435e-6,     -775.522611324,  0.747446224,
+                0.002618e-6,     6076.890301554,  3.633715689,
+                0.003146e-6,      206.185548437,  5.647874613,
+                0.002544e-6,     1577.343542448,  6.232904270,
+                0.002218e-6,     -220.412642439,  1.309509946,
+                0.002197e-6,     5856.477659115,  2.407212349,
+            /* 701, 710 */
+                0.002897e-6,     5753.384884897,  5.863842246,
+                0.001766e-6,      426.598190876,  0.754113147,
+                0.001738e-6,     -796.298006816,  2.714942671,
+                0.001695e-6,      522.577418094,  2.629369842,
+                0.001584e-6,     5507.553238667,  1.341138229,
+                0.001503e-6,     -242.728603974,  0.377699736,
+                0.001552e-6,     -536.804512095,  2.904684667,
+                0.001370e-6,     -398.149003408,  1.265599125,
+                0.001889e-6,    -5573.142801634,  4.413514859,
+                0.001722e-6,     6069.776754553,  2.445966339,
+            /* 711, 720 */
+                0.001124e-6,     1059.381930189,  5.041799657,
+                0.001258e-6,      553.569402842,  3.849557278,
+                0.000831e-6,      951.718406251,  2.471094709,
+                0.000767e-6,     4694.002954708,  5.363125422,
+                0.000756e-6,     1349.867409659,  1.046195744,
+                0.000775e-6,      -11.045700264,  0.245548001,
+                0.000597e-6,     2146.165416475,  4.543268798,
+                0.000568e-6,     5216.580372801,  4.178853144,
+                0.000711e-6,     1748.016413067,  5.934271972,
+                0.000499e-6,    12036.460734888,  0.624434410,
+            /* 721, 730 */
+                0.000671e-6,    -1194.447010225,  4.136047594,
+                0.000488e-6,     5849.364112115,  2.209679987,
+                0.000621e-6,     6438.496249426,  4.518860804,
+                0.000495e-6,    -6286.598968340,  1.868201275,
+                0.000456e-6,     5230.807466803,  1.271231591,
+                0.000451e-6,     5088.628839767,  0.084060889,
+                0.000435e-6,     5643.178563677,  3.324456609,
+                0.000387e-6,    10977.078804699,  4.052488477,
+                0.000547e-6,   161000.685737473,  2.841633844,
+                0.000522e-6,     3154.687084896,  2.171979966,
+            /* 731, 740 */
+                0.000375e-6,     5486.777843175,  4.983027306,
+                0.000421e-6,     5863.591206116,  4.546432249,
+                0.000439e-6,     7084.896781115,  0.522967921,
+                0.000309e-6,     2544.314419883,  3.172606705,
+                0.000347e-6,     4690.479836359,  1.479586566,
+                0.000317e-6,      801.820931124,  3.553088096,
+                0.000262e-6,      419.484643875,  0.606635550,
+                0.000248e-6,     6836.645252834,  3.014082064,
+                0.000245e-6,    -1592.596013633,  5.519526220,
+                0.000225e-6,     4292.330832950,  2.877956536,
+            /* 741, 750 */
+                0.000214e-6,     7234.794256242,  1.605227587,
+                0.000205e-6,     5767.611978898,  0.625804796,
+                0.000180e-6,    10447.387839604,  3.499954526,
+                0.000229e-6,      199.072001436,  5.632304604,
+                0.000214e-6,      639.897286314,  5.960227667,
+                0.000175e-6,     -433.711737877,  2.162417992,
+                0.000209e-6,      515.463871093,  2.322150893,
+                0.000173e-6,     6040.347246017,  2.556183691,
+                0.000184e-6,     6309.374169791,  4.732296790,
+                0.000227e-6,   149854.400134205,  5.385812217,
+            /* 751, 760 */
+                0.000154e-6,     8031.092263058,  5.120720920,
+                0.000151e-6,     5739.157790895,  4.815000443,
+                0.000197e-6,     7632.943259650,  0.222827271,
+                0.000197e-6,       74.781598567,  3.910456770,
+                0.000138e-6,     6055.549660552,  1.397484253,
+                0.000149e-6,    -6127.655450557,  5.333727496,
+                0.000137e-6,     3894.181829542,  4.281749907,
+                0.000135e-6,     9437.762934887,  5.979971885,
+                0.000139e-6,    -2352.866153772,  4.715630782,
+                0.000142e-6,     6812.766815086,  0.513330157,
+            /* 761, 770 */
+                0.000120e-6,    -4705.732307544,  0.194160689,
+                0.000131e-6,   -71430.695617928,  0.000379226,
+                0.000124e-6,     6279.552731642,  2.122264908,
+                0.000108e-6,    -6256.777530192,  0.883445696,
+            /* T^3 */
+                0.143388e-6,     6283.075849991,  1.131453581,
+                0.006671e-6,    12566.151699983,  0.775148887,
+                0.001480e-6,      155.420399434,  0.480016880,
+                0.000934e-6,      213.299095438,  6.144453084,
+                0.000795e-6,      529.690965095,  2.941595619,
+                0.000673e-6,     5746.271337896,  0.120415406,
+            /* 771, 780 */
+                0.000672e-6,     5760.498431898,  5.317009738,
+                0.000389e-6,     -220.412642439,  3.090323467,
+                0.000373e-6,     6062.663207553,  3.003551964,
+                0.000360e-6,     6076.890301554,  1.918913041,
+                0.000316e-6,      -21.340641002,  5.545798121,
+                0.000315e-6,     -242.728603974,  1.884932563,
+                0.000278e-6,      206.185548437,  1.266254859,
+                0.000238e-6,     -536.804512095,  4.532664830,
+                0.000185e-6,      522.577418094,  4.578313856,
+                0.000245e-6,    18849.227549974,  0.587467082,
+            /* 781, 787 */
+                0.000180e-6,      426.598190876,  5.151178553,
+                0.000200e-6,      553.569402842,  5.355983739,
+                0.000141e-6,     5223.693919802,  1.336556009,
+                0.000104e-6,     5856.477659115,  4.239842759,
+            /* T^4 */
+                0.003826e-6,     6283.075849991,  5.705257275,
+                0.000303e-6,    12566.151699983,  5.407132842,
+                0.000209e-6,      155.420399434,  1.989815753
+            };
+        }
+    }
 
     /**
     **  An approximation to TDB-TT, the difference between barycentric
@@ -3074,905 +4299,9 @@ public final static int IYV = 2015;
     public static  double jauDtdb(double date1, double date2,
                    double ut, double elong, double u, double v)
     {
-       double t, tsol, w, elsun, emsun, d, elj, els, wt, w0, w1, w2, w3, w4,
-              wf, wj;
-       int j;
+       double t, tsol, w, elsun, emsun, d, elj, els, wt, wk, wf, wj;
+       int j, k;
 
-    /*
-    ** =====================
-    ** Fairhead et al. model
-    ** =====================
-    **
-    ** 787 sets of three coefficients.
-    **
-    ** Each set is
-    **    amplitude (microseconds)
-    **      frequency (radians per Julian millennium since J2000.0)
-    **      phase (radians)
-    **
-    ** Sets   1-474 are the T**0 terms
-    **  "   475-679  "   "  T**1
-    **  "   680-764  "   "  T**2
-    **  "   765-784  "   "  T**3
-    **  "   785-787  "   "  T**4
-    */
-
-       final double fairhd[][] = {
-       /* 1, 10 */
-          { 1656.674564e-6,     6283.075849991,  6.240054195 },
-          {   22.417471e-6,     5753.384884897,  4.296977442 },
-          {   13.839792e-6,    12566.151699983,  6.196904410 },
-          {    4.770086e-6,      529.690965095,  0.444401603 },
-          {    4.676740e-6,     6069.776754553,  4.021195093 },
-          {    2.256707e-6,      213.299095438,  5.543113262 },
-          {    1.694205e-6,      -3.523118349,   5.025132748 },
-          {    1.554905e-6,    77713.771467920,  5.198467090 },
-          {    1.276839e-6,     7860.419392439,  5.988822341 },
-          {    1.193379e-6,     5223.693919802,  3.649823730 },
-       /* 11, 20 */
-          {    1.115322e-6,     3930.209696220,  1.422745069 },
-          {    0.794185e-6,    11506.769769794,  2.322313077 },
-          {    0.447061e-6,       26.298319800,  3.615796498 },
-          {    0.435206e-6,     -398.149003408,  4.349338347 },
-          {    0.600309e-6,     1577.343542448,  2.678271909 },
-          {    0.496817e-6,     6208.294251424,  5.696701824 },
-          {    0.486306e-6,     5884.926846583,  0.520007179 },
-          {    0.432392e-6,       74.781598567,  2.435898309 },
-          {    0.468597e-6,     6244.942814354,  5.866398759 },
-          {    0.375510e-6,     5507.553238667,  4.103476804 },
-       /* 21, 30 */
-          {    0.243085e-6,     -775.522611324,  3.651837925 },
-          {    0.173435e-6,    18849.227549974,  6.153743485 },
-          {    0.230685e-6,     5856.477659115,  4.773852582 },
-          {    0.203747e-6,    12036.460734888,  4.333987818 },
-          {    0.143935e-6,     -796.298006816,  5.957517795 },
-          {    0.159080e-6,    10977.078804699,  1.890075226 },
-          {    0.119979e-6,       38.133035638,  4.551585768 },
-          {    0.118971e-6,     5486.777843175,  1.914547226 },
-          {    0.116120e-6,     1059.381930189,  0.873504123 },
-          {    0.137927e-6,    11790.629088659,  1.135934669 },
-       /* 31, 40 */
-          {    0.098358e-6,     2544.314419883,  0.092793886 },
-          {    0.101868e-6,    -5573.142801634,  5.984503847 },
-          {    0.080164e-6,      206.185548437,  2.095377709 },
-          {    0.079645e-6,     4694.002954708,  2.949233637 },
-          {    0.062617e-6,       20.775395492,  2.654394814 },
-          {    0.075019e-6,     2942.463423292,  4.980931759 },
-          {    0.064397e-6,     5746.271337896,  1.280308748 },
-          {    0.063814e-6,     5760.498431898,  4.167901731 },
-          {    0.048042e-6,     2146.165416475,  1.495846011 },
-          {    0.048373e-6,      155.420399434,  2.251573730 },
-       /* 41, 50 */
-          {    0.058844e-6,      426.598190876,  4.839650148 },
-          {    0.046551e-6,       -0.980321068,  0.921573539 },
-          {    0.054139e-6,    17260.154654690,  3.411091093 },
-          {    0.042411e-6,     6275.962302991,  2.869567043 },
-          {    0.040184e-6,       -7.113547001,  3.565975565 },
-          {    0.036564e-6,     5088.628839767,  3.324679049 },
-          {    0.040759e-6,    12352.852604545,  3.981496998 },
-          {    0.036507e-6,      801.820931124,  6.248866009 },
-          {    0.036955e-6,     3154.687084896,  5.071801441 },
-          {    0.042732e-6,      632.783739313,  5.720622217 },
-       /* 51, 60 */
-          {    0.042560e-6,   161000.685737473,  1.270837679 },
-          {    0.040480e-6,    15720.838784878,  2.546610123 },
-          {    0.028244e-6,    -6286.598968340,  5.069663519 },
-          {    0.033477e-6,     6062.663207553,  4.144987272 },
-          {    0.034867e-6,      522.577418094,  5.210064075 },
-          {    0.032438e-6,     6076.890301554,  0.749317412 },
-          {    0.030215e-6,     7084.896781115,  3.389610345 },
-          {    0.029247e-6,   -71430.695617928,  4.183178762 },
-          {    0.033529e-6,     9437.762934887,  2.404714239 },
-          {    0.032423e-6,     8827.390269875,  5.541473556 },
-       /* 61, 70 */
-          {    0.027567e-6,     6279.552731642,  5.040846034 },
-          {    0.029862e-6,    12139.553509107,  1.770181024 },
-          {    0.022509e-6,    10447.387839604,  1.460726241 },
-          {    0.020937e-6,     8429.241266467,  0.652303414 },
-          {    0.020322e-6,      419.484643875,  3.735430632 },
-          {    0.024816e-6,    -1194.447010225,  1.087136918 },
-          {    0.025196e-6,     1748.016413067,  2.901883301 },
-          {    0.021691e-6,    14143.495242431,  5.952658009 },
-          {    0.017673e-6,     6812.766815086,  3.186129845 },
-          {    0.022567e-6,     6133.512652857,  3.307984806 },
-       /* 71, 80 */
-          {    0.016155e-6,    10213.285546211,  1.331103168 },
-          {    0.014751e-6,     1349.867409659,  4.308933301 },
-          {    0.015949e-6,     -220.412642439,  4.005298270 },
-          {    0.015974e-6,    -2352.866153772,  6.145309371 },
-          {    0.014223e-6,    17789.845619785,  2.104551349 },
-          {    0.017806e-6,       73.297125859,  3.475975097 },
-          {    0.013671e-6,     -536.804512095,  5.971672571 },
-          {    0.011942e-6,     8031.092263058,  2.053414715 },
-          {    0.014318e-6,    16730.463689596,  3.016058075 },
-          {    0.012462e-6,      103.092774219,  1.737438797 },
-       /* 81, 90 */
-          {    0.010962e-6,        3.590428652,  2.196567739 },
-          {    0.015078e-6,    19651.048481098,  3.969480770 },
-          {    0.010396e-6,      951.718406251,  5.717799605 },
-          {    0.011707e-6,    -4705.732307544,  2.654125618 },
-          {    0.010453e-6,     5863.591206116,  1.913704550 },
-          {    0.012420e-6,     4690.479836359,  4.734090399 },
-          {    0.011847e-6,     5643.178563677,  5.489005403 },
-          {    0.008610e-6,     3340.612426700,  3.661698944 },
-          {    0.011622e-6,     5120.601145584,  4.863931876 },
-          {    0.010825e-6,      553.569402842,  0.842715011 },
-       /* 91, 100 */
-          {    0.008666e-6,     -135.065080035,  3.293406547 },
-          {    0.009963e-6,      149.563197135,  4.870690598 },
-          {    0.009858e-6,     6309.374169791,  1.061816410 },
-          {    0.007959e-6,      316.391869657,  2.465042647 },
-          {    0.010099e-6,      283.859318865,  1.942176992 },
-          {    0.007147e-6,     -242.728603974,  3.661486981 },
-          {    0.007505e-6,     5230.807466803,  4.920937029 },
-          {    0.008323e-6,    11769.853693166,  1.229392026 },
-          {    0.007490e-6,    -6256.777530192,  3.658444681 },
-          {    0.009370e-6,   149854.400134205,  0.673880395 },
-       /* 101, 110 */
-          {    0.007117e-6,       38.027672636,  5.294249518 },
-          {    0.007857e-6,    12168.002696575,  0.525733528 },
-          {    0.007019e-6,     6206.809778716,  0.837688810 },
-          {    0.006056e-6,      955.599741609,  4.194535082 },
-          {    0.008107e-6,    13367.972631107,  3.793235253 },
-          {    0.006731e-6,     5650.292110678,  5.639906583 },
-          {    0.007332e-6,       36.648562930,  0.114858677 },
-          {    0.006366e-6,     4164.311989613,  2.262081818 },
-          {    0.006858e-6,     5216.580372801,  0.642063318 },
-          {    0.006919e-6,     6681.224853400,  6.018501522 },
-       /* 111, 120 */
-          {    0.006826e-6,     7632.943259650,  3.458654112 },
-          {    0.005308e-6,    -1592.596013633,  2.500382359 },
-          {    0.005096e-6,    11371.704689758,  2.547107806 },
-          {    0.004841e-6,     5333.900241022,  0.437078094 },
-          {    0.005582e-6,     5966.683980335,  2.246174308 },
-          {    0.006304e-6,    11926.254413669,  2.512929171 },
-          {    0.006603e-6,    23581.258177318,  5.393136889 },
-          {    0.005123e-6,       -1.484472708,  2.999641028 },
-          {    0.004648e-6,     1589.072895284,  1.275847090 },
-          {    0.005119e-6,     6438.496249426,  1.486539246 },
-       /* 121, 130 */
-          {    0.004521e-6,     4292.330832950,  6.140635794 },
-          {    0.005680e-6,    23013.539539587,  4.557814849 },
-          {    0.005488e-6,       -3.455808046,  0.090675389 },
-          {    0.004193e-6,     7234.794256242,  4.869091389 },
-          {    0.003742e-6,     7238.675591600,  4.691976180 },
-          {    0.004148e-6,     -110.206321219,  3.016173439 },
-          {    0.004553e-6,    11499.656222793,  5.554998314 },
-          {    0.004892e-6,     5436.993015240,  1.475415597 },
-          {    0.004044e-6,     4732.030627343,  1.398784824 },
-          {    0.004164e-6,    12491.370101415,  5.650931916 },
-       /* 131, 140 */
-          {    0.004349e-6,    11513.883316794,  2.181745369 },
-          {    0.003919e-6,    12528.018664345,  5.823319737 },
-          {    0.003129e-6,     6836.645252834,  0.003844094 },
-          {    0.004080e-6,    -7058.598461315,  3.690360123 },
-          {    0.003270e-6,       76.266071276,  1.517189902 },
-          {    0.002954e-6,     6283.143160294,  4.447203799 },
-          {    0.002872e-6,       28.449187468,  1.158692983 },
-          {    0.002881e-6,      735.876513532,  0.349250250 },
-          {    0.003279e-6,     5849.364112115,  4.893384368 },
-          {    0.003625e-6,     6209.778724132,  1.473760578 },
-       /* 141, 150 */
-          {    0.003074e-6,      949.175608970,  5.185878737 },
-          {    0.002775e-6,     9917.696874510,  1.030026325 },
-          {    0.002646e-6,    10973.555686350,  3.918259169 },
-          {    0.002575e-6,    25132.303399966,  6.109659023 },
-          {    0.003500e-6,      263.083923373,  1.892100742 },
-          {    0.002740e-6,    18319.536584880,  4.320519510 },
-          {    0.002464e-6,      202.253395174,  4.698203059 },
-          {    0.002409e-6,        2.542797281,  5.325009315 },
-          {    0.003354e-6,   -90955.551694697,  1.942656623 },
-          {    0.002296e-6,     6496.374945429,  5.061810696 },
-       /* 151, 160 */
-          {    0.003002e-6,     6172.869528772,  2.797822767 },
-          {    0.003202e-6,    27511.467873537,  0.531673101 },
-          {    0.002954e-6,    -6283.008539689,  4.533471191 },
-          {    0.002353e-6,      639.897286314,  3.734548088 },
-          {    0.002401e-6,    16200.772724501,  2.605547070 },
-          {    0.003053e-6,   233141.314403759,  3.029030662 },
-          {    0.003024e-6,    83286.914269554,  2.355556099 },
-          {    0.002863e-6,    17298.182327326,  5.240963796 },
-          {    0.002103e-6,    -7079.373856808,  5.756641637 },
-          {    0.002303e-6,    83996.847317911,  2.013686814 },
-       /* 161, 170 */
-          {    0.002303e-6,    18073.704938650,  1.089100410 },
-          {    0.002381e-6,       63.735898303,  0.759188178 },
-          {    0.002493e-6,     6386.168624210,  0.645026535 },
-          {    0.002366e-6,        3.932153263,  6.215885448 },
-          {    0.002169e-6,    11015.106477335,  4.845297676 },
-          {    0.002397e-6,     6243.458341645,  3.809290043 },
-          {    0.002183e-6,     1162.474704408,  6.179611691 },
-          {    0.002353e-6,     6246.427287062,  4.781719760 },
-          {    0.002199e-6,     -245.831646229,  5.956152284 },
-          {    0.001729e-6,     3894.181829542,  1.264976635 },
-       /* 171, 180 */
-          {    0.001896e-6,    -3128.388765096,  4.914231596 },
-          {    0.002085e-6,       35.164090221,  1.405158503 },
-          {    0.002024e-6,    14712.317116458,  2.752035928 },
-          {    0.001737e-6,     6290.189396992,  5.280820144 },
-          {    0.002229e-6,      491.557929457,  1.571007057 },
-          {    0.001602e-6,    14314.168113050,  4.203664806 },
-          {    0.002186e-6,      454.909366527,  1.402101526 },
-          {    0.001897e-6,    22483.848574493,  4.167932508 },
-          {    0.001825e-6,    -3738.761430108,  0.545828785 },
-          {    0.001894e-6,     1052.268383188,  5.817167450 },
-       /* 181, 190 */
-          {    0.001421e-6,       20.355319399,  2.419886601 },
-          {    0.001408e-6,    10984.192351700,  2.732084787 },
-          {    0.001847e-6,    10873.986030480,  2.903477885 },
-          {    0.001391e-6,    -8635.942003763,  0.593891500 },
-          {    0.001388e-6,       -7.046236698,  1.166145902 },
-          {    0.001810e-6,   -88860.057071188,  0.487355242 },
-          {    0.001288e-6,    -1990.745017041,  3.913022880 },
-          {    0.001297e-6,    23543.230504682,  3.063805171 },
-          {    0.001335e-6,     -266.607041722,  3.995764039 },
-          {    0.001376e-6,    10969.965257698,  5.152914309 },
-       /* 191, 200 */
-          {    0.001745e-6,   244287.600007027,  3.626395673 },
-          {    0.001649e-6,    31441.677569757,  1.952049260 },
-          {    0.001416e-6,     9225.539273283,  4.996408389 },
-          {    0.001238e-6,     4804.209275927,  5.503379738 },
-          {    0.001472e-6,     4590.910180489,  4.164913291 },
-          {    0.001169e-6,     6040.347246017,  5.841719038 },
-          {    0.001039e-6,     5540.085789459,  2.769753519 },
-          {    0.001004e-6,     -170.672870619,  0.755008103 },
-          {    0.001284e-6,    10575.406682942,  5.306538209 },
-          {    0.001278e-6,       71.812653151,  4.713486491 },
-       /* 201, 210 */
-          {    0.001321e-6,    18209.330263660,  2.624866359 },
-          {    0.001297e-6,    21228.392023546,  0.382603541 },
-          {    0.000954e-6,     6282.095528923,  0.882213514 },
-          {    0.001145e-6,     6058.731054289,  1.169483931 },
-          {    0.000979e-6,     5547.199336460,  5.448375984 },
-          {    0.000987e-6,    -6262.300454499,  2.656486959 },
-          {    0.001070e-6,  -154717.609887482,  1.827624012 },
-          {    0.000991e-6,     4701.116501708,  4.387001801 },
-          {    0.001155e-6,      -14.227094002,  3.042700750 },
-          {    0.001176e-6,      277.034993741,  3.335519004 },
-       /* 211, 220 */
-          {    0.000890e-6,    13916.019109642,  5.601498297 },
-          {    0.000884e-6,    -1551.045222648,  1.088831705 },
-          {    0.000876e-6,     5017.508371365,  3.969902609 },
-          {    0.000806e-6,    15110.466119866,  5.142876744 },
-          {    0.000773e-6,    -4136.910433516,  0.022067765 },
-          {    0.001077e-6,      175.166059800,  1.844913056 },
-          {    0.000954e-6,    -6284.056171060,  0.968480906 },
-          {    0.000737e-6,     5326.786694021,  4.923831588 },
-          {    0.000845e-6,     -433.711737877,  4.749245231 },
-          {    0.000819e-6,     8662.240323563,  5.991247817 },
-       /* 221, 230 */
-          {    0.000852e-6,      199.072001436,  2.189604979 },
-          {    0.000723e-6,    17256.631536341,  6.068719637 },
-          {    0.000940e-6,     6037.244203762,  6.197428148 },
-          {    0.000885e-6,    11712.955318231,  3.280414875 },
-          {    0.000706e-6,    12559.038152982,  2.824848947 },
-          {    0.000732e-6,     2379.164473572,  2.501813417 },
-          {    0.000764e-6,    -6127.655450557,  2.236346329 },
-          {    0.000908e-6,      131.541961686,  2.521257490 },
-          {    0.000907e-6,    35371.887265976,  3.370195967 },
-          {    0.000673e-6,     1066.495477190,  3.876512374 },
-       /* 231, 240 */
-          {    0.000814e-6,    17654.780539750,  4.627122566 },
-          {    0.000630e-6,       36.027866677,  0.156368499 },
-          {    0.000798e-6,      515.463871093,  5.151962502 },
-          {    0.000798e-6,      148.078724426,  5.909225055 },
-          {    0.000806e-6,      309.278322656,  6.054064447 },
-          {    0.000607e-6,      -39.617508346,  2.839021623 },
-          {    0.000601e-6,      412.371096874,  3.984225404 },
-          {    0.000646e-6,    11403.676995575,  3.852959484 },
-          {    0.000704e-6,    13521.751441591,  2.300991267 },
-          {    0.000603e-6,   -65147.619767937,  4.140083146 },
-       /* 241, 250 */
-          {    0.000609e-6,    10177.257679534,  0.437122327 },
-          {    0.000631e-6,     5767.611978898,  4.026532329 },
-          {    0.000576e-6,    11087.285125918,  4.760293101 },
-          {    0.000674e-6,    14945.316173554,  6.270510511 },
-          {    0.000726e-6,     5429.879468239,  6.039606892 },
-          {    0.000710e-6,    28766.924424484,  5.672617711 },
-          {    0.000647e-6,    11856.218651625,  3.397132627 },
-          {    0.000678e-6,    -5481.254918868,  6.249666675 },
-          {    0.000618e-6,    22003.914634870,  2.466427018 },
-          {    0.000738e-6,     6134.997125565,  2.242668890 },
-       /* 251, 260 */
-          {    0.000660e-6,      625.670192312,  5.864091907 },
-          {    0.000694e-6,     3496.032826134,  2.668309141 },
-          {    0.000531e-6,     6489.261398429,  1.681888780 },
-          {    0.000611e-6,  -143571.324284214,  2.424978312 },
-          {    0.000575e-6,    12043.574281889,  4.216492400 },
-          {    0.000553e-6,    12416.588502848,  4.772158039 },
-          {    0.000689e-6,     4686.889407707,  6.224271088 },
-          {    0.000495e-6,     7342.457780181,  3.817285811 },
-          {    0.000567e-6,     3634.621024518,  1.649264690 },
-          {    0.000515e-6,    18635.928454536,  3.945345892 },
-       /* 261, 270 */
-          {    0.000486e-6,     -323.505416657,  4.061673868 },
-          {    0.000662e-6,    25158.601719765,  1.794058369 },
-          {    0.000509e-6,      846.082834751,  3.053874588 },
-          {    0.000472e-6,   -12569.674818332,  5.112133338 },
-          {    0.000461e-6,     6179.983075773,  0.513669325 },
-          {    0.000641e-6,    83467.156352816,  3.210727723 },
-          {    0.000520e-6,    10344.295065386,  2.445597761 },
-          {    0.000493e-6,    18422.629359098,  1.676939306 },
-          {    0.000478e-6,     1265.567478626,  5.487314569 },
-          {    0.000472e-6,      -18.159247265,  1.999707589 },
-       /* 271, 280 */
-          {    0.000559e-6,    11190.377900137,  5.783236356 },
-          {    0.000494e-6,     9623.688276691,  3.022645053 },
-          {    0.000463e-6,     5739.157790895,  1.411223013 },
-          {    0.000432e-6,    16858.482532933,  1.179256434 },
-          {    0.000574e-6,    72140.628666286,  1.758191830 },
-          {    0.000484e-6,    17267.268201691,  3.290589143 },
-          {    0.000550e-6,     4907.302050146,  0.864024298 },
-          {    0.000399e-6,       14.977853527,  2.094441910 },
-          {    0.000491e-6,      224.344795702,  0.878372791 },
-          {    0.000432e-6,    20426.571092422,  6.003829241 },
-       /* 281, 290 */
-          {    0.000481e-6,     5749.452731634,  4.309591964 },
-          {    0.000480e-6,     5757.317038160,  1.142348571 },
-          {    0.000485e-6,     6702.560493867,  0.210580917 },
-          {    0.000426e-6,     6055.549660552,  4.274476529 },
-          {    0.000480e-6,     5959.570433334,  5.031351030 },
-          {    0.000466e-6,    12562.628581634,  4.959581597 },
-          {    0.000520e-6,    39302.096962196,  4.788002889 },
-          {    0.000458e-6,    12132.439962106,  1.880103788 },
-          {    0.000470e-6,    12029.347187887,  1.405611197 },
-          {    0.000416e-6,    -7477.522860216,  1.082356330 },
-       /* 291, 300 */
-          {    0.000449e-6,    11609.862544012,  4.179989585 },
-          {    0.000465e-6,    17253.041107690,  0.353496295 },
-          {    0.000362e-6,    -4535.059436924,  1.583849576 },
-          {    0.000383e-6,    21954.157609398,  3.747376371 },
-          {    0.000389e-6,       17.252277143,  1.395753179 },
-          {    0.000331e-6,    18052.929543158,  0.566790582 },
-          {    0.000430e-6,    13517.870106233,  0.685827538 },
-          {    0.000368e-6,    -5756.908003246,  0.731374317 },
-          {    0.000330e-6,    10557.594160824,  3.710043680 },
-          {    0.000332e-6,    20199.094959633,  1.652901407 },
-       /* 301, 310 */
-          {    0.000384e-6,    11933.367960670,  5.827781531 },
-          {    0.000387e-6,    10454.501386605,  2.541182564 },
-          {    0.000325e-6,    15671.081759407,  2.178850542 },
-          {    0.000318e-6,      138.517496871,  2.253253037 },
-          {    0.000305e-6,     9388.005909415,  0.578340206 },
-          {    0.000352e-6,     5749.861766548,  3.000297967 },
-          {    0.000311e-6,     6915.859589305,  1.693574249 },
-          {    0.000297e-6,    24072.921469776,  1.997249392 },
-          {    0.000363e-6,     -640.877607382,  5.071820966 },
-          {    0.000323e-6,    12592.450019783,  1.072262823 },
-       /* 311, 320 */
-          {    0.000341e-6,    12146.667056108,  4.700657997 },
-          {    0.000290e-6,     9779.108676125,  1.812320441 },
-          {    0.000342e-6,     6132.028180148,  4.322238614 },
-          {    0.000329e-6,     6268.848755990,  3.033827743 },
-          {    0.000374e-6,    17996.031168222,  3.388716544 },
-          {    0.000285e-6,     -533.214083444,  4.687313233 },
-          {    0.000338e-6,     6065.844601290,  0.877776108 },
-          {    0.000276e-6,       24.298513841,  0.770299429 },
-          {    0.000336e-6,    -2388.894020449,  5.353796034 },
-          {    0.000290e-6,     3097.883822726,  4.075291557 },
-       /* 321, 330 */
-          {    0.000318e-6,      709.933048357,  5.941207518 },
-          {    0.000271e-6,    13095.842665077,  3.208912203 },
-          {    0.000331e-6,     6073.708907816,  4.007881169 },
-          {    0.000292e-6,      742.990060533,  2.714333592 },
-          {    0.000362e-6,    29088.811415985,  3.215977013 },
-          {    0.000280e-6,    12359.966151546,  0.710872502 },
-          {    0.000267e-6,    10440.274292604,  4.730108488 },
-          {    0.000262e-6,      838.969287750,  1.327720272 },
-          {    0.000250e-6,    16496.361396202,  0.898769761 },
-          {    0.000325e-6,    20597.243963041,  0.180044365 },
-       /* 331, 340 */
-          {    0.000268e-6,     6148.010769956,  5.152666276 },
-          {    0.000284e-6,     5636.065016677,  5.655385808 },
-          {    0.000301e-6,     6080.822454817,  2.135396205 },
-          {    0.000294e-6,     -377.373607916,  3.708784168 },
-          {    0.000236e-6,     2118.763860378,  1.733578756 },
-          {    0.000234e-6,     5867.523359379,  5.575209112 },
-          {    0.000268e-6,  -226858.238553767,  0.069432392 },
-          {    0.000265e-6,   167283.761587465,  4.369302826 },
-          {    0.000280e-6,    28237.233459389,  5.304829118 },
-          {    0.000292e-6,    12345.739057544,  4.096094132 },
-       /* 341, 350 */
-          {    0.000223e-6,    19800.945956225,  3.069327406 },
-          {    0.000301e-6,    43232.306658416,  6.205311188 },
-          {    0.000264e-6,    18875.525869774,  1.417263408 },
-          {    0.000304e-6,    -1823.175188677,  3.409035232 },
-          {    0.000301e-6,      109.945688789,  0.510922054 },
-          {    0.000260e-6,      813.550283960,  2.389438934 },
-          {    0.000299e-6,   316428.228673312,  5.384595078 },
-          {    0.000211e-6,     5756.566278634,  3.789392838 },
-          {    0.000209e-6,     5750.203491159,  1.661943545 },
-          {    0.000240e-6,    12489.885628707,  5.684549045 },
-       /* 351, 360 */
-          {    0.000216e-6,     6303.851245484,  3.862942261 },
-          {    0.000203e-6,     1581.959348283,  5.549853589 },
-          {    0.000200e-6,     5642.198242609,  1.016115785 },
-          {    0.000197e-6,      -70.849445304,  4.690702525 },
-          {    0.000227e-6,     6287.008003254,  2.911891613 },
-          {    0.000197e-6,      533.623118358,  1.048982898 },
-          {    0.000205e-6,    -6279.485421340,  1.829362730 },
-          {    0.000209e-6,   -10988.808157535,  2.636140084 },
-          {    0.000208e-6,     -227.526189440,  4.127883842 },
-          {    0.000191e-6,      415.552490612,  4.401165650 },
-       /* 361, 370 */
-          {    0.000190e-6,    29296.615389579,  4.175658539 },
-          {    0.000264e-6,    66567.485864652,  4.601102551 },
-          {    0.000256e-6,    -3646.350377354,  0.506364778 },
-          {    0.000188e-6,    13119.721102825,  2.032195842 },
-          {    0.000185e-6,     -209.366942175,  4.694756586 },
-          {    0.000198e-6,    25934.124331089,  3.832703118 },
-          {    0.000195e-6,     4061.219215394,  3.308463427 },
-          {    0.000234e-6,     5113.487598583,  1.716090661 },
-          {    0.000188e-6,     1478.866574064,  5.686865780 },
-          {    0.000222e-6,    11823.161639450,  1.942386641 },
-       /* 371, 380 */
-          {    0.000181e-6,    10770.893256262,  1.999482059 },
-          {    0.000171e-6,     6546.159773364,  1.182807992 },
-          {    0.000206e-6,       70.328180442,  5.934076062 },
-          {    0.000169e-6,    20995.392966449,  2.169080622 },
-          {    0.000191e-6,    10660.686935042,  5.405515999 },
-          {    0.000228e-6,    33019.021112205,  4.656985514 },
-          {    0.000184e-6,    -4933.208440333,  3.327476868 },
-          {    0.000220e-6,     -135.625325010,  1.765430262 },
-          {    0.000166e-6,    23141.558382925,  3.454132746 },
-          {    0.000191e-6,     6144.558353121,  5.020393445 },
-       /* 381, 390 */
-          {    0.000180e-6,     6084.003848555,  0.602182191 },
-          {    0.000163e-6,    17782.732072784,  4.960593133 },
-          {    0.000225e-6,    16460.333529525,  2.596451817 },
-          {    0.000222e-6,     5905.702242076,  3.731990323 },
-          {    0.000204e-6,      227.476132789,  5.636192701 },
-          {    0.000159e-6,    16737.577236597,  3.600691544 },
-          {    0.000200e-6,     6805.653268085,  0.868220961 },
-          {    0.000187e-6,    11919.140866668,  2.629456641 },
-          {    0.000161e-6,      127.471796607,  2.862574720 },
-          {    0.000205e-6,     6286.666278643,  1.742882331 },
-       /* 391, 400 */
-          {    0.000189e-6,      153.778810485,  4.812372643 },
-          {    0.000168e-6,    16723.350142595,  0.027860588 },
-          {    0.000149e-6,    11720.068865232,  0.659721876 },
-          {    0.000189e-6,     5237.921013804,  5.245313000 },
-          {    0.000143e-6,     6709.674040867,  4.317625647 },
-          {    0.000146e-6,     4487.817406270,  4.815297007 },
-          {    0.000144e-6,     -664.756045130,  5.381366880 },
-          {    0.000175e-6,     5127.714692584,  4.728443327 },
-          {    0.000162e-6,     6254.626662524,  1.435132069 },
-          {    0.000187e-6,    47162.516354635,  1.354371923 },
-       /* 401, 410 */
-          {    0.000146e-6,    11080.171578918,  3.369695406 },
-          {    0.000180e-6,     -348.924420448,  2.490902145 },
-          {    0.000148e-6,      151.047669843,  3.799109588 },
-          {    0.000157e-6,     6197.248551160,  1.284375887 },
-          {    0.000167e-6,      146.594251718,  0.759969109 },
-          {    0.000133e-6,    -5331.357443741,  5.409701889 },
-          {    0.000154e-6,       95.979227218,  3.366890614 },
-          {    0.000148e-6,    -6418.140930027,  3.384104996 },
-          {    0.000128e-6,    -6525.804453965,  3.803419985 },
-          {    0.000130e-6,    11293.470674356,  0.939039445 },
-       /* 411, 420 */
-          {    0.000152e-6,    -5729.506447149,  0.734117523 },
-          {    0.000138e-6,      210.117701700,  2.564216078 },
-          {    0.000123e-6,     6066.595360816,  4.517099537 },
-          {    0.000140e-6,    18451.078546566,  0.642049130 },
-          {    0.000126e-6,    11300.584221356,  3.485280663 },
-          {    0.000119e-6,    10027.903195729,  3.217431161 },
-          {    0.000151e-6,     4274.518310832,  4.404359108 },
-          {    0.000117e-6,     6072.958148291,  0.366324650 },
-          {    0.000165e-6,    -7668.637425143,  4.298212528 },
-          {    0.000117e-6,    -6245.048177356,  5.379518958 },
-       /* 421, 430 */
-          {    0.000130e-6,    -5888.449964932,  4.527681115 },
-          {    0.000121e-6,     -543.918059096,  6.109429504 },
-          {    0.000162e-6,     9683.594581116,  5.720092446 },
-          {    0.000141e-6,     6219.339951688,  0.679068671 },
-          {    0.000118e-6,    22743.409379516,  4.881123092 },
-          {    0.000129e-6,     1692.165669502,  0.351407289 },
-          {    0.000126e-6,     5657.405657679,  5.146592349 },
-          {    0.000114e-6,      728.762966531,  0.520791814 },
-          {    0.000120e-6,       52.596639600,  0.948516300 },
-          {    0.000115e-6,       65.220371012,  3.504914846 },
-       /* 431, 440 */
-          {    0.000126e-6,     5881.403728234,  5.577502482 },
-          {    0.000158e-6,   163096.180360983,  2.957128968 },
-          {    0.000134e-6,    12341.806904281,  2.598576764 },
-          {    0.000151e-6,    16627.370915377,  3.985702050 },
-          {    0.000109e-6,     1368.660252845,  0.014730471 },
-          {    0.000131e-6,     6211.263196841,  0.085077024 },
-          {    0.000146e-6,     5792.741760812,  0.708426604 },
-          {    0.000146e-6,      -77.750543984,  3.121576600 },
-          {    0.000107e-6,     5341.013788022,  0.288231904 },
-          {    0.000138e-6,     6281.591377283,  2.797450317 },
-       /* 441, 450 */
-          {    0.000113e-6,    -6277.552925684,  2.788904128 },
-          {    0.000115e-6,     -525.758811831,  5.895222200 },
-          {    0.000138e-6,     6016.468808270,  6.096188999 },
-          {    0.000139e-6,    23539.707386333,  2.028195445 },
-          {    0.000146e-6,    -4176.041342449,  4.660008502 },
-          {    0.000107e-6,    16062.184526117,  4.066520001 },
-          {    0.000142e-6,    83783.548222473,  2.936315115 },
-          {    0.000128e-6,     9380.959672717,  3.223844306 },
-          {    0.000135e-6,     6205.325306007,  1.638054048 },
-          {    0.000101e-6,     2699.734819318,  5.481603249 },
-       /* 451, 460 */
-          {    0.000104e-6,     -568.821874027,  2.205734493 },
-          {    0.000103e-6,     6321.103522627,  2.440421099 },
-          {    0.000119e-6,     6321.208885629,  2.547496264 },
-          {    0.000138e-6,     1975.492545856,  2.314608466 },
-          {    0.000121e-6,      137.033024162,  4.539108237 },
-          {    0.000123e-6,    19402.796952817,  4.538074405 },
-          {    0.000119e-6,    22805.735565994,  2.869040566 },
-          {    0.000133e-6,    64471.991241142,  6.056405489 },
-          {    0.000129e-6,      -85.827298831,  2.540635083 },
-          {    0.000131e-6,    13613.804277336,  4.005732868 },
-       /* 461, 470 */
-          {    0.000104e-6,     9814.604100291,  1.959967212 },
-          {    0.000112e-6,    16097.679950283,  3.589026260 },
-          {    0.000123e-6,     2107.034507542,  1.728627253 },
-          {    0.000121e-6,    36949.230808424,  6.072332087 },
-          {    0.000108e-6,   -12539.853380183,  3.716133846 },
-          {    0.000113e-6,    -7875.671863624,  2.725771122 },
-          {    0.000109e-6,     4171.425536614,  4.033338079 },
-          {    0.000101e-6,     6247.911759770,  3.441347021 },
-          {    0.000113e-6,     7330.728427345,  0.656372122 },
-          {    0.000113e-6,    51092.726050855,  2.791483066 },
-       /* 471, 480 */
-          {    0.000106e-6,     5621.842923210,  1.815323326 },
-          {    0.000101e-6,      111.430161497,  5.711033677 },
-          {    0.000103e-6,      909.818733055,  2.812745443 },
-          {    0.000101e-6,     1790.642637886,  1.965746028 },
-
-       /* T */
-          {  102.156724e-6,     6283.075849991,  4.249032005 },
-          {    1.706807e-6,    12566.151699983,  4.205904248 },
-          {    0.269668e-6,      213.299095438,  3.400290479 },
-          {    0.265919e-6,      529.690965095,  5.836047367 },
-          {    0.210568e-6,       -3.523118349,  6.262738348 },
-          {    0.077996e-6,     5223.693919802,  4.670344204 },
-       /* 481, 490 */
-          {    0.054764e-6,     1577.343542448,  4.534800170 },
-          {    0.059146e-6,       26.298319800,  1.083044735 },
-          {    0.034420e-6,     -398.149003408,  5.980077351 },
-          {    0.032088e-6,    18849.227549974,  4.162913471 },
-          {    0.033595e-6,     5507.553238667,  5.980162321 },
-          {    0.029198e-6,     5856.477659115,  0.623811863 },
-          {    0.027764e-6,      155.420399434,  3.745318113 },
-          {    0.025190e-6,     5746.271337896,  2.980330535 },
-          {    0.022997e-6,     -796.298006816,  1.174411803 },
-          {    0.024976e-6,     5760.498431898,  2.467913690 },
-       /* 491, 500 */
-          {    0.021774e-6,      206.185548437,  3.854787540 },
-          {    0.017925e-6,     -775.522611324,  1.092065955 },
-          {    0.013794e-6,      426.598190876,  2.699831988 },
-          {    0.013276e-6,     6062.663207553,  5.845801920 },
-          {    0.011774e-6,    12036.460734888,  2.292832062 },
-          {    0.012869e-6,     6076.890301554,  5.333425680 },
-          {    0.012152e-6,     1059.381930189,  6.222874454 },
-          {    0.011081e-6,       -7.113547001,  5.154724984 },
-          {    0.010143e-6,     4694.002954708,  4.044013795 },
-          {    0.009357e-6,     5486.777843175,  3.416081409 },
-       /* 501, 510 */
-          {    0.010084e-6,      522.577418094,  0.749320262 },
-          {    0.008587e-6,    10977.078804699,  2.777152598 },
-          {    0.008628e-6,     6275.962302991,  4.562060226 },
-          {    0.008158e-6,     -220.412642439,  5.806891533 },
-          {    0.007746e-6,     2544.314419883,  1.603197066 },
-          {    0.007670e-6,     2146.165416475,  3.000200440 },
-          {    0.007098e-6,       74.781598567,  0.443725817 },
-          {    0.006180e-6,     -536.804512095,  1.302642751 },
-          {    0.005818e-6,     5088.628839767,  4.827723531 },
-          {    0.004945e-6,    -6286.598968340,  0.268305170 },
-       /* 511, 520 */
-          {    0.004774e-6,     1349.867409659,  5.808636673 },
-          {    0.004687e-6,     -242.728603974,  5.154890570 },
-          {    0.006089e-6,     1748.016413067,  4.403765209 },
-          {    0.005975e-6,    -1194.447010225,  2.583472591 },
-          {    0.004229e-6,      951.718406251,  0.931172179 },
-          {    0.005264e-6,      553.569402842,  2.336107252 },
-          {    0.003049e-6,     5643.178563677,  1.362634430 },
-          {    0.002974e-6,     6812.766815086,  1.583012668 },
-          {    0.003403e-6,    -2352.866153772,  2.552189886 },
-          {    0.003030e-6,      419.484643875,  5.286473844 },
-       /* 521, 530 */
-          {    0.003210e-6,       -7.046236698,  1.863796539 },
-          {    0.003058e-6,     9437.762934887,  4.226420633 },
-          {    0.002589e-6,    12352.852604545,  1.991935820 },
-          {    0.002927e-6,     5216.580372801,  2.319951253 },
-          {    0.002425e-6,     5230.807466803,  3.084752833 },
-          {    0.002656e-6,     3154.687084896,  2.487447866 },
-          {    0.002445e-6,    10447.387839604,  2.347139160 },
-          {    0.002990e-6,     4690.479836359,  6.235872050 },
-          {    0.002890e-6,     5863.591206116,  0.095197563 },
-          {    0.002498e-6,     6438.496249426,  2.994779800 },
-       /* 531, 540 */
-          {    0.001889e-6,     8031.092263058,  3.569003717 },
-          {    0.002567e-6,      801.820931124,  3.425611498 },
-          {    0.001803e-6,   -71430.695617928,  2.192295512 },
-          {    0.001782e-6,        3.932153263,  5.180433689 },
-          {    0.001694e-6,    -4705.732307544,  4.641779174 },
-          {    0.001704e-6,    -1592.596013633,  3.997097652 },
-          {    0.001735e-6,     5849.364112115,  0.417558428 },
-          {    0.001643e-6,     8429.241266467,  2.180619584 },
-          {    0.001680e-6,       38.133035638,  4.164529426 },
-          {    0.002045e-6,     7084.896781115,  0.526323854 },
-       /* 541, 550 */
-          {    0.001458e-6,     4292.330832950,  1.356098141 },
-          {    0.001437e-6,       20.355319399,  3.895439360 },
-          {    0.001738e-6,     6279.552731642,  0.087484036 },
-          {    0.001367e-6,    14143.495242431,  3.987576591 },
-          {    0.001344e-6,     7234.794256242,  0.090454338 },
-          {    0.001438e-6,    11499.656222793,  0.974387904 },
-          {    0.001257e-6,     6836.645252834,  1.509069366 },
-          {    0.001358e-6,    11513.883316794,  0.495572260 },
-          {    0.001628e-6,     7632.943259650,  4.968445721 },
-          {    0.001169e-6,      103.092774219,  2.838496795 },
-       /* 551, 560 */
-          {    0.001162e-6,     4164.311989613,  3.408387778 },
-          {    0.001092e-6,     6069.776754553,  3.617942651 },
-          {    0.001008e-6,    17789.845619785,  0.286350174 },
-          {    0.001008e-6,      639.897286314,  1.610762073 },
-          {    0.000918e-6,    10213.285546211,  5.532798067 },
-          {    0.001011e-6,    -6256.777530192,  0.661826484 },
-          {    0.000753e-6,    16730.463689596,  3.905030235 },
-          {    0.000737e-6,    11926.254413669,  4.641956361 },
-          {    0.000694e-6,     3340.612426700,  2.111120332 },
-          {    0.000701e-6,     3894.181829542,  2.760823491 },
-       /* 561, 570 */
-          {    0.000689e-6,     -135.065080035,  4.768800780 },
-          {    0.000700e-6,    13367.972631107,  5.760439898 },
-          {    0.000664e-6,     6040.347246017,  1.051215840 },
-          {    0.000654e-6,     5650.292110678,  4.911332503 },
-          {    0.000788e-6,     6681.224853400,  4.699648011 },
-          {    0.000628e-6,     5333.900241022,  5.024608847 },
-          {    0.000755e-6,     -110.206321219,  4.370971253 },
-          {    0.000628e-6,     6290.189396992,  3.660478857 },
-          {    0.000635e-6,    25132.303399966,  4.121051532 },
-          {    0.000534e-6,     5966.683980335,  1.173284524 },
-       /* 571, 580 */
-          {    0.000543e-6,     -433.711737877,  0.345585464 },
-          {    0.000517e-6,    -1990.745017041,  5.414571768 },
-          {    0.000504e-6,     5767.611978898,  2.328281115 },
-          {    0.000485e-6,     5753.384884897,  1.685874771 },
-          {    0.000463e-6,     7860.419392439,  5.297703006 },
-          {    0.000604e-6,      515.463871093,  0.591998446 },
-          {    0.000443e-6,    12168.002696575,  4.830881244 },
-          {    0.000570e-6,      199.072001436,  3.899190272 },
-          {    0.000465e-6,    10969.965257698,  0.476681802 },
-          {    0.000424e-6,    -7079.373856808,  1.112242763 },
-       /* 581, 590 */
-          {    0.000427e-6,      735.876513532,  1.994214480 },
-          {    0.000478e-6,    -6127.655450557,  3.778025483 },
-          {    0.000414e-6,    10973.555686350,  5.441088327 },
-          {    0.000512e-6,     1589.072895284,  0.107123853 },
-          {    0.000378e-6,    10984.192351700,  0.915087231 },
-          {    0.000402e-6,    11371.704689758,  4.107281715 },
-          {    0.000453e-6,     9917.696874510,  1.917490952 },
-          {    0.000395e-6,      149.563197135,  2.763124165 },
-          {    0.000371e-6,     5739.157790895,  3.112111866 },
-          {    0.000350e-6,    11790.629088659,  0.440639857 },
-       /* 591, 600 */
-          {    0.000356e-6,     6133.512652857,  5.444568842 },
-          {    0.000344e-6,      412.371096874,  5.676832684 },
-          {    0.000383e-6,      955.599741609,  5.559734846 },
-          {    0.000333e-6,     6496.374945429,  0.261537984 },
-          {    0.000340e-6,     6055.549660552,  5.975534987 },
-          {    0.000334e-6,     1066.495477190,  2.335063907 },
-          {    0.000399e-6,    11506.769769794,  5.321230910 },
-          {    0.000314e-6,    18319.536584880,  2.313312404 },
-          {    0.000424e-6,     1052.268383188,  1.211961766 },
-          {    0.000307e-6,       63.735898303,  3.169551388 },
-       /* 601, 610 */
-          {    0.000329e-6,       29.821438149,  6.106912080 },
-          {    0.000357e-6,     6309.374169791,  4.223760346 },
-          {    0.000312e-6,    -3738.761430108,  2.180556645 },
-          {    0.000301e-6,      309.278322656,  1.499984572 },
-          {    0.000268e-6,    12043.574281889,  2.447520648 },
-          {    0.000257e-6,    12491.370101415,  3.662331761 },
-          {    0.000290e-6,      625.670192312,  1.272834584 },
-          {    0.000256e-6,     5429.879468239,  1.913426912 },
-          {    0.000339e-6,     3496.032826134,  4.165930011 },
-          {    0.000283e-6,     3930.209696220,  4.325565754 },
-       /* 611, 620 */
-          {    0.000241e-6,    12528.018664345,  3.832324536 },
-          {    0.000304e-6,     4686.889407707,  1.612348468 },
-          {    0.000259e-6,    16200.772724501,  3.470173146 },
-          {    0.000238e-6,    12139.553509107,  1.147977842 },
-          {    0.000236e-6,     6172.869528772,  3.776271728 },
-          {    0.000296e-6,    -7058.598461315,  0.460368852 },
-          {    0.000306e-6,    10575.406682942,  0.554749016 },
-          {    0.000251e-6,    17298.182327326,  0.834332510 },
-          {    0.000290e-6,     4732.030627343,  4.759564091 },
-          {    0.000261e-6,     5884.926846583,  0.298259862 },
-       /* 621, 630 */
-          {    0.000249e-6,     5547.199336460,  3.749366406 },
-          {    0.000213e-6,    11712.955318231,  5.415666119 },
-          {    0.000223e-6,     4701.116501708,  2.703203558 },
-          {    0.000268e-6,     -640.877607382,  0.283670793 },
-          {    0.000209e-6,     5636.065016677,  1.238477199 },
-          {    0.000193e-6,    10177.257679534,  1.943251340 },
-          {    0.000182e-6,     6283.143160294,  2.456157599 },
-          {    0.000184e-6,     -227.526189440,  5.888038582 },
-          {    0.000182e-6,    -6283.008539689,  0.241332086 },
-          {    0.000228e-6,    -6284.056171060,  2.657323816 },
-       /* 631, 640 */
-          {    0.000166e-6,     7238.675591600,  5.930629110 },
-          {    0.000167e-6,     3097.883822726,  5.570955333 },
-          {    0.000159e-6,     -323.505416657,  5.786670700 },
-          {    0.000154e-6,    -4136.910433516,  1.517805532 },
-          {    0.000176e-6,    12029.347187887,  3.139266834 },
-          {    0.000167e-6,    12132.439962106,  3.556352289 },
-          {    0.000153e-6,      202.253395174,  1.463313961 },
-          {    0.000157e-6,    17267.268201691,  1.586837396 },
-          {    0.000142e-6,    83996.847317911,  0.022670115 },
-          {    0.000152e-6,    17260.154654690,  0.708528947 },
-       /* 641, 650 */
-          {    0.000144e-6,     6084.003848555,  5.187075177 },
-          {    0.000135e-6,     5756.566278634,  1.993229262 },
-          {    0.000134e-6,     5750.203491159,  3.457197134 },
-          {    0.000144e-6,     5326.786694021,  6.066193291 },
-          {    0.000160e-6,    11015.106477335,  1.710431974 },
-          {    0.000133e-6,     3634.621024518,  2.836451652 },
-          {    0.000134e-6,    18073.704938650,  5.453106665 },
-          {    0.000134e-6,     1162.474704408,  5.326898811 },
-          {    0.000128e-6,     5642.198242609,  2.511652591 },
-          {    0.000160e-6,      632.783739313,  5.628785365 },
-       /* 651, 660 */
-          {    0.000132e-6,    13916.019109642,  0.819294053 },
-          {    0.000122e-6,    14314.168113050,  5.677408071 },
-          {    0.000125e-6,    12359.966151546,  5.251984735 },
-          {    0.000121e-6,     5749.452731634,  2.210924603 },
-          {    0.000136e-6,     -245.831646229,  1.646502367 },
-          {    0.000120e-6,     5757.317038160,  3.240883049 },
-          {    0.000134e-6,    12146.667056108,  3.059480037 },
-          {    0.000137e-6,     6206.809778716,  1.867105418 },
-          {    0.000141e-6,    17253.041107690,  2.069217456 },
-          {    0.000129e-6,    -7477.522860216,  2.781469314 },
-       /* 661, 670 */
-          {    0.000116e-6,     5540.085789459,  4.281176991 },
-          {    0.000116e-6,     9779.108676125,  3.320925381 },
-          {    0.000129e-6,     5237.921013804,  3.497704076 },
-          {    0.000113e-6,     5959.570433334,  0.983210840 },
-          {    0.000122e-6,     6282.095528923,  2.674938860 },
-          {    0.000140e-6,      -11.045700264,  4.957936982 },
-          {    0.000108e-6,    23543.230504682,  1.390113589 },
-          {    0.000106e-6,   -12569.674818332,  0.429631317 },
-          {    0.000110e-6,     -266.607041722,  5.501340197 },
-          {    0.000115e-6,    12559.038152982,  4.691456618 },
-       /* 671, 680 */
-          {    0.000134e-6,    -2388.894020449,  0.577313584 },
-          {    0.000109e-6,    10440.274292604,  6.218148717 },
-          {    0.000102e-6,     -543.918059096,  1.477842615 },
-          {    0.000108e-6,    21228.392023546,  2.237753948 },
-          {    0.000101e-6,    -4535.059436924,  3.100492232 },
-          {    0.000103e-6,       76.266071276,  5.594294322 },
-          {    0.000104e-6,      949.175608970,  5.674287810 },
-          {    0.000101e-6,    13517.870106233,  2.196632348 },
-          {    0.000100e-6,    11933.367960670,  4.056084160 },
-
-       /* T^2 */
-          {    4.322990e-6,     6283.075849991,  2.642893748 },
-       /* 681, 690 */
-          {    0.406495e-6,        0.000000000,  4.712388980 },
-          {    0.122605e-6,    12566.151699983,  2.438140634 },
-          {    0.019476e-6,      213.299095438,  1.642186981 },
-          {    0.016916e-6,      529.690965095,  4.510959344 },
-          {    0.013374e-6,       -3.523118349,  1.502210314 },
-          {    0.008042e-6,       26.298319800,  0.478549024 },
-          {    0.007824e-6,      155.420399434,  5.254710405 },
-          {    0.004894e-6,     5746.271337896,  4.683210850 },
-          {    0.004875e-6,     5760.498431898,  0.759507698 },
-          {    0.004416e-6,     5223.693919802,  6.028853166 },
-       /* 691, 700 */
-          {    0.004088e-6,       -7.113547001,  0.060926389 },
-          {    0.004433e-6,    77713.771467920,  3.627734103 },
-          {    0.003277e-6,    18849.227549974,  2.327912542 },
-          {    0.002703e-6,     6062.663207553,  1.271941729 },
-          {    0.003435e-6,     -775.522611324,  0.747446224 },
-          {    0.002618e-6,     6076.890301554,  3.633715689 },
-          {    0.003146e-6,      206.185548437,  5.647874613 },
-          {    0.002544e-6,     1577.343542448,  6.232904270 },
-          {    0.002218e-6,     -220.412642439,  1.309509946 },
-          {    0.002197e-6,     5856.477659115,  2.407212349 },
-       /* 701, 710 */
-          {    0.002897e-6,     5753.384884897,  5.863842246 },
-          {    0.001766e-6,      426.598190876,  0.754113147 },
-          {    0.001738e-6,     -796.298006816,  2.714942671 },
-          {    0.001695e-6,      522.577418094,  2.629369842 },
-          {    0.001584e-6,     5507.553238667,  1.341138229 },
-          {    0.001503e-6,     -242.728603974,  0.377699736 },
-          {    0.001552e-6,     -536.804512095,  2.904684667 },
-          {    0.001370e-6,     -398.149003408,  1.265599125 },
-          {    0.001889e-6,    -5573.142801634,  4.413514859 },
-          {    0.001722e-6,     6069.776754553,  2.445966339 },
-       /* 711, 720 */
-          {    0.001124e-6,     1059.381930189,  5.041799657 },
-          {    0.001258e-6,      553.569402842,  3.849557278 },
-          {    0.000831e-6,      951.718406251,  2.471094709 },
-          {    0.000767e-6,     4694.002954708,  5.363125422 },
-          {    0.000756e-6,     1349.867409659,  1.046195744 },
-          {    0.000775e-6,      -11.045700264,  0.245548001 },
-          {    0.000597e-6,     2146.165416475,  4.543268798 },
-          {    0.000568e-6,     5216.580372801,  4.178853144 },
-          {    0.000711e-6,     1748.016413067,  5.934271972 },
-          {    0.000499e-6,    12036.460734888,  0.624434410 },
-       /* 721, 730 */
-          {    0.000671e-6,    -1194.447010225,  4.136047594 },
-          {    0.000488e-6,     5849.364112115,  2.209679987 },
-          {    0.000621e-6,     6438.496249426,  4.518860804 },
-          {    0.000495e-6,    -6286.598968340,  1.868201275 },
-          {    0.000456e-6,     5230.807466803,  1.271231591 },
-          {    0.000451e-6,     5088.628839767,  0.084060889 },
-          {    0.000435e-6,     5643.178563677,  3.324456609 },
-          {    0.000387e-6,    10977.078804699,  4.052488477 },
-          {    0.000547e-6,   161000.685737473,  2.841633844 },
-          {    0.000522e-6,     3154.687084896,  2.171979966 },
-       /* 731, 740 */
-          {    0.000375e-6,     5486.777843175,  4.983027306 },
-          {    0.000421e-6,     5863.591206116,  4.546432249 },
-          {    0.000439e-6,     7084.896781115,  0.522967921 },
-          {    0.000309e-6,     2544.314419883,  3.172606705 },
-          {    0.000347e-6,     4690.479836359,  1.479586566 },
-          {    0.000317e-6,      801.820931124,  3.553088096 },
-          {    0.000262e-6,      419.484643875,  0.606635550 },
-          {    0.000248e-6,     6836.645252834,  3.014082064 },
-          {    0.000245e-6,    -1592.596013633,  5.519526220 },
-          {    0.000225e-6,     4292.330832950,  2.877956536 },
-       /* 741, 750 */
-          {    0.000214e-6,     7234.794256242,  1.605227587 },
-          {    0.000205e-6,     5767.611978898,  0.625804796 },
-          {    0.000180e-6,    10447.387839604,  3.499954526 },
-          {    0.000229e-6,      199.072001436,  5.632304604 },
-          {    0.000214e-6,      639.897286314,  5.960227667 },
-          {    0.000175e-6,     -433.711737877,  2.162417992 },
-          {    0.000209e-6,      515.463871093,  2.322150893 },
-          {    0.000173e-6,     6040.347246017,  2.556183691 },
-          {    0.000184e-6,     6309.374169791,  4.732296790 },
-          {    0.000227e-6,   149854.400134205,  5.385812217 },
-       /* 751, 760 */
-          {    0.000154e-6,     8031.092263058,  5.120720920 },
-          {    0.000151e-6,     5739.157790895,  4.815000443 },
-          {    0.000197e-6,     7632.943259650,  0.222827271 },
-          {    0.000197e-6,       74.781598567,  3.910456770 },
-          {    0.000138e-6,     6055.549660552,  1.397484253 },
-          {    0.000149e-6,    -6127.655450557,  5.333727496 },
-          {    0.000137e-6,     3894.181829542,  4.281749907 },
-          {    0.000135e-6,     9437.762934887,  5.979971885 },
-          {    0.000139e-6,    -2352.866153772,  4.715630782 },
-          {    0.000142e-6,     6812.766815086,  0.513330157 },
-       /* 761, 770 */
-          {    0.000120e-6,    -4705.732307544,  0.194160689 },
-          {    0.000131e-6,   -71430.695617928,  0.000379226 },
-          {    0.000124e-6,     6279.552731642,  2.122264908 },
-          {    0.000108e-6,    -6256.777530192,  0.883445696 },
-
-       /* T^3 */
-          {    0.143388e-6,     6283.075849991,  1.131453581 },
-          {    0.006671e-6,    12566.151699983,  0.775148887 },
-          {    0.001480e-6,      155.420399434,  0.480016880 },
-          {    0.000934e-6,      213.299095438,  6.144453084 },
-          {    0.000795e-6,      529.690965095,  2.941595619 },
-          {    0.000673e-6,     5746.271337896,  0.120415406 },
-       /* 771, 780 */
-          {    0.000672e-6,     5760.498431898,  5.317009738 },
-          {    0.000389e-6,     -220.412642439,  3.090323467 },
-          {    0.000373e-6,     6062.663207553,  3.003551964 },
-          {    0.000360e-6,     6076.890301554,  1.918913041 },
-          {    0.000316e-6,      -21.340641002,  5.545798121 },
-          {    0.000315e-6,     -242.728603974,  1.884932563 },
-          {    0.000278e-6,      206.185548437,  1.266254859 },
-          {    0.000238e-6,     -536.804512095,  4.532664830 },
-          {    0.000185e-6,      522.577418094,  4.578313856 },
-          {    0.000245e-6,    18849.227549974,  0.587467082 },
-       /* 781, 787 */
-          {    0.000180e-6,      426.598190876,  5.151178553 },
-          {    0.000200e-6,      553.569402842,  5.355983739 },
-          {    0.000141e-6,     5223.693919802,  1.336556009 },
-          {    0.000104e-6,     5856.477659115,  4.239842759 },
-
-       /* T^4 */
-          {    0.003826e-6,     6283.075849991,  5.705257275 },
-          {    0.000303e-6,    12566.151699983,  5.407132842 },
-          {    0.000209e-6,      155.420399434,  1.989815753 }
-       };
 
 
     /* Time since J2000.0 in Julian millennia. */
@@ -4021,39 +4350,17 @@ public final static int IYV = 2015;
     /* Fairhead et al. model */
     /* ===================== */
 
-    /* T**0 */
-       w0 = 0;
-       for (j = 473; j >= 0; j--) {
-          w0 += fairhd[j][0] * sin(fairhd[j][1] * t + fairhd[j][2]);
-       }
-
-    /* T**1 */
-       w1 = 0;
-       for (j = 678; j >= 474; j--) {
-          w1 += fairhd[j][0] * sin(fairhd[j][1] * t + fairhd[j][2]);
-       }
-
-    /* T**2 */
-       w2 = 0;
-       for (j = 763; j >= 679; j--) {
-          w2 += fairhd[j][0] * sin(fairhd[j][1] * t + fairhd[j][2]);
-       }
-
-    /* T**3 */
-       w3 = 0;
-       for (j = 783; j >= 764; j--) {
-          w3 += fairhd[j][0] * sin(fairhd[j][1] * t + fairhd[j][2]);
-       }
-
-    /* T**4 */
-       w4 = 0;
-       for (j = 786; j >= 784; j--) {
-          w4 += fairhd[j][0] * sin(fairhd[j][1] * t + fairhd[j][2]);
+    /* Sum the terms for each power of T, highest first, and combine */
+    /* by multiplying by T as we go. */
+       wf = 0.0;
+       for (k = 4; k >= 0; k--) {
+          wk = 0.0;
+          for (j = Fairhead.group[k+1] - 1; j >= Fairhead.group[k]; j--) {
+             wk += Fairhead.amp[j] * sin(Fairhead.freq[j] * t + Fairhead.phase[j]);
+          }
+          wf = wf * t + wk;
        }
 
-    /* Multiply by powers of T and combine. */
-       wf = t * (t * (t * (t * w4 + w3) + w2) + w1) + w0;
-
     /* Adjustments to use JPL planetary masses instead of IAU. */
        wj =   0.00065e-6 * sin(6069.776754 * t + 4.021194) +
               0.00033e-6 * sin( 213.299095 * t + 5.543132) +
@@ -4142,11 +4449,32 @@ public final static int IYV = 2015;
     */
     public static double jauEe00(double date1, double date2, double epsa, double dpsi)
     {
-       double ee;
+       return jauEe00(jauFa03(date1, date2), epsa, dpsi);
+
+        }
+
+    /**
+    **  The equation of the equinoxes, compatible with IAU 2000 resolutions,
+    **  given the nutation in longitude and the mean obliquity, from
+    **  fundamental arguments already evaluated.
+    **  See {@link #jauEe00(double, double, double, double)}.
+    **
+    **<!-- Given: -->
+    **     @param args    FundamentalArguments  TT date and fundamental arguments,
+    **                                          see {@link #jauFa03}
+    **     @param epsa    double                mean obliquity (Note 2 of jauEe00)
+    **     @param dpsi    double                nutation in longitude (Note 3 of jauEe00)
+    **
+    ** <!-- Returned (function value): -->
+    **  @return double  equation of the equinoxes (Note 4 of jauEe00)
+    */
+    public static double jauEe00(FundamentalArguments args, double epsa, double dpsi)
+    {
+       double ee;
 
 
     /* Equation of the equinoxes. */
-       ee = dpsi * cos(epsa) + jauEect00(date1, date2);
+       ee = dpsi * cos(epsa) + jauEect00(args);
 
        return ee;
 
@@ -4516,6 +4844,24 @@ public final static int IYV = 2015;
     **  <!-- Copyright (C) 2009 IAU SOFA Review Board.  See notes at end -->
     */
     public static double jauEect00(double date1, double date2)
+    {
+       return jauEect00(jauFa03(date1, date2));
+
+        }
+
+    /**
+    **  Equation of the equinoxes complementary terms, consistent with IAU 2000
+    **  resolutions, from fundamental arguments already evaluated.
+    **  See {@link #jauEect00(double, double)}.
+    **
+    **<!-- Given: -->
+    **     @param args    FundamentalArguments  TT date and fundamental arguments,
+    **                                          see {@link #jauFa03}
+    **
+    ** <!-- Returned (function value): -->
+    **  @return double  complementary terms (Note 2 of jauEect00)
+    */
+    public static double jauEect00(FundamentalArguments args)
     {
     /* Time since J2000.0, in Julian centuries */
        double t;
@@ -4592,33 +4938,33 @@ public final static int IYV = 2015;
     /*--------------------------------------------------------------------*/
 
     /* Interval between fundamental epoch J2000.0 and current date (JC). */
-       t = ((date1 - DJ00) + date2) / DJC;
+       t = args.t;
 
     /* Fundamental Arguments (from IERS Conventions 2003) */
 
     /* Mean anomaly of the Moon. */
-       fa[0] = jauFal03(t);
+       fa[0] = args.l;
 
     /* Mean anomaly of the Sun. */
-       fa[1] = jauFalp03(t);
+       fa[1] = args.lp;
 
     /* Mean longitude of the Moon minus that of the ascending node. */
-       fa[2] = jauFaf03(t);
+       fa[2] = args.f;
 
     /* Mean elongation of the Moon from the Sun. */
-       fa[3] = jauFad03(t);
+       fa[3] = args.d;
 
     /* Mean longitude of the ascending node of the Moon. */
-       fa[4] = jauFaom03(t);
+       fa[4] = args.om;
 
     /* Mean longitude of Venus. */
-       fa[5] = jauFave03(t);
+       fa[5] = args.ve;
 
     /* Mean longitude of Earth. */
-       fa[6] = jauFae03(t);
+       fa[6] = args.ea;
 
     /* General precession in longitude. */
-       fa[7] = jauFapa03(t);
+       fa[7] = args.pa;
 
     /* Evaluate the EE complementary terms. */
        s0 = 0.0;
@@ -5084,7 +5430,7 @@ public final static int IYV = 2015;
     /*
      * A utility class to get round 65536 byte limit on functions in java - The static initializer is too large on its own. - So split into two classes for no real semantic reason
      */        
-    static private final class Ephemeris extends SSB {
+    static final class Ephemeris extends SSB {
        
 
     /**
@@ -6609,7 +6955,7 @@ public final static int IYV = 2015;
 
     }
       //subclassed the 
-      private static class SSB {
+      static class SSB {
     /* SSB-to-Sun, T^0, X */
       static final double s0x[] = {
           0.4956757536410e-02, 0.3741073751789e+01, 0.5296909721118e+00,
@@ -8562,6 +8908,118 @@ public final static int IYV = 2015;
         }
     
 
+    /**
+     * The fundamental arguments of the IERS Conventions (2003) at one
+     * epoch, as used by the nutation, CIP and CIO locator series.
+     *
+     * Several of those series are usually evaluated for the same date; by
+     * computing this once and passing it to the overloads that accept it,
+     * each argument is evaluated only once.  Instances are immutable.
+     *
+     * @see JSOFA#jauFa03(double, double)
+     */
+    @ThreadSafe
+    public static class FundamentalArguments {
+        /** TT date, first part */
+        public final double date1;
+        /** TT date, second part */
+        public final double date2;
+        /** TT, Julian centuries since J2000.0 */
+        public final double t;
+        /** mean anomaly of the Moon, l ({@link JSOFA#jauFal03}) */
+        public final double l;
+        /** mean anomaly of the Sun, l' ({@link JSOFA#jauFalp03}) */
+        public final double lp;
+        /** mean longitude of the Moon minus that of the node, F ({@link JSOFA#jauFaf03}) */
+        public final double f;
+        /** mean elongation of the Moon from the Sun, D ({@link JSOFA#jauFad03}) */
+        public final double d;
+        /** mean longitude of the Moon's ascending node, Omega ({@link JSOFA#jauFaom03}) */
+        public final double om;
+        /** mean longitude of Mercury ({@link JSOFA#jauFame03}) */
+        public final double me;
+        /** mean longitude of Venus ({@link JSOFA#jauFave03}) */
+        public final double ve;
+        /** mean longitude of Earth ({@link JSOFA#jauFae03}) */
+        public final double ea;
+        /** mean longitude of Mars ({@link JSOFA#jauFama03}) */
+        public final double ma;
+        /** mean longitude of Jupiter ({@link JSOFA#jauFaju03}) */
+        public final double ju;
+        /** mean longitude of Saturn ({@link JSOFA#jauFasa03}) */
+        public final double sa;
+        /** mean longitude of Uranus ({@link JSOFA#jauFaur03}) */
+        public final double ur;
+        /** mean longitude of Neptune ({@link JSOFA#jauFane03}) */
+        public final double ne;
+        /** general accumulated precession in longitude ({@link JSOFA#jauFapa03}) */
+        public final double pa;
+
+        /**
+         * Evaluate the arguments.
+         * @param date1,date2  double  TT as a 2-part Julian Date
+         */
+        public FundamentalArguments(double date1, double date2) {
+            this.date1 = date1;
+            this.date2 = date2;
+            t = ((date1 - DJ00) + date2) / DJC;
+            l = jauFal03(t);
+            lp = jauFalp03(t);
+            f = jauFaf03(t);
+            d = jauFad03(t);
+            om = jauFaom03(t);
+            me = jauFame03(t);
+            ve = jauFave03(t);
+            ea = jauFae03(t);
+            ma = jauFama03(t);
+            ju = jauFaju03(t);
+            sa = jauFasa03(t);
+            ur = jauFaur03(t);
+            ne = jauFane03(t);
+            pa = jauFapa03(t);
+        }
+    }
+
+    /** the fundamental arguments most recently evaluated in each thread */
+    private static final ThreadLocal<FundamentalArguments> lastFundamentalArguments =
+            new ThreadLocal<FundamentalArguments>();
+
+    /**
+    **  Fundamental arguments, IERS Conventions (2003), for a given date.
+    **
+    **<p>Status:  support function.
+    **
+    **<!-- Given: -->
+    **     @param date1,date2   double     TT as a 2-part Julian Date
+    **
+    ** <!-- Returned (function value): -->
+    **  @return FundamentalArguments  the fourteen arguments
+    **
+    ** <p>Notes:
+    ** <ol>
+    **
+    ** <li> Each thread remembers the arguments for the last date it asked
+    **     for, so that the series routines called in turn for one date,
+    **     such as {@link #jauNut00a}, {@link #jauS06}, {@link #jauXy06} and
+    **     {@link #jauEect00}, share a single evaluation.  The date must
+    **     match exactly, in both parts, for the remembered value to be used.
+    **
+    ** <li> The result is immutable and can be passed to the overloads of
+    **     those routines that take a FundamentalArguments.
+    **
+    ** </ol>
+    */
+    public static FundamentalArguments jauFa03(double date1, double date2)
+    {
+       FundamentalArguments fa = lastFundamentalArguments.get();
+       if (fa == null || fa.date1 != date1 || fa.date2 != date2) {
+          fa = new FundamentalArguments(date1, date2);
+          lastFundamentalArguments.set(fa);
+       }
+       return fa;
+    }
+    
+
     /**
     **  Transform FK5 (J2000.0) star data into the Hipparcos system.
     **
@@ -8972,6 +9430,36 @@ public static class SphericalCoordinateEO {
 
         }
     
+    /**
+    **  Form rotation matrix given the Fukushima-Williams angles, as a flat
+    **  r-matrix.  See {@link #jauFw2m(double, double, double, double)}.
+    **
+    **  The r-matrix is held as a flat double[9] in row-major order, so
+    **  that element [i][j] of the usual form is element [3*i+j].
+    **
+    **<!-- Given: -->
+    **     @param gamb      double          F-W angle gamma_bar (radians)
+    **     @param phib      double          F-W angle phi_bar (radians)
+    **     @param psi       double          F-W angle psi (radians)
+    **     @param eps       double          F-W angle epsilon (radians)
+    **
+    **<!-- Returned: -->
+    **     @param r         double[9]       <u>returned</u> rotation matrix
+    **     @return r
+    */
+    public static double[] jauFw2m(double gamb, double phib, double psi, double eps, double r[])
+    {
+    /* Construct the matrix. */
+       jauIr(r);
+       jauRz(gamb, r);
+       jauRx(phib, r);
+       jauRz(-psi, r);
+       jauRx(-eps, r);
+
+       return r;
+
+        }
+    
 
     /**
     **  CIP X,Y given Fukushima-Williams bias-precession-nutation angles.
@@ -10451,6 +10939,27 @@ public static class SphericalCoordinateEO {
 
         }
     
+    /**
+    **  Initialize a flat r-matrix to the identity matrix.
+    **
+    **  The r-matrix is held as a flat double[9] in row-major order, so
+    **  that element [i][j] of the usual form is element [3*i+j].
+    **
+    **<p>Status:  vector/matrix support function.
+    **
+    **<!-- Returned: -->
+    **     @param r        double[9]      <u>returned</u> r-matrix
+    */
+    public static void jauIr(double r[])
+    {
+       r[0] = 1.0; r[1] = 0.0; r[2] = 0.0;
+       r[3] = 0.0; r[4] = 1.0; r[5] = 0.0;
+       r[6] = 0.0; r[7] = 0.0; r[8] = 1.0;
+
+       return;
+
+        }
+    
 
     /**
     **  Julian Date to Gregorian year, month, day, and fraction of a day.
@@ -10502,6 +11011,9 @@ public static class SphericalCoordinateEO {
     **     P. Kenneth Seidelmann (ed), University Science Books (1992),
     **     Section 12.92 (p604).
     **
+    **<p>This form allocates the Calendar it returns;  in loops use
+    **  {@link #jauJd2cal(double, double, int[])} with a reused array.
+    **
     **<p>This revision:  2008 May 26
     **
     **  @since Release 20101201
@@ -10509,6 +11021,27 @@ public static class SphericalCoordinateEO {
     **  <!-- Copyright (C) 2009 IAU SOFA Review Board.  See notes at end -->
     */
     public static Calendar jauJd2cal(double dj1, double dj2) throws JSOFAIllegalParameter
+    {
+       final int ymd[] = new int[3];
+       final double fd = jauJd2cal(dj1, dj2, ymd);
+       return new Calendar(ymd[0], ymd[1], ymd[2], fd);
+    }
+
+    /**
+    **  Julian Date to Gregorian year, month, day, and fraction of a day,
+    **  as {@link #jauJd2cal(double, double)} but into an array supplied by
+    **  the caller, so that nothing is allocated.
+    **
+    **<!-- Given: -->
+    **     @param dj1,dj2    double    Julian Date
+    **
+    **<!-- Returned: -->
+    **     @param ymd        int[3]    <u>returned</u> year, month, day
+    **
+    **     @return double   fraction of day
+    **     @throws JSOFAIllegalParameter  unacceptable date
+    */
+    public static double jauJd2cal(double dj1, double dj2, int ymd[]) throws JSOFAIllegalParameter
     {
     /* Minimum and maximum allowed JD */
        final double djmin = -68569.5;
@@ -10520,7 +11053,7 @@ public static class SphericalCoordinateEO {
 
     /* Verify date is acceptable. */
        dj = dj1 + dj2;
-       if (dj < djmin || dj > djmax) throw new JSOFAIllegalParameter("input julian date out of range", -1);
+       if (dj < djmin || dj > djmax) throw new JSOFAIllegalParameter("input julian date out of range", -1, false);
 
     /* Copy the date, big then small, and re-align to midnight. */
        if (dj1 >= dj2) {
@@ -10533,9 +11066,9 @@ public static class SphericalCoordinateEO {
        d2 -= 0.5;
 
     /* Separate day and fraction. */
-       f1 = fmod(d1, 1.0);
-       f2 = fmod(d2, 1.0);
-       f = fmod(f1 + f2, 1.0);
+       f1 = frac(d1);
+       f2 = frac(d2);
+       f = frac(f1 + f2);
        if (f < 0.0) f += 1.0;
        d = floor(d1 - f1) + floor(d2 - f2) + floor(f1 + f2 - f);
        jd = (long) floor(d) + 1L;
@@ -10547,13 +11080,13 @@ public static class SphericalCoordinateEO {
        i = (4000L * (l + 1L)) / 1461001L;
        l -= (1461L * i) / 4L - 31L;
        k = (80L * l) / 2447L;
-       int id = (int) (l - (2447L * k) / 80L);
+       ymd[2] = (int) (l - (2447L * k) / 80L);
        l = k / 11L;
-       int im = (int) (k + 2L - 12L * l);
-       int iy = (int) (100L * (n - 49L) + i + l);
-      
+       ymd[1] = (int) (k + 2L - 12L * l);
+       ymd[0] = (int) (100L * (n - 49L) + i + l);
 
-       return new Calendar(iy, im, id, f);
+
+       return f;
 
         }
      
@@ -10966,6 +11499,1766 @@ public static class SphericalCoordinateEO {
             this.deps = deps;
         }
     }
+    /*
+     * IAU 2000A nutation series used by jauNut00a, held as static columns so
+     * that the tables are built once rather than on every call. The row data
+     * are spread over several methods to get round the 65535 byte limit on
+     * the size of a method.
+     */
+
+    /**
+     * Luni-solar part of the IAU 2000A (MHB2000) nutation model. The units
+     * for the sine and cosine coefficients are 0.1 microarcsecond and the
+     * same per Julian century.
+     */
+    static final class Nut00aLuniSolar {
+        /** Number of terms in the luni-solar nutation model */
+        static final int NLS;
+        /** coefficients of l,l',F,D,Om */
+        static final int nl[], nlp[], nf[], nd[], nom[];
+        /** longitude sin, t*sin, cos coefficients */
+        static final double sp[], spt[], cp[];
+        /** obliquity cos, t*cos, sin coefficients */
+        static final double ce[], cet[], se[];
+
+        static {
+            final double r1[] = rows1(), r2[] = rows2();
+            final double rows[] = new double[r1.length + r2.length];
+            System.arraycopy(r1, 0, rows, 0, r1.length);
+            System.arraycopy(r2, 0, rows, r1.length, r2.length);
+            NLS = rows.length / 11;
+            nl = new int[NLS]; nlp = new int[NLS]; nf = new int[NLS];
+            nd = new int[NLS]; nom = new int[NLS];
+            sp = new double[NLS]; spt = new double[NLS]; cp = new double[NLS];
+            ce = new double[NLS]; cet = new double[NLS]; se = new double[NLS];
+            for (int i = 0, k = 0; i < NLS; i++, k += 11) {
+                nl[i]  = (int)rows[k];
+                nlp[i] = (int)rows[k+1];
+                nf[i]  = (int)rows[k+2];
+                nd[i]  = (int)rows[k+3];
+                nom[i] = (int)rows[k+4];
+                sp[i]  = rows[k+5];
+                spt[i] = rows[k+6];
+                cp[i]  = rows[k+7];
+                ce[i]  = rows[k+8];
+                cet[i] = rows[k+9];
+                se[i]  = rows[k+10];
+            }
+        }
+
+        private static double[] rows1() {
+            return new double[] {
+            /* 1- 10 */
+                  0,   0,   0,   0,   1, -172064161.0, -174666.0,  33386.0,   92052331.0,   9086.0,  15377.0,
+                  0,   0,   2,  -2,   2,  -13170906.0,   -1675.0, -13696.0,    5730336.0,  -3015.0,  -4587.0,
+                  0,   0,   2,   0,   2,   -2276413.0,    -234.0,   2796.0,     978459.0,   -485.0,   1374.0,
+                  0,   0,   0,   0,   2,    2074554.0,     207.0,   -698.0,    -897492.0,    470.0,   -291.0,
+                  0,   1,   0,   0,   0,    1475877.0,   -3633.0,  11817.0,      73871.0,   -184.0,  -1924.0,
+                  0,   1,   2,  -2,   2,    -516821.0,    1226.0,   -524.0,     224386.0,   -677.0,   -174.0,
+                  1,   0,   0,   0,   0,     711159.0,      73.0,   -872.0,      -6750.0,      0.0,    358.0,
+                  0,   0,   2,   0,   1,    -387298.0,    -367.0,    380.0,     200728.0,     18.0,    318.0,
+                  1,   0,   2,   0,   2,    -301461.0,     -36.0,    816.0,     129025.0,    -63.0,    367.0,
+                  0,  -1,   2,  -2,   2,     215829.0,    -494.0,    111.0,     -95929.0,    299.0,    132.0,
+
+            /* 11-20 */
+                  0,   0,   2,  -2,   1,     128227.0,     137.0,    181.0,     -68982.0,     -9.0,     39.0,
+                 -1,   0,   2,   0,   2,     123457.0,      11.0,     19.0,     -53311.0,     32.0,     -4.0,
+                 -1,   0,   0,   2,   0,     156994.0,      10.0,   -168.0,      -1235.0,      0.0,     82.0,
+                  1,   0,   0,   0,   1,      63110.0,      63.0,     27.0,     -33228.0,      0.0,     -9.0,
+                 -1,   0,   0,   0,   1,     -57976.0,     -63.0,   -189.0,      31429.0,      0.0,    -75.0,
+                 -1,   0,   2,   2,   2,     -59641.0,     -11.0,    149.0,      25543.0,    -11.0,     66.0,
+                  1,   0,   2,   0,   1,     -51613.0,     -42.0,    129.0,      26366.0,      0.0,     78.0,
+                 -2,   0,   2,   0,   1,      45893.0,      50.0,     31.0,     -24236.0,    -10.0,     20.0,
+                  0,   0,   0,   2,   0,      63384.0,      11.0,   -150.0,      -1220.0,      0.0,     29.0,
+                  0,   0,   2,   2,   2,     -38571.0,      -1.0,    158.0,      16452.0,    -11.0,     68.0,
+
+            /* 21-30 */
+                  0,  -2,   2,  -2,   2,      32481.0,       0.0,      0.0,     -13870.0,      0.0,      0.0,
+                 -2,   0,   0,   2,   0,     -47722.0,       0.0,    -18.0,        477.0,      0.0,    -25.0,
+                  2,   0,   2,   0,   2,     -31046.0,      -1.0,    131.0,      13238.0,    -11.0,     59.0,
+                  1,   0,   2,  -2,   2,      28593.0,       0.0,     -1.0,     -12338.0,     10.0,     -3.0,
+                 -1,   0,   2,   0,   1,      20441.0,      21.0,     10.0,     -10758.0,      0.0,     -3.0,
+                  2,   0,   0,   0,   0,      29243.0,       0.0,    -74.0,       -609.0,      0.0,     13.0,
+                  0,   0,   2,   0,   0,      25887.0,       0.0,    -66.0,       -550.0,      0.0,     11.0,
+                  0,   1,   0,   0,   1,     -14053.0,     -25.0,     79.0,       8551.0,     -2.0,    -45.0,
+                 -1,   0,   0,   2,   1,      15164.0,      10.0,     11.0,      -8001.0,      0.0,     -1.0,
+                  0,   2,   2,  -2,   2,     -15794.0,      72.0,    -16.0,       6850.0,    -42.0,     -5.0,
+
+            /* 31-40 */
+                  0,   0,  -2,   2,   0,      21783.0,       0.0,     13.0,       -167.0,      0.0,     13.0,
+                  1,   0,   0,  -2,   1,     -12873.0,     -10.0,    -37.0,       6953.0,      0.0,    -14.0,
+                  0,  -1,   0,   0,   1,     -12654.0,      11.0,     63.0,       6415.0,      0.0,     26.0,
+                 -1,   0,   2,   2,   1,     -10204.0,       0.0,     25.0,       5222.0,      0.0,     15.0,
+                  0,   2,   0,   0,   0,      16707.0,     -85.0,    -10.0,        168.0,     -1.0,     10.0,
+                  1,   0,   2,   2,   2,      -7691.0,       0.0,     44.0,       3268.0,      0.0,     19.0,
+                 -2,   0,   2,   0,   0,     -11024.0,       0.0,    -14.0,        104.0,      0.0,      2.0,
+                  0,   1,   2,   0,   2,       7566.0,     -21.0,    -11.0,      -3250.0,      0.0,     -5.0,
+                  0,   0,   2,   2,   1,      -6637.0,     -11.0,     25.0,       3353.0,      0.0,     14.0,
+                  0,  -1,   2,   0,   2,      -7141.0,      21.0,      8.0,       3070.0,      0.0,      4.0,
+
+            /* 41-50 */
+                  0,   0,   0,   2,   1,      -6302.0,     -11.0,      2.0,       3272.0,      0.0,      4.0,
+                  1,   0,   2,  -2,   1,       5800.0,      10.0,      2.0,      -3045.0,      0.0,     -1.0,
+                  2,   0,   2,  -2,   2,       6443.0,       0.0,     -7.0,      -2768.0,      0.0,     -4.0,
+                 -2,   0,   0,   2,   1,      -5774.0,     -11.0,    -15.0,       3041.0,      0.0,     -5.0,
+                  2,   0,   2,   0,   1,      -5350.0,       0.0,     21.0,       2695.0,      0.0,     12.0,
+                  0,  -1,   2,  -2,   1,      -4752.0,     -11.0,     -3.0,       2719.0,      0.0,     -3.0,
+                  0,   0,   0,  -2,   1,      -4940.0,     -11.0,    -21.0,       2720.0,      0.0,     -9.0,
+                 -1,  -1,   0,   2,   0,       7350.0,       0.0,     -8.0,        -51.0,      0.0,      4.0,
+                  2,   0,   0,  -2,   1,       4065.0,       0.0,      6.0,      -2206.0,      0.0,      1.0,
+                  1,   0,   0,   2,   0,       6579.0,       0.0,    -24.0,       -199.0,      0.0,      2.0,
+
+            /* 51-60 */
+                  0,   1,   2,  -2,   1,       3579.0,       0.0,      5.0,      -1900.0,      0.0,      1.0,
+                  1,  -1,   0,   0,   0,       4725.0,       0.0,     -6.0,        -41.0,      0.0,      3.0,
+                 -2,   0,   2,   0,   2,      -3075.0,       0.0,     -2.0,       1313.0,      0.0,     -1.0,
+                  3,   0,   2,   0,   2,      -2904.0,       0.0,     15.0,       1233.0,      0.0,      7.0,
+                  0,  -1,   0,   2,   0,       4348.0,       0.0,    -10.0,        -81.0,      0.0,      2.0,
+                  1,  -1,   2,   0,   2,      -2878.0,       0.0,      8.0,       1232.0,      0.0,      4.0,
+                  0,   0,   0,   1,   0,      -4230.0,       0.0,      5.0,        -20.0,      0.0,     -2.0,
+                 -1,  -1,   2,   2,   2,      -2819.0,       0.0,      7.0,       1207.0,      0.0,      3.0,
+                 -1,   0,   2,   0,   0,      -4056.0,       0.0,      5.0,         40.0,      0.0,     -2.0,
+                  0,  -1,   2,   2,   2,      -2647.0,       0.0,     11.0,       1129.0,      0.0,      5.0,
+
+            /* 61-70 */
+                 -2,   0,   0,   0,   1,      -2294.0,       0.0,    -10.0,       1266.0,      0.0,     -4.0,
+                  1,   1,   2,   0,   2,       2481.0,       0.0,     -7.0,      -1062.0,      0.0,     -3.0,
+                  2,   0,   0,   0,   1,       2179.0,       0.0,     -2.0,      -1129.0,      0.0,     -2.0,
+                 -1,   1,   0,   1,   0,       3276.0,       0.0,      1.0,         -9.0,      0.0,      0.0,
+                  1,   1,   0,   0,   0,      -3389.0,       0.0,      5.0,         35.0,      0.0,     -2.0,
+                  1,   0,   2,   0,   0,       3339.0,       0.0,    -13.0,       -107.0,      0.0,      1.0,
+                 -1,   0,   2,  -2,   1,      -1987.0,       0.0,     -6.0,       1073.0,      0.0,     -2.0,
+                  1,   0,   0,   0,   2,      -1981.0,       0.0,      0.0,        854.0,      0.0,      0.0,
+                 -1,   0,   0,   1,   0,       4026.0,       0.0,   -353.0,       -553.0,      0.0,   -139.0,
+                  0,   0,   2,   1,   2,       1660.0,       0.0,     -5.0,       -710.0,      0.0,     -2.0,
+
+            /* 71-80 */
+                 -1,   0,   2,   4,   2,      -1521.0,       0.0,      9.0,        647.0,      0.0,      4.0,
+                 -1,   1,   0,   1,   1,       1314.0,       0.0,      0.0,       -700.0,      0.0,      0.0,
+                  0,  -2,   2,  -2,   1,      -1283.0,       0.0,      0.0,        672.0,      0.0,      0.0,
+                  1,   0,   2,   2,   1,      -1331.0,       0.0,      8.0,        663.0,      0.0,      4.0,
+                 -2,   0,   2,   2,   2,       1383.0,       0.0,     -2.0,       -594.0,      0.0,     -2.0,
+                 -1,   0,   0,   0,   2,       1405.0,       0.0,      4.0,       -610.0,      0.0,      2.0,
+                  1,   1,   2,  -2,   2,       1290.0,       0.0,      0.0,       -556.0,      0.0,      0.0,
+                 -2,   0,   2,   4,   2,      -1214.0,       0.0,      5.0,        518.0,      0.0,      2.0,
+                 -1,   0,   4,   0,   2,       1146.0,       0.0,     -3.0,       -490.0,      0.0,     -1.0,
+                  2,   0,   2,  -2,   1,       1019.0,       0.0,     -1.0,       -527.0,      0.0,     -1.0,
+
+            /* 81-90 */
+                  2,   0,   2,   2,   2,      -1100.0,       0.0,      9.0,        465.0,      0.0,      4.0,
+                  1,   0,   0,   2,   1,       -970.0,       0.0,      2.0,        496.0,      0.0,      1.0,
+                  3,   0,   0,   0,   0,       1575.0,       0.0,     -6.0,        -50.0,      0.0,      0.0,
+                  3,   0,   2,  -2,   2,        934.0,       0.0,     -3.0,       -399.0,      0.0,     -1.0,
+                  0,   0,   4,  -2,   2,        922.0,       0.0,     -1.0,       -395.0,      0.0,     -1.0,
+                  0,   1,   2,   0,   1,        815.0,       0.0,     -1.0,       -422.0,      0.0,     -1.0,
+                  0,   0,  -2,   2,   1,        834.0,       0.0,      2.0,       -440.0,      0.0,      1.0,
+                  0,   0,   2,  -2,   3,       1248.0,       0.0,      0.0,       -170.0,      0.0,      1.0,
+                 -1,   0,   0,   4,   0,       1338.0,       0.0,     -5.0,        -39.0,      0.0,      0.0,
+                  2,   0,  -2,   0,   1,        716.0,       0.0,     -2.0,       -389.0,      0.0,     -1.0,
+
+            /* 91-100 */
+                 -2,   0,   0,   4,   0,       1282.0,       0.0,     -3.0,        -23.0,      0.0,      1.0,
+                 -1,  -1,   0,   2,   1,        742.0,       0.0,      1.0,       -391.0,      0.0,      0.0,
+                 -1,   0,   0,   1,   1,       1020.0,       0.0,    -25.0,       -495.0,      0.0,    -10.0,
+                  0,   1,   0,   0,   2,        715.0,       0.0,     -4.0,       -326.0,      0.0,      2.0,
+                  0,   0,  -2,   0,   1,       -666.0,       0.0,     -3.0,        369.0,      0.0,     -1.0,
+                  0,  -1,   2,   0,   1,       -667.0,       0.0,      1.0,        346.0,      0.0,      1.0,
+                  0,   0,   2,  -1,   2,       -704.0,       0.0,      0.0,        304.0,      0.0,      0.0,
+                  0,   0,   2,   4,   2,       -694.0,       0.0,      5.0,        294.0,      0.0,      2.0,
+                 -2,  -1,   0,   2,   0,      -1014.0,       0.0,     -1.0,          4.0,      0.0,     -1.0,
+                  1,   1,   0,  -2,   1,       -585.0,       0.0,     -2.0,        316.0,      0.0,     -1.0,
+
+            /* 101-110 */
+                 -1,   1,   0,   2,   0,       -949.0,       0.0,      1.0,          8.0,      0.0,     -1.0,
+                 -1,   1,   0,   1,   2,       -595.0,       0.0,      0.0,        258.0,      0.0,      0.0,
+                  1,  -1,   0,   0,   1,        528.0,       0.0,      0.0,       -279.0,      0.0,      0.0,
+                  1,  -1,   2,   2,   2,       -590.0,       0.0,      4.0,        252.0,      0.0,      2.0,
+                 -1,   1,   2,   2,   2,        570.0,       0.0,     -2.0,       -244.0,      0.0,     -1.0,
+                  3,   0,   2,   0,   1,       -502.0,       0.0,      3.0,        250.0,      0.0,      2.0,
+                  0,   1,  -2,   2,   0,       -875.0,       0.0,      1.0,         29.0,      0.0,      0.0,
+                 -1,   0,   0,  -2,   1,       -492.0,       0.0,     -3.0,        275.0,      0.0,     -1.0,
+                  0,   1,   2,   2,   2,        535.0,       0.0,     -2.0,       -228.0,      0.0,     -1.0,
+                 -1,  -1,   2,   2,   1,       -467.0,       0.0,      1.0,        240.0,      0.0,      1.0,
+
+            /* 111-120 */
+                  0,  -1,   0,   0,   2,        591.0,       0.0,      0.0,       -253.0,      0.0,      0.0,
+                  1,   0,   2,  -4,   1,       -453.0,       0.0,     -1.0,        244.0,      0.0,     -1.0,
+                 -1,   0,  -2,   2,   0,        766.0,       0.0,      1.0,          9.0,      0.0,      0.0,
+                  0,  -1,   2,   2,   1,       -446.0,       0.0,      2.0,        225.0,      0.0,      1.0,
+                  2,  -1,   2,   0,   2,       -488.0,       0.0,      2.0,        207.0,      0.0,      1.0,
+                  0,   0,   0,   2,   2,       -468.0,       0.0,      0.0,        201.0,      0.0,      0.0,
+                  1,  -1,   2,   0,   1,       -421.0,       0.0,      1.0,        216.0,      0.0,      1.0,
+                 -1,   1,   2,   0,   2,        463.0,       0.0,      0.0,       -200.0,      0.0,      0.0,
+                  0,   1,   0,   2,   0,       -673.0,       0.0,      2.0,         14.0,      0.0,      0.0,
+                  0,  -1,  -2,   2,   0,        658.0,       0.0,      0.0,         -2.0,      0.0,      0.0,
+
+            /* 121-130 */
+                  0,   3,   2,  -2,   2,       -438.0,       0.0,      0.0,        188.0,      0.0,      0.0,
+                  0,   0,   0,   1,   1,       -390.0,       0.0,      0.0,        205.0,      0.0,      0.0,
+                 -1,   0,   2,   2,   0,        639.0,     -11.0,     -2.0,        -19.0,      0.0,      0.0,
+                  2,   1,   2,   0,   2,        412.0,       0.0,     -2.0,       -176.0,      0.0,     -1.0,
+                  1,   1,   0,   0,   1,       -361.0,       0.0,      0.0,        189.0,      0.0,      0.0,
+                  1,   1,   2,   0,   1,        360.0,       0.0,     -1.0,       -185.0,      0.0,     -1.0,
+                  2,   0,   0,   2,   0,        588.0,       0.0,     -3.0,        -24.0,      0.0,      0.0,
+                  1,   0,  -2,   2,   0,       -578.0,       0.0,      1.0,          5.0,      0.0,      0.0,
+                 -1,   0,   0,   2,   2,       -396.0,       0.0,      0.0,        171.0,      0.0,      0.0,
+                  0,   1,   0,   1,   0,        565.0,       0.0,     -1.0,         -6.0,      0.0,      0.0,
+
+            /* 131-140 */
+                  0,   1,   0,  -2,   1,       -335.0,       0.0,     -1.0,        184.0,      0.0,     -1.0,
+                 -1,   0,   2,  -2,   2,        357.0,       0.0,      1.0,       -154.0,      0.0,      0.0,
+                  0,   0,   0,  -1,   1,        321.0,       0.0,      1.0,       -174.0,      0.0,      0.0,
+                 -1,   1,   0,   0,   1,       -301.0,       0.0,     -1.0,        162.0,      0.0,      0.0,
+                  1,   0,   2,  -1,   2,       -334.0,       0.0,      0.0,        144.0,      0.0,      0.0,
+                  1,  -1,   0,   2,   0,        493.0,       0.0,     -2.0,        -15.0,      0.0,      0.0,
+                  0,   0,   0,   4,   0,        494.0,       0.0,     -2.0,        -19.0,      0.0,      0.0,
+                  1,   0,   2,   1,   2,        337.0,       0.0,     -1.0,       -143.0,      0.0,     -1.0,
+                  0,   0,   2,   1,   1,        280.0,       0.0,     -1.0,       -144.0,      0.0,      0.0,
+                  1,   0,   0,  -2,   2,        309.0,       0.0,      1.0,       -134.0,      0.0,      0.0,
+
+            /* 141-150 */
+                 -1,   0,   2,   4,   1,       -263.0,       0.0,      2.0,        131.0,      0.0,      1.0,
+                  1,   0,  -2,   0,   1,        253.0,       0.0,      1.0,       -138.0,      0.0,      0.0,
+                  1,   1,   2,  -2,   1,        245.0,       0.0,      0.0,       -128.0,      0.0,      0.0,
+                  0,   0,   2,   2,   0,        416.0,       0.0,     -2.0,        -17.0,      0.0,      0.0,
+                 -1,   0,   2,  -1,   1,       -229.0,       0.0,      0.0,        128.0,      0.0,      0.0,
+                 -2,   0,   2,   2,   1,        231.0,       0.0,      0.0,       -120.0,      0.0,      0.0,
+                  4,   0,   2,   0,   2,       -259.0,       0.0,      2.0,        109.0,      0.0,      1.0,
+                  2,  -1,   0,   0,   0,        375.0,       0.0,     -1.0,         -8.0,      0.0,      0.0,
+                  2,   1,   2,  -2,   2,        252.0,       0.0,      0.0,       -108.0,      0.0,      0.0,
+                  0,   1,   2,   1,   2,       -245.0,       0.0,      1.0,        104.0,      0.0,      0.0,
+
+            /* 151-160 */
+                  1,   0,   4,  -2,   2,        243.0,       0.0,     -1.0,       -104.0,      0.0,      0.0,
+                 -1,  -1,   0,   0,   1,        208.0,       0.0,      1.0,       -112.0,      0.0,      0.0,
+                  0,   1,   0,   2,   1,        199.0,       0.0,      0.0,       -102.0,      0.0,      0.0,
+                 -2,   0,   2,   4,   1,       -208.0,       0.0,      1.0,        105.0,      0.0,      0.0,
+                  2,   0,   2,   0,   0,        335.0,       0.0,     -2.0,        -14.0,      0.0,      0.0,
+                  1,   0,   0,   1,   0,       -325.0,       0.0,      1.0,          7.0,      0.0,      0.0,
+                 -1,   0,   0,   4,   1,       -187.0,       0.0,      0.0,         96.0,      0.0,      0.0,
+                 -1,   0,   4,   0,   1,        197.0,       0.0,     -1.0,       -100.0,      0.0,      0.0,
+                  2,   0,   2,   2,   1,       -192.0,       0.0,      2.0,         94.0,      0.0,      1.0,
+                  0,   0,   2,  -3,   2,       -188.0,       0.0,      0.0,         83.0,      0.0,      0.0,
+
+            /* 161-170 */
+                 -1,  -2,   0,   2,   0,        276.0,       0.0,      0.0,         -2.0,      0.0,      0.0,
+                  2,   1,   0,   0,   0,       -286.0,       0.0,      1.0,          6.0,      0.0,      0.0,
+                  0,   0,   4,   0,   2,        186.0,       0.0,     -1.0,        -79.0,      0.0,      0.0,
+                  0,   0,   0,   0,   3,       -219.0,       0.0,      0.0,         43.0,      0.0,      0.0,
+                  0,   3,   0,   0,   0,        276.0,       0.0,      0.0,          2.0,      0.0,      0.0,
+                  0,   0,   2,  -4,   1,       -153.0,       0.0,     -1.0,         84.0,      0.0,      0.0,
+                  0,  -1,   0,   2,   1,       -156.0,       0.0,      0.0,         81.0,      0.0,      0.0,
+                  0,   0,   0,   4,   1,       -154.0,       0.0,      1.0,         78.0,      0.0,      0.0,
+                 -1,  -1,   2,   4,   2,       -174.0,       0.0,      1.0,         75.0,      0.0,      0.0,
+                  1,   0,   2,   4,   2,       -163.0,       0.0,      2.0,         69.0,      0.0,      1.0,
+
+            /* 171-180 */
+                 -2,   2,   0,   2,   0,       -228.0,       0.0,      0.0,          1.0,      0.0,      0.0,
+                 -2,  -1,   2,   0,   1,         91.0,       0.0,     -4.0,        -54.0,      0.0,     -2.0,
+                 -2,   0,   0,   2,   2,        175.0,       0.0,      0.0,        -75.0,      0.0,      0.0,
+                 -1,  -1,   2,   0,   2,       -159.0,       0.0,      0.0,         69.0,      0.0,      0.0,
+                  0,   0,   4,  -2,   1,        141.0,       0.0,      0.0,        -72.0,      0.0,      0.0,
+                  3,   0,   2,  -2,   1,        147.0,       0.0,      0.0,        -75.0,      0.0,      0.0,
+                 -2,  -1,   0,   2,   1,       -132.0,       0.0,      0.0,         69.0,      0.0,      0.0,
+                  1,   0,   0,  -1,   1,        159.0,       0.0,    -28.0,        -54.0,      0.0,     11.0,
+                  0,  -2,   0,   2,   0,        213.0,       0.0,      0.0,         -4.0,      0.0,      0.0,
+                 -2,   0,   0,   4,   1,        123.0,       0.0,      0.0,        -64.0,      0.0,      0.0,
+
+            /* 181-190 */
+                 -3,   0,   0,   0,   1,       -118.0,       0.0,     -1.0,         66.0,      0.0,      0.0,
+                  1,   1,   2,   2,   2,        144.0,       0.0,     -1.0,        -61.0,      0.0,      0.0,
+                  0,   0,   2,   4,   1,       -121.0,       0.0,      1.0,         60.0,      0.0,      0.0,
+                  3,   0,   2,   2,   2,       -134.0,       0.0,      1.0,         56.0,      0.0,      1.0,
+                 -1,   1,   2,  -2,   1,       -105.0,       0.0,      0.0,         57.0,      0.0,      0.0,
+                  2,   0,   0,  -4,   1,       -102.0,       0.0,      0.0,         56.0,      0.0,      0.0,
+                  0,   0,   0,  -2,   2,        120.0,       0.0,      0.0,        -52.0,      0.0,      0.0,
+                  2,   0,   2,  -4,   1,        101.0,       0.0,      0.0,        -54.0,      0.0,      0.0,
+                 -1,   1,   0,   2,   1,       -113.0,       0.0,      0.0,         59.0,      0.0,      0.0,
+                  0,   0,   2,  -1,   1,       -106.0,       0.0,      0.0,         61.0,      0.0,      0.0,
+
+            /* 191-200 */
+                  0,  -2,   2,   2,   2,       -129.0,       0.0,      1.0,         55.0,      0.0,      0.0,
+                  2,   0,   0,   2,   1,       -114.0,       0.0,      0.0,         57.0,      0.0,      0.0,
+                  4,   0,   2,  -2,   2,        113.0,       0.0,     -1.0,        -49.0,      0.0,      0.0,
+                  2,   0,   0,  -2,   2,       -102.0,       0.0,      0.0,         44.0,      0.0,      0.0,
+                  0,   2,   0,   0,   1,        -94.0,       0.0,      0.0,         51.0,      0.0,      0.0,
+                  1,   0,   0,  -4,   1,       -100.0,       0.0,     -1.0,         56.0,      0.0,      0.0,
+                  0,   2,   2,  -2,   1,         87.0,       0.0,      0.0,        -47.0,      0.0,      0.0,
+                 -3,   0,   0,   4,   0,        161.0,       0.0,      0.0,         -1.0,      0.0,      0.0,
+                 -1,   1,   2,   0,   1,         96.0,       0.0,      0.0,        -50.0,      0.0,      0.0,
+                 -1,  -1,   0,   4,   0,        151.0,       0.0,     -1.0,         -5.0,      0.0,      0.0,
+
+            /* 201-210 */
+                 -1,  -2,   2,   2,   2,       -104.0,       0.0,      0.0,         44.0,      0.0,      0.0,
+                 -2,  -1,   2,   4,   2,       -110.0,       0.0,      0.0,         48.0,      0.0,      0.0,
+                  1,  -1,   2,   2,   1,       -100.0,       0.0,      1.0,         50.0,      0.0,      0.0,
+                 -2,   1,   0,   2,   0,         92.0,       0.0,     -5.0,         12.0,      0.0,     -2.0,
+                 -2,   1,   2,   0,   1,         82.0,       0.0,      0.0,        -45.0,      0.0,      0.0,
+                  2,   1,   0,  -2,   1,         82.0,       0.0,      0.0,        -45.0,      0.0,      0.0,
+                 -3,   0,   2,   0,   1,        -78.0,       0.0,      0.0,         41.0,      0.0,      0.0,
+                 -2,   0,   2,  -2,   1,        -77.0,       0.0,      0.0,         43.0,      0.0,      0.0,
+                 -1,   1,   0,   2,   2,          2.0,       0.0,      0.0,         54.0,      0.0,      0.0,
+                  0,  -1,   2,  -1,   2,         94.0,       0.0,      0.0,        -40.0,      0.0,      0.0,
+
+            /* 211-220 */
+                 -1,   0,   4,  -2,   2,        -93.0,       0.0,      0.0,         40.0,      0.0,      0.0,
+                  0,  -2,   2,   0,   2,        -83.0,       0.0,     10.0,         40.0,      0.0,     -2.0,
+                 -1,   0,   2,   1,   2,         83.0,       0.0,      0.0,        -36.0,      0.0,      0.0,
+                  2,   0,   0,   0,   2,        -91.0,       0.0,      0.0,         39.0,      0.0,      0.0,
+                  0,   0,   2,   0,   3,        128.0,       0.0,      0.0,         -1.0,      0.0,      0.0,
+                 -2,   0,   4,   0,   2,        -79.0,       0.0,      0.0,         34.0,      0.0,      0.0,
+                 -1,   0,  -2,   0,   1,        -83.0,       0.0,      0.0,         47.0,      0.0,      0.0,
+                 -1,   1,   2,   2,   1,         84.0,       0.0,      0.0,        -44.0,      0.0,      0.0,
+                  3,   0,   0,   0,   1,         83.0,       0.0,      0.0,        -43.0,      0.0,      0.0,
+                 -1,   0,   2,   3,   2,         91.0,       0.0,      0.0,        -39.0,      0.0,      0.0,
+
+            /* 221-230 */
+                  2,  -1,   2,   0,   1,        -77.0,       0.0,      0.0,         39.0,      0.0,      0.0,
+                  0,   1,   2,   2,   1,         84.0,       0.0,      0.0,        -43.0,      0.0,      0.0,
+                  0,  -1,   2,   4,   2,        -92.0,       0.0,      1.0,         39.0,      0.0,      0.0,
+                  2,  -1,   2,   2,   2,        -92.0,       0.0,      1.0,         39.0,      0.0,      0.0,
+                  0,   2,  -2,   2,   0,        -94.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+                 -1,  -1,   2,  -1,   1,         68.0,       0.0,      0.0,        -36.0,      0.0,      0.0,
+                  0,  -2,   0,   0,   1,        -61.0,       0.0,      0.0,         32.0,      0.0,      0.0,
+                  1,   0,   2,  -4,   2,         71.0,       0.0,      0.0,        -31.0,      0.0,      0.0,
+                  1,  -1,   0,  -2,   1,         62.0,       0.0,      0.0,        -34.0,      0.0,      0.0,
+                 -1,  -1,   2,   0,   1,        -63.0,       0.0,      0.0,         33.0,      0.0,      0.0,
+
+            /* 231-240 */
+                  1,  -1,   2,  -2,   2,        -73.0,       0.0,      0.0,         32.0,      0.0,      0.0,
+                 -2,  -1,   0,   4,   0,        115.0,       0.0,      0.0,         -2.0,      0.0,      0.0,
+                 -1,   0,   0,   3,   0,       -103.0,       0.0,      0.0,          2.0,      0.0,      0.0,
+                 -2,  -1,   2,   2,   2,         63.0,       0.0,      0.0,        -28.0,      0.0,      0.0,
+                  0,   2,   2,   0,   2,         74.0,       0.0,      0.0,        -32.0,      0.0,      0.0,
+                  1,   1,   0,   2,   0,       -103.0,       0.0,     -3.0,          3.0,      0.0,     -1.0,
+                  2,   0,   2,  -1,   2,        -69.0,       0.0,      0.0,         30.0,      0.0,      0.0,
+                  1,   0,   2,   1,   1,         57.0,       0.0,      0.0,        -29.0,      0.0,      0.0,
+                  4,   0,   0,   0,   0,         94.0,       0.0,      0.0,         -4.0,      0.0,      0.0,
+                  2,   1,   2,   0,   1,         64.0,       0.0,      0.0,        -33.0,      0.0,      0.0,
+
+            /* 241-250 */
+                  3,  -1,   2,   0,   2,        -63.0,       0.0,      0.0,         26.0,      0.0,      0.0,
+                 -2,   2,   0,   2,   1,        -38.0,       0.0,      0.0,         20.0,      0.0,      0.0,
+                  1,   0,   2,  -3,   1,        -43.0,       0.0,      0.0,         24.0,      0.0,      0.0,
+                  1,   1,   2,  -4,   1,        -45.0,       0.0,      0.0,         23.0,      0.0,      0.0,
+                 -1,  -1,   2,  -2,   1,         47.0,       0.0,      0.0,        -24.0,      0.0,      0.0,
+                  0,  -1,   0,  -1,   1,        -48.0,       0.0,      0.0,         25.0,      0.0,      0.0,
+                  0,  -1,   0,  -2,   1,         45.0,       0.0,      0.0,        -26.0,      0.0,      0.0,
+                 -2,   0,   0,   0,   2,         56.0,       0.0,      0.0,        -25.0,      0.0,      0.0,
+                 -2,   0,  -2,   2,   0,         88.0,       0.0,      0.0,          2.0,      0.0,      0.0,
+                 -1,   0,  -2,   4,   0,        -75.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+
+            /* 251-260 */
+                  1,  -2,   0,   0,   0,         85.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+                  0,   1,   0,   1,   1,         49.0,       0.0,      0.0,        -26.0,      0.0,      0.0,
+                 -1,   2,   0,   2,   0,        -74.0,       0.0,     -3.0,         -1.0,      0.0,     -1.0,
+                  1,  -1,   2,  -2,   1,        -39.0,       0.0,      0.0,         21.0,      0.0,      0.0,
+                  1,   2,   2,  -2,   2,         45.0,       0.0,      0.0,        -20.0,      0.0,      0.0,
+                  2,  -1,   2,  -2,   2,         51.0,       0.0,      0.0,        -22.0,      0.0,      0.0,
+                  1,   0,   2,  -1,   1,        -40.0,       0.0,      0.0,         21.0,      0.0,      0.0,
+                  2,   1,   2,  -2,   1,         41.0,       0.0,      0.0,        -21.0,      0.0,      0.0,
+                 -2,   0,   0,  -2,   1,        -42.0,       0.0,      0.0,         24.0,      0.0,      0.0,
+                  1,  -2,   2,   0,   2,        -51.0,       0.0,      0.0,         22.0,      0.0,      0.0,
+
+            /* 261-270 */
+                  0,   1,   2,   1,   1,        -42.0,       0.0,      0.0,         22.0,      0.0,      0.0,
+                  1,   0,   4,  -2,   1,         39.0,       0.0,      0.0,        -21.0,      0.0,      0.0,
+                 -2,   0,   4,   2,   2,         46.0,       0.0,      0.0,        -18.0,      0.0,      0.0,
+                  1,   1,   2,   1,   2,        -53.0,       0.0,      0.0,         22.0,      0.0,      0.0,
+                  1,   0,   0,   4,   0,         82.0,       0.0,      0.0,         -4.0,      0.0,      0.0,
+                  1,   0,   2,   2,   0,         81.0,       0.0,     -1.0,         -4.0,      0.0,      0.0,
+                  2,   0,   2,   1,   2,         47.0,       0.0,      0.0,        -19.0,      0.0,      0.0,
+                  3,   1,   2,   0,   2,         53.0,       0.0,      0.0,        -23.0,      0.0,      0.0,
+                  4,   0,   2,   0,   1,        -45.0,       0.0,      0.0,         22.0,      0.0,      0.0,
+                 -2,  -1,   2,   0,   0,        -44.0,       0.0,      0.0,         -2.0,      0.0,      0.0,
+
+            /* 271-280 */
+                  0,   1,  -2,   2,   1,        -33.0,       0.0,      0.0,         16.0,      0.0,      0.0,
+                  1,   0,  -2,   1,   0,        -61.0,       0.0,      0.0,          1.0,      0.0,      0.0,
+                  0,  -1,  -2,   2,   1,         28.0,       0.0,      0.0,        -15.0,      0.0,      0.0,
+                  2,  -1,   0,  -2,   1,        -38.0,       0.0,      0.0,         19.0,      0.0,      0.0,
+                 -1,   0,   2,  -1,   2,        -33.0,       0.0,      0.0,         21.0,      0.0,      0.0,
+                  1,   0,   2,  -3,   2,        -60.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+                  0,   1,   2,  -2,   3,         48.0,       0.0,      0.0,        -10.0,      0.0,      0.0,
+                  0,   0,   2,  -3,   1,         27.0,       0.0,      0.0,        -14.0,      0.0,      0.0,
+                 -1,   0,  -2,   2,   1,         38.0,       0.0,      0.0,        -20.0,      0.0,      0.0,
+                  0,   0,   2,  -4,   2,         31.0,       0.0,      0.0,        -13.0,      0.0,      0.0,
+
+            /* 281-290 */
+                 -2,   1,   0,   0,   1,        -29.0,       0.0,      0.0,         15.0,      0.0,      0.0,
+                 -1,   0,   0,  -1,   1,         28.0,       0.0,      0.0,        -15.0,      0.0,      0.0,
+                  2,   0,   2,  -4,   2,        -32.0,       0.0,      0.0,         15.0,      0.0,      0.0,
+                  0,   0,   4,  -4,   4,         45.0,       0.0,      0.0,         -8.0,      0.0,      0.0,
+                  0,   0,   4,  -4,   2,        -44.0,       0.0,      0.0,         19.0,      0.0,      0.0,
+                 -1,  -2,   0,   2,   1,         28.0,       0.0,      0.0,        -15.0,      0.0,      0.0,
+                 -2,   0,   0,   3,   0,        -51.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+                  1,   0,  -2,   2,   1,        -36.0,       0.0,      0.0,         20.0,      0.0,      0.0,
+                 -3,   0,   2,   2,   2,         44.0,       0.0,      0.0,        -19.0,      0.0,      0.0,
+                 -3,   0,   2,   2,   1,         26.0,       0.0,      0.0,        -14.0,      0.0,      0.0,
+
+            /* 291-300 */
+                 -2,   0,   2,   2,   0,        -60.0,       0.0,      0.0,          2.0,      0.0,      0.0,
+                  2,  -1,   0,   0,   1,         35.0,       0.0,      0.0,        -18.0,      0.0,      0.0,
+                 -2,   1,   2,   2,   2,        -27.0,       0.0,      0.0,         11.0,      0.0,      0.0,
+                  1,   1,   0,   1,   0,         47.0,       0.0,      0.0,         -1.0,      0.0,      0.0,
+                  0,   1,   4,  -2,   2,         36.0,       0.0,      0.0,        -15.0,      0.0,      0.0,
+                 -1,   1,   0,  -2,   1,        -36.0,       0.0,      0.0,         20.0,      0.0,      0.0,
+                  0,   0,   0,  -4,   1,        -35.0,       0.0,      0.0,         19.0,      0.0,      0.0,
+                  1,  -1,   0,   2,   1,        -37.0,       0.0,      0.0,         19.0,      0.0,      0.0,
+                  1,   1,   0,   2,   1,         32.0,       0.0,      0.0,        -16.0,      0.0,      0.0,
+                 -1,   2,   2,   2,   2,         35.0,       0.0,      0.0,        -14.0,      0.0,      0.0,
+
+            /* 301-310 */
+                  3,   1,   2,  -2,   2,         32.0,       0.0,      0.0,        -13.0,      0.0,      0.0,
+                  0,  -1,   0,   4,   0,         65.0,       0.0,      0.0,         -2.0,      0.0,      0.0,
+                  2,  -1,   0,   2,   0,         47.0,       0.0,      0.0,         -1.0,      0.0,      0.0,
+                  0,   0,   4,   0,   1,         32.0,       0.0,      0.0,        -16.0,      0.0,      0.0,
+                  2,   0,   4,  -2,   2,         37.0,       0.0,      0.0,        -16.0,      0.0,      0.0,
+                 -1,  -1,   2,   4,   1,        -30.0,       0.0,      0.0,         15.0,      0.0,      0.0,
+                  1,   0,   0,   4,   1,        -32.0,       0.0,      0.0,         16.0,      0.0,      0.0,
+                  1,  -2,   2,   2,   2,        -31.0,       0.0,      0.0,         13.0,      0.0,      0.0,
+                  0,   0,   2,   3,   2,         37.0,       0.0,      0.0,        -16.0,      0.0,      0.0,
+                 -1,   1,   2,   4,   2,         31.0,       0.0,      0.0,        -13.0,      0.0,      0.0,
+
+            /* 311-320 */
+                  3,   0,   0,   2,   0,         49.0,       0.0,      0.0,         -2.0,      0.0,      0.0,
+                 -1,   0,   4,   2,   2,         32.0,       0.0,      0.0,        -13.0,      0.0,      0.0,
+                  1,   1,   2,   2,   1,         23.0,       0.0,      0.0,        -12.0,      0.0,      0.0,
+                 -2,   0,   2,   6,   2,        -43.0,       0.0,      0.0,         18.0,      0.0,      0.0,
+                  2,   1,   2,   2,   2,         26.0,       0.0,      0.0,        -11.0,      0.0,      0.0,
+                 -1,   0,   2,   6,   2,        -32.0,       0.0,      0.0,         14.0,      0.0,      0.0,
+                  1,   0,   2,   4,   1,        -29.0,       0.0,      0.0,         14.0,      0.0,      0.0,
+                  2,   0,   2,   4,   2,        -27.0,       0.0,      0.0,         12.0,      0.0,      0.0,
+                  1,   1,  -2,   1,   0,         30.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+                 -3,   1,   2,   1,   2,        -11.0,       0.0,      0.0,          5.0,      0.0,      0.0,
+
+            /* 321-330 */
+                  2,   0,  -2,   0,   2,        -21.0,       0.0,      0.0,         10.0,      0.0,      0.0,
+                 -1,   0,   0,   1,   2,        -34.0,       0.0,      0.0,         15.0,      0.0,      0.0,
+                 -4,   0,   2,   2,   1,        -10.0,       0.0,      0.0,          6.0,      0.0,      0.0,
+                 -1,  -1,   0,   1,   0,        -36.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+                  0,   0,  -2,   2,   2,         -9.0,       0.0,      0.0,          4.0,      0.0,      0.0,
+                  1,   0,   0,  -1,   2,        -12.0,       0.0,      0.0,          5.0,      0.0,      0.0,
+                  0,  -1,   2,  -2,   3,        -21.0,       0.0,      0.0,          5.0,      0.0,      0.0,
+                 -2,   1,   2,   0,   0,        -29.0,       0.0,      0.0,         -1.0,      0.0,      0.0,
+                  0,   0,   2,  -2,   4,        -15.0,       0.0,      0.0,          3.0,      0.0,      0.0,
+                 -2,  -2,   0,   2,   0,        -20.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+
+            /* 331-340 */
+                 -2,   0,  -2,   4,   0,         28.0,       0.0,      0.0,          0.0,      0.0,     -2.0,
+                  0,  -2,  -2,   2,   0,         17.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+                  1,   2,   0,  -2,   1,        -22.0,       0.0,      0.0,         12.0,      0.0,      0.0,
+                  3,   0,   0,  -4,   1,        -14.0,       0.0,      0.0,          7.0,      0.0,      0.0,
+                 -1,   1,   2,  -2,   2,         24.0,       0.0,      0.0,        -11.0,      0.0,      0.0,
+                  1,  -1,   2,  -4,   1,         11.0,       0.0,      0.0,         -6.0,      0.0,      0.0,
+                  1,   1,   0,  -2,   2,         14.0,       0.0,      0.0,         -6.0,      0.0,      0.0,
+                 -3,   0,   2,   0,   0,         24.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+                 -3,   0,   2,   0,   2,         18.0,       0.0,      0.0,         -8.0,      0.0,      0.0,
+                 -2,   0,   0,   1,   0,        -38.0,       0.0,      0.0,          0.0,      0.0,      0.0
+            };
+        }
+
+        private static double[] rows2() {
+            return new double[] {
+            /* 341-350 */
+                  0,   0,  -2,   1,   0,        -31.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+                 -3,   0,   0,   2,   1,        -16.0,       0.0,      0.0,          8.0,      0.0,      0.0,
+                 -1,  -1,  -2,   2,   0,         29.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+                  0,   1,   2,  -4,   1,        -18.0,       0.0,      0.0,         10.0,      0.0,      0.0,
+                  2,   1,   0,  -4,   1,        -10.0,       0.0,      0.0,          5.0,      0.0,      0.0,
+                  0,   2,   0,  -2,   1,        -17.0,       0.0,      0.0,         10.0,      0.0,      0.0,
+                  1,   0,   0,  -3,   1,          9.0,       0.0,      0.0,         -4.0,      0.0,      0.0,
+                 -2,   0,   2,  -2,   2,         16.0,       0.0,      0.0,         -6.0,      0.0,      0.0,
+                 -2,  -1,   0,   0,   1,         22.0,       0.0,      0.0,        -12.0,      0.0,      0.0,
+                 -4,   0,   0,   2,   0,         20.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+
+            /* 351-360 */
+                  1,   1,   0,  -4,   1,        -13.0,       0.0,      0.0,          6.0,      0.0,      0.0,
+                 -1,   0,   2,  -4,   1,        -17.0,       0.0,      0.0,          9.0,      0.0,      0.0,
+                  0,   0,   4,  -4,   1,        -14.0,       0.0,      0.0,          8.0,      0.0,      0.0,
+                  0,   3,   2,  -2,   2,          0.0,       0.0,      0.0,         -7.0,      0.0,      0.0,
+                 -3,  -1,   0,   4,   0,         14.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+                 -3,   0,   0,   4,   1,         19.0,       0.0,      0.0,        -10.0,      0.0,      0.0,
+                  1,  -1,  -2,   2,   0,        -34.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+                 -1,  -1,   0,   2,   2,        -20.0,       0.0,      0.0,          8.0,      0.0,      0.0,
+                  1,  -2,   0,   0,   1,          9.0,       0.0,      0.0,         -5.0,      0.0,      0.0,
+                  1,  -1,   0,   0,   2,        -18.0,       0.0,      0.0,          7.0,      0.0,      0.0,
+
+            /* 361-370 */
+                  0,   0,   0,   1,   2,         13.0,       0.0,      0.0,         -6.0,      0.0,      0.0,
+                 -1,  -1,   2,   0,   0,         17.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+                  1,  -2,   2,  -2,   2,        -12.0,       0.0,      0.0,          5.0,      0.0,      0.0,
+                  0,  -1,   2,  -1,   1,         15.0,       0.0,      0.0,         -8.0,      0.0,      0.0,
+                 -1,   0,   2,   0,   3,        -11.0,       0.0,      0.0,          3.0,      0.0,      0.0,
+                  1,   1,   0,   0,   2,         13.0,       0.0,      0.0,         -5.0,      0.0,      0.0,
+                 -1,   1,   2,   0,   0,        -18.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+                  1,   2,   0,   0,   0,        -35.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+                 -1,   2,   2,   0,   2,          9.0,       0.0,      0.0,         -4.0,      0.0,      0.0,
+                 -1,   0,   4,  -2,   1,        -19.0,       0.0,      0.0,         10.0,      0.0,      0.0,
+
+            /* 371-380 */
+                  3,   0,   2,  -4,   2,        -26.0,       0.0,      0.0,         11.0,      0.0,      0.0,
+                  1,   2,   2,  -2,   1,          8.0,       0.0,      0.0,         -4.0,      0.0,      0.0,
+                  1,   0,   4,  -4,   2,        -10.0,       0.0,      0.0,          4.0,      0.0,      0.0,
+                 -2,  -1,   0,   4,   1,         10.0,       0.0,      0.0,         -6.0,      0.0,      0.0,
+                  0,  -1,   0,   2,   2,        -21.0,       0.0,      0.0,          9.0,      0.0,      0.0,
+                 -2,   1,   0,   4,   0,        -15.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+                 -2,  -1,   2,   2,   1,          9.0,       0.0,      0.0,         -5.0,      0.0,      0.0,
+                  2,   0,  -2,   2,   0,        -29.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+                  1,   0,   0,   1,   1,        -19.0,       0.0,      0.0,         10.0,      0.0,      0.0,
+                  0,   1,   0,   2,   2,         12.0,       0.0,      0.0,         -5.0,      0.0,      0.0,
+
+            /* 381-390 */
+                  1,  -1,   2,  -1,   2,         22.0,       0.0,      0.0,         -9.0,      0.0,      0.0,
+                 -2,   0,   4,   0,   1,        -10.0,       0.0,      0.0,          5.0,      0.0,      0.0,
+                  2,   1,   0,   0,   1,        -20.0,       0.0,      0.0,         11.0,      0.0,      0.0,
+                  0,   1,   2,   0,   0,        -20.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+                  0,  -1,   4,  -2,   2,        -17.0,       0.0,      0.0,          7.0,      0.0,      0.0,
+                  0,   0,   4,  -2,   4,         15.0,       0.0,      0.0,         -3.0,      0.0,      0.0,
+                  0,   2,   2,   0,   1,          8.0,       0.0,      0.0,         -4.0,      0.0,      0.0,
+                 -3,   0,   0,   6,   0,         14.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+                 -1,  -1,   0,   4,   1,        -12.0,       0.0,      0.0,          6.0,      0.0,      0.0,
+                  1,  -2,   0,   2,   0,         25.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+
+            /* 391-400 */
+                 -1,   0,   0,   4,   2,        -13.0,       0.0,      0.0,          6.0,      0.0,      0.0,
+                 -1,  -2,   2,   2,   1,        -14.0,       0.0,      0.0,          8.0,      0.0,      0.0,
+                 -1,   0,   0,  -2,   2,         13.0,       0.0,      0.0,         -5.0,      0.0,      0.0,
+                  1,   0,  -2,  -2,   1,        -17.0,       0.0,      0.0,          9.0,      0.0,      0.0,
+                  0,   0,  -2,  -2,   1,        -12.0,       0.0,      0.0,          6.0,      0.0,      0.0,
+                 -2,   0,  -2,   0,   1,        -10.0,       0.0,      0.0,          5.0,      0.0,      0.0,
+                  0,   0,   0,   3,   1,         10.0,       0.0,      0.0,         -6.0,      0.0,      0.0,
+                  0,   0,   0,   3,   0,        -15.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+                 -1,   1,   0,   4,   0,        -22.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+                 -1,  -1,   2,   2,   0,         28.0,       0.0,      0.0,         -1.0,      0.0,      0.0,
+
+            /* 401-410 */
+                 -2,   0,   2,   3,   2,         15.0,       0.0,      0.0,         -7.0,      0.0,      0.0,
+                  1,   0,   0,   2,   2,         23.0,       0.0,      0.0,        -10.0,      0.0,      0.0,
+                  0,  -1,   2,   1,   2,         12.0,       0.0,      0.0,         -5.0,      0.0,      0.0,
+                  3,  -1,   0,   0,   0,         29.0,       0.0,      0.0,         -1.0,      0.0,      0.0,
+                  2,   0,   0,   1,   0,        -25.0,       0.0,      0.0,          1.0,      0.0,      0.0,
+                  1,  -1,   2,   0,   0,         22.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+                  0,   0,   2,   1,   0,        -18.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+                  1,   0,   2,   0,   3,         15.0,       0.0,      0.0,          3.0,      0.0,      0.0,
+                  3,   1,   0,   0,   0,        -23.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+                  3,  -1,   2,  -2,   2,         12.0,       0.0,      0.0,         -5.0,      0.0,      0.0,
+
+            /* 411-420 */
+                  2,   0,   2,  -1,   1,         -8.0,       0.0,      0.0,          4.0,      0.0,      0.0,
+                  1,   1,   2,   0,   0,        -19.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+                  0,   0,   4,  -1,   2,        -10.0,       0.0,      0.0,          4.0,      0.0,      0.0,
+                  1,   2,   2,   0,   2,         21.0,       0.0,      0.0,         -9.0,      0.0,      0.0,
+                 -2,   0,   0,   6,   0,         23.0,       0.0,      0.0,         -1.0,      0.0,      0.0,
+                  0,  -1,   0,   4,   1,        -16.0,       0.0,      0.0,          8.0,      0.0,      0.0,
+                 -2,  -1,   2,   4,   1,        -19.0,       0.0,      0.0,          9.0,      0.0,      0.0,
+                  0,  -2,   2,   2,   1,        -22.0,       0.0,      0.0,         10.0,      0.0,      0.0,
+                  0,  -1,   2,   2,   0,         27.0,       0.0,      0.0,         -1.0,      0.0,      0.0,
+                 -1,   0,   2,   3,   1,         16.0,       0.0,      0.0,         -8.0,      0.0,      0.0,
+
+            /* 421-430 */
+                 -2,   1,   2,   4,   2,         19.0,       0.0,      0.0,         -8.0,      0.0,      0.0,
+                  2,   0,   0,   2,   2,          9.0,       0.0,      0.0,         -4.0,      0.0,      0.0,
+                  2,  -2,   2,   0,   2,         -9.0,       0.0,      0.0,          4.0,      0.0,      0.0,
+                 -1,   1,   2,   3,   2,         -9.0,       0.0,      0.0,          4.0,      0.0,      0.0,
+                  3,   0,   2,  -1,   2,         -8.0,       0.0,      0.0,          4.0,      0.0,      0.0,
+                  4,   0,   2,  -2,   1,         18.0,       0.0,      0.0,         -9.0,      0.0,      0.0,
+                 -1,   0,   0,   6,   0,         16.0,       0.0,      0.0,         -1.0,      0.0,      0.0,
+                 -1,  -2,   2,   4,   2,        -10.0,       0.0,      0.0,          4.0,      0.0,      0.0,
+                 -3,   0,   2,   6,   2,        -23.0,       0.0,      0.0,          9.0,      0.0,      0.0,
+                 -1,   0,   2,   4,   0,         16.0,       0.0,      0.0,         -1.0,      0.0,      0.0,
+
+            /* 431-440 */
+                  3,   0,   0,   2,   1,        -12.0,       0.0,      0.0,          6.0,      0.0,      0.0,
+                  3,  -1,   2,   0,   1,         -8.0,       0.0,      0.0,          4.0,      0.0,      0.0,
+                  3,   0,   2,   0,   0,         30.0,       0.0,      0.0,         -2.0,      0.0,      0.0,
+                  1,   0,   4,   0,   2,         24.0,       0.0,      0.0,        -10.0,      0.0,      0.0,
+                  5,   0,   2,  -2,   2,         10.0,       0.0,      0.0,         -4.0,      0.0,      0.0,
+                  0,  -1,   2,   4,   1,        -16.0,       0.0,      0.0,          7.0,      0.0,      0.0,
+                  2,  -1,   2,   2,   1,        -16.0,       0.0,      0.0,          7.0,      0.0,      0.0,
+                  0,   1,   2,   4,   2,         17.0,       0.0,      0.0,         -7.0,      0.0,      0.0,
+                  1,  -1,   2,   4,   2,        -24.0,       0.0,      0.0,         10.0,      0.0,      0.0,
+                  3,  -1,   2,   2,   2,        -12.0,       0.0,      0.0,          5.0,      0.0,      0.0,
+
+            /* 441-450 */
+                  3,   0,   2,   2,   1,        -24.0,       0.0,      0.0,         11.0,      0.0,      0.0,
+                  5,   0,   2,   0,   2,        -23.0,       0.0,      0.0,          9.0,      0.0,      0.0,
+                  0,   0,   2,   6,   2,        -13.0,       0.0,      0.0,          5.0,      0.0,      0.0,
+                  4,   0,   2,   2,   2,        -15.0,       0.0,      0.0,          7.0,      0.0,      0.0,
+                  0,  -1,   1,  -1,   1,          0.0,       0.0,  -1988.0,          0.0,      0.0,  -1679.0,
+                 -1,   0,   1,   0,   3,          0.0,       0.0,    -63.0,          0.0,      0.0,    -27.0,
+                  0,  -2,   2,  -2,   3,         -4.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+                  1,   0,  -1,   0,   1,          0.0,       0.0,      5.0,          0.0,      0.0,      4.0,
+                  2,  -2,   0,  -2,   1,          5.0,       0.0,      0.0,         -3.0,      0.0,      0.0,
+                 -1,   0,   1,   0,   2,          0.0,       0.0,    364.0,          0.0,      0.0,    176.0,
+
+            /* 451-460 */
+                 -1,   0,   1,   0,   1,          0.0,       0.0,  -1044.0,          0.0,      0.0,   -891.0,
+                 -1,  -1,   2,  -1,   2,         -3.0,       0.0,      0.0,          1.0,      0.0,      0.0,
+                 -2,   2,   0,   2,   2,          4.0,       0.0,      0.0,         -2.0,      0.0,      0.0,
+                 -1,   0,   1,   0,   0,          0.0,       0.0,    330.0,          0.0,      0.0,      0.0,
+                 -4,   1,   2,   2,   2,          5.0,       0.0,      0.0,         -2.0,      0.0,      0.0,
+                 -3,   0,   2,   1,   1,          3.0,       0.0,      0.0,         -2.0,      0.0,      0.0,
+                 -2,  -1,   2,   0,   2,         -3.0,       0.0,      0.0,          1.0,      0.0,      0.0,
+                  1,   0,  -2,   1,   1,         -5.0,       0.0,      0.0,          2.0,      0.0,      0.0,
+                  2,  -1,  -2,   0,   1,          3.0,       0.0,      0.0,         -1.0,      0.0,      0.0,
+                 -4,   0,   2,   2,   0,          3.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+
+            /* 461-470 */
+                 -3,   1,   0,   3,   0,          3.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+                 -1,   0,  -1,   2,   0,          0.0,       0.0,      5.0,          0.0,      0.0,      0.0,
+                  0,  -2,   0,   0,   2,          0.0,       0.0,      0.0,          1.0,      0.0,      0.0,
+                  0,  -2,   0,   0,   2,          4.0,       0.0,      0.0,         -2.0,      0.0,      0.0,
+                 -3,   0,   0,   3,   0,          6.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+                 -2,  -1,   0,   2,   2,          5.0,       0.0,      0.0,         -2.0,      0.0,      0.0,
+                 -1,   0,  -2,   3,   0,         -7.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+                 -4,   0,   0,   4,   0,        -12.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+                  2,   1,  -2,   0,   1,          5.0,       0.0,      0.0,         -3.0,      0.0,      0.0,
+                  2,  -1,   0,  -2,   2,          3.0,       0.0,      0.0,         -1.0,      0.0,      0.0,
+
+            /* 471-480 */
+                  0,   0,   1,  -1,   0,         -5.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+                 -1,   2,   0,   1,   0,          3.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+                 -2,   1,   2,   0,   2,         -7.0,       0.0,      0.0,          3.0,      0.0,      0.0,
+                  1,   1,   0,  -1,   1,          7.0,       0.0,      0.0,         -4.0,      0.0,      0.0,
+                  1,   0,   1,  -2,   1,          0.0,       0.0,    -12.0,          0.0,      0.0,    -10.0,
+                  0,   2,   0,   0,   2,          4.0,       0.0,      0.0,         -2.0,      0.0,      0.0,
+                  1,  -1,   2,  -3,   1,          3.0,       0.0,      0.0,         -2.0,      0.0,      0.0,
+                 -1,   1,   2,  -1,   1,         -3.0,       0.0,      0.0,          2.0,      0.0,      0.0,
+                 -2,   0,   4,  -2,   2,         -7.0,       0.0,      0.0,          3.0,      0.0,      0.0,
+                 -2,   0,   4,  -2,   1,         -4.0,       0.0,      0.0,          2.0,      0.0,      0.0,
+
+            /* 481-490 */
+                 -2,  -2,   0,   2,   1,         -3.0,       0.0,      0.0,          1.0,      0.0,      0.0,
+                 -2,   0,  -2,   4,   0,          0.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+                  1,   2,   2,  -4,   1,         -3.0,       0.0,      0.0,          1.0,      0.0,      0.0,
+                  1,   1,   2,  -4,   2,          7.0,       0.0,      0.0,         -3.0,      0.0,      0.0,
+                 -1,   2,   2,  -2,   1,         -4.0,       0.0,      0.0,          2.0,      0.0,      0.0,
+                  2,   0,   0,  -3,   1,          4.0,       0.0,      0.0,         -2.0,      0.0,      0.0,
+                 -1,   2,   0,   0,   1,         -5.0,       0.0,      0.0,          3.0,      0.0,      0.0,
+                  0,   0,   0,  -2,   0,          5.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+                 -1,  -1,   2,  -2,   2,         -5.0,       0.0,      0.0,          2.0,      0.0,      0.0,
+                 -1,   1,   0,   0,   2,          5.0,       0.0,      0.0,         -2.0,      0.0,      0.0,
+
+            /* 491-500 */
+                  0,   0,   0,  -1,   2,         -8.0,       0.0,      0.0,          3.0,      0.0,      0.0,
+                 -2,   1,   0,   1,   0,          9.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+                  1,  -2,   0,  -2,   1,          6.0,       0.0,      0.0,         -3.0,      0.0,      0.0,
+                  1,   0,  -2,   0,   2,         -5.0,       0.0,      0.0,          2.0,      0.0,      0.0,
+                 -3,   1,   0,   2,   0,          3.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+                 -1,   1,  -2,   2,   0,         -7.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+                 -1,  -1,   0,   0,   2,         -3.0,       0.0,      0.0,          1.0,      0.0,      0.0,
+                 -3,   0,   0,   2,   0,          5.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+                 -3,  -1,   0,   2,   0,          3.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+                  2,   0,   2,  -6,   1,         -3.0,       0.0,      0.0,          2.0,      0.0,      0.0,
+
+            /* 501-510 */
+                  0,   1,   2,  -4,   2,          4.0,       0.0,      0.0,         -2.0,      0.0,      0.0,
+                  2,   0,   0,  -4,   2,          3.0,       0.0,      0.0,         -1.0,      0.0,      0.0,
+                 -2,   1,   2,  -2,   1,         -5.0,       0.0,      0.0,          2.0,      0.0,      0.0,
+                  0,  -1,   2,  -4,   1,          4.0,       0.0,      0.0,         -2.0,      0.0,      0.0,
+                  0,   1,   0,  -2,   2,          9.0,       0.0,      0.0,         -3.0,      0.0,      0.0,
+                 -1,   0,   0,  -2,   0,          4.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+                  2,   0,  -2,  -2,   1,          4.0,       0.0,      0.0,         -2.0,      0.0,      0.0,
+                 -4,   0,   2,   0,   1,         -3.0,       0.0,      0.0,          2.0,      0.0,      0.0,
+                 -1,  -1,   0,  -1,   1,         -4.0,       0.0,      0.0,          2.0,      0.0,      0.0,
+                  0,   0,  -2,   0,   2,          9.0,       0.0,      0.0,         -3.0,      0.0,      0.0,
+
+            /* 511-520 */
+                 -3,   0,   0,   1,   0,         -4.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+                 -1,   0,  -2,   1,   0,         -4.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+                 -2,   0,  -2,   2,   1,          3.0,       0.0,      0.0,         -2.0,      0.0,      0.0,
+                  0,   0,  -4,   2,   0,          8.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+                 -2,  -1,  -2,   2,   0,          3.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+                  1,   0,   2,  -6,   1,         -3.0,       0.0,      0.0,          2.0,      0.0,      0.0,
+                 -1,   0,   2,  -4,   2,          3.0,       0.0,      0.0,         -1.0,      0.0,      0.0,
+                  1,   0,   0,  -4,   2,          3.0,       0.0,      0.0,         -1.0,      0.0,      0.0,
+                  2,   1,   2,  -4,   2,         -3.0,       0.0,      0.0,          1.0,      0.0,      0.0,
+                  2,   1,   2,  -4,   1,          6.0,       0.0,      0.0,         -3.0,      0.0,      0.0,
+
+            /* 521-530 */
+                  0,   1,   4,  -4,   4,          3.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+                  0,   1,   4,  -4,   2,         -3.0,       0.0,      0.0,          1.0,      0.0,      0.0,
+                 -1,  -1,  -2,   4,   0,         -7.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+                 -1,  -3,   0,   2,   0,          9.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+                 -1,   0,  -2,   4,   1,         -3.0,       0.0,      0.0,          2.0,      0.0,      0.0,
+                 -2,  -1,   0,   3,   0,         -3.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+                  0,   0,  -2,   3,   0,         -4.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+                 -2,   0,   0,   3,   1,         -5.0,       0.0,      0.0,          3.0,      0.0,      0.0,
+                  0,  -1,   0,   1,   0,        -13.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+                 -3,   0,   2,   2,   0,         -7.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+
+            /* 531-540 */
+                  1,   1,  -2,   2,   0,         10.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+                 -1,   1,   0,   2,   2,          3.0,       0.0,      0.0,         -1.0,      0.0,      0.0,
+                  1,  -2,   2,  -2,   1,         10.0,       0.0,     13.0,          6.0,      0.0,     -5.0,
+                  0,   0,   1,   0,   2,          0.0,       0.0,     30.0,          0.0,      0.0,     14.0,
+                  0,   0,   1,   0,   1,          0.0,       0.0,   -162.0,          0.0,      0.0,   -138.0,
+                  0,   0,   1,   0,   0,          0.0,       0.0,     75.0,          0.0,      0.0,      0.0,
+                 -1,   2,   0,   2,   1,         -7.0,       0.0,      0.0,          4.0,      0.0,      0.0,
+                  0,   0,   2,   0,   2,         -4.0,       0.0,      0.0,          2.0,      0.0,      0.0,
+                 -2,   0,   2,   0,   2,          4.0,       0.0,      0.0,         -2.0,      0.0,      0.0,
+                  2,   0,   0,  -1,   1,          5.0,       0.0,      0.0,         -2.0,      0.0,      0.0,
+
+            /* 541-550 */
+                  3,   0,   0,  -2,   1,          5.0,       0.0,      0.0,         -3.0,      0.0,      0.0,
+                  1,   0,   2,  -2,   3,         -3.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+                  1,   2,   0,   0,   1,         -3.0,       0.0,      0.0,          2.0,      0.0,      0.0,
+                  2,   0,   2,  -3,   2,         -4.0,       0.0,      0.0,          2.0,      0.0,      0.0,
+                 -1,   1,   4,  -2,   2,         -5.0,       0.0,      0.0,          2.0,      0.0,      0.0,
+                 -2,  -2,   0,   4,   0,          6.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+                  0,  -3,   0,   2,   0,          9.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+                  0,   0,  -2,   4,   0,          5.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+                 -1,  -1,   0,   3,   0,         -7.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+                 -2,   0,   0,   4,   2,         -3.0,       0.0,      0.0,          1.0,      0.0,      0.0,
+
+            /* 551-560 */
+                 -1,   0,   0,   3,   1,         -4.0,       0.0,      0.0,          2.0,      0.0,      0.0,
+                  2,  -2,   0,   0,   0,          7.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+                  1,  -1,   0,   1,   0,         -4.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+                 -1,   0,   0,   2,   0,          4.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+                  0,  -2,   2,   0,   1,         -6.0,       0.0,     -3.0,          3.0,      0.0,      1.0,
+                 -1,   0,   1,   2,   1,          0.0,       0.0,     -3.0,          0.0,      0.0,     -2.0,
+                 -1,   1,   0,   3,   0,         11.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+                 -1,  -1,   2,   1,   2,          3.0,       0.0,      0.0,         -1.0,      0.0,      0.0,
+                  0,  -1,   2,   0,   0,         11.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+                 -2,   1,   2,   2,   1,         -3.0,       0.0,      0.0,          2.0,      0.0,      0.0,
+
+            /* 561-570 */
+                  2,  -2,   2,  -2,   2,         -1.0,       0.0,      3.0,          3.0,      0.0,     -1.0,
+                  1,   1,   0,   1,   1,          4.0,       0.0,      0.0,         -2.0,      0.0,      0.0,
+                  1,   0,   1,   0,   1,          0.0,       0.0,    -13.0,          0.0,      0.0,    -11.0,
+                  1,   0,   1,   0,   0,          3.0,       0.0,      6.0,          0.0,      0.0,      0.0,
+                  0,   2,   0,   2,   0,         -7.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+                  2,  -1,   2,  -2,   1,          5.0,       0.0,      0.0,         -3.0,      0.0,      0.0,
+                  0,  -1,   4,  -2,   1,         -3.0,       0.0,      0.0,          1.0,      0.0,      0.0,
+                  0,   0,   4,  -2,   3,          3.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+                  0,   1,   4,  -2,   1,          5.0,       0.0,      0.0,         -3.0,      0.0,      0.0,
+                  4,   0,   2,  -4,   2,         -7.0,       0.0,      0.0,          3.0,      0.0,      0.0,
+
+            /* 571-580 */
+                  2,   2,   2,  -2,   2,          8.0,       0.0,      0.0,         -3.0,      0.0,      0.0,
+                  2,   0,   4,  -4,   2,         -4.0,       0.0,      0.0,          2.0,      0.0,      0.0,
+                 -1,  -2,   0,   4,   0,         11.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+                 -1,  -3,   2,   2,   2,         -3.0,       0.0,      0.0,          1.0,      0.0,      0.0,
+                 -3,   0,   2,   4,   2,          3.0,       0.0,      0.0,         -1.0,      0.0,      0.0,
+                 -3,   0,   2,  -2,   1,         -4.0,       0.0,      0.0,          2.0,      0.0,      0.0,
+                 -1,  -1,   0,  -2,   1,          8.0,       0.0,      0.0,         -4.0,      0.0,      0.0,
+                 -3,   0,   0,   0,   2,          3.0,       0.0,      0.0,         -1.0,      0.0,      0.0,
+                 -3,   0,  -2,   2,   0,         11.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+                  0,   1,   0,  -4,   1,         -6.0,       0.0,      0.0,          3.0,      0.0,      0.0,
+
+            /* 581-590 */
+                 -2,   1,   0,  -2,   1,         -4.0,       0.0,      0.0,          2.0,      0.0,      0.0,
+                 -4,   0,   0,   0,   1,         -8.0,       0.0,      0.0,          4.0,      0.0,      0.0,
+                 -1,   0,   0,  -4,   1,         -7.0,       0.0,      0.0,          3.0,      0.0,      0.0,
+                 -3,   0,   0,  -2,   1,         -4.0,       0.0,      0.0,          2.0,      0.0,      0.0,
+                  0,   0,   0,   3,   2,          3.0,       0.0,      0.0,         -1.0,      0.0,      0.0,
+                 -1,   1,   0,   4,   1,          6.0,       0.0,      0.0,         -3.0,      0.0,      0.0,
+                  1,  -2,   2,   0,   1,         -6.0,       0.0,      0.0,          3.0,      0.0,      0.0,
+                  0,   1,   0,   3,   0,          6.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+                 -1,   0,   2,   2,   3,          6.0,       0.0,      0.0,         -1.0,      0.0,      0.0,
+                  0,   0,   2,   2,   2,          5.0,       0.0,      0.0,         -2.0,      0.0,      0.0,
+
+            /* 591-600 */
+                 -2,   0,   2,   2,   2,         -5.0,       0.0,      0.0,          2.0,      0.0,      0.0,
+                 -1,   1,   2,   2,   0,         -4.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+                  3,   0,   0,   0,   2,         -4.0,       0.0,      0.0,          2.0,      0.0,      0.0,
+                  2,   1,   0,   1,   0,          4.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+                  2,  -1,   2,  -1,   2,          6.0,       0.0,      0.0,         -3.0,      0.0,      0.0,
+                  0,   0,   2,   0,   1,         -4.0,       0.0,      0.0,          2.0,      0.0,      0.0,
+                  0,   0,   3,   0,   3,          0.0,       0.0,    -26.0,          0.0,      0.0,    -11.0,
+                  0,   0,   3,   0,   2,          0.0,       0.0,    -10.0,          0.0,      0.0,     -5.0,
+                 -1,   2,   2,   2,   1,          5.0,       0.0,      0.0,         -3.0,      0.0,      0.0,
+                 -1,   0,   4,   0,   0,        -13.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+
+            /* 601-610 */
+                  1,   2,   2,   0,   1,          3.0,       0.0,      0.0,         -2.0,      0.0,      0.0,
+                  3,   1,   2,  -2,   1,          4.0,       0.0,      0.0,         -2.0,      0.0,      0.0,
+                  1,   1,   4,  -2,   2,          7.0,       0.0,      0.0,         -3.0,      0.0,      0.0,
+                 -2,  -1,   0,   6,   0,          4.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+                  0,  -2,   0,   4,   0,          5.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+                 -2,   0,   0,   6,   1,         -3.0,       0.0,      0.0,          2.0,      0.0,      0.0,
+                 -2,  -2,   2,   4,   2,         -6.0,       0.0,      0.0,          2.0,      0.0,      0.0,
+                  0,  -3,   2,   2,   2,         -5.0,       0.0,      0.0,          2.0,      0.0,      0.0,
+                  0,   0,   0,   4,   2,         -7.0,       0.0,      0.0,          3.0,      0.0,      0.0,
+                 -1,  -1,   2,   3,   2,          5.0,       0.0,      0.0,         -2.0,      0.0,      0.0,
+
+            /* 611-620 */
+                 -2,   0,   2,   4,   0,         13.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+                  2,  -1,   0,   2,   1,         -4.0,       0.0,      0.0,          2.0,      0.0,      0.0,
+                  1,   0,   0,   3,   0,         -3.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+                  0,   1,   0,   4,   1,          5.0,       0.0,      0.0,         -2.0,      0.0,      0.0,
+                  0,   1,   0,   4,   0,        -11.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+                  1,  -1,   2,   1,   2,          5.0,       0.0,      0.0,         -2.0,      0.0,      0.0,
+                  0,   0,   2,   2,   3,          4.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+                  1,   0,   2,   2,   2,          4.0,       0.0,      0.0,         -2.0,      0.0,      0.0,
+                 -1,   0,   2,   2,   2,         -4.0,       0.0,      0.0,          2.0,      0.0,      0.0,
+                 -2,   0,   4,   2,   1,          6.0,       0.0,      0.0,         -3.0,      0.0,      0.0,
+
+            /* 621-630 */
+                  2,   1,   0,   2,   1,          3.0,       0.0,      0.0,         -2.0,      0.0,      0.0,
+                  2,   1,   0,   2,   0,        -12.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+                  2,  -1,   2,   0,   0,          4.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+                  1,   0,   2,   1,   0,         -3.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+                  0,   1,   2,   2,   0,         -4.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+                  2,   0,   2,   0,   3,          3.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+                  3,   0,   2,   0,   2,          3.0,       0.0,      0.0,         -1.0,      0.0,      0.0,
+                  1,   0,   2,   0,   2,         -3.0,       0.0,      0.0,          1.0,      0.0,      0.0,
+                  1,   0,   3,   0,   3,          0.0,       0.0,     -5.0,          0.0,      0.0,     -2.0,
+                  1,   1,   2,   1,   1,         -7.0,       0.0,      0.0,          4.0,      0.0,      0.0,
+
+            /* 631-640 */
+                  0,   2,   2,   2,   2,          6.0,       0.0,      0.0,         -3.0,      0.0,      0.0,
+                  2,   1,   2,   0,   0,         -3.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+                  2,   0,   4,  -2,   1,          5.0,       0.0,      0.0,         -3.0,      0.0,      0.0,
+                  4,   1,   2,  -2,   2,          3.0,       0.0,      0.0,         -1.0,      0.0,      0.0,
+                 -1,  -1,   0,   6,   0,          3.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+                 -3,  -1,   2,   6,   2,         -3.0,       0.0,      0.0,          1.0,      0.0,      0.0,
+                 -1,   0,   0,   6,   1,         -5.0,       0.0,      0.0,          3.0,      0.0,      0.0,
+                 -3,   0,   2,   6,   1,         -3.0,       0.0,      0.0,          2.0,      0.0,      0.0,
+                  1,  -1,   0,   4,   1,         -3.0,       0.0,      0.0,          2.0,      0.0,      0.0,
+                  1,  -1,   0,   4,   0,         12.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+
+            /* 641-650 */
+                 -2,   0,   2,   5,   2,          3.0,       0.0,      0.0,         -1.0,      0.0,      0.0,
+                  1,  -2,   2,   2,   1,         -4.0,       0.0,      0.0,          2.0,      0.0,      0.0,
+                  3,  -1,   0,   2,   0,          4.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+                  1,  -1,   2,   2,   0,          6.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+                  0,   0,   2,   3,   1,          5.0,       0.0,      0.0,         -3.0,      0.0,      0.0,
+                 -1,   1,   2,   4,   1,          4.0,       0.0,      0.0,         -2.0,      0.0,      0.0,
+                  0,   1,   2,   3,   2,         -6.0,       0.0,      0.0,          3.0,      0.0,      0.0,
+                 -1,   0,   4,   2,   1,          4.0,       0.0,      0.0,         -2.0,      0.0,      0.0,
+                  2,   0,   2,   1,   1,          6.0,       0.0,      0.0,         -3.0,      0.0,      0.0,
+                  5,   0,   0,   0,   0,          6.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+
+            /* 651-660 */
+                  2,   1,   2,   1,   2,         -6.0,       0.0,      0.0,          3.0,      0.0,      0.0,
+                  1,   0,   4,   0,   1,          3.0,       0.0,      0.0,         -2.0,      0.0,      0.0,
+                  3,   1,   2,   0,   1,          7.0,       0.0,      0.0,         -4.0,      0.0,      0.0,
+                  3,   0,   4,  -2,   2,          4.0,       0.0,      0.0,         -2.0,      0.0,      0.0,
+                 -2,  -1,   2,   6,   2,         -5.0,       0.0,      0.0,          2.0,      0.0,      0.0,
+                  0,   0,   0,   6,   0,          5.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+                  0,  -2,   2,   4,   2,         -6.0,       0.0,      0.0,          3.0,      0.0,      0.0,
+                 -2,   0,   2,   6,   1,         -6.0,       0.0,      0.0,          3.0,      0.0,      0.0,
+                  2,   0,   0,   4,   1,         -4.0,       0.0,      0.0,          2.0,      0.0,      0.0,
+                  2,   0,   0,   4,   0,         10.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+
+            /* 661-670 */
+                  2,  -2,   2,   2,   2,         -4.0,       0.0,      0.0,          2.0,      0.0,      0.0,
+                  0,   0,   2,   4,   0,          7.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+                  1,   0,   2,   3,   2,          7.0,       0.0,      0.0,         -3.0,      0.0,      0.0,
+                  4,   0,   0,   2,   0,          4.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+                  2,   0,   2,   2,   0,         11.0,       0.0,      0.0,          0.0,      0.0,      0.0,
+                  0,   0,   4,   2,   2,          5.0,       0.0,      0.0,         -2.0,      0.0,      0.0,
+                  4,  -1,   2,   0,   2,         -6.0,       0.0,      0.0,          2.0,      0.0,      0.0,
+                  3,   0,   2,   1,   2,          4.0,       0.0,      0.0,         -2.0,      0.0,      0.0,
+                  2,   1,   2,   2,   1,          3.0,       0.0,      0.0,         -2.0,      0.0,      0.0,
+                  4,   1,   2,   0,   2,          5.0,       0.0,      0.0,         -2.0,      0.0,      0.0,
+
+            /* 671-678 */
+                 -1,  -1,   2,   6,   2,         -4.0,       0.0,      0.0,          2.0,      0.0,      0.0,
+                 -1,   0,   2,   6,   1,         -4.0,       0.0,      0.0,          2.0,      0.0,      0.0,
+                  1,  -1,   2,   4,   1,         -3.0,       0.0,      0.0,          2.0,      0.0,      0.0,
+                  1,   1,   2,   4,   2,          4.0,       0.0,      0.0,         -2.0,      0.0,      0.0,
+                  3,   1,   2,   2,   2,          3.0,       0.0,      0.0,         -1.0,      0.0,      0.0,
+                  5,   0,   2,   0,   1,         -3.0,       0.0,      0.0,          1.0,      0.0,      0.0,
+                  2,  -1,   2,   4,   2,         -3.0,       0.0,      0.0,          1.0,      0.0,      0.0,
+                  2,   0,   2,   4,   1,         -3.0,       0.0,      0.0,          2.0,      0.0,      0.0
+            };
+        }
+    }
+
+    /**
+     * Planetary part of the IAU 2000A (MHB2000) nutation model. The units
+     * for the sine and cosine coefficients are 0.1 microarcsecond.
+     */
+    static final class Nut00aPlanetary {
+        /** Number of terms in the planetary nutation model */
+        static final int NPL;
+        /** coefficients of l, F, D and Omega */
+        static final int nl[], nf[], nd[], nom[];
+        /** coefficients of planetary longitudes */
+        static final int nme[], nve[], nea[], nma[], nju[], nsa[], nur[], nne[];
+        /** coefficient of general precession */
+        static final int npa[];
+        /** longitude sin, cos coefficients */
+        static final double sp[], cp[];
+        /** obliquity sin, cos coefficients */
+        static final double se[], ce[];
+
+        static {
+            final int r1[] = rows1(), r2[] = rows2(), r3[] = rows3();
+            final int rows[] = new int[r1.length + r2.length + r3.length];
+            System.arraycopy(r1, 0, rows, 0, r1.length);
+            System.arraycopy(r2, 0, rows, r1.length, r2.length);
+            System.arraycopy(r3, 0, rows, r1.length + r2.length, r3.length);
+            NPL = rows.length / 17;
+            nl = new int[NPL]; nf = new int[NPL]; nd = new int[NPL]; nom = new int[NPL];
+            nme = new int[NPL]; nve = new int[NPL]; nea = new int[NPL]; nma = new int[NPL];
+            nju = new int[NPL]; nsa = new int[NPL]; nur = new int[NPL]; nne = new int[NPL];
+            npa = new int[NPL];
+            sp = new double[NPL]; cp = new double[NPL];
+            se = new double[NPL]; ce = new double[NPL];
+            for (int i = 0, k = 0; i < NPL; i++, k += 17) {
+                nl[i]  = rows[k];
+                nf[i]  = rows[k+1];
+                nd[i]  = rows[k+2];
+                nom[i] = rows[k+3];
+                nme[i] = rows[k+4];
+                nve[i] = rows[k+5];
+                nea[i] = rows[k+6];
+                nma[i] = rows[k+7];
+                nju[i] = rows[k+8];
+                nsa[i] = rows[k+9];
+                nur[i] = rows[k+10];
+                nne[i] = rows[k+11];
+                npa[i] = rows[k+12];
+                sp[i]  = rows[k+13];
+                cp[i]  = rows[k+14];
+                se[i]  = rows[k+15];
+                ce[i]  = rows[k+16];
+            }
+        }
+
+        private static int[] rows1() {
+            return new int[] {
+            /* 1-10 */
+                  0,  0,  0,  0,  0,  0,  8,-16,  4,  5,  0,  0,  0,   1440,     0,     0,     0,
+                  0,  0,  0,  0,  0,  0, -8, 16, -4, -5,  0,  0,  2,     56,  -117,   -42,   -40,
+                  0,  0,  0,  0,  0,  0,  8,-16,  4,  5,  0,  0,  2,    125,   -43,     0,   -54,
+                  0,  0,  0,  0,  0,  0,  0,  0,  0,  0, -1,  2,  2,      0,     5,     0,     0,
+                  0,  0,  0,  0,  0,  0, -4,  8, -1, -5,  0,  0,  2,      3,    -7,    -3,     0,
+                  0,  0,  0,  0,  0,  0,  4, -8,  3,  0,  0,  0,  1,      3,     0,     0,    -2,
+                  0,  1, -1,  1,  0,  0,  3, -8,  3,  0,  0,  0,  0,   -114,     0,     0,    61,
+                 -1,  0,  0,  0,  0, 10, -3,  0,  0,  0,  0,  0,  0,   -219,    89,     0,     0,
+                  0,  0,  0,  0,  0,  0,  0,  0, -2,  6, -3,  0,  2,     -3,     0,     0,     0,
+                  0,  0,  0,  0,  0,  0,  4, -8,  3,  0,  0,  0,  0,   -462,  1604,     0,     0,
+
+            /* 11-20 */
+                  0,  1, -1,  1,  0,  0, -5,  8, -3,  0,  0,  0,  0,     99,     0,     0,   -53,
+                  0,  0,  0,  0,  0,  0, -4,  8, -3,  0,  0,  0,  1,     -3,     0,     0,     2,
+                  0,  0,  0,  0,  0,  0,  4, -8,  1,  5,  0,  0,  2,      0,     6,     2,     0,
+                  0,  0,  0,  0,  0, -5,  6,  4,  0,  0,  0,  0,  2,      3,     0,     0,     0,
+                  0,  0,  0,  0,  0,  0,  0,  0,  2, -5,  0,  0,  2,    -12,     0,     0,     0,
+                  0,  0,  0,  0,  0,  0,  0,  0,  2, -5,  0,  0,  1,     14,  -218,   117,     8,
+                  0,  1, -1,  1,  0,  0, -1,  0,  2, -5,  0,  0,  0,     31,  -481,  -257,   -17,
+                  0,  0,  0,  0,  0,  0,  0,  0,  2, -5,  0,  0,  0,   -491,   128,     0,     0,
+                  0,  1, -1,  1,  0,  0, -1,  0, -2,  5,  0,  0,  0,  -3084,  5123,  2735,  1647,
+                  0,  0,  0,  0,  0,  0,  0,  0, -2,  5,  0,  0,  1,  -1444,  2409, -1286,  -771,
+
+            /* 21-30 */
+                  0,  0,  0,  0,  0,  0,  0,  0, -2,  5,  0,  0,  2,     11,   -24,   -11,    -9,
+                  2, -1, -1,  0,  0,  0,  3, -7,  0,  0,  0,  0,  0,     26,    -9,     0,     0,
+                  1,  0, -2,  0,  0, 19,-21,  3,  0,  0,  0,  0,  0,    103,   -60,     0,     0,
+                  0,  1, -1,  1,  0,  2, -4,  0, -3,  0,  0,  0,  0,      0,   -13,    -7,     0,
+                  1,  0, -1,  1,  0,  0, -1,  0,  2,  0,  0,  0,  0,    -26,   -29,   -16,    14,
+                  0,  1, -1,  1,  0,  0, -1,  0, -4, 10,  0,  0,  0,      9,   -27,   -14,    -5,
+                 -2,  0,  2,  1,  0,  0,  2,  0,  0, -5,  0,  0,  0,     12,     0,     0,    -6,
+                  0,  0,  0,  0,  0,  3, -7,  4,  0,  0,  0,  0,  0,     -7,     0,     0,     0,
+                  0, -1,  1,  0,  0,  0,  1,  0,  1, -1,  0,  0,  0,      0,    24,     0,     0,
+                 -2,  0,  2,  1,  0,  0,  2,  0, -2,  0,  0,  0,  0,    284,     0,     0,  -151,
+
+            /* 31-40 */
+                 -1,  0,  0,  0,  0, 18,-16,  0,  0,  0,  0,  0,  0,    226,   101,     0,     0,
+                 -2,  1,  1,  2,  0,  0,  1,  0, -2,  0,  0,  0,  0,      0,    -8,    -2,     0,
+                 -1,  1, -1,  1,  0, 18,-17,  0,  0,  0,  0,  0,  0,      0,    -6,    -3,     0,
+                 -1,  0,  1,  1,  0,  0,  2, -2,  0,  0,  0,  0,  0,      5,     0,     0,    -3,
+                  0,  0,  0,  0,  0, -8, 13,  0,  0,  0,  0,  0,  2,    -41,   175,    76,    17,
+                  0,  2, -2,  2,  0, -8, 11,  0,  0,  0,  0,  0,  0,      0,    15,     6,     0,
+                  0,  0,  0,  0,  0, -8, 13,  0,  0,  0,  0,  0,  1,    425,   212,  -133,   269,
+                  0,  1, -1,  1,  0, -8, 12,  0,  0,  0,  0,  0,  0,   1200,   598,   319,  -641,
+                  0,  0,  0,  0,  0,  8,-13,  0,  0,  0,  0,  0,  0,    235,   334,     0,     0,
+                  0,  1, -1,  1,  0,  8,-14,  0,  0,  0,  0,  0,  0,     11,   -12,    -7,    -6,
+
+            /* 41-50 */
+                  0,  0,  0,  0,  0,  8,-13,  0,  0,  0,  0,  0,  1,      5,    -6,     3,     3,
+                 -2,  0,  2,  1,  0,  0,  2,  0, -4,  5,  0,  0,  0,     -5,     0,     0,     3,
+                 -2,  0,  2,  2,  0,  3, -3,  0,  0,  0,  0,  0,  0,      6,     0,     0,    -3,
+                 -2,  0,  2,  0,  0,  0,  2,  0, -3,  1,  0,  0,  0,     15,     0,     0,     0,
+                  0,  0,  0,  1,  0,  3, -5,  0,  2,  0,  0,  0,  0,     13,     0,     0,    -7,
+                 -2,  0,  2,  0,  0,  0,  2,  0, -4,  3,  0,  0,  0,     -6,    -9,     0,     0,
+                  0, -1,  1,  0,  0,  0,  0,  2,  0,  0,  0,  0,  0,    266,   -78,     0,     0,
+                  0,  0,  0,  1,  0,  0, -1,  2,  0,  0,  0,  0,  0,   -460,  -435,  -232,   246,
+                  0,  1, -1,  2,  0,  0, -2,  2,  0,  0,  0,  0,  0,      0,    15,     7,     0,
+                 -1,  1,  0,  1,  0,  3, -5,  0,  0,  0,  0,  0,  0,     -3,     0,     0,     2,
+
+            /* 51-60 */
+                 -1,  0,  1,  0,  0,  3, -4,  0,  0,  0,  0,  0,  0,      0,   131,     0,     0,
+                 -2,  0,  2,  0,  0,  0,  2,  0, -2, -2,  0,  0,  0,      4,     0,     0,     0,
+                 -2,  2,  0,  2,  0,  0, -5,  9,  0,  0,  0,  0,  0,      0,     3,     0,     0,
+                  0,  1, -1,  1,  0,  0, -1,  0,  0,  0, -1,  0,  0,      0,     4,     2,     0,
+                  0,  0,  0,  0,  0,  0,  0,  0,  0,  0,  1,  0,  0,      0,     3,     0,     0,
+                  0,  1, -1,  1,  0,  0, -1,  0,  0,  0,  0,  2,  0,    -17,   -19,   -10,     9,
+                  0,  0,  0,  0,  0,  0,  0,  0,  0,  0,  0,  2,  1,     -9,   -11,     6,    -5,
+                  0,  0,  0,  0,  0,  0,  0,  0,  0,  0,  0,  2,  2,     -6,     0,     0,     3,
+                 -1,  0,  1,  0,  0,  0,  3, -4,  0,  0,  0,  0,  0,    -16,     8,     0,     0,
+                  0, -1,  1,  0,  0,  0,  1,  0,  0,  2,  0,  0,  0,      0,     3,     0,     0,
+
+            /* 61-70 */
+                  0,  1, -1,  2,  0,  0, -1,  0,  0,  2,  0,  0,  0,     11,    24,    11,    -5,
+                  0,  0,  0,  1,  0,  0, -9, 17,  0,  0,  0,  0,  0,     -3,    -4,    -2,     1,
+                  0,  0,  0,  2,  0, -3,  5,  0,  0,  0,  0,  0,  0,      3,     0,     0,    -1,
+                  0,  1, -1,  1,  0,  0, -1,  0, -1,  2,  0,  0,  0,      0,    -8,    -4,     0,
+                  0,  0,  0,  0,  0,  0,  0,  0,  1, -2,  0,  0,  0,      0,     3,     0,     0,
+                  1,  0, -2,  0,  0, 17,-16,  0, -2,  0,  0,  0,  0,      0,     5,     0,     0,
+                  0,  1, -1,  1,  0,  0, -1,  0,  1, -3,  0,  0,  0,      0,     3,     2,     0,
+                 -2,  0,  2,  1,  0,  0,  5, -6,  0,  0,  0,  0,  0,     -6,     4,     2,     3,
+                  0, -2,  2,  0,  0,  0,  9,-13,  0,  0,  0,  0,  0,     -3,    -5,     0,     0,
+                  0,  1, -1,  2,  0,  0, -1,  0,  0,  1,  0,  0,  0,     -5,     0,     0,     2,
+
+            /* 71-80 */
+                  0,  0,  0,  1,  0,  0,  0,  0,  0,  1,  0,  0,  0,      4,    24,    13,    -2,
+                  0, -1,  1,  0,  0,  0,  1,  0,  0,  1,  0,  0,  0,    -42,    20,     0,     0,
+                  0, -2,  2,  0,  0,  5, -6,  0,  0,  0,  0,  0,  0,    -10,   233,     0,     0,
+                  0, -1,  1,  1,  0,  5, -7,  0,  0,  0,  0,  0,  0,     -3,     0,     0,     1,
+                 -2,  0,  2,  0,  0,  6, -8,  0,  0,  0,  0,  0,  0,     78,   -18,     0,     0,
+                  2,  1, -3,  1,  0, -6,  7,  0,  0,  0,  0,  0,  0,      0,     3,     1,     0,
+                  0,  0,  0,  2,  0,  0,  0,  0,  1,  0,  0,  0,  0,      0,    -3,    -1,     0,
+                  0, -1,  1,  1,  0,  0,  1,  0,  1,  0,  0,  0,  0,      0,    -4,    -2,     1,
+                  0,  1, -1,  1,  0,  0, -1,  0,  0,  0,  2,  0,  0,      0,    -8,    -4,    -1,
+                  0,  0,  0,  0,  0,  0,  0,  0,  0,  0,  2,  0,  1,      0,    -5,     3,     0,
+
+            /* 81-90 */
+                  0,  0,  0,  0,  0,  0,  0,  0,  0,  0,  2,  0,  2,     -7,     0,     0,     3,
+                  0,  0,  0,  0,  0,  0, -8, 15,  0,  0,  0,  0,  2,    -14,     8,     3,     6,
+                  0,  0,  0,  0,  0,  0, -8, 15,  0,  0,  0,  0,  1,      0,     8,    -4,     0,
+                  0,  1, -1,  1,  0,  0, -9, 15,  0,  0,  0,  0,  0,      0,    19,    10,     0,
+                  0,  0,  0,  0,  0,  0,  8,-15,  0,  0,  0,  0,  0,     45,   -22,     0,     0,
+                  1, -1, -1,  0,  0,  0,  8,-15,  0,  0,  0,  0,  0,     -3,     0,     0,     0,
+                  2,  0, -2,  0,  0,  2, -5,  0,  0,  0,  0,  0,  0,      0,    -3,     0,     0,
+                 -2,  0,  2,  0,  0,  0,  2,  0, -5,  5,  0,  0,  0,      0,     3,     0,     0,
+                  2,  0, -2,  1,  0,  0, -6,  8,  0,  0,  0,  0,  0,      3,     5,     3,    -2,
+                  2,  0, -2,  1,  0,  0, -2,  0,  3,  0,  0,  0,  0,     89,   -16,    -9,   -48,
+
+            /* 91-100 */
+                 -2,  1,  1,  0,  0,  0,  1,  0, -3,  0,  0,  0,  0,      0,     3,     0,     0,
+                 -2,  1,  1,  1,  0,  0,  1,  0, -3,  0,  0,  0,  0,     -3,     7,     4,     2,
+                 -2,  0,  2,  0,  0,  0,  2,  0, -3,  0,  0,  0,  0,   -349,   -62,     0,     0,
+                 -2,  0,  2,  0,  0,  0,  6, -8,  0,  0,  0,  0,  0,    -15,    22,     0,     0,
+                 -2,  0,  2,  0,  0,  0,  2,  0, -1, -5,  0,  0,  0,     -3,     0,     0,     0,
+                 -1,  0,  1,  0,  0,  0,  1,  0, -1,  0,  0,  0,  0,    -53,     0,     0,     0,
+                 -1,  1,  1,  1,  0,-20, 20,  0,  0,  0,  0,  0,  0,      5,     0,     0,    -3,
+                  1,  0, -2,  0,  0, 20,-21,  0,  0,  0,  0,  0,  0,      0,    -8,     0,     0,
+                  0,  0,  0,  1,  0,  0,  8,-15,  0,  0,  0,  0,  0,     15,    -7,    -4,    -8,
+                  0,  2, -2,  1,  0,  0,-10, 15,  0,  0,  0,  0,  0,     -3,     0,     0,     1,
+
+            /* 101-110 */
+                  0, -1,  1,  0,  0,  0,  1,  0,  1,  0,  0,  0,  0,    -21,   -78,     0,     0,
+                  0,  0,  0,  1,  0,  0,  0,  0,  1,  0,  0,  0,  0,     20,   -70,   -37,   -11,
+                  0,  1, -1,  2,  0,  0, -1,  0,  1,  0,  0,  0,  0,      0,     6,     3,     0,
+                  0,  1, -1,  1,  0,  0, -1,  0, -2,  4,  0,  0,  0,      5,     3,     2,    -2,
+                  2,  0, -2,  1,  0, -6,  8,  0,  0,  0,  0,  0,  0,    -17,    -4,    -2,     9,
+                  0, -2,  2,  1,  0,  5, -6,  0,  0,  0,  0,  0,  0,      0,     6,     3,     0,
+                  0,  0,  0,  0,  0,  0,  0,  0,  0, -1,  0,  0,  1,     32,    15,    -8,    17,
+                  0,  1, -1,  1,  0,  0, -1,  0,  0, -1,  0,  0,  0,    174,    84,    45,   -93,
+                  0,  0,  0,  0,  0,  0,  0,  0,  0,  1,  0,  0,  0,     11,    56,     0,     0,
+                  0,  1, -1,  1,  0,  0, -1,  0,  0,  1,  0,  0,  0,    -66,   -12,    -6,    35,
+
+            /* 111-120 */
+                  0,  0,  0,  0,  0,  0,  0,  0,  0,  1,  0,  0,  1,     47,     8,     4,   -25,
+                  0,  0,  0,  0,  0,  0,  0,  0,  0,  1,  0,  0,  2,      0,     8,     4,     0,
+                  0,  2, -2,  1,  0,  0, -9, 13,  0,  0,  0,  0,  0,     10,   -22,   -12,    -5,
+                  0,  0,  0,  1,  0,  0,  7,-13,  0,  0,  0,  0,  0,     -3,     0,     0,     2,
+                 -2,  0,  2,  0,  0,  0,  5, -6,  0,  0,  0,  0,  0,    -24,    12,     0,     0,
+                  0,  0,  0,  0,  0,  0,  9,-17,  0,  0,  0,  0,  0,      5,    -6,     0,     0,
+                  0,  0,  0,  0,  0,  0, -9, 17,  0,  0,  0,  0,  2,      3,     0,     0,    -2,
+                  1,  0, -1,  1,  0,  0, -3,  4,  0,  0,  0,  0,  0,      4,     3,     1,    -2,
+                  1,  0, -1,  1,  0, -3,  4,  0,  0,  0,  0,  0,  0,      0,    29,    15,     0,
+                  0,  0,  0,  2,  0,  0, -1,  2,  0,  0,  0,  0,  0,     -5,    -4,    -2,     2,
+
+            /* 121-130 */
+                  0, -1,  1,  1,  0,  0,  0,  2,  0,  0,  0,  0,  0,      8,    -3,    -1,    -5,
+                  0, -2,  2,  0,  1,  0, -2,  0,  0,  0,  0,  0,  0,      0,    -3,     0,     0,
+                  0,  0,  0,  0,  0,  3, -5,  0,  2,  0,  0,  0,  0,     10,     0,     0,     0,
+                 -2,  0,  2,  1,  0,  0,  2,  0, -3,  1,  0,  0,  0,      3,     0,     0,    -2,
+                 -2,  0,  2,  1,  0,  3, -3,  0,  0,  0,  0,  0,  0,     -5,     0,     0,     3,
+                  0,  0,  0,  1,  0,  8,-13,  0,  0,  0,  0,  0,  0,     46,    66,    35,   -25,
+                  0, -1,  1,  0,  0,  8,-12,  0,  0,  0,  0,  0,  0,    -14,     7,     0,     0,
+                  0,  2, -2,  1,  0, -8, 11,  0,  0,  0,  0,  0,  0,      0,     3,     2,     0,
+                 -1,  0,  1,  0,  0,  0,  2, -2,  0,  0,  0,  0,  0,     -5,     0,     0,     0,
+                 -1,  0,  0,  1,  0, 18,-16,  0,  0,  0,  0,  0,  0,    -68,   -34,   -18,    36,
+
+            /* 131-140 */
+                  0,  1, -1,  1,  0,  0, -1,  0, -1,  1,  0,  0,  0,      0,    14,     7,     0,
+                  0,  0,  0,  1,  0,  3, -7,  4,  0,  0,  0,  0,  0,     10,    -6,    -3,    -5,
+                 -2,  1,  1,  1,  0,  0, -3,  7,  0,  0,  0,  0,  0,     -5,    -4,    -2,     3,
+                  0,  1, -1,  2,  0,  0, -1,  0, -2,  5,  0,  0,  0,     -3,     5,     2,     1,
+                  0,  0,  0,  1,  0,  0,  0,  0, -2,  5,  0,  0,  0,     76,    17,     9,   -41,
+                  0,  0,  0,  1,  0,  0, -4,  8, -3,  0,  0,  0,  0,     84,   298,   159,   -45,
+                  1,  0,  0,  1,  0,-10,  3,  0,  0,  0,  0,  0,  0,      3,     0,     0,    -1,
+                  0,  2, -2,  1,  0,  0, -2,  0,  0,  0,  0,  0,  0,     -3,     0,     0,     2,
+                 -1,  0,  0,  1,  0, 10, -3,  0,  0,  0,  0,  0,  0,     -3,     0,     0,     1,
+                  0,  0,  0,  1,  0,  0,  4, -8,  3,  0,  0,  0,  0,    -82,   292,   156,    44,
+
+            /* 141-150 */
+                  0,  0,  0,  1,  0,  0,  0,  0,  2, -5,  0,  0,  0,    -73,    17,     9,    39,
+                  0, -1,  1,  0,  0,  0,  1,  0,  2, -5,  0,  0,  0,     -9,   -16,     0,     0,
+                  2, -1, -1,  1,  0,  0,  3, -7,  0,  0,  0,  0,  0,      3,     0,    -1,    -2,
+                 -2,  0,  2,  0,  0,  0,  2,  0,  0, -5,  0,  0,  0,     -3,     0,     0,     0,
+                  0,  0,  0,  1,  0, -3,  7, -4,  0,  0,  0,  0,  0,     -9,    -5,    -3,     5,
+                 -2,  0,  2,  0,  0,  0,  2,  0, -2,  0,  0,  0,  0,   -439,     0,     0,     0,
+                  1,  0,  0,  1,  0,-18, 16,  0,  0,  0,  0,  0,  0,     57,   -28,   -15,   -30,
+                 -2,  1,  1,  1,  0,  0,  1,  0, -2,  0,  0,  0,  0,      0,    -6,    -3,     0,
+                  0,  1, -1,  2,  0, -8, 12,  0,  0,  0,  0,  0,  0,     -4,     0,     0,     2,
+                  0,  0,  0,  1,  0, -8, 13,  0,  0,  0,  0,  0,  0,    -40,    57,    30,    21,
+
+            /* 151-160 */
+                  0,  0,  0,  0,  0,  0,  1, -2,  0,  0,  0,  0,  1,     23,     7,     3,   -13,
+                  0,  1, -1,  1,  0,  0,  0, -2,  0,  0,  0,  0,  0,    273,    80,    43,  -146,
+                  0,  0,  0,  0,  0,  0,  1, -2,  0,  0,  0,  0,  0,   -449,   430,     0,     0,
+                  0,  1, -1,  1,  0,  0, -2,  2,  0,  0,  0,  0,  0,     -8,   -47,   -25,     4,
+                  0,  0,  0,  0,  0,  0, -1,  2,  0,  0,  0,  0,  1,      6,    47,    25,    -3,
+                 -1,  0,  1,  1,  0,  3, -4,  0,  0,  0,  0,  0,  0,      0,    23,    13,     0,
+                 -1,  0,  1,  1,  0,  0,  3, -4,  0,  0,  0,  0,  0,     -3,     0,     0,     2,
+                  0,  1, -1,  1,  0,  0, -1,  0,  0, -2,  0,  0,  0,      3,    -4,    -2,    -2,
+                  0,  1, -1,  1,  0,  0, -1,  0,  0,  2,  0,  0,  0,    -48,  -110,   -59,    26,
+                  0,  0,  0,  0,  0,  0,  0,  0,  0,  2,  0,  0,  1,     51,   114,    61,   -27,
+
+            /* 161-170 */
+                  0,  0,  0,  0,  0,  0,  0,  0,  0,  2,  0,  0,  2,   -133,     0,     0,    57,
+                  0,  1, -1,  0,  0,  3, -6,  0,  0,  0,  0,  0,  0,      0,     4,     0,     0,
+                  0,  0,  0,  1,  0, -3,  5,  0,  0,  0,  0,  0,  0,    -21,    -6,    -3,    11,
+                  0,  1, -1,  2,  0, -3,  4,  0,  0,  0,  0,  0,  0,      0,    -3,    -1,     0,
+                  0,  0,  0,  1,  0,  0, -2,  4,  0,  0,  0,  0,  0,    -11,   -21,   -11,     6,
+                  0,  2, -2,  1,  0, -5,  6,  0,  0,  0,  0,  0,  0,    -18,  -436,  -233,     9,
+                  0, -1,  1,  0,  0,  5, -7,  0,  0,  0,  0,  0,  0,     35,    -7,     0,     0,
+                  0,  0,  0,  1,  0,  5, -8,  0,  0,  0,  0,  0,  0,      0,     5,     3,     0,
+                 -2,  0,  2,  1,  0,  6, -8,  0,  0,  0,  0,  0,  0,     11,    -3,    -1,    -6,
+                  0,  0,  0,  1,  0,  0, -8, 15,  0,  0,  0,  0,  0,     -5,    -3,    -1,     3,
+
+            /* 171-180 */
+                 -2,  0,  2,  1,  0,  0,  2,  0, -3,  0,  0,  0,  0,    -53,    -9,    -5,    28,
+                 -2,  0,  2,  1,  0,  0,  6, -8,  0,  0,  0,  0,  0,      0,     3,     2,     1,
+                  1,  0, -1,  1,  0,  0, -1,  0,  1,  0,  0,  0,  0,      4,     0,     0,    -2,
+                  0,  0,  0,  0,  0,  0,  0,  0,  3, -5,  0,  0,  0,      0,    -4,     0,     0,
+                  0,  1, -1,  1,  0,  0, -1,  0, -1,  0,  0,  0,  0,    -50,   194,   103,    27,
+                  0,  0,  0,  0,  0,  0,  0,  0, -1,  0,  0,  0,  1,    -13,    52,    28,     7,
+                  0,  0,  0,  0,  0,  0,  0,  0,  1,  0,  0,  0,  0,    -91,   248,     0,     0,
+                  0,  0,  0,  0,  0,  0,  0,  0,  1,  0,  0,  0,  1,      6,    49,    26,    -3,
+                  0,  1, -1,  1,  0,  0, -1,  0,  1,  0,  0,  0,  0,     -6,   -47,   -25,     3,
+                  0,  0,  0,  0,  0,  0,  0,  0,  1,  0,  0,  0,  1,      0,     5,     3,     0,
+
+            /* 181-190 */
+                  0,  0,  0,  0,  0,  0,  0,  0,  1,  0,  0,  0,  2,     52,    23,    10,   -23,
+                  0,  1, -1,  2,  0,  0, -1,  0,  0, -1,  0,  0,  0,     -3,     0,     0,     1,
+                  0,  0,  0,  1,  0,  0,  0,  0,  0, -1,  0,  0,  0,      0,     5,     3,     0,
+                  0, -1,  1,  0,  0,  0,  1,  0,  0, -1,  0,  0,  0,     -4,     0,     0,     0,
+                  0,  0,  0,  0,  0,  0, -7, 13,  0,  0,  0,  0,  2,     -4,     8,     3,     2,
+                  0,  0,  0,  0,  0,  0,  7,-13,  0,  0,  0,  0,  0,     10,     0,     0,     0,
+                  2,  0, -2,  1,  0,  0, -5,  6,  0,  0,  0,  0,  0,      3,     0,     0,    -2,
+                  0,  2, -2,  1,  0,  0, -8, 11,  0,  0,  0,  0,  0,      0,     8,     4,     0,
+                  0,  2, -2,  1, -1,  0,  2,  0,  0,  0,  0,  0,  0,      0,     8,     4,     1,
+                 -2,  0,  2,  0,  0,  0,  4, -4,  0,  0,  0,  0,  0,     -4,     0,     0,     0,
+
+            /* 191-200 */
+                  0,  0,  0,  0,  0,  0,  0,  0,  2, -2,  0,  0,  0,     -4,     0,     0,     0,
+                  0,  1, -1,  1,  0,  0, -1,  0,  0,  3,  0,  0,  0,     -8,     4,     2,     4,
+                  0,  0,  0,  0,  0,  0,  0,  0,  0,  3,  0,  0,  1,      8,    -4,    -2,    -4,
+                  0,  0,  0,  0,  0,  0,  0,  0,  0,  3,  0,  0,  2,      0,    15,     7,     0,
+                 -2,  0,  2,  0,  0,  3, -3,  0,  0,  0,  0,  0,  0,   -138,     0,     0,     0,
+                  0,  0,  0,  2,  0,  0, -4,  8, -3,  0,  0,  0,  0,      0,    -7,    -3,     0,
+                  0,  0,  0,  2,  0,  0,  4, -8,  3,  0,  0,  0,  0,      0,    -7,    -3,     0,
+                  2,  0, -2,  1,  0,  0, -2,  0,  2,  0,  0,  0,  0,     54,     0,     0,   -29,
+                  0,  1, -1,  2,  0,  0, -1,  0,  2,  0,  0,  0,  0,      0,    10,     4,     0,
+                  0,  1, -1,  2,  0,  0,  0, -2,  0,  0,  0,  0,  0,     -7,     0,     0,     3,
+
+            /* 201-210 */
+                  0,  0,  0,  1,  0,  0,  1, -2,  0,  0,  0,  0,  0,    -37,    35,    19,    20,
+                  0, -1,  1,  0,  0,  0,  2, -2,  0,  0,  0,  0,  0,      0,     4,     0,     0,
+                  0, -1,  1,  0,  0,  0,  1,  0,  0, -2,  0,  0,  0,     -4,     9,     0,     0,
+                  0,  2, -2,  1,  0,  0, -2,  0,  0,  2,  0,  0,  0,      8,     0,     0,    -4,
+                  0,  1, -1,  1,  0,  3, -6,  0,  0,  0,  0,  0,  0,     -9,   -14,    -8,     5,
+                  0,  0,  0,  0,  0,  3, -5,  0,  0,  0,  0,  0,  1,     -3,    -9,    -5,     3,
+                  0,  0,  0,  0,  0,  3, -5,  0,  0,  0,  0,  0,  0,   -145,    47,     0,     0,
+                  0,  1, -1,  1,  0, -3,  4,  0,  0,  0,  0,  0,  0,    -10,    40,    21,     5,
+                  0,  0,  0,  0,  0, -3,  5,  0,  0,  0,  0,  0,  1,     11,   -49,   -26,    -7,
+                  0,  0,  0,  0,  0, -3,  5,  0,  0,  0,  0,  0,  2,  -2150,     0,     0,   932,
+
+            /* 211-220 */
+                  0,  2, -2,  2,  0, -3,  3,  0,  0,  0,  0,  0,  0,    -12,     0,     0,     5,
+                  0,  0,  0,  0,  0, -3,  5,  0,  0,  0,  0,  0,  2,     85,     0,     0,   -37,
+                  0,  0,  0,  0,  0,  0,  2, -4,  0,  0,  0,  0,  1,      4,     0,     0,    -2,
+                  0,  1, -1,  1,  0,  0,  1, -4,  0,  0,  0,  0,  0,      3,     0,     0,    -2,
+                  0,  0,  0,  0,  0,  0,  2, -4,  0,  0,  0,  0,  0,    -86,   153,     0,     0,
+                  0,  0,  0,  0,  0,  0, -2,  4,  0,  0,  0,  0,  1,     -6,     9,     5,     3,
+                  0,  1, -1,  1,  0,  0, -3,  4,  0,  0,  0,  0,  0,      9,   -13,    -7,    -5,
+                  0,  0,  0,  0,  0,  0, -2,  4,  0,  0,  0,  0,  1,     -8,    12,     6,     4,
+                  0,  0,  0,  0,  0,  0, -2,  4,  0,  0,  0,  0,  2,    -51,     0,     0,    22,
+                  0,  0,  0,  0,  0, -5,  8,  0,  0,  0,  0,  0,  2,    -11,  -268,  -116,     5,
+
+            /* 221-230 */
+                  0,  2, -2,  2,  0, -5,  6,  0,  0,  0,  0,  0,  0,      0,    12,     5,     0,
+                  0,  0,  0,  0,  0, -5,  8,  0,  0,  0,  0,  0,  2,      0,     7,     3,     0,
+                  0,  0,  0,  0,  0, -5,  8,  0,  0,  0,  0,  0,  1,     31,     6,     3,   -17,
+                  0,  1, -1,  1,  0, -5,  7,  0,  0,  0,  0,  0,  0,    140,    27,    14,   -75,
+                  0,  0,  0,  0,  0, -5,  8,  0,  0,  0,  0,  0,  1,     57,    11,     6,   -30,
+                  0,  0,  0,  0,  0,  5, -8,  0,  0,  0,  0,  0,  0,    -14,   -39,     0,     0,
+                  0,  1, -1,  2,  0,  0, -1,  0, -1,  0,  0,  0,  0,      0,    -6,    -2,     0,
+                  0,  0,  0,  1,  0,  0,  0,  0, -1,  0,  0,  0,  0,      4,    15,     8,    -2,
+                  0, -1,  1,  0,  0,  0,  1,  0, -1,  0,  0,  0,  0,      0,     4,     0,     0,
+                  0,  2, -2,  1,  0,  0, -2,  0,  1,  0,  0,  0,  0,     -3,     0,     0,     1
+            };
+        }
+
+        private static int[] rows2() {
+            return new int[] {
+            /* 231-240 */
+                  0,  0,  0,  0,  0,  0, -6, 11,  0,  0,  0,  0,  2,      0,    11,     5,     0,
+                  0,  0,  0,  0,  0,  0,  6,-11,  0,  0,  0,  0,  0,      9,     6,     0,     0,
+                  0,  0,  0,  0, -1,  0,  4,  0,  0,  0,  0,  0,  2,     -4,    10,     4,     2,
+                  0,  0,  0,  0,  1,  0, -4,  0,  0,  0,  0,  0,  0,      5,     3,     0,     0,
+                  2,  0, -2,  1,  0, -3,  3,  0,  0,  0,  0,  0,  0,     16,     0,     0,    -9,
+                 -2,  0,  2,  0,  0,  0,  2,  0,  0, -2,  0,  0,  0,     -3,     0,     0,     0,
+                  0,  2, -2,  1,  0,  0, -7,  9,  0,  0,  0,  0,  0,      0,     3,     2,    -1,
+                  0,  0,  0,  0,  0,  0,  0,  0,  4, -5,  0,  0,  2,      7,     0,     0,    -3,
+                  0,  0,  0,  0,  0,  0,  0,  0,  2,  0,  0,  0,  0,    -25,    22,     0,     0,
+                  0,  0,  0,  0,  0,  0,  0,  0,  2,  0,  0,  0,  1,     42,   223,   119,   -22,
+
+            /* 241-250 */
+                  0,  1, -1,  1,  0,  0, -1,  0,  2,  0,  0,  0,  0,    -27,  -143,   -77,    14,
+                  0,  0,  0,  0,  0,  0,  0,  0,  2,  0,  0,  0,  1,      9,    49,    26,    -5,
+                  0,  0,  0,  0,  0,  0,  0,  0,  2,  0,  0,  0,  2,  -1166,     0,     0,   505,
+                  0,  2, -2,  2,  0,  0, -2,  0,  2,  0,  0,  0,  0,     -5,     0,     0,     2,
+                  0,  0,  0,  0,  0,  0,  0,  0,  0,  5,  0,  0,  2,     -6,     0,     0,     3,
+                  0,  0,  0,  1,  0,  3, -5,  0,  0,  0,  0,  0,  0,     -8,     0,     1,     4,
+                  0, -1,  1,  0,  0,  3, -4,  0,  0,  0,  0,  0,  0,      0,    -4,     0,     0,
+                  0,  2, -2,  1,  0, -3,  3,  0,  0,  0,  0,  0,  0,    117,     0,     0,   -63,
+                  0,  0,  0,  1,  0,  0,  2, -4,  0,  0,  0,  0,  0,     -4,     8,     4,     2,
+                  0,  2, -2,  1,  0,  0, -4,  4,  0,  0,  0,  0,  0,      3,     0,     0,    -2,
+
+            /* 251-260 */
+                  0,  1, -1,  2,  0, -5,  7,  0,  0,  0,  0,  0,  0,     -5,     0,     0,     2,
+                  0,  0,  0,  0,  0,  0,  3, -6,  0,  0,  0,  0,  0,      0,    31,     0,     0,
+                  0,  0,  0,  0,  0,  0, -3,  6,  0,  0,  0,  0,  1,     -5,     0,     1,     3,
+                  0,  1, -1,  1,  0,  0, -4,  6,  0,  0,  0,  0,  0,      4,     0,     0,    -2,
+                  0,  0,  0,  0,  0,  0, -3,  6,  0,  0,  0,  0,  1,     -4,     0,     0,     2,
+                  0,  0,  0,  0,  0,  0, -3,  6,  0,  0,  0,  0,  2,    -24,   -13,    -6,    10,
+                  0, -1,  1,  0,  0,  2, -2,  0,  0,  0,  0,  0,  0,      3,     0,     0,     0,
+                  0,  0,  0,  1,  0,  2, -3,  0,  0,  0,  0,  0,  0,      0,   -32,   -17,     0,
+                  0,  0,  0,  0,  0,  0, -5,  9,  0,  0,  0,  0,  2,      8,    12,     5,    -3,
+                  0,  0,  0,  0,  0,  0, -5,  9,  0,  0,  0,  0,  1,      3,     0,     0,    -1,
+
+            /* 261-270 */
+                  0,  0,  0,  0,  0,  0,  5, -9,  0,  0,  0,  0,  0,      7,    13,     0,     0,
+                  0, -1,  1,  0,  0,  0,  1,  0, -2,  0,  0,  0,  0,     -3,    16,     0,     0,
+                  0,  2, -2,  1,  0,  0, -2,  0,  2,  0,  0,  0,  0,     50,     0,     0,   -27,
+                 -2,  1,  1,  1,  0,  0,  1,  0,  0,  0,  0,  0,  0,      0,    -5,    -3,     0,
+                  0, -2,  2,  0,  0,  3, -3,  0,  0,  0,  0,  0,  0,     13,     0,     0,     0,
+                  0,  0,  0,  0,  0, -6, 10,  0,  0,  0,  0,  0,  1,      0,     5,     3,     1,
+                  0,  0,  0,  0,  0, -6, 10,  0,  0,  0,  0,  0,  2,     24,     5,     2,   -11,
+                  0,  0,  0,  0,  0, -2,  3,  0,  0,  0,  0,  0,  2,      5,   -11,    -5,    -2,
+                  0,  0,  0,  0,  0, -2,  3,  0,  0,  0,  0,  0,  1,     30,    -3,    -2,   -16,
+                  0,  1, -1,  1,  0, -2,  2,  0,  0,  0,  0,  0,  0,     18,     0,     0,    -9,
+
+            /* 271-280 */
+                  0,  0,  0,  0,  0,  2, -3,  0,  0,  0,  0,  0,  0,      8,   614,     0,     0,
+                  0,  0,  0,  0,  0,  2, -3,  0,  0,  0,  0,  0,  1,      3,    -3,    -1,    -2,
+                  0,  0,  0,  0,  0,  0,  0,  0,  3,  0,  0,  0,  1,      6,    17,     9,    -3,
+                  0,  1, -1,  1,  0,  0, -1,  0,  3,  0,  0,  0,  0,     -3,    -9,    -5,     2,
+                  0,  0,  0,  0,  0,  0,  0,  0,  3,  0,  0,  0,  1,      0,     6,     3,    -1,
+                  0,  0,  0,  0,  0,  0,  0,  0,  3,  0,  0,  0,  2,   -127,    21,     9,    55,
+                  0,  0,  0,  0,  0,  0,  4, -8,  0,  0,  0,  0,  0,      3,     5,     0,     0,
+                  0,  0,  0,  0,  0,  0, -4,  8,  0,  0,  0,  0,  2,     -6,   -10,    -4,     3,
+                  0, -2,  2,  0,  0,  0,  2,  0, -2,  0,  0,  0,  0,      5,     0,     0,     0,
+                  0,  0,  0,  0,  0,  0, -4,  7,  0,  0,  0,  0,  2,     16,     9,     4,    -7,
+
+            /* 281-290 */
+                  0,  0,  0,  0,  0,  0, -4,  7,  0,  0,  0,  0,  1,      3,     0,     0,    -2,
+                  0,  0,  0,  0,  0,  0,  4, -7,  0,  0,  0,  0,  0,      0,    22,     0,     0,
+                  0,  0,  0,  1,  0, -2,  3,  0,  0,  0,  0,  0,  0,      0,    19,    10,     0,
+                  0,  2, -2,  1,  0,  0, -2,  0,  3,  0,  0,  0,  0,      7,     0,     0,    -4,
+                  0,  0,  0,  0,  0,  0, -5, 10,  0,  0,  0,  0,  2,      0,    -5,    -2,     0,
+                  0,  0,  0,  1,  0, -1,  2,  0,  0,  0,  0,  0,  0,      0,     3,     1,     0,
+                  0,  0,  0,  0,  0,  0,  0,  0,  4,  0,  0,  0,  2,     -9,     3,     1,     4,
+                  0,  0,  0,  0,  0,  0, -3,  5,  0,  0,  0,  0,  2,     17,     0,     0,    -7,
+                  0,  0,  0,  0,  0,  0, -3,  5,  0,  0,  0,  0,  1,      0,    -3,    -2,    -1,
+                  0,  0,  0,  0,  0,  0,  3, -5,  0,  0,  0,  0,  0,    -20,    34,     0,     0,
+
+            /* 291-300 */
+                  0,  0,  0,  0,  0,  1, -2,  0,  0,  0,  0,  0,  1,    -10,     0,     1,     5,
+                  0,  1, -1,  1,  0,  1, -3,  0,  0,  0,  0,  0,  0,     -4,     0,     0,     2,
+                  0,  0,  0,  0,  0,  1, -2,  0,  0,  0,  0,  0,  0,     22,   -87,     0,     0,
+                  0,  0,  0,  0,  0, -1,  2,  0,  0,  0,  0,  0,  1,     -4,     0,     0,     2,
+                  0,  0,  0,  0,  0, -1,  2,  0,  0,  0,  0,  0,  2,     -3,    -6,    -2,     1,
+                  0,  0,  0,  0,  0, -7, 11,  0,  0,  0,  0,  0,  2,    -16,    -3,    -1,     7,
+                  0,  0,  0,  0,  0, -7, 11,  0,  0,  0,  0,  0,  1,      0,    -3,    -2,     0,
+                  0, -2,  2,  0,  0,  4, -4,  0,  0,  0,  0,  0,  0,      4,     0,     0,     0,
+                  0,  0,  0,  0,  0,  0,  2, -3,  0,  0,  0,  0,  0,    -68,    39,     0,     0,
+                  0,  2, -2,  1,  0, -4,  4,  0,  0,  0,  0,  0,  0,     27,     0,     0,   -14,
+
+            /* 301-310 */
+                  0, -1,  1,  0,  0,  4, -5,  0,  0,  0,  0,  0,  0,      0,    -4,     0,     0,
+                  0,  0,  0,  0,  0,  0,  1, -1,  0,  0,  0,  0,  0,    -25,     0,     0,     0,
+                  0,  0,  0,  0,  0, -4,  7,  0,  0,  0,  0,  0,  1,    -12,    -3,    -2,     6,
+                  0,  1, -1,  1,  0, -4,  6,  0,  0,  0,  0,  0,  0,      3,     0,     0,    -1,
+                  0,  0,  0,  0,  0, -4,  7,  0,  0,  0,  0,  0,  2,      3,    66,    29,    -1,
+                  0,  0,  0,  0,  0, -4,  6,  0,  0,  0,  0,  0,  2,    490,     0,     0,  -213,
+                  0,  0,  0,  0,  0, -4,  6,  0,  0,  0,  0,  0,  1,    -22,    93,    49,    12,
+                  0,  1, -1,  1,  0, -4,  5,  0,  0,  0,  0,  0,  0,     -7,    28,    15,     4,
+                  0,  0,  0,  0,  0, -4,  6,  0,  0,  0,  0,  0,  1,     -3,    13,     7,     2,
+                  0,  0,  0,  0,  0,  4, -6,  0,  0,  0,  0,  0,  0,    -46,    14,     0,     0,
+
+            /* 311-320 */
+                 -2,  0,  2,  0,  0,  2, -2,  0,  0,  0,  0,  0,  0,     -5,     0,     0,     0,
+                  0,  0,  0,  0,  0,  0,  0,  1,  0,  0,  0,  0,  0,      2,     1,     0,     0,
+                  0, -1,  1,  0,  0,  1,  0,  0,  0,  0,  0,  0,  0,      0,    -3,     0,     0,
+                  0,  0,  0,  1,  0,  1, -1,  0,  0,  0,  0,  0,  0,    -28,     0,     0,    15,
+                  0,  0,  0,  0,  0,  0, -1,  0,  5,  0,  0,  0,  2,      5,     0,     0,    -2,
+                  0,  0,  0,  0,  0,  0,  1, -3,  0,  0,  0,  0,  0,      0,     3,     0,     0,
+                  0,  0,  0,  0,  0,  0, -1,  3,  0,  0,  0,  0,  2,    -11,     0,     0,     5,
+                  0,  0,  0,  0,  0,  0, -7, 12,  0,  0,  0,  0,  2,      0,     3,     1,     0,
+                  0,  0,  0,  0,  0, -1,  1,  0,  0,  0,  0,  0,  2,     -3,     0,     0,     1,
+                  0,  0,  0,  0,  0, -1,  1,  0,  0,  0,  0,  0,  1,     25,   106,    57,   -13,
+
+            /* 321-330 */
+                  0,  1, -1,  1,  0, -1,  0,  0,  0,  0,  0,  0,  0,      5,    21,    11,    -3,
+                  0,  0,  0,  0,  0,  1, -1,  0,  0,  0,  0,  0,  0,   1485,     0,     0,     0,
+                  0,  0,  0,  0,  0,  1, -1,  0,  0,  0,  0,  0,  1,     -7,   -32,   -17,     4,
+                  0,  1, -1,  1,  0,  1, -2,  0,  0,  0,  0,  0,  0,      0,     5,     3,     0,
+                  0,  0,  0,  0,  0,  0, -2,  5,  0,  0,  0,  0,  2,     -6,    -3,    -2,     3,
+                  0,  0,  0,  0,  0,  0, -1,  0,  4,  0,  0,  0,  2,     30,    -6,    -2,   -13,
+                  0,  0,  0,  0,  0,  0,  1,  0, -4,  0,  0,  0,  0,     -4,     4,     0,     0,
+                  0,  0,  0,  1,  0, -1,  1,  0,  0,  0,  0,  0,  0,    -19,     0,     0,    10,
+                  0,  0,  0,  0,  0,  0, -6, 10,  0,  0,  0,  0,  2,      0,     4,     2,    -1,
+                  0,  0,  0,  0,  0,  0, -6, 10,  0,  0,  0,  0,  0,      0,     3,     0,     0,
+
+            /* 331-340 */
+                  0,  2, -2,  1,  0,  0, -3,  0,  3,  0,  0,  0,  0,      4,     0,     0,    -2,
+                  0,  0,  0,  0,  0,  0, -3,  7,  0,  0,  0,  0,  2,      0,    -3,    -1,     0,
+                 -2,  0,  2,  0,  0,  4, -4,  0,  0,  0,  0,  0,  0,     -3,     0,     0,     0,
+                  0,  0,  0,  0,  0,  0, -5,  8,  0,  0,  0,  0,  2,      5,     3,     1,    -2,
+                  0,  0,  0,  0,  0,  0,  5, -8,  0,  0,  0,  0,  0,      0,    11,     0,     0,
+                  0,  0,  0,  0,  0,  0, -1,  0,  3,  0,  0,  0,  2,    118,     0,     0,   -52,
+                  0,  0,  0,  0,  0,  0, -1,  0,  3,  0,  0,  0,  1,      0,    -5,    -3,     0,
+                  0,  0,  0,  0,  0,  0,  1,  0, -3,  0,  0,  0,  0,    -28,    36,     0,     0,
+                  0,  0,  0,  0,  0,  2, -4,  0,  0,  0,  0,  0,  0,      5,    -5,     0,     0,
+                  0,  0,  0,  0,  0, -2,  4,  0,  0,  0,  0,  0,  1,     14,   -59,   -31,    -8,
+
+            /* 341-350 */
+                  0,  1, -1,  1,  0, -2,  3,  0,  0,  0,  0,  0,  0,      0,     9,     5,     1,
+                  0,  0,  0,  0,  0, -2,  4,  0,  0,  0,  0,  0,  2,   -458,     0,     0,   198,
+                  0,  0,  0,  0,  0, -6,  9,  0,  0,  0,  0,  0,  2,      0,   -45,   -20,     0,
+                  0,  0,  0,  0,  0, -6,  9,  0,  0,  0,  0,  0,  1,      9,     0,     0,    -5,
+                  0,  0,  0,  0,  0,  6, -9,  0,  0,  0,  0,  0,  0,      0,    -3,     0,     0,
+                  0,  0,  0,  1,  0,  0,  1,  0, -2,  0,  0,  0,  0,      0,    -4,    -2,    -1,
+                  0,  2, -2,  1,  0, -2,  2,  0,  0,  0,  0,  0,  0,     11,     0,     0,    -6,
+                  0,  0,  0,  0,  0,  0, -4,  6,  0,  0,  0,  0,  2,      6,     0,     0,    -2,
+                  0,  0,  0,  0,  0,  0,  4, -6,  0,  0,  0,  0,  0,    -16,    23,     0,     0,
+                  0,  0,  0,  1,  0,  3, -4,  0,  0,  0,  0,  0,  0,      0,    -4,    -2,     0,
+
+            /* 351-360 */
+                  0,  0,  0,  0,  0,  0, -1,  0,  2,  0,  0,  0,  2,     -5,     0,     0,     2,
+                  0,  0,  0,  0,  0,  0,  1,  0, -2,  0,  0,  0,  0,   -166,   269,     0,     0,
+                  0,  0,  0,  1,  0,  0,  1,  0, -1,  0,  0,  0,  0,     15,     0,     0,    -8,
+                  0,  0,  0,  0,  0, -5,  9,  0,  0,  0,  0,  0,  2,     10,     0,     0,    -4,
+                  0,  0,  0,  0,  0,  0,  3, -4,  0,  0,  0,  0,  0,    -78,    45,     0,     0,
+                  0,  0,  0,  0,  0, -3,  4,  0,  0,  0,  0,  0,  2,      0,    -5,    -2,     0,
+                  0,  0,  0,  0,  0, -3,  4,  0,  0,  0,  0,  0,  1,      7,     0,     0,    -4,
+                  0,  0,  0,  0,  0,  3, -4,  0,  0,  0,  0,  0,  0,     -5,   328,     0,     0,
+                  0,  0,  0,  0,  0,  3, -4,  0,  0,  0,  0,  0,  1,      3,     0,     0,    -2,
+                  0,  0,  0,  1,  0,  0,  2, -2,  0,  0,  0,  0,  0,      5,     0,     0,    -2,
+
+            /* 361-370 */
+                  0,  0,  0,  1,  0,  0, -1,  0,  2,  0,  0,  0,  0,      0,     3,     1,     0,
+                  0,  0,  0,  0,  0,  0,  1,  0,  0, -3,  0,  0,  0,     -3,     0,     0,     0,
+                  0,  0,  0,  0,  0,  0,  1,  0,  1, -5,  0,  0,  0,     -3,     0,     0,     0,
+                  0,  0,  0,  0,  0,  0, -1,  0,  1,  0,  0,  0,  1,      0,    -4,    -2,     0,
+                  0,  0,  0,  0,  0,  0,  1,  0, -1,  0,  0,  0,  0,  -1223,   -26,     0,     0,
+                  0,  0,  0,  0,  0,  0,  1,  0, -1,  0,  0,  0,  1,      0,     7,     3,     0,
+                  0,  0,  0,  0,  0,  0,  1,  0, -3,  5,  0,  0,  0,      3,     0,     0,     0,
+                  0,  0,  0,  1,  0, -3,  4,  0,  0,  0,  0,  0,  0,      0,     3,     2,     0,
+                  0,  0,  0,  0,  0,  0,  1,  0,  0, -2,  0,  0,  0,     -6,    20,     0,     0,
+                  0,  0,  0,  0,  0,  0,  2, -2,  0,  0,  0,  0,  0,   -368,     0,     0,     0,
+
+            /* 371-380 */
+                  0,  0,  0,  0,  0,  0,  1,  0,  0, -1,  0,  0,  0,    -75,     0,     0,     0,
+                  0,  0,  0,  1,  0,  0, -1,  0,  1,  0,  0,  0,  0,     11,     0,     0,    -6,
+                  0,  0,  0,  1,  0,  0, -2,  2,  0,  0,  0,  0,  0,      3,     0,     0,    -2,
+                  0,  0,  0,  0,  0, -8, 14,  0,  0,  0,  0,  0,  2,     -3,     0,     0,     1,
+                  0,  0,  0,  0,  0,  0,  1,  0,  2, -5,  0,  0,  0,    -13,   -30,     0,     0,
+                  0,  0,  0,  0,  0,  0,  5, -8,  3,  0,  0,  0,  0,     21,     3,     0,     0,
+                  0,  0,  0,  0,  0,  0,  5, -8,  3,  0,  0,  0,  2,     -3,     0,     0,     1,
+                  0,  0,  0,  0,  0,  0, -1,  0,  0,  0,  0,  0,  1,     -4,     0,     0,     2,
+                  0,  0,  0,  0,  0,  0,  1,  0,  0,  0,  0,  0,  0,      8,   -27,     0,     0,
+                  0,  0,  0,  0,  0,  0,  3, -8,  3,  0,  0,  0,  0,    -19,   -11,     0,     0,
+
+            /* 381-390 */
+                  0,  0,  0,  0,  0,  0, -3,  8, -3,  0,  0,  0,  2,     -4,     0,     0,     2,
+                  0,  0,  0,  0,  0,  0,  1,  0, -2,  5,  0,  0,  2,      0,     5,     2,     0,
+                  0,  0,  0,  0,  0, -8, 12,  0,  0,  0,  0,  0,  2,     -6,     0,     0,     2,
+                  0,  0,  0,  0,  0, -8, 12,  0,  0,  0,  0,  0,  0,     -8,     0,     0,     0,
+                  0,  0,  0,  0,  0,  0,  1,  0,  1, -2,  0,  0,  0,     -1,     0,     0,     0,
+                  0,  0,  0,  0,  0,  0,  1,  0,  0,  1,  0,  0,  2,    -14,     0,     0,     6,
+                  0,  0,  0,  0,  0,  0,  0,  2,  0,  0,  0,  0,  0,      6,     0,     0,     0,
+                  0,  0,  0,  0,  0,  0,  0,  2,  0,  0,  0,  0,  2,    -74,     0,     0,    32,
+                  0,  0,  0,  0,  0,  0,  1,  0,  0,  2,  0,  0,  2,      0,    -3,    -1,     0,
+                  0,  2, -2,  1,  0, -5,  5,  0,  0,  0,  0,  0,  0,      4,     0,     0,    -2,
+
+            /* 391-400 */
+                  0,  0,  0,  0,  0,  0,  1,  0,  1,  0,  0,  0,  0,      8,    11,     0,     0,
+                  0,  0,  0,  0,  0,  0,  1,  0,  1,  0,  0,  0,  1,      0,     3,     2,     0,
+                  0,  0,  0,  0,  0,  0,  1,  0,  1,  0,  0,  0,  2,   -262,     0,     0,   114,
+                  0,  0,  0,  0,  0,  3, -6,  0,  0,  0,  0,  0,  0,      0,    -4,     0,     0,
+                  0,  0,  0,  0,  0, -3,  6,  0,  0,  0,  0,  0,  1,     -7,     0,     0,     4,
+                  0,  0,  0,  0,  0, -3,  6,  0,  0,  0,  0,  0,  2,      0,   -27,   -12,     0,
+                  0,  0,  0,  0,  0,  0, -1,  4,  0,  0,  0,  0,  2,    -19,    -8,    -4,     8,
+                  0,  0,  0,  0,  0, -5,  7,  0,  0,  0,  0,  0,  2,    202,     0,     0,   -87,
+                  0,  0,  0,  0,  0, -5,  7,  0,  0,  0,  0,  0,  1,     -8,    35,    19,     5,
+                  0,  1, -1,  1,  0, -5,  6,  0,  0,  0,  0,  0,  0,      0,     4,     2,     0,
+
+            /* 401-410 */
+                  0,  0,  0,  0,  0,  5, -7,  0,  0,  0,  0,  0,  0,     16,    -5,     0,     0,
+                  0,  2, -2,  1,  0,  0, -1,  0,  1,  0,  0,  0,  0,      5,     0,     0,    -3,
+                  0,  0,  0,  0,  0,  0, -1,  0,  1,  0,  0,  0,  0,      0,    -3,     0,     0,
+                  0,  0,  0,  0, -1,  0,  3,  0,  0,  0,  0,  0,  2,      1,     0,     0,     0,
+                  0,  0,  0,  0,  0,  0,  1,  0,  2,  0,  0,  0,  2,    -35,   -48,   -21,    15,
+                  0,  0,  0,  0,  0,  0, -2,  6,  0,  0,  0,  0,  2,     -3,    -5,    -2,     1,
+                  0,  0,  0,  1,  0,  2, -2,  0,  0,  0,  0,  0,  0,      6,     0,     0,    -3,
+                  0,  0,  0,  0,  0,  0, -6,  9,  0,  0,  0,  0,  2,      3,     0,     0,    -1,
+                  0,  0,  0,  0,  0,  0,  6, -9,  0,  0,  0,  0,  0,      0,    -5,     0,     0,
+                  0,  0,  0,  0,  0, -2,  2,  0,  0,  0,  0,  0,  1,     12,    55,    29,    -6,
+
+            /* 411-420 */
+                  0,  1, -1,  1,  0, -2,  1,  0,  0,  0,  0,  0,  0,      0,     5,     3,     0,
+                  0,  0,  0,  0,  0,  2, -2,  0,  0,  0,  0,  0,  0,   -598,     0,     0,     0,
+                  0,  0,  0,  0,  0,  2, -2,  0,  0,  0,  0,  0,  1,     -3,   -13,    -7,     1,
+                  0,  0,  0,  0,  0,  0,  1,  0,  3,  0,  0,  0,  2,     -5,    -7,    -3,     2,
+                  0,  0,  0,  0,  0,  0, -5,  7,  0,  0,  0,  0,  2,      3,     0,     0,    -1,
+                  0,  0,  0,  0,  0,  0,  5, -7,  0,  0,  0,  0,  0,      5,    -7,     0,     0,
+                  0,  0,  0,  1,  0, -2,  2,  0,  0,  0,  0,  0,  0,      4,     0,     0,    -2,
+                  0,  0,  0,  0,  0,  0,  4, -5,  0,  0,  0,  0,  0,     16,    -6,     0,     0,
+                  0,  0,  0,  0,  0,  1, -3,  0,  0,  0,  0,  0,  0,      8,    -3,     0,     0,
+                  0,  0,  0,  0,  0, -1,  3,  0,  0,  0,  0,  0,  1,      8,   -31,   -16,    -4,
+
+            /* 421-430 */
+                  0,  1, -1,  1,  0, -1,  2,  0,  0,  0,  0,  0,  0,      0,     3,     1,     0,
+                  0,  0,  0,  0,  0, -1,  3,  0,  0,  0,  0,  0,  2,    113,     0,     0,   -49,
+                  0,  0,  0,  0,  0, -7, 10,  0,  0,  0,  0,  0,  2,      0,   -24,   -10,     0,
+                  0,  0,  0,  0,  0, -7, 10,  0,  0,  0,  0,  0,  1,      4,     0,     0,    -2,
+                  0,  0,  0,  0,  0,  0,  3, -3,  0,  0,  0,  0,  0,     27,     0,     0,     0,
+                  0,  0,  0,  0,  0, -4,  8,  0,  0,  0,  0,  0,  2,     -3,     0,     0,     1,
+                  0,  0,  0,  0,  0, -4,  5,  0,  0,  0,  0,  0,  2,      0,    -4,    -2,     0,
+                  0,  0,  0,  0,  0, -4,  5,  0,  0,  0,  0,  0,  1,      5,     0,     0,    -2,
+                  0,  0,  0,  0,  0,  4, -5,  0,  0,  0,  0,  0,  0,      0,    -3,     0,     0,
+                  0,  0,  0,  0,  0,  0,  1,  1,  0,  0,  0,  0,  2,    -13,     0,     0,     6,
+
+            /* 431-440 */
+                  0,  0,  0,  0,  0,  0, -2,  0,  5,  0,  0,  0,  2,      5,     0,     0,    -2,
+                  0,  0,  0,  0,  0,  0,  0,  3,  0,  0,  0,  0,  2,    -18,   -10,    -4,     8,
+                  0,  0,  0,  0,  0,  1,  0,  0,  0,  0,  0,  0,  0,     -4,   -28,     0,     0,
+                  0,  0,  0,  0,  0,  1,  0,  0,  0,  0,  0,  0,  2,     -5,     6,     3,     2,
+                  0,  0,  0,  0,  0, -9, 13,  0,  0,  0,  0,  0,  2,     -3,     0,     0,     1,
+                  0,  0,  0,  0,  0,  0, -1,  5,  0,  0,  0,  0,  2,     -5,    -9,    -4,     2,
+                  0,  0,  0,  0,  0,  0, -2,  0,  4,  0,  0,  0,  2,     17,     0,     0,    -7,
+                  0,  0,  0,  0,  0,  0,  2,  0, -4,  0,  0,  0,  0,     11,     4,     0,     0,
+                  0,  0,  0,  0,  0,  0, -2,  7,  0,  0,  0,  0,  2,      0,    -6,    -2,     0,
+                  0,  0,  0,  0,  0,  0,  2,  0, -3,  0,  0,  0,  0,     83,    15,     0,     0,
+
+            /* 441-450 */
+                  0,  0,  0,  0,  0, -2,  5,  0,  0,  0,  0,  0,  1,     -4,     0,     0,     2,
+                  0,  0,  0,  0,  0, -2,  5,  0,  0,  0,  0,  0,  2,      0,  -114,   -49,     0,
+                  0,  0,  0,  0,  0, -6,  8,  0,  0,  0,  0,  0,  2,    117,     0,     0,   -51,
+                  0,  0,  0,  0,  0, -6,  8,  0,  0,  0,  0,  0,  1,     -5,    19,    10,     2,
+                  0,  0,  0,  0,  0,  6, -8,  0,  0,  0,  0,  0,  0,     -3,     0,     0,     0,
+                  0,  0,  0,  1,  0,  0,  2,  0, -2,  0,  0,  0,  0,     -3,     0,     0,     2,
+                  0,  0,  0,  0,  0,  0, -3,  9,  0,  0,  0,  0,  2,      0,    -3,    -1,     0,
+                  0,  0,  0,  0,  0,  0,  5, -6,  0,  0,  0,  0,  0,      3,     0,     0,     0,
+                  0,  0,  0,  0,  0,  0,  5, -6,  0,  0,  0,  0,  2,      0,    -6,    -2,     0,
+                  0,  0,  0,  0,  0,  0,  2,  0, -2,  0,  0,  0,  0,    393,     3,     0,     0,
+
+            /* 451-460 */
+                  0,  0,  0,  0,  0,  0,  2,  0, -2,  0,  0,  0,  1,     -4,    21,    11,     2,
+                  0,  0,  0,  0,  0,  0,  2,  0, -2,  0,  0,  0,  2,     -6,     0,    -1,     3,
+                  0,  0,  0,  0,  0, -5, 10,  0,  0,  0,  0,  0,  2,     -3,     8,     4,     1,
+                  0,  0,  0,  0,  0,  0,  4, -4,  0,  0,  0,  0,  0,      8,     0,     0,     0,
+                  0,  0,  0,  0,  0,  0,  4, -4,  0,  0,  0,  0,  2,     18,   -29,   -13,    -8,
+                  0,  0,  0,  0,  0, -3,  3,  0,  0,  0,  0,  0,  1,      8,    34,    18,    -4,
+                  0,  0,  0,  0,  0,  3, -3,  0,  0,  0,  0,  0,  0,     89,     0,     0,     0,
+                  0,  0,  0,  0,  0,  3, -3,  0,  0,  0,  0,  0,  1,      3,    12,     6,    -1,
+                  0,  0,  0,  0,  0,  3, -3,  0,  0,  0,  0,  0,  2,     54,   -15,    -7,   -24,
+                  0,  0,  0,  0,  0,  0,  2,  0,  0, -3,  0,  0,  0,      0,     3,     0,     0
+            };
+        }
+
+        private static int[] rows3() {
+            return new int[] {
+            /* 461-470 */
+                  0,  0,  0,  0,  0,  0, -5, 13,  0,  0,  0,  0,  2,      3,     0,     0,    -1,
+                  0,  0,  0,  0,  0,  0,  2,  0, -1,  0,  0,  0,  0,      0,    35,     0,     0,
+                  0,  0,  0,  0,  0,  0,  2,  0, -1,  0,  0,  0,  2,   -154,   -30,   -13,    67,
+                  0,  0,  0,  0,  0,  0,  2,  0,  0, -2,  0,  0,  0,     15,     0,     0,     0,
+                  0,  0,  0,  0,  0,  0,  2,  0,  0, -2,  0,  0,  1,      0,     4,     2,     0,
+                  0,  0,  0,  0,  0,  0,  3, -2,  0,  0,  0,  0,  0,      0,     9,     0,     0,
+                  0,  0,  0,  0,  0,  0,  3, -2,  0,  0,  0,  0,  2,     80,   -71,   -31,   -35,
+                  0,  0,  0,  0,  0,  0,  2,  0,  0, -1,  0,  0,  2,      0,   -20,    -9,     0,
+                  0,  0,  0,  0,  0,  0, -6, 15,  0,  0,  0,  0,  2,     11,     5,     2,    -5,
+                  0,  0,  0,  0,  0, -8, 15,  0,  0,  0,  0,  0,  2,     61,   -96,   -42,   -27,
+
+            /* 471-480 */
+                  0,  0,  0,  0,  0, -3,  9, -4,  0,  0,  0,  0,  2,     14,     9,     4,    -6,
+                  0,  0,  0,  0,  0,  0,  2,  0,  2, -5,  0,  0,  2,    -11,    -6,    -3,     5,
+                  0,  0,  0,  0,  0,  0, -2,  8, -1, -5,  0,  0,  2,      0,    -3,    -1,     0,
+                  0,  0,  0,  0,  0,  0,  6, -8,  3,  0,  0,  0,  2,    123,  -415,  -180,   -53,
+                  0,  0,  0,  0,  0,  0,  2,  0,  0,  0,  0,  0,  0,      0,     0,     0,   -35,
+                  0,  0,  0,  0,  0,  0,  2,  0,  0,  0,  0,  0,  0,     -5,     0,     0,     0,
+                  0,  0,  0,  0,  0,  0,  2,  0,  0,  0,  0,  0,  1,      7,   -32,   -17,    -4,
+                  0,  1, -1,  1,  0,  0,  1,  0,  0,  0,  0,  0,  0,      0,    -9,    -5,     0,
+                  0,  0,  0,  0,  0,  0,  2,  0,  0,  0,  0,  0,  1,      0,    -4,     2,     0,
+                  0,  0,  0,  0,  0,  0,  2,  0,  0,  0,  0,  0,  2,    -89,     0,     0,    38,
+
+            /* 481-490 */
+                  0,  0,  0,  0,  0,  0, -6, 16, -4, -5,  0,  0,  2,      0,   -86,   -19,    -6,
+                  0,  0,  0,  0,  0,  0, -2,  8, -3,  0,  0,  0,  2,      0,     0,   -19,     6,
+                  0,  0,  0,  0,  0,  0, -2,  8, -3,  0,  0,  0,  2,   -123,  -416,  -180,    53,
+                  0,  0,  0,  0,  0,  0,  6, -8,  1,  5,  0,  0,  2,      0,    -3,    -1,     0,
+                  0,  0,  0,  0,  0,  0,  2,  0, -2,  5,  0,  0,  2,     12,    -6,    -3,    -5,
+                  0,  0,  0,  0,  0,  3, -5,  4,  0,  0,  0,  0,  2,    -13,     9,     4,     6,
+                  0,  0,  0,  0,  0, -8, 11,  0,  0,  0,  0,  0,  2,      0,   -15,    -7,     0,
+                  0,  0,  0,  0,  0, -8, 11,  0,  0,  0,  0,  0,  1,      3,     0,     0,    -1,
+                  0,  0,  0,  0,  0, -8, 11,  0,  0,  0,  0,  0,  2,    -62,   -97,   -42,    27,
+                  0,  0,  0,  0,  0,  0, 11,  0,  0,  0,  0,  0,  2,    -11,     5,     2,     5,
+
+            /* 491-500 */
+                  0,  0,  0,  0,  0,  0,  2,  0,  0,  1,  0,  0,  2,      0,   -19,    -8,     0,
+                  0,  0,  0,  0,  0,  3, -3,  0,  2,  0,  0,  0,  2,     -3,     0,     0,     1,
+                  0,  2, -2,  1,  0,  0,  4, -8,  3,  0,  0,  0,  0,      0,     4,     2,     0,
+                  0,  1, -1,  0,  0,  0,  1,  0,  0,  0,  0,  0,  0,      0,     3,     0,     0,
+                  0,  2, -2,  1,  0,  0, -4,  8, -3,  0,  0,  0,  0,      0,     4,     2,     0,
+                  0,  0,  0,  0,  0,  0,  1,  2,  0,  0,  0,  0,  2,    -85,   -70,   -31,    37,
+                  0,  0,  0,  0,  0,  0,  2,  0,  1,  0,  0,  0,  2,    163,   -12,    -5,   -72,
+                  0,  0,  0,  0,  0, -3,  7,  0,  0,  0,  0,  0,  2,    -63,   -16,    -7,    28,
+                  0,  0,  0,  0,  0,  0,  0,  4,  0,  0,  0,  0,  2,    -21,   -32,   -14,     9,
+                  0,  0,  0,  0,  0, -5,  6,  0,  0,  0,  0,  0,  2,      0,    -3,    -1,     0,
+
+            /* 501-510 */
+                  0,  0,  0,  0,  0, -5,  6,  0,  0,  0,  0,  0,  1,      3,     0,     0,    -2,
+                  0,  0,  0,  0,  0,  5, -6,  0,  0,  0,  0,  0,  0,      0,     8,     0,     0,
+                  0,  0,  0,  0,  0,  5, -6,  0,  0,  0,  0,  0,  2,      3,    10,     4,    -1,
+                  0,  0,  0,  0,  0,  0,  2,  0,  2,  0,  0,  0,  2,      3,     0,     0,    -1,
+                  0,  0,  0,  0,  0,  0, -1,  6,  0,  0,  0,  0,  2,      0,    -7,    -3,     0,
+                  0,  0,  0,  0,  0,  0,  7, -9,  0,  0,  0,  0,  2,      0,    -4,    -2,     0,
+                  0,  0,  0,  0,  0,  2, -1,  0,  0,  0,  0,  0,  0,      6,    19,     0,     0,
+                  0,  0,  0,  0,  0,  2, -1,  0,  0,  0,  0,  0,  2,      5,  -173,   -75,    -2,
+                  0,  0,  0,  0,  0,  0,  6, -7,  0,  0,  0,  0,  2,      0,    -7,    -3,     0,
+                  0,  0,  0,  0,  0,  0,  5, -5,  0,  0,  0,  0,  2,      7,   -12,    -5,    -3,
+
+            /* 511-520 */
+                  0,  0,  0,  0,  0, -1,  4,  0,  0,  0,  0,  0,  1,     -3,     0,     0,     2,
+                  0,  0,  0,  0,  0, -1,  4,  0,  0,  0,  0,  0,  2,      3,    -4,    -2,    -1,
+                  0,  0,  0,  0,  0, -7,  9,  0,  0,  0,  0,  0,  2,     74,     0,     0,   -32,
+                  0,  0,  0,  0,  0, -7,  9,  0,  0,  0,  0,  0,  1,     -3,    12,     6,     2,
+                  0,  0,  0,  0,  0,  0,  4, -3,  0,  0,  0,  0,  2,     26,   -14,    -6,   -11,
+                  0,  0,  0,  0,  0,  0,  3, -1,  0,  0,  0,  0,  2,     19,     0,     0,    -8,
+                  0,  0,  0,  0,  0, -4,  4,  0,  0,  0,  0,  0,  1,      6,    24,    13,    -3,
+                  0,  0,  0,  0,  0,  4, -4,  0,  0,  0,  0,  0,  0,     83,     0,     0,     0,
+                  0,  0,  0,  0,  0,  4, -4,  0,  0,  0,  0,  0,  1,      0,   -10,    -5,     0,
+                  0,  0,  0,  0,  0,  4, -4,  0,  0,  0,  0,  0,  2,     11,    -3,    -1,    -5,
+
+            /* 521-530 */
+                  0,  0,  0,  0,  0,  0,  2,  1,  0,  0,  0,  0,  2,      3,     0,     1,    -1,
+                  0,  0,  0,  0,  0,  0, -3,  0,  5,  0,  0,  0,  2,      3,     0,     0,    -1,
+                  0,  0,  0,  0,  0,  1,  1,  0,  0,  0,  0,  0,  0,     -4,     0,     0,     0,
+                  0,  0,  0,  0,  0,  1,  1,  0,  0,  0,  0,  0,  1,      5,   -23,   -12,    -3,
+                  0,  0,  0,  0,  0,  1,  1,  0,  0,  0,  0,  0,  2,   -339,     0,     0,   147,
+                  0,  0,  0,  0,  0, -9, 12,  0,  0,  0,  0,  0,  2,      0,   -10,    -5,     0,
+                  0,  0,  0,  0,  0,  0,  3,  0, -4,  0,  0,  0,  0,      5,     0,     0,     0,
+                  0,  2, -2,  1,  0,  1, -1,  0,  0,  0,  0,  0,  0,      3,     0,     0,    -1,
+                  0,  0,  0,  0,  0,  0,  7, -8,  0,  0,  0,  0,  2,      0,    -4,    -2,     0,
+                  0,  0,  0,  0,  0,  0,  3,  0, -3,  0,  0,  0,  0,     18,    -3,     0,     0,
+
+            /* 531-540 */
+                  0,  0,  0,  0,  0,  0,  3,  0, -3,  0,  0,  0,  2,      9,   -11,    -5,    -4,
+                  0,  0,  0,  0,  0, -2,  6,  0,  0,  0,  0,  0,  2,     -8,     0,     0,     4,
+                  0,  0,  0,  0,  0, -6,  7,  0,  0,  0,  0,  0,  1,      3,     0,     0,    -1,
+                  0,  0,  0,  0,  0,  6, -7,  0,  0,  0,  0,  0,  0,      0,     9,     0,     0,
+                  0,  0,  0,  0,  0,  0,  6, -6,  0,  0,  0,  0,  2,      6,    -9,    -4,    -2,
+                  0,  0,  0,  0,  0,  0,  3,  0, -2,  0,  0,  0,  0,     -4,   -12,     0,     0,
+                  0,  0,  0,  0,  0,  0,  3,  0, -2,  0,  0,  0,  2,     67,   -91,   -39,   -29,
+                  0,  0,  0,  0,  0,  0,  5, -4,  0,  0,  0,  0,  2,     30,   -18,    -8,   -13,
+                  0,  0,  0,  0,  0,  3, -2,  0,  0,  0,  0,  0,  0,      0,     0,     0,     0,
+                  0,  0,  0,  0,  0,  3, -2,  0,  0,  0,  0,  0,  2,      0,  -114,   -50,     0,
+
+            /* 541-550 */
+                  0,  0,  0,  0,  0,  0,  3,  0, -1,  0,  0,  0,  2,      0,     0,     0,    23,
+                  0,  0,  0,  0,  0,  0,  3,  0, -1,  0,  0,  0,  2,    517,    16,     7,  -224,
+                  0,  0,  0,  0,  0,  0,  3,  0,  0, -2,  0,  0,  2,      0,    -7,    -3,     0,
+                  0,  0,  0,  0,  0,  0,  4, -2,  0,  0,  0,  0,  2,    143,    -3,    -1,   -62,
+                  0,  0,  0,  0,  0,  0,  3,  0,  0, -1,  0,  0,  2,     29,     0,     0,   -13,
+                  0,  2, -2,  1,  0,  0,  1,  0, -1,  0,  0,  0,  0,     -4,     0,     0,     2,
+                  0,  0,  0,  0,  0, -8, 16,  0,  0,  0,  0,  0,  2,     -6,     0,     0,     3,
+                  0,  0,  0,  0,  0,  0,  3,  0,  2, -5,  0,  0,  2,      5,    12,     5,    -2,
+                  0,  0,  0,  0,  0,  0,  7, -8,  3,  0,  0,  0,  2,    -25,     0,     0,    11,
+                  0,  0,  0,  0,  0,  0, -5, 16, -4, -5,  0,  0,  2,     -3,     0,     0,     1,
+
+            /* 551-560 */
+                  0,  0,  0,  0,  0,  0,  3,  0,  0,  0,  0,  0,  2,      0,     4,     2,     0,
+                  0,  0,  0,  0,  0,  0, -1,  8, -3,  0,  0,  0,  2,    -22,    12,     5,    10,
+                  0,  0,  0,  0,  0, -8, 10,  0,  0,  0,  0,  0,  2,     50,     0,     0,   -22,
+                  0,  0,  0,  0,  0, -8, 10,  0,  0,  0,  0,  0,  1,      0,     7,     4,     0,
+                  0,  0,  0,  0,  0, -8, 10,  0,  0,  0,  0,  0,  2,      0,     3,     1,     0,
+                  0,  0,  0,  0,  0,  0,  2,  2,  0,  0,  0,  0,  2,     -4,     4,     2,     2,
+                  0,  0,  0,  0,  0,  0,  3,  0,  1,  0,  0,  0,  2,     -5,   -11,    -5,     2,
+                  0,  0,  0,  0,  0, -3,  8,  0,  0,  0,  0,  0,  2,      0,     4,     2,     0,
+                  0,  0,  0,  0,  0, -5,  5,  0,  0,  0,  0,  0,  1,      4,    17,     9,    -2,
+                  0,  0,  0,  0,  0,  5, -5,  0,  0,  0,  0,  0,  0,     59,     0,     0,     0,
+
+            /* 561-570 */
+                  0,  0,  0,  0,  0,  5, -5,  0,  0,  0,  0,  0,  1,      0,    -4,    -2,     0,
+                  0,  0,  0,  0,  0,  5, -5,  0,  0,  0,  0,  0,  2,     -8,     0,     0,     4,
+                  0,  0,  0,  0,  0,  2,  0,  0,  0,  0,  0,  0,  0,     -3,     0,     0,     0,
+                  0,  0,  0,  0,  0,  2,  0,  0,  0,  0,  0,  0,  1,      4,   -15,    -8,    -2,
+                  0,  0,  0,  0,  0,  2,  0,  0,  0,  0,  0,  0,  2,    370,    -8,     0,  -160,
+                  0,  0,  0,  0,  0,  0,  7, -7,  0,  0,  0,  0,  2,      0,     0,    -3,     0,
+                  0,  0,  0,  0,  0,  0,  7, -7,  0,  0,  0,  0,  2,      0,     3,     1,     0,
+                  0,  0,  0,  0,  0,  0,  6, -5,  0,  0,  0,  0,  2,     -6,     3,     1,     3,
+                  0,  0,  0,  0,  0,  7, -8,  0,  0,  0,  0,  0,  0,      0,     6,     0,     0,
+                  0,  0,  0,  0,  0,  0,  5, -3,  0,  0,  0,  0,  2,    -10,     0,     0,     4,
+
+            /* 571-580 */
+                  0,  0,  0,  0,  0,  4, -3,  0,  0,  0,  0,  0,  2,      0,     9,     4,     0,
+                  0,  0,  0,  0,  0,  1,  2,  0,  0,  0,  0,  0,  2,      4,    17,     7,    -2,
+                  0,  0,  0,  0,  0, -9, 11,  0,  0,  0,  0,  0,  2,     34,     0,     0,   -15,
+                  0,  0,  0,  0,  0, -9, 11,  0,  0,  0,  0,  0,  1,      0,     5,     3,     0,
+                  0,  0,  0,  0,  0,  0,  4,  0, -4,  0,  0,  0,  2,     -5,     0,     0,     2,
+                  0,  0,  0,  0,  0,  0,  4,  0, -3,  0,  0,  0,  2,    -37,    -7,    -3,    16,
+                  0,  0,  0,  0,  0, -6,  6,  0,  0,  0,  0,  0,  1,      3,    13,     7,    -2,
+                  0,  0,  0,  0,  0,  6, -6,  0,  0,  0,  0,  0,  0,     40,     0,     0,     0,
+                  0,  0,  0,  0,  0,  6, -6,  0,  0,  0,  0,  0,  1,      0,    -3,    -2,     0,
+                  0,  0,  0,  0,  0,  0,  4,  0, -2,  0,  0,  0,  2,   -184,    -3,    -1,    80,
+
+            /* 581-590 */
+                  0,  0,  0,  0,  0,  0,  6, -4,  0,  0,  0,  0,  2,     -3,     0,     0,     1,
+                  0,  0,  0,  0,  0,  3, -1,  0,  0,  0,  0,  0,  0,     -3,     0,     0,     0,
+                  0,  0,  0,  0,  0,  3, -1,  0,  0,  0,  0,  0,  1,      0,   -10,    -6,    -1,
+                  0,  0,  0,  0,  0,  3, -1,  0,  0,  0,  0,  0,  2,     31,    -6,     0,   -13,
+                  0,  0,  0,  0,  0,  0,  4,  0, -1,  0,  0,  0,  2,     -3,   -32,   -14,     1,
+                  0,  0,  0,  0,  0,  0,  4,  0,  0, -2,  0,  0,  2,     -7,     0,     0,     3,
+                  0,  0,  0,  0,  0,  0,  5, -2,  0,  0,  0,  0,  2,      0,    -8,    -4,     0,
+                  0,  0,  0,  0,  0,  0,  4,  0,  0,  0,  0,  0,  0,      3,    -4,     0,     0,
+                  0,  0,  0,  0,  0,  8, -9,  0,  0,  0,  0,  0,  0,      0,     4,     0,     0,
+                  0,  0,  0,  0,  0,  5, -4,  0,  0,  0,  0,  0,  2,      0,     3,     1,     0,
+
+            /* 591-600 */
+                  0,  0,  0,  0,  0,  2,  1,  0,  0,  0,  0,  0,  2,     19,   -23,   -10,     2,
+                  0,  0,  0,  0,  0,  2,  1,  0,  0,  0,  0,  0,  1,      0,     0,     0,   -10,
+                  0,  0,  0,  0,  0,  2,  1,  0,  0,  0,  0,  0,  1,      0,     3,     2,     0,
+                  0,  0,  0,  0,  0, -7,  7,  0,  0,  0,  0,  0,  1,      0,     9,     5,    -1,
+                  0,  0,  0,  0,  0,  7, -7,  0,  0,  0,  0,  0,  0,     28,     0,     0,     0,
+                  0,  0,  0,  0,  0,  4, -2,  0,  0,  0,  0,  0,  1,      0,    -7,    -4,     0,
+                  0,  0,  0,  0,  0,  4, -2,  0,  0,  0,  0,  0,  2,      8,    -4,     0,    -4,
+                  0,  0,  0,  0,  0,  4, -2,  0,  0,  0,  0,  0,  0,      0,     0,    -2,     0,
+                  0,  0,  0,  0,  0,  4, -2,  0,  0,  0,  0,  0,  0,      0,     3,     0,     0,
+                  0,  0,  0,  0,  0,  0,  5,  0, -4,  0,  0,  0,  2,     -3,     0,     0,     1,
+
+            /* 601-610 */
+                  0,  0,  0,  0,  0,  0,  5,  0, -3,  0,  0,  0,  2,     -9,     0,     1,     4,
+                  0,  0,  0,  0,  0,  0,  5,  0, -2,  0,  0,  0,  2,      3,    12,     5,    -1,
+                  0,  0,  0,  0,  0,  3,  0,  0,  0,  0,  0,  0,  2,     17,    -3,    -1,     0,
+                  0,  0,  0,  0,  0, -8,  8,  0,  0,  0,  0,  0,  1,      0,     7,     4,     0,
+                  0,  0,  0,  0,  0,  8, -8,  0,  0,  0,  0,  0,  0,     19,     0,     0,     0,
+                  0,  0,  0,  0,  0,  5, -3,  0,  0,  0,  0,  0,  1,      0,    -5,    -3,     0,
+                  0,  0,  0,  0,  0,  5, -3,  0,  0,  0,  0,  0,  2,     14,    -3,     0,    -1,
+                  0,  0,  0,  0,  0, -9,  9,  0,  0,  0,  0,  0,  1,      0,     0,    -1,     0,
+                  0,  0,  0,  0,  0, -9,  9,  0,  0,  0,  0,  0,  1,      0,     0,     0,    -5,
+                  0,  0,  0,  0,  0, -9,  9,  0,  0,  0,  0,  0,  1,      0,     5,     3,     0,
+
+            /* 611-620 */
+                  0,  0,  0,  0,  0,  9, -9,  0,  0,  0,  0,  0,  0,     13,     0,     0,     0,
+                  0,  0,  0,  0,  0,  6, -4,  0,  0,  0,  0,  0,  1,      0,    -3,    -2,     0,
+                  0,  0,  0,  0,  0,  0,  6,  0,  0,  0,  0,  0,  2,      2,     9,     4,     3,
+                  0,  0,  0,  0,  0,  0,  6,  0,  0,  0,  0,  0,  0,      0,     0,     0,    -4,
+                  0,  0,  0,  0,  0,  0,  6,  0,  0,  0,  0,  0,  0,      8,     0,     0,     0,
+                  0,  0,  0,  0,  0,  0,  6,  0,  0,  0,  0,  0,  1,      0,     4,     2,     0,
+                  0,  0,  0,  0,  0,  0,  6,  0,  0,  0,  0,  0,  2,      6,     0,     0,    -3,
+                  0,  0,  0,  0,  0,  0,  6,  0,  0,  0,  0,  0,  0,      6,     0,     0,     0,
+                  0,  0,  0,  0,  0,  0,  6,  0,  0,  0,  0,  0,  1,      0,     3,     1,     0,
+                  0,  0,  0,  0,  0,  0,  6,  0,  0,  0,  0,  0,  2,      5,     0,     0,    -2,
+
+            /* 621-630 */
+                  0,  0,  0,  0,  0,  0,  0,  0,  0,  0,  0,  0,  2,      3,     0,     0,    -1,
+                  1,  0, -2,  0,  0,  0,  2,  0, -2,  0,  0,  0,  0,     -3,     0,     0,     0,
+                  1,  0, -2,  0,  0,  2, -2,  0,  0,  0,  0,  0,  0,      6,     0,     0,     0,
+                  1,  0, -2,  0,  0,  0,  1,  0, -1,  0,  0,  0,  0,      7,     0,     0,     0,
+                  1,  0, -2,  0,  0,  1, -1,  0,  0,  0,  0,  0,  0,     -4,     0,     0,     0,
+                 -1,  0,  0,  0,  0,  3, -3,  0,  0,  0,  0,  0,  0,      4,     0,     0,     0,
+                 -1,  0,  0,  0,  0,  0,  2,  0, -2,  0,  0,  0,  0,      6,     0,     0,     0,
+                 -1,  0,  2,  0,  0,  0,  4, -8,  3,  0,  0,  0,  0,      0,    -4,     0,     0,
+                  1,  0, -2,  0,  0,  0,  4, -8,  3,  0,  0,  0,  0,      0,    -4,     0,     0,
+                 -2,  0,  2,  0,  0,  0,  4, -8,  3,  0,  0,  0,  0,      5,     0,     0,     0,
+
+            /* 631-640 */
+                 -1,  0,  0,  0,  0,  0,  2,  0, -3,  0,  0,  0,  0,     -3,     0,     0,     0,
+                 -1,  0,  0,  0,  0,  0,  1,  0, -1,  0,  0,  0,  0,      4,     0,     0,     0,
+                 -1,  0,  0,  0,  0,  1, -1,  0,  0,  0,  0,  0,  0,     -5,     0,     0,     0,
+                 -1,  0,  2,  0,  0,  2, -2,  0,  0,  0,  0,  0,  0,      4,     0,     0,     0,
+                  1, -1,  1,  0,  0,  0,  1,  0,  0,  0,  0,  0,  0,      0,     3,     0,     0,
+                 -1,  0,  2,  0,  0,  0,  2,  0, -3,  0,  0,  0,  0,     13,     0,     0,     0,
+                 -2,  0,  0,  0,  0,  0,  2,  0, -3,  0,  0,  0,  0,     21,    11,     0,     0,
+                  1,  0,  0,  0,  0,  0,  4, -8,  3,  0,  0,  0,  0,      0,    -5,     0,     0,
+                 -1,  1, -1,  1,  0,  0, -1,  0,  0,  0,  0,  0,  0,      0,    -5,    -2,     0,
+                  1,  1, -1,  1,  0,  0, -1,  0,  0,  0,  0,  0,  0,      0,     5,     3,     0,
+
+            /* 641-650 */
+                 -1,  0,  0,  0,  0,  0,  4, -8,  3,  0,  0,  0,  0,      0,    -5,     0,     0,
+                 -1,  0,  2,  1,  0,  0,  2,  0, -2,  0,  0,  0,  0,     -3,     0,     0,     2,
+                  0,  0,  0,  0,  0,  0,  2,  0, -2,  0,  0,  0,  0,     20,    10,     0,     0,
+                 -1,  0,  2,  0,  0,  0,  2,  0, -2,  0,  0,  0,  0,    -34,     0,     0,     0,
+                 -1,  0,  2,  0,  0,  3, -3,  0,  0,  0,  0,  0,  0,    -19,     0,     0,     0,
+                  1,  0, -2,  1,  0,  0, -2,  0,  2,  0,  0,  0,  0,      3,     0,     0,    -2,
+                  1,  2, -2,  2,  0, -3,  3,  0,  0,  0,  0,  0,  0,     -3,     0,     0,     1,
+                  1,  2, -2,  2,  0,  0, -2,  0,  2,  0,  0,  0,  0,     -6,     0,     0,     3,
+                  1,  0,  0,  0,  0,  1, -1,  0,  0,  0,  0,  0,  0,     -4,     0,     0,     0,
+                  1,  0,  0,  0,  0,  0,  1,  0, -1,  0,  0,  0,  0,      3,     0,     0,     0,
+
+            /* 651-660 */
+                  0,  0, -2,  0,  0,  2, -2,  0,  0,  0,  0,  0,  0,      3,     0,     0,     0,
+                  0,  0, -2,  0,  0,  0,  1,  0, -1,  0,  0,  0,  0,      4,     0,     0,     0,
+                  0,  2,  0,  2,  0, -2,  2,  0,  0,  0,  0,  0,  0,      3,     0,     0,    -1,
+                  0,  2,  0,  2,  0,  0, -1,  0,  1,  0,  0,  0,  0,      6,     0,     0,    -3,
+                  0,  2,  0,  2,  0, -1,  1,  0,  0,  0,  0,  0,  0,     -8,     0,     0,     3,
+                  0,  2,  0,  2,  0, -2,  3,  0,  0,  0,  0,  0,  0,      0,     3,     1,     0,
+                  0,  0,  2,  0,  0,  0,  2,  0, -2,  0,  0,  0,  0,     -3,     0,     0,     0,
+                  0,  1,  1,  2,  0,  0,  1,  0,  0,  0,  0,  0,  0,      0,    -3,    -2,     0,
+                  1,  2,  0,  2,  0,  0,  1,  0,  0,  0,  0,  0,  0,    126,   -63,   -27,   -55,
+                 -1,  2,  0,  2,  0, 10, -3,  0,  0,  0,  0,  0,  0,     -5,     0,     1,     2,
+
+            /* 661-670 */
+                  0,  1,  1,  1,  0,  0,  1,  0,  0,  0,  0,  0,  0,     -3,    28,    15,     2,
+                  1,  2,  0,  2,  0,  0,  1,  0,  0,  0,  0,  0,  0,      5,     0,     1,    -2,
+                  0,  2,  0,  2,  0,  0,  4, -8,  3,  0,  0,  0,  0,      0,     9,     4,     1,
+                  0,  2,  0,  2,  0,  0, -4,  8, -3,  0,  0,  0,  0,      0,     9,     4,    -1,
+                 -1,  2,  0,  2,  0,  0, -4,  8, -3,  0,  0,  0,  0,   -126,   -63,   -27,    55,
+                  2,  2, -2,  2,  0,  0, -2,  0,  3,  0,  0,  0,  0,      3,     0,     0,    -1,
+                  1,  2,  0,  1,  0,  0, -2,  0,  3,  0,  0,  0,  0,     21,   -11,    -6,   -11,
+                  0,  1,  1,  0,  0,  0,  1,  0,  0,  0,  0,  0,  0,      0,    -4,     0,     0,
+                 -1,  2,  0,  1,  0,  0,  1,  0,  0,  0,  0,  0,  0,    -21,   -11,    -6,    11,
+                 -2,  2,  2,  2,  0,  0,  2,  0, -2,  0,  0,  0,  0,     -3,     0,     0,     1,
+
+            /* 671-680 */
+                  0,  2,  0,  2,  0,  2, -3,  0,  0,  0,  0,  0,  0,      0,     3,     1,     0,
+                  0,  2,  0,  2,  0,  1, -1,  0,  0,  0,  0,  0,  0,      8,     0,     0,    -4,
+                  0,  2,  0,  2,  0,  0,  1,  0, -1,  0,  0,  0,  0,     -6,     0,     0,     3,
+                  0,  2,  0,  2,  0,  2, -2,  0,  0,  0,  0,  0,  0,     -3,     0,     0,     1,
+                 -1,  2,  2,  2,  0,  0, -1,  0,  1,  0,  0,  0,  0,      3,     0,     0,    -1,
+                  1,  2,  0,  2,  0, -1,  1,  0,  0,  0,  0,  0,  0,     -3,     0,     0,     1,
+                 -1,  2,  2,  2,  0,  0,  2,  0, -3,  0,  0,  0,  0,     -5,     0,     0,     2,
+                  2,  2,  0,  2,  0,  0,  2,  0, -3,  0,  0,  0,  0,     24,   -12,    -5,   -11,
+                  1,  2,  0,  2,  0,  0, -4,  8, -3,  0,  0,  0,  0,      0,     3,     1,     0,
+                  1,  2,  0,  2,  0,  0,  4, -8,  3,  0,  0,  0,  0,      0,     3,     1,     0,
+
+            /* 681-687 */
+                  1,  1,  1,  1,  0,  0,  1,  0,  0,  0,  0,  0,  0,      0,     3,     2,     0,
+                  0,  2,  0,  2,  0,  0,  1,  0,  0,  0,  0,  0,  0,    -24,   -12,    -5,    10,
+                  2,  2,  0,  1,  0,  0,  1,  0,  0,  0,  0,  0,  0,      4,     0,    -1,    -2,
+                 -1,  2,  2,  2,  0,  0,  2,  0, -2,  0,  0,  0,  0,     13,     0,     0,    -6,
+                 -1,  2,  2,  2,  0,  3, -3,  0,  0,  0,  0,  0,  0,      7,     0,     0,    -3,
+                  1,  2,  0,  2,  0,  1, -1,  0,  0,  0,  0,  0,  0,      3,     0,     0,    -1,
+                  0,  2,  2,  2,  0,  0,  2,  0, -2,  0,  0,  0,  0,      3,     0,     0,    -1
+            };
+        }
+    }
+
     /**
     **  Nutation, IAU 2000A model (MHB2000 luni-solar and planetary nutation
     **  with free core nutation omitted).
@@ -11122,6 +13415,24 @@ public static class SphericalCoordinateEO {
     **  <!-- Copyright (C) 2009 IAU SOFA Review Board.  See notes at end -->
     */
     public static NutationTerms jauNut00a(double date1, double date2 )
+    {
+       return jauNut00a(jauFa03(date1, date2));
+
+        }
+
+    /**
+    **  Nutation, IAU 2000A model (MHB2000 luni-solar and planetary nutation
+    **  with free core nutation omitted), from fundamental arguments already
+    **  evaluated.  See {@link #jauNut00a(double, double)}.
+    **
+    **<!-- Given: -->
+    **     @param args    FundamentalArguments  TT date and fundamental arguments,
+    **                                          see {@link #jauFa03}
+    **
+    ** <!-- Returned (function value): -->
+    **  @return NutationTerms  nutation, luni-solar + planetary (Note 2 of jauNut00a)
+    */
+    public static NutationTerms jauNut00a(FundamentalArguments args)
     {
        int i;
        double t, el, elp, f, d, om, arg, dp, de, sarg, carg,
@@ -11132,1886 +13443,365 @@ public static class SphericalCoordinateEO {
     /* Units of 0.1 microarcsecond to radians */
        final double U2R = DAS2R / 1e7;
 
-    /* ------------------------- */
-    /* Luni-Solar nutation model */
-    /* ------------------------- */
-
-    /* The units for the sine and cosine coefficients are */
-    /* 0.1 microarcsecond and the same per Julian century */
+    /* Luni-solar and planetary nutation models (static tables) */
+       final int NLS = Nut00aLuniSolar.NLS;
+       final int nl[] = Nut00aLuniSolar.nl, nlp[] = Nut00aLuniSolar.nlp,
+                 nf[] = Nut00aLuniSolar.nf, nd[] = Nut00aLuniSolar.nd,
+                 nom[] = Nut00aLuniSolar.nom;
+       final double sp[] = Nut00aLuniSolar.sp, spt[] = Nut00aLuniSolar.spt,
+                    cp[] = Nut00aLuniSolar.cp, ce[] = Nut00aLuniSolar.ce,
+                    cet[] = Nut00aLuniSolar.cet, se[] = Nut00aLuniSolar.se;
+       final int NPL = Nut00aPlanetary.NPL;
 
-       final class NutationModel {
-          int nl,nlp,nf,nd,nom; /* coefficients of l,l',F,D,Om */
-          double sp,spt,cp;     /* longitude sin, t*sin, cos coefficients */
-          double ce,cet,se;     /* obliquity cos, t*cos, sin coefficients */
-          public NutationModel(int nl,int nlp,int nf,int nd, int nom,
-          double sp,double spt,double cp,     
-          double ce,double cet,double se ) {
-           this.nl = nl;
-           this.nlp = nlp;
-           this.nf = nf;
-           this.nd = nd;
-           this.nom = nom;
-           this.sp = sp;
-           this.spt = spt;
-           this.cp = cp;
-           this.ce = ce;
-           this.cet = cet;
-           this.se = se;
-        }
-       }
-       
-       NutationModel xls[] = {
+    /*--------------------------------------------------------------------*/
 
-       /* 1- 10 */
-          new NutationModel( 0, 0, 0, 0, 1,
-             -172064161.0, -174666.0, 33386.0, 92052331.0, 9086.0, 15377.0),
-          new NutationModel( 0, 0, 2,-2, 2,
-               -13170906.0, -1675.0, -13696.0, 5730336.0, -3015.0, -4587.0),
-          new NutationModel( 0, 0, 2, 0, 2,-2276413.0,-234.0,2796.0,978459.0,-485.0, 1374.0),
-          new NutationModel( 0, 0, 0, 0, 2,2074554.0, 207.0, -698.0,-897492.0,470.0, -291.0),
-          new NutationModel( 0, 1, 0, 0, 0,1475877.0,-3633.0,11817.0,73871.0,-184.0,-1924.0),
-          new NutationModel( 0, 1, 2,-2, 2,-516821.0,1226.0, -524.0,224386.0,-677.0, -174.0),
-          new NutationModel( 1, 0, 0, 0, 0, 711159.0,  73.0, -872.0,  -6750.0,  0.0,  358.0),
-          new NutationModel( 0, 0, 2, 0, 1,-387298.0,-367.0,  380.0, 200728.0, 18.0,  318.0),
-          new NutationModel( 1, 0, 2, 0, 2,-301461.0, -36.0,  816.0, 129025.0,-63.0,  367.0),
-          new NutationModel( 0,-1, 2,-2, 2, 215829.0,-494.0,  111.0, -95929.0,299.0,  132.0),
+    /* Interval between fundamental date J2000.0 and given date (JC). */
+       t = args.t;
 
-       /* 11-20 */
-          new NutationModel( 0, 0, 2,-2, 1, 128227.0, 137.0,  181.0, -68982.0, -9.0,   39.0),
-          new NutationModel(-1, 0, 2, 0, 2, 123457.0,  11.0,   19.0, -53311.0, 32.0,   -4.0),
-          new NutationModel(-1, 0, 0, 2, 0, 156994.0,  10.0, -168.0,  -1235.0,  0.0,   82.0),
-          new NutationModel( 1, 0, 0, 0, 1,  63110.0,  63.0,   27.0, -33228.0,  0.0,   -9.0),
-          new NutationModel(-1, 0, 0, 0, 1, -57976.0, -63.0, -189.0,  31429.0,  0.0,  -75.0),
-          new NutationModel(-1, 0, 2, 2, 2, -59641.0, -11.0,  149.0,  25543.0,-11.0,   66.0),
-          new NutationModel( 1, 0, 2, 0, 1, -51613.0, -42.0,  129.0,  26366.0,  0.0,   78.0),
-          new NutationModel(-2, 0, 2, 0, 1,  45893.0,  50.0,   31.0, -24236.0,-10.0,   20.0),
-          new NutationModel( 0, 0, 0, 2, 0,  63384.0,  11.0, -150.0,  -1220.0,  0.0,   29.0),
-          new NutationModel( 0, 0, 2, 2, 2, -38571.0,  -1.0,  158.0,  16452.0,-11.0,   68.0),
+    /* ------------------- */
+    /* LUNI-SOLAR NUTATION */
+    /* ------------------- */
 
-       /* 21-30 */
-          new NutationModel( 0,-2, 2,-2, 2,  32481.0,   0.0,    0.0, -13870.0,  0.0,    0.0),
-          new NutationModel(-2, 0, 0, 2, 0, -47722.0,   0.0,  -18.0,    477.0,  0.0,  -25.0),
-          new NutationModel( 2, 0, 2, 0, 2, -31046.0,  -1.0,  131.0,  13238.0,-11.0,   59.0),
-          new NutationModel( 1, 0, 2,-2, 2,  28593.0,   0.0,   -1.0, -12338.0, 10.0,   -3.0),
-          new NutationModel(-1, 0, 2, 0, 1,  20441.0,  21.0,   10.0, -10758.0,  0.0,   -3.0),
-          new NutationModel( 2, 0, 0, 0, 0,  29243.0,   0.0,  -74.0,   -609.0,  0.0,   13.0),
-          new NutationModel( 0, 0, 2, 0, 0,  25887.0,   0.0,  -66.0,   -550.0,  0.0,   11.0),
-          new NutationModel( 0, 1, 0, 0, 1, -14053.0, -25.0,   79.0,   8551.0, -2.0,  -45.0),
-          new NutationModel(-1, 0, 0, 2, 1,  15164.0,  10.0,   11.0,  -8001.0,  0.0,   -1.0),
-          new NutationModel( 0, 2, 2,-2, 2, -15794.0,  72.0,  -16.0,   6850.0,-42.0,   -5.0),
+    /* Fundamental (Delaunay) arguments */
 
-       /* 31-40 */
-          new NutationModel( 0, 0,-2, 2, 0,  21783.0,   0.0,   13.0,   -167.0,  0.0,   13.0),
-          new NutationModel( 1, 0, 0,-2, 1, -12873.0, -10.0,  -37.0,   6953.0,  0.0,  -14.0),
-          new NutationModel( 0,-1, 0, 0, 1, -12654.0,  11.0,   63.0,   6415.0,  0.0,   26.0),
-          new NutationModel(-1, 0, 2, 2, 1, -10204.0,   0.0,   25.0,   5222.0,  0.0,   15.0),
-          new NutationModel( 0, 2, 0, 0, 0,  16707.0, -85.0,  -10.0,    168.0, -1.0,   10.0),
-          new NutationModel( 1, 0, 2, 2, 2,  -7691.0,   0.0,   44.0,   3268.0,  0.0,   19.0),
-          new NutationModel(-2, 0, 2, 0, 0, -11024.0,   0.0,  -14.0,    104.0,  0.0,    2.0),
-          new NutationModel( 0, 1, 2, 0, 2,   7566.0, -21.0,  -11.0,  -3250.0,  0.0,   -5.0),
-          new NutationModel( 0, 0, 2, 2, 1,  -6637.0, -11.0,   25.0,   3353.0,  0.0,   14.0),
-          new NutationModel( 0,-1, 2, 0, 2,  -7141.0,  21.0,    8.0,   3070.0,  0.0,    4.0),
+    /* Mean anomaly of the Moon (IERS 2003). */
+       el = args.l;
 
-       /* 41-50 */
-          new NutationModel( 0, 0, 0, 2, 1,  -6302.0, -11.0,    2.0,   3272.0,  0.0,    4.0),
-          new NutationModel( 1, 0, 2,-2, 1,   5800.0,  10.0,    2.0,  -3045.0,  0.0,   -1.0),
-          new NutationModel( 2, 0, 2,-2, 2,   6443.0,   0.0,   -7.0,  -2768.0,  0.0,   -4.0),
-          new NutationModel(-2, 0, 0, 2, 1,  -5774.0, -11.0,  -15.0,   3041.0,  0.0,   -5.0),
-          new NutationModel( 2, 0, 2, 0, 1,  -5350.0,   0.0,   21.0,   2695.0,  0.0,   12.0),
-          new NutationModel( 0,-1, 2,-2, 1,  -4752.0, -11.0,   -3.0,   2719.0,  0.0,   -3.0),
-          new NutationModel( 0, 0, 0,-2, 1,  -4940.0, -11.0,  -21.0,   2720.0,  0.0,   -9.0),
-          new NutationModel(-1,-1, 0, 2, 0,   7350.0,   0.0,   -8.0,    -51.0,  0.0,    4.0),
-          new NutationModel( 2, 0, 0,-2, 1,   4065.0,   0.0,    6.0,  -2206.0,  0.0,    1.0),
-          new NutationModel( 1, 0, 0, 2, 0,   6579.0,   0.0,  -24.0,   -199.0,  0.0,    2.0),
+    /* Mean anomaly of the Sun (MHB2000). */
+       elp = fmod(1287104.79305  +
+                t * (129596581.0481  +
+                t * (-0.5532  +
+                t * (0.000136  +
+                t * (-0.00001149)))), TURNAS) * DAS2R;
 
-       /* 51-60 */
-          new NutationModel( 0, 1, 2,-2, 1,   3579.0,   0.0,    5.0,  -1900.0,  0.0,    1.0),
-          new NutationModel( 1,-1, 0, 0, 0,   4725.0,   0.0,   -6.0,    -41.0,  0.0,    3.0),
-          new NutationModel(-2, 0, 2, 0, 2,  -3075.0,   0.0,   -2.0,   1313.0,  0.0,   -1.0),
-          new NutationModel( 3, 0, 2, 0, 2,  -2904.0,   0.0,   15.0,   1233.0,  0.0,    7.0),
-          new NutationModel( 0,-1, 0, 2, 0,   4348.0,   0.0,  -10.0,    -81.0,  0.0,    2.0),
-          new NutationModel( 1,-1, 2, 0, 2,  -2878.0,   0.0,    8.0,   1232.0,  0.0,    4.0),
-          new NutationModel( 0, 0, 0, 1, 0,  -4230.0,   0.0,    5.0,    -20.0,  0.0,   -2.0),
-          new NutationModel(-1,-1, 2, 2, 2,  -2819.0,   0.0,    7.0,   1207.0,  0.0,    3.0),
-          new NutationModel(-1, 0, 2, 0, 0,  -4056.0,   0.0,    5.0,     40.0,  0.0,   -2.0),
-          new NutationModel( 0,-1, 2, 2, 2,  -2647.0,   0.0,   11.0,   1129.0,  0.0,    5.0),
+    /* Mean longitude of the Moon minus that of the ascending node */
+    /* (IERS 2003. */
+       f = args.f;
 
-       /* 61-70 */
-          new NutationModel(-2, 0, 0, 0, 1,  -2294.0,   0.0,  -10.0,   1266.0,  0.0,   -4.0),
-          new NutationModel( 1, 1, 2, 0, 2,   2481.0,   0.0,   -7.0,  -1062.0,  0.0,   -3.0),
-          new NutationModel( 2, 0, 0, 0, 1,   2179.0,   0.0,   -2.0,  -1129.0,  0.0,   -2.0),
-          new NutationModel(-1, 1, 0, 1, 0,   3276.0,   0.0,    1.0,     -9.0,  0.0,    0.0),
-          new NutationModel( 1, 1, 0, 0, 0,  -3389.0,   0.0,    5.0,     35.0,  0.0,   -2.0),
-          new NutationModel( 1, 0, 2, 0, 0,   3339.0,   0.0,  -13.0,   -107.0,  0.0,    1.0),
-          new NutationModel(-1, 0, 2,-2, 1,  -1987.0,   0.0,   -6.0,   1073.0,  0.0,   -2.0),
-          new NutationModel( 1, 0, 0, 0, 2,  -1981.0,   0.0,    0.0,    854.0,  0.0,    0.0),
-          new NutationModel(-1, 0, 0, 1, 0,   4026.0,   0.0, -353.0,   -553.0,  0.0, -139.0),
-          new NutationModel( 0, 0, 2, 1, 2,   1660.0,   0.0,   -5.0,   -710.0,  0.0,   -2.0),
+    /* Mean elongation of the Moon from the Sun (MHB2000). */
+       d = fmod(1072260.70369  +
+              t * (1602961601.2090  +
+              t * (-6.3706  +
+              t * (0.006593  +
+              t * (-0.00003169)))), TURNAS) * DAS2R;
 
-       /* 71-80 */
-          new NutationModel(-1, 0, 2, 4, 2,  -1521.0,   0.0,    9.0,    647.0,  0.0,    4.0),
-          new NutationModel(-1, 1, 0, 1, 1,   1314.0,   0.0,    0.0,   -700.0,  0.0,    0.0),
-          new NutationModel( 0,-2, 2,-2, 1,  -1283.0,   0.0,    0.0,    672.0,  0.0,    0.0),
-          new NutationModel( 1, 0, 2, 2, 1,  -1331.0,   0.0,    8.0,    663.0,  0.0,    4.0),
-          new NutationModel(-2, 0, 2, 2, 2,   1383.0,   0.0,   -2.0,   -594.0,  0.0,   -2.0),
-          new NutationModel(-1, 0, 0, 0, 2,   1405.0,   0.0,    4.0,   -610.0,  0.0,    2.0),
-          new NutationModel( 1, 1, 2,-2, 2,   1290.0,   0.0,    0.0,   -556.0,  0.0,    0.0),
-          new NutationModel(-2, 0, 2, 4, 2,  -1214.0,   0.0,    5.0,    518.0,  0.0,    2.0),
-          new NutationModel(-1, 0, 4, 0, 2,   1146.0,   0.0,   -3.0,   -490.0,  0.0,   -1.0),
-          new NutationModel( 2, 0, 2,-2, 1,   1019.0,   0.0,   -1.0,   -527.0,  0.0,   -1.0),
+    /* Mean longitude of the ascending node of the Moon (IERS 2003). */
+       om = args.om;
 
-       /* 81-90 */
-          new NutationModel( 2, 0, 2, 2, 2,  -1100.0,   0.0,    9.0,    465.0,  0.0,    4.0),
-          new NutationModel( 1, 0, 0, 2, 1,   -970.0,   0.0,    2.0,    496.0,  0.0,    1.0),
-          new NutationModel( 3, 0, 0, 0, 0,   1575.0,   0.0,   -6.0,    -50.0,  0.0,    0.0),
-          new NutationModel( 3, 0, 2,-2, 2,    934.0,   0.0,   -3.0,   -399.0,  0.0,   -1.0),
-          new NutationModel( 0, 0, 4,-2, 2,    922.0,   0.0,   -1.0,   -395.0,  0.0,   -1.0),
-          new NutationModel( 0, 1, 2, 0, 1,    815.0,   0.0,   -1.0,   -422.0,  0.0,   -1.0),
-          new NutationModel( 0, 0,-2, 2, 1,    834.0,   0.0,    2.0,   -440.0,  0.0,    1.0),
-          new NutationModel( 0, 0, 2,-2, 3,   1248.0,   0.0,    0.0,   -170.0,  0.0,    1.0),
-          new NutationModel(-1, 0, 0, 4, 0,   1338.0,   0.0,   -5.0,    -39.0,  0.0,    0.0),
-          new NutationModel( 2, 0,-2, 0, 1,    716.0,   0.0,   -2.0,   -389.0,  0.0,   -1.0),
+    /* Initialize the nutation values. */
+       dp = 0.0;
+       de = 0.0;
 
-       /* 91-100 */
-          new NutationModel(-2, 0, 0, 4, 0,   1282.0,   0.0,   -3.0,    -23.0,  0.0,    1.0),
-          new NutationModel(-1,-1, 0, 2, 1,    742.0,   0.0,    1.0,   -391.0,  0.0,    0.0),
-          new NutationModel(-1, 0, 0, 1, 1,   1020.0,   0.0,  -25.0,   -495.0,  0.0,  -10.0),
-          new NutationModel( 0, 1, 0, 0, 2,    715.0,   0.0,   -4.0,   -326.0,  0.0,    2.0),
-          new NutationModel( 0, 0,-2, 0, 1,   -666.0,   0.0,   -3.0,    369.0,  0.0,   -1.0),
-          new NutationModel( 0,-1, 2, 0, 1,   -667.0,   0.0,    1.0,    346.0,  0.0,    1.0),
-          new NutationModel( 0, 0, 2,-1, 2,   -704.0,   0.0,    0.0,    304.0,  0.0,    0.0),
-          new NutationModel( 0, 0, 2, 4, 2,   -694.0,   0.0,    5.0,    294.0,  0.0,    2.0),
-          new NutationModel(-2,-1, 0, 2, 0,  -1014.0,   0.0,   -1.0,      4.0,  0.0,   -1.0),
-          new NutationModel( 1, 1, 0,-2, 1,   -585.0,   0.0,   -2.0,    316.0,  0.0,   -1.0),
+    /* Summation of luni-solar nutation series (in reverse order). */
+       for (i = NLS-1; i >= 0; i--) {
 
-       /* 101-110 */
-          new NutationModel(-1, 1, 0, 2, 0,   -949.0,   0.0,    1.0,      8.0,  0.0,   -1.0),
-          new NutationModel(-1, 1, 0, 1, 2,   -595.0,   0.0,    0.0,    258.0,  0.0,    0.0),
-          new NutationModel( 1,-1, 0, 0, 1,    528.0,   0.0,    0.0,   -279.0,  0.0,    0.0),
-          new NutationModel( 1,-1, 2, 2, 2,   -590.0,   0.0,    4.0,    252.0,  0.0,    2.0),
-          new NutationModel(-1, 1, 2, 2, 2,    570.0,   0.0,   -2.0,   -244.0,  0.0,   -1.0),
-          new NutationModel( 3, 0, 2, 0, 1,   -502.0,   0.0,    3.0,    250.0,  0.0,    2.0),
-          new NutationModel( 0, 1,-2, 2, 0,   -875.0,   0.0,    1.0,     29.0,  0.0,    0.0),
-          new NutationModel(-1, 0, 0,-2, 1,   -492.0,   0.0,   -3.0,    275.0,  0.0,   -1.0),
-          new NutationModel( 0, 1, 2, 2, 2,    535.0,   0.0,   -2.0,   -228.0,  0.0,   -1.0),
-          new NutationModel(-1,-1, 2, 2, 1,   -467.0,   0.0,    1.0,    240.0,  0.0,    1.0),
+       /* Argument and functions. */
+          arg = fmod((double)nl[i]  * el +
+                     (double)nlp[i] * elp +
+                     (double)nf[i]  * f +
+                     (double)nd[i]  * d +
+                     (double)nom[i] * om, D2PI);
+          sarg = sin(arg);
+          carg = cos(arg);
 
-       /* 111-120 */
-          new NutationModel( 0,-1, 0, 0, 2,    591.0,   0.0,    0.0,   -253.0,  0.0,    0.0),
-          new NutationModel( 1, 0, 2,-4, 1,   -453.0,   0.0,   -1.0,    244.0,  0.0,   -1.0),
-          new NutationModel(-1, 0,-2, 2, 0,    766.0,   0.0,    1.0,      9.0,  0.0,    0.0),
-          new NutationModel( 0,-1, 2, 2, 1,   -446.0,   0.0,    2.0,    225.0,  0.0,    1.0),
-          new NutationModel( 2,-1, 2, 0, 2,   -488.0,   0.0,    2.0,    207.0,  0.0,    1.0),
-          new NutationModel( 0, 0, 0, 2, 2,   -468.0,   0.0,    0.0,    201.0,  0.0,    0.0),
-          new NutationModel( 1,-1, 2, 0, 1,   -421.0,   0.0,    1.0,    216.0,  0.0,    1.0),
-          new NutationModel(-1, 1, 2, 0, 2,    463.0,   0.0,    0.0,   -200.0,  0.0,    0.0),
-          new NutationModel( 0, 1, 0, 2, 0,   -673.0,   0.0,    2.0,     14.0,  0.0,    0.0),
-          new NutationModel( 0,-1,-2, 2, 0,    658.0,   0.0,    0.0,     -2.0,  0.0,    0.0),
+       /* Term. */
+          dp += (sp[i] + spt[i] * t) * sarg + cp[i] * carg;
+          de += (ce[i] + cet[i] * t) * carg + se[i] * sarg;
+       }
 
-       /* 121-130 */
-          new NutationModel( 0, 3, 2,-2, 2,   -438.0,   0.0,    0.0,    188.0,  0.0,    0.0),
-          new NutationModel( 0, 0, 0, 1, 1,   -390.0,   0.0,    0.0,    205.0,  0.0,    0.0),
-          new NutationModel(-1, 0, 2, 2, 0,    639.0, -11.0,   -2.0,    -19.0,  0.0,    0.0),
-          new NutationModel( 2, 1, 2, 0, 2,    412.0,   0.0,   -2.0,   -176.0,  0.0,   -1.0),
-          new NutationModel( 1, 1, 0, 0, 1,   -361.0,   0.0,    0.0,    189.0,  0.0,    0.0),
-          new NutationModel( 1, 1, 2, 0, 1,    360.0,   0.0,   -1.0,   -185.0,  0.0,   -1.0),
-          new NutationModel( 2, 0, 0, 2, 0,    588.0,   0.0,   -3.0,    -24.0,  0.0,    0.0),
-          new NutationModel( 1, 0,-2, 2, 0,   -578.0,   0.0,    1.0,      5.0,  0.0,    0.0),
-          new NutationModel(-1, 0, 0, 2, 2,   -396.0,   0.0,    0.0,    171.0,  0.0,    0.0),
-          new NutationModel( 0, 1, 0, 1, 0,    565.0,   0.0,   -1.0,     -6.0,  0.0,    0.0),
+    /* Convert from 0.1 microarcsec units to radians. */
+       dpsils = dp * U2R;
+       depsls = de * U2R;
 
-       /* 131-140 */
-          new NutationModel( 0, 1, 0,-2, 1,   -335.0,   0.0,   -1.0,    184.0,  0.0,   -1.0),
-          new NutationModel(-1, 0, 2,-2, 2,    357.0,   0.0,    1.0,   -154.0,  0.0,    0.0),
-          new NutationModel( 0, 0, 0,-1, 1,    321.0,   0.0,    1.0,   -174.0,  0.0,    0.0),
-          new NutationModel(-1, 1, 0, 0, 1,   -301.0,   0.0,   -1.0,    162.0,  0.0,    0.0),
-          new NutationModel( 1, 0, 2,-1, 2,   -334.0,   0.0,    0.0,    144.0,  0.0,    0.0),
-          new NutationModel( 1,-1, 0, 2, 0,    493.0,   0.0,   -2.0,    -15.0,  0.0,    0.0),
-          new NutationModel( 0, 0, 0, 4, 0,    494.0,   0.0,   -2.0,    -19.0,  0.0,    0.0),
-          new NutationModel( 1, 0, 2, 1, 2,    337.0,   0.0,   -1.0,   -143.0,  0.0,   -1.0),
-          new NutationModel( 0, 0, 2, 1, 1,    280.0,   0.0,   -1.0,   -144.0,  0.0,    0.0),
-          new NutationModel( 1, 0, 0,-2, 2,    309.0,   0.0,    1.0,   -134.0,  0.0,    0.0),
+    /* ------------------ */
+    /* PLANETARY NUTATION */
+    /* ------------------ */
 
-       /* 141-150 */
-          new NutationModel(-1, 0, 2, 4, 1,   -263.0,   0.0,    2.0,    131.0,  0.0,    1.0),
-          new NutationModel( 1, 0,-2, 0, 1,    253.0,   0.0,    1.0,   -138.0,  0.0,    0.0),
-          new NutationModel( 1, 1, 2,-2, 1,    245.0,   0.0,    0.0,   -128.0,  0.0,    0.0),
-          new NutationModel( 0, 0, 2, 2, 0,    416.0,   0.0,   -2.0,    -17.0,  0.0,    0.0),
-          new NutationModel(-1, 0, 2,-1, 1,   -229.0,   0.0,    0.0,    128.0,  0.0,    0.0),
-          new NutationModel(-2, 0, 2, 2, 1,    231.0,   0.0,    0.0,   -120.0,  0.0,    0.0),
-          new NutationModel( 4, 0, 2, 0, 2,   -259.0,   0.0,    2.0,    109.0,  0.0,    1.0),
-          new NutationModel( 2,-1, 0, 0, 0,    375.0,   0.0,   -1.0,     -8.0,  0.0,    0.0),
-          new NutationModel( 2, 1, 2,-2, 2,    252.0,   0.0,    0.0,   -108.0,  0.0,    0.0),
-          new NutationModel( 0, 1, 2, 1, 2,   -245.0,   0.0,    1.0,    104.0,  0.0,    0.0),
+    /* n.b.  The MHB2000 code computes the luni-solar and planetary nutation */
+    /* in different functions, using slightly different Delaunay */
+    /* arguments in the two cases.  This behaviour is faithfully */
+    /* reproduced here.  Use of the IERS 2003 expressions for both */
+    /* cases leads to negligible changes, well below */
+    /* 0.1 microarcsecond. */
 
-       /* 151-160 */
-          new NutationModel( 1, 0, 4,-2, 2,    243.0,   0.0,   -1.0,   -104.0,  0.0,    0.0),
-          new NutationModel(-1,-1, 0, 0, 1,    208.0,   0.0,    1.0,   -112.0,  0.0,    0.0),
-          new NutationModel( 0, 1, 0, 2, 1,    199.0,   0.0,    0.0,   -102.0,  0.0,    0.0),
-          new NutationModel(-2, 0, 2, 4, 1,   -208.0,   0.0,    1.0,    105.0,  0.0,    0.0),
-          new NutationModel( 2, 0, 2, 0, 0,    335.0,   0.0,   -2.0,    -14.0,  0.0,    0.0),
-          new NutationModel( 1, 0, 0, 1, 0,   -325.0,   0.0,    1.0,      7.0,  0.0,    0.0),
-          new NutationModel(-1, 0, 0, 4, 1,   -187.0,   0.0,    0.0,     96.0,  0.0,    0.0),
-          new NutationModel(-1, 0, 4, 0, 1,    197.0,   0.0,   -1.0,   -100.0,  0.0,    0.0),
-          new NutationModel( 2, 0, 2, 2, 1,   -192.0,   0.0,    2.0,     94.0,  0.0,    1.0),
-          new NutationModel( 0, 0, 2,-3, 2,   -188.0,   0.0,    0.0,     83.0,  0.0,    0.0),
+    /* Mean anomaly of the Moon (MHB2000). */
+       al = fmod(2.35555598 + 8328.6914269554 * t, D2PI);
 
-       /* 161-170 */
-          new NutationModel(-1,-2, 0, 2, 0,    276.0,   0.0,    0.0,     -2.0,  0.0,    0.0),
-          new NutationModel( 2, 1, 0, 0, 0,   -286.0,   0.0,    1.0,      6.0,  0.0,    0.0),
-          new NutationModel( 0, 0, 4, 0, 2,    186.0,   0.0,   -1.0,    -79.0,  0.0,    0.0),
-          new NutationModel( 0, 0, 0, 0, 3,   -219.0,   0.0,    0.0,     43.0,  0.0,    0.0),
-          new NutationModel( 0, 3, 0, 0, 0,    276.0,   0.0,    0.0,      2.0,  0.0,    0.0),
-          new NutationModel( 0, 0, 2,-4, 1,   -153.0,   0.0,   -1.0,     84.0,  0.0,    0.0),
-          new NutationModel( 0,-1, 0, 2, 1,   -156.0,   0.0,    0.0,     81.0,  0.0,    0.0),
-          new NutationModel( 0, 0, 0, 4, 1,   -154.0,   0.0,    1.0,     78.0,  0.0,    0.0),
-          new NutationModel(-1,-1, 2, 4, 2,   -174.0,   0.0,    1.0,     75.0,  0.0,    0.0),
-          new NutationModel( 1, 0, 2, 4, 2,   -163.0,   0.0,    2.0,     69.0,  0.0,    1.0),
+    /* Mean longitude of the Moon minus that of the ascending node */
+    /*(MHB2000). */
+       af = fmod(1.627905234 + 8433.466158131 * t, D2PI);
 
-       /* 171-180 */
-          new NutationModel(-2, 2, 0, 2, 0,   -228.0,   0.0,    0.0,      1.0,  0.0,    0.0),
-          new NutationModel(-2,-1, 2, 0, 1,     91.0,   0.0,   -4.0,    -54.0,  0.0,   -2.0),
-          new NutationModel(-2, 0, 0, 2, 2,    175.0,   0.0,    0.0,    -75.0,  0.0,    0.0),
-          new NutationModel(-1,-1, 2, 0, 2,   -159.0,   0.0,    0.0,     69.0,  0.0,    0.0),
-          new NutationModel( 0, 0, 4,-2, 1,    141.0,   0.0,    0.0,    -72.0,  0.0,    0.0),
-          new NutationModel( 3, 0, 2,-2, 1,    147.0,   0.0,    0.0,    -75.0,  0.0,    0.0),
-          new NutationModel(-2,-1, 0, 2, 1,   -132.0,   0.0,    0.0,     69.0,  0.0,    0.0),
-          new NutationModel( 1, 0, 0,-1, 1,    159.0,   0.0,  -28.0,    -54.0,  0.0,   11.0),
-          new NutationModel( 0,-2, 0, 2, 0,    213.0,   0.0,    0.0,     -4.0,  0.0,    0.0),
-          new NutationModel(-2, 0, 0, 4, 1,    123.0,   0.0,    0.0,    -64.0,  0.0,    0.0),
+    /* Mean elongation of the Moon from the Sun (MHB2000). */
+       ad = fmod(5.198466741 + 7771.3771468121 * t, D2PI);
 
-       /* 181-190 */
-          new NutationModel(-3, 0, 0, 0, 1,   -118.0,   0.0,   -1.0,     66.0,  0.0,    0.0),
-          new NutationModel( 1, 1, 2, 2, 2,    144.0,   0.0,   -1.0,    -61.0,  0.0,    0.0),
-          new NutationModel( 0, 0, 2, 4, 1,   -121.0,   0.0,    1.0,     60.0,  0.0,    0.0),
-          new NutationModel( 3, 0, 2, 2, 2,   -134.0,   0.0,    1.0,     56.0,  0.0,    1.0),
-          new NutationModel(-1, 1, 2,-2, 1,   -105.0,   0.0,    0.0,     57.0,  0.0,    0.0),
-          new NutationModel( 2, 0, 0,-4, 1,   -102.0,   0.0,    0.0,     56.0,  0.0,    0.0),
-          new NutationModel( 0, 0, 0,-2, 2,    120.0,   0.0,    0.0,    -52.0,  0.0,    0.0),
-          new NutationModel( 2, 0, 2,-4, 1,    101.0,   0.0,    0.0,    -54.0,  0.0,    0.0),
-          new NutationModel(-1, 1, 0, 2, 1,   -113.0,   0.0,    0.0,     59.0,  0.0,    0.0),
-          new NutationModel( 0, 0, 2,-1, 1,   -106.0,   0.0,    0.0,     61.0,  0.0,    0.0),
+    /* Mean longitude of the ascending node of the Moon (MHB2000). */
+       aom = fmod(2.18243920 - 33.757045 * t, D2PI);
 
-       /* 191-200 */
-          new NutationModel( 0,-2, 2, 2, 2,   -129.0,   0.0,    1.0,     55.0,  0.0,    0.0),
-          new NutationModel( 2, 0, 0, 2, 1,   -114.0,   0.0,    0.0,     57.0,  0.0,    0.0),
-          new NutationModel( 4, 0, 2,-2, 2,    113.0,   0.0,   -1.0,    -49.0,  0.0,    0.0),
-          new NutationModel( 2, 0, 0,-2, 2,   -102.0,   0.0,    0.0,     44.0,  0.0,    0.0),
-          new NutationModel( 0, 2, 0, 0, 1,    -94.0,   0.0,    0.0,     51.0,  0.0,    0.0),
-          new NutationModel( 1, 0, 0,-4, 1,   -100.0,   0.0,   -1.0,     56.0,  0.0,    0.0),
-          new NutationModel( 0, 2, 2,-2, 1,     87.0,   0.0,    0.0,    -47.0,  0.0,    0.0),
-          new NutationModel(-3, 0, 0, 4, 0,    161.0,   0.0,    0.0,     -1.0,  0.0,    0.0),
-          new NutationModel(-1, 1, 2, 0, 1,     96.0,   0.0,    0.0,    -50.0,  0.0,    0.0),
-          new NutationModel(-1,-1, 0, 4, 0,    151.0,   0.0,   -1.0,     -5.0,  0.0,    0.0),
+    /* General accumulated precession in longitude (IERS 2003). */
+       apa = args.pa;
 
-       /* 201-210 */
-          new NutationModel(-1,-2, 2, 2, 2,   -104.0,   0.0,    0.0,     44.0,  0.0,    0.0),
-          new NutationModel(-2,-1, 2, 4, 2,   -110.0,   0.0,    0.0,     48.0,  0.0,    0.0),
-          new NutationModel( 1,-1, 2, 2, 1,   -100.0,   0.0,    1.0,     50.0,  0.0,    0.0),
-          new NutationModel(-2, 1, 0, 2, 0,     92.0,   0.0,   -5.0,     12.0,  0.0,   -2.0),
-          new NutationModel(-2, 1, 2, 0, 1,     82.0,   0.0,    0.0,    -45.0,  0.0,    0.0),
-          new NutationModel( 2, 1, 0,-2, 1,     82.0,   0.0,    0.0,    -45.0,  0.0,    0.0),
-          new NutationModel(-3, 0, 2, 0, 1,    -78.0,   0.0,    0.0,     41.0,  0.0,    0.0),
-          new NutationModel(-2, 0, 2,-2, 1,    -77.0,   0.0,    0.0,     43.0,  0.0,    0.0),
-          new NutationModel(-1, 1, 0, 2, 2,      2.0,   0.0,    0.0,     54.0,  0.0,    0.0),
-          new NutationModel( 0,-1, 2,-1, 2,     94.0,   0.0,    0.0,    -40.0,  0.0,    0.0),
+    /* Planetary longitudes, Mercury through Uranus (IERS 2003). */
+       alme = args.me;
+       alve = args.ve;
+       alea = args.ea;
+       alma = args.ma;
+       alju = args.ju;
+       alsa = args.sa;
+       alur = args.ur;
 
-       /* 211-220 */
-          new NutationModel(-1, 0, 4,-2, 2,    -93.0,   0.0,    0.0,     40.0,  0.0,    0.0),
-          new NutationModel( 0,-2, 2, 0, 2,    -83.0,   0.0,   10.0,     40.0,  0.0,   -2.0),
-          new NutationModel(-1, 0, 2, 1, 2,     83.0,   0.0,    0.0,    -36.0,  0.0,    0.0),
-          new NutationModel( 2, 0, 0, 0, 2,    -91.0,   0.0,    0.0,     39.0,  0.0,    0.0),
-          new NutationModel( 0, 0, 2, 0, 3,    128.0,   0.0,    0.0,     -1.0,  0.0,    0.0),
-          new NutationModel(-2, 0, 4, 0, 2,    -79.0,   0.0,    0.0,     34.0,  0.0,    0.0),
-          new NutationModel(-1, 0,-2, 0, 1,    -83.0,   0.0,    0.0,     47.0,  0.0,    0.0),
-          new NutationModel(-1, 1, 2, 2, 1,     84.0,   0.0,    0.0,    -44.0,  0.0,    0.0),
-          new NutationModel( 3, 0, 0, 0, 1,     83.0,   0.0,    0.0,    -43.0,  0.0,    0.0),
-          new NutationModel(-1, 0, 2, 3, 2,     91.0,   0.0,    0.0,    -39.0,  0.0,    0.0),
+    /* Neptune longitude (MHB2000). */
+       alne = fmod(5.321159000 + 3.8127774000 * t, D2PI);
 
-       /* 221-230 */
-          new NutationModel( 2,-1, 2, 0, 1,    -77.0,   0.0,    0.0,     39.0,  0.0,    0.0),
-          new NutationModel( 0, 1, 2, 2, 1,     84.0,   0.0,    0.0,    -43.0,  0.0,    0.0),
-          new NutationModel( 0,-1, 2, 4, 2,    -92.0,   0.0,    1.0,     39.0,  0.0,    0.0),
-          new NutationModel( 2,-1, 2, 2, 2,    -92.0,   0.0,    1.0,     39.0,  0.0,    0.0),
-          new NutationModel( 0, 2,-2, 2, 0,    -94.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-          new NutationModel(-1,-1, 2,-1, 1,     68.0,   0.0,    0.0,    -36.0,  0.0,    0.0),
-          new NutationModel( 0,-2, 0, 0, 1,    -61.0,   0.0,    0.0,     32.0,  0.0,    0.0),
-          new NutationModel( 1, 0, 2,-4, 2,     71.0,   0.0,    0.0,    -31.0,  0.0,    0.0),
-          new NutationModel( 1,-1, 0,-2, 1,     62.0,   0.0,    0.0,    -34.0,  0.0,    0.0),
-          new NutationModel(-1,-1, 2, 0, 1,    -63.0,   0.0,    0.0,     33.0,  0.0,    0.0),
+    /* Initialize the nutation values. */
+       dp = 0.0;
+       de = 0.0;
 
-       /* 231-240 */
-          new NutationModel( 1,-1, 2,-2, 2,    -73.0,   0.0,    0.0,     32.0,  0.0,    0.0),
-          new NutationModel(-2,-1, 0, 4, 0,    115.0,   0.0,    0.0,     -2.0,  0.0,    0.0),
-          new NutationModel(-1, 0, 0, 3, 0,   -103.0,   0.0,    0.0,      2.0,  0.0,    0.0),
-          new NutationModel(-2,-1, 2, 2, 2,     63.0,   0.0,    0.0,    -28.0,  0.0,    0.0),
-          new NutationModel( 0, 2, 2, 0, 2,     74.0,   0.0,    0.0,    -32.0,  0.0,    0.0),
-          new NutationModel( 1, 1, 0, 2, 0,   -103.0,   0.0,   -3.0,      3.0,  0.0,   -1.0),
-          new NutationModel( 2, 0, 2,-1, 2,    -69.0,   0.0,    0.0,     30.0,  0.0,    0.0),
-          new NutationModel( 1, 0, 2, 1, 1,     57.0,   0.0,    0.0,    -29.0,  0.0,    0.0),
-          new NutationModel( 4, 0, 0, 0, 0,     94.0,   0.0,    0.0,     -4.0,  0.0,    0.0),
-          new NutationModel( 2, 1, 2, 0, 1,     64.0,   0.0,    0.0,    -33.0,  0.0,    0.0),
+    /* Summation of planetary nutation series (in reverse order). */
+       for (i = NPL-1; i >= 0; i--) {
 
-       /* 241-250 */
-          new NutationModel( 3,-1, 2, 0, 2,    -63.0,   0.0,    0.0,     26.0,  0.0,    0.0),
-          new NutationModel(-2, 2, 0, 2, 1,    -38.0,   0.0,    0.0,     20.0,  0.0,    0.0),
-          new NutationModel( 1, 0, 2,-3, 1,    -43.0,   0.0,    0.0,     24.0,  0.0,    0.0),
-          new NutationModel( 1, 1, 2,-4, 1,    -45.0,   0.0,    0.0,     23.0,  0.0,    0.0),
-          new NutationModel(-1,-1, 2,-2, 1,     47.0,   0.0,    0.0,    -24.0,  0.0,    0.0),
-          new NutationModel( 0,-1, 0,-1, 1,    -48.0,   0.0,    0.0,     25.0,  0.0,    0.0),
-          new NutationModel( 0,-1, 0,-2, 1,     45.0,   0.0,    0.0,    -26.0,  0.0,    0.0),
-          new NutationModel(-2, 0, 0, 0, 2,     56.0,   0.0,    0.0,    -25.0,  0.0,    0.0),
-          new NutationModel(-2, 0,-2, 2, 0,     88.0,   0.0,    0.0,      2.0,  0.0,    0.0),
-          new NutationModel(-1, 0,-2, 4, 0,    -75.0,   0.0,    0.0,      0.0,  0.0,    0.0),
+       /* Argument and functions. */
+          arg = fmod((double)Nut00aPlanetary.nl[i]  * al   +
+                     (double)Nut00aPlanetary.nf[i]  * af   +
+                     (double)Nut00aPlanetary.nd[i]  * ad   +
+                     (double)Nut00aPlanetary.nom[i] * aom  +
+                     (double)Nut00aPlanetary.nme[i] * alme +
+                     (double)Nut00aPlanetary.nve[i] * alve +
+                     (double)Nut00aPlanetary.nea[i] * alea +
+                     (double)Nut00aPlanetary.nma[i] * alma +
+                     (double)Nut00aPlanetary.nju[i] * alju +
+                     (double)Nut00aPlanetary.nsa[i] * alsa +
+                     (double)Nut00aPlanetary.nur[i] * alur +
+                     (double)Nut00aPlanetary.nne[i] * alne +
+                     (double)Nut00aPlanetary.npa[i] * apa, D2PI);
+          sarg = sin(arg);
+          carg = cos(arg);
 
-       /* 251-260 */
-          new NutationModel( 1,-2, 0, 0, 0,     85.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-          new NutationModel( 0, 1, 0, 1, 1,     49.0,   0.0,    0.0,    -26.0,  0.0,    0.0),
-          new NutationModel(-1, 2, 0, 2, 0,    -74.0,   0.0,   -3.0,     -1.0,  0.0,   -1.0),
-          new NutationModel( 1,-1, 2,-2, 1,    -39.0,   0.0,    0.0,     21.0,  0.0,    0.0),
-          new NutationModel( 1, 2, 2,-2, 2,     45.0,   0.0,    0.0,    -20.0,  0.0,    0.0),
-          new NutationModel( 2,-1, 2,-2, 2,     51.0,   0.0,    0.0,    -22.0,  0.0,    0.0),
-          new NutationModel( 1, 0, 2,-1, 1,    -40.0,   0.0,    0.0,     21.0,  0.0,    0.0),
-          new NutationModel( 2, 1, 2,-2, 1,     41.0,   0.0,    0.0,    -21.0,  0.0,    0.0),
-          new NutationModel(-2, 0, 0,-2, 1,    -42.0,   0.0,    0.0,     24.0,  0.0,    0.0),
-          new NutationModel( 1,-2, 2, 0, 2,    -51.0,   0.0,    0.0,     22.0,  0.0,    0.0),
+       /* Term. */
+          dp += Nut00aPlanetary.sp[i] * sarg + Nut00aPlanetary.cp[i] * carg;
+          de += Nut00aPlanetary.se[i] * sarg + Nut00aPlanetary.ce[i] * carg;
 
-       /* 261-270 */
-          new NutationModel( 0, 1, 2, 1, 1,    -42.0,   0.0,    0.0,     22.0,  0.0,    0.0),
-          new NutationModel( 1, 0, 4,-2, 1,     39.0,   0.0,    0.0,    -21.0,  0.0,    0.0),
-          new NutationModel(-2, 0, 4, 2, 2,     46.0,   0.0,    0.0,    -18.0,  0.0,    0.0),
-          new NutationModel( 1, 1, 2, 1, 2,    -53.0,   0.0,    0.0,     22.0,  0.0,    0.0),
-          new NutationModel( 1, 0, 0, 4, 0,     82.0,   0.0,    0.0,     -4.0,  0.0,    0.0),
-          new NutationModel( 1, 0, 2, 2, 0,     81.0,   0.0,   -1.0,     -4.0,  0.0,    0.0),
-          new NutationModel( 2, 0, 2, 1, 2,     47.0,   0.0,    0.0,    -19.0,  0.0,    0.0),
-          new NutationModel( 3, 1, 2, 0, 2,     53.0,   0.0,    0.0,    -23.0,  0.0,    0.0),
-          new NutationModel( 4, 0, 2, 0, 1,    -45.0,   0.0,    0.0,     22.0,  0.0,    0.0),
-          new NutationModel(-2,-1, 2, 0, 0,    -44.0,   0.0,    0.0,     -2.0,  0.0,    0.0),
+       }
 
-       /* 271-280 */
-          new NutationModel( 0, 1,-2, 2, 1,    -33.0,   0.0,    0.0,     16.0,  0.0,    0.0),
-          new NutationModel( 1, 0,-2, 1, 0,    -61.0,   0.0,    0.0,      1.0,  0.0,    0.0),
-          new NutationModel( 0,-1,-2, 2, 1,     28.0,   0.0,    0.0,    -15.0,  0.0,    0.0),
-          new NutationModel( 2,-1, 0,-2, 1,    -38.0,   0.0,    0.0,     19.0,  0.0,    0.0),
-          new NutationModel(-1, 0, 2,-1, 2,    -33.0,   0.0,    0.0,     21.0,  0.0,    0.0),
-          new NutationModel( 1, 0, 2,-3, 2,    -60.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-          new NutationModel( 0, 1, 2,-2, 3,     48.0,   0.0,    0.0,    -10.0,  0.0,    0.0),
-          new NutationModel( 0, 0, 2,-3, 1,     27.0,   0.0,    0.0,    -14.0,  0.0,    0.0),
-          new NutationModel(-1, 0,-2, 2, 1,     38.0,   0.0,    0.0,    -20.0,  0.0,    0.0),
-          new NutationModel( 0, 0, 2,-4, 2,     31.0,   0.0,    0.0,    -13.0,  0.0,    0.0),
+    /* Convert from 0.1 microarcsec units to radians. */
+       dpsipl = dp * U2R;
+       depspl = de * U2R;
 
-       /* 281-290 */
-          new NutationModel(-2, 1, 0, 0, 1,    -29.0,   0.0,    0.0,     15.0,  0.0,    0.0),
-          new NutationModel(-1, 0, 0,-1, 1,     28.0,   0.0,    0.0,    -15.0,  0.0,    0.0),
-          new NutationModel( 2, 0, 2,-4, 2,    -32.0,   0.0,    0.0,     15.0,  0.0,    0.0),
-          new NutationModel( 0, 0, 4,-4, 4,     45.0,   0.0,    0.0,     -8.0,  0.0,    0.0),
-          new NutationModel( 0, 0, 4,-4, 2,    -44.0,   0.0,    0.0,     19.0,  0.0,    0.0),
-          new NutationModel(-1,-2, 0, 2, 1,     28.0,   0.0,    0.0,    -15.0,  0.0,    0.0),
-          new NutationModel(-2, 0, 0, 3, 0,    -51.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-          new NutationModel( 1, 0,-2, 2, 1,    -36.0,   0.0,    0.0,     20.0,  0.0,    0.0),
-          new NutationModel(-3, 0, 2, 2, 2,     44.0,   0.0,    0.0,    -19.0,  0.0,    0.0),
-          new NutationModel(-3, 0, 2, 2, 1,     26.0,   0.0,    0.0,    -14.0,  0.0,    0.0),
+    /* ------- */
+    /* RESULTS */
+    /* ------- */
 
-       /* 291-300 */
-          new NutationModel(-2, 0, 2, 2, 0,    -60.0,   0.0,    0.0,      2.0,  0.0,    0.0),
-          new NutationModel( 2,-1, 0, 0, 1,     35.0,   0.0,    0.0,    -18.0,  0.0,    0.0),
-          new NutationModel(-2, 1, 2, 2, 2,    -27.0,   0.0,    0.0,     11.0,  0.0,    0.0),
-          new NutationModel( 1, 1, 0, 1, 0,     47.0,   0.0,    0.0,     -1.0,  0.0,    0.0),
-          new NutationModel( 0, 1, 4,-2, 2,     36.0,   0.0,    0.0,    -15.0,  0.0,    0.0),
-          new NutationModel(-1, 1, 0,-2, 1,    -36.0,   0.0,    0.0,     20.0,  0.0,    0.0),
-          new NutationModel( 0, 0, 0,-4, 1,    -35.0,   0.0,    0.0,     19.0,  0.0,    0.0),
-          new NutationModel( 1,-1, 0, 2, 1,    -37.0,   0.0,    0.0,     19.0,  0.0,    0.0),
-          new NutationModel( 1, 1, 0, 2, 1,     32.0,   0.0,    0.0,    -16.0,  0.0,    0.0),
-          new NutationModel(-1, 2, 2, 2, 2,     35.0,   0.0,    0.0,    -14.0,  0.0,    0.0),
-
-       /* 301-310 */
-          new NutationModel( 3, 1, 2,-2, 2,     32.0,   0.0,    0.0,    -13.0,  0.0,    0.0),
-          new NutationModel( 0,-1, 0, 4, 0,     65.0,   0.0,    0.0,     -2.0,  0.0,    0.0),
-          new NutationModel( 2,-1, 0, 2, 0,     47.0,   0.0,    0.0,     -1.0,  0.0,    0.0),
-          new NutationModel( 0, 0, 4, 0, 1,     32.0,   0.0,    0.0,    -16.0,  0.0,    0.0),
-          new NutationModel( 2, 0, 4,-2, 2,     37.0,   0.0,    0.0,    -16.0,  0.0,    0.0),
-          new NutationModel(-1,-1, 2, 4, 1,    -30.0,   0.0,    0.0,     15.0,  0.0,    0.0),
-          new NutationModel( 1, 0, 0, 4, 1,    -32.0,   0.0,    0.0,     16.0,  0.0,    0.0),
-          new NutationModel( 1,-2, 2, 2, 2,    -31.0,   0.0,    0.0,     13.0,  0.0,    0.0),
-          new NutationModel( 0, 0, 2, 3, 2,     37.0,   0.0,    0.0,    -16.0,  0.0,    0.0),
-          new NutationModel(-1, 1, 2, 4, 2,     31.0,   0.0,    0.0,    -13.0,  0.0,    0.0),
-
-       /* 311-320 */
-          new NutationModel( 3, 0, 0, 2, 0,     49.0,   0.0,    0.0,     -2.0,  0.0,    0.0),
-          new NutationModel(-1, 0, 4, 2, 2,     32.0,   0.0,    0.0,    -13.0,  0.0,    0.0),
-          new NutationModel( 1, 1, 2, 2, 1,     23.0,   0.0,    0.0,    -12.0,  0.0,    0.0),
-          new NutationModel(-2, 0, 2, 6, 2,    -43.0,   0.0,    0.0,     18.0,  0.0,    0.0),
-          new NutationModel( 2, 1, 2, 2, 2,     26.0,   0.0,    0.0,    -11.0,  0.0,    0.0),
-          new NutationModel(-1, 0, 2, 6, 2,    -32.0,   0.0,    0.0,     14.0,  0.0,    0.0),
-          new NutationModel( 1, 0, 2, 4, 1,    -29.0,   0.0,    0.0,     14.0,  0.0,    0.0),
-          new NutationModel( 2, 0, 2, 4, 2,    -27.0,   0.0,    0.0,     12.0,  0.0,    0.0),
-          new NutationModel( 1, 1,-2, 1, 0,     30.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-          new NutationModel(-3, 1, 2, 1, 2,    -11.0,   0.0,    0.0,      5.0,  0.0,    0.0),
-
-       /* 321-330 */
-          new NutationModel( 2, 0,-2, 0, 2,    -21.0,   0.0,    0.0,     10.0,  0.0,    0.0),
-          new NutationModel(-1, 0, 0, 1, 2,    -34.0,   0.0,    0.0,     15.0,  0.0,    0.0),
-          new NutationModel(-4, 0, 2, 2, 1,    -10.0,   0.0,    0.0,      6.0,  0.0,    0.0),
-          new NutationModel(-1,-1, 0, 1, 0,    -36.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-          new NutationModel( 0, 0,-2, 2, 2,     -9.0,   0.0,    0.0,      4.0,  0.0,    0.0),
-          new NutationModel( 1, 0, 0,-1, 2,    -12.0,   0.0,    0.0,      5.0,  0.0,    0.0),
-          new NutationModel( 0,-1, 2,-2, 3,    -21.0,   0.0,    0.0,      5.0,  0.0,    0.0),
-          new NutationModel(-2, 1, 2, 0, 0,    -29.0,   0.0,    0.0,     -1.0,  0.0,    0.0),
-          new NutationModel( 0, 0, 2,-2, 4,    -15.0,   0.0,    0.0,      3.0,  0.0,    0.0),
-          new NutationModel(-2,-2, 0, 2, 0,    -20.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-
-       /* 331-340 */
-          new NutationModel(-2, 0,-2, 4, 0,     28.0,   0.0,    0.0,      0.0,  0.0,   -2.0),
-          new NutationModel( 0,-2,-2, 2, 0,     17.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-          new NutationModel( 1, 2, 0,-2, 1,    -22.0,   0.0,    0.0,     12.0,  0.0,    0.0),
-          new NutationModel( 3, 0, 0,-4, 1,    -14.0,   0.0,    0.0,      7.0,  0.0,    0.0),
-          new NutationModel(-1, 1, 2,-2, 2,     24.0,   0.0,    0.0,    -11.0,  0.0,    0.0),
-          new NutationModel( 1,-1, 2,-4, 1,     11.0,   0.0,    0.0,     -6.0,  0.0,    0.0),
-          new NutationModel( 1, 1, 0,-2, 2,     14.0,   0.0,    0.0,     -6.0,  0.0,    0.0),
-          new NutationModel(-3, 0, 2, 0, 0,     24.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-          new NutationModel(-3, 0, 2, 0, 2,     18.0,   0.0,    0.0,     -8.0,  0.0,    0.0),
-          new NutationModel(-2, 0, 0, 1, 0,    -38.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-
-       /* 341-350 */
-          new NutationModel( 0, 0,-2, 1, 0,    -31.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-          new NutationModel(-3, 0, 0, 2, 1,    -16.0,   0.0,    0.0,      8.0,  0.0,    0.0),
-          new NutationModel(-1,-1,-2, 2, 0,     29.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-          new NutationModel( 0, 1, 2,-4, 1,    -18.0,   0.0,    0.0,     10.0,  0.0,    0.0),
-          new NutationModel( 2, 1, 0,-4, 1,    -10.0,   0.0,    0.0,      5.0,  0.0,    0.0),
-          new NutationModel( 0, 2, 0,-2, 1,    -17.0,   0.0,    0.0,     10.0,  0.0,    0.0),
-          new NutationModel( 1, 0, 0,-3, 1,      9.0,   0.0,    0.0,     -4.0,  0.0,    0.0),
-          new NutationModel(-2, 0, 2,-2, 2,     16.0,   0.0,    0.0,     -6.0,  0.0,    0.0),
-          new NutationModel(-2,-1, 0, 0, 1,     22.0,   0.0,    0.0,    -12.0,  0.0,    0.0),
-          new NutationModel(-4, 0, 0, 2, 0,     20.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-
-       /* 351-360 */
-          new NutationModel( 1, 1, 0,-4, 1,    -13.0,   0.0,    0.0,      6.0,  0.0,    0.0),
-          new NutationModel(-1, 0, 2,-4, 1,    -17.0,   0.0,    0.0,      9.0,  0.0,    0.0),
-          new NutationModel( 0, 0, 4,-4, 1,    -14.0,   0.0,    0.0,      8.0,  0.0,    0.0),
-          new NutationModel( 0, 3, 2,-2, 2,      0.0,   0.0,    0.0,     -7.0,  0.0,    0.0),
-          new NutationModel(-3,-1, 0, 4, 0,     14.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-          new NutationModel(-3, 0, 0, 4, 1,     19.0,   0.0,    0.0,    -10.0,  0.0,    0.0),
-          new NutationModel( 1,-1,-2, 2, 0,    -34.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-          new NutationModel(-1,-1, 0, 2, 2,    -20.0,   0.0,    0.0,      8.0,  0.0,    0.0),
-          new NutationModel( 1,-2, 0, 0, 1,      9.0,   0.0,    0.0,     -5.0,  0.0,    0.0),
-          new NutationModel( 1,-1, 0, 0, 2,    -18.0,   0.0,    0.0,      7.0,  0.0,    0.0),
-
-       /* 361-370 */
-          new NutationModel( 0, 0, 0, 1, 2,     13.0,   0.0,    0.0,     -6.0,  0.0,    0.0),
-          new NutationModel(-1,-1, 2, 0, 0,     17.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-          new NutationModel( 1,-2, 2,-2, 2,    -12.0,   0.0,    0.0,      5.0,  0.0,    0.0),
-          new NutationModel( 0,-1, 2,-1, 1,     15.0,   0.0,    0.0,     -8.0,  0.0,    0.0),
-          new NutationModel(-1, 0, 2, 0, 3,    -11.0,   0.0,    0.0,      3.0,  0.0,    0.0),
-          new NutationModel( 1, 1, 0, 0, 2,     13.0,   0.0,    0.0,     -5.0,  0.0,    0.0),
-          new NutationModel(-1, 1, 2, 0, 0,    -18.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-          new NutationModel( 1, 2, 0, 0, 0,    -35.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-          new NutationModel(-1, 2, 2, 0, 2,      9.0,   0.0,    0.0,     -4.0,  0.0,    0.0),
-          new NutationModel(-1, 0, 4,-2, 1,    -19.0,   0.0,    0.0,     10.0,  0.0,    0.0),
-
-       /* 371-380 */
-          new NutationModel( 3, 0, 2,-4, 2,    -26.0,   0.0,    0.0,     11.0,  0.0,    0.0),
-          new NutationModel( 1, 2, 2,-2, 1,      8.0,   0.0,    0.0,     -4.0,  0.0,    0.0),
-          new NutationModel( 1, 0, 4,-4, 2,    -10.0,   0.0,    0.0,      4.0,  0.0,    0.0),
-          new NutationModel(-2,-1, 0, 4, 1,     10.0,   0.0,    0.0,     -6.0,  0.0,    0.0),
-          new NutationModel( 0,-1, 0, 2, 2,    -21.0,   0.0,    0.0,      9.0,  0.0,    0.0),
-          new NutationModel(-2, 1, 0, 4, 0,    -15.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-          new NutationModel(-2,-1, 2, 2, 1,      9.0,   0.0,    0.0,     -5.0,  0.0,    0.0),
-          new NutationModel( 2, 0,-2, 2, 0,    -29.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-          new NutationModel( 1, 0, 0, 1, 1,    -19.0,   0.0,    0.0,     10.0,  0.0,    0.0),
-          new NutationModel( 0, 1, 0, 2, 2,     12.0,   0.0,    0.0,     -5.0,  0.0,    0.0),
-
-       /* 381-390 */
-          new NutationModel( 1,-1, 2,-1, 2,     22.0,   0.0,    0.0,     -9.0,  0.0,    0.0),
-          new NutationModel(-2, 0, 4, 0, 1,    -10.0,   0.0,    0.0,      5.0,  0.0,    0.0),
-          new NutationModel( 2, 1, 0, 0, 1,    -20.0,   0.0,    0.0,     11.0,  0.0,    0.0),
-          new NutationModel( 0, 1, 2, 0, 0,    -20.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-          new NutationModel( 0,-1, 4,-2, 2,    -17.0,   0.0,    0.0,      7.0,  0.0,    0.0),
-          new NutationModel( 0, 0, 4,-2, 4,     15.0,   0.0,    0.0,     -3.0,  0.0,    0.0),
-          new NutationModel( 0, 2, 2, 0, 1,      8.0,   0.0,    0.0,     -4.0,  0.0,    0.0),
-          new NutationModel(-3, 0, 0, 6, 0,     14.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-          new NutationModel(-1,-1, 0, 4, 1,    -12.0,   0.0,    0.0,      6.0,  0.0,    0.0),
-          new NutationModel( 1,-2, 0, 2, 0,     25.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-
-       /* 391-400 */
-          new NutationModel(-1, 0, 0, 4, 2,    -13.0,   0.0,    0.0,      6.0,  0.0,    0.0),
-          new NutationModel(-1,-2, 2, 2, 1,    -14.0,   0.0,    0.0,      8.0,  0.0,    0.0),
-          new NutationModel(-1, 0, 0,-2, 2,     13.0,   0.0,    0.0,     -5.0,  0.0,    0.0),
-          new NutationModel( 1, 0,-2,-2, 1,    -17.0,   0.0,    0.0,      9.0,  0.0,    0.0),
-          new NutationModel( 0, 0,-2,-2, 1,    -12.0,   0.0,    0.0,      6.0,  0.0,    0.0),
-          new NutationModel(-2, 0,-2, 0, 1,    -10.0,   0.0,    0.0,      5.0,  0.0,    0.0),
-          new NutationModel( 0, 0, 0, 3, 1,     10.0,   0.0,    0.0,     -6.0,  0.0,    0.0),
-          new NutationModel( 0, 0, 0, 3, 0,    -15.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-          new NutationModel(-1, 1, 0, 4, 0,    -22.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-          new NutationModel(-1,-1, 2, 2, 0,     28.0,   0.0,    0.0,     -1.0,  0.0,    0.0),
-
-       /* 401-410 */
-          new NutationModel(-2, 0, 2, 3, 2,     15.0,   0.0,    0.0,     -7.0,  0.0,    0.0),
-          new NutationModel( 1, 0, 0, 2, 2,     23.0,   0.0,    0.0,    -10.0,  0.0,    0.0),
-          new NutationModel( 0,-1, 2, 1, 2,     12.0,   0.0,    0.0,     -5.0,  0.0,    0.0),
-          new NutationModel( 3,-1, 0, 0, 0,     29.0,   0.0,    0.0,     -1.0,  0.0,    0.0),
-          new NutationModel( 2, 0, 0, 1, 0,    -25.0,   0.0,    0.0,      1.0,  0.0,    0.0),
-          new NutationModel( 1,-1, 2, 0, 0,     22.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-          new NutationModel( 0, 0, 2, 1, 0,    -18.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-          new NutationModel( 1, 0, 2, 0, 3,     15.0,   0.0,    0.0,      3.0,  0.0,    0.0),
-          new NutationModel( 3, 1, 0, 0, 0,    -23.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-          new NutationModel( 3,-1, 2,-2, 2,     12.0,   0.0,    0.0,     -5.0,  0.0,    0.0),
-
-       /* 411-420 */
-          new NutationModel( 2, 0, 2,-1, 1,     -8.0,   0.0,    0.0,      4.0,  0.0,    0.0),
-          new NutationModel( 1, 1, 2, 0, 0,    -19.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-          new NutationModel( 0, 0, 4,-1, 2,    -10.0,   0.0,    0.0,      4.0,  0.0,    0.0),
-          new NutationModel( 1, 2, 2, 0, 2,     21.0,   0.0,    0.0,     -9.0,  0.0,    0.0),
-          new NutationModel(-2, 0, 0, 6, 0,     23.0,   0.0,    0.0,     -1.0,  0.0,    0.0),
-          new NutationModel( 0,-1, 0, 4, 1,    -16.0,   0.0,    0.0,      8.0,  0.0,    0.0),
-          new NutationModel(-2,-1, 2, 4, 1,    -19.0,   0.0,    0.0,      9.0,  0.0,    0.0),
-          new NutationModel( 0,-2, 2, 2, 1,    -22.0,   0.0,    0.0,     10.0,  0.0,    0.0),
-          new NutationModel( 0,-1, 2, 2, 0,     27.0,   0.0,    0.0,     -1.0,  0.0,    0.0),
-          new NutationModel(-1, 0, 2, 3, 1,     16.0,   0.0,    0.0,     -8.0,  0.0,    0.0),
-
-       /* 421-430 */
-          new NutationModel(-2, 1, 2, 4, 2,     19.0,   0.0,    0.0,     -8.0,  0.0,    0.0),
-          new NutationModel( 2, 0, 0, 2, 2,      9.0,   0.0,    0.0,     -4.0,  0.0,    0.0),
-          new NutationModel( 2,-2, 2, 0, 2,     -9.0,   0.0,    0.0,      4.0,  0.0,    0.0),
-          new NutationModel(-1, 1, 2, 3, 2,     -9.0,   0.0,    0.0,      4.0,  0.0,    0.0),
-          new NutationModel( 3, 0, 2,-1, 2,     -8.0,   0.0,    0.0,      4.0,  0.0,    0.0),
-          new NutationModel( 4, 0, 2,-2, 1,     18.0,   0.0,    0.0,     -9.0,  0.0,    0.0),
-          new NutationModel(-1, 0, 0, 6, 0,     16.0,   0.0,    0.0,     -1.0,  0.0,    0.0),
-          new NutationModel(-1,-2, 2, 4, 2,    -10.0,   0.0,    0.0,      4.0,  0.0,    0.0),
-          new NutationModel(-3, 0, 2, 6, 2,    -23.0,   0.0,    0.0,      9.0,  0.0,    0.0),
-          new NutationModel(-1, 0, 2, 4, 0,     16.0,   0.0,    0.0,     -1.0,  0.0,    0.0),
-
-       /* 431-440 */
-          new NutationModel( 3, 0, 0, 2, 1,    -12.0,   0.0,    0.0,      6.0,  0.0,    0.0),
-          new NutationModel( 3,-1, 2, 0, 1,     -8.0,   0.0,    0.0,      4.0,  0.0,    0.0),
-          new NutationModel( 3, 0, 2, 0, 0,     30.0,   0.0,    0.0,     -2.0,  0.0,    0.0),
-          new NutationModel( 1, 0, 4, 0, 2,     24.0,   0.0,    0.0,    -10.0,  0.0,    0.0),
-          new NutationModel( 5, 0, 2,-2, 2,     10.0,   0.0,    0.0,     -4.0,  0.0,    0.0),
-          new NutationModel( 0,-1, 2, 4, 1,    -16.0,   0.0,    0.0,      7.0,  0.0,    0.0),
-          new NutationModel( 2,-1, 2, 2, 1,    -16.0,   0.0,    0.0,      7.0,  0.0,    0.0),
-          new NutationModel( 0, 1, 2, 4, 2,     17.0,   0.0,    0.0,     -7.0,  0.0,    0.0),
-          new NutationModel( 1,-1, 2, 4, 2,    -24.0,   0.0,    0.0,     10.0,  0.0,    0.0),
-          new NutationModel( 3,-1, 2, 2, 2,    -12.0,   0.0,    0.0,      5.0,  0.0,    0.0),
-
-       /* 441-450 */
-          new NutationModel( 3, 0, 2, 2, 1,    -24.0,   0.0,    0.0,     11.0,  0.0,    0.0),
-          new NutationModel( 5, 0, 2, 0, 2,    -23.0,   0.0,    0.0,      9.0,  0.0,    0.0),
-          new NutationModel( 0, 0, 2, 6, 2,    -13.0,   0.0,    0.0,      5.0,  0.0,    0.0),
-          new NutationModel( 4, 0, 2, 2, 2,    -15.0,   0.0,    0.0,      7.0,  0.0,    0.0),
-          new NutationModel( 0,-1, 1,-1, 1,      0.0,   0.0,-1988.0,      0.0,  0.0,-1679.0),
-          new NutationModel(-1, 0, 1, 0, 3,      0.0,   0.0,  -63.0,      0.0,  0.0,  -27.0),
-          new NutationModel( 0,-2, 2,-2, 3,     -4.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-          new NutationModel( 1, 0,-1, 0, 1,      0.0,   0.0,    5.0,      0.0,  0.0,    4.0),
-          new NutationModel( 2,-2, 0,-2, 1,      5.0,   0.0,    0.0,     -3.0,  0.0,    0.0),
-          new NutationModel(-1, 0, 1, 0, 2,      0.0,   0.0,  364.0,      0.0,  0.0,  176.0),
-
-       /* 451-460 */
-          new NutationModel(-1, 0, 1, 0, 1,      0.0,   0.0,-1044.0,      0.0,  0.0, -891.0),
-          new NutationModel(-1,-1, 2,-1, 2,     -3.0,   0.0,    0.0,      1.0,  0.0,    0.0),
-          new NutationModel(-2, 2, 0, 2, 2,      4.0,   0.0,    0.0,     -2.0,  0.0,    0.0),
-          new NutationModel(-1, 0, 1, 0, 0,      0.0,   0.0,  330.0,      0.0,  0.0,    0.0),
-          new NutationModel(-4, 1, 2, 2, 2,      5.0,   0.0,    0.0,     -2.0,  0.0,    0.0),
-          new NutationModel(-3, 0, 2, 1, 1,      3.0,   0.0,    0.0,     -2.0,  0.0,    0.0),
-          new NutationModel(-2,-1, 2, 0, 2,     -3.0,   0.0,    0.0,      1.0,  0.0,    0.0),
-          new NutationModel( 1, 0,-2, 1, 1,     -5.0,   0.0,    0.0,      2.0,  0.0,    0.0),
-          new NutationModel( 2,-1,-2, 0, 1,      3.0,   0.0,    0.0,     -1.0,  0.0,    0.0),
-          new NutationModel(-4, 0, 2, 2, 0,      3.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-
-       /* 461-470 */
-          new NutationModel(-3, 1, 0, 3, 0,      3.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-          new NutationModel(-1, 0,-1, 2, 0,      0.0,   0.0,    5.0,      0.0,  0.0,    0.0),
-          new NutationModel( 0,-2, 0, 0, 2,      0.0,   0.0,    0.0,      1.0,  0.0,    0.0),
-          new NutationModel( 0,-2, 0, 0, 2,      4.0,   0.0,    0.0,     -2.0,  0.0,    0.0),
-          new NutationModel(-3, 0, 0, 3, 0,      6.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-          new NutationModel(-2,-1, 0, 2, 2,      5.0,   0.0,    0.0,     -2.0,  0.0,    0.0),
-          new NutationModel(-1, 0,-2, 3, 0,     -7.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-          new NutationModel(-4, 0, 0, 4, 0,    -12.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-          new NutationModel( 2, 1,-2, 0, 1,      5.0,   0.0,    0.0,     -3.0,  0.0,    0.0),
-          new NutationModel( 2,-1, 0,-2, 2,      3.0,   0.0,    0.0,     -1.0,  0.0,    0.0),
-
-       /* 471-480 */
-          new NutationModel( 0, 0, 1,-1, 0,     -5.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-          new NutationModel(-1, 2, 0, 1, 0,      3.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-          new NutationModel(-2, 1, 2, 0, 2,     -7.0,   0.0,    0.0,      3.0,  0.0,    0.0),
-          new NutationModel( 1, 1, 0,-1, 1,      7.0,   0.0,    0.0,     -4.0,  0.0,    0.0),
-          new NutationModel( 1, 0, 1,-2, 1,      0.0,   0.0,  -12.0,      0.0,  0.0,  -10.0),
-          new NutationModel( 0, 2, 0, 0, 2,      4.0,   0.0,    0.0,     -2.0,  0.0,    0.0),
-          new NutationModel( 1,-1, 2,-3, 1,      3.0,   0.0,    0.0,     -2.0,  0.0,    0.0),
-          new NutationModel(-1, 1, 2,-1, 1,     -3.0,   0.0,    0.0,      2.0,  0.0,    0.0),
-          new NutationModel(-2, 0, 4,-2, 2,     -7.0,   0.0,    0.0,      3.0,  0.0,    0.0),
-          new NutationModel(-2, 0, 4,-2, 1,     -4.0,   0.0,    0.0,      2.0,  0.0,    0.0),
-
-       /* 481-490 */
-          new NutationModel(-2,-2, 0, 2, 1,     -3.0,   0.0,    0.0,      1.0,  0.0,    0.0),
-          new NutationModel(-2, 0,-2, 4, 0,      0.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-          new NutationModel( 1, 2, 2,-4, 1,     -3.0,   0.0,    0.0,      1.0,  0.0,    0.0),
-          new NutationModel( 1, 1, 2,-4, 2,      7.0,   0.0,    0.0,     -3.0,  0.0,    0.0),
-          new NutationModel(-1, 2, 2,-2, 1,     -4.0,   0.0,    0.0,      2.0,  0.0,    0.0),
-          new NutationModel( 2, 0, 0,-3, 1,      4.0,   0.0,    0.0,     -2.0,  0.0,    0.0),
-          new NutationModel(-1, 2, 0, 0, 1,     -5.0,   0.0,    0.0,      3.0,  0.0,    0.0),
-          new NutationModel( 0, 0, 0,-2, 0,      5.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-          new NutationModel(-1,-1, 2,-2, 2,     -5.0,   0.0,    0.0,      2.0,  0.0,    0.0),
-          new NutationModel(-1, 1, 0, 0, 2,      5.0,   0.0,    0.0,     -2.0,  0.0,    0.0),
-
-       /* 491-500 */
-          new NutationModel( 0, 0, 0,-1, 2,     -8.0,   0.0,    0.0,      3.0,  0.0,    0.0),
-          new NutationModel(-2, 1, 0, 1, 0,      9.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-          new NutationModel( 1,-2, 0,-2, 1,      6.0,   0.0,    0.0,     -3.0,  0.0,    0.0),
-          new NutationModel( 1, 0,-2, 0, 2,     -5.0,   0.0,    0.0,      2.0,  0.0,    0.0),
-          new NutationModel(-3, 1, 0, 2, 0,      3.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-          new NutationModel(-1, 1,-2, 2, 0,     -7.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-          new NutationModel(-1,-1, 0, 0, 2,     -3.0,   0.0,    0.0,      1.0,  0.0,    0.0),
-          new NutationModel(-3, 0, 0, 2, 0,      5.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-          new NutationModel(-3,-1, 0, 2, 0,      3.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-          new NutationModel( 2, 0, 2,-6, 1,     -3.0,   0.0,    0.0,      2.0,  0.0,    0.0),
-
-       /* 501-510 */
-          new NutationModel( 0, 1, 2,-4, 2,      4.0,   0.0,    0.0,     -2.0,  0.0,    0.0),
-          new NutationModel( 2, 0, 0,-4, 2,      3.0,   0.0,    0.0,     -1.0,  0.0,    0.0),
-          new NutationModel(-2, 1, 2,-2, 1,     -5.0,   0.0,    0.0,      2.0,  0.0,    0.0),
-          new NutationModel( 0,-1, 2,-4, 1,      4.0,   0.0,    0.0,     -2.0,  0.0,    0.0),
-          new NutationModel( 0, 1, 0,-2, 2,      9.0,   0.0,    0.0,     -3.0,  0.0,    0.0),
-          new NutationModel(-1, 0, 0,-2, 0,      4.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-          new NutationModel( 2, 0,-2,-2, 1,      4.0,   0.0,    0.0,     -2.0,  0.0,    0.0),
-          new NutationModel(-4, 0, 2, 0, 1,     -3.0,   0.0,    0.0,      2.0,  0.0,    0.0),
-          new NutationModel(-1,-1, 0,-1, 1,     -4.0,   0.0,    0.0,      2.0,  0.0,    0.0),
-          new NutationModel( 0, 0,-2, 0, 2,      9.0,   0.0,    0.0,     -3.0,  0.0,    0.0),
-
-       /* 511-520 */
-          new NutationModel(-3, 0, 0, 1, 0,     -4.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-          new NutationModel(-1, 0,-2, 1, 0,     -4.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-          new NutationModel(-2, 0,-2, 2, 1,      3.0,   0.0,    0.0,     -2.0,  0.0,    0.0),
-          new NutationModel( 0, 0,-4, 2, 0,      8.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-          new NutationModel(-2,-1,-2, 2, 0,      3.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-          new NutationModel( 1, 0, 2,-6, 1,     -3.0,   0.0,    0.0,      2.0,  0.0,    0.0),
-          new NutationModel(-1, 0, 2,-4, 2,      3.0,   0.0,    0.0,     -1.0,  0.0,    0.0),
-          new NutationModel( 1, 0, 0,-4, 2,      3.0,   0.0,    0.0,     -1.0,  0.0,    0.0),
-          new NutationModel( 2, 1, 2,-4, 2,     -3.0,   0.0,    0.0,      1.0,  0.0,    0.0),
-          new NutationModel( 2, 1, 2,-4, 1,      6.0,   0.0,    0.0,     -3.0,  0.0,    0.0),
-
-       /* 521-530 */
-          new NutationModel( 0, 1, 4,-4, 4,      3.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-          new NutationModel( 0, 1, 4,-4, 2,     -3.0,   0.0,    0.0,      1.0,  0.0,    0.0),
-          new NutationModel(-1,-1,-2, 4, 0,     -7.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-          new NutationModel(-1,-3, 0, 2, 0,      9.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-          new NutationModel(-1, 0,-2, 4, 1,     -3.0,   0.0,    0.0,      2.0,  0.0,    0.0),
-          new NutationModel(-2,-1, 0, 3, 0,     -3.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-          new NutationModel( 0, 0,-2, 3, 0,     -4.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-          new NutationModel(-2, 0, 0, 3, 1,     -5.0,   0.0,    0.0,      3.0,  0.0,    0.0),
-          new NutationModel( 0,-1, 0, 1, 0,    -13.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-          new NutationModel(-3, 0, 2, 2, 0,     -7.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-
-       /* 531-540 */
-          new NutationModel( 1, 1,-2, 2, 0,     10.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-          new NutationModel(-1, 1, 0, 2, 2,      3.0,   0.0,    0.0,     -1.0,  0.0,    0.0),
-          new NutationModel( 1,-2, 2,-2, 1,     10.0,   0.0,   13.0,      6.0,  0.0,   -5.0),
-          new NutationModel( 0, 0, 1, 0, 2,      0.0,   0.0,   30.0,      0.0,  0.0,   14.0),
-          new NutationModel( 0, 0, 1, 0, 1,      0.0,   0.0, -162.0,      0.0,  0.0, -138.0),
-          new NutationModel( 0, 0, 1, 0, 0,      0.0,   0.0,   75.0,      0.0,  0.0,    0.0),
-          new NutationModel(-1, 2, 0, 2, 1,     -7.0,   0.0,    0.0,      4.0,  0.0,    0.0),
-          new NutationModel( 0, 0, 2, 0, 2,     -4.0,   0.0,    0.0,      2.0,  0.0,    0.0),
-          new NutationModel(-2, 0, 2, 0, 2,      4.0,   0.0,    0.0,     -2.0,  0.0,    0.0),
-          new NutationModel( 2, 0, 0,-1, 1,      5.0,   0.0,    0.0,     -2.0,  0.0,    0.0),
-
-       /* 541-550 */
-          new NutationModel( 3, 0, 0,-2, 1,      5.0,   0.0,    0.0,     -3.0,  0.0,    0.0),
-          new NutationModel( 1, 0, 2,-2, 3,     -3.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-          new NutationModel( 1, 2, 0, 0, 1,     -3.0,   0.0,    0.0,      2.0,  0.0,    0.0),
-          new NutationModel( 2, 0, 2,-3, 2,     -4.0,   0.0,    0.0,      2.0,  0.0,    0.0),
-          new NutationModel(-1, 1, 4,-2, 2,     -5.0,   0.0,    0.0,      2.0,  0.0,    0.0),
-          new NutationModel(-2,-2, 0, 4, 0,      6.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-          new NutationModel( 0,-3, 0, 2, 0,      9.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-          new NutationModel( 0, 0,-2, 4, 0,      5.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-          new NutationModel(-1,-1, 0, 3, 0,     -7.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-          new NutationModel(-2, 0, 0, 4, 2,     -3.0,   0.0,    0.0,      1.0,  0.0,    0.0),
-
-       /* 551-560 */
-          new NutationModel(-1, 0, 0, 3, 1,     -4.0,   0.0,    0.0,      2.0,  0.0,    0.0),
-          new NutationModel( 2,-2, 0, 0, 0,      7.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-          new NutationModel( 1,-1, 0, 1, 0,     -4.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-          new NutationModel(-1, 0, 0, 2, 0,      4.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-          new NutationModel( 0,-2, 2, 0, 1,     -6.0,   0.0,   -3.0,      3.0,  0.0,    1.0),
-          new NutationModel(-1, 0, 1, 2, 1,      0.0,   0.0,   -3.0,      0.0,  0.0,   -2.0),
-          new NutationModel(-1, 1, 0, 3, 0,     11.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-          new NutationModel(-1,-1, 2, 1, 2,      3.0,   0.0,    0.0,     -1.0,  0.0,    0.0),
-          new NutationModel( 0,-1, 2, 0, 0,     11.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-          new NutationModel(-2, 1, 2, 2, 1,     -3.0,   0.0,    0.0,      2.0,  0.0,    0.0),
-
-       /* 561-570 */
-          new NutationModel( 2,-2, 2,-2, 2,     -1.0,   0.0,    3.0,      3.0,  0.0,   -1.0),
-          new NutationModel( 1, 1, 0, 1, 1,      4.0,   0.0,    0.0,     -2.0,  0.0,    0.0),
-          new NutationModel( 1, 0, 1, 0, 1,      0.0,   0.0,  -13.0,      0.0,  0.0,  -11.0),
-          new NutationModel( 1, 0, 1, 0, 0,      3.0,   0.0,    6.0,      0.0,  0.0,    0.0),
-          new NutationModel( 0, 2, 0, 2, 0,     -7.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-          new NutationModel( 2,-1, 2,-2, 1,      5.0,   0.0,    0.0,     -3.0,  0.0,    0.0),
-          new NutationModel( 0,-1, 4,-2, 1,     -3.0,   0.0,    0.0,      1.0,  0.0,    0.0),
-          new NutationModel( 0, 0, 4,-2, 3,      3.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-          new NutationModel( 0, 1, 4,-2, 1,      5.0,   0.0,    0.0,     -3.0,  0.0,    0.0),
-          new NutationModel( 4, 0, 2,-4, 2,     -7.0,   0.0,    0.0,      3.0,  0.0,    0.0),
-
-       /* 571-580 */
-          new NutationModel( 2, 2, 2,-2, 2,      8.0,   0.0,    0.0,     -3.0,  0.0,    0.0),
-          new NutationModel( 2, 0, 4,-4, 2,     -4.0,   0.0,    0.0,      2.0,  0.0,    0.0),
-          new NutationModel(-1,-2, 0, 4, 0,     11.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-          new NutationModel(-1,-3, 2, 2, 2,     -3.0,   0.0,    0.0,      1.0,  0.0,    0.0),
-          new NutationModel(-3, 0, 2, 4, 2,      3.0,   0.0,    0.0,     -1.0,  0.0,    0.0),
-          new NutationModel(-3, 0, 2,-2, 1,     -4.0,   0.0,    0.0,      2.0,  0.0,    0.0),
-          new NutationModel(-1,-1, 0,-2, 1,      8.0,   0.0,    0.0,     -4.0,  0.0,    0.0),
-          new NutationModel(-3, 0, 0, 0, 2,      3.0,   0.0,    0.0,     -1.0,  0.0,    0.0),
-          new NutationModel(-3, 0,-2, 2, 0,     11.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-          new NutationModel( 0, 1, 0,-4, 1,     -6.0,   0.0,    0.0,      3.0,  0.0,    0.0),
-
-       /* 581-590 */
-          new NutationModel(-2, 1, 0,-2, 1,     -4.0,   0.0,    0.0,      2.0,  0.0,    0.0),
-          new NutationModel(-4, 0, 0, 0, 1,     -8.0,   0.0,    0.0,      4.0,  0.0,    0.0),
-          new NutationModel(-1, 0, 0,-4, 1,     -7.0,   0.0,    0.0,      3.0,  0.0,    0.0),
-          new NutationModel(-3, 0, 0,-2, 1,     -4.0,   0.0,    0.0,      2.0,  0.0,    0.0),
-          new NutationModel( 0, 0, 0, 3, 2,      3.0,   0.0,    0.0,     -1.0,  0.0,    0.0),
-          new NutationModel(-1, 1, 0, 4, 1,      6.0,   0.0,    0.0,     -3.0,  0.0,    0.0),
-          new NutationModel( 1,-2, 2, 0, 1,     -6.0,   0.0,    0.0,      3.0,  0.0,    0.0),
-          new NutationModel( 0, 1, 0, 3, 0,      6.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-          new NutationModel(-1, 0, 2, 2, 3,      6.0,   0.0,    0.0,     -1.0,  0.0,    0.0),
-          new NutationModel( 0, 0, 2, 2, 2,      5.0,   0.0,    0.0,     -2.0,  0.0,    0.0),
-
-       /* 591-600 */
-          new NutationModel(-2, 0, 2, 2, 2,     -5.0,   0.0,    0.0,      2.0,  0.0,    0.0),
-          new NutationModel(-1, 1, 2, 2, 0,     -4.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-          new NutationModel( 3, 0, 0, 0, 2,     -4.0,   0.0,    0.0,      2.0,  0.0,    0.0),
-          new NutationModel( 2, 1, 0, 1, 0,      4.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-          new NutationModel( 2,-1, 2,-1, 2,      6.0,   0.0,    0.0,     -3.0,  0.0,    0.0),
-          new NutationModel( 0, 0, 2, 0, 1,     -4.0,   0.0,    0.0,      2.0,  0.0,    0.0),
-          new NutationModel( 0, 0, 3, 0, 3,      0.0,   0.0,  -26.0,      0.0,  0.0,  -11.0),
-          new NutationModel( 0, 0, 3, 0, 2,      0.0,   0.0,  -10.0,      0.0,  0.0,   -5.0),
-          new NutationModel(-1, 2, 2, 2, 1,      5.0,   0.0,    0.0,     -3.0,  0.0,    0.0),
-          new NutationModel(-1, 0, 4, 0, 0,    -13.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-
-       /* 601-610 */
-          new NutationModel( 1, 2, 2, 0, 1,      3.0,   0.0,    0.0,     -2.0,  0.0,    0.0),
-          new NutationModel( 3, 1, 2,-2, 1,      4.0,   0.0,    0.0,     -2.0,  0.0,    0.0),
-          new NutationModel( 1, 1, 4,-2, 2,      7.0,   0.0,    0.0,     -3.0,  0.0,    0.0),
-          new NutationModel(-2,-1, 0, 6, 0,      4.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-          new NutationModel( 0,-2, 0, 4, 0,      5.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-          new NutationModel(-2, 0, 0, 6, 1,     -3.0,   0.0,    0.0,      2.0,  0.0,    0.0),
-          new NutationModel(-2,-2, 2, 4, 2,     -6.0,   0.0,    0.0,      2.0,  0.0,    0.0),
-          new NutationModel( 0,-3, 2, 2, 2,     -5.0,   0.0,    0.0,      2.0,  0.0,    0.0),
-          new NutationModel( 0, 0, 0, 4, 2,     -7.0,   0.0,    0.0,      3.0,  0.0,    0.0),
-          new NutationModel(-1,-1, 2, 3, 2,      5.0,   0.0,    0.0,     -2.0,  0.0,    0.0),
-
-       /* 611-620 */
-          new NutationModel(-2, 0, 2, 4, 0,     13.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-          new NutationModel( 2,-1, 0, 2, 1,     -4.0,   0.0,    0.0,      2.0,  0.0,    0.0),
-          new NutationModel( 1, 0, 0, 3, 0,     -3.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-          new NutationModel( 0, 1, 0, 4, 1,      5.0,   0.0,    0.0,     -2.0,  0.0,    0.0),
-          new NutationModel( 0, 1, 0, 4, 0,    -11.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-          new NutationModel( 1,-1, 2, 1, 2,      5.0,   0.0,    0.0,     -2.0,  0.0,    0.0),
-          new NutationModel( 0, 0, 2, 2, 3,      4.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-          new NutationModel( 1, 0, 2, 2, 2,      4.0,   0.0,    0.0,     -2.0,  0.0,    0.0),
-          new NutationModel(-1, 0, 2, 2, 2,     -4.0,   0.0,    0.0,      2.0,  0.0,    0.0),
-          new NutationModel(-2, 0, 4, 2, 1,      6.0,   0.0,    0.0,     -3.0,  0.0,    0.0),
-
-       /* 621-630 */
-          new NutationModel( 2, 1, 0, 2, 1,      3.0,   0.0,    0.0,     -2.0,  0.0,    0.0),
-          new NutationModel( 2, 1, 0, 2, 0,    -12.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-          new NutationModel( 2,-1, 2, 0, 0,      4.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-          new NutationModel( 1, 0, 2, 1, 0,     -3.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-          new NutationModel( 0, 1, 2, 2, 0,     -4.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-          new NutationModel( 2, 0, 2, 0, 3,      3.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-          new NutationModel( 3, 0, 2, 0, 2,      3.0,   0.0,    0.0,     -1.0,  0.0,    0.0),
-          new NutationModel( 1, 0, 2, 0, 2,     -3.0,   0.0,    0.0,      1.0,  0.0,    0.0),
-          new NutationModel( 1, 0, 3, 0, 3,      0.0,   0.0,   -5.0,      0.0,  0.0,   -2.0),
-          new NutationModel( 1, 1, 2, 1, 1,     -7.0,   0.0,    0.0,      4.0,  0.0,    0.0),
-
-       /* 631-640 */
-          new NutationModel( 0, 2, 2, 2, 2,      6.0,   0.0,    0.0,     -3.0,  0.0,    0.0),
-          new NutationModel( 2, 1, 2, 0, 0,     -3.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-          new NutationModel( 2, 0, 4,-2, 1,      5.0,   0.0,    0.0,     -3.0,  0.0,    0.0),
-          new NutationModel( 4, 1, 2,-2, 2,      3.0,   0.0,    0.0,     -1.0,  0.0,    0.0),
-          new NutationModel(-1,-1, 0, 6, 0,      3.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-          new NutationModel(-3,-1, 2, 6, 2,     -3.0,   0.0,    0.0,      1.0,  0.0,    0.0),
-          new NutationModel(-1, 0, 0, 6, 1,     -5.0,   0.0,    0.0,      3.0,  0.0,    0.0),
-          new NutationModel(-3, 0, 2, 6, 1,     -3.0,   0.0,    0.0,      2.0,  0.0,    0.0),
-          new NutationModel( 1,-1, 0, 4, 1,     -3.0,   0.0,    0.0,      2.0,  0.0,    0.0),
-          new NutationModel( 1,-1, 0, 4, 0,     12.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-
-       /* 641-650 */
-          new NutationModel(-2, 0, 2, 5, 2,      3.0,   0.0,    0.0,     -1.0,  0.0,    0.0),
-          new NutationModel( 1,-2, 2, 2, 1,     -4.0,   0.0,    0.0,      2.0,  0.0,    0.0),
-          new NutationModel( 3,-1, 0, 2, 0,      4.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-          new NutationModel( 1,-1, 2, 2, 0,      6.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-          new NutationModel( 0, 0, 2, 3, 1,      5.0,   0.0,    0.0,     -3.0,  0.0,    0.0),
-          new NutationModel(-1, 1, 2, 4, 1,      4.0,   0.0,    0.0,     -2.0,  0.0,    0.0),
-          new NutationModel( 0, 1, 2, 3, 2,     -6.0,   0.0,    0.0,      3.0,  0.0,    0.0),
-          new NutationModel(-1, 0, 4, 2, 1,      4.0,   0.0,    0.0,     -2.0,  0.0,    0.0),
-          new NutationModel( 2, 0, 2, 1, 1,      6.0,   0.0,    0.0,     -3.0,  0.0,    0.0),
-          new NutationModel( 5, 0, 0, 0, 0,      6.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-
-       /* 651-660 */
-          new NutationModel( 2, 1, 2, 1, 2,     -6.0,   0.0,    0.0,      3.0,  0.0,    0.0),
-          new NutationModel( 1, 0, 4, 0, 1,      3.0,   0.0,    0.0,     -2.0,  0.0,    0.0),
-          new NutationModel( 3, 1, 2, 0, 1,      7.0,   0.0,    0.0,     -4.0,  0.0,    0.0),
-          new NutationModel( 3, 0, 4,-2, 2,      4.0,   0.0,    0.0,     -2.0,  0.0,    0.0),
-          new NutationModel(-2,-1, 2, 6, 2,     -5.0,   0.0,    0.0,      2.0,  0.0,    0.0),
-          new NutationModel( 0, 0, 0, 6, 0,      5.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-          new NutationModel( 0,-2, 2, 4, 2,     -6.0,   0.0,    0.0,      3.0,  0.0,    0.0),
-          new NutationModel(-2, 0, 2, 6, 1,     -6.0,   0.0,    0.0,      3.0,  0.0,    0.0),
-          new NutationModel( 2, 0, 0, 4, 1,     -4.0,   0.0,    0.0,      2.0,  0.0,    0.0),
-          new NutationModel( 2, 0, 0, 4, 0,     10.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-
-       /* 661-670 */
-          new NutationModel( 2,-2, 2, 2, 2,     -4.0,   0.0,    0.0,      2.0,  0.0,    0.0),
-          new NutationModel( 0, 0, 2, 4, 0,      7.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-          new NutationModel( 1, 0, 2, 3, 2,      7.0,   0.0,    0.0,     -3.0,  0.0,    0.0),
-          new NutationModel( 4, 0, 0, 2, 0,      4.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-          new NutationModel( 2, 0, 2, 2, 0,     11.0,   0.0,    0.0,      0.0,  0.0,    0.0),
-          new NutationModel( 0, 0, 4, 2, 2,      5.0,   0.0,    0.0,     -2.0,  0.0,    0.0),
-          new NutationModel( 4,-1, 2, 0, 2,     -6.0,   0.0,    0.0,      2.0,  0.0,    0.0),
-          new NutationModel( 3, 0, 2, 1, 2,      4.0,   0.0,    0.0,     -2.0,  0.0,    0.0),
-          new NutationModel( 2, 1, 2, 2, 1,      3.0,   0.0,    0.0,     -2.0,  0.0,    0.0),
-          new NutationModel( 4, 1, 2, 0, 2,      5.0,   0.0,    0.0,     -2.0,  0.0,    0.0),
-
-       /* 671-678 */
-          new NutationModel(-1,-1, 2, 6, 2,     -4.0,   0.0,    0.0,      2.0,  0.0,    0.0),
-          new NutationModel(-1, 0, 2, 6, 1,     -4.0,   0.0,    0.0,      2.0,  0.0,    0.0),
-          new NutationModel( 1,-1, 2, 4, 1,     -3.0,   0.0,    0.0,      2.0,  0.0,    0.0),
-          new NutationModel( 1, 1, 2, 4, 2,      4.0,   0.0,    0.0,     -2.0,  0.0,    0.0),
-          new NutationModel( 3, 1, 2, 2, 2,      3.0,   0.0,    0.0,     -1.0,  0.0,    0.0),
-          new NutationModel( 5, 0, 2, 0, 1,     -3.0,   0.0,    0.0,      1.0,  0.0,    0.0),
-          new NutationModel( 2,-1, 2, 4, 2,     -3.0,   0.0,    0.0,      1.0,  0.0,    0.0),
-          new NutationModel( 2, 0, 2, 4, 1,     -3.0,   0.0,    0.0,      2.0,  0.0,    0.0)
-       };
-
-    /* Number of terms in the luni-solar nutation model */
-       final int NLS = xls.length;
-
-    /* ------------------------ */
-    /* Planetary nutation model */
-    /* ------------------------ */
-
-    /* The units for the sine and cosine coefficients are */
-    /* 0.1 microarcsecond                                 */
-
-        final class PlanetaryNutModel {
-         final int nl,               /* coefficients of l, F, D and Omega */
-              nf,
-              nd,
-              nom,
-              nme,              /* coefficients of planetary longitudes */
-              nve,
-              nea,
-              nma,
-              nju,
-              nsa,
-              nur,
-              nne,
-              npa;              /* coefficient of general precession */
-          final int sp,cp;            /* longitude sin, cos coefficients */
-          final int se,ce;            /* obliquity sin, cos coefficients */
-          public PlanetaryNutModel(          int nl,               
-                  int nf,
-                  int nd,
-                  int nom,
-                  int nme,     
-                  int nve,
-                  int nea,
-                  int nma,
-                  int nju,
-                  int nsa,
-                  int nur,
-                  int nne,
-                  int npa,              
-              int sp,int cp,           
-              int se,int ce           
-) {
-              this.nl = nl;               /* coefficients of l, F, D and Omega */
-              this.nf = nf;
-              this.nd = nd;
-              this.nom = nom;
-              this.nme = nme;              /* coefficients of planetary longitudes */
-              this.nve = nve;
-              this.nea = nea;
-              this.nma = nma;
-              this.nju = nju;
-              this.nsa = nsa;
-              this.nur = nur;
-              this.nne = nne;
-              this.npa = npa;              /* coefficient of general precession */
-           this.sp = sp; this.cp = cp;            /* longitude sin, cos coefficients */
-           this.se = se; this.ce = ce;            /* obliquity sin, cos coefficients */
-      
-        }
+    /* Add luni-solar and planetary components. */
+       return new NutationTerms( dpsils + dpsipl,
+                               depsls + depspl);
        }
-       
-       PlanetaryNutModel xpl[] = {
-
-       /* 1-10 */
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  8,-16, 4, 5, 0, 0, 0, 1440,   0,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0, -8, 16,-4,-5, 0, 0, 2,   56,-117,  -42, -40),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  8,-16, 4, 5, 0, 0, 2,  125, -43,    0, -54),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  0,  0, 0, 0,-1, 2, 2,    0,   5,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0, -4,  8,-1,-5, 0, 0, 2,    3,  -7,   -3,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  4, -8, 3, 0, 0, 0, 1,    3,   0,    0,  -2),
-          new PlanetaryNutModel( 0, 1,-1, 1, 0,  0,  3, -8, 3, 0, 0, 0, 0, -114,   0,    0,  61),
-          new PlanetaryNutModel(-1, 0, 0, 0, 0, 10, -3,  0, 0, 0, 0, 0, 0, -219,  89,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  0,  0,-2, 6,-3, 0, 2,   -3,   0,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  4, -8, 3, 0, 0, 0, 0, -462,1604,    0,   0),
-
-       /* 11-20 */
-          new PlanetaryNutModel( 0, 1,-1, 1, 0,  0, -5,  8,-3, 0, 0, 0, 0,   99,   0,    0, -53),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0, -4,  8,-3, 0, 0, 0, 1,   -3,   0,    0,   2),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  4, -8, 1, 5, 0, 0, 2,    0,   6,    2,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0, -5,  6,  4, 0, 0, 0, 0, 2,    3,   0,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  0,  0, 2,-5, 0, 0, 2,  -12,   0,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  0,  0, 2,-5, 0, 0, 1,   14,-218,  117,   8),
-          new PlanetaryNutModel( 0, 1,-1, 1, 0,  0, -1,  0, 2,-5, 0, 0, 0,   31,-481, -257, -17),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  0,  0, 2,-5, 0, 0, 0, -491, 128,    0,   0),
-          new PlanetaryNutModel( 0, 1,-1, 1, 0,  0, -1,  0,-2, 5, 0, 0, 0,-3084,5123, 2735,1647),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  0,  0,-2, 5, 0, 0, 1,-1444,2409,-1286,-771),
-
-       /* 21-30 */
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  0,  0,-2, 5, 0, 0, 2,   11, -24,  -11,  -9),
-          new PlanetaryNutModel( 2,-1,-1, 0, 0,  0,  3, -7, 0, 0, 0, 0, 0,   26,  -9,    0,   0),
-          new PlanetaryNutModel( 1, 0,-2, 0, 0, 19,-21,  3, 0, 0, 0, 0, 0,  103, -60,    0,   0),
-          new PlanetaryNutModel( 0, 1,-1, 1, 0,  2, -4,  0,-3, 0, 0, 0, 0,    0, -13,   -7,   0),
-          new PlanetaryNutModel( 1, 0,-1, 1, 0,  0, -1,  0, 2, 0, 0, 0, 0,  -26, -29,  -16,  14),
-          new PlanetaryNutModel( 0, 1,-1, 1, 0,  0, -1,  0,-4,10, 0, 0, 0,    9, -27,  -14,  -5),
-          new PlanetaryNutModel(-2, 0, 2, 1, 0,  0,  2,  0, 0,-5, 0, 0, 0,   12,   0,    0,  -6),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  3, -7,  4, 0, 0, 0, 0, 0,   -7,   0,    0,   0),
-          new PlanetaryNutModel( 0,-1, 1, 0, 0,  0,  1,  0, 1,-1, 0, 0, 0,    0,  24,    0,   0),
-          new PlanetaryNutModel(-2, 0, 2, 1, 0,  0,  2,  0,-2, 0, 0, 0, 0,  284,   0,    0,-151),
-
-       /* 31-40 */
-          new PlanetaryNutModel(-1, 0, 0, 0, 0, 18,-16,  0, 0, 0, 0, 0, 0,  226, 101,    0,   0),
-          new PlanetaryNutModel(-2, 1, 1, 2, 0,  0,  1,  0,-2, 0, 0, 0, 0,    0,  -8,   -2,   0),
-          new PlanetaryNutModel(-1, 1,-1, 1, 0, 18,-17,  0, 0, 0, 0, 0, 0,    0,  -6,   -3,   0),
-          new PlanetaryNutModel(-1, 0, 1, 1, 0,  0,  2, -2, 0, 0, 0, 0, 0,    5,   0,    0,  -3),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0, -8, 13,  0, 0, 0, 0, 0, 2,  -41, 175,   76,  17),
-          new PlanetaryNutModel( 0, 2,-2, 2, 0, -8, 11,  0, 0, 0, 0, 0, 0,    0,  15,    6,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0, -8, 13,  0, 0, 0, 0, 0, 1,  425, 212, -133, 269),
-          new PlanetaryNutModel( 0, 1,-1, 1, 0, -8, 12,  0, 0, 0, 0, 0, 0, 1200, 598,  319,-641),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  8,-13,  0, 0, 0, 0, 0, 0,  235, 334,    0,   0),
-          new PlanetaryNutModel( 0, 1,-1, 1, 0,  8,-14,  0, 0, 0, 0, 0, 0,   11, -12,   -7,  -6),
-
-       /* 41-50 */
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  8,-13,  0, 0, 0, 0, 0, 1,    5,  -6,    3,   3),
-          new PlanetaryNutModel(-2, 0, 2, 1, 0,  0,  2,  0,-4, 5, 0, 0, 0,   -5,   0,    0,   3),
-          new PlanetaryNutModel(-2, 0, 2, 2, 0,  3, -3,  0, 0, 0, 0, 0, 0,    6,   0,    0,  -3),
-          new PlanetaryNutModel(-2, 0, 2, 0, 0,  0,  2,  0,-3, 1, 0, 0, 0,   15,   0,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 1, 0,  3, -5,  0, 2, 0, 0, 0, 0,   13,   0,    0,  -7),
-          new PlanetaryNutModel(-2, 0, 2, 0, 0,  0,  2,  0,-4, 3, 0, 0, 0,   -6,  -9,    0,   0),
-          new PlanetaryNutModel( 0,-1, 1, 0, 0,  0,  0,  2, 0, 0, 0, 0, 0,  266, -78,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 1, 0,  0, -1,  2, 0, 0, 0, 0, 0, -460,-435, -232, 246),
-          new PlanetaryNutModel( 0, 1,-1, 2, 0,  0, -2,  2, 0, 0, 0, 0, 0,    0,  15,    7,   0),
-          new PlanetaryNutModel(-1, 1, 0, 1, 0,  3, -5,  0, 0, 0, 0, 0, 0,   -3,   0,    0,   2),
 
-       /* 51-60 */
-          new PlanetaryNutModel(-1, 0, 1, 0, 0,  3, -4,  0, 0, 0, 0, 0, 0,    0, 131,    0,   0),
-          new PlanetaryNutModel(-2, 0, 2, 0, 0,  0,  2,  0,-2,-2, 0, 0, 0,    4,   0,    0,   0),
-          new PlanetaryNutModel(-2, 2, 0, 2, 0,  0, -5,  9, 0, 0, 0, 0, 0,    0,   3,    0,   0),
-          new PlanetaryNutModel( 0, 1,-1, 1, 0,  0, -1,  0, 0, 0,-1, 0, 0,    0,   4,    2,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  0,  0, 0, 0, 1, 0, 0,    0,   3,    0,   0),
-          new PlanetaryNutModel( 0, 1,-1, 1, 0,  0, -1,  0, 0, 0, 0, 2, 0,  -17, -19,  -10,   9),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  0,  0, 0, 0, 0, 2, 1,   -9, -11,    6,  -5),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  0,  0, 0, 0, 0, 2, 2,   -6,   0,    0,   3),
-          new PlanetaryNutModel(-1, 0, 1, 0, 0,  0,  3, -4, 0, 0, 0, 0, 0,  -16,   8,    0,   0),
-          new PlanetaryNutModel( 0,-1, 1, 0, 0,  0,  1,  0, 0, 2, 0, 0, 0,    0,   3,    0,   0),
-
-       /* 61-70 */
-          new PlanetaryNutModel( 0, 1,-1, 2, 0,  0, -1,  0, 0, 2, 0, 0, 0,   11,  24,   11,  -5),
-          new PlanetaryNutModel( 0, 0, 0, 1, 0,  0, -9, 17, 0, 0, 0, 0, 0,   -3,  -4,   -2,   1),
-          new PlanetaryNutModel( 0, 0, 0, 2, 0, -3,  5,  0, 0, 0, 0, 0, 0,    3,   0,    0,  -1),
-          new PlanetaryNutModel( 0, 1,-1, 1, 0,  0, -1,  0,-1, 2, 0, 0, 0,    0,  -8,   -4,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  0,  0, 1,-2, 0, 0, 0,    0,   3,    0,   0),
-          new PlanetaryNutModel( 1, 0,-2, 0, 0, 17,-16,  0,-2, 0, 0, 0, 0,    0,   5,    0,   0),
-          new PlanetaryNutModel( 0, 1,-1, 1, 0,  0, -1,  0, 1,-3, 0, 0, 0,    0,   3,    2,   0),
-          new PlanetaryNutModel(-2, 0, 2, 1, 0,  0,  5, -6, 0, 0, 0, 0, 0,   -6,   4,    2,   3),
-          new PlanetaryNutModel( 0,-2, 2, 0, 0,  0,  9,-13, 0, 0, 0, 0, 0,   -3,  -5,    0,   0),
-          new PlanetaryNutModel( 0, 1,-1, 2, 0,  0, -1,  0, 0, 1, 0, 0, 0,   -5,   0,    0,   2),
-
-       /* 71-80 */
-          new PlanetaryNutModel( 0, 0, 0, 1, 0,  0,  0,  0, 0, 1, 0, 0, 0,    4,  24,   13,  -2),
-          new PlanetaryNutModel( 0,-1, 1, 0, 0,  0,  1,  0, 0, 1, 0, 0, 0,  -42,  20,    0,   0),
-          new PlanetaryNutModel( 0,-2, 2, 0, 0,  5, -6,  0, 0, 0, 0, 0, 0,  -10, 233,    0,   0),
-          new PlanetaryNutModel( 0,-1, 1, 1, 0,  5, -7,  0, 0, 0, 0, 0, 0,   -3,   0,    0,   1),
-          new PlanetaryNutModel(-2, 0, 2, 0, 0,  6, -8,  0, 0, 0, 0, 0, 0,   78, -18,    0,   0),
-          new PlanetaryNutModel( 2, 1,-3, 1, 0, -6,  7,  0, 0, 0, 0, 0, 0,    0,   3,    1,   0),
-          new PlanetaryNutModel( 0, 0, 0, 2, 0,  0,  0,  0, 1, 0, 0, 0, 0,    0,  -3,   -1,   0),
-          new PlanetaryNutModel( 0,-1, 1, 1, 0,  0,  1,  0, 1, 0, 0, 0, 0,    0,  -4,   -2,   1),
-          new PlanetaryNutModel( 0, 1,-1, 1, 0,  0, -1,  0, 0, 0, 2, 0, 0,    0,  -8,   -4,  -1),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  0,  0, 0, 0, 2, 0, 1,    0,  -5,    3,   0),
-
-       /* 81-90 */
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  0,  0, 0, 0, 2, 0, 2,   -7,   0,    0,   3),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0, -8, 15, 0, 0, 0, 0, 2,  -14,   8,    3,   6),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0, -8, 15, 0, 0, 0, 0, 1,    0,   8,   -4,   0),
-          new PlanetaryNutModel( 0, 1,-1, 1, 0,  0, -9, 15, 0, 0, 0, 0, 0,    0,  19,   10,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  8,-15, 0, 0, 0, 0, 0,   45, -22,    0,   0),
-          new PlanetaryNutModel( 1,-1,-1, 0, 0,  0,  8,-15, 0, 0, 0, 0, 0,   -3,   0,    0,   0),
-          new PlanetaryNutModel( 2, 0,-2, 0, 0,  2, -5,  0, 0, 0, 0, 0, 0,    0,  -3,    0,   0),
-          new PlanetaryNutModel(-2, 0, 2, 0, 0,  0,  2,  0,-5, 5, 0, 0, 0,    0,   3,    0,   0),
-          new PlanetaryNutModel( 2, 0,-2, 1, 0,  0, -6,  8, 0, 0, 0, 0, 0,    3,   5,    3,  -2),
-          new PlanetaryNutModel( 2, 0,-2, 1, 0,  0, -2,  0, 3, 0, 0, 0, 0,   89, -16,   -9, -48),
-
-       /* 91-100 */
-          new PlanetaryNutModel(-2, 1, 1, 0, 0,  0,  1,  0,-3, 0, 0, 0, 0,    0,   3,    0,   0),
-          new PlanetaryNutModel(-2, 1, 1, 1, 0,  0,  1,  0,-3, 0, 0, 0, 0,   -3,   7,    4,   2),
-          new PlanetaryNutModel(-2, 0, 2, 0, 0,  0,  2,  0,-3, 0, 0, 0, 0, -349, -62,    0,   0),
-          new PlanetaryNutModel(-2, 0, 2, 0, 0,  0,  6, -8, 0, 0, 0, 0, 0,  -15,  22,    0,   0),
-          new PlanetaryNutModel(-2, 0, 2, 0, 0,  0,  2,  0,-1,-5, 0, 0, 0,   -3,   0,    0,   0),
-          new PlanetaryNutModel(-1, 0, 1, 0, 0,  0,  1,  0,-1, 0, 0, 0, 0,  -53,   0,    0,   0),
-          new PlanetaryNutModel(-1, 1, 1, 1, 0,-20, 20,  0, 0, 0, 0, 0, 0,    5,   0,    0,  -3),
-          new PlanetaryNutModel( 1, 0,-2, 0, 0, 20,-21,  0, 0, 0, 0, 0, 0,    0,  -8,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 1, 0,  0,  8,-15, 0, 0, 0, 0, 0,   15,  -7,   -4,  -8),
-          new PlanetaryNutModel( 0, 2,-2, 1, 0,  0,-10, 15, 0, 0, 0, 0, 0,   -3,   0,    0,   1),
-
-       /* 101-110 */
-          new PlanetaryNutModel( 0,-1, 1, 0, 0,  0,  1,  0, 1, 0, 0, 0, 0,  -21, -78,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 1, 0,  0,  0,  0, 1, 0, 0, 0, 0,   20, -70,  -37, -11),
-          new PlanetaryNutModel( 0, 1,-1, 2, 0,  0, -1,  0, 1, 0, 0, 0, 0,    0,   6,    3,   0),
-          new PlanetaryNutModel( 0, 1,-1, 1, 0,  0, -1,  0,-2, 4, 0, 0, 0,    5,   3,    2,  -2),
-          new PlanetaryNutModel( 2, 0,-2, 1, 0, -6,  8,  0, 0, 0, 0, 0, 0,  -17,  -4,   -2,   9),
-          new PlanetaryNutModel( 0,-2, 2, 1, 0,  5, -6,  0, 0, 0, 0, 0, 0,    0,   6,    3,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  0,  0, 0,-1, 0, 0, 1,   32,  15,   -8,  17),
-          new PlanetaryNutModel( 0, 1,-1, 1, 0,  0, -1,  0, 0,-1, 0, 0, 0,  174,  84,   45, -93),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  0,  0, 0, 1, 0, 0, 0,   11,  56,    0,   0),
-          new PlanetaryNutModel( 0, 1,-1, 1, 0,  0, -1,  0, 0, 1, 0, 0, 0,  -66, -12,   -6,  35),
-
-       /* 111-120 */
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  0,  0, 0, 1, 0, 0, 1,   47,   8,    4, -25),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  0,  0, 0, 1, 0, 0, 2,    0,   8,    4,   0),
-          new PlanetaryNutModel( 0, 2,-2, 1, 0,  0, -9, 13, 0, 0, 0, 0, 0,   10, -22,  -12,  -5),
-          new PlanetaryNutModel( 0, 0, 0, 1, 0,  0,  7,-13, 0, 0, 0, 0, 0,   -3,   0,    0,   2),
-          new PlanetaryNutModel(-2, 0, 2, 0, 0,  0,  5, -6, 0, 0, 0, 0, 0,  -24,  12,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  9,-17, 0, 0, 0, 0, 0,    5,  -6,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0, -9, 17, 0, 0, 0, 0, 2,    3,   0,    0,  -2),
-          new PlanetaryNutModel( 1, 0,-1, 1, 0,  0, -3,  4, 0, 0, 0, 0, 0,    4,   3,    1,  -2),
-          new PlanetaryNutModel( 1, 0,-1, 1, 0, -3,  4,  0, 0, 0, 0, 0, 0,    0,  29,   15,   0),
-          new PlanetaryNutModel( 0, 0, 0, 2, 0,  0, -1,  2, 0, 0, 0, 0, 0,   -5,  -4,   -2,   2),
-
-       /* 121-130 */
-          new PlanetaryNutModel( 0,-1, 1, 1, 0,  0,  0,  2, 0, 0, 0, 0, 0,    8,  -3,   -1,  -5),
-          new PlanetaryNutModel( 0,-2, 2, 0, 1,  0, -2,  0, 0, 0, 0, 0, 0,    0,  -3,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  3, -5,  0, 2, 0, 0, 0, 0,   10,   0,    0,   0),
-          new PlanetaryNutModel(-2, 0, 2, 1, 0,  0,  2,  0,-3, 1, 0, 0, 0,    3,   0,    0,  -2),
-          new PlanetaryNutModel(-2, 0, 2, 1, 0,  3, -3,  0, 0, 0, 0, 0, 0,   -5,   0,    0,   3),
-          new PlanetaryNutModel( 0, 0, 0, 1, 0,  8,-13,  0, 0, 0, 0, 0, 0,   46,  66,   35, -25),
-          new PlanetaryNutModel( 0,-1, 1, 0, 0,  8,-12,  0, 0, 0, 0, 0, 0,  -14,   7,    0,   0),
-          new PlanetaryNutModel( 0, 2,-2, 1, 0, -8, 11,  0, 0, 0, 0, 0, 0,    0,   3,    2,   0),
-          new PlanetaryNutModel(-1, 0, 1, 0, 0,  0,  2, -2, 0, 0, 0, 0, 0,   -5,   0,    0,   0),
-          new PlanetaryNutModel(-1, 0, 0, 1, 0, 18,-16,  0, 0, 0, 0, 0, 0,  -68, -34,  -18,  36),
-
-       /* 131-140 */
-          new PlanetaryNutModel( 0, 1,-1, 1, 0,  0, -1,  0,-1, 1, 0, 0, 0,    0,  14,    7,   0),
-          new PlanetaryNutModel( 0, 0, 0, 1, 0,  3, -7,  4, 0, 0, 0, 0, 0,   10,  -6,   -3,  -5),
-          new PlanetaryNutModel(-2, 1, 1, 1, 0,  0, -3,  7, 0, 0, 0, 0, 0,   -5,  -4,   -2,   3),
-          new PlanetaryNutModel( 0, 1,-1, 2, 0,  0, -1,  0,-2, 5, 0, 0, 0,   -3,   5,    2,   1),
-          new PlanetaryNutModel( 0, 0, 0, 1, 0,  0,  0,  0,-2, 5, 0, 0, 0,   76,  17,    9, -41),
-          new PlanetaryNutModel( 0, 0, 0, 1, 0,  0, -4,  8,-3, 0, 0, 0, 0,   84, 298,  159, -45),
-          new PlanetaryNutModel( 1, 0, 0, 1, 0,-10,  3,  0, 0, 0, 0, 0, 0,    3,   0,    0,  -1),
-          new PlanetaryNutModel( 0, 2,-2, 1, 0,  0, -2,  0, 0, 0, 0, 0, 0,   -3,   0,    0,   2),
-          new PlanetaryNutModel(-1, 0, 0, 1, 0, 10, -3,  0, 0, 0, 0, 0, 0,   -3,   0,    0,   1),
-          new PlanetaryNutModel( 0, 0, 0, 1, 0,  0,  4, -8, 3, 0, 0, 0, 0,  -82, 292,  156,  44),
-
-       /* 141-150 */
-          new PlanetaryNutModel( 0, 0, 0, 1, 0,  0,  0,  0, 2,-5, 0, 0, 0,  -73,  17,    9,  39),
-          new PlanetaryNutModel( 0,-1, 1, 0, 0,  0,  1,  0, 2,-5, 0, 0, 0,   -9, -16,    0,   0),
-          new PlanetaryNutModel( 2,-1,-1, 1, 0,  0,  3, -7, 0, 0, 0, 0, 0,    3,   0,   -1,  -2),
-          new PlanetaryNutModel(-2, 0, 2, 0, 0,  0,  2,  0, 0,-5, 0, 0, 0,   -3,   0,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 1, 0, -3,  7, -4, 0, 0, 0, 0, 0,   -9,  -5,   -3,   5),
-          new PlanetaryNutModel(-2, 0, 2, 0, 0,  0,  2,  0,-2, 0, 0, 0, 0, -439,   0,    0,   0),
-          new PlanetaryNutModel( 1, 0, 0, 1, 0,-18, 16,  0, 0, 0, 0, 0, 0,   57, -28,  -15, -30),
-          new PlanetaryNutModel(-2, 1, 1, 1, 0,  0,  1,  0,-2, 0, 0, 0, 0,    0,  -6,   -3,   0),
-          new PlanetaryNutModel( 0, 1,-1, 2, 0, -8, 12,  0, 0, 0, 0, 0, 0,   -4,   0,    0,   2),
-          new PlanetaryNutModel( 0, 0, 0, 1, 0, -8, 13,  0, 0, 0, 0, 0, 0,  -40,  57,   30,  21),
-
-       /* 151-160 */
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  1, -2, 0, 0, 0, 0, 1,   23,   7,    3, -13),
-          new PlanetaryNutModel( 0, 1,-1, 1, 0,  0,  0, -2, 0, 0, 0, 0, 0,  273,  80,   43,-146),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  1, -2, 0, 0, 0, 0, 0, -449, 430,    0,   0),
-          new PlanetaryNutModel( 0, 1,-1, 1, 0,  0, -2,  2, 0, 0, 0, 0, 0,   -8, -47,  -25,   4),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0, -1,  2, 0, 0, 0, 0, 1,    6,  47,   25,  -3),
-          new PlanetaryNutModel(-1, 0, 1, 1, 0,  3, -4,  0, 0, 0, 0, 0, 0,    0,  23,   13,   0),
-          new PlanetaryNutModel(-1, 0, 1, 1, 0,  0,  3, -4, 0, 0, 0, 0, 0,   -3,   0,    0,   2),
-          new PlanetaryNutModel( 0, 1,-1, 1, 0,  0, -1,  0, 0,-2, 0, 0, 0,    3,  -4,   -2,  -2),
-          new PlanetaryNutModel( 0, 1,-1, 1, 0,  0, -1,  0, 0, 2, 0, 0, 0,  -48,-110,  -59,  26),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  0,  0, 0, 2, 0, 0, 1,   51, 114,   61, -27),
-
-       /* 161-170 */
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  0,  0, 0, 2, 0, 0, 2, -133,   0,    0,  57),
-          new PlanetaryNutModel( 0, 1,-1, 0, 0,  3, -6,  0, 0, 0, 0, 0, 0,    0,   4,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 1, 0, -3,  5,  0, 0, 0, 0, 0, 0,  -21,  -6,   -3,  11),
-          new PlanetaryNutModel( 0, 1,-1, 2, 0, -3,  4,  0, 0, 0, 0, 0, 0,    0,  -3,   -1,   0),
-          new PlanetaryNutModel( 0, 0, 0, 1, 0,  0, -2,  4, 0, 0, 0, 0, 0,  -11, -21,  -11,   6),
-          new PlanetaryNutModel( 0, 2,-2, 1, 0, -5,  6,  0, 0, 0, 0, 0, 0,  -18,-436, -233,   9),
-          new PlanetaryNutModel( 0,-1, 1, 0, 0,  5, -7,  0, 0, 0, 0, 0, 0,   35,  -7,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 1, 0,  5, -8,  0, 0, 0, 0, 0, 0,    0,   5,    3,   0),
-          new PlanetaryNutModel(-2, 0, 2, 1, 0,  6, -8,  0, 0, 0, 0, 0, 0,   11,  -3,   -1,  -6),
-          new PlanetaryNutModel( 0, 0, 0, 1, 0,  0, -8, 15, 0, 0, 0, 0, 0,   -5,  -3,   -1,   3),
-
-       /* 171-180 */
-          new PlanetaryNutModel(-2, 0, 2, 1, 0,  0,  2,  0,-3, 0, 0, 0, 0,  -53,  -9,   -5,  28),
-          new PlanetaryNutModel(-2, 0, 2, 1, 0,  0,  6, -8, 0, 0, 0, 0, 0,    0,   3,    2,   1),
-          new PlanetaryNutModel( 1, 0,-1, 1, 0,  0, -1,  0, 1, 0, 0, 0, 0,    4,   0,    0,  -2),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  0,  0, 3,-5, 0, 0, 0,    0,  -4,    0,   0),
-          new PlanetaryNutModel( 0, 1,-1, 1, 0,  0, -1,  0,-1, 0, 0, 0, 0,  -50, 194,  103,  27),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  0,  0,-1, 0, 0, 0, 1,  -13,  52,   28,   7),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  0,  0, 1, 0, 0, 0, 0,  -91, 248,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  0,  0, 1, 0, 0, 0, 1,    6,  49,   26,  -3),
-          new PlanetaryNutModel( 0, 1,-1, 1, 0,  0, -1,  0, 1, 0, 0, 0, 0,   -6, -47,  -25,   3),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  0,  0, 1, 0, 0, 0, 1,    0,   5,    3,   0),
-
-       /* 181-190 */
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  0,  0, 1, 0, 0, 0, 2,   52,  23,   10, -23),
-          new PlanetaryNutModel( 0, 1,-1, 2, 0,  0, -1,  0, 0,-1, 0, 0, 0,   -3,   0,    0,   1),
-          new PlanetaryNutModel( 0, 0, 0, 1, 0,  0,  0,  0, 0,-1, 0, 0, 0,    0,   5,    3,   0),
-          new PlanetaryNutModel( 0,-1, 1, 0, 0,  0,  1,  0, 0,-1, 0, 0, 0,   -4,   0,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0, -7, 13, 0, 0, 0, 0, 2,   -4,   8,    3,   2),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  7,-13, 0, 0, 0, 0, 0,   10,   0,    0,   0),
-          new PlanetaryNutModel( 2, 0,-2, 1, 0,  0, -5,  6, 0, 0, 0, 0, 0,    3,   0,    0,  -2),
-          new PlanetaryNutModel( 0, 2,-2, 1, 0,  0, -8, 11, 0, 0, 0, 0, 0,    0,   8,    4,   0),
-          new PlanetaryNutModel( 0, 2,-2, 1,-1,  0,  2,  0, 0, 0, 0, 0, 0,    0,   8,    4,   1),
-          new PlanetaryNutModel(-2, 0, 2, 0, 0,  0,  4, -4, 0, 0, 0, 0, 0,   -4,   0,    0,   0),
-
-       /* 191-200 */
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  0,  0, 2,-2, 0, 0, 0,   -4,   0,    0,   0),
-          new PlanetaryNutModel( 0, 1,-1, 1, 0,  0, -1,  0, 0, 3, 0, 0, 0,   -8,   4,    2,   4),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  0,  0, 0, 3, 0, 0, 1,    8,  -4,   -2,  -4),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  0,  0, 0, 3, 0, 0, 2,    0,  15,    7,   0),
-          new PlanetaryNutModel(-2, 0, 2, 0, 0,  3, -3,  0, 0, 0, 0, 0, 0, -138,   0,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 2, 0,  0, -4,  8,-3, 0, 0, 0, 0,    0,  -7,   -3,   0),
-          new PlanetaryNutModel( 0, 0, 0, 2, 0,  0,  4, -8, 3, 0, 0, 0, 0,    0,  -7,   -3,   0),
-          new PlanetaryNutModel( 2, 0,-2, 1, 0,  0, -2,  0, 2, 0, 0, 0, 0,   54,   0,    0, -29),
-          new PlanetaryNutModel( 0, 1,-1, 2, 0,  0, -1,  0, 2, 0, 0, 0, 0,    0,  10,    4,   0),
-          new PlanetaryNutModel( 0, 1,-1, 2, 0,  0,  0, -2, 0, 0, 0, 0, 0,   -7,   0,    0,   3),
-
-       /* 201-210 */
-          new PlanetaryNutModel( 0, 0, 0, 1, 0,  0,  1, -2, 0, 0, 0, 0, 0,  -37,  35,   19,  20),
-          new PlanetaryNutModel( 0,-1, 1, 0, 0,  0,  2, -2, 0, 0, 0, 0, 0,    0,   4,    0,   0),
-          new PlanetaryNutModel( 0,-1, 1, 0, 0,  0,  1,  0, 0,-2, 0, 0, 0,   -4,   9,    0,   0),
-          new PlanetaryNutModel( 0, 2,-2, 1, 0,  0, -2,  0, 0, 2, 0, 0, 0,    8,   0,    0,  -4),
-          new PlanetaryNutModel( 0, 1,-1, 1, 0,  3, -6,  0, 0, 0, 0, 0, 0,   -9, -14,   -8,   5),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  3, -5,  0, 0, 0, 0, 0, 1,   -3,  -9,   -5,   3),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  3, -5,  0, 0, 0, 0, 0, 0, -145,  47,    0,   0),
-          new PlanetaryNutModel( 0, 1,-1, 1, 0, -3,  4,  0, 0, 0, 0, 0, 0,  -10,  40,   21,   5),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0, -3,  5,  0, 0, 0, 0, 0, 1,   11, -49,  -26,  -7),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0, -3,  5,  0, 0, 0, 0, 0, 2,-2150,   0,    0, 932),
-
-       /* 211-220 */
-          new PlanetaryNutModel( 0, 2,-2, 2, 0, -3,  3,  0, 0, 0, 0, 0, 0,  -12,   0,    0,   5),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0, -3,  5,  0, 0, 0, 0, 0, 2,   85,   0,    0, -37),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  2, -4, 0, 0, 0, 0, 1,    4,   0,    0,  -2),
-          new PlanetaryNutModel( 0, 1,-1, 1, 0,  0,  1, -4, 0, 0, 0, 0, 0,    3,   0,    0,  -2),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  2, -4, 0, 0, 0, 0, 0,  -86, 153,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0, -2,  4, 0, 0, 0, 0, 1,   -6,   9,    5,   3),
-          new PlanetaryNutModel( 0, 1,-1, 1, 0,  0, -3,  4, 0, 0, 0, 0, 0,    9, -13,   -7,  -5),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0, -2,  4, 0, 0, 0, 0, 1,   -8,  12,    6,   4),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0, -2,  4, 0, 0, 0, 0, 2,  -51,   0,    0,  22),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0, -5,  8,  0, 0, 0, 0, 0, 2,  -11,-268, -116,   5),
-
-       /* 221-230 */
-          new PlanetaryNutModel( 0, 2,-2, 2, 0, -5,  6,  0, 0, 0, 0, 0, 0,    0,  12,    5,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0, -5,  8,  0, 0, 0, 0, 0, 2,    0,   7,    3,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0, -5,  8,  0, 0, 0, 0, 0, 1,   31,   6,    3, -17),
-          new PlanetaryNutModel( 0, 1,-1, 1, 0, -5,  7,  0, 0, 0, 0, 0, 0,  140,  27,   14, -75),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0, -5,  8,  0, 0, 0, 0, 0, 1,   57,  11,    6, -30),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  5, -8,  0, 0, 0, 0, 0, 0,  -14, -39,    0,   0),
-          new PlanetaryNutModel( 0, 1,-1, 2, 0,  0, -1,  0,-1, 0, 0, 0, 0,    0,  -6,   -2,   0),
-          new PlanetaryNutModel( 0, 0, 0, 1, 0,  0,  0,  0,-1, 0, 0, 0, 0,    4,  15,    8,  -2),
-          new PlanetaryNutModel( 0,-1, 1, 0, 0,  0,  1,  0,-1, 0, 0, 0, 0,    0,   4,    0,   0),
-          new PlanetaryNutModel( 0, 2,-2, 1, 0,  0, -2,  0, 1, 0, 0, 0, 0,   -3,   0,    0,   1),
-
-       /* 231-240 */
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0, -6, 11, 0, 0, 0, 0, 2,    0,  11,    5,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  6,-11, 0, 0, 0, 0, 0,    9,   6,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0,-1,  0,  4,  0, 0, 0, 0, 0, 2,   -4,  10,    4,   2),
-          new PlanetaryNutModel( 0, 0, 0, 0, 1,  0, -4,  0, 0, 0, 0, 0, 0,    5,   3,    0,   0),
-          new PlanetaryNutModel( 2, 0,-2, 1, 0, -3,  3,  0, 0, 0, 0, 0, 0,   16,   0,    0,  -9),
-          new PlanetaryNutModel(-2, 0, 2, 0, 0,  0,  2,  0, 0,-2, 0, 0, 0,   -3,   0,    0,   0),
-          new PlanetaryNutModel( 0, 2,-2, 1, 0,  0, -7,  9, 0, 0, 0, 0, 0,    0,   3,    2,  -1),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  0,  0, 4,-5, 0, 0, 2,    7,   0,    0,  -3),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  0,  0, 2, 0, 0, 0, 0,  -25,  22,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  0,  0, 2, 0, 0, 0, 1,   42, 223,  119, -22),
-
-       /* 241-250 */
-          new PlanetaryNutModel( 0, 1,-1, 1, 0,  0, -1,  0, 2, 0, 0, 0, 0,  -27,-143,  -77,  14),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  0,  0, 2, 0, 0, 0, 1,    9,  49,   26,  -5),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  0,  0, 2, 0, 0, 0, 2,-1166,   0,    0, 505),
-          new PlanetaryNutModel( 0, 2,-2, 2, 0,  0, -2,  0, 2, 0, 0, 0, 0,   -5,   0,    0,   2),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  0,  0, 0, 5, 0, 0, 2,   -6,   0,    0,   3),
-          new PlanetaryNutModel( 0, 0, 0, 1, 0,  3, -5,  0, 0, 0, 0, 0, 0,   -8,   0,    1,   4),
-          new PlanetaryNutModel( 0,-1, 1, 0, 0,  3, -4,  0, 0, 0, 0, 0, 0,    0,  -4,    0,   0),
-          new PlanetaryNutModel( 0, 2,-2, 1, 0, -3,  3,  0, 0, 0, 0, 0, 0,  117,   0,    0, -63),
-          new PlanetaryNutModel( 0, 0, 0, 1, 0,  0,  2, -4, 0, 0, 0, 0, 0,   -4,   8,    4,   2),
-          new PlanetaryNutModel( 0, 2,-2, 1, 0,  0, -4,  4, 0, 0, 0, 0, 0,    3,   0,    0,  -2),
-
-       /* 251-260 */
-          new PlanetaryNutModel( 0, 1,-1, 2, 0, -5,  7,  0, 0, 0, 0, 0, 0,   -5,   0,    0,   2),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  3, -6, 0, 0, 0, 0, 0,    0,  31,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0, -3,  6, 0, 0, 0, 0, 1,   -5,   0,    1,   3),
-          new PlanetaryNutModel( 0, 1,-1, 1, 0,  0, -4,  6, 0, 0, 0, 0, 0,    4,   0,    0,  -2),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0, -3,  6, 0, 0, 0, 0, 1,   -4,   0,    0,   2),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0, -3,  6, 0, 0, 0, 0, 2,  -24, -13,   -6,  10),
-          new PlanetaryNutModel( 0,-1, 1, 0, 0,  2, -2,  0, 0, 0, 0, 0, 0,    3,   0,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 1, 0,  2, -3,  0, 0, 0, 0, 0, 0,    0, -32,  -17,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0, -5,  9, 0, 0, 0, 0, 2,    8,  12,    5,  -3),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0, -5,  9, 0, 0, 0, 0, 1,    3,   0,    0,  -1),
-
-       /* 261-270 */
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  5, -9, 0, 0, 0, 0, 0,    7,  13,    0,   0),
-          new PlanetaryNutModel( 0,-1, 1, 0, 0,  0,  1,  0,-2, 0, 0, 0, 0,   -3,  16,    0,   0),
-          new PlanetaryNutModel( 0, 2,-2, 1, 0,  0, -2,  0, 2, 0, 0, 0, 0,   50,   0,    0, -27),
-          new PlanetaryNutModel(-2, 1, 1, 1, 0,  0,  1,  0, 0, 0, 0, 0, 0,    0,  -5,   -3,   0),
-          new PlanetaryNutModel( 0,-2, 2, 0, 0,  3, -3,  0, 0, 0, 0, 0, 0,   13,   0,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0, -6, 10,  0, 0, 0, 0, 0, 1,    0,   5,    3,   1),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0, -6, 10,  0, 0, 0, 0, 0, 2,   24,   5,    2, -11),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0, -2,  3,  0, 0, 0, 0, 0, 2,    5, -11,   -5,  -2),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0, -2,  3,  0, 0, 0, 0, 0, 1,   30,  -3,   -2, -16),
-          new PlanetaryNutModel( 0, 1,-1, 1, 0, -2,  2,  0, 0, 0, 0, 0, 0,   18,   0,    0,  -9),
-
-       /* 271-280 */
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  2, -3,  0, 0, 0, 0, 0, 0,    8, 614,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  2, -3,  0, 0, 0, 0, 0, 1,    3,  -3,   -1,  -2),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  0,  0, 3, 0, 0, 0, 1,    6,  17,    9,  -3),
-          new PlanetaryNutModel( 0, 1,-1, 1, 0,  0, -1,  0, 3, 0, 0, 0, 0,   -3,  -9,   -5,   2),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  0,  0, 3, 0, 0, 0, 1,    0,   6,    3,  -1),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  0,  0, 3, 0, 0, 0, 2, -127,  21,    9,  55),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  4, -8, 0, 0, 0, 0, 0,    3,   5,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0, -4,  8, 0, 0, 0, 0, 2,   -6, -10,   -4,   3),
-          new PlanetaryNutModel( 0,-2, 2, 0, 0,  0,  2,  0,-2, 0, 0, 0, 0,    5,   0,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0, -4,  7, 0, 0, 0, 0, 2,   16,   9,    4,  -7),
-
-       /* 281-290 */
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0, -4,  7, 0, 0, 0, 0, 1,    3,   0,    0,  -2),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  4, -7, 0, 0, 0, 0, 0,    0,  22,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 1, 0, -2,  3,  0, 0, 0, 0, 0, 0,    0,  19,   10,   0),
-          new PlanetaryNutModel( 0, 2,-2, 1, 0,  0, -2,  0, 3, 0, 0, 0, 0,    7,   0,    0,  -4),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0, -5, 10, 0, 0, 0, 0, 2,    0,  -5,   -2,   0),
-          new PlanetaryNutModel( 0, 0, 0, 1, 0, -1,  2,  0, 0, 0, 0, 0, 0,    0,   3,    1,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  0,  0, 4, 0, 0, 0, 2,   -9,   3,    1,   4),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0, -3,  5, 0, 0, 0, 0, 2,   17,   0,    0,  -7),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0, -3,  5, 0, 0, 0, 0, 1,    0,  -3,   -2,  -1),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  3, -5, 0, 0, 0, 0, 0,  -20,  34,    0,   0),
-
-       /* 291-300 */
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  1, -2,  0, 0, 0, 0, 0, 1,  -10,   0,    1,   5),
-          new PlanetaryNutModel( 0, 1,-1, 1, 0,  1, -3,  0, 0, 0, 0, 0, 0,   -4,   0,    0,   2),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  1, -2,  0, 0, 0, 0, 0, 0,   22, -87,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0, -1,  2,  0, 0, 0, 0, 0, 1,   -4,   0,    0,   2),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0, -1,  2,  0, 0, 0, 0, 0, 2,   -3,  -6,   -2,   1),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0, -7, 11,  0, 0, 0, 0, 0, 2,  -16,  -3,   -1,   7),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0, -7, 11,  0, 0, 0, 0, 0, 1,    0,  -3,   -2,   0),
-          new PlanetaryNutModel( 0,-2, 2, 0, 0,  4, -4,  0, 0, 0, 0, 0, 0,    4,   0,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  2, -3, 0, 0, 0, 0, 0,  -68,  39,    0,   0),
-          new PlanetaryNutModel( 0, 2,-2, 1, 0, -4,  4,  0, 0, 0, 0, 0, 0,   27,   0,    0, -14),
-
-       /* 301-310 */
-          new PlanetaryNutModel( 0,-1, 1, 0, 0,  4, -5,  0, 0, 0, 0, 0, 0,    0,  -4,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  1, -1, 0, 0, 0, 0, 0,  -25,   0,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0, -4,  7,  0, 0, 0, 0, 0, 1,  -12,  -3,   -2,   6),
-          new PlanetaryNutModel( 0, 1,-1, 1, 0, -4,  6,  0, 0, 0, 0, 0, 0,    3,   0,    0,  -1),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0, -4,  7,  0, 0, 0, 0, 0, 2,    3,  66,   29,  -1),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0, -4,  6,  0, 0, 0, 0, 0, 2,  490,   0,    0,-213),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0, -4,  6,  0, 0, 0, 0, 0, 1,  -22,  93,   49,  12),
-          new PlanetaryNutModel( 0, 1,-1, 1, 0, -4,  5,  0, 0, 0, 0, 0, 0,   -7,  28,   15,   4),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0, -4,  6,  0, 0, 0, 0, 0, 1,   -3,  13,    7,   2),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  4, -6,  0, 0, 0, 0, 0, 0,  -46,  14,    0,   0),
-
-       /* 311-320 */
-          new PlanetaryNutModel(-2, 0, 2, 0, 0,  2, -2,  0, 0, 0, 0, 0, 0,   -5,   0,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  0,  1, 0, 0, 0, 0, 0,    2,   1,    0,   0),
-          new PlanetaryNutModel( 0,-1, 1, 0, 0,  1,  0,  0, 0, 0, 0, 0, 0,    0,  -3,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 1, 0,  1, -1,  0, 0, 0, 0, 0, 0,  -28,   0,    0,  15),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0, -1,  0, 5, 0, 0, 0, 2,    5,   0,    0,  -2),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  1, -3, 0, 0, 0, 0, 0,    0,   3,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0, -1,  3, 0, 0, 0, 0, 2,  -11,   0,    0,   5),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0, -7, 12, 0, 0, 0, 0, 2,    0,   3,    1,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0, -1,  1,  0, 0, 0, 0, 0, 2,   -3,   0,    0,   1),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0, -1,  1,  0, 0, 0, 0, 0, 1,   25, 106,   57, -13),
-
-       /* 321-330 */
-          new PlanetaryNutModel( 0, 1,-1, 1, 0, -1,  0,  0, 0, 0, 0, 0, 0,    5,  21,   11,  -3),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  1, -1,  0, 0, 0, 0, 0, 0, 1485,   0,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  1, -1,  0, 0, 0, 0, 0, 1,   -7, -32,  -17,   4),
-          new PlanetaryNutModel( 0, 1,-1, 1, 0,  1, -2,  0, 0, 0, 0, 0, 0,    0,   5,    3,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0, -2,  5, 0, 0, 0, 0, 2,   -6,  -3,   -2,   3),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0, -1,  0, 4, 0, 0, 0, 2,   30,  -6,   -2, -13),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  1,  0,-4, 0, 0, 0, 0,   -4,   4,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 1, 0, -1,  1,  0, 0, 0, 0, 0, 0,  -19,   0,    0,  10),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0, -6, 10, 0, 0, 0, 0, 2,    0,   4,    2,  -1),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0, -6, 10, 0, 0, 0, 0, 0,    0,   3,    0,   0),
-
-       /* 331-340 */
-          new PlanetaryNutModel( 0, 2,-2, 1, 0,  0, -3,  0, 3, 0, 0, 0, 0,    4,   0,    0,  -2),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0, -3,  7, 0, 0, 0, 0, 2,    0,  -3,   -1,   0),
-          new PlanetaryNutModel(-2, 0, 2, 0, 0,  4, -4,  0, 0, 0, 0, 0, 0,   -3,   0,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0, -5,  8, 0, 0, 0, 0, 2,    5,   3,    1,  -2),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  5, -8, 0, 0, 0, 0, 0,    0,  11,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0, -1,  0, 3, 0, 0, 0, 2,  118,   0,    0, -52),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0, -1,  0, 3, 0, 0, 0, 1,    0,  -5,   -3,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  1,  0,-3, 0, 0, 0, 0,  -28,  36,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  2, -4,  0, 0, 0, 0, 0, 0,    5,  -5,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0, -2,  4,  0, 0, 0, 0, 0, 1,   14, -59,  -31,  -8),
-
-       /* 341-350 */
-          new PlanetaryNutModel( 0, 1,-1, 1, 0, -2,  3,  0, 0, 0, 0, 0, 0,    0,   9,    5,   1),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0, -2,  4,  0, 0, 0, 0, 0, 2, -458,   0,    0, 198),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0, -6,  9,  0, 0, 0, 0, 0, 2,    0, -45,  -20,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0, -6,  9,  0, 0, 0, 0, 0, 1,    9,   0,    0,  -5),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  6, -9,  0, 0, 0, 0, 0, 0,    0,  -3,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 1, 0,  0,  1,  0,-2, 0, 0, 0, 0,    0,  -4,   -2,  -1),
-          new PlanetaryNutModel( 0, 2,-2, 1, 0, -2,  2,  0, 0, 0, 0, 0, 0,   11,   0,    0,  -6),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0, -4,  6, 0, 0, 0, 0, 2,    6,   0,    0,  -2),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  4, -6, 0, 0, 0, 0, 0,  -16,  23,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 1, 0,  3, -4,  0, 0, 0, 0, 0, 0,    0,  -4,   -2,   0),
-
-       /* 351-360 */
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0, -1,  0, 2, 0, 0, 0, 2,   -5,   0,    0,   2),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  1,  0,-2, 0, 0, 0, 0, -166, 269,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 1, 0,  0,  1,  0,-1, 0, 0, 0, 0,   15,   0,    0,  -8),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0, -5,  9,  0, 0, 0, 0, 0, 2,   10,   0,    0,  -4),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  3, -4, 0, 0, 0, 0, 0,  -78,  45,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0, -3,  4,  0, 0, 0, 0, 0, 2,    0,  -5,   -2,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0, -3,  4,  0, 0, 0, 0, 0, 1,    7,   0,    0,  -4),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  3, -4,  0, 0, 0, 0, 0, 0,   -5, 328,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  3, -4,  0, 0, 0, 0, 0, 1,    3,   0,    0,  -2),
-          new PlanetaryNutModel( 0, 0, 0, 1, 0,  0,  2, -2, 0, 0, 0, 0, 0,    5,   0,    0,  -2),
-
-       /* 361-370 */
-          new PlanetaryNutModel( 0, 0, 0, 1, 0,  0, -1,  0, 2, 0, 0, 0, 0,    0,   3,    1,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  1,  0, 0,-3, 0, 0, 0,   -3,   0,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  1,  0, 1,-5, 0, 0, 0,   -3,   0,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0, -1,  0, 1, 0, 0, 0, 1,    0,  -4,   -2,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  1,  0,-1, 0, 0, 0, 0,-1223, -26,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  1,  0,-1, 0, 0, 0, 1,    0,   7,    3,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  1,  0,-3, 5, 0, 0, 0,    3,   0,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 1, 0, -3,  4,  0, 0, 0, 0, 0, 0,    0,   3,    2,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  1,  0, 0,-2, 0, 0, 0,   -6,  20,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  2, -2, 0, 0, 0, 0, 0, -368,   0,    0,   0),
-
-       /* 371-380 */
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  1,  0, 0,-1, 0, 0, 0,  -75,   0,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 1, 0,  0, -1,  0, 1, 0, 0, 0, 0,   11,   0,    0,  -6),
-          new PlanetaryNutModel( 0, 0, 0, 1, 0,  0, -2,  2, 0, 0, 0, 0, 0,    3,   0,    0,  -2),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0, -8, 14,  0, 0, 0, 0, 0, 2,   -3,   0,    0,   1),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  1,  0, 2,-5, 0, 0, 0,  -13, -30,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  5, -8, 3, 0, 0, 0, 0,   21,   3,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  5, -8, 3, 0, 0, 0, 2,   -3,   0,    0,   1),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0, -1,  0, 0, 0, 0, 0, 1,   -4,   0,    0,   2),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  1,  0, 0, 0, 0, 0, 0,    8, -27,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  3, -8, 3, 0, 0, 0, 0,  -19, -11,    0,   0),
-
-       /* 381-390 */
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0, -3,  8,-3, 0, 0, 0, 2,   -4,   0,    0,   2),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  1,  0,-2, 5, 0, 0, 2,    0,   5,    2,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0, -8, 12,  0, 0, 0, 0, 0, 2,   -6,   0,    0,   2),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0, -8, 12,  0, 0, 0, 0, 0, 0,   -8,   0,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  1,  0, 1,-2, 0, 0, 0,   -1,   0,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  1,  0, 0, 1, 0, 0, 2,  -14,   0,    0,   6),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  0,  2, 0, 0, 0, 0, 0,    6,   0,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  0,  2, 0, 0, 0, 0, 2,  -74,   0,    0,  32),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  1,  0, 0, 2, 0, 0, 2,    0,  -3,   -1,   0),
-          new PlanetaryNutModel( 0, 2,-2, 1, 0, -5,  5,  0, 0, 0, 0, 0, 0,    4,   0,    0,  -2),
-
-       /* 391-400 */
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  1,  0, 1, 0, 0, 0, 0,    8,  11,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  1,  0, 1, 0, 0, 0, 1,    0,   3,    2,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  1,  0, 1, 0, 0, 0, 2, -262,   0,    0, 114),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  3, -6,  0, 0, 0, 0, 0, 0,    0,  -4,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0, -3,  6,  0, 0, 0, 0, 0, 1,   -7,   0,    0,   4),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0, -3,  6,  0, 0, 0, 0, 0, 2,    0, -27,  -12,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0, -1,  4, 0, 0, 0, 0, 2,  -19,  -8,   -4,   8),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0, -5,  7,  0, 0, 0, 0, 0, 2,  202,   0,    0, -87),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0, -5,  7,  0, 0, 0, 0, 0, 1,   -8,  35,   19,   5),
-          new PlanetaryNutModel( 0, 1,-1, 1, 0, -5,  6,  0, 0, 0, 0, 0, 0,    0,   4,    2,   0),
-
-       /* 401-410 */
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  5, -7,  0, 0, 0, 0, 0, 0,   16,  -5,    0,   0),
-          new PlanetaryNutModel( 0, 2,-2, 1, 0,  0, -1,  0, 1, 0, 0, 0, 0,    5,   0,    0,  -3),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0, -1,  0, 1, 0, 0, 0, 0,    0,  -3,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0,-1,  0,  3,  0, 0, 0, 0, 0, 2,    1,   0,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  1,  0, 2, 0, 0, 0, 2,  -35, -48,  -21,  15),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0, -2,  6, 0, 0, 0, 0, 2,   -3,  -5,   -2,   1),
-          new PlanetaryNutModel( 0, 0, 0, 1, 0,  2, -2,  0, 0, 0, 0, 0, 0,    6,   0,    0,  -3),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0, -6,  9, 0, 0, 0, 0, 2,    3,   0,    0,  -1),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  6, -9, 0, 0, 0, 0, 0,    0,  -5,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0, -2,  2,  0, 0, 0, 0, 0, 1,   12,  55,   29,  -6),
-
-       /* 411-420 */
-          new PlanetaryNutModel( 0, 1,-1, 1, 0, -2,  1,  0, 0, 0, 0, 0, 0,    0,   5,    3,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  2, -2,  0, 0, 0, 0, 0, 0, -598,   0,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  2, -2,  0, 0, 0, 0, 0, 1,   -3, -13,   -7,   1),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  1,  0, 3, 0, 0, 0, 2,   -5,  -7,   -3,   2),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0, -5,  7, 0, 0, 0, 0, 2,    3,   0,    0,  -1),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  5, -7, 0, 0, 0, 0, 0,    5,  -7,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 1, 0, -2,  2,  0, 0, 0, 0, 0, 0,    4,   0,    0,  -2),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  4, -5, 0, 0, 0, 0, 0,   16,  -6,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  1, -3,  0, 0, 0, 0, 0, 0,    8,  -3,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0, -1,  3,  0, 0, 0, 0, 0, 1,    8, -31,  -16,  -4),
-
-       /* 421-430 */
-          new PlanetaryNutModel( 0, 1,-1, 1, 0, -1,  2,  0, 0, 0, 0, 0, 0,    0,   3,    1,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0, -1,  3,  0, 0, 0, 0, 0, 2,  113,   0,    0, -49),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0, -7, 10,  0, 0, 0, 0, 0, 2,    0, -24,  -10,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0, -7, 10,  0, 0, 0, 0, 0, 1,    4,   0,    0,  -2),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  3, -3, 0, 0, 0, 0, 0,   27,   0,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0, -4,  8,  0, 0, 0, 0, 0, 2,   -3,   0,    0,   1),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0, -4,  5,  0, 0, 0, 0, 0, 2,    0,  -4,   -2,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0, -4,  5,  0, 0, 0, 0, 0, 1,    5,   0,    0,  -2),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  4, -5,  0, 0, 0, 0, 0, 0,    0,  -3,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  1,  1, 0, 0, 0, 0, 2,  -13,   0,    0,   6),
-
-       /* 431-440 */
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0, -2,  0, 5, 0, 0, 0, 2,    5,   0,    0,  -2),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  0,  3, 0, 0, 0, 0, 2,  -18, -10,   -4,   8),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  1,  0,  0, 0, 0, 0, 0, 0,   -4, -28,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  1,  0,  0, 0, 0, 0, 0, 2,   -5,   6,    3,   2),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0, -9, 13,  0, 0, 0, 0, 0, 2,   -3,   0,    0,   1),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0, -1,  5, 0, 0, 0, 0, 2,   -5,  -9,   -4,   2),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0, -2,  0, 4, 0, 0, 0, 2,   17,   0,    0,  -7),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  2,  0,-4, 0, 0, 0, 0,   11,   4,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0, -2,  7, 0, 0, 0, 0, 2,    0,  -6,   -2,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  2,  0,-3, 0, 0, 0, 0,   83,  15,    0,   0),
-
-       /* 441-450 */
-          new PlanetaryNutModel( 0, 0, 0, 0, 0, -2,  5,  0, 0, 0, 0, 0, 1,   -4,   0,    0,   2),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0, -2,  5,  0, 0, 0, 0, 0, 2,    0,-114,  -49,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0, -6,  8,  0, 0, 0, 0, 0, 2,  117,   0,    0, -51),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0, -6,  8,  0, 0, 0, 0, 0, 1,   -5,  19,   10,   2),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  6, -8,  0, 0, 0, 0, 0, 0,   -3,   0,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 1, 0,  0,  2,  0,-2, 0, 0, 0, 0,   -3,   0,    0,   2),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0, -3,  9, 0, 0, 0, 0, 2,    0,  -3,   -1,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  5, -6, 0, 0, 0, 0, 0,    3,   0,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  5, -6, 0, 0, 0, 0, 2,    0,  -6,   -2,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  2,  0,-2, 0, 0, 0, 0,  393,   3,    0,   0),
-
-       /* 451-460 */
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  2,  0,-2, 0, 0, 0, 1,   -4,  21,   11,   2),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  2,  0,-2, 0, 0, 0, 2,   -6,   0,   -1,   3),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0, -5, 10,  0, 0, 0, 0, 0, 2,   -3,   8,    4,   1),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  4, -4, 0, 0, 0, 0, 0,    8,   0,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  4, -4, 0, 0, 0, 0, 2,   18, -29,  -13,  -8),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0, -3,  3,  0, 0, 0, 0, 0, 1,    8,  34,   18,  -4),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  3, -3,  0, 0, 0, 0, 0, 0,   89,   0,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  3, -3,  0, 0, 0, 0, 0, 1,    3,  12,    6,  -1),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  3, -3,  0, 0, 0, 0, 0, 2,   54, -15,   -7, -24),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  2,  0, 0,-3, 0, 0, 0,    0,   3,    0,   0),
-
-       /* 461-470 */
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0, -5, 13, 0, 0, 0, 0, 2,    3,   0,    0,  -1),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  2,  0,-1, 0, 0, 0, 0,    0,  35,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  2,  0,-1, 0, 0, 0, 2, -154, -30,  -13,  67),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  2,  0, 0,-2, 0, 0, 0,   15,   0,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  2,  0, 0,-2, 0, 0, 1,    0,   4,    2,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  3, -2, 0, 0, 0, 0, 0,    0,   9,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  3, -2, 0, 0, 0, 0, 2,   80, -71,  -31, -35),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  2,  0, 0,-1, 0, 0, 2,    0, -20,   -9,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0, -6, 15, 0, 0, 0, 0, 2,   11,   5,    2,  -5),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0, -8, 15,  0, 0, 0, 0, 0, 2,   61, -96,  -42, -27),
-
-       /* 471-480 */
-          new PlanetaryNutModel( 0, 0, 0, 0, 0, -3,  9, -4, 0, 0, 0, 0, 2,   14,   9,    4,  -6),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  2,  0, 2,-5, 0, 0, 2,  -11,  -6,   -3,   5),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0, -2,  8,-1,-5, 0, 0, 2,    0,  -3,   -1,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  6, -8, 3, 0, 0, 0, 2,  123,-415, -180, -53),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  2,  0, 0, 0, 0, 0, 0,    0,   0,    0, -35),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  2,  0, 0, 0, 0, 0, 0,   -5,   0,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  2,  0, 0, 0, 0, 0, 1,    7, -32,  -17,  -4),
-          new PlanetaryNutModel( 0, 1,-1, 1, 0,  0,  1,  0, 0, 0, 0, 0, 0,    0,  -9,   -5,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  2,  0, 0, 0, 0, 0, 1,    0,  -4,    2,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  2,  0, 0, 0, 0, 0, 2,  -89,   0,    0,  38),
-
-       /* 481-490 */
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0, -6, 16,-4,-5, 0, 0, 2,    0, -86,  -19,  -6),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0, -2,  8,-3, 0, 0, 0, 2,    0,   0,  -19,   6),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0, -2,  8,-3, 0, 0, 0, 2, -123,-416, -180,  53),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  6, -8, 1, 5, 0, 0, 2,    0,  -3,   -1,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  2,  0,-2, 5, 0, 0, 2,   12,  -6,   -3,  -5),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  3, -5,  4, 0, 0, 0, 0, 2,  -13,   9,    4,   6),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0, -8, 11,  0, 0, 0, 0, 0, 2,    0, -15,   -7,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0, -8, 11,  0, 0, 0, 0, 0, 1,    3,   0,    0,  -1),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0, -8, 11,  0, 0, 0, 0, 0, 2,  -62, -97,  -42,  27),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0, 11,  0, 0, 0, 0, 0, 2,  -11,   5,    2,   5),
-
-       /* 491-500 */
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  2,  0, 0, 1, 0, 0, 2,    0, -19,   -8,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  3, -3,  0, 2, 0, 0, 0, 2,   -3,   0,    0,   1),
-          new PlanetaryNutModel( 0, 2,-2, 1, 0,  0,  4, -8, 3, 0, 0, 0, 0,    0,   4,    2,   0),
-          new PlanetaryNutModel( 0, 1,-1, 0, 0,  0,  1,  0, 0, 0, 0, 0, 0,    0,   3,    0,   0),
-          new PlanetaryNutModel( 0, 2,-2, 1, 0,  0, -4,  8,-3, 0, 0, 0, 0,    0,   4,    2,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  1,  2, 0, 0, 0, 0, 2,  -85, -70,  -31,  37),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  2,  0, 1, 0, 0, 0, 2,  163, -12,   -5, -72),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0, -3,  7,  0, 0, 0, 0, 0, 2,  -63, -16,   -7,  28),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  0,  4, 0, 0, 0, 0, 2,  -21, -32,  -14,   9),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0, -5,  6,  0, 0, 0, 0, 0, 2,    0,  -3,   -1,   0),
-
-       /* 501-510 */
-          new PlanetaryNutModel( 0, 0, 0, 0, 0, -5,  6,  0, 0, 0, 0, 0, 1,    3,   0,    0,  -2),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  5, -6,  0, 0, 0, 0, 0, 0,    0,   8,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  5, -6,  0, 0, 0, 0, 0, 2,    3,  10,    4,  -1),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  2,  0, 2, 0, 0, 0, 2,    3,   0,    0,  -1),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0, -1,  6, 0, 0, 0, 0, 2,    0,  -7,   -3,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  7, -9, 0, 0, 0, 0, 2,    0,  -4,   -2,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  2, -1,  0, 0, 0, 0, 0, 0,    6,  19,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  2, -1,  0, 0, 0, 0, 0, 2,    5,-173,  -75,  -2),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  6, -7, 0, 0, 0, 0, 2,    0,  -7,   -3,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  5, -5, 0, 0, 0, 0, 2,    7, -12,   -5,  -3),
-
-       /* 511-520 */
-          new PlanetaryNutModel( 0, 0, 0, 0, 0, -1,  4,  0, 0, 0, 0, 0, 1,   -3,   0,    0,   2),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0, -1,  4,  0, 0, 0, 0, 0, 2,    3,  -4,   -2,  -1),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0, -7,  9,  0, 0, 0, 0, 0, 2,   74,   0,    0, -32),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0, -7,  9,  0, 0, 0, 0, 0, 1,   -3,  12,    6,   2),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  4, -3, 0, 0, 0, 0, 2,   26, -14,   -6, -11),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  3, -1, 0, 0, 0, 0, 2,   19,   0,    0,  -8),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0, -4,  4,  0, 0, 0, 0, 0, 1,    6,  24,   13,  -3),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  4, -4,  0, 0, 0, 0, 0, 0,   83,   0,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  4, -4,  0, 0, 0, 0, 0, 1,    0, -10,   -5,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  4, -4,  0, 0, 0, 0, 0, 2,   11,  -3,   -1,  -5),
-
-       /* 521-530 */
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  2,  1, 0, 0, 0, 0, 2,    3,   0,    1,  -1),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0, -3,  0, 5, 0, 0, 0, 2,    3,   0,    0,  -1),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  1,  1,  0, 0, 0, 0, 0, 0,   -4,   0,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  1,  1,  0, 0, 0, 0, 0, 1,    5, -23,  -12,  -3),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  1,  1,  0, 0, 0, 0, 0, 2, -339,   0,    0, 147),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0, -9, 12,  0, 0, 0, 0, 0, 2,    0, -10,   -5,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  3,  0,-4, 0, 0, 0, 0,    5,   0,    0,   0),
-          new PlanetaryNutModel( 0, 2,-2, 1, 0,  1, -1,  0, 0, 0, 0, 0, 0,    3,   0,    0,  -1),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  7, -8, 0, 0, 0, 0, 2,    0,  -4,   -2,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  3,  0,-3, 0, 0, 0, 0,   18,  -3,    0,   0),
-
-       /* 531-540 */
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  3,  0,-3, 0, 0, 0, 2,    9, -11,   -5,  -4),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0, -2,  6,  0, 0, 0, 0, 0, 2,   -8,   0,    0,   4),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0, -6,  7,  0, 0, 0, 0, 0, 1,    3,   0,    0,  -1),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  6, -7,  0, 0, 0, 0, 0, 0,    0,   9,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  6, -6, 0, 0, 0, 0, 2,    6,  -9,   -4,  -2),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  3,  0,-2, 0, 0, 0, 0,   -4, -12,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  3,  0,-2, 0, 0, 0, 2,   67, -91,  -39, -29),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  5, -4, 0, 0, 0, 0, 2,   30, -18,   -8, -13),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  3, -2,  0, 0, 0, 0, 0, 0,    0,   0,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  3, -2,  0, 0, 0, 0, 0, 2,    0,-114,  -50,   0),
-
-       /* 541-550 */
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  3,  0,-1, 0, 0, 0, 2,    0,   0,    0,  23),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  3,  0,-1, 0, 0, 0, 2,  517,  16,    7,-224),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  3,  0, 0,-2, 0, 0, 2,    0,  -7,   -3,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  4, -2, 0, 0, 0, 0, 2,  143,  -3,   -1, -62),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  3,  0, 0,-1, 0, 0, 2,   29,   0,    0, -13),
-          new PlanetaryNutModel( 0, 2,-2, 1, 0,  0,  1,  0,-1, 0, 0, 0, 0,   -4,   0,    0,   2),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0, -8, 16,  0, 0, 0, 0, 0, 2,   -6,   0,    0,   3),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  3,  0, 2,-5, 0, 0, 2,    5,  12,    5,  -2),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  7, -8, 3, 0, 0, 0, 2,  -25,   0,    0,  11),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0, -5, 16,-4,-5, 0, 0, 2,   -3,   0,    0,   1),
-
-       /* 551-560 */
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  3,  0, 0, 0, 0, 0, 2,    0,   4,    2,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0, -1,  8,-3, 0, 0, 0, 2,  -22,  12,    5,  10),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0, -8, 10,  0, 0, 0, 0, 0, 2,   50,   0,    0, -22),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0, -8, 10,  0, 0, 0, 0, 0, 1,    0,   7,    4,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0, -8, 10,  0, 0, 0, 0, 0, 2,    0,   3,    1,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  2,  2, 0, 0, 0, 0, 2,   -4,   4,    2,   2),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  3,  0, 1, 0, 0, 0, 2,   -5, -11,   -5,   2),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0, -3,  8,  0, 0, 0, 0, 0, 2,    0,   4,    2,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0, -5,  5,  0, 0, 0, 0, 0, 1,    4,  17,    9,  -2),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  5, -5,  0, 0, 0, 0, 0, 0,   59,   0,    0,   0),
-
-       /* 561-570 */
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  5, -5,  0, 0, 0, 0, 0, 1,    0,  -4,   -2,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  5, -5,  0, 0, 0, 0, 0, 2,   -8,   0,    0,   4),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  2,  0,  0, 0, 0, 0, 0, 0,   -3,   0,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  2,  0,  0, 0, 0, 0, 0, 1,    4, -15,   -8,  -2),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  2,  0,  0, 0, 0, 0, 0, 2,  370,  -8,    0,-160),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  7, -7, 0, 0, 0, 0, 2,    0,   0,   -3,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  7, -7, 0, 0, 0, 0, 2,    0,   3,    1,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  6, -5, 0, 0, 0, 0, 2,   -6,   3,    1,   3),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  7, -8,  0, 0, 0, 0, 0, 0,    0,   6,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  5, -3, 0, 0, 0, 0, 2,  -10,   0,    0,   4),
-
-       /* 571-580 */
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  4, -3,  0, 0, 0, 0, 0, 2,    0,   9,    4,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  1,  2,  0, 0, 0, 0, 0, 2,    4,  17,    7,  -2),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0, -9, 11,  0, 0, 0, 0, 0, 2,   34,   0,    0, -15),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0, -9, 11,  0, 0, 0, 0, 0, 1,    0,   5,    3,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  4,  0,-4, 0, 0, 0, 2,   -5,   0,    0,   2),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  4,  0,-3, 0, 0, 0, 2,  -37,  -7,   -3,  16),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0, -6,  6,  0, 0, 0, 0, 0, 1,    3,  13,    7,  -2),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  6, -6,  0, 0, 0, 0, 0, 0,   40,   0,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  6, -6,  0, 0, 0, 0, 0, 1,    0,  -3,   -2,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  4,  0,-2, 0, 0, 0, 2, -184,  -3,   -1,  80),
-
-       /* 581-590 */
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  6, -4, 0, 0, 0, 0, 2,   -3,   0,    0,   1),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  3, -1,  0, 0, 0, 0, 0, 0,   -3,   0,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  3, -1,  0, 0, 0, 0, 0, 1,    0, -10,   -6,  -1),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  3, -1,  0, 0, 0, 0, 0, 2,   31,  -6,    0, -13),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  4,  0,-1, 0, 0, 0, 2,   -3, -32,  -14,   1),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  4,  0, 0,-2, 0, 0, 2,   -7,   0,    0,   3),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  5, -2, 0, 0, 0, 0, 2,    0,  -8,   -4,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  4,  0, 0, 0, 0, 0, 0,    3,  -4,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  8, -9,  0, 0, 0, 0, 0, 0,    0,   4,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  5, -4,  0, 0, 0, 0, 0, 2,    0,   3,    1,   0),
+    /**
+     * The terms of the IAU 2000A nutation series, luni-solar and planetary
+     * together, in order of decreasing amplitude, for the truncated forms
+     * of jauNut00a.  Term i is luni-solar term i of Nut00aLuniSolar if
+     * i &lt; NLS, else planetary term i-NLS of Nut00aPlanetary.
+     */
+    private static final class Nut00aSorted {
+        /** the terms, largest first */
+        static final int order[];
+        /** sums of the amplitudes in longitude and obliquity of the terms
+         *  from each position in order[] to the end (0.1 microarcsec) */
+        static final double tailp[], taile[];
+
+        static {
+            final int nls = Nut00aLuniSolar.NLS, n = nls + Nut00aPlanetary.NPL;
+            final double ap[] = new double[n], ae[] = new double[n];
+
+        /* Amplitudes, taking the t-dependent parts at one century. */
+            for (int i = 0; i < nls; i++) {
+                ap[i] = abs(Nut00aLuniSolar.sp[i]) + abs(Nut00aLuniSolar.spt[i])
+                      + abs(Nut00aLuniSolar.cp[i]);
+                ae[i] = abs(Nut00aLuniSolar.ce[i]) + abs(Nut00aLuniSolar.cet[i])
+                      + abs(Nut00aLuniSolar.se[i]);
+            }
+            for (int i = nls; i < n; i++) {
+                ap[i] = abs(Nut00aPlanetary.sp[i-nls]) + abs(Nut00aPlanetary.cp[i-nls]);
+                ae[i] = abs(Nut00aPlanetary.se[i-nls]) + abs(Nut00aPlanetary.ce[i-nls]);
+            }
 
-       /* 591-600 */
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  2,  1,  0, 0, 0, 0, 0, 2,   19, -23,  -10,   2),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  2,  1,  0, 0, 0, 0, 0, 1,    0,   0,    0, -10),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  2,  1,  0, 0, 0, 0, 0, 1,    0,   3,    2,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0, -7,  7,  0, 0, 0, 0, 0, 1,    0,   9,    5,  -1),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  7, -7,  0, 0, 0, 0, 0, 0,   28,   0,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  4, -2,  0, 0, 0, 0, 0, 1,    0,  -7,   -4,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  4, -2,  0, 0, 0, 0, 0, 2,    8,  -4,    0,  -4),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  4, -2,  0, 0, 0, 0, 0, 0,    0,   0,   -2,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  4, -2,  0, 0, 0, 0, 0, 0,    0,   3,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  5,  0,-4, 0, 0, 0, 2,   -3,   0,    0,   1),
+        /* Sort by the larger of the two, keeping the original order of ties. */
+            final Integer idx[] = new Integer[n];
+            for (int i = 0; i < n; i++) idx[i] = i;
+            java.util.Arrays.sort(idx, new java.util.Comparator<Integer>() {
+                @Override
+                public int compare(Integer a, Integer b) {
+                    return Double.compare(max(ap[b], ae[b]), max(ap[a], ae[a]));
+                }
+            });
+
+            order = new int[n];
+            tailp = new double[n + 1];
+            taile = new double[n + 1];
+            for (int i = 0; i < n; i++) order[i] = idx[i];
+            for (int i = n - 1; i >= 0; i--) {
+                tailp[i] = tailp[i+1] + ap[order[i]];
+                taile[i] = taile[i+1] + ae[order[i]];
+            }
+        }
 
-       /* 601-610 */
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  5,  0,-3, 0, 0, 0, 2,   -9,   0,    1,   4),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  5,  0,-2, 0, 0, 0, 2,    3,  12,    5,  -1),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  3,  0,  0, 0, 0, 0, 0, 2,   17,  -3,   -1,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0, -8,  8,  0, 0, 0, 0, 0, 1,    0,   7,    4,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  8, -8,  0, 0, 0, 0, 0, 0,   19,   0,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  5, -3,  0, 0, 0, 0, 0, 1,    0,  -5,   -3,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  5, -3,  0, 0, 0, 0, 0, 2,   14,  -3,    0,  -1),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0, -9,  9,  0, 0, 0, 0, 0, 1,    0,   0,   -1,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0, -9,  9,  0, 0, 0, 0, 0, 1,    0,   0,    0,  -5),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0, -9,  9,  0, 0, 0, 0, 0, 1,    0,   5,    3,   0),
+        /**
+         * The number of terms, largest first, for which the sum of the
+         * amplitudes of those left out is within acc in both components.
+         */
+        static int terms(double acc) {
+            int lo = 0, hi = order.length;
+            while (lo < hi) {
+                final int m = (lo + hi) >>> 1;
+                if (tailp[m] <= acc && taile[m] <= acc) {
+                    hi = m;
+                } else {
+                    lo = m + 1;
+                }
+            }
+            return lo;
+        }
+    }
 
-       /* 611-620 */
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  9, -9,  0, 0, 0, 0, 0, 0,   13,   0,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  6, -4,  0, 0, 0, 0, 0, 1,    0,  -3,   -2,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  6,  0, 0, 0, 0, 0, 2,    2,   9,    4,   3),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  6,  0, 0, 0, 0, 0, 0,    0,   0,    0,  -4),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  6,  0, 0, 0, 0, 0, 0,    8,   0,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  6,  0, 0, 0, 0, 0, 1,    0,   4,    2,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  6,  0, 0, 0, 0, 0, 2,    6,   0,    0,  -3),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  6,  0, 0, 0, 0, 0, 0,    6,   0,    0,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  6,  0, 0, 0, 0, 0, 1,    0,   3,    1,   0),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  6,  0, 0, 0, 0, 0, 2,    5,   0,    0,  -2),
+    /**
+    **  Nutation, IAU 2000A model, truncated to a given accuracy.
+    **
+    **<p>Status:  canonical model (truncated).
+    **
+    **<!-- Given: -->
+    **     @param date1,date2    double    TT as a 2-part Julian Date (Note 1 of jauNut00a)
+    **     @param acc            double    accuracy required (radians, Note 1)
+    **
+    ** <!-- Returned (function value): -->
+    **  @return NutationTerms  nutation, luni-solar + planetary (Note 2 of jauNut00a)
+    **
+    ** <p>Notes:
+    ** <ol>
+    **
+    ** <li> The terms of the IAU 2000A series, luni-solar and planetary, are
+    **     summed in order of decreasing amplitude until the sum of the
+    **     amplitudes of the terms left out is no more than acc, in
+    **     longitude and in obliquity.  This bounds the difference from
+    **     jauNut00a by acc for dates within a century of J2000.0; the
+    **     actual difference is usually several times smaller.  Further
+    **     from J2000.0 the bound grows with the t-dependent terms.
+    **
+    ** <li> With acc = DMAS2R (1 mas), 444 of the 1365 terms are used, and
+    **     the actual difference from jauNut00a over 1900-2100 is below
+    **     0.2 mas (the largest found, over 300000 dates, was 0.176 mas,
+    **     in 1955);  with 0.1 mas, 1059 terms are used.  If acc is zero or
+    **     negative the result is that of jauNut00a.
+    **
+    ** <li> The accuracy is with respect to jauNut00a, not to the actual
+    **     nutation; see Note 4 of jauNut00a.  For comparison, the 77-term
+    **     jauNut00b is good to about 1 mas over 1995-2050.
+    **</ol>
+    **<p>Called:<ul>
+    **     <li>{@link #jauFa03} fundamental arguments, IERS 2003
+    ** </ul>
+    */
+    public static NutationTerms jauNut00a(double date1, double date2, double acc)
+    {
+       return jauNut00a(jauFa03(date1, date2), acc);
 
-       /* 621-630 */
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  0,  0, 0, 0, 0, 0, 2,    3,   0,    0,  -1),
-          new PlanetaryNutModel( 1, 0,-2, 0, 0,  0,  2,  0,-2, 0, 0, 0, 0,   -3,   0,    0,   0),
-          new PlanetaryNutModel( 1, 0,-2, 0, 0,  2, -2,  0, 0, 0, 0, 0, 0,    6,   0,    0,   0),
-          new PlanetaryNutModel( 1, 0,-2, 0, 0,  0,  1,  0,-1, 0, 0, 0, 0,    7,   0,    0,   0),
-          new PlanetaryNutModel( 1, 0,-2, 0, 0,  1, -1,  0, 0, 0, 0, 0, 0,   -4,   0,    0,   0),
-          new PlanetaryNutModel(-1, 0, 0, 0, 0,  3, -3,  0, 0, 0, 0, 0, 0,    4,   0,    0,   0),
-          new PlanetaryNutModel(-1, 0, 0, 0, 0,  0,  2,  0,-2, 0, 0, 0, 0,    6,   0,    0,   0),
-          new PlanetaryNutModel(-1, 0, 2, 0, 0,  0,  4, -8, 3, 0, 0, 0, 0,    0,  -4,    0,   0),
-          new PlanetaryNutModel( 1, 0,-2, 0, 0,  0,  4, -8, 3, 0, 0, 0, 0,    0,  -4,    0,   0),
-          new PlanetaryNutModel(-2, 0, 2, 0, 0,  0,  4, -8, 3, 0, 0, 0, 0,    5,   0,    0,   0),
+        }
 
-       /* 631-640 */
-          new PlanetaryNutModel(-1, 0, 0, 0, 0,  0,  2,  0,-3, 0, 0, 0, 0,   -3,   0,    0,   0),
-          new PlanetaryNutModel(-1, 0, 0, 0, 0,  0,  1,  0,-1, 0, 0, 0, 0,    4,   0,    0,   0),
-          new PlanetaryNutModel(-1, 0, 0, 0, 0,  1, -1,  0, 0, 0, 0, 0, 0,   -5,   0,    0,   0),
-          new PlanetaryNutModel(-1, 0, 2, 0, 0,  2, -2,  0, 0, 0, 0, 0, 0,    4,   0,    0,   0),
-          new PlanetaryNutModel( 1,-1, 1, 0, 0,  0,  1,  0, 0, 0, 0, 0, 0,    0,   3,    0,   0),
-          new PlanetaryNutModel(-1, 0, 2, 0, 0,  0,  2,  0,-3, 0, 0, 0, 0,   13,   0,    0,   0),
-          new PlanetaryNutModel(-2, 0, 0, 0, 0,  0,  2,  0,-3, 0, 0, 0, 0,   21,  11,    0,   0),
-          new PlanetaryNutModel( 1, 0, 0, 0, 0,  0,  4, -8, 3, 0, 0, 0, 0,    0,  -5,    0,   0),
-          new PlanetaryNutModel(-1, 1,-1, 1, 0,  0, -1,  0, 0, 0, 0, 0, 0,    0,  -5,   -2,   0),
-          new PlanetaryNutModel( 1, 1,-1, 1, 0,  0, -1,  0, 0, 0, 0, 0, 0,    0,   5,    3,   0),
+    /**
+    **  Nutation, IAU 2000A model, truncated to a given accuracy, from
+    **  fundamental arguments already evaluated.
+    **  See {@link #jauNut00a(double, double, double)}.
+    **
+    **<!-- Given: -->
+    **     @param args    FundamentalArguments  TT date and fundamental arguments,
+    **                                          see {@link #jauFa03}
+    **     @param acc     double                accuracy required (radians)
+    **
+    ** <!-- Returned (function value): -->
+    **  @return NutationTerms  nutation, luni-solar + planetary (Note 2 of jauNut00a)
+    */
+    public static NutationTerms jauNut00a(FundamentalArguments args, double acc)
+    {
+       int i, j, k, n;
+       double t, el, elp, f, d, om, al, af, ad, aom, alne, arg, sarg, carg,
+              dpls, dels, dppl, depl;
 
-       /* 641-650 */
-          new PlanetaryNutModel(-1, 0, 0, 0, 0,  0,  4, -8, 3, 0, 0, 0, 0,    0,  -5,    0,   0),
-          new PlanetaryNutModel(-1, 0, 2, 1, 0,  0,  2,  0,-2, 0, 0, 0, 0,   -3,   0,    0,   2),
-          new PlanetaryNutModel( 0, 0, 0, 0, 0,  0,  2,  0,-2, 0, 0, 0, 0,   20,  10,    0,   0),
-          new PlanetaryNutModel(-1, 0, 2, 0, 0,  0,  2,  0,-2, 0, 0, 0, 0,  -34,   0,    0,   0),
-          new PlanetaryNutModel(-1, 0, 2, 0, 0,  3, -3,  0, 0, 0, 0, 0, 0,  -19,   0,    0,   0),
-          new PlanetaryNutModel( 1, 0,-2, 1, 0,  0, -2,  0, 2, 0, 0, 0, 0,    3,   0,    0,  -2),
-          new PlanetaryNutModel( 1, 2,-2, 2, 0, -3,  3,  0, 0, 0, 0, 0, 0,   -3,   0,    0,   1),
-          new PlanetaryNutModel( 1, 2,-2, 2, 0,  0, -2,  0, 2, 0, 0, 0, 0,   -6,   0,    0,   3),
-          new PlanetaryNutModel( 1, 0, 0, 0, 0,  1, -1,  0, 0, 0, 0, 0, 0,   -4,   0,    0,   0),
-          new PlanetaryNutModel( 1, 0, 0, 0, 0,  0,  1,  0,-1, 0, 0, 0, 0,    3,   0,    0,   0),
-
-       /* 651-660 */
-          new PlanetaryNutModel( 0, 0,-2, 0, 0,  2, -2,  0, 0, 0, 0, 0, 0,    3,   0,    0,   0),
-          new PlanetaryNutModel( 0, 0,-2, 0, 0,  0,  1,  0,-1, 0, 0, 0, 0,    4,   0,    0,   0),
-          new PlanetaryNutModel( 0, 2, 0, 2, 0, -2,  2,  0, 0, 0, 0, 0, 0,    3,   0,    0,  -1),
-          new PlanetaryNutModel( 0, 2, 0, 2, 0,  0, -1,  0, 1, 0, 0, 0, 0,    6,   0,    0,  -3),
-          new PlanetaryNutModel( 0, 2, 0, 2, 0, -1,  1,  0, 0, 0, 0, 0, 0,   -8,   0,    0,   3),
-          new PlanetaryNutModel( 0, 2, 0, 2, 0, -2,  3,  0, 0, 0, 0, 0, 0,    0,   3,    1,   0),
-          new PlanetaryNutModel( 0, 0, 2, 0, 0,  0,  2,  0,-2, 0, 0, 0, 0,   -3,   0,    0,   0),
-          new PlanetaryNutModel( 0, 1, 1, 2, 0,  0,  1,  0, 0, 0, 0, 0, 0,    0,  -3,   -2,   0),
-          new PlanetaryNutModel( 1, 2, 0, 2, 0,  0,  1,  0, 0, 0, 0, 0, 0,  126, -63,  -27, -55),
-          new PlanetaryNutModel(-1, 2, 0, 2, 0, 10, -3,  0, 0, 0, 0, 0, 0,   -5,   0,    1,   2),
-
-       /* 661-670 */
-          new PlanetaryNutModel( 0, 1, 1, 1, 0,  0,  1,  0, 0, 0, 0, 0, 0,   -3,  28,   15,   2),
-          new PlanetaryNutModel( 1, 2, 0, 2, 0,  0,  1,  0, 0, 0, 0, 0, 0,    5,   0,    1,  -2),
-          new PlanetaryNutModel( 0, 2, 0, 2, 0,  0,  4, -8, 3, 0, 0, 0, 0,    0,   9,    4,   1),
-          new PlanetaryNutModel( 0, 2, 0, 2, 0,  0, -4,  8,-3, 0, 0, 0, 0,    0,   9,    4,  -1),
-          new PlanetaryNutModel(-1, 2, 0, 2, 0,  0, -4,  8,-3, 0, 0, 0, 0, -126, -63,  -27,  55),
-          new PlanetaryNutModel( 2, 2,-2, 2, 0,  0, -2,  0, 3, 0, 0, 0, 0,    3,   0,    0,  -1),
-          new PlanetaryNutModel( 1, 2, 0, 1, 0,  0, -2,  0, 3, 0, 0, 0, 0,   21, -11,   -6, -11),
-          new PlanetaryNutModel( 0, 1, 1, 0, 0,  0,  1,  0, 0, 0, 0, 0, 0,    0,  -4,    0,   0),
-          new PlanetaryNutModel(-1, 2, 0, 1, 0,  0,  1,  0, 0, 0, 0, 0, 0,  -21, -11,   -6,  11),
-          new PlanetaryNutModel(-2, 2, 2, 2, 0,  0,  2,  0,-2, 0, 0, 0, 0,   -3,   0,    0,   1),
-
-       /* 671-680 */
-          new PlanetaryNutModel( 0, 2, 0, 2, 0,  2, -3,  0, 0, 0, 0, 0, 0,    0,   3,    1,   0),
-          new PlanetaryNutModel( 0, 2, 0, 2, 0,  1, -1,  0, 0, 0, 0, 0, 0,    8,   0,    0,  -4),
-          new PlanetaryNutModel( 0, 2, 0, 2, 0,  0,  1,  0,-1, 0, 0, 0, 0,   -6,   0,    0,   3),
-          new PlanetaryNutModel( 0, 2, 0, 2, 0,  2, -2,  0, 0, 0, 0, 0, 0,   -3,   0,    0,   1),
-          new PlanetaryNutModel(-1, 2, 2, 2, 0,  0, -1,  0, 1, 0, 0, 0, 0,    3,   0,    0,  -1),
-          new PlanetaryNutModel( 1, 2, 0, 2, 0, -1,  1,  0, 0, 0, 0, 0, 0,   -3,   0,    0,   1),
-          new PlanetaryNutModel(-1, 2, 2, 2, 0,  0,  2,  0,-3, 0, 0, 0, 0,   -5,   0,    0,   2),
-          new PlanetaryNutModel( 2, 2, 0, 2, 0,  0,  2,  0,-3, 0, 0, 0, 0,   24, -12,   -5, -11),
-          new PlanetaryNutModel( 1, 2, 0, 2, 0,  0, -4,  8,-3, 0, 0, 0, 0,    0,   3,    1,   0),
-          new PlanetaryNutModel( 1, 2, 0, 2, 0,  0,  4, -8, 3, 0, 0, 0, 0,    0,   3,    1,   0),
-
-       /* 681-687 */
-          new PlanetaryNutModel( 1, 1, 1, 1, 0,  0,  1,  0, 0, 0, 0, 0, 0,    0,   3,    2,   0),
-          new PlanetaryNutModel( 0, 2, 0, 2, 0,  0,  1,  0, 0, 0, 0, 0, 0,  -24, -12,   -5,  10),
-          new PlanetaryNutModel( 2, 2, 0, 1, 0,  0,  1,  0, 0, 0, 0, 0, 0,    4,   0,   -1,  -2),
-          new PlanetaryNutModel(-1, 2, 2, 2, 0,  0,  2,  0,-2, 0, 0, 0, 0,   13,   0,    0,  -6),
-          new PlanetaryNutModel(-1, 2, 2, 2, 0,  3, -3,  0, 0, 0, 0, 0, 0,    7,   0,    0,  -3),
-          new PlanetaryNutModel( 1, 2, 0, 2, 0,  1, -1,  0, 0, 0, 0, 0, 0,    3,   0,    0,  -1),
-          new PlanetaryNutModel( 0, 2, 2, 2, 0,  0,  2,  0,-2, 0, 0, 0, 0,    3,   0,    0,  -1)
-       };
+    /* Units of 0.1 microarcsecond to radians */
+       final double U2R = DAS2R / 1e7;
 
-    /* Number of terms in the planetary nutation model */
-       final int NPL = xpl.length;
+       if (acc <= 0.0) return jauNut00a(args);
 
-    /*--------------------------------------------------------------------*/
+    /* Number of terms needed, and the tables. */
+       n = Nut00aSorted.terms(acc / U2R);
+       final int order[] = Nut00aSorted.order;
+       final int NLS = Nut00aLuniSolar.NLS;
 
     /* Interval between fundamental date J2000.0 and given date (JC). */
-       t = ((date1 - DJ00) + date2) / DJC;
-
-    /* ------------------- */
-    /* LUNI-SOLAR NUTATION */
-    /* ------------------- */
-
-    /* Fundamental (Delaunay) arguments */
+       t = args.t;
 
-    /* Mean anomaly of the Moon (IERS 2003). */
-       el = jauFal03(t);
-
-    /* Mean anomaly of the Sun (MHB2000). */
+    /* Arguments for the luni-solar terms, as jauNut00a. */
+       el = args.l;
        elp = fmod(1287104.79305  +
                 t * (129596581.0481  +
                 t * (-0.5532  +
                 t * (0.000136  +
                 t * (-0.00001149)))), TURNAS) * DAS2R;
-
-    /* Mean longitude of the Moon minus that of the ascending node */
-    /* (IERS 2003. */
-       f = jauFaf03(t);
-
-    /* Mean elongation of the Moon from the Sun (MHB2000). */
+       f = args.f;
        d = fmod(1072260.70369  +
               t * (1602961601.2090  +
               t * (-6.3706  +
               t * (0.006593  +
               t * (-0.00003169)))), TURNAS) * DAS2R;
+       om = args.om;
 
-    /* Mean longitude of the ascending node of the Moon (IERS 2003). */
-       om = jauFaom03(t);
-
-    /* Initialize the nutation values. */
-       dp = 0.0;
-       de = 0.0;
-
-    /* Summation of luni-solar nutation series (in reverse order). */
-       for (i = NLS-1; i >= 0; i--) {
-
-       /* Argument and functions. */
-          arg = fmod((double)xls[i].nl  * el +
-                     (double)xls[i].nlp * elp +
-                     (double)xls[i].nf  * f +
-                     (double)xls[i].nd  * d +
-                     (double)xls[i].nom * om, D2PI);
-          sarg = sin(arg);
-          carg = cos(arg);
-
-       /* Term. */
-          dp += (xls[i].sp + xls[i].spt * t) * sarg + xls[i].cp * carg;
-          de += (xls[i].ce + xls[i].cet * t) * carg + xls[i].se * sarg;
-       }
-
-    /* Convert from 0.1 microarcsec units to radians. */
-       dpsils = dp * U2R;
-       depsls = de * U2R;
-
-    /* ------------------ */
-    /* PLANETARY NUTATION */
-    /* ------------------ */
-
-    /* n.b.  The MHB2000 code computes the luni-solar and planetary nutation */
-    /* in different functions, using slightly different Delaunay */
-    /* arguments in the two cases.  This behaviour is faithfully */
-    /* reproduced here.  Use of the IERS 2003 expressions for both */
-    /* cases leads to negligible changes, well below */
-    /* 0.1 microarcsecond. */
-
-    /* Mean anomaly of the Moon (MHB2000). */
+    /* Arguments for the planetary terms, as jauNut00a. */
        al = fmod(2.35555598 + 8328.6914269554 * t, D2PI);
-
-    /* Mean longitude of the Moon minus that of the ascending node */
-    /*(MHB2000). */
        af = fmod(1.627905234 + 8433.466158131 * t, D2PI);
-
-    /* Mean elongation of the Moon from the Sun (MHB2000). */
        ad = fmod(5.198466741 + 7771.3771468121 * t, D2PI);
-
-    /* Mean longitude of the ascending node of the Moon (MHB2000). */
        aom = fmod(2.18243920 - 33.757045 * t, D2PI);
-
-    /* General accumulated precession in longitude (IERS 2003). */
-       apa = jauFapa03(t);
-
-    /* Planetary longitudes, Mercury through Uranus (IERS 2003). */
-       alme = jauFame03(t);
-       alve = jauFave03(t);
-       alea = jauFae03(t);
-       alma = jauFama03(t);
-       alju = jauFaju03(t);
-       alsa = jauFasa03(t);
-       alur = jauFaur03(t);
-
-    /* Neptune longitude (MHB2000). */
        alne = fmod(5.321159000 + 3.8127774000 * t, D2PI);
 
-    /* Initialize the nutation values. */
-       dp = 0.0;
-       de = 0.0;
-
-    /* Summation of planetary nutation series (in reverse order). */
-       for (i = NPL-1; i >= 0; i--) {
-
-       /* Argument and functions. */
-          arg = fmod((double)xpl[i].nl  * al   +
-                     (double)xpl[i].nf  * af   +
-                     (double)xpl[i].nd  * ad   +
-                     (double)xpl[i].nom * aom  +
-                     (double)xpl[i].nme * alme +
-                     (double)xpl[i].nve * alve +
-                     (double)xpl[i].nea * alea +
-                     (double)xpl[i].nma * alma +
-                     (double)xpl[i].nju * alju +
-                     (double)xpl[i].nsa * alsa +
-                     (double)xpl[i].nur * alur +
-                     (double)xpl[i].nne * alne +
-                     (double)xpl[i].npa * apa, D2PI);
-          sarg = sin(arg);
-          carg = cos(arg);
-
-       /* Term. */
-          dp += (double)xpl[i].sp * sarg + (double)xpl[i].cp * carg;
-          de += (double)xpl[i].se * sarg + (double)xpl[i].ce * carg;
-
+    /* Sum the terms used, smallest first. */
+       dpls = dels = dppl = depl = 0.0;
+       for (k = n-1; k >= 0; k--) {
+          i = order[k];
+          if (i < NLS) {
+             arg = fmod((double)Nut00aLuniSolar.nl[i]  * el +
+                        (double)Nut00aLuniSolar.nlp[i] * elp +
+                        (double)Nut00aLuniSolar.nf[i]  * f +
+                        (double)Nut00aLuniSolar.nd[i]  * d +
+                        (double)Nut00aLuniSolar.nom[i] * om, D2PI);
+             sarg = sin(arg);
+             carg = cos(arg);
+             dpls += (Nut00aLuniSolar.sp[i] + Nut00aLuniSolar.spt[i] * t) * sarg
+                   + Nut00aLuniSolar.cp[i] * carg;
+             dels += (Nut00aLuniSolar.ce[i] + Nut00aLuniSolar.cet[i] * t) * carg
+                   + Nut00aLuniSolar.se[i] * sarg;
+          } else {
+             j = i - NLS;
+             arg = fmod((double)Nut00aPlanetary.nl[j]  * al   +
+                        (double)Nut00aPlanetary.nf[j]  * af   +
+                        (double)Nut00aPlanetary.nd[j]  * ad   +
+                        (double)Nut00aPlanetary.nom[j] * aom  +
+                        (double)Nut00aPlanetary.nme[j] * args.me +
+                        (double)Nut00aPlanetary.nve[j] * args.ve +
+                        (double)Nut00aPlanetary.nea[j] * args.ea +
+                        (double)Nut00aPlanetary.nma[j] * args.ma +
+                        (double)Nut00aPlanetary.nju[j] * args.ju +
+                        (double)Nut00aPlanetary.nsa[j] * args.sa +
+                        (double)Nut00aPlanetary.nur[j] * args.ur +
+                        (double)Nut00aPlanetary.nne[j] * alne +
+                        (double)Nut00aPlanetary.npa[j] * args.pa, D2PI);
+             sarg = sin(arg);
+             carg = cos(arg);
+             dppl += Nut00aPlanetary.sp[j] * sarg + Nut00aPlanetary.cp[j] * carg;
+             depl += Nut00aPlanetary.se[j] * sarg + Nut00aPlanetary.ce[j] * carg;
+          }
        }
 
-    /* Convert from 0.1 microarcsec units to radians. */
-       dpsipl = dp * U2R;
-       depspl = de * U2R;
-
-    /* ------- */
-    /* RESULTS */
-    /* ------- */
+    /* Convert from 0.1 microarcsec units to radians and add. */
+       return new NutationTerms(dpls * U2R + dppl * U2R,
+                                dels * U2R + depl * U2R);
 
-    /* Add luni-solar and planetary components. */
-       return new NutationTerms( dpsils + dpsipl,
-                               depsls + depspl);
-       }
+        }
     
 
     /**
@@ -14912,37 +15702,406 @@ public static class SphericalCoordinateEO {
     **
     **       <li>  More is done in-line: there are fewer calls to subroutines.
     **
-    **       <li>  Different error/warning status values are used.
+    **       <li>  Different error/warning status values are used.
+    **
+    **       <li>  A different Kepler's-equation-solver is used (avoiding
+    **          use of double precision complex).
+    **
+    **       <li>  Polynomials in t are nested to minimize rounding errors.
+    **
+    **       <li>  Explicit double constants are used to avoid mixed-mode
+    **          expressions.
+    **</ul>
+    **     None of the above changes affects the result significantly.
+    **
+    ** <li> The returned status indicates the most serious condition
+    **     encountered during execution of the function.  Illegal np is
+    **     considered the most serious, overriding failure to converge,
+    **     which in turn takes precedence over the remote date warning.
+    **</ol>
+    **<p>Called:<ul>
+    **     <li>{@link #jauAnp} normalize angle into range 0 to 2pi
+    ** </ul>
+    **<p>Reference:  Simon, J.L, Bretagnon, P., Chapront, J.,
+    **              Chapront-Touze, M., Francou, G., and Laskar, J.,
+    **              Astron. Astrophys. 282, 663 (1994).
+    **
+    **<p>This revision:  2009 December 17
+    **
+    **  @since Release 20101201
+    **
+    **  <!-- Copyright (C) 2009 IAU SOFA Review Board.  See notes at end -->
+    */
+    public static int jauPlan94(double date1, double date2, int np, double pv[][])
+    {
+       int i, k, jstat;
+       final double w[] = new double[6];
+
+    /* Validate the planet number. */
+       if ((np < 1) || (np > 8)) {
+          jstat = -1;
+
+       /* Reset the result in case of failure. */
+          for (k = 0; k < 2; k++) {
+             for (i = 0; i < 3; i++) {
+                pv[k][i] = 0.0;
+             }
+          }
+
+       } else {
+
+       /* Time: Julian millennia since J2000.0; planet number from zero. */
+          jstat = plan94(new double[] { ((date1 - DJ00) + date2) / DJM },
+                         new int[] { np - 1 }, 1, Plan94.use[np - 1], w);
+          for (k = 0; k < 2; k++) {
+             for (i = 0; i < 3; i++) {
+                pv[k][i] = w[3 * k + i];
+             }
+          }
+       }
+
+    /* Return the status. */
+       return jstat;
+
+        }
+
+    /**
+    **  Approximate heliocentric position and velocity of all eight major
+    **  planets at one epoch, into a given array.
+    **  See {@link #jauPlan94(double, double, int, double[][])}.
+    **
+    **<p>Status:  support function.
+    **
+    **<!-- Given: -->
+    **     @param date1   double        TDB date part A (Note 1 of jauPlan94)
+    **     @param date2   double        TDB date part B (Note 1 of jauPlan94)
+    **
+    **<!-- Returned: -->
+    **     @param pv      double[48]    <u>returned</u> for planets 1-8 in turn, heliocentric
+    **                                  x,y,z (AU) then xdot,ydot,zdot (AU/d), J2000.0
+    **
+    ** <!-- Returned (function value): -->
+    **  @return int          status:  0 = OK
+    **                               +1 = warning: year outside 1000-3000
+    **                               +2 = warning: failed to converge (any planet)
+    **
+    ** <p>Notes:
+    ** <ol>
+    **
+    ** <li> The results are identical to those of eight calls of jauPlan94
+    **     with np = 1 to 8.  The time arguments, and the sines and cosines
+    **     of the periodic terms that several planets share, are computed
+    **     once, and each stage (mean elements, Kepler's equation, position
+    **     and velocity) is done for all the planets in turn.
+    **
+    ** <li> Planet np is at pv[6*(np-1)] to pv[6*(np-1)+5].  pv may be
+    **     longer than 48;  the elements after the first 48 are not used.
+    **
+    ** </ol>
+    **
+    **  @throws JSOFAIllegalParameter if pv is shorter than 48, status
+    **                                {@link JSOFAIllegalParameter#BATCH_LENGTH}.
+    */
+    public static int jauPlan94(double date1, double date2, double pv[]) throws JSOFAIllegalParameter
+    {
+       if (pv.length < 48)
+          throw new JSOFAIllegalParameter("pv array too short", JSOFAIllegalParameter.BATCH_LENGTH);
+
+       final double t[] = new double[8];
+       final int np[] = new int[8];
+
+       for (int i = 0; i < 8; i++) {
+          t[i] = ((date1 - DJ00) + date2) / DJM;
+          np[i] = i;
+       }
+       return plan94(t, np, 8, Plan94.all, pv);
+    }
+
+    /**
+    **  Approximate heliocentric position and velocity of one major planet
+    **  at many epochs, into a given array.
+    **  See {@link #jauPlan94(double, double, int, double[][])}.
+    **
+    **<p>Status:  support function.
+    **
+    **<!-- Given: -->
+    **     @param date1   double[n]     TDB date part A (Note 1 of jauPlan94)
+    **     @param date2   double[n]     TDB date part B (Note 1 of jauPlan94)
+    **     @param np      int           planet (1=Mercury, 2=Venus, 3=EMB, 4=Mars,
+    **                                  5=Jupiter,  6=Saturn,  7=Uranus, 8=Neptune)
+    **
+    **<!-- Returned: -->
+    **     @param pv      double[6n]    <u>returned</u> for each epoch in turn, heliocentric
+    **                                  x,y,z (AU) then xdot,ydot,zdot (AU/d), J2000.0
     **
-    **       <li>  A different Kepler's-equation-solver is used (avoiding
-    **          use of double precision complex).
+    ** <!-- Returned (function value): -->
+    **  @return int          status: -1 = illegal NP (outside 1-8)
+    **                                0 = OK
+    **                               +1 = warning: year outside 1000-3000 (any epoch)
+    **                               +2 = warning: failed to converge (any epoch)
     **
-    **       <li>  Polynomials in t are nested to minimize rounding errors.
+    ** <p>Notes:
+    ** <ol>
     **
-    **       <li>  Explicit double constants are used to avoid mixed-mode
-    **          expressions.
-    **</ul>
-    **     None of the above changes affects the result significantly.
+    ** <li> The results are identical to those of a call of jauPlan94 for
+    **     each epoch, but each stage (mean elements, Kepler's equation,
+    **     position and velocity) is done for all the epochs in turn.
     **
-    ** <li> The returned status indicates the most serious condition
-    **     encountered during execution of the function.  Illegal np is
-    **     considered the most serious, overriding failure to converge,
-    **     which in turn takes precedence over the remote date warning.
-    **</ol>
-    **<p>Called:<ul>
-    **     <li>{@link #jauAnp} normalize angle into range 0 to 2pi
-    ** </ul>
-    **<p>Reference:  Simon, J.L, Bretagnon, P., Chapront, J.,
-    **              Chapront-Touze, M., Francou, G., and Laskar, J.,
-    **              Astron. Astrophys. 282, 663 (1994).
+    ** <li> If np is illegal, pv is set to zeroes.
     **
-    **<p>This revision:  2009 December 17
+    ** <li> pv may be longer than 6n;  the elements after the first 6n are
+    **     not used.
     **
-    **  @since Release 20101201
+    ** </ol>
     **
-    **  <!-- Copyright (C) 2009 IAU SOFA Review Board.  See notes at end -->
+    **  @throws JSOFAIllegalParameter if date1 and date2 differ in length or
+    **                                pv is shorter than 6n, status
+    **                                {@link JSOFAIllegalParameter#BATCH_LENGTH}.
     */
-    public static int jauPlan94(double date1, double date2, int np, double pv[][])
+    public static int jauPlan94(double date1[], double date2[], int np, double pv[]) throws JSOFAIllegalParameter
+    {
+       final int n = date1.length;
+       if (date2.length != n || pv.length < 6L * n)
+          throw new JSOFAIllegalParameter("batch arrays differ in length", JSOFAIllegalParameter.BATCH_LENGTH);
+
+    /* Validate the planet number. */
+       if ((np < 1) || (np > 8)) {
+          for (int i = 0; i < 6 * n; i++) {
+             pv[i] = 0.0;
+          }
+          return -1;
+       }
+
+       final double t[] = new double[n];
+       final int p[] = new int[n];
+       for (int i = 0; i < n; i++) {
+          t[i] = ((date1[i] - DJ00) + date2[i]) / DJM;
+          p[i] = np - 1;
+       }
+       return plan94(t, p, n, Plan94.use[np - 1], pv);
+    }
+
+    /**
+     * Tables for {@link #jauPlan94}, from Simon et al. (1994).
+     *
+     * The multipliers of the argument of the periodic terms (kp and kq)
+     * are integers, many of them shared between planets; mult lists each
+     * distinct value once so that its sine and cosine need be computed only
+     * once per epoch.
+     */
+    private static final class Plan94 {
+        /* Planetary inverse masses */
+        static final double amas[] = { 6023600.0,       /* Mercury */
+                                        408523.5,       /* Venus   */
+                                        328900.5,       /* EMB     */
+                                       3098710.0,       /* Mars    */
+                                          1047.355,     /* Jupiter */
+                                          3498.5,       /* Saturn  */
+                                         22869.0,       /* Uranus  */
+                                         19314.0 };     /* Neptune */
+
+        /*
+        ** Tables giving the mean Keplerian elements, limited to t^2 terms:
+        **
+        **   a       semi-major axis (AU)
+        **   dlm     mean longitude (degree and arcsecond)
+        **   e       eccentricity
+        **   pi      longitude of the perihelion (degree and arcsecond)
+        **   dinc    inclination (degree and arcsecond)
+        **   omega   longitude of the ascending node (degree and arcsecond)
+        */
+
+        static final double a[][] = {
+            {  0.3870983098,           0.0,     0.0 },  /* Mercury */
+            {  0.7233298200,           0.0,     0.0 },  /* Venus   */
+            {  1.0000010178,           0.0,     0.0 },  /* EMB     */
+            {  1.5236793419,         3e-10,     0.0 },  /* Mars    */
+            {  5.2026032092,     19132e-10, -39e-10 },  /* Jupiter */
+            {  9.5549091915, -0.0000213896, 444e-10 },  /* Saturn  */
+            { 19.2184460618,     -3716e-10, 979e-10 },  /* Uranus  */
+            { 30.1103868694,    -16635e-10, 686e-10 }   /* Neptune */
+        };
+
+        static final double dlm[][] = {
+            { 252.25090552, 5381016286.88982,  -1.92789 },
+            { 181.97980085, 2106641364.33548,   0.59381 },
+            { 100.46645683, 1295977422.83429,  -2.04411 },
+            { 355.43299958,  689050774.93988,   0.94264 },
+            {  34.35151874,  109256603.77991, -30.60378 },
+            {  50.07744430,   43996098.55732,  75.61614 },
+            { 314.05500511,   15424811.93933,  -1.75083 },
+            { 304.34866548,    7865503.20744,   0.21103 }
+        };
+
+        static final double e[][] = {
+            { 0.2056317526,  0.0002040653,    -28349e-10 },
+            { 0.0067719164, -0.0004776521,     98127e-10 },
+            { 0.0167086342, -0.0004203654, -0.0000126734 },
+            { 0.0934006477,  0.0009048438,    -80641e-10 },
+            { 0.0484979255,  0.0016322542, -0.0000471366 },
+            { 0.0555481426, -0.0034664062, -0.0000643639 },
+            { 0.0463812221, -0.0002729293,  0.0000078913 },
+            { 0.0094557470,  0.0000603263,           0.0 }
+        };
+
+        static final double pi[][] = {
+            {  77.45611904,  5719.11590,   -4.83016 },
+            { 131.56370300,   175.48640, -498.48184 },
+            { 102.93734808, 11612.35290,   53.27577 },
+            { 336.06023395, 15980.45908,  -62.32800 },
+            {  14.33120687,  7758.75163,  259.95938 },
+            {  93.05723748, 20395.49439,  190.25952 },
+            { 173.00529106,  3215.56238,  -34.09288 },
+            {  48.12027554,  1050.71912,   27.39717 }
+        };
+
+        static final double dinc[][] = {
+            { 7.00498625, -214.25629,   0.28977 },
+            { 3.39466189,  -30.84437, -11.67836 },
+            {        0.0,  469.97289,  -3.35053 },
+            { 1.84972648, -293.31722,  -8.11830 },
+            { 1.30326698,  -71.55890,  11.95297 },
+            { 2.48887878,   91.85195, -17.66225 },
+            { 0.77319689,  -60.72723,   1.25759 },
+            { 1.76995259,    8.12333,   0.08135 }
+        };
+
+        static final double omega[][] = {
+            {  48.33089304,  -4515.21727,  -31.79892 },
+            {  76.67992019, -10008.48154,  -51.32614 },
+            { 174.87317577,  -8679.27034,   15.34191 },
+            {  49.55809321, -10620.90088, -230.57416 },
+            { 100.46440702,   6362.03561,  326.52178 },
+            { 113.66550252,  -9240.19942,  -66.23743 },
+            {  74.00595701,   2669.15033,  145.93964 },
+            { 131.78405702,   -221.94322,   -0.78728 }
+        };
+
+        /* Tables for trigonometric terms to be added to the mean elements of */
+        /* the semi-major axes */
+
+        static final double kp[][] = {
+         {   69613, 75645, 88306, 59899, 15746, 71087, 142173,  3086,    0 },
+         {   21863, 32794, 26934, 10931, 26250, 43725,  53867, 28939,    0 },
+         {   16002, 21863, 32004, 10931, 14529, 16368,  15318, 32794,    0 },
+         {    6345,  7818, 15636,  7077,  8184, 14163,   1107,  4872,    0 },
+         {    1760,  1454,  1167,   880,   287,  2640,     19,  2047, 1454 },
+         {     574,     0,   880,   287,    19,  1760,   1167,   306,  574 },
+         {     204,     0,   177,  1265,     4,   385,    200,   208,  204 },
+         {       0,   102,   106,     4,    98,  1367,    487,   204,    0 }
+        };
+
+        static final double ca[][] = {
+         {       4,    -13,    11,   -9,    -9,   -3,     -1,     4,     0 },
+         {    -156,     59,   -42,    6,    19,  -20,    -10,   -12,     0 },
+         {      64,   -152,    62,   -8,    32,  -41,     19,   -11,     0 },
+         {     124,    621,  -145,  208,    54,  -57,     30,    15,     0 },
+         {  -23437,  -2634,  6601, 6259, -1507,-1821,   2620, -2115, -1489 },
+         {   62911,-119919, 79336,17814,-24241,12068,   8306, -4893,  8902 },
+         {  389061,-262125,-44088, 8387,-22976,-2093,   -615, -9720,  6633 },
+         { -412235,-157046,-31430,37817, -9740,  -13,  -7449,  9644,     0 }
+        };
+
+        static final double sa[][] = {
+         {     -29,    -1,     9,     6,    -6,     5,     4,     0,     0 },
+         {     -48,  -125,   -26,   -37,    18,   -13,   -20,    -2,     0 },
+         {    -150,   -46,    68,    54,    14,    24,   -28,    22,     0 },
+         {    -621,   532,  -694,   -20,   192,   -94,    71,   -73,     0 },
+         {  -14614,-19828, -5869,  1881, -4372, -2255,   782,   930,   913 },
+         {  139737,     0, 24667, 51123, -5102,  7429, -4095, -1976, -9566 },
+         { -138081,     0, 37205,-49039,-41901,-33872,-27037,-12474, 18797 },
+         {       0, 28492,133236, 69654, 52322,-49577,-26430, -3593,     0 }
+        };
+
+        /* Tables giving the trigonometric terms to be added to the mean */
+        /* elements of the mean longitudes */
+
+        static final double kq[][] = {
+         {   3086,15746,69613,59899,75645,88306, 12661,  2658,    0,     0 },
+         {  21863,32794,10931,   73, 4387,26934,  1473,  2157,    0,     0 },
+         {     10,16002,21863,10931, 1473,32004,  4387,    73,    0,     0 },
+         {     10, 6345, 7818, 1107,15636, 7077,  8184,   532,   10,     0 },
+         {     19, 1760, 1454,  287, 1167,  880,   574,  2640,   19,  1454 },
+         {     19,  574,  287,  306, 1760,   12,    31,    38,   19,   574 },
+         {      4,  204,  177,    8,   31,  200,  1265,   102,    4,   204 },
+         {      4,  102,  106,    8,   98, 1367,   487,   204,    4,   102 }
+        };
+
+        static final double cl[][] = {
+         {      21,   -95, -157,   41,   -5,   42,  23,  30,      0,     0 },
+         {    -160,  -313, -235,   60,  -74,  -76, -27,  34,      0,     0 },
+         {    -325,  -322,  -79,  232,  -52,   97,  55, -41,      0,     0 },
+         {    2268,  -979,  802,  602, -668,  -33, 345, 201,    -55,     0 },
+         {    7610, -4997,-7689,-5841,-2617, 1115,-748,-607,   6074,   354 },
+         {  -18549, 30125,20012, -730,  824,   23,1289,-352, -14767, -2062 },
+         { -135245,-14594, 4197,-4030,-5630,-2898,2540,-306,   2939,  1986 },
+         {   89948,  2103, 8963, 2695, 3682, 1648, 866,-154,  -1963,  -283 }
+        };
+
+        static final double sl[][] = {
+         {   -342,   136,  -23,   62,   66,  -52, -33,    17,     0,     0 },
+         {    524,  -149,  -35,  117,  151,  122, -71,   -62,     0,     0 },
+         {   -105,  -137,  258,   35, -116,  -88,-112,   -80,     0,     0 },
+         {    854,  -205, -936, -240,  140, -341, -97,  -232,   536,     0 },
+         { -56980,  8016, 1012, 1448,-3024,-3710, 318,   503,  3767,   577 },
+         { 138606,-13478,-4964, 1441,-1319,-1482, 427,  1236, -9167, -1918 },
+         {  71234,-41116, 5334,-4935,-1848,   66, 434, -1748,  3780,  -701 },
+         { -47645, 11647, 2166, 3194,  679,    0,-244,  -419, -2531,    48 }
+        };
+
+        /** the distinct values in kp and kq */
+        static final double mult[];
+        /** index in mult of each element of kp and of kq */
+        static final int kpi[][] = new int[8][9], kqi[][] = new int[8][10];
+        /** indexes in mult used by each planet, and by any planet */
+        static final int use[][] = new int[8][], all[];
+
+        static {
+            final double m[] = new double[8 * 19];
+            int nm = 0;
+            for (int np = 0; np < 8; np++) {
+                final boolean used[] = new boolean[m.length];
+                int nu = 0;
+                for (int k = 0; k < 19; k++) {
+                    final double v = k < 9 ? kp[np][k] : kq[np][k - 9];
+                    int j = 0;
+                    while (j < nm && m[j] != v) j++;
+                    if (j == nm) m[nm++] = v;
+                    if (k < 9) {
+                        kpi[np][k] = j;
+                    } else {
+                        kqi[np][k - 9] = j;
+                    }
+                    if (!used[j]) {
+                        used[j] = true;
+                        nu++;
+                    }
+                }
+                use[np] = new int[nu];
+                for (int j = 0, i = 0; j < m.length; j++) {
+                    if (used[j]) use[np][i++] = j;
+                }
+            }
+            mult = new double[nm];
+            all = new int[nm];
+            for (int j = 0; j < nm; j++) {
+                mult[j] = m[j];
+                all[j] = j;
+            }
+        }
+    }
+
+    /**
+     * Heliocentric position and velocity for a batch of planets and epochs,
+     * as {@link #jauPlan94}, computed stage by stage over the whole batch.
+     * @param t     Julian millennia since J2000.0 (TDB) of each entry
+     * @param np    planet of each entry (0-7)
+     * @param n     number of entries
+     * @param mult  indexes in Plan94.mult of the multipliers the planets need
+     * @param pv    <u>returned</u> x,y,z,xdot,ydot,zdot for each entry
+     * @return the most serious status: 0 = OK, +1 = remote date, +2 = failed to converge
+     */
+    private static int plan94(double t[], int np[], int n, int mult[], double pv[])
     {
     /* Gaussian constant */
        final double GK = 0.017202098950;
@@ -14954,236 +16113,84 @@ public static class SphericalCoordinateEO {
     /* Maximum number of iterations allowed to solve Kepler's equation */
        final int KMAX = 10;
 
-       int jstat, i, k;
-       double t, da, dl, de, dp, di, dom, dmu, arga, argl, am,
-              ae, dae, ae2, at, r, v, si2, xq, xp, tl, xsw,
-              xcw, xm2, xf, ci2, xms, xmc, xpxq2, x, y, z;
-
-    /* Planetary inverse masses */
-       final double amas[] = { 6023600.0,       /* Mercury */
-                                       408523.5,       /* Venus   */
-                                       328900.5,       /* EMB     */
-                                      3098710.0,       /* Mars    */
-                                         1047.355,     /* Jupiter */
-                                         3498.5,       /* Saturn  */
-                                        22869.0,       /* Uranus  */
-                                        19314.0 };     /* Neptune */
-
-    /*
-    ** Tables giving the mean Keplerian elements, limited to t^2 terms:
-    **
-    **   a       semi-major axis (AU)
-    **   dlm     mean longitude (degree and arcsecond)
-    **   e       eccentricity
-    **   pi      longitude of the perihelion (degree and arcsecond)
-    **   dinc    inclination (degree and arcsecond)
-    **   omega   longitude of the ascending node (degree and arcsecond)
-    */
-
-       final double a[][] = {
-           {  0.3870983098,           0.0,     0.0 },  /* Mercury */
-           {  0.7233298200,           0.0,     0.0 },  /* Venus   */
-           {  1.0000010178,           0.0,     0.0 },  /* EMB     */
-           {  1.5236793419,         3e-10,     0.0 },  /* Mars    */
-           {  5.2026032092,     19132e-10, -39e-10 },  /* Jupiter */
-           {  9.5549091915, -0.0000213896, 444e-10 },  /* Saturn  */
-           { 19.2184460618,     -3716e-10, 979e-10 },  /* Uranus  */
-           { 30.1103868694,    -16635e-10, 686e-10 }   /* Neptune */
-       };
-
-       final double dlm[][] = {
-           { 252.25090552, 5381016286.88982,  -1.92789 },
-           { 181.97980085, 2106641364.33548,   0.59381 },
-           { 100.46645683, 1295977422.83429,  -2.04411 },
-           { 355.43299958,  689050774.93988,   0.94264 },
-           {  34.35151874,  109256603.77991, -30.60378 },
-           {  50.07744430,   43996098.55732,  75.61614 },
-           { 314.05500511,   15424811.93933,  -1.75083 },
-           { 304.34866548,    7865503.20744,   0.21103 }
-       };
-
-       final double e[][] = {
-           { 0.2056317526,  0.0002040653,    -28349e-10 },
-           { 0.0067719164, -0.0004776521,     98127e-10 },
-           { 0.0167086342, -0.0004203654, -0.0000126734 },
-           { 0.0934006477,  0.0009048438,    -80641e-10 },
-           { 0.0484979255,  0.0016322542, -0.0000471366 },
-           { 0.0555481426, -0.0034664062, -0.0000643639 },
-           { 0.0463812221, -0.0002729293,  0.0000078913 },
-           { 0.0094557470,  0.0000603263,           0.0 }
-       };
-
-       final double pi[][] = {
-           {  77.45611904,  5719.11590,   -4.83016 },
-           { 131.56370300,   175.48640, -498.48184 },
-           { 102.93734808, 11612.35290,   53.27577 },
-           { 336.06023395, 15980.45908,  -62.32800 },
-           {  14.33120687,  7758.75163,  259.95938 },
-           {  93.05723748, 20395.49439,  190.25952 },
-           { 173.00529106,  3215.56238,  -34.09288 },
-           {  48.12027554,  1050.71912,   27.39717 }
-       };
-
-       final double dinc[][] = {
-           { 7.00498625, -214.25629,   0.28977 },
-           { 3.39466189,  -30.84437, -11.67836 },
-           {        0.0,  469.97289,  -3.35053 },
-           { 1.84972648, -293.31722,  -8.11830 },
-           { 1.30326698,  -71.55890,  11.95297 },
-           { 2.48887878,   91.85195, -17.66225 },
-           { 0.77319689,  -60.72723,   1.25759 },
-           { 1.76995259,    8.12333,   0.08135 }
-       };
-
-       final double omega[][] = {
-           {  48.33089304,  -4515.21727,  -31.79892 },
-           {  76.67992019, -10008.48154,  -51.32614 },
-           { 174.87317577,  -8679.27034,   15.34191 },
-           {  49.55809321, -10620.90088, -230.57416 },
-           { 100.46440702,   6362.03561,  326.52178 },
-           { 113.66550252,  -9240.19942,  -66.23743 },
-           {  74.00595701,   2669.15033,  145.93964 },
-           { 131.78405702,   -221.94322,   -0.78728 }
-       };
-
-    /* Tables for trigonometric terms to be added to the mean elements of */
-    /* the semi-major axes */
-
-       final double kp[][] = {
-        {   69613, 75645, 88306, 59899, 15746, 71087, 142173,  3086,    0 },
-        {   21863, 32794, 26934, 10931, 26250, 43725,  53867, 28939,    0 },
-        {   16002, 21863, 32004, 10931, 14529, 16368,  15318, 32794,    0 },
-        {    6345,  7818, 15636,  7077,  8184, 14163,   1107,  4872,    0 },
-        {    1760,  1454,  1167,   880,   287,  2640,     19,  2047, 1454 },
-        {     574,     0,   880,   287,    19,  1760,   1167,   306,  574 },
-        {     204,     0,   177,  1265,     4,   385,    200,   208,  204 },
-        {       0,   102,   106,     4,    98,  1367,    487,   204,    0 }
-       };
-
-       final double ca[][] = {
-        {       4,    -13,    11,   -9,    -9,   -3,     -1,     4,     0 },
-        {    -156,     59,   -42,    6,    19,  -20,    -10,   -12,     0 },
-        {      64,   -152,    62,   -8,    32,  -41,     19,   -11,     0 },
-        {     124,    621,  -145,  208,    54,  -57,     30,    15,     0 },
-        {  -23437,  -2634,  6601, 6259, -1507,-1821,   2620, -2115, -1489 },
-        {   62911,-119919, 79336,17814,-24241,12068,   8306, -4893,  8902 },
-        {  389061,-262125,-44088, 8387,-22976,-2093,   -615, -9720,  6633 },
-        { -412235,-157046,-31430,37817, -9740,  -13,  -7449,  9644,     0 }
-       };
-
-       final double sa[][] = {
-        {     -29,    -1,     9,     6,    -6,     5,     4,     0,     0 },
-        {     -48,  -125,   -26,   -37,    18,   -13,   -20,    -2,     0 },
-        {    -150,   -46,    68,    54,    14,    24,   -28,    22,     0 },
-        {    -621,   532,  -694,   -20,   192,   -94,    71,   -73,     0 },
-        {  -14614,-19828, -5869,  1881, -4372, -2255,   782,   930,   913 },
-        {  139737,     0, 24667, 51123, -5102,  7429, -4095, -1976, -9566 },
-        { -138081,     0, 37205,-49039,-41901,-33872,-27037,-12474, 18797 },
-        {       0, 28492,133236, 69654, 52322,-49577,-26430, -3593,     0 }
-       };
-
-    /* Tables giving the trigonometric terms to be added to the mean */
-    /* elements of the mean longitudes */
-
-       final double kq[][] = {
-        {   3086,15746,69613,59899,75645,88306, 12661,  2658,    0,     0 },
-        {  21863,32794,10931,   73, 4387,26934,  1473,  2157,    0,     0 },
-        {     10,16002,21863,10931, 1473,32004,  4387,    73,    0,     0 },
-        {     10, 6345, 7818, 1107,15636, 7077,  8184,   532,   10,     0 },
-        {     19, 1760, 1454,  287, 1167,  880,   574,  2640,   19,  1454 },
-        {     19,  574,  287,  306, 1760,   12,    31,    38,   19,   574 },
-        {      4,  204,  177,    8,   31,  200,  1265,   102,    4,   204 },
-        {      4,  102,  106,    8,   98, 1367,   487,   204,    4,   102 }
-       };
-
-       final double cl[][] = {
-        {      21,   -95, -157,   41,   -5,   42,  23,  30,      0,     0 },
-        {    -160,  -313, -235,   60,  -74,  -76, -27,  34,      0,     0 },
-        {    -325,  -322,  -79,  232,  -52,   97,  55, -41,      0,     0 },
-        {    2268,  -979,  802,  602, -668,  -33, 345, 201,    -55,     0 },
-        {    7610, -4997,-7689,-5841,-2617, 1115,-748,-607,   6074,   354 },
-        {  -18549, 30125,20012, -730,  824,   23,1289,-352, -14767, -2062 },
-        { -135245,-14594, 4197,-4030,-5630,-2898,2540,-306,   2939,  1986 },
-        {   89948,  2103, 8963, 2695, 3682, 1648, 866,-154,  -1963,  -283 }
-       };
+       int jstat = 0, i, j, k, q;
+       double ti, da, dl, de, dp, di, dom, dmu, am, ae, dae, ae2, at, r, v,
+              si2, xq, xp, tl, xsw, xcw, xm2, xf, ci2, xms, xmc, xpxq2, x, y, z;
 
-       final double sl[][] = {
-        {   -342,   136,  -23,   62,   66,  -52, -33,    17,     0,     0 },
-        {    524,  -149,  -35,  117,  151,  122, -71,   -62,     0,     0 },
-        {   -105,  -137,  258,   35, -116,  -88,-112,   -80,     0,     0 },
-        {    854,  -205, -936, -240,  140, -341, -97,  -232,   536,     0 },
-        { -56980,  8016, 1012, 1448,-3024,-3710, 318,   503,  3767,   577 },
-        { 138606,-13478,-4964, 1441,-1319,-1482, 427,  1236, -9167, -1918 },
-        {  71234,-41116, 5334,-4935,-1848,   66, 434, -1748,  3780,  -701 },
-        { -47645, 11647, 2166, 3194,  679,    0,-244,  -419, -2531,    48 }
-       };
+    /* Mean elements for each entry, then the eccentric anomaly. */
+       final double el[] = new double[6 * n], ea[] = new double[n];
 
-    /*--------------------------------------------------------------------*/
+    /* Cos and sin of each multiple of the argument, for the current epoch. */
+       final double cs[] = new double[Plan94.mult.length], sn[] = new double[Plan94.mult.length];
 
-    /* Validate the planet number. */
-       if ((np < 1) || (np > 8)) {
-          jstat = -1;
+    /* Compute the mean elements. */
+       for (i = 0; i < n; i++) {
+          ti = t[i];
+          q = np[i];
 
-       /* Reset the result in case of failure. */
-          for (k = 0; k < 2; k++) {
-             for (i = 0; i < 3; i++) {
-                pv[k][i] = 0.0;
+       /* OK status unless remote date. */
+          if (abs(ti) > 1.0) jstat = 1;
+
+       /* The periodic terms, once per epoch. */
+          if (i == 0 || ti != t[i-1]) {
+             dmu = 0.35953620 * ti;
+             for (j = 0; j < mult.length; j++) {
+                k = mult[j];
+                cs[k] = cos(Plan94.mult[k] * dmu);
+                sn[k] = sin(Plan94.mult[k] * dmu);
              }
           }
 
-       } else {
-
-       /* Decrement the planet number to start at zero. */
-          np--;
-
-       /* Time: Julian millennia since J2000.0. */
-          t = ((date1 - DJ00) + date2) / DJM;
-
-       /* OK status unless remote date. */
-          jstat = abs(t) <= 1.0 ? 0 : 1;
-
-       /* Compute the mean elements. */
-          da = a[np][0] +
-              (a[np][1] +
-               a[np][2] * t) * t;
-          dl = (3600.0 * dlm[np][0] +
-                        (dlm[np][1] +
-                         dlm[np][2] * t) * t) * DAS2R;
-          de = e[np][0] +
-             ( e[np][1] +
-               e[np][2] * t) * t;
-          dp = jauAnpm((3600.0 * pi[np][0] +
-                                (pi[np][1] +
-                                 pi[np][2] * t) * t) * DAS2R);
-          di = (3600.0 * dinc[np][0] +
-                        (dinc[np][1] +
-                         dinc[np][2] * t) * t) * DAS2R;
-          dom = jauAnpm((3600.0 * omega[np][0] +
-                                 (omega[np][1] +
-                                  omega[np][2] * t) * t) * DAS2R);
+          da = Plan94.a[q][0] +
+              (Plan94.a[q][1] +
+               Plan94.a[q][2] * ti) * ti;
+          dl = (3600.0 * Plan94.dlm[q][0] +
+                        (Plan94.dlm[q][1] +
+                         Plan94.dlm[q][2] * ti) * ti) * DAS2R;
+          de = Plan94.e[q][0] +
+             ( Plan94.e[q][1] +
+               Plan94.e[q][2] * ti) * ti;
+          dp = jauAnpm((3600.0 * Plan94.pi[q][0] +
+                                (Plan94.pi[q][1] +
+                                 Plan94.pi[q][2] * ti) * ti) * DAS2R);
+          di = (3600.0 * Plan94.dinc[q][0] +
+                        (Plan94.dinc[q][1] +
+                         Plan94.dinc[q][2] * ti) * ti) * DAS2R;
+          dom = jauAnpm((3600.0 * Plan94.omega[q][0] +
+                                 (Plan94.omega[q][1] +
+                                  Plan94.omega[q][2] * ti) * ti) * DAS2R);
 
        /* Apply the trigonometric terms. */
-          dmu = 0.35953620 * t;
           for (k = 0; k < 8; k++) {
-             arga = kp[np][k] * dmu;
-             argl = kq[np][k] * dmu;
-             da += (ca[np][k] * cos(arga) +
-                    sa[np][k] * sin(arga)) * 1e-7;
-             dl += (cl[np][k] * cos(argl) +
-                    sl[np][k] * sin(argl)) * 1e-7;
+             j = Plan94.kpi[q][k];
+             da += (Plan94.ca[q][k] * cs[j] +
+                    Plan94.sa[q][k] * sn[j]) * 1e-7;
+             j = Plan94.kqi[q][k];
+             dl += (Plan94.cl[q][k] * cs[j] +
+                    Plan94.sl[q][k] * sn[j]) * 1e-7;
           }
-          arga = kp[np][8] * dmu;
-          da += t * (ca[np][8] * cos(arga) +
-                     sa[np][8] * sin(arga)) * 1e-7;
+          j = Plan94.kpi[q][8];
+          da += ti * (Plan94.ca[q][8] * cs[j] +
+                      Plan94.sa[q][8] * sn[j]) * 1e-7;
           for (k = 8; k < 10; k++) {
-             argl = kq[np][k] * dmu;
-             dl += t * (cl[np][k] * cos(argl) +
-                        sl[np][k] * sin(argl)) * 1e-7;
+             j = Plan94.kqi[q][k];
+             dl += ti * (Plan94.cl[q][k] * cs[j] +
+                         Plan94.sl[q][k] * sn[j]) * 1e-7;
           }
           dl = fmod(dl, D2PI);
 
-       /* Iterative soln. of Kepler's equation to get eccentric anomaly. */
-          am = dl - dp;
+          el[6*i]   = da;
+          el[6*i+1] = dl;
+          el[6*i+2] = de;
+          el[6*i+3] = dp;
+          el[6*i+4] = di;
+          el[6*i+5] = dom;
+       }
+
+    /* Iterative soln. of Kepler's equation to get eccentric anomaly. */
+       for (i = 0; i < n; i++) {
+          de = el[6*i+2];
+          am = el[6*i+1] - el[6*i+3];
           ae = am + de * sin(am);
           k = 0;
           dae = 1.0;
@@ -15193,6 +16200,18 @@ public static class SphericalCoordinateEO {
              k++;
              if (k == KMAX-1) jstat = 2;
           }
+          ea[i] = ae;
+       }
+
+    /* Position and velocity. */
+       for (i = 0; i < n; i++) {
+          q = np[i];
+          da = el[6*i];
+          de = el[6*i+2];
+          dp = el[6*i+3];
+          di = el[6*i+4];
+          dom = el[6*i+5];
+          ae = ea[i];
 
        /* True anomaly. */
           ae2 = ae / 2.0;
@@ -15201,7 +16220,7 @@ public static class SphericalCoordinateEO {
 
        /* Distance (AU) and speed (radians per day). */
           r = da * (1.0 - de * cos(ae));
-          v = GK * sqrt((1.0 + 1.0 / amas[np]) / (da * da * da));
+          v = GK * sqrt((1.0 + 1.0 / Plan94.amas[q]) / (da * da * da));
 
           si2 = sin(di / 2.0);
           xq = si2 * cos(dom);
@@ -15222,9 +16241,9 @@ public static class SphericalCoordinateEO {
           z = r * (-xm2 * ci2);
 
        /* Rotate to equatorial. */
-          pv[0][0] = x;
-          pv[0][1] = y * COSEPS - z * SINEPS;
-          pv[0][2] = y * SINEPS + z * COSEPS;
+          pv[6*i]   = x;
+          pv[6*i+1] = y * COSEPS - z * SINEPS;
+          pv[6*i+2] = y * SINEPS + z * COSEPS;
 
        /* Velocity (J2000.0 ecliptic xdot,ydot,zdot in AU/d). */
           x = v * (( -1.0 + 2.0 * xp * xp) * xms + xpxq2 * xmc);
@@ -15232,16 +16251,13 @@ public static class SphericalCoordinateEO {
           z = v * (2.0 * ci2 * (xp * xms + xq * xmc));
 
        /* Rotate to equatorial. */
-          pv[1][0] = x;
-          pv[1][1] = y * COSEPS - z * SINEPS;
-          pv[1][2] = y * SINEPS + z * COSEPS;
-
+          pv[6*i+3] = x;
+          pv[6*i+4] = y * COSEPS - z * SINEPS;
+          pv[6*i+5] = y * SINEPS + z * COSEPS;
        }
 
-    /* Return the status. */
        return jstat;
-
-        }
+    }
     
 
     /**
@@ -15418,6 +16434,32 @@ public static class SphericalCoordinateEO {
 
         }
     
+    /**
+    **  Precession matrix (including frame bias) from GCRS to a specified
+    **  date, IAU 2006 model, as a flat r-matrix.
+    **  See {@link #jauPmat06(double, double)}.
+    **
+    **  The r-matrix is held as a flat double[9] in row-major order, so
+    **  that element [i][j] of the usual form is element [3*i+j].
+    **
+    **<!-- Given: -->
+    **     @param date1,date2  double     TT as a 2-part Julian Date
+    **
+    **<!-- Returned: -->
+    **     @param rbp       double[9]       <u>returned</u> bias-precession matrix
+    **     @return rbp
+    */
+    public static double[] jauPmat06(double date1, double date2, double rbp[])
+    {
+
+    /* Bias-precession Fukushima-Williams angles. */
+       FWPrecessionAngles fw = jauPfw06(date1, date2);
+
+    /* Form the matrix. */
+       return jauFw2m(fw.gamb, fw.phib, fw.psib, fw.epsa, rbp);
+
+        }
+    
 
     /**
     **  Precession matrix from J2000.0 to a specified date, IAU 1976 model.
@@ -15539,7 +16581,28 @@ public static class SphericalCoordinateEO {
     */
     public static double[]  jauPmp(double a[] , double b[]  )
     {
-       double amb[] = new double[3];
+       return jauPmp(a, b, new double[3]);
+
+        }
+    
+    /**
+    **  P-vector subtraction, into a given array.
+    **
+    **<p>Status:  vector/matrix support function.
+    **
+    **<!-- Given: -->
+    **     @param a         double[3]       first p-vector
+    **     @param b         double[3]       second p-vector
+    **
+    **<!-- Returned: -->
+    **     @param amb       double[3]       <u>returned</u> a - b
+    **     @return amb
+    **
+    **  Note:
+    **     It is permissible to re-use the same array for any of the arguments.
+    */
+    public static double[] jauPmp(double a[] , double b[], double amb[])
+    {
        amb[0] = a[0] - b[0];
        amb[1] = a[1] - b[1];
        amb[2] = a[2] - b[2];
@@ -16454,6 +17517,35 @@ public static class SphericalCoordinateEO {
 
         }
     
+    /**
+    **  Form the matrix of precession-nutation for a given date (including
+    **  frame bias), IAU 2006 precession and IAU 2000A nutation models, as a
+    **  flat r-matrix.  See {@link #jauPnm06a(double, double)}.
+    **
+    **  The r-matrix is held as a flat double[9] in row-major order, so
+    **  that element [i][j] of the usual form is element [3*i+j].
+    **
+    **<!-- Given: -->
+    **     @param date1,date2  double     TT as a 2-part Julian Date
+    **
+    **<!-- Returned: -->
+    **     @param rbpn      double[9]       <u>returned</u> bias-precession-nutation matrix
+    **     @return rbpn
+    */
+    public static double[] jauPnm06a(double date1, double date2, double rbpn[])
+    {
+
+    /* Fukushima-Williams angles for frame bias and precession. */
+       FWPrecessionAngles fw = jauPfw06(date1, date2);
+
+    /* Nutation components. */
+       NutationTerms nut = jauNut06a(date1, date2);
+
+    /* Equinox based nutation x precession x bias matrix. */
+       return jauFw2m(fw.gamb, fw.phib, fw.psib + nut.dpsi, fw.epsa + nut.deps, rbpn);
+
+        }
+    
 
     /**
     **  Form the matrix of precession/nutation for a given date, IAU 1976
@@ -16600,6 +17692,34 @@ public static class SphericalCoordinateEO {
 
         }
     
+    /**
+    **  Form the matrix of polar motion for a given date, IAU 2000, as a
+    **  flat r-matrix.  See {@link #jauPom00(double, double, double)}.
+    **
+    **  The r-matrix is held as a flat double[9] in row-major order, so
+    **  that element [i][j] of the usual form is element [3*i+j].
+    **
+    **<!-- Given: -->
+    **     @param xp,yp     double    coordinates of the pole (radians)
+    **     @param sp        double    the TIO locator s' (radians)
+    **
+    **<!-- Returned: -->
+    **     @param rpom      double[9]       <u>returned</u> polar-motion matrix
+    **     @return rpom
+    */
+    public static double[] jauPom00(double xp, double yp, double sp, double rpom[])
+    {
+
+    /* Construct the matrix. */
+       jauIr(rpom);
+       jauRz(sp, rpom);
+       jauRy(-xp, rpom);
+       jauRx(-yp, rpom);
+
+       return rpom;
+
+        }
+    
 
     /**
     **  P-vector addition.
@@ -16628,7 +17748,28 @@ public static class SphericalCoordinateEO {
     */
     public static double[] jauPpp(double a[] , double b[] )
     {
-       double apb[] = new double[3]; 
+       return jauPpp(a, b, new double[3]);
+
+     }
+    
+    /**
+    **  P-vector addition, into a given array.
+    **
+    **<p>Status:  vector/matrix support function.
+    **
+    **<!-- Given: -->
+    **     @param a         double[3]       first p-vector
+    **     @param b         double[3]       second p-vector
+    **
+    **<!-- Returned: -->
+    **     @param apb       double[3]       <u>returned</u> a + b
+    **     @return apb
+    **
+    **  Note:
+    **     It is permissible to re-use the same array for any of the arguments.
+    */
+    public static double[] jauPpp(double a[] , double b[], double apb[])
+    {
        apb[0] = a[0] + b[0];
        apb[1] = a[1] + b[1];
        apb[2] = a[2] + b[2];
@@ -16669,14 +17810,32 @@ public static class SphericalCoordinateEO {
     */
     static double[] jauPpsp(double a[] , double s, double b[]  )
     {
-       double sb[] = new double[3], apsb[];
-
+       return jauPpsp(a, s, b, new double[3]);
 
-    /* s*b. */
-       sb = jauSxp(s,b);
-
-    /* a + s*b. */
-       apsb = jauPpp(a, sb);
+        }
+    
+    /**
+    **  P-vector plus scaled p-vector, into a given array.
+    **
+    **<p>Status:  vector/matrix support function.
+    **
+    **<!-- Given: -->
+    **     @param a         double[3]       first p-vector
+    **     @param s         double          scalar (multiplier for b)
+    **     @param b         double[3]       second p-vector
+    **
+    **<!-- Returned: -->
+    **     @param apsb      double[3]       <u>returned</u> a + s*b
+    **     @return apsb
+    **
+    **  Note:
+    **     It is permissible for any of a, b and apsb to be the same array.
+    */
+    static double[] jauPpsp(double a[] , double s, double b[], double apsb[])
+    {
+       apsb[0] = a[0] + s * b[0];
+       apsb[1] = a[1] + s * b[1];
+       apsb[2] = a[2] + s * b[2];
 
        return apsb;
 
@@ -17591,9 +18750,30 @@ public static class SphericalCoordinateEO {
     **  <!-- Copyright (C) 2009 IAU SOFA Review Board.  See notes at end -->
     */
     public static double[] jauPxp(double a[] , double b[]  )
+    {
+       return jauPxp(a, b, new double[3]);
+
+        }
+    
+    /**
+    **  p-vector outer (=vector=cross) product, into a given array.
+    **
+    **<p>Status:  vector/matrix support function.
+    **
+    **<!-- Given: -->
+    **     @param a         double[3]       first p-vector
+    **     @param b         double[3]       second p-vector
+    **
+    **<!-- Returned: -->
+    **     @param axb       double[3]       <u>returned</u> a x b
+    **     @return axb
+    **
+    **  Note:
+    **     It is permissible to re-use the same array for any of the arguments.
+    */
+    public static double[] jauPxp(double a[] , double b[], double axb[])
     {
        double xa, ya, za, xb, yb, zb;
-       double axb[] = new double[3];
 
        xa = a[0];
        ya = a[1];
@@ -17763,42 +18943,80 @@ public static class SphericalCoordinateEO {
     **  incorporates in the matrix an additional rotation, about the x-axis,
     **  anticlockwise as seen looking towards the origin from positive x.
     **
-    **<p>Called:<ul>
-    **     <li>{@link #jauIr} initialize r-matrix to identity
-    **     <li>{@link #jauRxr} product of two r-matrices
-    **     <li>{@link #jauCr} copy r-matrix
-    ** </ul>
     **<p>This revision:  2008 May 22
     **
     **  @since Release 20101201
     **
     **  <!-- Copyright (C) 2009 IAU SOFA Review Board.  See notes at end -->
     */
-    public static void jauRx(double phi, double r[][])
+    public static void jauRx(double phi, double r[][])
+    {
+       double s, c, a10, a11, a12, a20, a21, a22;
+
+
+    /* Rotate in place, without forming the rotation matrix. */
+       s = sin(phi);
+       c = cos(phi);
+
+       a10 =   c*r[1][0] + s*r[2][0];
+       a11 =   c*r[1][1] + s*r[2][1];
+       a12 =   c*r[1][2] + s*r[2][2];
+       a20 = - s*r[1][0] + c*r[2][0];
+       a21 = - s*r[1][1] + c*r[2][1];
+       a22 = - s*r[1][2] + c*r[2][2];
+
+       r[1][0] = a10;
+       r[1][1] = a11;
+       r[1][2] = a12;
+       r[2][0] = a20;
+       r[2][1] = a21;
+       r[2][2] = a22;
+
+       return;
+
+        }
+    
+    /**
+    **  Rotate a flat r-matrix about the x-axis.
+    **
+    **  The r-matrix is held as a flat double[9] in row-major order, so
+    **  that element [i][j] of the usual form is element [3*i+j].
+    **
+    **<p>Status:  vector/matrix support function.
+    **
+    **<!-- Given: -->
+    **     @param phi     double           angle (radians)
+    **
+    **  Given and returned:
+    **     @param r      double[9]        r-matrix <u>given and returned</u>
+    **
+    **  The sign convention is that of {@link #jauRx(double, double[][])}.
+    */
+    public static void jauRx(double phi, double r[])
     {
-       double s, c, a[][] = new double[3][3], w[][];
+       double s, c, a10, a11, a12, a20, a21, a22;
 
 
-    /* Matrix representing new rotation. */
        s = sin(phi);
        c = cos(phi);
-       jauIr(a);
-       a[1][1] =  c;
-       a[2][1] = -s;
-       a[1][2] =  s;
-       a[2][2] =  c;
 
-    /* Rotate. */
-       w = jauRxr(a, r);
+       a10 =   c*r[3] + s*r[6];
+       a11 =   c*r[4] + s*r[7];
+       a12 =   c*r[5] + s*r[8];
+       a20 = - s*r[3] + c*r[6];
+       a21 = - s*r[4] + c*r[7];
+       a22 = - s*r[5] + c*r[8];
 
-    /* Return result. */
-       jauCr(w, r);
+       r[3] = a10;
+       r[4] = a11;
+       r[5] = a12;
+       r[6] = a20;
+       r[7] = a21;
+       r[8] = a22;
 
        return;
 
         }
-    
-
     /**
     **  Multiply a p-vector by an r-matrix.
     **
@@ -17828,21 +19046,72 @@ public static class SphericalCoordinateEO {
     */
     public static double[] jauRxp(double r[][], double p[])
     {
-       double w, wrp[] = new double[3] ;
-       int i, j;
+       return jauRxp(r, p, new double[3]);
+
+        }
+    
+    /**
+    **  Multiply a p-vector by an r-matrix, into a given array.
+    **
+    **<p>Status:  vector/matrix support function.
+    **
+    **<!-- Given: -->
+    **     @param r         double[3][3]    r-matrix
+    **     @param p         double[3]       p-vector
+    **
+    **<!-- Returned: -->
+    **     @param rp        double[3]       <u>returned</u> r * p
+    **     @return rp
+    **
+    **  Note:
+    **     It is permissible for p and rp to be the same array.
+    */
+    public static double[] jauRxp(double r[][], double p[], double rp[])
+    {
+       double w0, w1, w2;
 
 
     /* Matrix r * vector p. */
-       for (j = 0; j < 3; j++) {
-           w = 0.0;
-           for (i = 0; i < 3; i++) {
-               w += r[j][i] * p[i];
-           }
-           wrp[j] = w;
-       }
+       w0 = r[0][0] * p[0] + r[0][1] * p[1] + r[0][2] * p[2];
+       w1 = r[1][0] * p[0] + r[1][1] * p[1] + r[1][2] * p[2];
+       w2 = r[2][0] * p[0] + r[2][1] * p[1] + r[2][2] * p[2];
+
+       rp[0] = w0;
+       rp[1] = w1;
+       rp[2] = w2;
+
+       return rp;
+
+        }
+    
+    /**
+    **  Multiply a p-vector by a flat r-matrix.
+    **
+    **  The r-matrix is held as a flat double[9] in row-major order, so
+    **  that element [i][j] of the usual form is element [3*i+j].
+    **
+    **<p>Status:  vector/matrix support function.
+    **
+    **<!-- Given: -->
+    **     @param r         double[9]       r-matrix
+    **     @param p         double[3]       p-vector
+    **
+    **<!-- Returned: -->
+    **     @param rp        double[3]       <u>returned</u> r * p
+    **     @return rp
+    **
+    **  Note:
+    **     It is permissible for p and rp to be the same array.
+    */
+    public static double[] jauRxp(double r[], double p[], double rp[])
+    {
+       double p0 = p[0], p1 = p[1], p2 = p[2];
 
+       rp[0] = r[0] * p0 + r[1] * p1 + r[2] * p2;
+       rp[1] = r[3] * p0 + r[4] * p1 + r[5] * p2;
+       rp[2] = r[6] * p0 + r[7] * p1 + r[8] * p2;
 
-       return wrp;
+       return rp;
 
         }
     
@@ -17876,9 +19145,30 @@ public static class SphericalCoordinateEO {
     */
     public static double[][] jauRxpv(double r[][], double pv[][])
     {
-       double rpv[][] = new double[2][0];
-       rpv[0] = jauRxp(r, pv[0]);
-       rpv[1] = jauRxp(r, pv[1]);
+       return jauRxpv(r, pv, new double[2][3]);
+
+        }
+    
+    /**
+    **  Multiply a pv-vector by an r-matrix, into a given array.
+    **
+    **<p>Status:  vector/matrix support function.
+    **
+    **<!-- Given: -->
+    **     @param r         double[3][3]    r-matrix
+    **     @param pv        double[2][3]    pv-vector
+    **
+    **<!-- Returned: -->
+    **     @param rpv       double[2][3]    <u>returned</u> r * pv
+    **     @return rpv
+    **
+    **  Note:
+    **     It is permissible for pv and rpv to be the same array.
+    */
+    public static double[][] jauRxpv(double r[][], double pv[][], double rpv[][])
+    {
+       jauRxp(r, pv[0], rpv[0]);
+       jauRxp(r, pv[1], rpv[1]);
 
        return rpv;
 
@@ -17915,21 +19205,88 @@ public static class SphericalCoordinateEO {
     */
     public static double[][] jauRxr(double a[][], double b[][])
     {
-       int i, j, k;
-       double w, wm[][] = new double[3][3];
+       return jauRxr(a, b, new double[3][3]);
+
+     }
+    
+    /**
+    **  Multiply two r-matrices, into a given array.
+    **
+    **<p>Status:  vector/matrix support function.
+    **
+    **<!-- Given: -->
+    **     @param a         double[3][3]    first r-matrix
+    **     @param b         double[3][3]    second r-matrix
+    **
+    **<!-- Returned: -->
+    **     @param atb       double[3][3]    <u>returned</u> a * b
+    **     @return atb
+    **
+    **  Note:
+    **     It is permissible to re-use the same array for any of the
+    **     arguments.
+    */
+    public static double[][] jauRxr(double a[][], double b[][], double atb[][])
+    {
+       double w00, w01, w02, w10, w11, w12, w20, w21, w22;
 
 
-       for (i = 0; i < 3; i++) {
-          for (j = 0; j < 3; j++) {
-             w = 0.0;
-             for (k = 0; k < 3; k++) {
-                w +=  a[i][k] * b[k][j];
-             }
-             wm[i][j] = w;
-          }
+       w00 = a[0][0] * b[0][0] + a[0][1] * b[1][0] + a[0][2] * b[2][0];
+       w01 = a[0][0] * b[0][1] + a[0][1] * b[1][1] + a[0][2] * b[2][1];
+       w02 = a[0][0] * b[0][2] + a[0][1] * b[1][2] + a[0][2] * b[2][2];
+       w10 = a[1][0] * b[0][0] + a[1][1] * b[1][0] + a[1][2] * b[2][0];
+       w11 = a[1][0] * b[0][1] + a[1][1] * b[1][1] + a[1][2] * b[2][1];
+       w12 = a[1][0] * b[0][2] + a[1][1] * b[1][2] + a[1][2] * b[2][2];
+       w20 = a[2][0] * b[0][0] + a[2][1] * b[1][0] + a[2][2] * b[2][0];
+       w21 = a[2][0] * b[0][1] + a[2][1] * b[1][1] + a[2][2] * b[2][1];
+       w22 = a[2][0] * b[0][2] + a[2][1] * b[1][2] + a[2][2] * b[2][2];
+
+       atb[0][0] = w00; atb[0][1] = w01; atb[0][2] = w02;
+       atb[1][0] = w10; atb[1][1] = w11; atb[1][2] = w12;
+       atb[2][0] = w20; atb[2][1] = w21; atb[2][2] = w22;
+
+       return atb;
+
+     }
+    
+    /**
+    **  Multiply two flat r-matrices.
+    **
+    **  The r-matrix is held as a flat double[9] in row-major order, so
+    **  that element [i][j] of the usual form is element [3*i+j].
+    **
+    **<p>Status:  vector/matrix support function.
+    **
+    **<!-- Given: -->
+    **     @param a         double[9]       first r-matrix
+    **     @param b         double[9]       second r-matrix
+    **
+    **<!-- Returned: -->
+    **     @param atb       double[9]       <u>returned</u> a * b
+    **     @return atb
+    **
+    **  Note:
+    **     It is permissible to re-use the same array for any of the
+    **     arguments.
+    */
+    public static double[] jauRxr(double a[], double b[], double atb[])
+    {
+       double a0, a1, a2, b00, b01, b02, b10, b11, b12, b20, b21, b22;
+
+
+       b00 = b[0]; b01 = b[1]; b02 = b[2];
+       b10 = b[3]; b11 = b[4]; b12 = b[5];
+       b20 = b[6]; b21 = b[7]; b22 = b[8];
+
+    /* One row of a at a time, so that atb may be a. */
+       for (int i = 0; i < 9; i += 3) {
+          a0 = a[i]; a1 = a[i+1]; a2 = a[i+2];
+          atb[i]   = a0 * b00 + a1 * b10 + a2 * b20;
+          atb[i+1] = a0 * b01 + a1 * b11 + a2 * b21;
+          atb[i+2] = a0 * b02 + a1 * b12 + a2 * b22;
        }
 
-       return wm;
+       return atb;
 
      }
     
@@ -17953,11 +19310,6 @@ public static class SphericalCoordinateEO {
     **  incorporates in the matrix an additional rotation, about the y-axis,
     **  anticlockwise as seen looking towards the origin from positive y.
     **
-    **<p>Called:<ul>
-    **     <li>{@link #jauIr} initialize r-matrix to identity
-    **     <li>{@link #jauRxr} product of two r-matrices
-    **     <li>{@link #jauCr} copy r-matrix
-    ** </ul>
     **<p>This revision:  2008 May 22
     **
     **  @since Release 20101201
@@ -17966,29 +19318,72 @@ public static class SphericalCoordinateEO {
     */
     public static void jauRy(double theta, double r[][])
     {
-       double s, c, a[][] = new double[3][3], w[][];
+       double s, c, a00, a01, a02, a20, a21, a22;
 
 
-    /* Matrix representing new rotation. */
+    /* Rotate in place, without forming the rotation matrix. */
        s = sin(theta);
        c = cos(theta);
-       jauIr(a);
-       a[0][0] =  c;
-       a[2][0] =  s;
-       a[0][2] = -s;
-       a[2][2] =  c;
 
-    /* Rotate. */
-       w = jauRxr(a, r);
+       a00 = c*r[0][0] - s*r[2][0];
+       a01 = c*r[0][1] - s*r[2][1];
+       a02 = c*r[0][2] - s*r[2][2];
+       a20 = s*r[0][0] + c*r[2][0];
+       a21 = s*r[0][1] + c*r[2][1];
+       a22 = s*r[0][2] + c*r[2][2];
 
-    /* Return result. */
-       jauCr(w, r);
+       r[0][0] = a00;
+       r[0][1] = a01;
+       r[0][2] = a02;
+       r[2][0] = a20;
+       r[2][1] = a21;
+       r[2][2] = a22;
 
        return;
 
         }
     
+    /**
+    **  Rotate a flat r-matrix about the y-axis.
+    **
+    **  The r-matrix is held as a flat double[9] in row-major order, so
+    **  that element [i][j] of the usual form is element [3*i+j].
+    **
+    **<p>Status:  vector/matrix support function.
+    **
+    **<!-- Given: -->
+    **     @param theta     double           angle (radians)
+    **
+    **  Given and returned:
+    **     @param r      double[9]        r-matrix <u>given and returned</u>
+    **
+    **  The sign convention is that of {@link #jauRy(double, double[][])}.
+    */
+    public static void jauRy(double theta, double r[])
+    {
+       double s, c, a00, a01, a02, a20, a21, a22;
+
+
+       s = sin(theta);
+       c = cos(theta);
+
+       a00 = c*r[0] - s*r[6];
+       a01 = c*r[1] - s*r[7];
+       a02 = c*r[2] - s*r[8];
+       a20 = s*r[0] + c*r[6];
+       a21 = s*r[1] + c*r[7];
+       a22 = s*r[2] + c*r[8];
 
+       r[0] = a00;
+       r[1] = a01;
+       r[2] = a02;
+       r[6] = a20;
+       r[7] = a21;
+       r[8] = a22;
+
+       return;
+
+        }
     /**
     **  Rotate an r-matrix about the z-axis.
     **
@@ -18008,11 +19403,6 @@ public static class SphericalCoordinateEO {
     **  incorporates in the matrix an additional rotation, about the z-axis,
     **  anticlockwise as seen looking towards the origin from positive z.
     **
-    **<p>Called:<ul>
-    **     <li>{@link #jauIr} initialize r-matrix to identity
-    **     <li>{@link #jauRxr} product of two r-matrices
-    **     <li>{@link #jauCr} copy r-matrix
-    ** </ul>
     **<p>This revision:  2008 May 22
     **
     **  @since Release 20101201
@@ -18021,29 +19411,72 @@ public static class SphericalCoordinateEO {
     */
     public static void jauRz(double psi, double r[][])
     {
-       double s, c, a[][] = new double[3][3], w[][];
+       double s, c, a00, a01, a02, a10, a11, a12;
 
 
-    /* Matrix representing new rotation. */
+    /* Rotate in place, without forming the rotation matrix. */
        s = sin(psi);
        c = cos(psi);
-       jauIr(a);
-       a[0][0] =  c;
-       a[1][0] = -s;
-       a[0][1] =  s;
-       a[1][1] =  c;
 
-    /* Rotate. */
-       w = jauRxr(a, r);
+       a00 =   c*r[0][0] + s*r[1][0];
+       a01 =   c*r[0][1] + s*r[1][1];
+       a02 =   c*r[0][2] + s*r[1][2];
+       a10 = - s*r[0][0] + c*r[1][0];
+       a11 = - s*r[0][1] + c*r[1][1];
+       a12 = - s*r[0][2] + c*r[1][2];
 
-    /* Return result. */
-       jauCr(w, r);
+       r[0][0] = a00;
+       r[0][1] = a01;
+       r[0][2] = a02;
+       r[1][0] = a10;
+       r[1][1] = a11;
+       r[1][2] = a12;
 
        return;
 
         }
     
+    /**
+    **  Rotate a flat r-matrix about the z-axis.
+    **
+    **  The r-matrix is held as a flat double[9] in row-major order, so
+    **  that element [i][j] of the usual form is element [3*i+j].
+    **
+    **<p>Status:  vector/matrix support function.
+    **
+    **<!-- Given: -->
+    **     @param psi     double           angle (radians)
+    **
+    **  Given and returned:
+    **     @param r      double[9]        r-matrix <u>given and returned</u>
+    **
+    **  The sign convention is that of {@link #jauRz(double, double[][])}.
+    */
+    public static void jauRz(double psi, double r[])
+    {
+       double s, c, a00, a01, a02, a10, a11, a12;
+
+
+       s = sin(psi);
+       c = cos(psi);
+
+       a00 =   c*r[0] + s*r[3];
+       a01 =   c*r[1] + s*r[4];
+       a02 =   c*r[2] + s*r[5];
+       a10 = - s*r[0] + c*r[3];
+       a11 = - s*r[1] + c*r[4];
+       a12 = - s*r[2] + c*r[5];
+
+       r[0] = a00;
+       r[1] = a01;
+       r[2] = a02;
+       r[3] = a10;
+       r[4] = a11;
+       r[5] = a12;
 
+       return;
+
+        }
     /**
     **  The CIO locator s, positioning the Celestial Intermediate Origin on
     **  the equator of the Celestial Intermediate Pole, given the CIP's X,Y
@@ -18552,6 +19985,130 @@ public static class SphericalCoordinateEO {
         }
     
 
+    /**
+     * Tables for the series for s+XY/2 of {@link #jauS06}, built once
+     * rather than on every call.
+     */
+    private static final class S06 {
+        /** Polynomial coefficients */
+        static final double sp[] = {
+
+        /* 1-6 */
+               94.00e-6,
+             3808.65e-6,
+             -122.68e-6,
+           -72574.11e-6,
+               27.98e-6,
+               15.62e-6
+        };
+
+        /** Terms of order t^0 */
+        static final TERM s0[] = {
+
+        /* 1-10 */
+           new TERM(new int[]{ 0,  0,  0,  0,  1,  0,  0,  0}, -2640.73e-6,   0.39e-6 ),
+           new TERM(new int[]{ 0,  0,  0,  0,  2,  0,  0,  0},   -63.53e-6,   0.02e-6 ),
+           new TERM(new int[]{ 0,  0,  2, -2,  3,  0,  0,  0},   -11.75e-6,  -0.01e-6 ),
+           new TERM(new int[]{ 0,  0,  2, -2,  1,  0,  0,  0},   -11.21e-6,  -0.01e-6 ),
+           new TERM(new int[]{ 0,  0,  2, -2,  2,  0,  0,  0},     4.57e-6,   0.00e-6 ),
+           new TERM(new int[]{ 0,  0,  2,  0,  3,  0,  0,  0},    -2.02e-6,   0.00e-6 ),
+           new TERM(new int[]{ 0,  0,  2,  0,  1,  0,  0,  0},    -1.98e-6,   0.00e-6 ),
+           new TERM(new int[]{ 0,  0,  0,  0,  3,  0,  0,  0},     1.72e-6,   0.00e-6 ),
+           new TERM(new int[]{ 0,  1,  0,  0,  1,  0,  0,  0},     1.41e-6,   0.01e-6 ),
+           new TERM(new int[]{ 0,  1,  0,  0, -1,  0,  0,  0},     1.26e-6,   0.01e-6 ),
+
+        /* 11-20 */
+           new TERM(new int[]{ 1,  0,  0,  0, -1,  0,  0,  0},     0.63e-6,   0.00e-6 ),
+           new TERM(new int[]{ 1,  0,  0,  0,  1,  0,  0,  0},     0.63e-6,   0.00e-6 ),
+           new TERM(new int[]{ 0,  1,  2, -2,  3,  0,  0,  0},    -0.46e-6,   0.00e-6 ),
+           new TERM(new int[]{ 0,  1,  2, -2,  1,  0,  0,  0},    -0.45e-6,   0.00e-6 ),
+           new TERM(new int[]{ 0,  0,  4, -4,  4,  0,  0,  0},    -0.36e-6,   0.00e-6 ),
+           new TERM(new int[]{ 0,  0,  1, -1,  1, -8, 12,  0},     0.24e-6,   0.12e-6 ),
+           new TERM(new int[]{ 0,  0,  2,  0,  0,  0,  0,  0},    -0.32e-6,   0.00e-6 ),
+           new TERM(new int[]{ 0,  0,  2,  0,  2,  0,  0,  0},    -0.28e-6,   0.00e-6 ),
+           new TERM(new int[]{ 1,  0,  2,  0,  3,  0,  0,  0},    -0.27e-6,   0.00e-6 ),
+           new TERM(new int[]{ 1,  0,  2,  0,  1,  0,  0,  0},    -0.26e-6,   0.00e-6 ),
+
+        /* 21-30 */
+           new TERM(new int[]{ 0,  0,  2, -2,  0,  0,  0,  0},     0.21e-6,   0.00e-6 ),
+           new TERM(new int[]{ 0,  1, -2,  2, -3,  0,  0,  0},    -0.19e-6,   0.00e-6 ),
+           new TERM(new int[]{ 0,  1, -2,  2, -1,  0,  0,  0},    -0.18e-6,   0.00e-6 ),
+           new TERM(new int[]{ 0,  0,  0,  0,  0,  8,-13, -1},     0.10e-6,  -0.05e-6 ),
+           new TERM(new int[]{ 0,  0,  0,  2,  0,  0,  0,  0},    -0.15e-6,   0.00e-6 ),
+           new TERM(new int[]{ 2,  0, -2,  0, -1,  0,  0,  0},     0.14e-6,   0.00e-6 ),
+           new TERM(new int[]{ 0,  1,  2, -2,  2,  0,  0,  0},     0.14e-6,   0.00e-6 ),
+           new TERM(new int[]{ 1,  0,  0, -2,  1,  0,  0,  0},    -0.14e-6,   0.00e-6 ),
+           new TERM(new int[]{ 1,  0,  0, -2, -1,  0,  0,  0},    -0.14e-6,   0.00e-6 ),
+           new TERM(new int[]{ 0,  0,  4, -2,  4,  0,  0,  0},    -0.13e-6,   0.00e-6 ),
+
+        /* 31-33 */
+           new TERM(new int[]{ 0,  0,  2, -2,  4,  0,  0,  0},     0.11e-6,   0.00e-6 ),
+           new TERM(new int[]{ 1,  0, -2,  0, -3,  0,  0,  0},    -0.11e-6,   0.00e-6 ),
+           new TERM(new int[]{ 1,  0, -2,  0, -1,  0,  0,  0},    -0.11e-6,   0.00e-6 )
+        };
+
+        /** Terms of order t^1 */
+        static final TERM s1[] = {
+
+        /* 1 - 3 */
+           new TERM(new int[]{ 0,  0,  0,  0,  2,  0,  0,  0},    -0.07e-6,   3.57e-6 ),
+           new TERM(new int[]{ 0,  0,  0,  0,  1,  0,  0,  0},     1.73e-6,  -0.03e-6 ),
+           new TERM(new int[]{ 0,  0,  2, -2,  3,  0,  0,  0},     0.00e-6,   0.48e-6 )
+        };
+
+        /** Terms of order t^2 */
+        static final TERM s2[] = {
+
+        /* 1-10 */
+           new TERM(new int[]{ 0,  0,  0,  0,  1,  0,  0,  0},   743.52e-6,  -0.17e-6 ),
+           new TERM(new int[]{ 0,  0,  2, -2,  2,  0,  0,  0},    56.91e-6,   0.06e-6 ),
+           new TERM(new int[]{ 0,  0,  2,  0,  2,  0,  0,  0},     9.84e-6,  -0.01e-6 ),
+           new TERM(new int[]{ 0,  0,  0,  0,  2,  0,  0,  0},    -8.85e-6,   0.01e-6 ),
+           new TERM(new int[]{ 0,  1,  0,  0,  0,  0,  0,  0},    -6.38e-6,  -0.05e-6 ),
+           new TERM(new int[]{ 1,  0,  0,  0,  0,  0,  0,  0},    -3.07e-6,   0.00e-6 ),
+           new TERM(new int[]{ 0,  1,  2, -2,  2,  0,  0,  0},     2.23e-6,   0.00e-6 ),
+           new TERM(new int[]{ 0,  0,  2,  0,  1,  0,  0,  0},     1.67e-6,   0.00e-6 ),
+           new TERM(new int[]{ 1,  0,  2,  0,  2,  0,  0,  0},     1.30e-6,   0.00e-6 ),
+           new TERM(new int[]{ 0,  1, -2,  2, -2,  0,  0,  0},     0.93e-6,   0.00e-6 ),
+
+        /* 11-20 */
+           new TERM(new int[]{ 1,  0,  0, -2,  0,  0,  0,  0},     0.68e-6,   0.00e-6 ),
+           new TERM(new int[]{ 0,  0,  2, -2,  1,  0,  0,  0},    -0.55e-6,   0.00e-6 ),
+           new TERM(new int[]{ 1,  0, -2,  0, -2,  0,  0,  0},     0.53e-6,   0.00e-6 ),
+           new TERM(new int[]{ 0,  0,  0,  2,  0,  0,  0,  0},    -0.27e-6,   0.00e-6 ),
+           new TERM(new int[]{ 1,  0,  0,  0,  1,  0,  0,  0},    -0.27e-6,   0.00e-6 ),
+           new TERM(new int[]{ 1,  0, -2, -2, -2,  0,  0,  0},    -0.26e-6,   0.00e-6 ),
+           new TERM(new int[]{ 1,  0,  0,  0, -1,  0,  0,  0},    -0.25e-6,   0.00e-6 ),
+           new TERM(new int[]{ 1,  0,  2,  0,  1,  0,  0,  0},     0.22e-6,   0.00e-6 ),
+           new TERM(new int[]{ 2,  0,  0, -2,  0,  0,  0,  0},    -0.21e-6,   0.00e-6 ),
+           new TERM(new int[]{ 2,  0, -2,  0, -1,  0,  0,  0},     0.20e-6,   0.00e-6 ),
+
+        /* 21-25 */
+           new TERM(new int[]{ 0,  0,  2,  2,  2,  0,  0,  0},     0.17e-6,   0.00e-6 ),
+           new TERM(new int[]{ 2,  0,  2,  0,  2,  0,  0,  0},     0.13e-6,   0.00e-6 ),
+           new TERM(new int[]{ 2,  0,  0,  0,  0,  0,  0,  0},    -0.13e-6,   0.00e-6 ),
+           new TERM(new int[]{ 1,  0,  2, -2,  2,  0,  0,  0},    -0.12e-6,   0.00e-6 ),
+           new TERM(new int[]{ 0,  0,  2,  0,  0,  0,  0,  0},    -0.11e-6,   0.00e-6 )
+        };
+
+        /** Terms of order t^3 */
+        static final TERM s3[] = {
+
+        /* 1-4 */
+           new TERM(new int[]{ 0,  0,  0,  0,  1,  0,  0,  0},     0.30e-6, -23.42e-6 ),
+           new TERM(new int[]{ 0,  0,  2, -2,  2,  0,  0,  0},    -0.03e-6,  -1.46e-6 ),
+           new TERM(new int[]{ 0,  0,  2,  0,  2,  0,  0,  0},    -0.01e-6,  -0.25e-6 ),
+           new TERM(new int[]{ 0,  0,  0,  0,  2,  0,  0,  0},     0.00e-6,   0.23e-6 )
+        };
+
+        /** Terms of order t^4 */
+        static final TERM s4[] = {
+
+        /* 1-1 */
+           new TERM(new int[]{ 0,  0,  0,  0,  1,  0,  0,  0},    -0.26e-6,  -0.01e-6 )
+        };
+    }
+
     /**
     **  The CIO locator s, positioning the Celestial Intermediate Origin on
     **  the equator of the Celestial Intermediate Pole, given the CIP's X,Y
@@ -18632,142 +20189,49 @@ public static class SphericalCoordinateEO {
     **
     **  <!-- Copyright (C) 2009 IAU SOFA Review Board.  See notes at end -->
     */
-    public static double jauS06(double date1, double date2, double x, double y)
-    {
-    /* Time since J2000.0, in Julian centuries */
-       double t;
-
-    /* Miscellaneous */
-       int i, j;
-       double a, w0, w1, w2, w3, w4, w5;
-
-    /* Fundamental arguments */
-       double fa[] = new double[8];
-
-    /* Returned value */
-       double s;
-
-    /* --------------------- */
-    /* The series for s+XY/2 */
-    /* --------------------- */
-
-    /* Polynomial coefficients */
-       final double sp[] = {
-
-       /* 1-6 */
-              94.00e-6,
-            3808.65e-6,
-            -122.68e-6,
-          -72574.11e-6,
-              27.98e-6,
-              15.62e-6
-       };
-
-    /* Terms of order t^0 */
-       final TERM s0[] = {
-
-       /* 1-10 */
-          new TERM(new int[]{ 0,  0,  0,  0,  1,  0,  0,  0}, -2640.73e-6,   0.39e-6 ),
-          new TERM(new int[]{ 0,  0,  0,  0,  2,  0,  0,  0},   -63.53e-6,   0.02e-6 ),
-          new TERM(new int[]{ 0,  0,  2, -2,  3,  0,  0,  0},   -11.75e-6,  -0.01e-6 ),
-          new TERM(new int[]{ 0,  0,  2, -2,  1,  0,  0,  0},   -11.21e-6,  -0.01e-6 ),
-          new TERM(new int[]{ 0,  0,  2, -2,  2,  0,  0,  0},     4.57e-6,   0.00e-6 ),
-          new TERM(new int[]{ 0,  0,  2,  0,  3,  0,  0,  0},    -2.02e-6,   0.00e-6 ),
-          new TERM(new int[]{ 0,  0,  2,  0,  1,  0,  0,  0},    -1.98e-6,   0.00e-6 ),
-          new TERM(new int[]{ 0,  0,  0,  0,  3,  0,  0,  0},     1.72e-6,   0.00e-6 ),
-          new TERM(new int[]{ 0,  1,  0,  0,  1,  0,  0,  0},     1.41e-6,   0.01e-6 ),
-          new TERM(new int[]{ 0,  1,  0,  0, -1,  0,  0,  0},     1.26e-6,   0.01e-6 ),
-
-       /* 11-20 */
-          new TERM(new int[]{ 1,  0,  0,  0, -1,  0,  0,  0},     0.63e-6,   0.00e-6 ),
-          new TERM(new int[]{ 1,  0,  0,  0,  1,  0,  0,  0},     0.63e-6,   0.00e-6 ),
-          new TERM(new int[]{ 0,  1,  2, -2,  3,  0,  0,  0},    -0.46e-6,   0.00e-6 ),
-          new TERM(new int[]{ 0,  1,  2, -2,  1,  0,  0,  0},    -0.45e-6,   0.00e-6 ),
-          new TERM(new int[]{ 0,  0,  4, -4,  4,  0,  0,  0},    -0.36e-6,   0.00e-6 ),
-          new TERM(new int[]{ 0,  0,  1, -1,  1, -8, 12,  0},     0.24e-6,   0.12e-6 ),
-          new TERM(new int[]{ 0,  0,  2,  0,  0,  0,  0,  0},    -0.32e-6,   0.00e-6 ),
-          new TERM(new int[]{ 0,  0,  2,  0,  2,  0,  0,  0},    -0.28e-6,   0.00e-6 ),
-          new TERM(new int[]{ 1,  0,  2,  0,  3,  0,  0,  0},    -0.27e-6,   0.00e-6 ),
-          new TERM(new int[]{ 1,  0,  2,  0,  1,  0,  0,  0},    -0.26e-6,   0.00e-6 ),
-
-       /* 21-30 */
-          new TERM(new int[]{ 0,  0,  2, -2,  0,  0,  0,  0},     0.21e-6,   0.00e-6 ),
-          new TERM(new int[]{ 0,  1, -2,  2, -3,  0,  0,  0},    -0.19e-6,   0.00e-6 ),
-          new TERM(new int[]{ 0,  1, -2,  2, -1,  0,  0,  0},    -0.18e-6,   0.00e-6 ),
-          new TERM(new int[]{ 0,  0,  0,  0,  0,  8,-13, -1},     0.10e-6,  -0.05e-6 ),
-          new TERM(new int[]{ 0,  0,  0,  2,  0,  0,  0,  0},    -0.15e-6,   0.00e-6 ),
-          new TERM(new int[]{ 2,  0, -2,  0, -1,  0,  0,  0},     0.14e-6,   0.00e-6 ),
-          new TERM(new int[]{ 0,  1,  2, -2,  2,  0,  0,  0},     0.14e-6,   0.00e-6 ),
-          new TERM(new int[]{ 1,  0,  0, -2,  1,  0,  0,  0},    -0.14e-6,   0.00e-6 ),
-          new TERM(new int[]{ 1,  0,  0, -2, -1,  0,  0,  0},    -0.14e-6,   0.00e-6 ),
-          new TERM(new int[]{ 0,  0,  4, -2,  4,  0,  0,  0},    -0.13e-6,   0.00e-6 ),
-
-       /* 31-33 */
-          new TERM(new int[]{ 0,  0,  2, -2,  4,  0,  0,  0},     0.11e-6,   0.00e-6 ),
-          new TERM(new int[]{ 1,  0, -2,  0, -3,  0,  0,  0},    -0.11e-6,   0.00e-6 ),
-          new TERM(new int[]{ 1,  0, -2,  0, -1,  0,  0,  0},    -0.11e-6,   0.00e-6 )
-       };
-
-    /* Terms of order t^1 */
-       final TERM s1[] = {
-
-       /* 1 - 3 */
-          new TERM(new int[]{ 0,  0,  0,  0,  2,  0,  0,  0},    -0.07e-6,   3.57e-6 ),
-          new TERM(new int[]{ 0,  0,  0,  0,  1,  0,  0,  0},     1.73e-6,  -0.03e-6 ),
-          new TERM(new int[]{ 0,  0,  2, -2,  3,  0,  0,  0},     0.00e-6,   0.48e-6 )
-       };
-
-    /* Terms of order t^2 */
-       final TERM s2[] = {
-
-       /* 1-10 */
-          new TERM(new int[]{ 0,  0,  0,  0,  1,  0,  0,  0},   743.52e-6,  -0.17e-6 ),
-          new TERM(new int[]{ 0,  0,  2, -2,  2,  0,  0,  0},    56.91e-6,   0.06e-6 ),
-          new TERM(new int[]{ 0,  0,  2,  0,  2,  0,  0,  0},     9.84e-6,  -0.01e-6 ),
-          new TERM(new int[]{ 0,  0,  0,  0,  2,  0,  0,  0},    -8.85e-6,   0.01e-6 ),
-          new TERM(new int[]{ 0,  1,  0,  0,  0,  0,  0,  0},    -6.38e-6,  -0.05e-6 ),
-          new TERM(new int[]{ 1,  0,  0,  0,  0,  0,  0,  0},    -3.07e-6,   0.00e-6 ),
-          new TERM(new int[]{ 0,  1,  2, -2,  2,  0,  0,  0},     2.23e-6,   0.00e-6 ),
-          new TERM(new int[]{ 0,  0,  2,  0,  1,  0,  0,  0},     1.67e-6,   0.00e-6 ),
-          new TERM(new int[]{ 1,  0,  2,  0,  2,  0,  0,  0},     1.30e-6,   0.00e-6 ),
-          new TERM(new int[]{ 0,  1, -2,  2, -2,  0,  0,  0},     0.93e-6,   0.00e-6 ),
-
-       /* 11-20 */
-          new TERM(new int[]{ 1,  0,  0, -2,  0,  0,  0,  0},     0.68e-6,   0.00e-6 ),
-          new TERM(new int[]{ 0,  0,  2, -2,  1,  0,  0,  0},    -0.55e-6,   0.00e-6 ),
-          new TERM(new int[]{ 1,  0, -2,  0, -2,  0,  0,  0},     0.53e-6,   0.00e-6 ),
-          new TERM(new int[]{ 0,  0,  0,  2,  0,  0,  0,  0},    -0.27e-6,   0.00e-6 ),
-          new TERM(new int[]{ 1,  0,  0,  0,  1,  0,  0,  0},    -0.27e-6,   0.00e-6 ),
-          new TERM(new int[]{ 1,  0, -2, -2, -2,  0,  0,  0},    -0.26e-6,   0.00e-6 ),
-          new TERM(new int[]{ 1,  0,  0,  0, -1,  0,  0,  0},    -0.25e-6,   0.00e-6 ),
-          new TERM(new int[]{ 1,  0,  2,  0,  1,  0,  0,  0},     0.22e-6,   0.00e-6 ),
-          new TERM(new int[]{ 2,  0,  0, -2,  0,  0,  0,  0},    -0.21e-6,   0.00e-6 ),
-          new TERM(new int[]{ 2,  0, -2,  0, -1,  0,  0,  0},     0.20e-6,   0.00e-6 ),
+    public static double jauS06(double date1, double date2, double x, double y)
+    {
+       return jauS06(jauFa03(date1, date2), x, y);
 
-       /* 21-25 */
-          new TERM(new int[]{ 0,  0,  2,  2,  2,  0,  0,  0},     0.17e-6,   0.00e-6 ),
-          new TERM(new int[]{ 2,  0,  2,  0,  2,  0,  0,  0},     0.13e-6,   0.00e-6 ),
-          new TERM(new int[]{ 2,  0,  0,  0,  0,  0,  0,  0},    -0.13e-6,   0.00e-6 ),
-          new TERM(new int[]{ 1,  0,  2, -2,  2,  0,  0,  0},    -0.12e-6,   0.00e-6 ),
-          new TERM(new int[]{ 0,  0,  2,  0,  0,  0,  0,  0},    -0.11e-6,   0.00e-6 )
-       };
+        }
 
-    /* Terms of order t^3 */
-       final TERM s3[] = {
+    /**
+    **  The CIO locator s, positioning the Celestial Intermediate Origin on
+    **  the equator of the Celestial Intermediate Pole, given the CIP's X,Y
+    **  coordinates, from fundamental arguments already evaluated.
+    **  See {@link #jauS06(double, double, double, double)}.
+    **
+    **<!-- Given: -->
+    **     @param args    FundamentalArguments  TT date and fundamental arguments,
+    **                                          see {@link #jauFa03}
+    **     @param x,y     double                CIP coordinates (Note 3 of jauS06)
+    **
+    ** <!-- Returned (function value): -->
+    **  @return double  the CIO locator s in radians (Note 2 of jauS06)
+    */
+    public static double jauS06(FundamentalArguments args, double x, double y)
+    {
+    /* Time since J2000.0, in Julian centuries */
+       double t;
 
-       /* 1-4 */
-          new TERM(new int[]{ 0,  0,  0,  0,  1,  0,  0,  0},     0.30e-6, -23.42e-6 ),
-          new TERM(new int[]{ 0,  0,  2, -2,  2,  0,  0,  0},    -0.03e-6,  -1.46e-6 ),
-          new TERM(new int[]{ 0,  0,  2,  0,  2,  0,  0,  0},    -0.01e-6,  -0.25e-6 ),
-          new TERM(new int[]{ 0,  0,  0,  0,  2,  0,  0,  0},     0.00e-6,   0.23e-6 )
-       };
+    /* Miscellaneous */
+       int i, j;
+       double a, w0, w1, w2, w3, w4, w5;
 
-    /* Terms of order t^4 */
-       final TERM s4[] = {
+    /* Fundamental arguments */
+       double fa[] = new double[8];
 
-       /* 1-1 */
-          new TERM(new int[]{ 0,  0,  0,  0,  1,  0,  0,  0},    -0.26e-6,  -0.01e-6 )
-       };
+    /* Returned value */
+       double s;
+
+    /* --------------------- */
+    /* The series for s+XY/2 */
+    /* --------------------- */
+
+    /* Tables (static). */
+       final double sp[] = S06.sp;
+       final TERM s0[] = S06.s0, s1[] = S06.s1, s2[] = S06.s2, s3[] = S06.s3,
+                  s4[] = S06.s4;
 
     /* Number of terms in the series */
        final int NS0 = s0.length;
@@ -18779,33 +20243,33 @@ public static class SphericalCoordinateEO {
     /*--------------------------------------------------------------------*/
 
     /* Interval between fundamental epoch J2000.0 and current date (JC). */
-       t = ((date1 - DJ00) + date2) / DJC;
+       t = args.t;
 
     /* Fundamental Arguments (from IERS Conventions 2003) */
 
     /* Mean anomaly of the Moon. */
-       fa[0] = jauFal03(t);
+       fa[0] = args.l;
 
     /* Mean anomaly of the Sun. */
-       fa[1] = jauFalp03(t);
+       fa[1] = args.lp;
 
     /* Mean longitude of the Moon minus that of the ascending node. */
-       fa[2] = jauFaf03(t);
+       fa[2] = args.f;
 
     /* Mean elongation of the Moon from the Sun. */
-       fa[3] = jauFad03(t);
+       fa[3] = args.d;
 
     /* Mean longitude of the ascending node of the Moon. */
-       fa[4] = jauFaom03(t);
+       fa[4] = args.om;
 
     /* Mean longitude of Venus. */
-       fa[5] = jauFave03(t);
+       fa[5] = args.ve;
 
     /* Mean longitude of Earth. */
-       fa[6] = jauFae03(t);
+       fa[6] = args.ea;
 
     /* General precession in longitude. */
-       fa[7] = jauFapa03(t);
+       fa[7] = args.pa;
 
     /* Evaluate s. */
        w0 = sp[0];
@@ -19700,7 +21164,28 @@ public static class SphericalCoordinateEO {
     */
     public static  double[] jauSxp(double s, double p[])
     {
-       double sp[] = new double[3];
+       return jauSxp(s, p, new double[3]);
+
+        }
+    
+    /**
+    **  Multiply a p-vector by a scalar, into a given array.
+    **
+    **<p>Status:  vector/matrix support function.
+    **
+    **<!-- Given: -->
+    **     @param s         double          scalar
+    **     @param p         double[3]       p-vector
+    **
+    **<!-- Returned: -->
+    **     @param sp        double[3]       <u>returned</u> s * p
+    **     @return sp
+    **
+    **  Note:
+    **     It is permissible for p and sp to be the same array.
+    */
+    public static double[] jauSxp(double s, double p[], double sp[])
+    {
        sp[0] = s * p[0];
        sp[1] = s * p[1];
        sp[2] = s * p[2];
@@ -19929,9 +21414,43 @@ public static class SphericalCoordinateEO {
      * @throws JSOFAInternalError 
      */
     public static JulianDate jauTaiutc(double tai1, double tai2) throws JSOFAIllegalParameter, JSOFAInternalError
+    {
+        return taiutc(tai1, tai2, null);
+    }
+
+    /**
+    **  Time scale transformation:  International Atomic Time, TAI, to
+    **  Coordinated Universal Time, UTC, reporting the SOFA status instead
+    **  of throwing an exception. As {@link #jauTaiutc(double, double)},
+    **  except that the "dubious year" warning is returned as status +1, and
+    **  dates before UTC are a warning, for which Delta(AT) is taken as
+    **  zero, rather than an error.
+    **
+    **<!-- Given: -->
+    **     @param tai1,tai2  double   TAI as a 2-part Julian Date
+    **     @param status     int[1]   <u>returned</u> status: +1 = dubious year,
+    **                                0 = OK, -1 = unacceptable date
+    **     @return UTC as a 2-part quasi Julian Date, or null if the date is unacceptable
+    */
+    public static JulianDate jauTaiutc(double tai1, double tai2, int status[])
+    {
+        status[0] = 0;
+        try {
+            return taiutc(tai1, tai2, status);
+        } catch (JSOFAException e) {
+            status[0] = -1;
+            return null;
+        }
+    }
+
+    /**
+     * Implementation of {@link #jauTaiutc(double, double)}, reporting the
+     * status in js[0] or, if js is null, by exceptions.
+     */
+    private static JulianDate taiutc(double tai1, double tai2, int js[]) throws JSOFAIllegalParameter, JSOFAInternalError
     {
         boolean big1;
-        int i, js;
+        int i;
         double a1, a2,dats1, ddats, dats2, datd = 0.0, as1, as2, da, d1, d2, fd;
         double utc1, utc2;
 
@@ -19953,7 +21472,7 @@ public static class SphericalCoordinateEO {
             d2 = a2 + (double) i;
             Calendar dt;
             dt = jauJd2cal(d1, d2 );
-            dats2 = jauDat(dt.iy, dt.im, dt.id, 0.0);
+            dats2 = dat(dt.iy, dt.im, dt.id, 0.0, js);
 //FIXME            if ( js < 0 ) return -1;
             if ( i == -1 ) dats1 = dats2;
             ddats = dats2 - dats1;
@@ -20343,9 +21862,9 @@ public static class SphericalCoordinateEO {
                         abs(sec) ) * DS2R;
 
         /* FIXME Validate arguments and return status. */
-        if ( ihour < 0 || ihour > 23 ) throw new JSOFAIllegalParameter("bad hour", 1);   
-        if ( imin < 0 || imin > 59 )   throw new JSOFAIllegalParameter("bad minute", 2); 
-        if ( sec < 0.0 || sec >= 60.0 )throw new JSOFAIllegalParameter("bad second", 3); 
+        if ( ihour < 0 || ihour > 23 ) throw new JSOFAIllegalParameter("bad hour", 1, false);   
+        if ( imin < 0 || imin > 59 )   throw new JSOFAIllegalParameter("bad minute", 2, false); 
+        if ( sec < 0.0 || sec >= 60.0 )throw new JSOFAIllegalParameter("bad second", 3, false); 
         return rad;
 
     };
@@ -20398,9 +21917,9 @@ public static class SphericalCoordinateEO {
                         abs(sec) ) / DAYSEC;
 
         /* FIXME Validate arguments and return status. */
-        if ( ihour < 0 || ihour > 23 )  throw new JSOFAIllegalParameter("bad hour", 1);
-        if ( imin < 0 || imin > 59 )    throw new JSOFAIllegalParameter("bad minute", 2);
-        if ( sec < 0.0 || sec >= 60.0 ) throw new JSOFAIllegalParameter("bad second", 3);
+        if ( ihour < 0 || ihour > 23 )  throw new JSOFAIllegalParameter("bad hour", 1, false);
+        if ( imin < 0 || imin > 59 )    throw new JSOFAIllegalParameter("bad minute", 2, false);
+        if ( sec < 0.0 || sec >= 60.0 ) throw new JSOFAIllegalParameter("bad second", 3, false);
         return days;
 
     }
@@ -20433,18 +21952,72 @@ public static class SphericalCoordinateEO {
      */
     public static double[][] jauTr(double r[][])
     {
-        double wm[][]= new double[3][3];
-        int i, j;
+        return jauTr(r, new double[3][3]);
+
+    }
+    
+    /**
+    **  Transpose an r-matrix, into a given array.
+    **
+    **<p>Status:  vector/matrix support function.
+    **
+    **<!-- Given: -->
+    **     @param r         double[3][3]    r-matrix
+    **
+    **<!-- Returned: -->
+    **     @param rt        double[3][3]    <u>returned</u> transpose
+    **     @return rt
+    **
+    **  Note:
+    **     It is permissible for r and rt to be the same array.
+    */
+    public static double[][] jauTr(double r[][], double rt[][])
+    {
+        double w;
 
 
-        for (i = 0; i < 3; i++) {
-            for (j = 0; j < 3; j++) {
-                wm[i][j] = r[j][i];
-            }
-        }
+        rt[0][0] = r[0][0];
+        rt[1][1] = r[1][1];
+        rt[2][2] = r[2][2];
+        w = r[0][1]; rt[0][1] = r[1][0]; rt[1][0] = w;
+        w = r[0][2]; rt[0][2] = r[2][0]; rt[2][0] = w;
+        w = r[1][2]; rt[1][2] = r[2][1]; rt[2][1] = w;
+
+        return rt;
 
+    }
+    
+    /**
+    **  Transpose a flat r-matrix.
+    **
+    **  The r-matrix is held as a flat double[9] in row-major order, so
+    **  that element [i][j] of the usual form is element [3*i+j].
+    **
+    **<p>Status:  vector/matrix support function.
+    **
+    **<!-- Given: -->
+    **     @param r         double[9]       r-matrix
+    **
+    **<!-- Returned: -->
+    **     @param rt        double[9]       <u>returned</u> transpose
+    **     @return rt
+    **
+    **  Note:
+    **     It is permissible for r and rt to be the same array.
+    */
+    public static double[] jauTr(double r[], double rt[])
+    {
+        double w;
+
+
+        rt[0] = r[0];
+        rt[4] = r[4];
+        rt[8] = r[8];
+        w = r[1]; rt[1] = r[3]; rt[3] = w;
+        w = r[2]; rt[2] = r[6]; rt[6] = w;
+        w = r[5]; rt[5] = r[7]; rt[7] = w;
 
-        return wm;
+        return rt;
 
     }
 
@@ -20479,14 +22052,70 @@ public static class SphericalCoordinateEO {
     */
     public static double[] jauTrxp(double r[][], double p[]  )
     {
-       double tr[][];
-       double trp[];
+       return jauTrxp(r, p, new double[3]);
+
+        }
+    
+    /**
+    **  Multiply a p-vector by the transpose of an r-matrix, into a given array.
+    **
+    **<p>Status:  vector/matrix support function.
+    **
+    **<!-- Given: -->
+    **     @param r         double[3][3]    r-matrix
+    **     @param p         double[3]       p-vector
+    **
+    **<!-- Returned: -->
+    **     @param trp       double[3]       <u>returned</u> r^T * p
+    **     @return trp
+    **
+    **  Note:
+    **     It is permissible for p and trp to be the same array.
+    */
+    public static double[] jauTrxp(double r[][], double p[], double trp[])
+    {
+       double w0, w1, w2;
+
 
-    /* Transpose of matrix r. */
-       tr = jauTr(r);
+    /* Matrix r transposed * vector p. */
+       w0 = r[0][0] * p[0] + r[1][0] * p[1] + r[2][0] * p[2];
+       w1 = r[0][1] * p[0] + r[1][1] * p[1] + r[2][1] * p[2];
+       w2 = r[0][2] * p[0] + r[1][2] * p[1] + r[2][2] * p[2];
 
-    /* Matrix tr * vector p -> vector trp. */
-       trp = jauRxp(tr, p);
+       trp[0] = w0;
+       trp[1] = w1;
+       trp[2] = w2;
+
+       return trp;
+
+        }
+    
+    /**
+    **  Multiply a p-vector by the transpose of a flat r-matrix.
+    **
+    **  The r-matrix is held as a flat double[9] in row-major order, so
+    **  that element [i][j] of the usual form is element [3*i+j].
+    **
+    **<p>Status:  vector/matrix support function.
+    **
+    **<!-- Given: -->
+    **     @param r         double[9]       r-matrix
+    **     @param p         double[3]       p-vector
+    **
+    **<!-- Returned: -->
+    **     @param trp       double[3]       <u>returned</u> r^T * p
+    **     @return trp
+    **
+    **  Note:
+    **     It is permissible for p and trp to be the same array.
+    */
+    public static double[] jauTrxp(double r[], double p[], double trp[])
+    {
+       double p0 = p[0], p1 = p[1], p2 = p[2];
+
+       trp[0] = r[0] * p0 + r[3] * p1 + r[6] * p2;
+       trp[1] = r[1] * p0 + r[4] * p1 + r[7] * p2;
+       trp[2] = r[2] * p0 + r[5] * p1 + r[8] * p2;
 
        return trp;
 
@@ -20523,14 +22152,30 @@ public static class SphericalCoordinateEO {
     */
     public static double[][] jauTrxpv(double r[][], double pv[][] )
     {
-       double tr[][], trpv[][];
-
+       return jauTrxpv(r, pv, new double[2][3]);
 
-    /* Transpose of matrix r. */
-       tr = jauTr(r);
-
-    /* Matrix tr * vector pv -> vector trpv. */
-       trpv = jauRxpv(tr, pv);
+        }
+    
+    /**
+    **  Multiply a pv-vector by the transpose of an r-matrix, into a given array.
+    **
+    **<p>Status:  vector/matrix support function.
+    **
+    **<!-- Given: -->
+    **     @param r         double[3][3]    r-matrix
+    **     @param pv        double[2][3]    pv-vector
+    **
+    **<!-- Returned: -->
+    **     @param trpv      double[2][3]    <u>returned</u> r^T * pv
+    **     @return trpv
+    **
+    **  Note:
+    **     It is permissible for pv and trpv to be the same array.
+    */
+    public static double[][] jauTrxpv(double r[][], double pv[][], double trpv[][])
+    {
+       jauTrxp(r, pv[0], trpv[0]);
+       jauTrxp(r, pv[1], trpv[1]);
 
        return trpv;
 
@@ -20539,17 +22184,14 @@ public static class SphericalCoordinateEO {
     /*
      * constant arrays set outside jauXy06 to avoid problems with 65535 byte limit on function size
      */
-    static {
-        /* need to define this function because it appears that javac lumps all of the statically defined initalizers into one function on 
-         * compilation - so this will force a second function */
-        init_mfals();
-    }
     /** Fundamental-argument multipliers:  luni-solar terms */
-    private static int mfals[][]; //IMPL would like to be final really
+    private static final int mfals[][] = init_mfals();
     
-    private static void init_mfals(){
+    /* need to define this function because it appears that javac lumps all of the statically defined initalizers into one function on 
+     * compilation - so this will force a second function */
+    private static int[][] init_mfals(){
         
-    mfals = new int[][]
+    return new int[][]
     {
 
    /* 1-10 */
@@ -22727,9 +24369,43 @@ public static class SphericalCoordinateEO {
       public static JulianDate jauUtctai(double utc1, double utc2) throws JSOFAIllegalParameter, JSOFAInternalError
 
       {
+        return utctai(utc1, utc2, null, new int[3]);
+    }
+
+    /**
+    **  Time scale transformation:  Coordinated Universal Time, UTC, to
+    **  International Atomic Time, TAI, reporting the SOFA status instead of
+    **  throwing an exception. As {@link #jauUtctai(double, double)}, except
+    **  that the "dubious year" warning is returned as status +1, and dates
+    **  before UTC are a warning, for which Delta(AT) is taken as zero,
+    **  rather than an error.
+    **
+    **<!-- Given: -->
+    **     @param utc1,utc2  double   UTC as a 2-part quasi Julian Date
+    **     @param status     int[1]   <u>returned</u> status: +1 = dubious year,
+    **                                0 = OK, -1 = unacceptable date
+    **     @return TAI as a 2-part Julian Date, or null if the date is unacceptable
+    */
+    public static JulianDate jauUtctai(double utc1, double utc2, int status[])
+    {
+        status[0] = 0;
+        try {
+            return utctai(utc1, utc2, status, new int[3]);
+        } catch (JSOFAException e) {
+            status[0] = -1;
+            return null;
+        }
+    }
+
+    /**
+     * Implementation of {@link #jauUtctai(double, double)}, reporting the
+     * status in js[0] or, if js is null, by exceptions, and using ymd
+     * (int[3]) as working space for the calendar date.
+     */
+    private static JulianDate utctai(double utc1, double utc2, int js[], int ymd[]) throws JSOFAIllegalParameter, JSOFAInternalError
+    {
           double tai1, tai2;
           boolean big1;
-          int  js;
           double u1, u2,  dats,  datst, ddat, a2, fd;
 
 
@@ -22744,13 +24420,13 @@ public static class SphericalCoordinateEO {
           }
 
           /* Get TAI-UTC now. */
-          Calendar dt = jauJd2cal(u1, u2 );
-          dats = jauDat(dt.iy, dt.im, dt.id, dt.fd);
+          fd = jauJd2cal(u1, u2, ymd);
+          final int iy = ymd[0], im = ymd[1], id = ymd[2];
+          dats = dat(iy, im, id, fd, js);
  //         if ( js < 0 ) return -1;
-          fd = dt.fd;
           /* Get TAI-UTC tomorrow. */
-          Calendar dtt = jauJd2cal(u1+1.5, u2-fd );
-          datst = jauDat(dtt.iy, dtt.im, dtt.id, dtt.fd);
+          final double fdt = jauJd2cal(u1+1.5, u2-fd, ymd);
+          datst = dat(ymd[0], ymd[1], ymd[2], fdt, js);
 //          if ( js < 0 ) return -1;
 
           /* If today ends in a leap second, scale the fraction into SI days. */
@@ -22758,11 +24434,11 @@ public static class SphericalCoordinateEO {
           if ( abs(ddat) > 0.5 ) fd += fd * ddat / DAYSEC;
 
           /* Today's calendar date to 2-part JD. */
-          JulianDate jd = jauCal2jd(dt.iy, dt.im, dt.id ) ;
+          final double djm = jauCal2mjd(iy, im, id);
 
           /* Assemble the TAI result, preserving the UTC split and order. */
-          a2 = jd.djm0 - u1;
-          a2 += jd.djm1;
+          a2 = DJM0 - u1;
+          a2 += djm;
           a2 += fd + dats / DAYSEC;
           if ( big1 ) {
               tai1 = u1;
@@ -22854,24 +24530,964 @@ public static class SphericalCoordinateEO {
        */
       public static JulianDate jauUtcut1(double utc1, double utc2, double dut1) throws JSOFAIllegalParameter, JSOFAInternalError
       {
+        return utcut1(utc1, utc2, dut1, null, new int[3]);
+    }
+
+    /**
+    **  Time scale transformation:  Coordinated Universal Time, UTC, to
+    **  Universal Time, UT1, as {@link #jauUtcut1(double, double, double)}
+    **  with UT1-UTC from a table of Earth orientation parameters.
+    **
+    **<!-- Given: -->
+    **     @param utc1,utc2  double   UTC as a 2-part quasi Julian Date
+    **     @param eop        EarthOrientationTable  source of UT1-UTC
+    **     @return UT1 as a 2-part Julian Date
+    **     @throws JSOFAIllegalParameter  unacceptable date, or outside the table
+    **     @throws JSOFAInternalError     date before UTC
+    */
+    public static JulianDate jauUtcut1(double utc1, double utc2, EarthOrientationTable eop) throws JSOFAIllegalParameter, JSOFAInternalError
+    {
+        return jauUtcut1(utc1, utc2, eop.dut1(utc1, utc2));
+    }
+
+
+    /**
+    **  Time scale transformation:  Coordinated Universal Time, UTC, to
+    **  Universal Time, UT1, reporting the SOFA status instead of throwing
+    **  an exception. As {@link #jauUtcut1(double, double, double)}, except
+    **  that the "dubious year" warning is returned as status +1, and dates
+    **  before UTC are a warning, for which Delta(AT) is taken as zero,
+    **  rather than an error.
+    **
+    **<!-- Given: -->
+    **     @param utc1,utc2  double   UTC as a 2-part quasi Julian Date
+    **     @param dut1       double   Delta UT1 = UT1-UTC in seconds
+    **     @param status     int[1]   <u>returned</u> status: +1 = dubious year,
+    **                                0 = OK, -1 = unacceptable date
+    **     @return UT1 as a 2-part Julian Date, or null if the date is unacceptable
+    */
+    public static JulianDate jauUtcut1(double utc1, double utc2, double dut1, int status[])
+    {
+        status[0] = 0;
+        try {
+            return utcut1(utc1, utc2, dut1, status, new int[3]);
+        } catch (JSOFAException e) {
+            status[0] = -1;
+            return null;
+        }
+    }
+
+    /**
+     * Implementation of {@link #jauUtcut1(double, double, double)},
+     * reporting the status in js[0] or, if js is null, by exceptions, and
+     * using ymd (int[3]) as working space for the calendar date.
+     */
+    private static JulianDate utcut1(double utc1, double utc2, double dut1, int js[], int ymd[]) throws JSOFAIllegalParameter, JSOFAInternalError
+    {
 
     
           double dta;
           /* Look up TAI-UTC. */
-          Calendar dt = jauJd2cal(utc1, utc2) ;
-          double dat = jauDat ( dt.iy, dt.im, dt.id, 0.0 );
+          jauJd2cal(utc1, utc2, ymd) ;
+          double dat = dat(ymd[0], ymd[1], ymd[2], 0.0, js);
      
 
           /* Form UT1-TAI. */
           dta = dut1 - dat;
 
           /* UTC to TAI to UT1. */
-          JulianDate tai = jauUtctai(utc1, utc2);
+          JulianDate tai = utctai(utc1, utc2, js, ymd);
           return jauTaiut1(tai.djm0, tai.djm1, dta) ;
 
       };
 
       
+    /**
+     * Tables for the X,Y series of {@link #jauXy06}, built once rather than
+     * on every call.  The amplitudes and their pointers are set up in
+     * separate methods to get round the 65535 byte limit on the size of a
+     * method.
+     */
+    private static final class Xy06 {
+        /** Maximum power of T in the polynomials for X and Y */
+        static final int MAXPT = (5);
+
+        /** Polynomial coefficients (arcsec, X then Y). */
+        static final double xyp[][] = {
+
+             {    -0.016617,
+                2004.191898,
+                  -0.4297829,
+                  -0.19861834,
+                   0.000007578,
+                   0.0000059285
+             },
+             {    -0.006951,
+                  -0.025896,
+                 -22.4072747,
+                   0.00190059,
+                   0.001112526,
+                   0.0000001358
+             }
+          };
+
+        /** Pointers into amplitudes array, one pointer per frequency */
+        static final int nc[] = pointers();
+
+        /** Amplitude coefficients (microarcsec);  indexed using the nc array. */
+        static final double a[] = amplitudes();
+
+        /** Amplitude usage: X or Y, sin or cos, power of T. */
+        static final int jaxy[] = {0,1,0,1,0,1,0,1,0,1,0,1,0,1,0,1,0,1,0,1};
+        static final int jasc[] = {0,1,1,0,1,0,0,1,0,1,1,0,1,0,0,1,0,1,1,0};
+        static final int japt[] = {0,0,0,0,1,1,1,1,2,2,2,2,3,3,3,3,4,4,4,4};
+
+        private static int[] pointers() {
+            return new int[] {
+
+             /* 1-100 */
+                 1,    21,    37,    51,    65,    79,    91,   103,   115,   127,
+               139,   151,   163,   172,   184,   196,   207,   219,   231,   240,
+               252,   261,   273,   285,   297,   309,   318,   327,   339,   351,
+               363,   372,   384,   396,   405,   415,   423,   435,   444,   452,
+               460,   467,   474,   482,   490,   498,   506,   513,   521,   528,
+               536,   543,   551,   559,   566,   574,   582,   590,   597,   605,
+               613,   620,   628,   636,   644,   651,   658,   666,   674,   680,
+               687,   695,   702,   710,   717,   725,   732,   739,   746,   753,
+               760,   767,   774,   782,   790,   798,   805,   812,   819,   826,
+               833,   840,   846,   853,   860,   867,   874,   881,   888,   895,
+
+             /* 101-200 */
+               901,   908,   914,   921,   928,   934,   941,   948,   955,   962,
+               969,   976,   982,   989,   996,  1003,  1010,  1017,  1024,  1031,
+              1037,  1043,  1050,  1057,  1064,  1071,  1078,  1084,  1091,  1098,
+              1104,  1112,  1118,  1124,  1131,  1138,  1145,  1151,  1157,  1164,
+              1171,  1178,  1185,  1192,  1199,  1205,  1212,  1218,  1226,  1232,
+              1239,  1245,  1252,  1259,  1266,  1272,  1278,  1284,  1292,  1298,
+              1304,  1310,  1316,  1323,  1329,  1335,  1341,  1347,  1353,  1359,
+              1365,  1371,  1377,  1383,  1389,  1396,  1402,  1408,  1414,  1420,
+              1426,  1434,  1440,  1446,  1452,  1459,  1465,  1471,  1477,  1482,
+              1488,  1493,  1499,  1504,  1509,  1514,  1520,  1527,  1532,  1538,
+
+             /* 201-300 */
+              1543,  1548,  1553,  1558,  1564,  1569,  1574,  1579,  1584,  1589,
+              1594,  1596,  1598,  1600,  1602,  1605,  1608,  1610,  1612,  1617,
+              1619,  1623,  1625,  1627,  1629,  1632,  1634,  1640,  1642,  1644,
+              1646,  1648,  1650,  1652,  1654,  1658,  1660,  1662,  1664,  1668,
+              1670,  1672,  1673,  1675,  1679,  1681,  1683,  1684,  1686,  1688,
+              1690,  1693,  1695,  1697,  1701,  1703,  1705,  1707,  1709,  1711,
+              1712,  1715,  1717,  1721,  1723,  1725,  1727,  1729,  1731,  1733,
+              1735,  1737,  1739,  1741,  1743,  1745,  1747,  1749,  1751,  1753,
+              1755,  1757,  1759,  1761,  1762,  1764,  1766,  1768,  1769,  1771,
+              1773,  1775,  1777,  1779,  1781,  1783,  1785,  1787,  1788,  1790,
+
+             /* 301-400 */
+              1792,  1794,  1796,  1798,  1800,  1802,  1804,  1806,  1807,  1809,
+              1811,  1815,  1817,  1819,  1821,  1823,  1825,  1827,  1829,  1831,
+              1833,  1835,  1837,  1839,  1840,  1842,  1844,  1848,  1850,  1852,
+              1854,  1856,  1858,  1859,  1860,  1862,  1864,  1866,  1868,  1869,
+              1871,  1873,  1875,  1877,  1879,  1881,  1883,  1885,  1887,  1889,
+              1891,  1892,  1896,  1898,  1900,  1901,  1903,  1905,  1907,  1909,
+              1910,  1911,  1913,  1915,  1919,  1921,  1923,  1927,  1929,  1931,
+              1933,  1935,  1937,  1939,  1943,  1945,  1947,  1948,  1949,  1951,
+              1953,  1955,  1957,  1958,  1960,  1962,  1964,  1966,  1968,  1970,
+              1971,  1973,  1974,  1975,  1977,  1979,  1980,  1981,  1982,  1984,
+
+             /* 401-500 */
+              1986,  1988,  1990,  1992,  1994,  1995,  1997,  1999,  2001,  2003,
+              2005,  2007,  2008,  2009,  2011,  2013,  2015,  2017,  2019,  2021,
+              2023,  2024,  2025,  2027,  2029,  2031,  2033,  2035,  2037,  2041,
+              2043,  2045,  2046,  2047,  2049,  2051,  2053,  2055,  2056,  2057,
+              2059,  2061,  2063,  2065,  2067,  2069,  2070,  2071,  2072,  2074,
+              2076,  2078,  2080,  2082,  2084,  2086,  2088,  2090,  2092,  2094,
+              2095,  2096,  2097,  2099,  2101,  2105,  2106,  2107,  2108,  2109,
+              2110,  2111,  2113,  2115,  2119,  2121,  2123,  2125,  2127,  2129,
+              2131,  2133,  2135,  2136,  2137,  2139,  2141,  2143,  2145,  2147,
+              2149,  2151,  2153,  2155,  2157,  2159,  2161,  2163,  2165,  2167,
+
+             /* 501-600 */
+              2169,  2171,  2173,  2175,  2177,  2179,  2181,  2183,  2185,  2186,
+              2187,  2188,  2192,  2193,  2195,  2197,  2199,  2201,  2203,  2205,
+              2207,  2209,  2211,  2213,  2217,  2219,  2221,  2223,  2225,  2227,
+              2229,  2231,  2233,  2234,  2235,  2236,  2237,  2238,  2239,  2240,
+              2241,  2244,  2246,  2248,  2250,  2252,  2254,  2256,  2258,  2260,
+              2262,  2264,  2266,  2268,  2270,  2272,  2274,  2276,  2278,  2280,
+              2282,  2284,  2286,  2288,  2290,  2292,  2294,  2296,  2298,  2300,
+              2302,  2303,  2304,  2305,  2306,  2307,  2309,  2311,  2313,  2315,
+              2317,  2319,  2321,  2323,  2325,  2327,  2329,  2331,  2333,  2335,
+              2337,  2341,  2343,  2345,  2347,  2349,  2351,  2352,  2355,  2356,
+
+             /* 601-700 */
+              2357,  2358,  2359,  2361,  2363,  2364,  2365,  2366,  2367,  2368,
+              2369,  2370,  2371,  2372,  2373,  2374,  2376,  2378,  2380,  2382,
+              2384,  2385,  2386,  2387,  2388,  2389,  2390,  2391,  2392,  2393,
+              2394,  2395,  2396,  2397,  2398,  2399,  2400,  2401,  2402,  2403,
+              2404,  2405,  2406,  2407,  2408,  2409,  2410,  2411,  2412,  2413,
+              2414,  2415,  2417,  2418,  2430,  2438,  2445,  2453,  2460,  2468,
+              2474,  2480,  2488,  2496,  2504,  2512,  2520,  2527,  2535,  2543,
+              2550,  2558,  2566,  2574,  2580,  2588,  2596,  2604,  2612,  2619,
+              2627,  2634,  2642,  2648,  2656,  2664,  2671,  2679,  2685,  2693,
+              2701,  2709,  2717,  2725,  2733,  2739,  2747,  2753,  2761,  2769,
+
+             /* 701-800 */
+              2777,  2785,  2793,  2801,  2809,  2817,  2825,  2833,  2841,  2848,
+              2856,  2864,  2872,  2878,  2884,  2892,  2898,  2906,  2914,  2922,
+              2930,  2938,  2944,  2952,  2958,  2966,  2974,  2982,  2988,  2996,
+              3001,  3009,  3017,  3025,  3032,  3039,  3045,  3052,  3059,  3067,
+              3069,  3076,  3083,  3090,  3098,  3105,  3109,  3111,  3113,  3120,
+              3124,  3128,  3132,  3136,  3140,  3144,  3146,  3150,  3158,  3161,
+              3165,  3166,  3168,  3172,  3176,  3180,  3182,  3185,  3189,  3193,
+              3194,  3197,  3200,  3204,  3208,  3212,  3216,  3219,  3221,  3222,
+              3226,  3230,  3234,  3238,  3242,  3243,  3247,  3251,  3254,  3258,
+              3262,  3266,  3270,  3274,  3275,  3279,  3283,  3287,  3289,  3293,
+
+             /* 801-900 */
+              3296,  3300,  3303,  3307,  3311,  3315,  3319,  3321,  3324,  3327,
+              3330,  3334,  3338,  3340,  3342,  3346,  3350,  3354,  3358,  3361,
+              3365,  3369,  3373,  3377,  3381,  3385,  3389,  3393,  3394,  3398,
+              3402,  3406,  3410,  3413,  3417,  3421,  3425,  3429,  3433,  3435,
+              3439,  3443,  3446,  3450,  3453,  3457,  3458,  3461,  3464,  3468,
+              3472,  3476,  3478,  3481,  3485,  3489,  3493,  3497,  3501,  3505,
+              3507,  3511,  3514,  3517,  3521,  3524,  3525,  3527,  3529,  3533,
+              3536,  3540,  3541,  3545,  3548,  3551,  3555,  3559,  3563,  3567,
+              3569,  3570,  3574,  3576,  3578,  3582,  3586,  3590,  3593,  3596,
+              3600,  3604,  3608,  3612,  3616,  3620,  3623,  3626,  3630,  3632,
+
+             /* 901-1000 */
+              3636,  3640,  3643,  3646,  3648,  3652,  3656,  3660,  3664,  3667,
+              3669,  3671,  3675,  3679,  3683,  3687,  3689,  3693,  3694,  3695,
+              3699,  3703,  3705,  3707,  3710,  3713,  3717,  3721,  3725,  3729,
+              3733,  3736,  3740,  3744,  3748,  3752,  3754,  3757,  3759,  3763,
+              3767,  3770,  3773,  3777,  3779,  3783,  3786,  3790,  3794,  3798,
+              3801,  3805,  3809,  3813,  3817,  3821,  3825,  3827,  3831,  3835,
+              3836,  3837,  3840,  3844,  3848,  3852,  3856,  3859,  3863,  3867,
+              3869,  3871,  3875,  3879,  3883,  3887,  3890,  3894,  3898,  3901,
+              3905,  3909,  3913,  3917,  3921,  3922,  3923,  3924,  3926,  3930,
+              3932,  3936,  3938,  3940,  3944,  3948,  3952,  3956,  3959,  3963,
+
+             /* 1001-1100 */
+              3965,  3969,  3973,  3977,  3979,  3981,  3982,  3986,  3989,  3993,
+              3997,  4001,  4004,  4006,  4009,  4012,  4016,  4020,  4024,  4026,
+              4028,  4032,  4036,  4040,  4044,  4046,  4050,  4054,  4058,  4060,
+              4062,  4063,  4064,  4068,  4071,  4075,  4077,  4081,  4083,  4087,
+              4089,  4091,  4095,  4099,  4101,  4103,  4105,  4107,  4111,  4115,
+              4119,  4123,  4127,  4129,  4131,  4135,  4139,  4141,  4143,  4145,
+              4149,  4153,  4157,  4161,  4165,  4169,  4173,  4177,  4180,  4183,
+              4187,  4191,  4195,  4198,  4201,  4205,  4209,  4212,  4213,  4216,
+              4217,  4221,  4223,  4226,  4230,  4234,  4236,  4240,  4244,  4248,
+              4252,  4256,  4258,  4262,  4264,  4266,  4268,  4270,  4272,  4276,
+
+             /* 1101-1200 */
+              4279,  4283,  4285,  4287,  4289,  4293,  4295,  4299,  4300,  4301,
+              4305,  4309,  4313,  4317,  4319,  4323,  4325,  4329,  4331,  4333,
+              4335,  4337,  4341,  4345,  4349,  4351,  4353,  4357,  4361,  4365,
+              4367,  4369,  4373,  4377,  4381,  4383,  4387,  4389,  4391,  4395,
+              4399,  4403,  4407,  4411,  4413,  4414,  4415,  4418,  4419,  4421,
+              4423,  4427,  4429,  4431,  4433,  4435,  4437,  4439,  4443,  4446,
+              4450,  4452,  4456,  4458,  4460,  4462,  4466,  4469,  4473,  4477,
+              4481,  4483,  4487,  4489,  4491,  4493,  4497,  4499,  4501,  4504,
+              4506,  4510,  4513,  4514,  4515,  4518,  4521,  4522,  4525,  4526,
+              4527,  4530,  4533,  4534,  4537,  4541,  4542,  4543,  4544,  4545,
+
+             /* 1201-1300 */
+              4546,  4547,  4550,  4553,  4554,  4555,  4558,  4561,  4564,  4567,
+              4568,  4571,  4574,  4575,  4578,  4581,  4582,  4585,  4586,  4588,
+              4590,  4592,  4596,  4598,  4602,  4604,  4608,  4612,  4613,  4616,
+              4619,  4622,  4623,  4624,  4625,  4626,  4629,  4632,  4633,  4636,
+              4639,  4640,  4641,  4642,  4643,  4644,  4645,  4648,  4649,  4650,
+              4651,  4652,  4653,  4656,  4657,  4660,  4661,  4664,  4667,  4670,
+              4671,  4674,  4675,  4676,  4677,  4678,  4681,  4682,  4683,  4684,
+              4687,  4688,  4689,  4692,  4693,  4696,  4697,  4700,  4701,  4702,
+              4703,  4704,  4707,  4708,  4711,  4712,  4715,  4716,  4717,  4718,
+              4719,  4720,  4721,  4722,  4723,  4726,  4729,  4730,  4733,  4736,
+
+             /* 1301-(NFLS+NFPL) */
+              4737,  4740,  4741,  4742,  4745,  4746,  4749,  4752,  4753
+             };
+        }
+
+        private static double[] amplitudes() {
+            return new double[] {
+
+             /* 1-105 */
+                   -6844318.44,     9205236.26,1328.67,1538.18,      205833.11,
+                     153041.79,       -3309.73, 853.32,2037.98,       -2301.27,
+                 81.46, 120.56, -20.39, -15.22,   1.73,  -1.61,  -0.10,   0.11,
+                 -0.02,  -0.02,     -523908.04,      573033.42,-544.75,-458.66,
+                      12814.01,       11714.49, 198.97,-290.91, 155.74,-143.27,
+                 -2.75,  -1.03,  -1.27,  -1.16,   0.00,  -0.01,      -90552.22,
+                      97846.69, 111.23, 137.41,2187.91,2024.68,  41.44, -51.26,
+                 26.92, -24.46,  -0.46,  -0.28,  -0.22,  -0.20,       82168.76,
+                     -89618.24, -27.64, -29.05,       -2004.36,       -1837.32,
+                -36.07,  48.00, -24.43,  22.41,   0.47,   0.24,   0.20,   0.18,
+                      58707.02,7387.02, 470.05,-192.40, 164.33,       -1312.21,
+               -179.73, -28.93, -17.36,  -1.83,  -0.50,   3.57,   0.00,   0.13,
+                     -20557.78,       22438.42, -20.84, -17.40, 501.82, 459.68,
+                 59.20, -67.30,   6.08,  -5.61,  -1.36,  -1.19,       28288.28,
+               -674.99, -34.69,  35.80, -15.07,-632.54, -11.19,   0.78,  -8.41,
+                  0.17,   0.01,   0.07,      -15406.85,       20069.50,  15.12,
+
+             /* 106-219 */
+                 31.80, 448.76, 344.50,  -5.77,   1.41,   4.59,  -5.02,   0.17,
+                  0.24,      -11991.74,       12902.66,  32.46,  36.70, 288.49,
+                268.14,   5.70,  -7.06,   3.57,  -3.23,  -0.06,  -0.04,
+                      -8584.95,       -9592.72,   4.42, -13.20,-214.50, 192.06,
+                 23.87,  29.83,   2.54,   2.40,   0.60,  -0.48,5095.50,
+                      -6918.22,   7.19,   3.92,-154.91,-113.94,   2.86,  -1.04,
+                 -1.52,   1.73,  -0.07,  -0.10,       -4910.93,       -5331.13,
+                  0.76,   0.40,-119.21, 109.81,   2.16,   3.20,   1.46,   1.33,
+                  0.04,  -0.02,       -6245.02,-123.48,  -6.68,  -8.20,  -2.76,
+                139.64,   2.71,   0.15,   1.86,2511.85,       -3323.89,   1.07,
+                 -0.90, -74.33, -56.17,   1.16,  -0.01,  -0.75,   0.83,  -0.02,
+                 -0.04,2307.58,3143.98,  -7.52,   7.50,  70.31, -51.60,   1.46,
+                  0.16,  -0.69,  -0.79,   0.02,  -0.05,2372.58,2554.51,   5.93,
+                 -6.60,  57.12, -53.05,  -0.96,  -1.24,  -0.71,  -0.64,  -0.01,
+                      -2053.16,2636.13,   5.13,   7.80,  58.94,  45.91,  -0.42,
+                 -0.12,   0.61,  -0.66,   0.02,   0.03,       -1825.49,
+
+             /* 220-339 */
+                      -2423.59,   1.23,  -2.00, -54.19,  40.82,  -1.07,  -1.02,
+                  0.54,   0.61,  -0.04,   0.04,2521.07,-122.28,  -5.97,   2.90,
+                 -2.73, -56.37,  -0.82,   0.13,  -0.75,       -1534.09,1645.01,
+                  6.29,   6.80,  36.78,  34.30,   0.92,  -1.25,   0.46,  -0.41,
+                 -0.02,  -0.01,1898.27,  47.70,  -0.72,   2.50,   1.07, -42.45,
+                 -0.94,   0.02,  -0.56,       -1292.02,       -1387.00,   0.00,
+                  0.00, -31.01,  28.89,   0.68,   0.00,   0.38,   0.35,  -0.01,
+                 -0.01,       -1234.96,1323.81,   5.21,   5.90,  29.60,  27.61,
+                  0.74,  -1.22,   0.37,  -0.33,  -0.02,  -0.01,1137.48,
+                      -1233.89,  -0.04,  -0.30, -27.59, -25.43,  -0.61,   1.00,
+                 -0.34,   0.31,   0.01,   0.01,-813.13,       -1075.60,   0.40,
+                  0.30, -24.05,  18.18,  -0.40,  -0.01,   0.24,   0.27,  -0.01,
+                  0.01,1163.22, -60.90,  -2.94,   1.30,  -1.36, -26.01,  -0.58,
+                  0.07,  -0.35,1029.70, -55.55,  -2.63,   1.10,  -1.25, -23.02,
+                 -0.52,   0.06,  -0.31,-556.26, 852.85,   3.16,  -4.48,  19.06,
+                 12.44,  -0.81,  -0.27,   0.17,  -0.21,   0.00,   0.02,-603.52,
+
+             /* 340-467 */
+               -800.34,   0.44,   0.10, -17.90,  13.49,  -0.08,  -0.01,   0.18,
+                  0.20,  -0.01,   0.01,-628.24, 684.99,  -0.64,  -0.50,  15.32,
+                 14.05,   3.18,  -4.19,   0.19,  -0.17,  -0.09,  -0.07,-866.48,
+                -16.26,   0.52,  -1.30,  -0.36,  19.37,   0.43,  -0.01,   0.26,
+               -512.37, 695.54,  -1.47,  -1.40,  15.55,  11.46,  -0.16,   0.03,
+                  0.15,  -0.17,   0.01,   0.01, 506.65, 643.75,   2.54,  -2.62,
+                 14.40, -11.33,  -0.77,  -0.06,  -0.15,  -0.16,   0.00,   0.01,
+                664.57,  16.81,  -0.40,   1.00,   0.38, -14.86,  -3.71,  -0.09,
+                 -0.20, 405.91, 522.11,   0.99,  -1.50,  11.67,  -9.08,  -0.25,
+                 -0.02,  -0.12,  -0.13,-305.78, 326.60,   1.75,   1.90,   7.30,
+                  6.84,   0.20,  -0.04, 300.99,-325.03,  -0.44,  -0.50,  -7.27,
+                 -6.73,  -1.01,   0.01,   0.00,   0.08,   0.00,   0.02, 438.51,
+                 10.47,  -0.56,  -0.20,   0.24,  -9.81,  -0.24,   0.01,  -0.13,
+               -264.02, 335.24,   0.99,   1.40,   7.49,   5.90,  -0.27,  -0.02,
+                284.09, 307.03,   0.32,  -0.40,   6.87,  -6.35,  -0.99,  -0.01,
+               -250.54, 327.11,   0.08,   0.40,   7.31,   5.60,  -0.30, 230.72,
+
+             /* 468-595 */
+               -304.46,   0.08,  -0.10,  -6.81,  -5.16,   0.27, 229.78, 304.17,
+                 -0.60,   0.50,   6.80,  -5.14,   0.33,   0.01, 256.30,-276.81,
+                 -0.28,  -0.40,  -6.19,  -5.73,  -0.14,   0.01,-212.82, 269.45,
+                  0.84,   1.20,   6.02,   4.76,   0.14,  -0.02, 196.64, 272.05,
+                 -0.84,   0.90,   6.08,  -4.40,   0.35,   0.02, 188.95, 272.22,
+                 -0.12,   0.30,   6.09,  -4.22,   0.34,-292.37,  -5.10,  -0.32,
+                 -0.40,  -0.11,   6.54,   0.14,   0.01, 161.79,-220.67,   0.24,
+                  0.10,  -4.93,  -3.62,  -0.08, 261.54, -19.94,  -0.95,   0.20,
+                 -0.45,  -5.85,  -0.13,   0.02, 142.16,-190.79,   0.20,   0.10,
+                 -4.27,  -3.18,  -0.07, 187.95,  -4.11,  -0.24,   0.30,  -0.09,
+                 -4.20,  -0.09,   0.01,   0.00,   0.00, -79.08, 167.90,   0.04,
+                  0.00,   3.75,   1.77, 121.98, 131.04,  -0.08,   0.10,   2.93,
+                 -2.73,  -0.06,-172.95,  -8.11,  -0.40,  -0.20,  -0.18,   3.87,
+                  0.09,   0.01,-160.15, -55.30, -14.04,  13.90,  -1.23,   3.58,
+                  0.40,   0.31,-115.40, 123.20,   0.60,   0.70,   2.75,   2.58,
+                  0.08,  -0.01,-168.26,  -2.00,   0.20,  -0.20,  -0.04,   3.76,
+
+             /* 596-723 */
+                  0.08,-114.49, 123.20,   0.32,   0.40,   2.75,   2.56,   0.07,
+                 -0.01, 112.14, 120.70,   0.28,  -0.30,   2.70,  -2.51,  -0.07,
+                 -0.01, 161.34,   4.03,   0.20,   0.20,   0.09,  -3.61,  -0.08,
+                 91.31, 126.64,  -0.40,   0.40,   2.83,  -2.04,  -0.04,   0.01,
+                105.29, 112.90,   0.44,  -0.50,   2.52,  -2.35,  -0.07,  -0.01,
+                 98.69,-106.20,  -0.28,  -0.30,  -2.37,  -2.21,  -0.06,   0.01,
+                 86.74,-112.94,  -0.08,  -0.20,  -2.53,  -1.94,  -0.05,-134.81,
+                  3.51,   0.20,  -0.20,   0.08,   3.01,   0.07,  79.03, 107.31,
+                 -0.24,   0.20,   2.40,  -1.77,  -0.04,   0.01, 132.81, -10.77,
+                 -0.52,   0.10,  -0.24,  -2.97,  -0.07,   0.01,-130.31,  -0.90,
+                  0.04,   0.00,   0.00,   2.91, -78.56,  85.32,   0.00,   0.00,
+                  1.91,   1.76,   0.04,   0.00,   0.00, -41.53,  89.10,   0.02,
+                  0.00,   1.99,   0.93,  66.03, -71.00,  -0.20,  -0.20,  -1.59,
+                 -1.48,  -0.04,  60.50,  64.70,   0.36,  -0.40,   1.45,  -1.35,
+                 -0.04,  -0.01, -52.27, -70.01,   0.00,   0.00,  -1.57,   1.17,
+                  0.03, -52.95,  66.29,   0.32,   0.40,   1.48,   1.18,   0.04,
+
+             /* 724-851 */
+                 -0.01,  51.02,  67.25,   0.00,   0.00,   1.50,  -1.14,  -0.03,
+                -55.66, -60.92,   0.16,  -0.20,  -1.36,   1.24,   0.03, -54.81,
+                -59.20,  -0.08,   0.20,  -1.32,   1.23,   0.03,  51.32, -55.60,
+                  0.00,   0.00,  -1.24,  -1.15,  -0.03,  48.29,  51.80,   0.20,
+                 -0.20,   1.16,  -1.08,  -0.03, -45.59, -49.00,  -0.12,   0.10,
+                 -1.10,   1.02,   0.03,  40.54, -52.69,  -0.04,  -0.10,  -1.18,
+                 -0.91,  -0.02, -40.58, -49.51,  -1.00,   1.00,  -1.11,   0.91,
+                  0.04,   0.02, -43.76,  46.50,   0.36,   0.40,   1.04,   0.98,
+                  0.03,  -0.01,  62.65,  -5.00,  -0.24,   0.00,  -0.11,  -1.40,
+                 -0.03,   0.01, -38.57,  49.59,   0.08,   0.10,   1.11,   0.86,
+                  0.02, -33.22, -44.04,   0.08,  -0.10,  -0.98,   0.74,   0.02,
+                 37.15, -39.90,  -0.12,  -0.10,  -0.89,  -0.83,  -0.02,  36.68,
+                -39.50,  -0.04,  -0.10,  -0.88,  -0.82,  -0.02, -53.22,  -3.91,
+                 -0.20,   0.00,  -0.09,   1.19,   0.03,  32.43, -42.19,  -0.04,
+                 -0.10,  -0.94,  -0.73,  -0.02, -51.00,  -2.30,  -0.12,  -0.10,
+                  0.00,   1.14, -29.53, -39.11,   0.04,   0.00,  -0.87,   0.66,
+
+             /* 852-979 */
+                  0.02,  28.50, -38.92,  -0.08,  -0.10,  -0.87,  -0.64,  -0.02,
+                 26.54,  36.95,  -0.12,   0.10,   0.83,  -0.59,  -0.01,  26.54,
+                 34.59,   0.04,  -0.10,   0.77,  -0.59,  -0.02,  28.35, -32.55,
+                 -0.16,   0.20,  -0.73,  -0.63,  -0.01, -28.00,  30.40,   0.00,
+                  0.00,   0.68,   0.63,   0.01, -27.61,  29.40,   0.20,   0.20,
+                  0.66,   0.62,   0.02,  40.33,   0.40,  -0.04,   0.10,   0.00,
+                 -0.90, -23.28,  31.61,  -0.08,  -0.10,   0.71,   0.52,   0.01,
+                 37.75,   0.80,   0.04,   0.10,   0.00,  -0.84,  23.66,  25.80,
+                  0.00,   0.00,   0.58,  -0.53,  -0.01,  21.01, -27.91,   0.00,
+                  0.00,  -0.62,  -0.47,  -0.01, -34.81,   2.89,   0.04,   0.00,
+                  0.00,   0.78, -23.49, -25.31,   0.00,   0.00,  -0.57,   0.53,
+                  0.01, -23.47,  25.20,   0.16,   0.20,   0.56,   0.52,   0.02,
+                 19.58,  27.50,  -0.12,   0.10,   0.62,  -0.44,  -0.01, -22.67,
+                -24.40,  -0.08,   0.10,  -0.55,   0.51,   0.01, -19.97,  25.00,
+                  0.12,   0.20,   0.56,   0.45,   0.01,  21.28, -22.80,  -0.08,
+                 -0.10,  -0.51,  -0.48,  -0.01, -30.47,   0.91,   0.04,   0.00,
+
+             /* 980-1107 */
+                  0.00,   0.68,  18.58,  24.00,   0.04,  -0.10,   0.54,  -0.42,
+                 -0.01, -18.02,  24.40,  -0.04,  -0.10,   0.55,   0.40,   0.01,
+                 17.74,  22.50,   0.08,  -0.10,   0.50,  -0.40,  -0.01, -19.41,
+                 20.70,   0.08,   0.10,   0.46,   0.43,   0.01, -18.64,  20.11,
+                  0.00,   0.00,   0.45,   0.42,   0.01, -16.75,  21.60,   0.04,
+                  0.10,   0.48,   0.37,   0.01, -18.42, -20.00,   0.00,   0.00,
+                 -0.45,   0.41,   0.01, -26.77,   1.41,   0.08,   0.00,   0.00,
+                  0.60, -26.17,  -0.19,   0.00,   0.00,   0.00,   0.59, -15.52,
+                 20.51,   0.00,   0.00,   0.46,   0.35,   0.01, -25.42,  -1.91,
+                 -0.08,   0.00,  -0.04,   0.57,   0.45, -17.42,  18.10,   0.00,
+                  0.00,   0.40,   0.39,   0.01,  16.39, -17.60,  -0.08,  -0.10,
+                 -0.39,  -0.37,  -0.01, -14.37,  18.91,   0.00,   0.00,   0.42,
+                  0.32,   0.01,  23.39,  -2.40,  -0.12,   0.00,   0.00,  -0.52,
+                 14.32, -18.50,  -0.04,  -0.10,  -0.41,  -0.32,  -0.01,  15.69,
+                 17.08,   0.00,   0.00,   0.38,  -0.35,  -0.01, -22.99,   0.50,
+                  0.04,   0.00,   0.00,   0.51,   0.00,   0.00,  14.47, -17.60,
+
+             /* 1108-1235 */
+                 -0.01,   0.00,  -0.39,  -0.32, -13.33,  18.40,  -0.04,  -0.10,
+                  0.41,   0.30,  22.47,  -0.60,  -0.04,   0.00,   0.00,  -0.50,
+                -12.78, -17.41,   0.04,   0.00,  -0.39,   0.29,   0.01, -14.10,
+                -15.31,   0.04,   0.00,  -0.34,   0.32,   0.01,  11.98,  16.21,
+                 -0.04,   0.00,   0.36,  -0.27,  -0.01,  19.65,  -1.90,  -0.08,
+                  0.00,   0.00,  -0.44,  19.61,  -1.50,  -0.08,   0.00,   0.00,
+                 -0.44,  13.41, -14.30,  -0.04,  -0.10,  -0.32,  -0.30,  -0.01,
+                -13.29,  14.40,   0.00,   0.00,   0.32,   0.30,   0.01,  11.14,
+                -14.40,  -0.04,   0.00,  -0.32,  -0.25,  -0.01,  12.24, -13.38,
+                  0.04,   0.00,  -0.30,  -0.27,  -0.01,  10.07, -13.81,   0.04,
+                  0.00,  -0.31,  -0.23,  -0.01,  10.46,  13.10,   0.08,  -0.10,
+                  0.29,  -0.23,  -0.01,  16.55,  -1.71,  -0.08,   0.00,   0.00,
+                 -0.37,   9.75, -12.80,   0.00,   0.00,  -0.29,  -0.22,  -0.01,
+                  9.11,  12.80,   0.00,   0.00,   0.29,  -0.20,   0.00,   0.00,
+                 -6.44, -13.80,   0.00,   0.00,  -0.31,   0.14,  -9.19, -12.00,
+                  0.00,   0.00,  -0.27,   0.21, -10.30,  10.90,   0.08,   0.10,
+
+             /* 1236-1363 */
+                  0.24,   0.23,   0.01,  14.92,  -0.80,  -0.04,   0.00,   0.00,
+                 -0.33,  10.02, -10.80,   0.00,   0.00,  -0.24,  -0.22,  -0.01,
+                 -9.75,  10.40,   0.04,   0.00,   0.23,   0.22,   0.01,   9.67,
+                -10.40,  -0.04,   0.00,  -0.23,  -0.22,  -0.01,  -8.28, -11.20,
+                  0.04,   0.00,  -0.25,   0.19,  13.32,  -1.41,  -0.08,   0.00,
+                  0.00,  -0.30,   8.27,  10.50,   0.04,   0.00,   0.23,  -0.19,
+                  0.00,   0.00,  13.13,   0.00,   0.00,   0.00,   0.00,  -0.29,
+                -12.93,   0.70,   0.04,   0.00,   0.00,   0.29,   7.91, -10.20,
+                  0.00,   0.00,  -0.23,  -0.18,  -7.84, -10.00,  -0.04,   0.00,
+                 -0.22,   0.18,   7.44,   9.60,   0.00,   0.00,   0.21,  -0.17,
+                 -7.64,   9.40,   0.08,   0.10,   0.21,   0.17,   0.01, -11.38,
+                  0.60,   0.04,   0.00,   0.00,   0.25,  -7.48,   8.30,   0.00,
+                  0.00,   0.19,   0.17, -10.98,  -0.20,   0.00,   0.00,   0.00,
+                  0.25,  10.98,   0.20,   0.00,   0.00,   0.00,  -0.25,   7.40,
+                 -7.90,  -0.04,   0.00,  -0.18,  -0.17,  -6.09,   8.40,  -0.04,
+                  0.00,   0.19,   0.14,  -6.94,  -7.49,   0.00,   0.00,  -0.17,
+
+             /* 1364-1491 */
+                  0.16,   6.92,   7.50,   0.04,   0.00,   0.17,  -0.15,   6.20,
+                  8.09,   0.00,   0.00,   0.18,  -0.14,  -6.12,   7.80,   0.04,
+                  0.00,   0.17,   0.14,   5.85,  -7.50,   0.00,   0.00,  -0.17,
+                 -0.13,  -6.48,   6.90,   0.08,   0.10,   0.15,   0.14,   0.01,
+                  6.32,   6.90,   0.00,   0.00,   0.15,  -0.14,   5.61,  -7.20,
+                  0.00,   0.00,  -0.16,  -0.13,   9.07,   0.00,   0.00,   0.00,
+                  0.00,  -0.20,   5.25,   6.90,   0.00,   0.00,   0.15,  -0.12,
+                 -8.47,  -0.40,   0.00,   0.00,   0.00,   0.19,   6.32,  -5.39,
+                 -1.11,   1.10,  -0.12,  -0.14,   0.02,   0.02,   5.73,  -6.10,
+                 -0.04,   0.00,  -0.14,  -0.13,   4.70,   6.60,  -0.04,   0.00,
+                  0.15,  -0.11,  -4.90,  -6.40,   0.00,   0.00,  -0.14,   0.11,
+                 -5.33,   5.60,   0.04,   0.10,   0.13,   0.12,   0.01,  -4.81,
+                  6.00,   0.04,   0.00,   0.13,   0.11,   5.13,   5.50,   0.04,
+                  0.00,   0.12,  -0.11,   4.50,   5.90,   0.00,   0.00,   0.13,
+                 -0.10,  -4.22,   6.10,   0.00,   0.00,   0.14,  -4.53,   5.70,
+                  0.00,   0.00,   0.13,   0.10,   4.18,   5.70,   0.00,   0.00,
+
+             /* 1492-1619 */
+                  0.13,  -4.75,  -5.19,   0.00,   0.00,  -0.12,   0.11,  -4.06,
+                  5.60,   0.00,   0.00,   0.13,  -3.98,   5.60,  -0.04,   0.00,
+                  0.13,   4.02,  -5.40,   0.00,   0.00,  -0.12,   4.49,  -4.90,
+                 -0.04,   0.00,  -0.11,  -0.10,  -3.62,  -5.40,  -0.16,   0.20,
+                 -0.12,   0.00,   0.01,   4.38,   4.80,   0.00,   0.00,   0.11,
+                 -6.40,  -0.10,   0.00,   0.00,   0.00,   0.14,  -3.98,   5.00,
+                  0.04,   0.00,   0.11,  -3.82,  -5.00,   0.00,   0.00,  -0.11,
+                 -3.71,   5.07,   0.00,   0.00,   0.11,   4.14,   4.40,   0.00,
+                  0.00,   0.10,  -6.01,  -0.50,  -0.04,   0.00,   0.00,   0.13,
+                 -4.04,   4.39,   0.00,   0.00,   0.10,   3.45,  -4.72,   0.00,
+                  0.00,  -0.11,   3.31,   4.71,   0.00,   0.00,   0.11,   3.26,
+                 -4.50,   0.00,   0.00,  -0.10,  -3.26,  -4.50,   0.00,   0.00,
+                 -0.10,  -3.34,  -4.40,   0.00,   0.00,  -0.10,  -3.74,  -4.00,
+                  3.70,   4.00,   3.34,  -4.30,   3.30,  -4.30,  -3.66,   3.90,
+                  0.04,   3.66,   3.90,   0.04,  -3.62,  -3.90,  -3.61,   3.90,
+                 -0.20,   5.30,   0.00,   0.00,   0.12,   3.06,   4.30,   3.30,
+
+             /* 1620-1747 */
+                  4.00,   0.40,   0.20,   3.10,   4.10,  -3.06,   3.90,  -3.30,
+                 -3.60,  -3.30,   3.36,   0.01,   3.14,   3.40,  -4.57,  -0.20,
+                  0.00,   0.00,   0.00,   0.10,  -2.70,  -3.60,   2.94,  -3.20,
+                 -2.90,   3.20,   2.47,  -3.40,   2.55,  -3.30,   2.80,  -3.08,
+                  2.51,   3.30,  -4.10,   0.30,  -0.12,  -0.10,   4.10,   0.20,
+                 -2.74,   3.00,   2.46,   3.23,  -3.66,   1.20,  -0.20,   0.20,
+                  3.74,  -0.40,  -2.51,  -2.80,  -3.74,   2.27,  -2.90,   0.00,
+                  0.00,  -2.50,   2.70,  -2.51,   2.60,  -3.50,   0.20,   3.38,
+                 -2.22,  -2.50,   3.26,  -0.40,   1.95,  -2.60,   3.22,  -0.40,
+                 -0.04,  -1.79,  -2.60,   1.91,   2.50,   0.74,   3.05,  -0.04,
+                  0.08,   2.11,  -2.30,  -2.11,   2.20,  -1.87,  -2.40,   2.03,
+                 -2.20,  -2.03,   2.20,   2.98,   0.00,   0.00,   2.98,  -1.71,
+                  2.40,   2.94,  -0.10,  -0.12,   0.10,   1.67,   2.40,  -1.79,
+                  2.30,  -1.79,   2.20,  -1.67,   2.20,   1.79,  -2.00,   1.87,
+                 -1.90,   1.63,  -2.10,  -1.59,   2.10,   1.55,  -2.10,  -1.55,
+                  2.10,  -2.59,  -0.20,  -1.75,  -1.90,  -1.75,   1.90,  -1.83,
+
+             /* 1748-1875 */
+                 -1.80,   1.51,   2.00,  -1.51,  -2.00,   1.71,   1.80,   1.31,
+                  2.10,  -1.43,   2.00,   1.43,   2.00,  -2.43,  -1.51,   1.90,
+                 -1.47,   1.90,   2.39,   0.20,  -2.39,   1.39,   1.90,   1.39,
+                 -1.80,   1.47,  -1.60,   1.47,  -1.60,   1.43,  -1.50,  -1.31,
+                  1.60,   1.27,  -1.60,  -1.27,   1.60,   1.27,  -1.60,   2.03,
+                  1.35,   1.50,  -1.39,  -1.40,   1.95,  -0.20,  -1.27,   1.49,
+                  1.19,   1.50,   1.27,   1.40,   1.15,   1.50,   1.87,  -0.10,
+                 -1.12,  -1.50,   1.87,  -1.11,  -1.50,  -1.11,  -1.50,   0.00,
+                  0.00,   1.19,   1.40,   1.27,  -1.30,  -1.27,  -1.30,  -1.15,
+                  1.40,  -1.23,   1.30,  -1.23,  -1.30,   1.22,  -1.29,   1.07,
+                 -1.40,   1.75,  -0.20,  -1.03,  -1.40,  -1.07,   1.20,  -1.03,
+                  1.15,   1.07,   1.10,   1.51,  -1.03,   1.10,   1.03,  -1.10,
+                  0.00,   0.00,  -1.03,  -1.10,   0.91,  -1.20,  -0.88,  -1.20,
+                 -0.88,   1.20,  -0.95,   1.10,  -0.95,  -1.10,   1.43,  -1.39,
+                  0.95,  -1.00,  -0.95,   1.00,  -0.80,   1.10,   0.91,  -1.00,
+                 -1.35,   0.88,   1.00,  -0.83,   1.00,  -0.91,   0.90,   0.91,
+
+             /* 1876-2003 */
+                  0.90,   0.88,  -0.90,  -0.76,  -1.00,  -0.76,   1.00,   0.76,
+                  1.00,  -0.72,   1.00,   0.84,  -0.90,   0.84,   0.90,   1.23,
+                  0.00,   0.00,  -0.52,  -1.10,  -0.68,   1.00,   1.19,  -0.20,
+                  1.19,   0.76,   0.90,   1.15,  -0.10,   1.15,  -0.10,   0.72,
+                 -0.90,  -1.15,  -1.15,   0.68,   0.90,  -0.68,   0.90,  -1.11,
+                  0.00,   0.00,   0.20,   0.79,   0.80,  -1.11,  -0.10,   0.00,
+                  0.00,  -0.48,  -1.00,  -0.76,  -0.80,  -0.72,  -0.80,  -1.07,
+                 -0.10,   0.64,   0.80,  -0.64,  -0.80,   0.64,   0.80,   0.40,
+                  0.60,   0.52,  -0.50,  -0.60,  -0.80,  -0.71,   0.70,  -0.99,
+                  0.99,   0.56,   0.80,  -0.56,   0.80,   0.68,  -0.70,   0.68,
+                  0.70,  -0.95,  -0.64,   0.70,   0.64,   0.70,  -0.60,   0.70,
+                 -0.60,  -0.70,  -0.91,  -0.10,  -0.51,   0.76,  -0.91,  -0.56,
+                  0.70,   0.88,   0.88,  -0.63,  -0.60,   0.55,  -0.60,  -0.80,
+                  0.80,  -0.80,  -0.52,   0.60,   0.52,   0.60,   0.52,  -0.60,
+                 -0.48,   0.60,   0.48,   0.60,   0.48,   0.60,  -0.76,   0.44,
+                 -0.60,   0.52,  -0.50,  -0.52,   0.50,   0.40,   0.60,  -0.40,
+
+             /* 2004-2131 */
+                 -0.60,   0.40,  -0.60,   0.72,  -0.72,  -0.51,  -0.50,  -0.48,
+                  0.50,   0.48,  -0.50,  -0.48,   0.50,  -0.48,   0.50,   0.48,
+                 -0.50,  -0.48,  -0.50,  -0.68,  -0.68,   0.44,   0.50,  -0.64,
+                 -0.10,  -0.64,  -0.10,  -0.40,   0.50,   0.40,   0.50,   0.40,
+                  0.50,   0.00,   0.00,  -0.40,  -0.50,  -0.36,  -0.50,   0.36,
+                 -0.50,   0.60,  -0.60,   0.40,  -0.40,   0.40,   0.40,  -0.40,
+                  0.40,  -0.40,   0.40,  -0.56,  -0.56,   0.36,  -0.40,  -0.36,
+                  0.40,   0.36,  -0.40,  -0.36,  -0.40,   0.36,   0.40,   0.36,
+                  0.40,  -0.52,   0.52,   0.52,   0.32,   0.40,  -0.32,   0.40,
+                 -0.32,   0.40,  -0.32,   0.40,   0.32,  -0.40,  -0.32,  -0.40,
+                  0.32,  -0.40,   0.28,  -0.40,  -0.28,   0.40,   0.28,  -0.40,
+                  0.28,   0.40,   0.48,  -0.48,   0.48,   0.36,  -0.30,  -0.36,
+                 -0.30,   0.00,   0.00,   0.20,   0.40,  -0.44,   0.44,  -0.44,
+                 -0.44,  -0.44,  -0.44,   0.32,  -0.30,   0.32,   0.30,   0.24,
+                  0.30,  -0.12,  -0.10,  -0.28,   0.30,   0.28,   0.30,   0.28,
+                  0.30,   0.28,  -0.30,   0.28,  -0.30,   0.28,  -0.30,   0.28,
+
+             /* 2132-2259 */
+                  0.30,  -0.28,   0.30,   0.40,   0.40,  -0.24,   0.30,   0.24,
+                 -0.30,   0.24,  -0.30,  -0.24,  -0.30,   0.24,   0.30,   0.24,
+                 -0.30,  -0.24,   0.30,   0.24,  -0.30,  -0.24,  -0.30,   0.24,
+                 -0.30,   0.24,   0.30,  -0.24,   0.30,  -0.24,   0.30,   0.20,
+                 -0.30,   0.20,  -0.30,   0.20,  -0.30,   0.20,   0.30,   0.20,
+                 -0.30,   0.20,  -0.30,   0.20,   0.30,   0.20,   0.30,  -0.20,
+                 -0.30,   0.20,  -0.30,   0.20,  -0.30,  -0.36,  -0.36,  -0.36,
+                 -0.04,   0.30,   0.12,  -0.10,  -0.32,  -0.24,   0.20,   0.24,
+                  0.20,   0.20,  -0.20,  -0.20,  -0.20,  -0.20,  -0.20,   0.20,
+                  0.20,   0.20,  -0.20,   0.20,   0.20,   0.20,   0.20,  -0.20,
+                 -0.20,   0.00,   0.00,  -0.20,  -0.20,  -0.20,   0.20,  -0.20,
+                  0.20,   0.20,  -0.20,  -0.20,  -0.20,   0.20,   0.20,   0.20,
+                  0.20,   0.20,  -0.20,   0.20,  -0.20,   0.28,   0.28,   0.28,
+                  0.28,   0.28,   0.28,  -0.28,   0.28,   0.12,   0.00,   0.24,
+                  0.16,  -0.20,   0.16,  -0.20,   0.16,  -0.20,   0.16,   0.20,
+                 -0.16,   0.20,   0.16,   0.20,  -0.16,   0.20,  -0.16,   0.20,
+
+             /* 2260-2387 */
+                 -0.16,   0.20,   0.16,  -0.20,   0.16,   0.20,   0.16,  -0.20,
+                 -0.16,   0.20,  -0.16,  -0.20,  -0.16,   0.20,   0.16,   0.20,
+                  0.16,  -0.20,   0.16,  -0.20,   0.16,   0.20,   0.16,   0.20,
+                  0.16,   0.20,  -0.16,  -0.20,   0.16,   0.20,  -0.16,   0.20,
+                  0.16,   0.20,  -0.16,  -0.20,   0.16,  -0.20,   0.16,  -0.20,
+                 -0.16,  -0.20,   0.24,  -0.24,  -0.24,   0.24,   0.24,   0.12,
+                  0.20,   0.12,   0.20,  -0.12,  -0.20,   0.12,  -0.20,   0.12,
+                 -0.20,  -0.12,   0.20,  -0.12,   0.20,  -0.12,  -0.20,   0.12,
+                  0.20,   0.12,   0.20,   0.12,  -0.20,  -0.12,   0.20,   0.12,
+                 -0.20,  -0.12,   0.20,   0.12,   0.20,   0.00,   0.00,  -0.12,
+                  0.20,  -0.12,   0.20,   0.12,  -0.20,  -0.12,   0.20,   0.12,
+                  0.20,   0.00,  -0.21,  -0.20,   0.00,   0.00,   0.20,  -0.20,
+                 -0.20,  -0.20,   0.20,  -0.16,  -0.10,   0.00,   0.17,   0.16,
+                  0.16,   0.16,   0.16,  -0.16,   0.16,   0.16,  -0.16,   0.16,
+                 -0.16,   0.16,   0.12,   0.10,   0.12,  -0.10,  -0.12,   0.10,
+                 -0.12,   0.10,   0.12,  -0.10,  -0.12,   0.12,  -0.12,   0.12,
+
+             /* 2388-2515 */
+                 -0.12,   0.12,  -0.12,  -0.12,  -0.12,  -0.12,  -0.12,  -0.12,
+                 -0.12,   0.12,   0.12,   0.12,   0.12,  -0.12,  -0.12,   0.12,
+                  0.12,   0.12,  -0.12,   0.12,  -0.12,  -0.12,  -0.12,   0.12,
+                 -0.12,  -0.12,   0.12,   0.00,   0.11,   0.11,-122.67, 164.70,
+                203.78, 273.50,   3.58,   2.74,   6.18,  -4.56,   0.00,  -0.04,
+                  0.00,  -0.07,  57.44, -77.10,  95.82, 128.60,  -1.77,  -1.28,
+                  2.85,  -2.14,  82.14,  89.50,   0.00,   0.00,   2.00,  -1.84,
+                 -0.04,  47.73, -64.10,  23.79,  31.90,  -1.45,  -1.07,   0.69,
+                 -0.53, -46.38,  50.50,   0.00,   0.00,   1.13,   1.04,   0.02,
+                -18.38,   0.00,  63.80,   0.00,   0.00,   0.41,   0.00,  -1.43,
+                 59.07,   0.00,   0.00,   0.00,   0.00,  -1.32,  57.28,   0.00,
+                  0.00,   0.00,   0.00,  -1.28, -48.65,   0.00,  -1.15,   0.00,
+                  0.00,   1.09,   0.00,   0.03, -18.30,  24.60, -17.30, -23.20,
+                  0.56,   0.41,  -0.51,   0.39, -16.91,  26.90,   8.43,  13.30,
+                  0.60,   0.38,   0.31,  -0.19,   1.23,  -1.70, -19.13, -25.70,
+                 -0.03,  -0.03,  -0.58,   0.43,  -0.72,   0.90, -17.34, -23.30,
+
+             /* 2516-2643 */
+                  0.03,   0.02,  -0.52,   0.39, -19.49, -21.30,   0.00,   0.00,
+                 -0.48,   0.44,   0.01,  20.57, -20.10,   0.64,   0.70,  -0.45,
+                 -0.46,   0.00,  -0.01,   4.89,   5.90, -16.55,  19.90,   0.14,
+                 -0.11,   0.44,   0.37,  18.22,  19.80,   0.00,   0.00,   0.44,
+                 -0.41,  -0.01,   4.89,  -5.30, -16.51, -18.00,  -0.11,  -0.11,
+                 -0.41,   0.37, -17.86,   0.00,  17.10,   0.00,   0.00,   0.40,
+                  0.00,  -0.38,   0.32,   0.00,  24.42,   0.00,   0.00,  -0.01,
+                  0.00,  -0.55, -23.79,   0.00,   0.00,   0.00,   0.00,   0.53,
+                 14.72, -16.00,  -0.32,   0.00,  -0.36,  -0.33,  -0.01,   0.01,
+                  3.34,  -4.50,  11.86,  15.90,  -0.11,  -0.07,   0.35,  -0.27,
+                 -3.26,   4.40,  11.62,  15.60,   0.09,   0.07,   0.35,  -0.26,
+                -19.53,   0.00,   5.09,   0.00,   0.00,   0.44,   0.00,  -0.11,
+                -13.48,  14.70,   0.00,   0.00,   0.33,   0.30,   0.01,  10.86,
+                -14.60,   3.18,   4.30,  -0.33,  -0.24,   0.09,  -0.07, -11.30,
+                -15.10,   0.00,   0.00,  -0.34,   0.25,   0.01,   2.03,  -2.70,
+                 10.82,  14.50,  -0.07,  -0.05,   0.32,  -0.24,  17.46,   0.00,
+
+             /* 2644-2771 */
+                  0.00,   0.00,   0.00,  -0.39,  16.43,   0.00,   0.52,   0.00,
+                  0.00,  -0.37,   0.00,  -0.01,   9.35,   0.00,  13.29,   0.00,
+                  0.00,  -0.21,   0.00,  -0.30, -10.42,  11.40,   0.00,   0.00,
+                  0.25,   0.23,   0.01,   0.44,   0.50, -10.38,  11.30,   0.02,
+                 -0.01,   0.25,   0.23, -14.64,   0.00,   0.00,   0.00,   0.00,
+                  0.33,   0.56,   0.80,  -8.67,  11.70,   0.02,  -0.01,   0.26,
+                  0.19,  13.88,   0.00,  -2.47,   0.00,   0.00,  -0.31,   0.00,
+                  0.06,  -1.99,   2.70,   7.72,  10.30,   0.06,   0.04,   0.23,
+                 -0.17,  -0.20,   0.00,  13.05,   0.00,   0.00,   0.00,   0.00,
+                 -0.29,   6.92,  -9.30,   3.34,   4.50,  -0.21,  -0.15,   0.10,
+                 -0.07,  -6.60,   0.00,  10.70,   0.00,   0.00,   0.15,   0.00,
+                 -0.24,  -8.04,  -8.70,   0.00,   0.00,  -0.19,   0.18, -10.58,
+                  0.00,  -3.10,   0.00,   0.00,   0.24,   0.00,   0.07,  -7.32,
+                  8.00,  -0.12,  -0.10,   0.18,   0.16,   1.63,   1.70,   6.96,
+                 -7.60,   0.03,  -0.04,  -0.17,  -0.16,  -3.62,   0.00,   9.86,
+                  0.00,   0.00,   0.08,   0.00,  -0.22,   0.20,  -0.20,  -6.88,
+
+             /* 2772-2899 */
+                 -7.50,   0.00,   0.00,  -0.17,   0.15,  -8.99,   0.00,   4.02,
+                  0.00,   0.00,   0.20,   0.00,  -0.09,  -1.07,   1.40,  -5.69,
+                 -7.70,   0.03,   0.02,  -0.17,   0.13,   6.48,  -7.20,  -0.48,
+                 -0.50,  -0.16,  -0.14,  -0.01,   0.01,   5.57,  -7.50,   1.07,
+                  1.40,  -0.17,  -0.12,   0.03,  -0.02,   8.71,   0.00,   3.54,
+                  0.00,   0.00,  -0.19,   0.00,  -0.08,   0.40,   0.00,   9.27,
+                  0.00,   0.00,  -0.01,   0.00,  -0.21,  -6.13,   6.70,  -1.19,
+                 -1.30,   0.15,   0.14,  -0.03,   0.03,   5.21,  -5.70,  -2.51,
+                 -2.60,  -0.13,  -0.12,  -0.06,   0.06,   5.69,  -6.20,  -0.12,
+                 -0.10,  -0.14,  -0.13,  -0.01,   2.03,  -2.70,   4.53,   6.10,
+                 -0.06,  -0.05,   0.14,  -0.10,   5.01,   5.50,  -2.51,   2.70,
+                  0.12,  -0.11,   0.06,   0.06,  -1.91,   2.60,  -4.38,  -5.90,
+                  0.06,   0.04,  -0.13,   0.10,   4.65,  -6.30,   0.00,   0.00,
+                 -0.14,  -0.10,  -5.29,   5.70,   0.00,   0.00,   0.13,   0.12,
+                 -2.23,  -4.00,  -4.65,   4.20,  -0.09,   0.05,   0.10,   0.10,
+                 -4.53,   6.10,   0.00,   0.00,   0.14,   0.10,   2.47,   2.70,
+
+             /* 2900-3027 */
+                 -4.46,   4.90,   0.06,  -0.06,   0.11,   0.10,  -5.05,   5.50,
+                  0.84,   0.90,   0.12,   0.11,   0.02,  -0.02,   4.97,  -5.40,
+                 -1.71,   0.00,  -0.12,  -0.11,   0.00,   0.04,  -0.99,  -1.30,
+                  4.22,  -5.70,  -0.03,   0.02,  -0.13,  -0.09,   0.99,   1.40,
+                  4.22,  -5.60,   0.03,  -0.02,  -0.13,  -0.09,  -4.69,  -5.20,
+                  0.00,   0.00,  -0.12,   0.10,  -3.42,   0.00,   6.09,   0.00,
+                  0.00,   0.08,   0.00,  -0.14,  -4.65,  -5.10,   0.00,   0.00,
+                 -0.11,   0.10,   0.00,   0.00,  -4.53,  -5.00,   0.00,   0.00,
+                 -0.11,   0.10,  -2.43,  -2.70,  -3.82,   4.20,  -0.06,   0.05,
+                  0.10,   0.09,   0.00,   0.00,  -4.53,   4.90,   0.00,   0.00,
+                  0.11,   0.10,  -4.49,  -4.90,   0.00,   0.00,  -0.11,   0.10,
+                  2.67,  -2.90,  -3.62,  -3.90,  -0.06,  -0.06,  -0.09,   0.08,
+                  3.94,  -5.30,   0.00,   0.00,  -0.12,  -3.38,   3.70,  -2.78,
+                 -3.10,   0.08,   0.08,  -0.07,   0.06,   3.18,  -3.50,  -2.82,
+                 -3.10,  -0.08,  -0.07,  -0.07,   0.06,  -5.77,   0.00,   1.87,
+                  0.00,   0.00,   0.13,   0.00,  -0.04,   3.54,  -4.80,  -0.64,
+
+             /* 3028-3155 */
+                 -0.90,  -0.11,   0.00,  -0.02,  -3.50,  -4.70,   0.68,  -0.90,
+                 -0.11,   0.00,  -0.02,   5.49,   0.00,   0.00,   0.00,   0.00,
+                 -0.12,   1.83,  -2.50,   2.63,   3.50,  -0.06,   0.00,   0.08,
+                  3.02,  -4.10,   0.68,   0.90,  -0.09,   0.00,   0.02,   0.00,
+                  0.00,   5.21,   0.00,   0.00,   0.00,   0.00,  -0.12,  -3.54,
+                  3.80,   2.70,   3.60,  -1.35,   1.80,   0.08,   0.00,   0.04,
+                 -2.90,   3.90,   0.68,   0.90,   0.09,   0.00,   0.02,   0.80,
+                 -1.10,  -2.78,  -3.70,  -0.02,   0.00,  -0.08,   4.10,   0.00,
+                 -2.39,   0.00,   0.00,  -0.09,   0.00,   0.05,  -1.59,   2.10,
+                  2.27,   3.00,   0.05,   0.00,   0.07,  -2.63,   3.50,  -0.48,
+                 -0.60,  -2.94,  -3.20,  -2.94,   3.20,   2.27,  -3.00,  -1.11,
+                 -1.50,  -0.07,   0.00,  -0.03,  -0.56,  -0.80,  -2.35,   3.10,
+                  0.00,  -0.60,  -3.42,   1.90,  -0.12,  -0.10,   2.63,  -2.90,
+                  2.51,   2.80,  -0.64,   0.70,  -0.48,  -0.60,   2.19,  -2.90,
+                  0.24,  -0.30,   2.15,   2.90,   2.15,  -2.90,   0.52,   0.70,
+                  2.07,  -2.80,  -3.10,   0.00,   1.79,   0.00,   0.00,   0.07,
+
+             /* 3156-3283 */
+                  0.00,  -0.04,   0.88,   0.00,  -3.46,   2.11,   2.80,  -0.36,
+                  0.50,   3.54,  -0.20,  -3.50,  -1.39,   1.50,  -1.91,  -2.10,
+                 -1.47,   2.00,   1.39,   1.90,   2.07,  -2.30,   0.91,   1.00,
+                  1.99,  -2.70,   3.30,   0.00,   0.60,  -0.44,  -0.70,  -1.95,
+                  2.60,   2.15,  -2.40,  -0.60,  -0.70,   3.30,   0.84,   0.00,
+                 -3.10,  -3.10,   0.00,  -0.72,  -0.32,   0.40,  -1.87,  -2.50,
+                  1.87,  -2.50,   0.32,   0.40,  -0.24,   0.30,  -1.87,  -2.50,
+                 -0.24,  -0.30,   1.87,  -2.50,  -2.70,   0.00,   1.55,   2.03,
+                  2.20,  -2.98,  -1.99,  -2.20,   0.12,  -0.10,  -0.40,   0.50,
+                  1.59,   2.10,   0.00,   0.00,  -1.79,   2.00,  -1.03,   1.40,
+                 -1.15,  -1.60,   0.32,   0.50,   1.39,  -1.90,   2.35,  -1.27,
+                  1.70,   0.60,   0.80,  -0.32,  -0.40,   1.35,  -1.80,   0.44,
+                  0.00,   2.23,  -0.84,   0.90,  -1.27,  -1.40,  -1.47,   1.60,
+                 -0.28,  -0.30,  -0.28,   0.40,  -1.27,  -1.70,   0.28,  -0.40,
+                 -1.43,  -1.50,   0.00,   0.00,  -1.27,  -1.70,   2.11,  -0.32,
+                 -0.40,  -1.23,   1.60,   1.19,  -1.30,  -0.72,  -0.80,   0.72,
+
+             /* 3284-3411 */
+                 -0.80,  -1.15,  -1.30,  -1.35,  -1.50,  -1.19,  -1.60,  -0.12,
+                  0.20,   1.79,   0.00,  -0.88,  -0.28,   0.40,   1.11,   1.50,
+                 -1.83,   0.00,   0.56,  -0.12,   0.10,  -1.27,  -1.40,   0.00,
+                  0.00,   1.15,   1.50,  -0.12,   0.20,   1.11,   1.50,   0.36,
+                 -0.50,  -1.07,  -1.40,  -1.11,   1.50,   1.67,   0.00,   0.80,
+                 -1.11,   0.00,   1.43,   1.23,  -1.30,  -0.24,  -1.19,  -1.30,
+                 -0.24,   0.20,  -0.44,  -0.90,  -0.95,   1.10,   1.07,  -1.40,
+                  1.15,  -1.30,   1.03,  -1.10,  -0.56,  -0.60,  -0.68,   0.90,
+                 -0.76,  -1.00,  -0.24,  -0.30,   0.95,  -1.30,   0.56,   0.70,
+                  0.84,  -1.10,  -0.56,   0.00,  -1.55,   0.91,  -1.30,   0.28,
+                  0.30,   0.16,  -0.20,   0.95,   1.30,   0.40,  -0.50,  -0.88,
+                 -1.20,   0.95,  -1.10,  -0.48,  -0.50,   0.00,   0.00,  -1.07,
+                  1.20,   0.44,  -0.50,   0.95,   1.10,   0.00,   0.00,   0.92,
+                 -1.30,   0.95,   1.00,  -0.52,   0.60,   1.59,   0.24,  -0.40,
+                  0.91,   1.20,   0.84,  -1.10,  -0.44,  -0.60,   0.84,   1.10,
+                 -0.44,   0.60,  -0.44,   0.60,  -0.84,  -1.10,  -0.80,   0.00,
+
+             /* 3412-3539 */
+                  1.35,   0.76,   0.20,  -0.91,  -1.00,   0.20,  -0.30,  -0.91,
+                 -1.20,  -0.95,   1.00,  -0.48,  -0.50,   0.88,   1.00,   0.48,
+                 -0.50,  -0.95,  -1.10,   0.20,  -0.20,  -0.99,   1.10,  -0.84,
+                  1.10,  -0.24,  -0.30,   0.20,  -0.30,   0.84,   1.10,  -1.39,
+                  0.00,  -0.28,  -0.16,   0.20,   0.84,   1.10,   0.00,   0.00,
+                  1.39,   0.00,   0.00,  -0.95,   1.00,   1.35,  -0.99,   0.00,
+                  0.88,  -0.52,   0.00,  -1.19,   0.20,   0.20,   0.76,  -1.00,
+                  0.00,   0.00,   0.76,   1.00,   0.00,   0.00,   0.76,   1.00,
+                 -0.76,   1.00,   0.00,   0.00,   1.23,   0.76,   0.80,  -0.32,
+                  0.40,  -0.72,   0.80,  -0.40,  -0.40,   0.00,   0.00,  -0.80,
+                 -0.90,  -0.68,   0.90,  -0.16,  -0.20,  -0.16,  -0.20,   0.68,
+                 -0.90,  -0.36,   0.50,  -0.56,  -0.80,   0.72,  -0.90,   0.44,
+                 -0.60,  -0.48,  -0.70,  -0.16,   0.00,  -1.11,   0.32,   0.00,
+                 -1.07,   0.60,  -0.80,  -0.28,  -0.40,  -0.64,   0.00,   0.91,
+                  1.11,   0.64,  -0.90,   0.76,  -0.80,   0.00,   0.00,  -0.76,
+                 -0.80,   1.03,   0.00,  -0.36,  -0.64,  -0.70,   0.36,  -0.40,
+
+             /* 3540-3667 */
+                  1.07,   0.36,  -0.50,  -0.52,  -0.70,   0.60,   0.00,   0.88,
+                  0.95,   0.00,   0.48,   0.16,  -0.20,   0.60,   0.80,   0.16,
+                 -0.20,  -0.60,  -0.80,   0.00,  -1.00,   0.12,   0.20,   0.16,
+                 -0.20,   0.68,   0.70,   0.59,  -0.80,  -0.99,  -0.56,  -0.60,
+                  0.36,  -0.40,  -0.68,  -0.70,  -0.68,  -0.70,  -0.36,  -0.50,
+                 -0.44,   0.60,   0.64,   0.70,  -0.12,   0.10,  -0.52,   0.60,
+                  0.36,   0.40,   0.00,   0.00,   0.95,  -0.84,   0.00,   0.44,
+                  0.56,   0.60,   0.32,  -0.30,   0.00,   0.00,   0.60,   0.70,
+                  0.00,   0.00,   0.60,   0.70,  -0.12,  -0.20,   0.52,  -0.70,
+                  0.00,   0.00,   0.56,   0.70,  -0.12,   0.10,  -0.52,  -0.70,
+                  0.00,   0.00,   0.88,  -0.76,   0.00,  -0.44,   0.00,   0.00,
+                 -0.52,  -0.70,   0.52,  -0.70,   0.36,  -0.40,  -0.44,  -0.50,
+                  0.00,   0.00,   0.60,   0.60,   0.84,   0.00,   0.12,  -0.24,
+                  0.00,   0.80,  -0.56,   0.60,  -0.32,  -0.30,   0.48,  -0.50,
+                  0.28,  -0.30,  -0.48,  -0.50,   0.12,   0.20,   0.48,  -0.60,
+                  0.48,   0.60,  -0.12,   0.20,   0.24,   0.00,   0.76,  -0.52,
+
+             /* 3668-3795 */
+                 -0.60,  -0.52,   0.60,   0.48,  -0.50,  -0.24,  -0.30,   0.12,
+                 -0.10,   0.48,   0.60,   0.52,  -0.20,   0.36,   0.40,  -0.44,
+                  0.50,  -0.24,  -0.30,  -0.48,  -0.60,  -0.44,  -0.60,  -0.12,
+                  0.10,   0.76,   0.76,   0.20,  -0.20,   0.48,   0.50,   0.40,
+                 -0.50,  -0.24,  -0.30,   0.44,  -0.60,   0.44,  -0.60,   0.36,
+                  0.00,  -0.64,   0.72,   0.00,  -0.12,   0.00,  -0.10,  -0.40,
+                 -0.60,  -0.20,  -0.20,  -0.44,   0.50,  -0.44,   0.50,   0.20,
+                  0.20,  -0.44,  -0.50,   0.20,  -0.20,  -0.20,   0.20,  -0.44,
+                 -0.50,   0.64,   0.00,   0.32,  -0.36,   0.50,  -0.20,  -0.30,
+                  0.12,  -0.10,   0.48,   0.50,  -0.12,   0.30,  -0.36,  -0.50,
+                  0.00,   0.00,   0.48,   0.50,  -0.48,   0.50,   0.68,   0.00,
+                 -0.12,   0.56,  -0.40,   0.44,  -0.50,  -0.12,  -0.10,   0.24,
+                  0.30,  -0.40,   0.40,   0.64,   0.00,  -0.24,   0.64,   0.00,
+                 -0.20,   0.00,   0.00,   0.44,  -0.50,   0.44,   0.50,  -0.12,
+                  0.20,  -0.36,  -0.50,   0.12,   0.00,   0.64,  -0.40,   0.50,
+                  0.00,   0.10,   0.00,   0.00,  -0.40,   0.50,   0.00,   0.00,
+
+             /* 3796-3923 */
+                 -0.40,  -0.50,   0.56,   0.00,   0.28,   0.00,   0.10,   0.36,
+                  0.50,   0.00,  -0.10,   0.36,  -0.50,   0.36,   0.50,   0.00,
+                 -0.10,   0.24,  -0.20,  -0.36,  -0.40,   0.16,   0.20,   0.40,
+                 -0.40,   0.00,   0.00,  -0.36,  -0.50,  -0.36,  -0.50,  -0.32,
+                 -0.50,  -0.12,   0.10,   0.20,   0.20,  -0.36,   0.40,  -0.60,
+                  0.60,   0.28,   0.00,   0.52,   0.12,  -0.10,   0.40,   0.40,
+                  0.00,  -0.50,   0.20,  -0.20,  -0.32,   0.40,   0.16,   0.20,
+                 -0.16,   0.20,   0.32,   0.40,   0.56,   0.00,  -0.12,   0.32,
+                 -0.40,  -0.16,  -0.20,   0.00,   0.00,   0.40,   0.40,  -0.40,
+                 -0.40,  -0.40,   0.40,  -0.36,   0.40,   0.12,   0.10,   0.00,
+                  0.10,   0.36,   0.40,   0.00,  -0.10,   0.36,   0.40,  -0.36,
+                  0.40,   0.00,   0.10,   0.32,   0.00,   0.44,   0.12,   0.20,
+                  0.28,  -0.40,   0.00,   0.00,   0.36,   0.40,   0.32,  -0.40,
+                 -0.16,   0.12,   0.10,   0.32,  -0.40,   0.20,   0.30,  -0.24,
+                  0.30,   0.00,   0.10,   0.32,   0.40,   0.00,  -0.10,  -0.32,
+                 -0.40,  -0.32,   0.40,   0.00,   0.10,  -0.52,  -0.52,   0.52,
+
+             /* 3924-4051 */
+                  0.32,  -0.40,   0.00,   0.00,   0.32,   0.40,   0.32,  -0.40,
+                  0.00,   0.00,  -0.32,  -0.40,  -0.32,   0.40,   0.32,   0.40,
+                  0.00,   0.00,   0.32,   0.40,   0.00,   0.00,  -0.32,  -0.40,
+                  0.00,   0.00,   0.32,   0.40,   0.16,   0.20,   0.32,  -0.30,
+                 -0.16,   0.00,  -0.48,  -0.20,   0.20,  -0.28,  -0.30,   0.28,
+                 -0.40,   0.00,   0.00,   0.28,  -0.40,   0.00,   0.00,   0.28,
+                 -0.40,   0.00,   0.00,  -0.28,  -0.40,   0.28,   0.40,  -0.28,
+                 -0.40,  -0.48,  -0.20,   0.20,   0.24,   0.30,   0.44,   0.00,
+                  0.16,   0.24,   0.30,   0.16,  -0.20,   0.24,   0.30,  -0.12,
+                  0.20,   0.20,   0.30,  -0.16,   0.20,   0.00,   0.00,   0.44,
+                 -0.32,   0.30,   0.24,   0.00,  -0.36,   0.36,   0.00,   0.24,
+                  0.12,  -0.20,   0.20,   0.30,  -0.12,   0.00,  -0.28,   0.30,
+                 -0.24,   0.30,   0.12,   0.10,  -0.28,  -0.30,  -0.28,   0.30,
+                  0.00,   0.00,  -0.28,  -0.30,   0.00,   0.00,  -0.28,  -0.30,
+                  0.00,   0.00,   0.28,   0.30,   0.00,   0.00,  -0.28,  -0.30,
+                 -0.28,   0.30,   0.00,   0.00,  -0.28,  -0.30,   0.00,   0.00,
+
+             /* 4052-4179 */
+                  0.28,   0.30,   0.00,   0.00,  -0.28,   0.30,   0.28,  -0.30,
+                 -0.28,   0.30,   0.40,   0.40,  -0.24,   0.30,   0.00,  -0.10,
+                  0.16,   0.00,   0.36,  -0.20,   0.30,  -0.12,  -0.10,  -0.24,
+                 -0.30,   0.00,   0.00,  -0.24,   0.30,  -0.24,   0.30,   0.00,
+                  0.00,  -0.24,   0.30,  -0.24,   0.30,   0.24,  -0.30,   0.00,
+                  0.00,   0.24,  -0.30,   0.00,   0.00,   0.24,   0.30,   0.24,
+                 -0.30,   0.24,   0.30,  -0.24,   0.30,  -0.24,   0.30,  -0.20,
+                  0.20,  -0.16,  -0.20,   0.00,   0.00,  -0.32,   0.20,   0.00,
+                  0.10,   0.20,  -0.30,   0.20,  -0.20,   0.12,   0.20,  -0.16,
+                  0.20,   0.16,   0.20,   0.20,   0.30,   0.20,   0.30,   0.00,
+                  0.00,  -0.20,   0.30,   0.00,   0.00,   0.20,   0.30,  -0.20,
+                 -0.30,  -0.20,  -0.30,   0.20,  -0.30,   0.00,   0.00,   0.20,
+                  0.30,   0.00,   0.00,   0.20,   0.30,   0.00,   0.00,   0.20,
+                  0.30,   0.00,   0.00,   0.20,   0.30,   0.00,   0.00,   0.20,
+                 -0.30,   0.00,   0.00,  -0.20,  -0.30,   0.00,   0.00,  -0.20,
+                  0.30,   0.00,   0.00,  -0.20,   0.30,   0.00,   0.00,   0.36,
+
+             /* 4180-4307 */
+                  0.00,   0.00,   0.36,   0.12,   0.10,  -0.24,   0.20,   0.12,
+                 -0.20,  -0.16,  -0.20,  -0.13,   0.10,   0.22,   0.21,   0.20,
+                  0.00,  -0.28,   0.32,   0.00,  -0.12,  -0.20,  -0.20,   0.12,
+                 -0.10,   0.12,   0.10,  -0.20,   0.20,   0.00,   0.00,  -0.32,
+                  0.32,   0.00,   0.00,   0.32,   0.32,   0.00,   0.00,  -0.24,
+                 -0.20,   0.24,   0.20,   0.20,   0.00,  -0.24,   0.00,   0.00,
+                 -0.24,  -0.20,   0.00,   0.00,   0.24,   0.20,  -0.24,  -0.20,
+                  0.00,   0.00,  -0.24,   0.20,   0.16,  -0.20,   0.12,   0.10,
+                  0.20,   0.20,   0.00,  -0.10,  -0.12,   0.10,  -0.16,  -0.20,
+                 -0.12,  -0.10,  -0.16,   0.20,   0.20,   0.20,   0.00,   0.00,
+                 -0.20,   0.20,  -0.20,   0.20,  -0.20,   0.20,  -0.20,   0.20,
+                  0.20,  -0.20,  -0.20,  -0.20,   0.00,   0.00,  -0.20,   0.20,
+                  0.20,   0.00,  -0.20,   0.00,   0.00,  -0.20,   0.20,  -0.20,
+                  0.20,  -0.20,  -0.20,  -0.20,  -0.20,   0.00,   0.00,   0.20,
+                  0.20,   0.20,   0.20,   0.12,  -0.20,  -0.12,  -0.10,   0.28,
+                 -0.28,   0.16,  -0.20,   0.00,  -0.10,   0.00,   0.10,  -0.16,
+
+             /* 4308-4435 */
+                  0.20,   0.00,  -0.10,  -0.16,  -0.20,   0.00,  -0.10,   0.16,
+                 -0.20,   0.16,  -0.20,   0.00,   0.00,   0.16,   0.20,  -0.16,
+                  0.20,   0.00,   0.00,   0.16,   0.20,   0.16,  -0.20,   0.16,
+                 -0.20,  -0.16,   0.20,   0.16,  -0.20,   0.00,   0.00,   0.16,
+                  0.20,   0.00,   0.00,   0.16,   0.20,   0.00,   0.00,  -0.16,
+                 -0.20,   0.16,  -0.20,  -0.16,  -0.20,   0.00,   0.00,  -0.16,
+                 -0.20,   0.00,   0.00,  -0.16,   0.20,   0.00,   0.00,   0.16,
+                 -0.20,   0.16,   0.20,   0.16,   0.20,   0.00,   0.00,  -0.16,
+                 -0.20,   0.00,   0.00,  -0.16,  -0.20,   0.00,   0.00,   0.16,
+                  0.20,   0.16,   0.20,   0.00,   0.00,   0.16,   0.20,   0.16,
+                 -0.20,   0.16,   0.20,   0.00,   0.00,  -0.16,   0.20,   0.00,
+                  0.10,   0.12,  -0.20,   0.12,  -0.20,   0.00,  -0.10,   0.00,
+                 -0.10,   0.12,   0.20,   0.00,  -0.10,  -0.12,   0.20,  -0.15,
+                  0.20,  -0.24,   0.24,   0.00,   0.00,   0.24,   0.24,   0.12,
+                 -0.20,  -0.12,  -0.20,   0.00,   0.00,   0.12,   0.20,   0.12,
+                 -0.20,   0.12,   0.20,   0.12,   0.20,   0.12,   0.20,   0.12,
+
+             /* 4436-4563 */
+                 -0.20,  -0.12,   0.20,   0.00,   0.00,   0.12,   0.20,   0.12,
+                  0.00,  -0.20,   0.00,   0.00,  -0.12,  -0.20,   0.12,  -0.20,
+                  0.00,   0.00,   0.12,   0.20,  -0.12,   0.20,  -0.12,   0.20,
+                  0.12,  -0.20,   0.00,   0.00,   0.12,   0.20,   0.20,   0.00,
+                  0.12,   0.00,   0.00,  -0.12,   0.20,   0.00,   0.00,  -0.12,
+                 -0.20,   0.00,   0.00,  -0.12,  -0.20,  -0.12,  -0.20,   0.00,
+                  0.00,   0.12,  -0.20,   0.12,  -0.20,   0.12,   0.20,  -0.12,
+                 -0.20,   0.00,   0.00,   0.12,  -0.20,   0.12,  -0.20,   0.12,
+                  0.20,   0.12,   0.00,   0.20,  -0.12,  -0.20,   0.00,   0.00,
+                  0.12,   0.20,  -0.16,   0.00,   0.16,  -0.20,   0.20,   0.00,
+                  0.00,  -0.20,   0.00,   0.00,  -0.20,   0.20,   0.00,   0.00,
+                  0.20,   0.20,  -0.20,   0.00,   0.00,  -0.20,   0.12,   0.00,
+                 -0.16,   0.20,   0.00,   0.00,   0.20,   0.12,  -0.10,   0.00,
+                  0.10,   0.16,  -0.16,  -0.16,  -0.16,  -0.16,  -0.16,   0.00,
+                  0.00,  -0.16,   0.00,   0.00,  -0.16,  -0.16,  -0.16,   0.00,
+                  0.00,  -0.16,   0.00,   0.00,   0.16,   0.00,   0.00,   0.16,
+
+             /* 4564-4691 */
+                  0.00,   0.00,   0.16,   0.16,   0.00,   0.00,  -0.16,   0.00,
+                  0.00,  -0.16,  -0.16,   0.00,   0.00,   0.16,   0.00,   0.00,
+                 -0.16,  -0.16,   0.00,   0.00,  -0.16,  -0.16,   0.12,   0.10,
+                  0.12,  -0.10,   0.12,   0.10,   0.00,   0.00,   0.12,   0.10,
+                 -0.12,   0.10,   0.00,   0.00,   0.12,   0.10,   0.12,  -0.10,
+                  0.00,   0.00,  -0.12,  -0.10,   0.00,   0.00,   0.12,   0.10,
+                  0.12,   0.00,   0.00,   0.12,   0.00,   0.00,  -0.12,   0.00,
+                  0.00,   0.12,   0.12,   0.12,   0.12,   0.12,   0.00,   0.00,
+                  0.12,   0.00,   0.00,   0.12,   0.12,   0.00,   0.00,   0.12,
+                  0.00,   0.00,   0.12,  -0.12,  -0.12,   0.12,   0.12,  -0.12,
+                 -0.12,   0.00,   0.00,   0.12,  -0.12,   0.12,   0.12,  -0.12,
+                 -0.12,   0.00,   0.00,  -0.12,  -0.12,   0.00,   0.00,  -0.12,
+                  0.12,   0.00,   0.00,   0.12,   0.00,   0.00,   0.12,   0.00,
+                  0.00,   0.12,  -0.12,   0.00,   0.00,  -0.12,   0.12,  -0.12,
+                 -0.12,   0.12,   0.00,   0.00,   0.12,   0.12,   0.12,  -0.12,
+                  0.00,   0.00,  -0.12,  -0.12,  -0.12,   0.00,   0.00,  -0.12,
+
+             /* 4692-NA */
+                 -0.12,   0.00,   0.00,   0.12,   0.12,   0.00,   0.00,  -0.12,
+                 -0.12,  -0.12,  -0.12,   0.12,   0.00,   0.00,   0.12,  -0.12,
+                  0.00,   0.00,  -0.12,  -0.12,   0.00,   0.00,   0.12,  -0.12,
+                 -0.12,  -0.12,  -0.12,   0.12,   0.12,  -0.12,  -0.12,   0.00,
+                  0.00,  -0.12,   0.00,   0.00,  -0.12,   0.12,   0.00,   0.00,
+                  0.12,   0.00,   0.00,  -0.12,  -0.12,   0.00,   0.00,  -0.12,
+                 -0.12,   0.12,   0.00,   0.00,   0.12,   0.12,   0.00,   0.00,
+                  0.12,   0.00,   0.00,   0.12,   0.12,   0.08,   0.00,   0.04
+             };
+        }
+    }
+
     public static CelestialIntermediatePole jauXy06(double date1, double date2)
     /**
     **  X,Y coordinates of celestial intermediate pole from series based
@@ -22966,28 +25582,41 @@ public static class SphericalCoordinateEO {
     **  <!-- Copyright (C) 2009 IAU SOFA Review Board.  See notes at end -->
     */
     {
+       return jauXy06(jauFa03(date1, date2));
 
-    /* Maximum power of T in the polynomials for X and Y */
-       final int MAXPT = (5);
-
-    /* Polynomial coefficients (arcsec, X then Y). */
-       final double xyp[][] = {
-
-          {    -0.016617,
-             2004.191898,
-               -0.4297829,
-               -0.19861834,
-                0.000007578,
-                0.0000059285
-          },
-          {    -0.006951,
-               -0.025896,
-              -22.4072747,
-                0.00190059,
-                0.001112526,
-                0.0000001358
-          }
-       };
+        }
+
+    /**
+    **  X,Y coordinates of celestial intermediate pole from series based
+    **  on IAU 2006 precession and IAU 2000A nutation, from fundamental
+    **  arguments already evaluated.  See {@link #jauXy06(double, double)}.
+    **
+    **<!-- Given: -->
+    **     @param args    FundamentalArguments  TT date and fundamental arguments,
+    **                                          see {@link #jauFa03}
+    **
+    ** <!-- Returned (function value): -->
+    **  @return CelestialIntermediatePole  CIP X,Y coordinates (Note 2 of jauXy06)
+    */
+    public static CelestialIntermediatePole jauXy06(FundamentalArguments args)
+    {
+       return xys06(args, false).cip;
+
+        }
+
+    /**
+    **  The series for X and Y of {@link #jauXy06} and, optionally, that
+    **  for s+XY/2 of {@link #jauS06}.  The s+XY/2 terms whose frequencies
+    **  occur in the X,Y series reuse the sines and cosines computed there
+    **  rather than evaluating their own; the results are the same as from
+    **  the separate functions.
+    **
+    **     @param args    FundamentalArguments  TT date and fundamental arguments
+    **     @param withS   boolean               whether to evaluate s
+    **  @return ICRFrame  CIP X,Y coordinates and, if requested, s (else zero)
+    */
+    private static ICRFrame xys06(FundamentalArguments args, boolean withS)
+    {
 
     /* N.B mfals defined as class static (outside this method) to avoid problems with 65535 byte limit for methods */ 
     /* Number of frequencies:  luni-solar */
@@ -22996,866 +25625,33 @@ public static class SphericalCoordinateEO {
     /* Number of frequencies:  planetary */
        final int NFPL =mfapl.length ;
 
-    /* Pointers into amplitudes array, one pointer per frequency */
-       final int nc[] = {
-
-       /* 1-100 */
-           1,    21,    37,    51,    65,    79,    91,   103,   115,   127,
-         139,   151,   163,   172,   184,   196,   207,   219,   231,   240,
-         252,   261,   273,   285,   297,   309,   318,   327,   339,   351,
-         363,   372,   384,   396,   405,   415,   423,   435,   444,   452,
-         460,   467,   474,   482,   490,   498,   506,   513,   521,   528,
-         536,   543,   551,   559,   566,   574,   582,   590,   597,   605,
-         613,   620,   628,   636,   644,   651,   658,   666,   674,   680,
-         687,   695,   702,   710,   717,   725,   732,   739,   746,   753,
-         760,   767,   774,   782,   790,   798,   805,   812,   819,   826,
-         833,   840,   846,   853,   860,   867,   874,   881,   888,   895,
-
-       /* 101-200 */
-         901,   908,   914,   921,   928,   934,   941,   948,   955,   962,
-         969,   976,   982,   989,   996,  1003,  1010,  1017,  1024,  1031,
-        1037,  1043,  1050,  1057,  1064,  1071,  1078,  1084,  1091,  1098,
-        1104,  1112,  1118,  1124,  1131,  1138,  1145,  1151,  1157,  1164,
-        1171,  1178,  1185,  1192,  1199,  1205,  1212,  1218,  1226,  1232,
-        1239,  1245,  1252,  1259,  1266,  1272,  1278,  1284,  1292,  1298,
-        1304,  1310,  1316,  1323,  1329,  1335,  1341,  1347,  1353,  1359,
-        1365,  1371,  1377,  1383,  1389,  1396,  1402,  1408,  1414,  1420,
-        1426,  1434,  1440,  1446,  1452,  1459,  1465,  1471,  1477,  1482,
-        1488,  1493,  1499,  1504,  1509,  1514,  1520,  1527,  1532,  1538,
-
-       /* 201-300 */
-        1543,  1548,  1553,  1558,  1564,  1569,  1574,  1579,  1584,  1589,
-        1594,  1596,  1598,  1600,  1602,  1605,  1608,  1610,  1612,  1617,
-        1619,  1623,  1625,  1627,  1629,  1632,  1634,  1640,  1642,  1644,
-        1646,  1648,  1650,  1652,  1654,  1658,  1660,  1662,  1664,  1668,
-        1670,  1672,  1673,  1675,  1679,  1681,  1683,  1684,  1686,  1688,
-        1690,  1693,  1695,  1697,  1701,  1703,  1705,  1707,  1709,  1711,
-        1712,  1715,  1717,  1721,  1723,  1725,  1727,  1729,  1731,  1733,
-        1735,  1737,  1739,  1741,  1743,  1745,  1747,  1749,  1751,  1753,
-        1755,  1757,  1759,  1761,  1762,  1764,  1766,  1768,  1769,  1771,
-        1773,  1775,  1777,  1779,  1781,  1783,  1785,  1787,  1788,  1790,
-
-       /* 301-400 */
-        1792,  1794,  1796,  1798,  1800,  1802,  1804,  1806,  1807,  1809,
-        1811,  1815,  1817,  1819,  1821,  1823,  1825,  1827,  1829,  1831,
-        1833,  1835,  1837,  1839,  1840,  1842,  1844,  1848,  1850,  1852,
-        1854,  1856,  1858,  1859,  1860,  1862,  1864,  1866,  1868,  1869,
-        1871,  1873,  1875,  1877,  1879,  1881,  1883,  1885,  1887,  1889,
-        1891,  1892,  1896,  1898,  1900,  1901,  1903,  1905,  1907,  1909,
-        1910,  1911,  1913,  1915,  1919,  1921,  1923,  1927,  1929,  1931,
-        1933,  1935,  1937,  1939,  1943,  1945,  1947,  1948,  1949,  1951,
-        1953,  1955,  1957,  1958,  1960,  1962,  1964,  1966,  1968,  1970,
-        1971,  1973,  1974,  1975,  1977,  1979,  1980,  1981,  1982,  1984,
-
-       /* 401-500 */
-        1986,  1988,  1990,  1992,  1994,  1995,  1997,  1999,  2001,  2003,
-        2005,  2007,  2008,  2009,  2011,  2013,  2015,  2017,  2019,  2021,
-        2023,  2024,  2025,  2027,  2029,  2031,  2033,  2035,  2037,  2041,
-        2043,  2045,  2046,  2047,  2049,  2051,  2053,  2055,  2056,  2057,
-        2059,  2061,  2063,  2065,  2067,  2069,  2070,  2071,  2072,  2074,
-        2076,  2078,  2080,  2082,  2084,  2086,  2088,  2090,  2092,  2094,
-        2095,  2096,  2097,  2099,  2101,  2105,  2106,  2107,  2108,  2109,
-        2110,  2111,  2113,  2115,  2119,  2121,  2123,  2125,  2127,  2129,
-        2131,  2133,  2135,  2136,  2137,  2139,  2141,  2143,  2145,  2147,
-        2149,  2151,  2153,  2155,  2157,  2159,  2161,  2163,  2165,  2167,
-
-       /* 501-600 */
-        2169,  2171,  2173,  2175,  2177,  2179,  2181,  2183,  2185,  2186,
-        2187,  2188,  2192,  2193,  2195,  2197,  2199,  2201,  2203,  2205,
-        2207,  2209,  2211,  2213,  2217,  2219,  2221,  2223,  2225,  2227,
-        2229,  2231,  2233,  2234,  2235,  2236,  2237,  2238,  2239,  2240,
-        2241,  2244,  2246,  2248,  2250,  2252,  2254,  2256,  2258,  2260,
-        2262,  2264,  2266,  2268,  2270,  2272,  2274,  2276,  2278,  2280,
-        2282,  2284,  2286,  2288,  2290,  2292,  2294,  2296,  2298,  2300,
-        2302,  2303,  2304,  2305,  2306,  2307,  2309,  2311,  2313,  2315,
-        2317,  2319,  2321,  2323,  2325,  2327,  2329,  2331,  2333,  2335,
-        2337,  2341,  2343,  2345,  2347,  2349,  2351,  2352,  2355,  2356,
-
-       /* 601-700 */
-        2357,  2358,  2359,  2361,  2363,  2364,  2365,  2366,  2367,  2368,
-        2369,  2370,  2371,  2372,  2373,  2374,  2376,  2378,  2380,  2382,
-        2384,  2385,  2386,  2387,  2388,  2389,  2390,  2391,  2392,  2393,
-        2394,  2395,  2396,  2397,  2398,  2399,  2400,  2401,  2402,  2403,
-        2404,  2405,  2406,  2407,  2408,  2409,  2410,  2411,  2412,  2413,
-        2414,  2415,  2417,  2418,  2430,  2438,  2445,  2453,  2460,  2468,
-        2474,  2480,  2488,  2496,  2504,  2512,  2520,  2527,  2535,  2543,
-        2550,  2558,  2566,  2574,  2580,  2588,  2596,  2604,  2612,  2619,
-        2627,  2634,  2642,  2648,  2656,  2664,  2671,  2679,  2685,  2693,
-        2701,  2709,  2717,  2725,  2733,  2739,  2747,  2753,  2761,  2769,
-
-       /* 701-800 */
-        2777,  2785,  2793,  2801,  2809,  2817,  2825,  2833,  2841,  2848,
-        2856,  2864,  2872,  2878,  2884,  2892,  2898,  2906,  2914,  2922,
-        2930,  2938,  2944,  2952,  2958,  2966,  2974,  2982,  2988,  2996,
-        3001,  3009,  3017,  3025,  3032,  3039,  3045,  3052,  3059,  3067,
-        3069,  3076,  3083,  3090,  3098,  3105,  3109,  3111,  3113,  3120,
-        3124,  3128,  3132,  3136,  3140,  3144,  3146,  3150,  3158,  3161,
-        3165,  3166,  3168,  3172,  3176,  3180,  3182,  3185,  3189,  3193,
-        3194,  3197,  3200,  3204,  3208,  3212,  3216,  3219,  3221,  3222,
-        3226,  3230,  3234,  3238,  3242,  3243,  3247,  3251,  3254,  3258,
-        3262,  3266,  3270,  3274,  3275,  3279,  3283,  3287,  3289,  3293,
-
-       /* 801-900 */
-        3296,  3300,  3303,  3307,  3311,  3315,  3319,  3321,  3324,  3327,
-        3330,  3334,  3338,  3340,  3342,  3346,  3350,  3354,  3358,  3361,
-        3365,  3369,  3373,  3377,  3381,  3385,  3389,  3393,  3394,  3398,
-        3402,  3406,  3410,  3413,  3417,  3421,  3425,  3429,  3433,  3435,
-        3439,  3443,  3446,  3450,  3453,  3457,  3458,  3461,  3464,  3468,
-        3472,  3476,  3478,  3481,  3485,  3489,  3493,  3497,  3501,  3505,
-        3507,  3511,  3514,  3517,  3521,  3524,  3525,  3527,  3529,  3533,
-        3536,  3540,  3541,  3545,  3548,  3551,  3555,  3559,  3563,  3567,
-        3569,  3570,  3574,  3576,  3578,  3582,  3586,  3590,  3593,  3596,
-        3600,  3604,  3608,  3612,  3616,  3620,  3623,  3626,  3630,  3632,
-
-       /* 901-1000 */
-        3636,  3640,  3643,  3646,  3648,  3652,  3656,  3660,  3664,  3667,
-        3669,  3671,  3675,  3679,  3683,  3687,  3689,  3693,  3694,  3695,
-        3699,  3703,  3705,  3707,  3710,  3713,  3717,  3721,  3725,  3729,
-        3733,  3736,  3740,  3744,  3748,  3752,  3754,  3757,  3759,  3763,
-        3767,  3770,  3773,  3777,  3779,  3783,  3786,  3790,  3794,  3798,
-        3801,  3805,  3809,  3813,  3817,  3821,  3825,  3827,  3831,  3835,
-        3836,  3837,  3840,  3844,  3848,  3852,  3856,  3859,  3863,  3867,
-        3869,  3871,  3875,  3879,  3883,  3887,  3890,  3894,  3898,  3901,
-        3905,  3909,  3913,  3917,  3921,  3922,  3923,  3924,  3926,  3930,
-        3932,  3936,  3938,  3940,  3944,  3948,  3952,  3956,  3959,  3963,
-
-       /* 1001-1100 */
-        3965,  3969,  3973,  3977,  3979,  3981,  3982,  3986,  3989,  3993,
-        3997,  4001,  4004,  4006,  4009,  4012,  4016,  4020,  4024,  4026,
-        4028,  4032,  4036,  4040,  4044,  4046,  4050,  4054,  4058,  4060,
-        4062,  4063,  4064,  4068,  4071,  4075,  4077,  4081,  4083,  4087,
-        4089,  4091,  4095,  4099,  4101,  4103,  4105,  4107,  4111,  4115,
-        4119,  4123,  4127,  4129,  4131,  4135,  4139,  4141,  4143,  4145,
-        4149,  4153,  4157,  4161,  4165,  4169,  4173,  4177,  4180,  4183,
-        4187,  4191,  4195,  4198,  4201,  4205,  4209,  4212,  4213,  4216,
-        4217,  4221,  4223,  4226,  4230,  4234,  4236,  4240,  4244,  4248,
-        4252,  4256,  4258,  4262,  4264,  4266,  4268,  4270,  4272,  4276,
-
-       /* 1101-1200 */
-        4279,  4283,  4285,  4287,  4289,  4293,  4295,  4299,  4300,  4301,
-        4305,  4309,  4313,  4317,  4319,  4323,  4325,  4329,  4331,  4333,
-        4335,  4337,  4341,  4345,  4349,  4351,  4353,  4357,  4361,  4365,
-        4367,  4369,  4373,  4377,  4381,  4383,  4387,  4389,  4391,  4395,
-        4399,  4403,  4407,  4411,  4413,  4414,  4415,  4418,  4419,  4421,
-        4423,  4427,  4429,  4431,  4433,  4435,  4437,  4439,  4443,  4446,
-        4450,  4452,  4456,  4458,  4460,  4462,  4466,  4469,  4473,  4477,
-        4481,  4483,  4487,  4489,  4491,  4493,  4497,  4499,  4501,  4504,
-        4506,  4510,  4513,  4514,  4515,  4518,  4521,  4522,  4525,  4526,
-        4527,  4530,  4533,  4534,  4537,  4541,  4542,  4543,  4544,  4545,
-
-       /* 1201-1300 */
-        4546,  4547,  4550,  4553,  4554,  4555,  4558,  4561,  4564,  4567,
-        4568,  4571,  4574,  4575,  4578,  4581,  4582,  4585,  4586,  4588,
-        4590,  4592,  4596,  4598,  4602,  4604,  4608,  4612,  4613,  4616,
-        4619,  4622,  4623,  4624,  4625,  4626,  4629,  4632,  4633,  4636,
-        4639,  4640,  4641,  4642,  4643,  4644,  4645,  4648,  4649,  4650,
-        4651,  4652,  4653,  4656,  4657,  4660,  4661,  4664,  4667,  4670,
-        4671,  4674,  4675,  4676,  4677,  4678,  4681,  4682,  4683,  4684,
-        4687,  4688,  4689,  4692,  4693,  4696,  4697,  4700,  4701,  4702,
-        4703,  4704,  4707,  4708,  4711,  4712,  4715,  4716,  4717,  4718,
-        4719,  4720,  4721,  4722,  4723,  4726,  4729,  4730,  4733,  4736,
-
-       /* 1301-(NFLS+NFPL) */
-        4737,  4740,  4741,  4742,  4745,  4746,  4749,  4752,  4753
-       };
-
-    /* Amplitude coefficients (microarcsec);  indexed using the nc array. */
-       final double a[] = {
-
-       /* 1-105 */
-             -6844318.44,     9205236.26,1328.67,1538.18,      205833.11,
-               153041.79,       -3309.73, 853.32,2037.98,       -2301.27,
-           81.46, 120.56, -20.39, -15.22,   1.73,  -1.61,  -0.10,   0.11,
-           -0.02,  -0.02,     -523908.04,      573033.42,-544.75,-458.66,
-                12814.01,       11714.49, 198.97,-290.91, 155.74,-143.27,
-           -2.75,  -1.03,  -1.27,  -1.16,   0.00,  -0.01,      -90552.22,
-                97846.69, 111.23, 137.41,2187.91,2024.68,  41.44, -51.26,
-           26.92, -24.46,  -0.46,  -0.28,  -0.22,  -0.20,       82168.76,
-               -89618.24, -27.64, -29.05,       -2004.36,       -1837.32,
-          -36.07,  48.00, -24.43,  22.41,   0.47,   0.24,   0.20,   0.18,
-                58707.02,7387.02, 470.05,-192.40, 164.33,       -1312.21,
-         -179.73, -28.93, -17.36,  -1.83,  -0.50,   3.57,   0.00,   0.13,
-               -20557.78,       22438.42, -20.84, -17.40, 501.82, 459.68,
-           59.20, -67.30,   6.08,  -5.61,  -1.36,  -1.19,       28288.28,
-         -674.99, -34.69,  35.80, -15.07,-632.54, -11.19,   0.78,  -8.41,
-            0.17,   0.01,   0.07,      -15406.85,       20069.50,  15.12,
-
-       /* 106-219 */
-           31.80, 448.76, 344.50,  -5.77,   1.41,   4.59,  -5.02,   0.17,
-            0.24,      -11991.74,       12902.66,  32.46,  36.70, 288.49,
-          268.14,   5.70,  -7.06,   3.57,  -3.23,  -0.06,  -0.04,
-                -8584.95,       -9592.72,   4.42, -13.20,-214.50, 192.06,
-           23.87,  29.83,   2.54,   2.40,   0.60,  -0.48,5095.50,
-                -6918.22,   7.19,   3.92,-154.91,-113.94,   2.86,  -1.04,
-           -1.52,   1.73,  -0.07,  -0.10,       -4910.93,       -5331.13,
-            0.76,   0.40,-119.21, 109.81,   2.16,   3.20,   1.46,   1.33,
-            0.04,  -0.02,       -6245.02,-123.48,  -6.68,  -8.20,  -2.76,
-          139.64,   2.71,   0.15,   1.86,2511.85,       -3323.89,   1.07,
-           -0.90, -74.33, -56.17,   1.16,  -0.01,  -0.75,   0.83,  -0.02,
-           -0.04,2307.58,3143.98,  -7.52,   7.50,  70.31, -51.60,   1.46,
-            0.16,  -0.69,  -0.79,   0.02,  -0.05,2372.58,2554.51,   5.93,
-           -6.60,  57.12, -53.05,  -0.96,  -1.24,  -0.71,  -0.64,  -0.01,
-                -2053.16,2636.13,   5.13,   7.80,  58.94,  45.91,  -0.42,
-           -0.12,   0.61,  -0.66,   0.02,   0.03,       -1825.49,
-
-       /* 220-339 */
-                -2423.59,   1.23,  -2.00, -54.19,  40.82,  -1.07,  -1.02,
-            0.54,   0.61,  -0.04,   0.04,2521.07,-122.28,  -5.97,   2.90,
-           -2.73, -56.37,  -0.82,   0.13,  -0.75,       -1534.09,1645.01,
-            6.29,   6.80,  36.78,  34.30,   0.92,  -1.25,   0.46,  -0.41,
-           -0.02,  -0.01,1898.27,  47.70,  -0.72,   2.50,   1.07, -42.45,
-           -0.94,   0.02,  -0.56,       -1292.02,       -1387.00,   0.00,
-            0.00, -31.01,  28.89,   0.68,   0.00,   0.38,   0.35,  -0.01,
-           -0.01,       -1234.96,1323.81,   5.21,   5.90,  29.60,  27.61,
-            0.74,  -1.22,   0.37,  -0.33,  -0.02,  -0.01,1137.48,
-                -1233.89,  -0.04,  -0.30, -27.59, -25.43,  -0.61,   1.00,
-           -0.34,   0.31,   0.01,   0.01,-813.13,       -1075.60,   0.40,
-            0.30, -24.05,  18.18,  -0.40,  -0.01,   0.24,   0.27,  -0.01,
-            0.01,1163.22, -60.90,  -2.94,   1.30,  -1.36, -26.01,  -0.58,
-            0.07,  -0.35,1029.70, -55.55,  -2.63,   1.10,  -1.25, -23.02,
-           -0.52,   0.06,  -0.31,-556.26, 852.85,   3.16,  -4.48,  19.06,
-           12.44,  -0.81,  -0.27,   0.17,  -0.21,   0.00,   0.02,-603.52,
-
-       /* 340-467 */
-         -800.34,   0.44,   0.10, -17.90,  13.49,  -0.08,  -0.01,   0.18,
-            0.20,  -0.01,   0.01,-628.24, 684.99,  -0.64,  -0.50,  15.32,
-           14.05,   3.18,  -4.19,   0.19,  -0.17,  -0.09,  -0.07,-866.48,
-          -16.26,   0.52,  -1.30,  -0.36,  19.37,   0.43,  -0.01,   0.26,
-         -512.37, 695.54,  -1.47,  -1.40,  15.55,  11.46,  -0.16,   0.03,
-            0.15,  -0.17,   0.01,   0.01, 506.65, 643.75,   2.54,  -2.62,
-           14.40, -11.33,  -0.77,  -0.06,  -0.15,  -0.16,   0.00,   0.01,
-          664.57,  16.81,  -0.40,   1.00,   0.38, -14.86,  -3.71,  -0.09,
-           -0.20, 405.91, 522.11,   0.99,  -1.50,  11.67,  -9.08,  -0.25,
-           -0.02,  -0.12,  -0.13,-305.78, 326.60,   1.75,   1.90,   7.30,
-            6.84,   0.20,  -0.04, 300.99,-325.03,  -0.44,  -0.50,  -7.27,
-           -6.73,  -1.01,   0.01,   0.00,   0.08,   0.00,   0.02, 438.51,
-           10.47,  -0.56,  -0.20,   0.24,  -9.81,  -0.24,   0.01,  -0.13,
-         -264.02, 335.24,   0.99,   1.40,   7.49,   5.90,  -0.27,  -0.02,
-          284.09, 307.03,   0.32,  -0.40,   6.87,  -6.35,  -0.99,  -0.01,
-         -250.54, 327.11,   0.08,   0.40,   7.31,   5.60,  -0.30, 230.72,
-
-       /* 468-595 */
-         -304.46,   0.08,  -0.10,  -6.81,  -5.16,   0.27, 229.78, 304.17,
-           -0.60,   0.50,   6.80,  -5.14,   0.33,   0.01, 256.30,-276.81,
-           -0.28,  -0.40,  -6.19,  -5.73,  -0.14,   0.01,-212.82, 269.45,
-            0.84,   1.20,   6.02,   4.76,   0.14,  -0.02, 196.64, 272.05,
-           -0.84,   0.90,   6.08,  -4.40,   0.35,   0.02, 188.95, 272.22,
-           -0.12,   0.30,   6.09,  -4.22,   0.34,-292.37,  -5.10,  -0.32,
-           -0.40,  -0.11,   6.54,   0.14,   0.01, 161.79,-220.67,   0.24,
-            0.10,  -4.93,  -3.62,  -0.08, 261.54, -19.94,  -0.95,   0.20,
-           -0.45,  -5.85,  -0.13,   0.02, 142.16,-190.79,   0.20,   0.10,
-           -4.27,  -3.18,  -0.07, 187.95,  -4.11,  -0.24,   0.30,  -0.09,
-           -4.20,  -0.09,   0.01,   0.00,   0.00, -79.08, 167.90,   0.04,
-            0.00,   3.75,   1.77, 121.98, 131.04,  -0.08,   0.10,   2.93,
-           -2.73,  -0.06,-172.95,  -8.11,  -0.40,  -0.20,  -0.18,   3.87,
-            0.09,   0.01,-160.15, -55.30, -14.04,  13.90,  -1.23,   3.58,
-            0.40,   0.31,-115.40, 123.20,   0.60,   0.70,   2.75,   2.58,
-            0.08,  -0.01,-168.26,  -2.00,   0.20,  -0.20,  -0.04,   3.76,
-
-       /* 596-723 */
-            0.08,-114.49, 123.20,   0.32,   0.40,   2.75,   2.56,   0.07,
-           -0.01, 112.14, 120.70,   0.28,  -0.30,   2.70,  -2.51,  -0.07,
-           -0.01, 161.34,   4.03,   0.20,   0.20,   0.09,  -3.61,  -0.08,
-           91.31, 126.64,  -0.40,   0.40,   2.83,  -2.04,  -0.04,   0.01,
-          105.29, 112.90,   0.44,  -0.50,   2.52,  -2.35,  -0.07,  -0.01,
-           98.69,-106.20,  -0.28,  -0.30,  -2.37,  -2.21,  -0.06,   0.01,
-           86.74,-112.94,  -0.08,  -0.20,  -2.53,  -1.94,  -0.05,-134.81,
-            3.51,   0.20,  -0.20,   0.08,   3.01,   0.07,  79.03, 107.31,
-           -0.24,   0.20,   2.40,  -1.77,  -0.04,   0.01, 132.81, -10.77,
-           -0.52,   0.10,  -0.24,  -2.97,  -0.07,   0.01,-130.31,  -0.90,
-            0.04,   0.00,   0.00,   2.91, -78.56,  85.32,   0.00,   0.00,
-            1.91,   1.76,   0.04,   0.00,   0.00, -41.53,  89.10,   0.02,
-            0.00,   1.99,   0.93,  66.03, -71.00,  -0.20,  -0.20,  -1.59,
-           -1.48,  -0.04,  60.50,  64.70,   0.36,  -0.40,   1.45,  -1.35,
-           -0.04,  -0.01, -52.27, -70.01,   0.00,   0.00,  -1.57,   1.17,
-            0.03, -52.95,  66.29,   0.32,   0.40,   1.48,   1.18,   0.04,
-
-       /* 724-851 */
-           -0.01,  51.02,  67.25,   0.00,   0.00,   1.50,  -1.14,  -0.03,
-          -55.66, -60.92,   0.16,  -0.20,  -1.36,   1.24,   0.03, -54.81,
-          -59.20,  -0.08,   0.20,  -1.32,   1.23,   0.03,  51.32, -55.60,
-            0.00,   0.00,  -1.24,  -1.15,  -0.03,  48.29,  51.80,   0.20,
-           -0.20,   1.16,  -1.08,  -0.03, -45.59, -49.00,  -0.12,   0.10,
-           -1.10,   1.02,   0.03,  40.54, -52.69,  -0.04,  -0.10,  -1.18,
-           -0.91,  -0.02, -40.58, -49.51,  -1.00,   1.00,  -1.11,   0.91,
-            0.04,   0.02, -43.76,  46.50,   0.36,   0.40,   1.04,   0.98,
-            0.03,  -0.01,  62.65,  -5.00,  -0.24,   0.00,  -0.11,  -1.40,
-           -0.03,   0.01, -38.57,  49.59,   0.08,   0.10,   1.11,   0.86,
-            0.02, -33.22, -44.04,   0.08,  -0.10,  -0.98,   0.74,   0.02,
-           37.15, -39.90,  -0.12,  -0.10,  -0.89,  -0.83,  -0.02,  36.68,
-          -39.50,  -0.04,  -0.10,  -0.88,  -0.82,  -0.02, -53.22,  -3.91,
-           -0.20,   0.00,  -0.09,   1.19,   0.03,  32.43, -42.19,  -0.04,
-           -0.10,  -0.94,  -0.73,  -0.02, -51.00,  -2.30,  -0.12,  -0.10,
-            0.00,   1.14, -29.53, -39.11,   0.04,   0.00,  -0.87,   0.66,
-
-       /* 852-979 */
-            0.02,  28.50, -38.92,  -0.08,  -0.10,  -0.87,  -0.64,  -0.02,
-           26.54,  36.95,  -0.12,   0.10,   0.83,  -0.59,  -0.01,  26.54,
-           34.59,   0.04,  -0.10,   0.77,  -0.59,  -0.02,  28.35, -32.55,
-           -0.16,   0.20,  -0.73,  -0.63,  -0.01, -28.00,  30.40,   0.00,
-            0.00,   0.68,   0.63,   0.01, -27.61,  29.40,   0.20,   0.20,
-            0.66,   0.62,   0.02,  40.33,   0.40,  -0.04,   0.10,   0.00,
-           -0.90, -23.28,  31.61,  -0.08,  -0.10,   0.71,   0.52,   0.01,
-           37.75,   0.80,   0.04,   0.10,   0.00,  -0.84,  23.66,  25.80,
-            0.00,   0.00,   0.58,  -0.53,  -0.01,  21.01, -27.91,   0.00,
-            0.00,  -0.62,  -0.47,  -0.01, -34.81,   2.89,   0.04,   0.00,
-            0.00,   0.78, -23.49, -25.31,   0.00,   0.00,  -0.57,   0.53,
-            0.01, -23.47,  25.20,   0.16,   0.20,   0.56,   0.52,   0.02,
-           19.58,  27.50,  -0.12,   0.10,   0.62,  -0.44,  -0.01, -22.67,
-          -24.40,  -0.08,   0.10,  -0.55,   0.51,   0.01, -19.97,  25.00,
-            0.12,   0.20,   0.56,   0.45,   0.01,  21.28, -22.80,  -0.08,
-           -0.10,  -0.51,  -0.48,  -0.01, -30.47,   0.91,   0.04,   0.00,
-
-       /* 980-1107 */
-            0.00,   0.68,  18.58,  24.00,   0.04,  -0.10,   0.54,  -0.42,
-           -0.01, -18.02,  24.40,  -0.04,  -0.10,   0.55,   0.40,   0.01,
-           17.74,  22.50,   0.08,  -0.10,   0.50,  -0.40,  -0.01, -19.41,
-           20.70,   0.08,   0.10,   0.46,   0.43,   0.01, -18.64,  20.11,
-            0.00,   0.00,   0.45,   0.42,   0.01, -16.75,  21.60,   0.04,
-            0.10,   0.48,   0.37,   0.01, -18.42, -20.00,   0.00,   0.00,
-           -0.45,   0.41,   0.01, -26.77,   1.41,   0.08,   0.00,   0.00,
-            0.60, -26.17,  -0.19,   0.00,   0.00,   0.00,   0.59, -15.52,
-           20.51,   0.00,   0.00,   0.46,   0.35,   0.01, -25.42,  -1.91,
-           -0.08,   0.00,  -0.04,   0.57,   0.45, -17.42,  18.10,   0.00,
-            0.00,   0.40,   0.39,   0.01,  16.39, -17.60,  -0.08,  -0.10,
-           -0.39,  -0.37,  -0.01, -14.37,  18.91,   0.00,   0.00,   0.42,
-            0.32,   0.01,  23.39,  -2.40,  -0.12,   0.00,   0.00,  -0.52,
-           14.32, -18.50,  -0.04,  -0.10,  -0.41,  -0.32,  -0.01,  15.69,
-           17.08,   0.00,   0.00,   0.38,  -0.35,  -0.01, -22.99,   0.50,
-            0.04,   0.00,   0.00,   0.51,   0.00,   0.00,  14.47, -17.60,
-
-       /* 1108-1235 */
-           -0.01,   0.00,  -0.39,  -0.32, -13.33,  18.40,  -0.04,  -0.10,
-            0.41,   0.30,  22.47,  -0.60,  -0.04,   0.00,   0.00,  -0.50,
-          -12.78, -17.41,   0.04,   0.00,  -0.39,   0.29,   0.01, -14.10,
-          -15.31,   0.04,   0.00,  -0.34,   0.32,   0.01,  11.98,  16.21,
-           -0.04,   0.00,   0.36,  -0.27,  -0.01,  19.65,  -1.90,  -0.08,
-            0.00,   0.00,  -0.44,  19.61,  -1.50,  -0.08,   0.00,   0.00,
-           -0.44,  13.41, -14.30,  -0.04,  -0.10,  -0.32,  -0.30,  -0.01,
-          -13.29,  14.40,   0.00,   0.00,   0.32,   0.30,   0.01,  11.14,
-          -14.40,  -0.04,   0.00,  -0.32,  -0.25,  -0.01,  12.24, -13.38,
-            0.04,   0.00,  -0.30,  -0.27,  -0.01,  10.07, -13.81,   0.04,
-            0.00,  -0.31,  -0.23,  -0.01,  10.46,  13.10,   0.08,  -0.10,
-            0.29,  -0.23,  -0.01,  16.55,  -1.71,  -0.08,   0.00,   0.00,
-           -0.37,   9.75, -12.80,   0.00,   0.00,  -0.29,  -0.22,  -0.01,
-            9.11,  12.80,   0.00,   0.00,   0.29,  -0.20,   0.00,   0.00,
-           -6.44, -13.80,   0.00,   0.00,  -0.31,   0.14,  -9.19, -12.00,
-            0.00,   0.00,  -0.27,   0.21, -10.30,  10.90,   0.08,   0.10,
-
-       /* 1236-1363 */
-            0.24,   0.23,   0.01,  14.92,  -0.80,  -0.04,   0.00,   0.00,
-           -0.33,  10.02, -10.80,   0.00,   0.00,  -0.24,  -0.22,  -0.01,
-           -9.75,  10.40,   0.04,   0.00,   0.23,   0.22,   0.01,   9.67,
-          -10.40,  -0.04,   0.00,  -0.23,  -0.22,  -0.01,  -8.28, -11.20,
-            0.04,   0.00,  -0.25,   0.19,  13.32,  -1.41,  -0.08,   0.00,
-            0.00,  -0.30,   8.27,  10.50,   0.04,   0.00,   0.23,  -0.19,
-            0.00,   0.00,  13.13,   0.00,   0.00,   0.00,   0.00,  -0.29,
-          -12.93,   0.70,   0.04,   0.00,   0.00,   0.29,   7.91, -10.20,
-            0.00,   0.00,  -0.23,  -0.18,  -7.84, -10.00,  -0.04,   0.00,
-           -0.22,   0.18,   7.44,   9.60,   0.00,   0.00,   0.21,  -0.17,
-           -7.64,   9.40,   0.08,   0.10,   0.21,   0.17,   0.01, -11.38,
-            0.60,   0.04,   0.00,   0.00,   0.25,  -7.48,   8.30,   0.00,
-            0.00,   0.19,   0.17, -10.98,  -0.20,   0.00,   0.00,   0.00,
-            0.25,  10.98,   0.20,   0.00,   0.00,   0.00,  -0.25,   7.40,
-           -7.90,  -0.04,   0.00,  -0.18,  -0.17,  -6.09,   8.40,  -0.04,
-            0.00,   0.19,   0.14,  -6.94,  -7.49,   0.00,   0.00,  -0.17,
-
-       /* 1364-1491 */
-            0.16,   6.92,   7.50,   0.04,   0.00,   0.17,  -0.15,   6.20,
-            8.09,   0.00,   0.00,   0.18,  -0.14,  -6.12,   7.80,   0.04,
-            0.00,   0.17,   0.14,   5.85,  -7.50,   0.00,   0.00,  -0.17,
-           -0.13,  -6.48,   6.90,   0.08,   0.10,   0.15,   0.14,   0.01,
-            6.32,   6.90,   0.00,   0.00,   0.15,  -0.14,   5.61,  -7.20,
-            0.00,   0.00,  -0.16,  -0.13,   9.07,   0.00,   0.00,   0.00,
-            0.00,  -0.20,   5.25,   6.90,   0.00,   0.00,   0.15,  -0.12,
-           -8.47,  -0.40,   0.00,   0.00,   0.00,   0.19,   6.32,  -5.39,
-           -1.11,   1.10,  -0.12,  -0.14,   0.02,   0.02,   5.73,  -6.10,
-           -0.04,   0.00,  -0.14,  -0.13,   4.70,   6.60,  -0.04,   0.00,
-            0.15,  -0.11,  -4.90,  -6.40,   0.00,   0.00,  -0.14,   0.11,
-           -5.33,   5.60,   0.04,   0.10,   0.13,   0.12,   0.01,  -4.81,
-            6.00,   0.04,   0.00,   0.13,   0.11,   5.13,   5.50,   0.04,
-            0.00,   0.12,  -0.11,   4.50,   5.90,   0.00,   0.00,   0.13,
-           -0.10,  -4.22,   6.10,   0.00,   0.00,   0.14,  -4.53,   5.70,
-            0.00,   0.00,   0.13,   0.10,   4.18,   5.70,   0.00,   0.00,
-
-       /* 1492-1619 */
-            0.13,  -4.75,  -5.19,   0.00,   0.00,  -0.12,   0.11,  -4.06,
-            5.60,   0.00,   0.00,   0.13,  -3.98,   5.60,  -0.04,   0.00,
-            0.13,   4.02,  -5.40,   0.00,   0.00,  -0.12,   4.49,  -4.90,
-           -0.04,   0.00,  -0.11,  -0.10,  -3.62,  -5.40,  -0.16,   0.20,
-           -0.12,   0.00,   0.01,   4.38,   4.80,   0.00,   0.00,   0.11,
-           -6.40,  -0.10,   0.00,   0.00,   0.00,   0.14,  -3.98,   5.00,
-            0.04,   0.00,   0.11,  -3.82,  -5.00,   0.00,   0.00,  -0.11,
-           -3.71,   5.07,   0.00,   0.00,   0.11,   4.14,   4.40,   0.00,
-            0.00,   0.10,  -6.01,  -0.50,  -0.04,   0.00,   0.00,   0.13,
-           -4.04,   4.39,   0.00,   0.00,   0.10,   3.45,  -4.72,   0.00,
-            0.00,  -0.11,   3.31,   4.71,   0.00,   0.00,   0.11,   3.26,
-           -4.50,   0.00,   0.00,  -0.10,  -3.26,  -4.50,   0.00,   0.00,
-           -0.10,  -3.34,  -4.40,   0.00,   0.00,  -0.10,  -3.74,  -4.00,
-            3.70,   4.00,   3.34,  -4.30,   3.30,  -4.30,  -3.66,   3.90,
-            0.04,   3.66,   3.90,   0.04,  -3.62,  -3.90,  -3.61,   3.90,
-           -0.20,   5.30,   0.00,   0.00,   0.12,   3.06,   4.30,   3.30,
-
-       /* 1620-1747 */
-            4.00,   0.40,   0.20,   3.10,   4.10,  -3.06,   3.90,  -3.30,
-           -3.60,  -3.30,   3.36,   0.01,   3.14,   3.40,  -4.57,  -0.20,
-            0.00,   0.00,   0.00,   0.10,  -2.70,  -3.60,   2.94,  -3.20,
-           -2.90,   3.20,   2.47,  -3.40,   2.55,  -3.30,   2.80,  -3.08,
-            2.51,   3.30,  -4.10,   0.30,  -0.12,  -0.10,   4.10,   0.20,
-           -2.74,   3.00,   2.46,   3.23,  -3.66,   1.20,  -0.20,   0.20,
-            3.74,  -0.40,  -2.51,  -2.80,  -3.74,   2.27,  -2.90,   0.00,
-            0.00,  -2.50,   2.70,  -2.51,   2.60,  -3.50,   0.20,   3.38,
-           -2.22,  -2.50,   3.26,  -0.40,   1.95,  -2.60,   3.22,  -0.40,
-           -0.04,  -1.79,  -2.60,   1.91,   2.50,   0.74,   3.05,  -0.04,
-            0.08,   2.11,  -2.30,  -2.11,   2.20,  -1.87,  -2.40,   2.03,
-           -2.20,  -2.03,   2.20,   2.98,   0.00,   0.00,   2.98,  -1.71,
-            2.40,   2.94,  -0.10,  -0.12,   0.10,   1.67,   2.40,  -1.79,
-            2.30,  -1.79,   2.20,  -1.67,   2.20,   1.79,  -2.00,   1.87,
-           -1.90,   1.63,  -2.10,  -1.59,   2.10,   1.55,  -2.10,  -1.55,
-            2.10,  -2.59,  -0.20,  -1.75,  -1.90,  -1.75,   1.90,  -1.83,
-
-       /* 1748-1875 */
-           -1.80,   1.51,   2.00,  -1.51,  -2.00,   1.71,   1.80,   1.31,
-            2.10,  -1.43,   2.00,   1.43,   2.00,  -2.43,  -1.51,   1.90,
-           -1.47,   1.90,   2.39,   0.20,  -2.39,   1.39,   1.90,   1.39,
-           -1.80,   1.47,  -1.60,   1.47,  -1.60,   1.43,  -1.50,  -1.31,
-            1.60,   1.27,  -1.60,  -1.27,   1.60,   1.27,  -1.60,   2.03,
-            1.35,   1.50,  -1.39,  -1.40,   1.95,  -0.20,  -1.27,   1.49,
-            1.19,   1.50,   1.27,   1.40,   1.15,   1.50,   1.87,  -0.10,
-           -1.12,  -1.50,   1.87,  -1.11,  -1.50,  -1.11,  -1.50,   0.00,
-            0.00,   1.19,   1.40,   1.27,  -1.30,  -1.27,  -1.30,  -1.15,
-            1.40,  -1.23,   1.30,  -1.23,  -1.30,   1.22,  -1.29,   1.07,
-           -1.40,   1.75,  -0.20,  -1.03,  -1.40,  -1.07,   1.20,  -1.03,
-            1.15,   1.07,   1.10,   1.51,  -1.03,   1.10,   1.03,  -1.10,
-            0.00,   0.00,  -1.03,  -1.10,   0.91,  -1.20,  -0.88,  -1.20,
-           -0.88,   1.20,  -0.95,   1.10,  -0.95,  -1.10,   1.43,  -1.39,
-            0.95,  -1.00,  -0.95,   1.00,  -0.80,   1.10,   0.91,  -1.00,
-           -1.35,   0.88,   1.00,  -0.83,   1.00,  -0.91,   0.90,   0.91,
-
-       /* 1876-2003 */
-            0.90,   0.88,  -0.90,  -0.76,  -1.00,  -0.76,   1.00,   0.76,
-            1.00,  -0.72,   1.00,   0.84,  -0.90,   0.84,   0.90,   1.23,
-            0.00,   0.00,  -0.52,  -1.10,  -0.68,   1.00,   1.19,  -0.20,
-            1.19,   0.76,   0.90,   1.15,  -0.10,   1.15,  -0.10,   0.72,
-           -0.90,  -1.15,  -1.15,   0.68,   0.90,  -0.68,   0.90,  -1.11,
-            0.00,   0.00,   0.20,   0.79,   0.80,  -1.11,  -0.10,   0.00,
-            0.00,  -0.48,  -1.00,  -0.76,  -0.80,  -0.72,  -0.80,  -1.07,
-           -0.10,   0.64,   0.80,  -0.64,  -0.80,   0.64,   0.80,   0.40,
-            0.60,   0.52,  -0.50,  -0.60,  -0.80,  -0.71,   0.70,  -0.99,
-            0.99,   0.56,   0.80,  -0.56,   0.80,   0.68,  -0.70,   0.68,
-            0.70,  -0.95,  -0.64,   0.70,   0.64,   0.70,  -0.60,   0.70,
-           -0.60,  -0.70,  -0.91,  -0.10,  -0.51,   0.76,  -0.91,  -0.56,
-            0.70,   0.88,   0.88,  -0.63,  -0.60,   0.55,  -0.60,  -0.80,
-            0.80,  -0.80,  -0.52,   0.60,   0.52,   0.60,   0.52,  -0.60,
-           -0.48,   0.60,   0.48,   0.60,   0.48,   0.60,  -0.76,   0.44,
-           -0.60,   0.52,  -0.50,  -0.52,   0.50,   0.40,   0.60,  -0.40,
-
-       /* 2004-2131 */
-           -0.60,   0.40,  -0.60,   0.72,  -0.72,  -0.51,  -0.50,  -0.48,
-            0.50,   0.48,  -0.50,  -0.48,   0.50,  -0.48,   0.50,   0.48,
-           -0.50,  -0.48,  -0.50,  -0.68,  -0.68,   0.44,   0.50,  -0.64,
-           -0.10,  -0.64,  -0.10,  -0.40,   0.50,   0.40,   0.50,   0.40,
-            0.50,   0.00,   0.00,  -0.40,  -0.50,  -0.36,  -0.50,   0.36,
-           -0.50,   0.60,  -0.60,   0.40,  -0.40,   0.40,   0.40,  -0.40,
-            0.40,  -0.40,   0.40,  -0.56,  -0.56,   0.36,  -0.40,  -0.36,
-            0.40,   0.36,  -0.40,  -0.36,  -0.40,   0.36,   0.40,   0.36,
-            0.40,  -0.52,   0.52,   0.52,   0.32,   0.40,  -0.32,   0.40,
-           -0.32,   0.40,  -0.32,   0.40,   0.32,  -0.40,  -0.32,  -0.40,
-            0.32,  -0.40,   0.28,  -0.40,  -0.28,   0.40,   0.28,  -0.40,
-            0.28,   0.40,   0.48,  -0.48,   0.48,   0.36,  -0.30,  -0.36,
-           -0.30,   0.00,   0.00,   0.20,   0.40,  -0.44,   0.44,  -0.44,
-           -0.44,  -0.44,  -0.44,   0.32,  -0.30,   0.32,   0.30,   0.24,
-            0.30,  -0.12,  -0.10,  -0.28,   0.30,   0.28,   0.30,   0.28,
-            0.30,   0.28,  -0.30,   0.28,  -0.30,   0.28,  -0.30,   0.28,
-
-       /* 2132-2259 */
-            0.30,  -0.28,   0.30,   0.40,   0.40,  -0.24,   0.30,   0.24,
-           -0.30,   0.24,  -0.30,  -0.24,  -0.30,   0.24,   0.30,   0.24,
-           -0.30,  -0.24,   0.30,   0.24,  -0.30,  -0.24,  -0.30,   0.24,
-           -0.30,   0.24,   0.30,  -0.24,   0.30,  -0.24,   0.30,   0.20,
-           -0.30,   0.20,  -0.30,   0.20,  -0.30,   0.20,   0.30,   0.20,
-           -0.30,   0.20,  -0.30,   0.20,   0.30,   0.20,   0.30,  -0.20,
-           -0.30,   0.20,  -0.30,   0.20,  -0.30,  -0.36,  -0.36,  -0.36,
-           -0.04,   0.30,   0.12,  -0.10,  -0.32,  -0.24,   0.20,   0.24,
-            0.20,   0.20,  -0.20,  -0.20,  -0.20,  -0.20,  -0.20,   0.20,
-            0.20,   0.20,  -0.20,   0.20,   0.20,   0.20,   0.20,  -0.20,
-           -0.20,   0.00,   0.00,  -0.20,  -0.20,  -0.20,   0.20,  -0.20,
-            0.20,   0.20,  -0.20,  -0.20,  -0.20,   0.20,   0.20,   0.20,
-            0.20,   0.20,  -0.20,   0.20,  -0.20,   0.28,   0.28,   0.28,
-            0.28,   0.28,   0.28,  -0.28,   0.28,   0.12,   0.00,   0.24,
-            0.16,  -0.20,   0.16,  -0.20,   0.16,  -0.20,   0.16,   0.20,
-           -0.16,   0.20,   0.16,   0.20,  -0.16,   0.20,  -0.16,   0.20,
-
-       /* 2260-2387 */
-           -0.16,   0.20,   0.16,  -0.20,   0.16,   0.20,   0.16,  -0.20,
-           -0.16,   0.20,  -0.16,  -0.20,  -0.16,   0.20,   0.16,   0.20,
-            0.16,  -0.20,   0.16,  -0.20,   0.16,   0.20,   0.16,   0.20,
-            0.16,   0.20,  -0.16,  -0.20,   0.16,   0.20,  -0.16,   0.20,
-            0.16,   0.20,  -0.16,  -0.20,   0.16,  -0.20,   0.16,  -0.20,
-           -0.16,  -0.20,   0.24,  -0.24,  -0.24,   0.24,   0.24,   0.12,
-            0.20,   0.12,   0.20,  -0.12,  -0.20,   0.12,  -0.20,   0.12,
-           -0.20,  -0.12,   0.20,  -0.12,   0.20,  -0.12,  -0.20,   0.12,
-            0.20,   0.12,   0.20,   0.12,  -0.20,  -0.12,   0.20,   0.12,
-           -0.20,  -0.12,   0.20,   0.12,   0.20,   0.00,   0.00,  -0.12,
-            0.20,  -0.12,   0.20,   0.12,  -0.20,  -0.12,   0.20,   0.12,
-            0.20,   0.00,  -0.21,  -0.20,   0.00,   0.00,   0.20,  -0.20,
-           -0.20,  -0.20,   0.20,  -0.16,  -0.10,   0.00,   0.17,   0.16,
-            0.16,   0.16,   0.16,  -0.16,   0.16,   0.16,  -0.16,   0.16,
-           -0.16,   0.16,   0.12,   0.10,   0.12,  -0.10,  -0.12,   0.10,
-           -0.12,   0.10,   0.12,  -0.10,  -0.12,   0.12,  -0.12,   0.12,
-
-       /* 2388-2515 */
-           -0.12,   0.12,  -0.12,  -0.12,  -0.12,  -0.12,  -0.12,  -0.12,
-           -0.12,   0.12,   0.12,   0.12,   0.12,  -0.12,  -0.12,   0.12,
-            0.12,   0.12,  -0.12,   0.12,  -0.12,  -0.12,  -0.12,   0.12,
-           -0.12,  -0.12,   0.12,   0.00,   0.11,   0.11,-122.67, 164.70,
-          203.78, 273.50,   3.58,   2.74,   6.18,  -4.56,   0.00,  -0.04,
-            0.00,  -0.07,  57.44, -77.10,  95.82, 128.60,  -1.77,  -1.28,
-            2.85,  -2.14,  82.14,  89.50,   0.00,   0.00,   2.00,  -1.84,
-           -0.04,  47.73, -64.10,  23.79,  31.90,  -1.45,  -1.07,   0.69,
-           -0.53, -46.38,  50.50,   0.00,   0.00,   1.13,   1.04,   0.02,
-          -18.38,   0.00,  63.80,   0.00,   0.00,   0.41,   0.00,  -1.43,
-           59.07,   0.00,   0.00,   0.00,   0.00,  -1.32,  57.28,   0.00,
-            0.00,   0.00,   0.00,  -1.28, -48.65,   0.00,  -1.15,   0.00,
-            0.00,   1.09,   0.00,   0.03, -18.30,  24.60, -17.30, -23.20,
-            0.56,   0.41,  -0.51,   0.39, -16.91,  26.90,   8.43,  13.30,
-            0.60,   0.38,   0.31,  -0.19,   1.23,  -1.70, -19.13, -25.70,
-           -0.03,  -0.03,  -0.58,   0.43,  -0.72,   0.90, -17.34, -23.30,
-
-       /* 2516-2643 */
-            0.03,   0.02,  -0.52,   0.39, -19.49, -21.30,   0.00,   0.00,
-           -0.48,   0.44,   0.01,  20.57, -20.10,   0.64,   0.70,  -0.45,
-           -0.46,   0.00,  -0.01,   4.89,   5.90, -16.55,  19.90,   0.14,
-           -0.11,   0.44,   0.37,  18.22,  19.80,   0.00,   0.00,   0.44,
-           -0.41,  -0.01,   4.89,  -5.30, -16.51, -18.00,  -0.11,  -0.11,
-           -0.41,   0.37, -17.86,   0.00,  17.10,   0.00,   0.00,   0.40,
-            0.00,  -0.38,   0.32,   0.00,  24.42,   0.00,   0.00,  -0.01,
-            0.00,  -0.55, -23.79,   0.00,   0.00,   0.00,   0.00,   0.53,
-           14.72, -16.00,  -0.32,   0.00,  -0.36,  -0.33,  -0.01,   0.01,
-            3.34,  -4.50,  11.86,  15.90,  -0.11,  -0.07,   0.35,  -0.27,
-           -3.26,   4.40,  11.62,  15.60,   0.09,   0.07,   0.35,  -0.26,
-          -19.53,   0.00,   5.09,   0.00,   0.00,   0.44,   0.00,  -0.11,
-          -13.48,  14.70,   0.00,   0.00,   0.33,   0.30,   0.01,  10.86,
-          -14.60,   3.18,   4.30,  -0.33,  -0.24,   0.09,  -0.07, -11.30,
-          -15.10,   0.00,   0.00,  -0.34,   0.25,   0.01,   2.03,  -2.70,
-           10.82,  14.50,  -0.07,  -0.05,   0.32,  -0.24,  17.46,   0.00,
-
-       /* 2644-2771 */
-            0.00,   0.00,   0.00,  -0.39,  16.43,   0.00,   0.52,   0.00,
-            0.00,  -0.37,   0.00,  -0.01,   9.35,   0.00,  13.29,   0.00,
-            0.00,  -0.21,   0.00,  -0.30, -10.42,  11.40,   0.00,   0.00,
-            0.25,   0.23,   0.01,   0.44,   0.50, -10.38,  11.30,   0.02,
-           -0.01,   0.25,   0.23, -14.64,   0.00,   0.00,   0.00,   0.00,
-            0.33,   0.56,   0.80,  -8.67,  11.70,   0.02,  -0.01,   0.26,
-            0.19,  13.88,   0.00,  -2.47,   0.00,   0.00,  -0.31,   0.00,
-            0.06,  -1.99,   2.70,   7.72,  10.30,   0.06,   0.04,   0.23,
-           -0.17,  -0.20,   0.00,  13.05,   0.00,   0.00,   0.00,   0.00,
-           -0.29,   6.92,  -9.30,   3.34,   4.50,  -0.21,  -0.15,   0.10,
-           -0.07,  -6.60,   0.00,  10.70,   0.00,   0.00,   0.15,   0.00,
-           -0.24,  -8.04,  -8.70,   0.00,   0.00,  -0.19,   0.18, -10.58,
-            0.00,  -3.10,   0.00,   0.00,   0.24,   0.00,   0.07,  -7.32,
-            8.00,  -0.12,  -0.10,   0.18,   0.16,   1.63,   1.70,   6.96,
-           -7.60,   0.03,  -0.04,  -0.17,  -0.16,  -3.62,   0.00,   9.86,
-            0.00,   0.00,   0.08,   0.00,  -0.22,   0.20,  -0.20,  -6.88,
-
-       /* 2772-2899 */
-           -7.50,   0.00,   0.00,  -0.17,   0.15,  -8.99,   0.00,   4.02,
-            0.00,   0.00,   0.20,   0.00,  -0.09,  -1.07,   1.40,  -5.69,
-           -7.70,   0.03,   0.02,  -0.17,   0.13,   6.48,  -7.20,  -0.48,
-           -0.50,  -0.16,  -0.14,  -0.01,   0.01,   5.57,  -7.50,   1.07,
-            1.40,  -0.17,  -0.12,   0.03,  -0.02,   8.71,   0.00,   3.54,
-            0.00,   0.00,  -0.19,   0.00,  -0.08,   0.40,   0.00,   9.27,
-            0.00,   0.00,  -0.01,   0.00,  -0.21,  -6.13,   6.70,  -1.19,
-           -1.30,   0.15,   0.14,  -0.03,   0.03,   5.21,  -5.70,  -2.51,
-           -2.60,  -0.13,  -0.12,  -0.06,   0.06,   5.69,  -6.20,  -0.12,
-           -0.10,  -0.14,  -0.13,  -0.01,   2.03,  -2.70,   4.53,   6.10,
-           -0.06,  -0.05,   0.14,  -0.10,   5.01,   5.50,  -2.51,   2.70,
-            0.12,  -0.11,   0.06,   0.06,  -1.91,   2.60,  -4.38,  -5.90,
-            0.06,   0.04,  -0.13,   0.10,   4.65,  -6.30,   0.00,   0.00,
-           -0.14,  -0.10,  -5.29,   5.70,   0.00,   0.00,   0.13,   0.12,
-           -2.23,  -4.00,  -4.65,   4.20,  -0.09,   0.05,   0.10,   0.10,
-           -4.53,   6.10,   0.00,   0.00,   0.14,   0.10,   2.47,   2.70,
-
-       /* 2900-3027 */
-           -4.46,   4.90,   0.06,  -0.06,   0.11,   0.10,  -5.05,   5.50,
-            0.84,   0.90,   0.12,   0.11,   0.02,  -0.02,   4.97,  -5.40,
-           -1.71,   0.00,  -0.12,  -0.11,   0.00,   0.04,  -0.99,  -1.30,
-            4.22,  -5.70,  -0.03,   0.02,  -0.13,  -0.09,   0.99,   1.40,
-            4.22,  -5.60,   0.03,  -0.02,  -0.13,  -0.09,  -4.69,  -5.20,
-            0.00,   0.00,  -0.12,   0.10,  -3.42,   0.00,   6.09,   0.00,
-            0.00,   0.08,   0.00,  -0.14,  -4.65,  -5.10,   0.00,   0.00,
-           -0.11,   0.10,   0.00,   0.00,  -4.53,  -5.00,   0.00,   0.00,
-           -0.11,   0.10,  -2.43,  -2.70,  -3.82,   4.20,  -0.06,   0.05,
-            0.10,   0.09,   0.00,   0.00,  -4.53,   4.90,   0.00,   0.00,
-            0.11,   0.10,  -4.49,  -4.90,   0.00,   0.00,  -0.11,   0.10,
-            2.67,  -2.90,  -3.62,  -3.90,  -0.06,  -0.06,  -0.09,   0.08,
-            3.94,  -5.30,   0.00,   0.00,  -0.12,  -3.38,   3.70,  -2.78,
-           -3.10,   0.08,   0.08,  -0.07,   0.06,   3.18,  -3.50,  -2.82,
-           -3.10,  -0.08,  -0.07,  -0.07,   0.06,  -5.77,   0.00,   1.87,
-            0.00,   0.00,   0.13,   0.00,  -0.04,   3.54,  -4.80,  -0.64,
-
-       /* 3028-3155 */
-           -0.90,  -0.11,   0.00,  -0.02,  -3.50,  -4.70,   0.68,  -0.90,
-           -0.11,   0.00,  -0.02,   5.49,   0.00,   0.00,   0.00,   0.00,
-           -0.12,   1.83,  -2.50,   2.63,   3.50,  -0.06,   0.00,   0.08,
-            3.02,  -4.10,   0.68,   0.90,  -0.09,   0.00,   0.02,   0.00,
-            0.00,   5.21,   0.00,   0.00,   0.00,   0.00,  -0.12,  -3.54,
-            3.80,   2.70,   3.60,  -1.35,   1.80,   0.08,   0.00,   0.04,
-           -2.90,   3.90,   0.68,   0.90,   0.09,   0.00,   0.02,   0.80,
-           -1.10,  -2.78,  -3.70,  -0.02,   0.00,  -0.08,   4.10,   0.00,
-           -2.39,   0.00,   0.00,  -0.09,   0.00,   0.05,  -1.59,   2.10,
-            2.27,   3.00,   0.05,   0.00,   0.07,  -2.63,   3.50,  -0.48,
-           -0.60,  -2.94,  -3.20,  -2.94,   3.20,   2.27,  -3.00,  -1.11,
-           -1.50,  -0.07,   0.00,  -0.03,  -0.56,  -0.80,  -2.35,   3.10,
-            0.00,  -0.60,  -3.42,   1.90,  -0.12,  -0.10,   2.63,  -2.90,
-            2.51,   2.80,  -0.64,   0.70,  -0.48,  -0.60,   2.19,  -2.90,
-            0.24,  -0.30,   2.15,   2.90,   2.15,  -2.90,   0.52,   0.70,
-            2.07,  -2.80,  -3.10,   0.00,   1.79,   0.00,   0.00,   0.07,
-
-       /* 3156-3283 */
-            0.00,  -0.04,   0.88,   0.00,  -3.46,   2.11,   2.80,  -0.36,
-            0.50,   3.54,  -0.20,  -3.50,  -1.39,   1.50,  -1.91,  -2.10,
-           -1.47,   2.00,   1.39,   1.90,   2.07,  -2.30,   0.91,   1.00,
-            1.99,  -2.70,   3.30,   0.00,   0.60,  -0.44,  -0.70,  -1.95,
-            2.60,   2.15,  -2.40,  -0.60,  -0.70,   3.30,   0.84,   0.00,
-           -3.10,  -3.10,   0.00,  -0.72,  -0.32,   0.40,  -1.87,  -2.50,
-            1.87,  -2.50,   0.32,   0.40,  -0.24,   0.30,  -1.87,  -2.50,
-           -0.24,  -0.30,   1.87,  -2.50,  -2.70,   0.00,   1.55,   2.03,
-            2.20,  -2.98,  -1.99,  -2.20,   0.12,  -0.10,  -0.40,   0.50,
-            1.59,   2.10,   0.00,   0.00,  -1.79,   2.00,  -1.03,   1.40,
-           -1.15,  -1.60,   0.32,   0.50,   1.39,  -1.90,   2.35,  -1.27,
-            1.70,   0.60,   0.80,  -0.32,  -0.40,   1.35,  -1.80,   0.44,
-            0.00,   2.23,  -0.84,   0.90,  -1.27,  -1.40,  -1.47,   1.60,
-           -0.28,  -0.30,  -0.28,   0.40,  -1.27,  -1.70,   0.28,  -0.40,
-           -1.43,  -1.50,   0.00,   0.00,  -1.27,  -1.70,   2.11,  -0.32,
-           -0.40,  -1.23,   1.60,   1.19,  -1.30,  -0.72,  -0.80,   0.72,
-
-       /* 3284-3411 */
-           -0.80,  -1.15,  -1.30,  -1.35,  -1.50,  -1.19,  -1.60,  -0.12,
-            0.20,   1.79,   0.00,  -0.88,  -0.28,   0.40,   1.11,   1.50,
-           -1.83,   0.00,   0.56,  -0.12,   0.10,  -1.27,  -1.40,   0.00,
-            0.00,   1.15,   1.50,  -0.12,   0.20,   1.11,   1.50,   0.36,
-           -0.50,  -1.07,  -1.40,  -1.11,   1.50,   1.67,   0.00,   0.80,
-           -1.11,   0.00,   1.43,   1.23,  -1.30,  -0.24,  -1.19,  -1.30,
-           -0.24,   0.20,  -0.44,  -0.90,  -0.95,   1.10,   1.07,  -1.40,
-            1.15,  -1.30,   1.03,  -1.10,  -0.56,  -0.60,  -0.68,   0.90,
-           -0.76,  -1.00,  -0.24,  -0.30,   0.95,  -1.30,   0.56,   0.70,
-            0.84,  -1.10,  -0.56,   0.00,  -1.55,   0.91,  -1.30,   0.28,
-            0.30,   0.16,  -0.20,   0.95,   1.30,   0.40,  -0.50,  -0.88,
-           -1.20,   0.95,  -1.10,  -0.48,  -0.50,   0.00,   0.00,  -1.07,
-            1.20,   0.44,  -0.50,   0.95,   1.10,   0.00,   0.00,   0.92,
-           -1.30,   0.95,   1.00,  -0.52,   0.60,   1.59,   0.24,  -0.40,
-            0.91,   1.20,   0.84,  -1.10,  -0.44,  -0.60,   0.84,   1.10,
-           -0.44,   0.60,  -0.44,   0.60,  -0.84,  -1.10,  -0.80,   0.00,
-
-       /* 3412-3539 */
-            1.35,   0.76,   0.20,  -0.91,  -1.00,   0.20,  -0.30,  -0.91,
-           -1.20,  -0.95,   1.00,  -0.48,  -0.50,   0.88,   1.00,   0.48,
-           -0.50,  -0.95,  -1.10,   0.20,  -0.20,  -0.99,   1.10,  -0.84,
-            1.10,  -0.24,  -0.30,   0.20,  -0.30,   0.84,   1.10,  -1.39,
-            0.00,  -0.28,  -0.16,   0.20,   0.84,   1.10,   0.00,   0.00,
-            1.39,   0.00,   0.00,  -0.95,   1.00,   1.35,  -0.99,   0.00,
-            0.88,  -0.52,   0.00,  -1.19,   0.20,   0.20,   0.76,  -1.00,
-            0.00,   0.00,   0.76,   1.00,   0.00,   0.00,   0.76,   1.00,
-           -0.76,   1.00,   0.00,   0.00,   1.23,   0.76,   0.80,  -0.32,
-            0.40,  -0.72,   0.80,  -0.40,  -0.40,   0.00,   0.00,  -0.80,
-           -0.90,  -0.68,   0.90,  -0.16,  -0.20,  -0.16,  -0.20,   0.68,
-           -0.90,  -0.36,   0.50,  -0.56,  -0.80,   0.72,  -0.90,   0.44,
-           -0.60,  -0.48,  -0.70,  -0.16,   0.00,  -1.11,   0.32,   0.00,
-           -1.07,   0.60,  -0.80,  -0.28,  -0.40,  -0.64,   0.00,   0.91,
-            1.11,   0.64,  -0.90,   0.76,  -0.80,   0.00,   0.00,  -0.76,
-           -0.80,   1.03,   0.00,  -0.36,  -0.64,  -0.70,   0.36,  -0.40,
-
-       /* 3540-3667 */
-            1.07,   0.36,  -0.50,  -0.52,  -0.70,   0.60,   0.00,   0.88,
-            0.95,   0.00,   0.48,   0.16,  -0.20,   0.60,   0.80,   0.16,
-           -0.20,  -0.60,  -0.80,   0.00,  -1.00,   0.12,   0.20,   0.16,
-           -0.20,   0.68,   0.70,   0.59,  -0.80,  -0.99,  -0.56,  -0.60,
-            0.36,  -0.40,  -0.68,  -0.70,  -0.68,  -0.70,  -0.36,  -0.50,
-           -0.44,   0.60,   0.64,   0.70,  -0.12,   0.10,  -0.52,   0.60,
-            0.36,   0.40,   0.00,   0.00,   0.95,  -0.84,   0.00,   0.44,
-            0.56,   0.60,   0.32,  -0.30,   0.00,   0.00,   0.60,   0.70,
-            0.00,   0.00,   0.60,   0.70,  -0.12,  -0.20,   0.52,  -0.70,
-            0.00,   0.00,   0.56,   0.70,  -0.12,   0.10,  -0.52,  -0.70,
-            0.00,   0.00,   0.88,  -0.76,   0.00,  -0.44,   0.00,   0.00,
-           -0.52,  -0.70,   0.52,  -0.70,   0.36,  -0.40,  -0.44,  -0.50,
-            0.00,   0.00,   0.60,   0.60,   0.84,   0.00,   0.12,  -0.24,
-            0.00,   0.80,  -0.56,   0.60,  -0.32,  -0.30,   0.48,  -0.50,
-            0.28,  -0.30,  -0.48,  -0.50,   0.12,   0.20,   0.48,  -0.60,
-            0.48,   0.60,  -0.12,   0.20,   0.24,   0.00,   0.76,  -0.52,
-
-       /* 3668-3795 */
-           -0.60,  -0.52,   0.60,   0.48,  -0.50,  -0.24,  -0.30,   0.12,
-           -0.10,   0.48,   0.60,   0.52,  -0.20,   0.36,   0.40,  -0.44,
-            0.50,  -0.24,  -0.30,  -0.48,  -0.60,  -0.44,  -0.60,  -0.12,
-            0.10,   0.76,   0.76,   0.20,  -0.20,   0.48,   0.50,   0.40,
-           -0.50,  -0.24,  -0.30,   0.44,  -0.60,   0.44,  -0.60,   0.36,
-            0.00,  -0.64,   0.72,   0.00,  -0.12,   0.00,  -0.10,  -0.40,
-           -0.60,  -0.20,  -0.20,  -0.44,   0.50,  -0.44,   0.50,   0.20,
-            0.20,  -0.44,  -0.50,   0.20,  -0.20,  -0.20,   0.20,  -0.44,
-           -0.50,   0.64,   0.00,   0.32,  -0.36,   0.50,  -0.20,  -0.30,
-            0.12,  -0.10,   0.48,   0.50,  -0.12,   0.30,  -0.36,  -0.50,
-            0.00,   0.00,   0.48,   0.50,  -0.48,   0.50,   0.68,   0.00,
-           -0.12,   0.56,  -0.40,   0.44,  -0.50,  -0.12,  -0.10,   0.24,
-            0.30,  -0.40,   0.40,   0.64,   0.00,  -0.24,   0.64,   0.00,
-           -0.20,   0.00,   0.00,   0.44,  -0.50,   0.44,   0.50,  -0.12,
-            0.20,  -0.36,  -0.50,   0.12,   0.00,   0.64,  -0.40,   0.50,
-            0.00,   0.10,   0.00,   0.00,  -0.40,   0.50,   0.00,   0.00,
-
-       /* 3796-3923 */
-           -0.40,  -0.50,   0.56,   0.00,   0.28,   0.00,   0.10,   0.36,
-            0.50,   0.00,  -0.10,   0.36,  -0.50,   0.36,   0.50,   0.00,
-           -0.10,   0.24,  -0.20,  -0.36,  -0.40,   0.16,   0.20,   0.40,
-           -0.40,   0.00,   0.00,  -0.36,  -0.50,  -0.36,  -0.50,  -0.32,
-           -0.50,  -0.12,   0.10,   0.20,   0.20,  -0.36,   0.40,  -0.60,
-            0.60,   0.28,   0.00,   0.52,   0.12,  -0.10,   0.40,   0.40,
-            0.00,  -0.50,   0.20,  -0.20,  -0.32,   0.40,   0.16,   0.20,
-           -0.16,   0.20,   0.32,   0.40,   0.56,   0.00,  -0.12,   0.32,
-           -0.40,  -0.16,  -0.20,   0.00,   0.00,   0.40,   0.40,  -0.40,
-           -0.40,  -0.40,   0.40,  -0.36,   0.40,   0.12,   0.10,   0.00,
-            0.10,   0.36,   0.40,   0.00,  -0.10,   0.36,   0.40,  -0.36,
-            0.40,   0.00,   0.10,   0.32,   0.00,   0.44,   0.12,   0.20,
-            0.28,  -0.40,   0.00,   0.00,   0.36,   0.40,   0.32,  -0.40,
-           -0.16,   0.12,   0.10,   0.32,  -0.40,   0.20,   0.30,  -0.24,
-            0.30,   0.00,   0.10,   0.32,   0.40,   0.00,  -0.10,  -0.32,
-           -0.40,  -0.32,   0.40,   0.00,   0.10,  -0.52,  -0.52,   0.52,
-
-       /* 3924-4051 */
-            0.32,  -0.40,   0.00,   0.00,   0.32,   0.40,   0.32,  -0.40,
-            0.00,   0.00,  -0.32,  -0.40,  -0.32,   0.40,   0.32,   0.40,
-            0.00,   0.00,   0.32,   0.40,   0.00,   0.00,  -0.32,  -0.40,
-            0.00,   0.00,   0.32,   0.40,   0.16,   0.20,   0.32,  -0.30,
-           -0.16,   0.00,  -0.48,  -0.20,   0.20,  -0.28,  -0.30,   0.28,
-           -0.40,   0.00,   0.00,   0.28,  -0.40,   0.00,   0.00,   0.28,
-           -0.40,   0.00,   0.00,  -0.28,  -0.40,   0.28,   0.40,  -0.28,
-           -0.40,  -0.48,  -0.20,   0.20,   0.24,   0.30,   0.44,   0.00,
-            0.16,   0.24,   0.30,   0.16,  -0.20,   0.24,   0.30,  -0.12,
-            0.20,   0.20,   0.30,  -0.16,   0.20,   0.00,   0.00,   0.44,
-           -0.32,   0.30,   0.24,   0.00,  -0.36,   0.36,   0.00,   0.24,
-            0.12,  -0.20,   0.20,   0.30,  -0.12,   0.00,  -0.28,   0.30,
-           -0.24,   0.30,   0.12,   0.10,  -0.28,  -0.30,  -0.28,   0.30,
-            0.00,   0.00,  -0.28,  -0.30,   0.00,   0.00,  -0.28,  -0.30,
-            0.00,   0.00,   0.28,   0.30,   0.00,   0.00,  -0.28,  -0.30,
-           -0.28,   0.30,   0.00,   0.00,  -0.28,  -0.30,   0.00,   0.00,
-
-       /* 4052-4179 */
-            0.28,   0.30,   0.00,   0.00,  -0.28,   0.30,   0.28,  -0.30,
-           -0.28,   0.30,   0.40,   0.40,  -0.24,   0.30,   0.00,  -0.10,
-            0.16,   0.00,   0.36,  -0.20,   0.30,  -0.12,  -0.10,  -0.24,
-           -0.30,   0.00,   0.00,  -0.24,   0.30,  -0.24,   0.30,   0.00,
-            0.00,  -0.24,   0.30,  -0.24,   0.30,   0.24,  -0.30,   0.00,
-            0.00,   0.24,  -0.30,   0.00,   0.00,   0.24,   0.30,   0.24,
-           -0.30,   0.24,   0.30,  -0.24,   0.30,  -0.24,   0.30,  -0.20,
-            0.20,  -0.16,  -0.20,   0.00,   0.00,  -0.32,   0.20,   0.00,
-            0.10,   0.20,  -0.30,   0.20,  -0.20,   0.12,   0.20,  -0.16,
-            0.20,   0.16,   0.20,   0.20,   0.30,   0.20,   0.30,   0.00,
-            0.00,  -0.20,   0.30,   0.00,   0.00,   0.20,   0.30,  -0.20,
-           -0.30,  -0.20,  -0.30,   0.20,  -0.30,   0.00,   0.00,   0.20,
-            0.30,   0.00,   0.00,   0.20,   0.30,   0.00,   0.00,   0.20,
-            0.30,   0.00,   0.00,   0.20,   0.30,   0.00,   0.00,   0.20,
-           -0.30,   0.00,   0.00,  -0.20,  -0.30,   0.00,   0.00,  -0.20,
-            0.30,   0.00,   0.00,  -0.20,   0.30,   0.00,   0.00,   0.36,
-
-       /* 4180-4307 */
-            0.00,   0.00,   0.36,   0.12,   0.10,  -0.24,   0.20,   0.12,
-           -0.20,  -0.16,  -0.20,  -0.13,   0.10,   0.22,   0.21,   0.20,
-            0.00,  -0.28,   0.32,   0.00,  -0.12,  -0.20,  -0.20,   0.12,
-           -0.10,   0.12,   0.10,  -0.20,   0.20,   0.00,   0.00,  -0.32,
-            0.32,   0.00,   0.00,   0.32,   0.32,   0.00,   0.00,  -0.24,
-           -0.20,   0.24,   0.20,   0.20,   0.00,  -0.24,   0.00,   0.00,
-           -0.24,  -0.20,   0.00,   0.00,   0.24,   0.20,  -0.24,  -0.20,
-            0.00,   0.00,  -0.24,   0.20,   0.16,  -0.20,   0.12,   0.10,
-            0.20,   0.20,   0.00,  -0.10,  -0.12,   0.10,  -0.16,  -0.20,
-           -0.12,  -0.10,  -0.16,   0.20,   0.20,   0.20,   0.00,   0.00,
-           -0.20,   0.20,  -0.20,   0.20,  -0.20,   0.20,  -0.20,   0.20,
-            0.20,  -0.20,  -0.20,  -0.20,   0.00,   0.00,  -0.20,   0.20,
-            0.20,   0.00,  -0.20,   0.00,   0.00,  -0.20,   0.20,  -0.20,
-            0.20,  -0.20,  -0.20,  -0.20,  -0.20,   0.00,   0.00,   0.20,
-            0.20,   0.20,   0.20,   0.12,  -0.20,  -0.12,  -0.10,   0.28,
-           -0.28,   0.16,  -0.20,   0.00,  -0.10,   0.00,   0.10,  -0.16,
-
-       /* 4308-4435 */
-            0.20,   0.00,  -0.10,  -0.16,  -0.20,   0.00,  -0.10,   0.16,
-           -0.20,   0.16,  -0.20,   0.00,   0.00,   0.16,   0.20,  -0.16,
-            0.20,   0.00,   0.00,   0.16,   0.20,   0.16,  -0.20,   0.16,
-           -0.20,  -0.16,   0.20,   0.16,  -0.20,   0.00,   0.00,   0.16,
-            0.20,   0.00,   0.00,   0.16,   0.20,   0.00,   0.00,  -0.16,
-           -0.20,   0.16,  -0.20,  -0.16,  -0.20,   0.00,   0.00,  -0.16,
-           -0.20,   0.00,   0.00,  -0.16,   0.20,   0.00,   0.00,   0.16,
-           -0.20,   0.16,   0.20,   0.16,   0.20,   0.00,   0.00,  -0.16,
-           -0.20,   0.00,   0.00,  -0.16,  -0.20,   0.00,   0.00,   0.16,
-            0.20,   0.16,   0.20,   0.00,   0.00,   0.16,   0.20,   0.16,
-           -0.20,   0.16,   0.20,   0.00,   0.00,  -0.16,   0.20,   0.00,
-            0.10,   0.12,  -0.20,   0.12,  -0.20,   0.00,  -0.10,   0.00,
-           -0.10,   0.12,   0.20,   0.00,  -0.10,  -0.12,   0.20,  -0.15,
-            0.20,  -0.24,   0.24,   0.00,   0.00,   0.24,   0.24,   0.12,
-           -0.20,  -0.12,  -0.20,   0.00,   0.00,   0.12,   0.20,   0.12,
-           -0.20,   0.12,   0.20,   0.12,   0.20,   0.12,   0.20,   0.12,
-
-       /* 4436-4563 */
-           -0.20,  -0.12,   0.20,   0.00,   0.00,   0.12,   0.20,   0.12,
-            0.00,  -0.20,   0.00,   0.00,  -0.12,  -0.20,   0.12,  -0.20,
-            0.00,   0.00,   0.12,   0.20,  -0.12,   0.20,  -0.12,   0.20,
-            0.12,  -0.20,   0.00,   0.00,   0.12,   0.20,   0.20,   0.00,
-            0.12,   0.00,   0.00,  -0.12,   0.20,   0.00,   0.00,  -0.12,
-           -0.20,   0.00,   0.00,  -0.12,  -0.20,  -0.12,  -0.20,   0.00,
-            0.00,   0.12,  -0.20,   0.12,  -0.20,   0.12,   0.20,  -0.12,
-           -0.20,   0.00,   0.00,   0.12,  -0.20,   0.12,  -0.20,   0.12,
-            0.20,   0.12,   0.00,   0.20,  -0.12,  -0.20,   0.00,   0.00,
-            0.12,   0.20,  -0.16,   0.00,   0.16,  -0.20,   0.20,   0.00,
-            0.00,  -0.20,   0.00,   0.00,  -0.20,   0.20,   0.00,   0.00,
-            0.20,   0.20,  -0.20,   0.00,   0.00,  -0.20,   0.12,   0.00,
-           -0.16,   0.20,   0.00,   0.00,   0.20,   0.12,  -0.10,   0.00,
-            0.10,   0.16,  -0.16,  -0.16,  -0.16,  -0.16,  -0.16,   0.00,
-            0.00,  -0.16,   0.00,   0.00,  -0.16,  -0.16,  -0.16,   0.00,
-            0.00,  -0.16,   0.00,   0.00,   0.16,   0.00,   0.00,   0.16,
-
-       /* 4564-4691 */
-            0.00,   0.00,   0.16,   0.16,   0.00,   0.00,  -0.16,   0.00,
-            0.00,  -0.16,  -0.16,   0.00,   0.00,   0.16,   0.00,   0.00,
-           -0.16,  -0.16,   0.00,   0.00,  -0.16,  -0.16,   0.12,   0.10,
-            0.12,  -0.10,   0.12,   0.10,   0.00,   0.00,   0.12,   0.10,
-           -0.12,   0.10,   0.00,   0.00,   0.12,   0.10,   0.12,  -0.10,
-            0.00,   0.00,  -0.12,  -0.10,   0.00,   0.00,   0.12,   0.10,
-            0.12,   0.00,   0.00,   0.12,   0.00,   0.00,  -0.12,   0.00,
-            0.00,   0.12,   0.12,   0.12,   0.12,   0.12,   0.00,   0.00,
-            0.12,   0.00,   0.00,   0.12,   0.12,   0.00,   0.00,   0.12,
-            0.00,   0.00,   0.12,  -0.12,  -0.12,   0.12,   0.12,  -0.12,
-           -0.12,   0.00,   0.00,   0.12,  -0.12,   0.12,   0.12,  -0.12,
-           -0.12,   0.00,   0.00,  -0.12,  -0.12,   0.00,   0.00,  -0.12,
-            0.12,   0.00,   0.00,   0.12,   0.00,   0.00,   0.12,   0.00,
-            0.00,   0.12,  -0.12,   0.00,   0.00,  -0.12,   0.12,  -0.12,
-           -0.12,   0.12,   0.00,   0.00,   0.12,   0.12,   0.12,  -0.12,
-            0.00,   0.00,  -0.12,  -0.12,  -0.12,   0.00,   0.00,  -0.12,
-
-       /* 4692-NA */
-           -0.12,   0.00,   0.00,   0.12,   0.12,   0.00,   0.00,  -0.12,
-           -0.12,  -0.12,  -0.12,   0.12,   0.00,   0.00,   0.12,  -0.12,
-            0.00,   0.00,  -0.12,  -0.12,   0.00,   0.00,   0.12,  -0.12,
-           -0.12,  -0.12,  -0.12,   0.12,   0.12,  -0.12,  -0.12,   0.00,
-            0.00,  -0.12,   0.00,   0.00,  -0.12,   0.12,   0.00,   0.00,
-            0.12,   0.00,   0.00,  -0.12,  -0.12,   0.00,   0.00,  -0.12,
-           -0.12,   0.12,   0.00,   0.00,   0.12,   0.12,   0.00,   0.00,
-            0.12,   0.00,   0.00,   0.12,   0.12,   0.08,   0.00,   0.04
-       };
+    /* Tables (static). */
+       final int MAXPT = Xy06.MAXPT;
+       final double xyp[][] = Xy06.xyp, a[] = Xy06.a;
+       final int nc[] = Xy06.nc;
 
     /* Number of amplitude coefficients */
         final int NA = a.length;
 
     /* Amplitude usage: X or Y, sin or cos, power of T. */
-        final int jaxy[] = {0,1,0,1,0,1,0,1,0,1,0,1,0,1,0,1,0,1,0,1};
-        final int jasc[] = {0,1,1,0,1,0,0,1,0,1,1,0,1,0,0,1,0,1,1,0};
-        final int japt[] = {0,0,0,0,1,1,1,1,2,2,2,2,3,3,3,3,4,4,4,4};
+        final int jaxy[] = Xy06.jaxy, jasc[] = Xy06.jasc, japt[] = Xy06.japt;
 
     /* Miscellaneous */
        double t, w, pt[] = new double[MAXPT+1], fa[] = new double[14], xypr[] = new double[2], xypl[] = new double[2], xyls[] = new double[2], arg,
               sc[] = new double[2];
        int jpt, i, j, jxy, ialast, ifreq, m, ia, jsc;
 
+    /* Sines and cosines of each frequency, luni-solar then planetary. */
+       double sf[] = null, cf[] = null;
+       if (withS) {
+          sf = new double[NFLS+NFPL];
+          cf = new double[NFLS+NFPL];
+       }
+
     /*--------------------------------------------------------------------*/
 
     /* Interval between fundamental date J2000.0 and given date (JC). */
-       t = ((date1 - DJ00) + date2) / DJC;
+       t = args.t;
 
     /* Powers of T. */
        w = 1.0;
@@ -23876,32 +25672,32 @@ public static class SphericalCoordinateEO {
     /* --------------------------------- */
 
     /* Mean anomaly of the Moon. */
-       fa[0] = jauFal03(t);
+       fa[0] = args.l;
 
     /* Mean anomaly of the Sun. */
-       fa[1] = jauFalp03(t);
+       fa[1] = args.lp;
 
     /* Mean argument of the latitude of the Moon. */
-       fa[2] = jauFaf03(t);
+       fa[2] = args.f;
 
     /* Mean elongation of the Moon from the Sun. */
-       fa[3] = jauFad03(t);
+       fa[3] = args.d;
 
     /* Mean longitude of the ascending node of the Moon. */
-       fa[4] = jauFaom03(t);
+       fa[4] = args.om;
 
     /* Planetary longitudes, Mercury through Neptune. */
-       fa[5] = jauFame03(t);
-       fa[6] = jauFave03(t);
-       fa[7] = jauFae03(t);
-       fa[8] = jauFama03(t);
-       fa[9] = jauFaju03(t);
-       fa[10] = jauFasa03(t);
-       fa[11] = jauFaur03(t);
-       fa[12] = jauFane03(t);
+       fa[5] = args.me;
+       fa[6] = args.ve;
+       fa[7] = args.ea;
+       fa[8] = args.ma;
+       fa[9] = args.ju;
+       fa[10] = args.sa;
+       fa[11] = args.ur;
+       fa[12] = args.ne;
 
     /* General accumulated precession in longitude. */
-       fa[13] = jauFapa03(t);
+       fa[13] = args.pa;
 
     /* -------------------------------------- */
     /* Polynomial part of precession-nutation */
@@ -23929,6 +25725,10 @@ public static class SphericalCoordinateEO {
           }
           sc[0] = sin(arg);
           sc[1] = cos(arg);
+          if (withS) {
+             sf[NFLS+ifreq] = sc[0];
+             cf[NFLS+ifreq] = sc[1];
+          }
 
        /* Work backwards through the amplitudes at this frequency. */
           ia = nc[ifreq+NFLS];
@@ -23967,6 +25767,10 @@ public static class SphericalCoordinateEO {
           }
           sc[0] = sin(arg);
           sc[1] = cos(arg);
+          if (withS) {
+             sf[ifreq] = sc[0];
+             cf[ifreq] = sc[1];
+          }
 
        /* Work backwards through the amplitudes at this frequency. */
           ia = nc[ifreq];
@@ -23997,9 +25801,106 @@ public static class SphericalCoordinateEO {
        double x = DAS2R * (xypr[0] + (xyls[0] + xypl[0]) / 1e6);
        double y = DAS2R * (xypr[1] + (xyls[1] + xypl[1]) / 1e6);
 
-       return new CelestialIntermediatePole(x, y);
+       CelestialIntermediatePole cip = new CelestialIntermediatePole(x, y);
+       if (!withS) return new ICRFrame(cip, 0.0);
+
+    /* -------------------------------- */
+    /* The series for s+XY/2, as jauS06 */
+    /* -------------------------------- */
+
+    /* Fundamental arguments l,l',F,D,Om,LVe,LE,pA. */
+       double fs[] = { args.l, args.lp, args.f, args.d, args.om,
+                       args.ve, args.ea, args.pa };
+
+       final double sp[] = S06.sp;
+       double w0 = xys06(sp[0], S06.s0, Xys06.f0, fs, sf, cf);
+       double w1 = xys06(sp[1], S06.s1, Xys06.f1, fs, sf, cf);
+       double w2 = xys06(sp[2], S06.s2, Xys06.f2, fs, sf, cf);
+       double w3 = xys06(sp[3], S06.s3, Xys06.f3, fs, sf, cf);
+       double w4 = xys06(sp[4], S06.s4, Xys06.f4, fs, sf, cf);
+       double w5 = sp[5];
+
+       double s = (w0 +
+                  (w1 +
+                  (w2 +
+                  (w3 +
+                  (w4 +
+                   w5 * t) * t) * t) * t) * t) * DAS2R - x*y/2.0;
+
+       return new ICRFrame(cip, s);
+
+        }
+
+    /**
+    **  Sum one power of T of the series for s+XY/2, working backwards as
+    **  jauS06 does.
+    **
+    **     @param w      double    polynomial coefficient to start from
+    **     @param terms  TERM[]    the terms
+    **     @param freq   int[]     for each term, its frequency in sf and cf,
+    **                             or -1 if it has none
+    **     @param fa     double[8] fundamental arguments l,l',F,D,Om,LVe,LE,pA
+    **     @param sf,cf  double[]  sines and cosines of the X,Y frequencies
+    **  @return double  the sum
+    */
+    private static double xys06(double w, TERM terms[], int freq[], double fa[],
+                                double sf[], double cf[])
+    {
+       for (int i = terms.length-1; i >= 0; i--) {
+          int k = freq[i];
+          if (k >= 0) {
+             w += terms[i].s * sf[k] + terms[i].c * cf[k];
+          } else {
+             double a = 0.0;
+             for (int j = 0; j < 8; j++) {
+                a += (double)terms[i].nfa[j] * fa[j];
+             }
+             w += terms[i].s * sin(a) + terms[i].c * cos(a);
+          }
+       }
+       return w;
+
+        }
 
+    /**
+     * For each term of the series for s+XY/2, the matching frequency of the
+     * X,Y series, luni-solar ones first then planetary, or -1.
+     */
+    private static final class Xys06 {
+        static final int f0[] = match(S06.s0), f1[] = match(S06.s1),
+                         f2[] = match(S06.s2), f3[] = match(S06.s3),
+                         f4[] = match(S06.s4);
+
+        private static int[] match(TERM terms[]) {
+            final int f[] = new int[terms.length];
+            for (int i = 0; i < terms.length; i++) {
+                final int n[] = terms[i].nfa;
+                f[i] = -1;
+                if (n[5] == 0 && n[6] == 0 && n[7] == 0) {
+
+                /* Luni-solar:  l,l',F,D,Om. */
+                    for (int k = 0; k < mfals.length && f[i] < 0; k++) {
+                        boolean same = true;
+                        for (int j = 0; j < 5; j++) {
+                            same &= mfals[k][j] == n[j];
+                        }
+                        if (same) f[i] = k;
+                    }
+                } else {
+
+                /* Planetary:  LVe, LE and pA are elements 6, 7 and 13. */
+                    final int m[] = { n[0], n[1], n[2], n[3], n[4], 0, n[5],
+                                      n[6], 0, 0, 0, 0, 0, n[7] };
+                    for (int k = 0; k < mfapl.length && f[i] < 0; k++) {
+                        if (java.util.Arrays.equals(mfapl[k], m)) {
+                            f[i] = mfals.length + k;
+                        }
+                    }
+                }
+            }
+            return f;
         }
+    }
     
 
     /**
@@ -24270,6 +26171,64 @@ public static class SphericalCoordinateEO {
        return new ICRFrame(cip, s);
 
         }
+
+    /**
+    **  For a given TT date, compute the X,Y coordinates of the Celestial
+    **  Intermediate Pole and the CIO locator s, using the series based on
+    **  IAU 2006 precession and IAU 2000A nutation.
+    **
+    **<p>Status:  support function.
+    **
+    **<!-- Given: -->
+    **     @param date1,date2   double    TT as a 2-part Julian Date (Note 1 of jauXys06a)
+    **
+    ** <!-- Returned (function value): -->
+    **  @return ICRFrame  CIP X,Y coordinates and the CIO locator s (Note 2 of jauXys06a)
+    **
+    ** <p>Notes:
+    ** <ol>
+    **
+    ** <li> The results are the same as from jauXy06 followed by jauS06,
+    **     but the two series are evaluated in one pass:  the fundamental
+    **     arguments are computed once, and the terms of s+XY/2 that share
+    **     a frequency with the X,Y series use the sine and cosine already
+    **     computed for it.
+    **
+    ** <li> The X,Y series and the matrix-based jauXys06a agree to about
+    **     1 microarcsecond over the interval 1995-2050 (see jauXy06).
+    **</ol>
+    **<p>Called:<ul>
+    **     <li>{@link #jauFa03} fundamental arguments, IERS 2003
+    ** </ul>
+    **<p>References:
+    **
+    **    <br/>Capitaine, N. & Wallace, P.T., 2006, Astron.Astrophys. 450, 855
+    **
+    **    <br/>Wallace, P.T. & Capitaine, N., 2006, Astron.Astrophys. 459, 981
+    */
+    public static ICRFrame jauXys06(double date1, double date2)
+    {
+       return xys06(jauFa03(date1, date2), true);
+
+        }
+
+    /**
+    **  X,Y coordinates of the Celestial Intermediate Pole and the CIO
+    **  locator s from series, from fundamental arguments already evaluated.
+    **  See {@link #jauXys06(double, double)}.
+    **
+    **<!-- Given: -->
+    **     @param args    FundamentalArguments  TT date and fundamental arguments,
+    **                                          see {@link #jauFa03}
+    **
+    ** <!-- Returned (function value): -->
+    **  @return ICRFrame  CIP X,Y coordinates and the CIO locator s
+    */
+    public static ICRFrame jauXys06(FundamentalArguments args)
+    {
+       return xys06(args, true);
+
+        }
     
 
     /**
@@ -24374,6 +26333,20 @@ public static class SphericalCoordinateEO {
     private static double fmod(double d, double d2) {
         return d % d2;
     }
+
+    /**
+     * fmod(d, 1.0), exactly, without the slow floating remainder:  the
+     * difference from the integer part is exact below 2^52, and at or
+     * above it d is a whole number.  Zero keeps the sign of d, and NaN
+     * or infinity give NaN, as with the remainder.
+     */
+    private static double frac(double d) {
+        if (abs(d) < 4503599627370496.0) {
+            final double r = d - (long) d;
+            if (r != 0.0) return r;
+        }
+        return d * 0.0;
+    }
  //IMPL new 20131202 routines after here
 
     /**
@@ -24381,9 +26354,16 @@ public static class SphericalCoordinateEO {
      * 
      *  (Vectors eb, eh, em and v are all with respect to BCRS axes.)
      *  
+     *  <p>The jauApc*, jauApi* and jauAper* routines fill in an Astrom;
+     *  the quick transformations jauAtciq, jauAtciqn, jauAtciqz, jauAticq,
+     *  jauAticqn, jauAtioq and jauAtoiq only read it.  A prepared Astrom
+     *  may therefore be shared by threads calling only the latter, but must
+     *  not be refreshed while any of them is using it.
+     *  
      *  @author Paul Harrison (paul.harrison@manchester.ac.uk) 26 Mar 2014
      *  @since 20131202
      */
+    @NotThreadSafe
     public static class  Astrom {
         
 /** PM time interval (SSB, Julian years) */
@@ -24432,6 +26412,7 @@ public static class SphericalCoordinateEO {
      *  @author Paul Harrison (paul.harrison@manchester.ac.uk) 26 Mar 2014
      *  @since 20131202
      */
+    @NotThreadSafe
     public static class Ldbody {
         /** mass of the body (solar masses) */
        public double bm;
@@ -24504,10 +26485,38 @@ public static class SphericalCoordinateEO {
      */
     public static  double[] jauAb(double pnat[], double v[], double s, double bm1
            )
+    {
+        return jauAb(pnat, v, s, bm1, new double[3]);
+
+        /* Finished. */
+
+
+    }
+    
+    /**
+     *  Apply aberration to transform natural direction into proper
+     *  direction, into a given array.  See {@link #jauAb(double[], double[], double, double)}.
+     *
+     *<p>Status:  support function.
+     *
+     *<!-- Given: -->
+     *    @param pnat     double[3]    natural direction to the source (unit vector)
+     *    @param v        double[3]    observer barycentric velocity in units of c
+     *    @param s        double       distance between the Sun and the observer (au)
+     *    @param bm1      double       sqrt(1-|v|^2): reciprocal of Lorenz factor
+     *
+     *<!-- Returned:-->
+     *    @param ppr      double[3]    <b>Returned</b> proper direction to source (unit vector)
+     *    @return ppr
+     *
+     *  Note:
+     *     It is permissible for pnat and ppr to be the same array.
+     */
+    public static  double[] jauAb(double pnat[], double v[], double s, double bm1,
+            double ppr[])
     {
         int i;
-        double pdv, w1, w2, r2, w, p[] = new double[3], r;
-        double ppr[] = new double[3];
+        double pdv, w1, w2, r2, w, r;
 
         pdv = jauPdp(pnat, v);
         w1 = 1.0 + pdv/(1.0 + bm1);
@@ -24515,12 +26524,12 @@ public static class SphericalCoordinateEO {
         r2 = 0.0;
         for (i = 0; i < 3; i++) {
             w = pnat[i]*bm1 + w1*v[i] + w2*(v[i] - pdv*pnat[i]);
-            p[i] = w;
+            ppr[i] = w;
             r2 = r2 + w*w;
         }
         r = sqrt(r2);
         for (i = 0; i < 3; i++) {
-            ppr[i] = p[i]/r;
+            ppr[i] = ppr[i]/r;
         }
         return ppr;
         /* Finished. */
@@ -25204,7 +27213,7 @@ public static class SphericalCoordinateEO {
         pvc = jauPvtob(elong, phi, hm, xp, yp, sp, theta);
 
         /* Rotate into GCRS. */
-        pv = jauTrxpv(r, pvc);
+        pv = jauTrxpv(r, pvc, pvc);
 
         /* ICRS <-> GCRS parameters. */
         jauApcs(date1, date2, pv, ebpv, ehp, astrom);
@@ -25390,6 +27399,80 @@ public static class SphericalCoordinateEO {
             double elong, double phi, double hm, double xp, double yp,
             double phpa, double tc, double rh, double wl,
             Astrom astrom ) throws JSOFAIllegalParameter, JSOFAInternalError
+    {
+        return apco13(utc1, utc2, dut1, elong, phi, hm, xp, yp, phpa, tc, rh, wl, astrom, null);
+    }
+
+    /**
+    **  For a terrestrial observer, prepare star-independent astrometry
+    **  parameters for transformations between ICRS and observed
+    **  coordinates, as {@link #jauApco13}, with UT1-UTC and the polar
+    **  motion from a table of Earth orientation parameters.
+    **
+    **<!-- Given: -->
+    **     @param utc1,utc2  double   UTC as a 2-part quasi Julian Date
+    **     @param eop        EarthOrientationTable  source of UT1-UTC, xp and yp
+    **     @param elong,phi,hm  double  site longitude, latitude (radians) and
+    **                                height above the ellipsoid (m)
+    **     @param phpa,tc,rh,wl  double  pressure (hPa), temperature (deg C),
+    **                                relative humidity (0-1) and wavelength (micrometers)
+    **     @param astrom     Astrom   <u>returned</u> star-independent astrometry parameters
+    **     @return the equation of the origins (ERA-GST)
+    **     @throws JSOFAIllegalParameter  unacceptable date, or outside the table
+    **     @throws JSOFAInternalError     date before UTC
+    */
+    public static double jauApco13(double utc1, double utc2, EarthOrientationTable eop,
+            double elong, double phi, double hm,
+            double phpa, double tc, double rh, double wl,
+            Astrom astrom) throws JSOFAIllegalParameter, JSOFAInternalError
+    {
+        final double e[] = new double[3];
+        eop.eop(utc1, utc2, e);
+        return jauApco13(utc1, utc2, e[0], elong, phi, hm, e[1], e[2], phpa, tc, rh, wl, astrom);
+    }
+
+
+    /**
+    **  For a terrestrial observer, prepare star-independent astrometry
+    **  parameters for transformations between ICRS and observed
+    **  coordinates, reporting the SOFA status instead of throwing an
+    **  exception. As {@link #jauApco13}, except that the "dubious year" warning is returned as
+    **  status +1, and dates before UTC are a warning, for which Delta(AT)
+    **  is taken as zero, rather than an error.
+    **
+    **<!-- Given: -->
+    **     @param utc1,utc2  double   UTC as a 2-part quasi Julian Date
+    **     @param dut1       double   UT1-UTC (seconds)
+    **     @param elong,phi,hm,xp,yp,phpa,tc,rh,wl  double  site, Earth
+    **                                orientation and ambient conditions
+    **     @param astrom     Astrom   <u>returned</u> star-independent astrometry parameters
+    **     @param status     int[1]   <u>returned</u> status: +1 = dubious year,
+    **                                0 = OK, -1 = unacceptable date
+    **     @return the equation of the origins (ERA-GST), or zero if the date
+    **             is unacceptable
+    */
+    public static double jauApco13(double utc1, double utc2, double dut1,
+            double elong, double phi, double hm, double xp, double yp,
+            double phpa, double tc, double rh, double wl,
+            Astrom astrom, int status[])
+    {
+        status[0] = 0;
+        try {
+            return apco13(utc1, utc2, dut1, elong, phi, hm, xp, yp, phpa, tc, rh, wl, astrom, status);
+        } catch (JSOFAException e) {
+            status[0] = -1;
+            return 0.0;
+        }
+    }
+
+    /**
+     * Implementation of {@link #jauApco13}, reporting the status in js[0]
+     * or, if js is null, by exceptions.
+     */
+    private static double apco13(double utc1, double utc2, double dut1,
+            double elong, double phi, double hm, double xp, double yp,
+            double phpa, double tc, double rh, double wl,
+            Astrom astrom, int js[]) throws JSOFAIllegalParameter, JSOFAInternalError
     {
         double ehpv[][] = new double[2][3], ebpv[][] = new double[2][3],
         r[][], s, theta, sp;
@@ -25397,9 +27480,10 @@ public static class SphericalCoordinateEO {
 
 
         /* UTC to other time scales. */
-        JulianDate tai = jauUtctai(utc1, utc2);
+        final int ymd[] = new int[3];
+        JulianDate tai = utctai(utc1, utc2, js, ymd);
         JulianDate tt = jauTaitt(tai.djm0, tai.djm1);
-        JulianDate ut1 = jauUtcut1(utc1, utc2, dut1);
+        JulianDate ut1 = utcut1(utc1, utc2, dut1, js, ymd);
 
         /* Earth barycentric & heliocentric position/velocity (au, au/d). */
         jauEpv00(tt.djm0, tt.djm1, ehpv, ebpv);
@@ -26257,6 +28341,34 @@ public static class SphericalCoordinateEO {
 
     }
 
+    /**
+    **  For a terrestrial observer, prepare star-independent astrometry
+    **  parameters for transformations between CIRS and observed
+    **  coordinates, as {@link #jauApio13}, with UT1-UTC and the polar
+    **  motion from a table of Earth orientation parameters.
+    **
+    **<!-- Given: -->
+    **     @param utc1,utc2  double   UTC as a 2-part quasi Julian Date
+    **     @param eop        EarthOrientationTable  source of UT1-UTC, xp and yp
+    **     @param elong,phi,hm  double  site longitude, latitude (radians) and
+    **                                height above the ellipsoid (m)
+    **     @param phpa,tc,rh,wl  double  pressure (hPa), temperature (deg C),
+    **                                relative humidity (0-1) and wavelength (micrometers)
+    **     @param astrom     Astrom   <u>returned</u> star-independent astrometry parameters
+    **     @throws JSOFAIllegalParameter  unacceptable date, or outside the table
+    **     @throws JSOFAInternalError     date before UTC
+    */
+    public static void jauApio13(double utc1, double utc2, EarthOrientationTable eop,
+            double elong, double phi, double hm,
+            double phpa, double tc, double rh, double wl,
+            Astrom astrom) throws JSOFAIllegalParameter, JSOFAInternalError
+    {
+        final double e[] = new double[3];
+        eop.eop(utc1, utc2, e);
+        jauApio13(utc1, utc2, e[0], elong, phi, hm, e[1], e[2], phpa, tc, rh, wl, astrom);
+    }
+
+
     /**
      *  Transform ICRS star data, epoch J2000.0, to CIRS.
      *
@@ -26435,7 +28547,7 @@ public static class SphericalCoordinateEO {
         ppr = jauAb(pnat, astrom.v, astrom.em, astrom.bm1);
 
         /* Bias-precession-nutation, giving CIRS proper direction. */
-        pi = jauRxp(astrom.bpn, ppr);
+        pi = jauRxp(astrom.bpn, ppr, ppr);
 
         /* CIRS RA,Dec. */
         SphericalCoordinate co = jauC2s(pi);
@@ -26554,7 +28666,7 @@ public static class SphericalCoordinateEO {
         ppr = jauAb(pnat, astrom.v, astrom.em, astrom.bm1);
 
         /* Bias-precession-nutation, giving CIRS proper direction. */
-        pi = jauRxp(astrom.bpn, ppr);
+        pi = jauRxp(astrom.bpn, ppr, ppr);
 
         /* CIRS RA,Dec. */
         SphericalCoordinate co = jauC2s(pi);
@@ -26637,7 +28749,7 @@ public static class SphericalCoordinateEO {
         ppr = jauAb(pnat, astrom.v, astrom.em, astrom.bm1);
 
         /* Bias-precession-nutation, giving CIRS proper direction. */
-        pi = jauRxp(astrom.bpn, ppr);
+        pi = jauRxp(astrom.bpn, ppr, ppr);
 
         /* CIRS RA,Dec. */
         SphericalCoordinate co = jauC2s(pi);
@@ -26835,6 +28947,39 @@ public static class SphericalCoordinateEO {
 
     }
 
+    /**
+    **  ICRS RA,Dec to observed place, as {@link #jauAtco13}, with UT1-UTC
+    **  and the polar motion from a table of Earth orientation parameters.
+    **
+    **<!-- Given: -->
+    **     @param rc,dc      double   ICRS right ascension at J2000.0 (radians)
+    **     @param pr         double   RA proper motion (radians/year)
+    **     @param pd         double   Dec proper motion (radians/year)
+    **     @param px         double   parallax (arcsec)
+    **     @param rv         double   radial velocity (km/s, +ve if receding)
+    **     @param utc1,utc2  double   UTC as a 2-part quasi Julian Date
+    **     @param eop        EarthOrientationTable  source of UT1-UTC, xp and yp
+    **     @param elong,phi,hm  double  site longitude, latitude (radians) and
+    **                                height above the ellipsoid (m)
+    **     @param phpa,tc,rh,wl  double  pressure (hPa), temperature (deg C),
+    **                                relative humidity (0-1) and wavelength (micrometers)
+    **     @return observed place and the equation of the origins
+    **     @throws JSOFAIllegalParameter  unacceptable date, or outside the table
+    **     @throws JSOFAInternalError     date before UTC
+    */
+    public static ObservedPositionEO jauAtco13(double rc, double dc,
+            double pr, double pd, double px, double rv,
+            double utc1, double utc2, EarthOrientationTable eop,
+            double elong, double phi, double hm,
+            double phpa, double tc, double rh, double wl) throws JSOFAIllegalParameter, JSOFAInternalError
+    {
+        final double e[] = new double[3];
+        eop.eop(utc1, utc2, e);
+        return jauAtco13(rc, dc, pr, pd, px, rv, utc1, utc2, e[0], elong, phi, hm, e[1], e[2],
+                phpa, tc, rh, wl);
+    }
+
+
     /**
      *  Transform star RA,Dec from geocentric CIRS to ICRS astrometric.
      *
@@ -27466,6 +29611,33 @@ public static class SphericalCoordinateEO {
 
     }
 
+    /**
+    **  CIRS RA,Dec to observed place, as {@link #jauAtio13}, with UT1-UTC
+    **  and the polar motion from a table of Earth orientation parameters.
+    **
+    **<!-- Given: -->
+    **     @param ri,di      double   CIRS right ascension, declination (radians)
+    **     @param utc1,utc2  double   UTC as a 2-part quasi Julian Date
+    **     @param eop        EarthOrientationTable  source of UT1-UTC, xp and yp
+    **     @param elong,phi,hm  double  site longitude, latitude (radians) and
+    **                                height above the ellipsoid (m)
+    **     @param phpa,tc,rh,wl  double  pressure (hPa), temperature (deg C),
+    **                                relative humidity (0-1) and wavelength (micrometers)
+    **     @return observed place
+    **     @throws JSOFAIllegalParameter  unacceptable date, or outside the table
+    **     @throws JSOFAInternalError     date before UTC
+    */
+    public static ObservedPosition jauAtio13(double ri, double di,
+            double utc1, double utc2, EarthOrientationTable eop,
+            double elong, double phi, double hm,
+            double phpa, double tc, double rh, double wl) throws JSOFAIllegalParameter, JSOFAInternalError
+    {
+        final double e[] = new double[3];
+        eop.eop(utc1, utc2, e);
+        return jauAtio13(ri, di, utc1, utc2, e[0], elong, phi, hm, e[1], e[2], phpa, tc, rh, wl);
+    }
+
+
     /**
      *  Quick CIRS to observed place transformation.
      *
@@ -27554,22 +29726,50 @@ public static class SphericalCoordinateEO {
      *  <!-- Copyright (C) 2013 IAU SOFA Board.  See notes at end. -->
      */
     public static ObservedPosition jauAtioq(double ri, double di, Astrom astrom)
+    {
+        return jauAtioq(ri, di, astrom, new ObservedPosition(0.0, 0.0, 0.0, 0.0, 0.0));
+
+        /* Finished. */
+
+
+    }
+    
+    /**
+     *  Quick CIRS to observed place transformation, into a given object.
+     *  See {@link #jauAtioq(double, double, Astrom)}.
+     *
+     *<p>Status:  support function.
+     *
+     *<!-- Given: -->
+     *     @param ri      double     CIRS right ascension
+     *     @param di      double     CIRS declination
+     *     @param astrom  Astrom     star-independent astrometry parameters
+     *
+     *<!-- Returned:-->
+     *     @param ob      ObservedPosition  <b>Returned</b> observed place
+     *     @return ob
+     *
+     *  Note:
+     *     No workspace is allocated, so that the function can be used
+     *     for many stars without garbage.
+     */
+    public static ObservedPosition jauAtioq(double ri, double di, Astrom astrom, ObservedPosition ob)
     {
         /* Minimum cos(alt) and sin(alt) for refraction purposes */
         final double CELMIN = 1e-6;
         final double SELMIN = 0.05;
 
-        double v[] = new double[3], x, y, z, xhd, yhd, zhd, f, xhdt, yhdt, zhdt,
+        double cp, x, y, z, xhd, yhd, zhd, f, xhdt, yhdt, zhdt,
                 xaet, yaet, zaet, azobs, r, tz, w, del, cosdel,
-                xaeo, yaeo, zaeo, zdobs, hmobs, dcobs, raobs;
+                xaeo, yaeo, zaeo, zdobs, hmobs, dcobs, raobs, d2;
 
         /*--------------------------------------------------------------------*/
 
         /* CIRS RA,Dec to Cartesian -HA,Dec. */
-        v = jauS2c(ri-astrom.eral, di);
-        x = v[0];
-        y = v[1];
-        z = v[2];
+        cp = cos(di);
+        x = cos(ri-astrom.eral) * cp;
+        y = sin(ri-astrom.eral) * cp;
+        z = sin(di);
 
         /* Polar motion. */
         xhd = x + astrom.xpl*z;
@@ -27616,24 +29816,25 @@ public static class SphericalCoordinateEO {
         zdobs = atan2(sqrt(xaeo*xaeo+yaeo*yaeo), zaeo);
 
         /* Az/El vector to HA,Dec vector (both right-handed). */
-        v[0] = astrom.sphi*xaeo + astrom.cphi*zaeo;
-        v[1] = yaeo;
-        v[2] = - astrom.cphi*xaeo + astrom.sphi*zaeo;
+        x = astrom.sphi*xaeo + astrom.cphi*zaeo;
+        y = yaeo;
+        z = - astrom.cphi*xaeo + astrom.sphi*zaeo;
 
         /* To spherical -HA,Dec. */
-        SphericalCoordinate co = jauC2s ( v);
-        hmobs = co.alpha;
-        dcobs = co.delta;
+        d2 = x*x + y*y;
+        hmobs = (d2 == 0.0) ? 0.0 : atan2(y, x);
+        dcobs = (z == 0.0) ? 0.0 : atan2(z, sqrt(d2));
+
         /* Right ascension (with respect to CIO). */
         raobs = astrom.eral + hmobs;
 
         /* Return the results. */
-        return new ObservedPosition(
-        jauAnp(azobs),
-        zdobs,
-        -hmobs,
-        dcobs,
-        jauAnp(raobs));
+        ob.aob = jauAnp(azobs);
+        ob.zob = zdobs;
+        ob.hob = -hmobs;
+        ob.dob = dcobs;
+        ob.rob = jauAnp(raobs);
+        return ob;
 
         /* Finished. */
 
@@ -27795,13 +29996,86 @@ public static class SphericalCoordinateEO {
             double elong, double phi, double hm, double xp, double yp,
             double phpa, double tc, double rh, double wl
             ) throws JSOFAIllegalParameter, JSOFAInternalError
+    {
+        return atoc13(type, ob1, ob2, utc1, utc2, dut1, elong, phi, hm, xp, yp, phpa, tc, rh, wl, null);
+    }
+
+    /**
+    **  Observed place to ICRS astrometric RA,Dec, as {@link #jauAtoc13},
+    **  with UT1-UTC and the polar motion from a table of Earth orientation
+    **  parameters.
+    **
+    **<!-- Given: -->
+    **     @param type       String   type of coordinates - "R", "H" or "A"
+    **     @param ob1,ob2    double   observed coordinates (radians)
+    **     @param utc1,utc2  double   UTC as a 2-part quasi Julian Date
+    **     @param eop        EarthOrientationTable  source of UT1-UTC, xp and yp
+    **     @param elong,phi,hm  double  site longitude, latitude (radians) and
+    **                                height above the ellipsoid (m)
+    **     @param phpa,tc,rh,wl  double  pressure (hPa), temperature (deg C),
+    **                                relative humidity (0-1) and wavelength (micrometers)
+    **     @return ICRS astrometric RA,Dec (radians)
+    **     @throws JSOFAIllegalParameter  unacceptable date, or outside the table
+    **     @throws JSOFAInternalError     date before UTC
+    */
+    public static SphericalCoordinate jauAtoc13(String type, double ob1, double ob2,
+            double utc1, double utc2, EarthOrientationTable eop,
+            double elong, double phi, double hm,
+            double phpa, double tc, double rh, double wl) throws JSOFAIllegalParameter, JSOFAInternalError
+    {
+        final double e[] = new double[3];
+        eop.eop(utc1, utc2, e);
+        return jauAtoc13(type, ob1, ob2, utc1, utc2, e[0], elong, phi, hm, e[1], e[2], phpa, tc, rh, wl);
+    }
+
+
+    /**
+    **  Observed place at a groundbased site to ICRS astrometric RA,Dec,
+    **  reporting the SOFA status instead of throwing an exception. As
+    **  {@link #jauAtoc13}, except that the "dubious year" warning is
+    **  returned as status +1, and dates before UTC are a warning, for which
+    **  Delta(AT) is taken as zero, rather than an error.
+    **
+    **<!-- Given: -->
+    **     @param type       String   type of coordinates - "R", "H" or "A"
+    **     @param ob1,ob2    double   observed Az, HA or RA and ZD or Dec (radians)
+    **     @param utc1,utc2  double   UTC as a 2-part quasi Julian Date
+    **     @param dut1       double   UT1-UTC (seconds)
+    **     @param elong,phi,hm,xp,yp,phpa,tc,rh,wl  double  site, Earth
+    **                                orientation and ambient conditions
+    **     @param status     int[1]   <u>returned</u> status: +1 = dubious year,
+    **                                0 = OK, -1 = unacceptable date
+    **     @return ICRS astrometric RA,Dec, or null if the date is unacceptable
+    */
+    public static SphericalCoordinate jauAtoc13(String type, double ob1, double ob2,
+            double utc1, double utc2, double dut1,
+            double elong, double phi, double hm, double xp, double yp,
+            double phpa, double tc, double rh, double wl, int status[])
+    {
+        status[0] = 0;
+        try {
+            return atoc13(type, ob1, ob2, utc1, utc2, dut1, elong, phi, hm, xp, yp, phpa, tc, rh, wl, status);
+        } catch (JSOFAException e) {
+            status[0] = -1;
+            return null;
+        }
+    }
+
+    /**
+     * Implementation of {@link #jauAtoc13}, reporting the status in js[0]
+     * or, if js is null, by exceptions.
+     */
+    private static SphericalCoordinate atoc13(String type, double ob1, double ob2,
+            double utc1, double utc2, double dut1,
+            double elong, double phi, double hm, double xp, double yp,
+            double phpa, double tc, double rh, double wl, int js[]) throws JSOFAIllegalParameter, JSOFAInternalError
     {
         Astrom astrom = new Astrom();
         double eo;
 
         /* Star-independent astrometry parameters. */
-        eo = jauApco13(utc1, utc2, dut1, elong, phi, hm, xp, yp,
-                phpa, tc, rh, wl, astrom);
+        eo = apco13(utc1, utc2, dut1, elong, phi, hm, xp, yp,
+                phpa, tc, rh, wl, astrom, js);
 
         /* Transform observed to CIRS. */
         SphericalCoordinate co = jauAtoiq(type, ob1, ob2, astrom);
@@ -27987,6 +30261,34 @@ public static class SphericalCoordinateEO {
 
     }
 
+    /**
+    **  Observed place to CIRS, as {@link #jauAtoi13}, with UT1-UTC and the
+    **  polar motion from a table of Earth orientation parameters.
+    **
+    **<!-- Given: -->
+    **     @param type       String   type of coordinates - "R", "H" or "A"
+    **     @param ob1,ob2    double   observed coordinates (radians)
+    **     @param utc1,utc2  double   UTC as a 2-part quasi Julian Date
+    **     @param eop        EarthOrientationTable  source of UT1-UTC, xp and yp
+    **     @param elong,phi,hm  double  site longitude, latitude (radians) and
+    **                                height above the ellipsoid (m)
+    **     @param phpa,tc,rh,wl  double  pressure (hPa), temperature (deg C),
+    **                                relative humidity (0-1) and wavelength (micrometers)
+    **     @return CIRS RA,Dec (radians)
+    **     @throws JSOFAIllegalParameter  unacceptable date, or outside the table
+    **     @throws JSOFAInternalError     date before UTC
+    */
+    public static SphericalCoordinate jauAtoi13(String type, double ob1, double ob2,
+            double utc1, double utc2, EarthOrientationTable eop,
+            double elong, double phi, double hm,
+            double phpa, double tc, double rh, double wl) throws JSOFAIllegalParameter, JSOFAInternalError
+    {
+        final double e[] = new double[3];
+        eop.eop(utc1, utc2, e);
+        return jauAtoi13(type, ob1, ob2, utc1, utc2, e[0], elong, phi, hm, e[1], e[2], phpa, tc, rh, wl);
+    }
+
+
     /**
      *  Quick observed place to CIRS, given the star-independent astrometry
      *  parameters.
@@ -28257,28 +30559,68 @@ public static class SphericalCoordinateEO {
     public static double[] jauLd(double bm, double p[], double q[], double e[],
             double em, double dlim)
     {
-        int i;
-        double qpe[] = new double[3], qdqpe, w, eq[], peq[] ;
+        return jauLd(bm, p, q, e, em, dlim, new double[3]);
+
+        /* Finished. */
+
+
+    }
+    
+    /**
+     *  Apply light deflection by a solar-system body, into a given array.
+     *  See {@link #jauLd(double, double[], double[], double[], double, double)}.
+     *
+     *<p>Status:  support function.
+     *
+     *<!-- Given: -->
+     *     @param bm     double       mass of the gravitating body (solar masses)
+     *     @param p      double[3]    direction from observer to source (unit vector)
+     *     @param q      double[3]    direction from body to source (unit vector)
+     *     @param e      double[3]    direction from body to observer (unit vector)
+     *     @param em     double       distance from body to observer (au)
+     *     @param dlim   double       deflection limiter
+     *
+     *<!-- Returned:-->
+     *     @param p1     double[3]    <b>Returned</b> observer to deflected source (unit vector)
+     *     @return p1
+     *
+     *  Note:
+     *     It is permissible for p1 to be the same array as any of p, q
+     *     and e.  No workspace is allocated.
+     */
+    public static double[] jauLd(double bm, double p[], double q[], double e[],
+            double em, double dlim, double p1[])
+    {
+        double q0, q1, q2, e0, e1, e2, qdqpe, w, eq0, eq1, eq2, peq0, peq1, peq2;
 
-        double p1[] = new double[3];
+
+        q0 = q[0];
+        q1 = q[1];
+        q2 = q[2];
+        e0 = e[0];
+        e1 = e[1];
+        e2 = e[2];
 
         /* q . (q + e). */
-        for (i = 0; i < 3; i++) {
-            qpe[i] = q[i] + e[i];
-        }
-        qdqpe = jauPdp(q, qpe);
+        qdqpe = q0 * (q0 + e0)
+              + q1 * (q1 + e1)
+              + q2 * (q2 + e2);
 
         /* 2 x G x bm / ( em x c^2 x ( q . (q + e) ) ). */
         w = bm * SRS / em / max(qdqpe,dlim);
 
         /* p x (e x q). */
-        eq = jauPxp(e, q);
-        peq = jauPxp(p, eq);
+        eq0 = e1*q2 - e2*q1;
+        eq1 = e2*q0 - e0*q2;
+        eq2 = e0*q1 - e1*q0;
+        peq0 = p[1]*eq2 - p[2]*eq1;
+        peq1 = p[2]*eq0 - p[0]*eq2;
+        peq2 = p[0]*eq1 - p[1]*eq0;
 
         /* Apply the deflection. */
-        for (i = 0; i < 3; i++) {
-            p1[i] = p[i] + w*peq[i];
-        }
+        p1[0] = p[0] + w*peq0;
+        p1[1] = p[1] + w*peq1;
+        p1[2] = p[2] + w*peq2;
 
         return p1;
         /* Finished. */
@@ -28463,6 +30805,31 @@ public static class SphericalCoordinateEO {
 
         /* Finished. */
     }
+    
+    /**
+     *   Deflection of starlight by the Sun, into a given array.
+     *   See {@link #jauLdsun(double[], double[], double)}.
+     *
+     *<p>Status:  support function.
+     *
+     *<!-- Given: -->
+     *     @param p       double[3]   direction from observer to star (unit vector)
+     *     @param e       double[3]   direction from Sun to observer (unit vector)
+     *     @param em      double      distance from Sun to observer (au)
+     *
+     *<!-- Returned:-->
+     *     @param p1      double[3]   <b>Returned</b> observer to deflected star (unit vector)
+     *     @return p1
+     *
+     *  Note:
+     *     The arguments p and p1 can be the same array.
+     */
+    public static double[] jauLdsun(double p[], double e[], double em, double p1[])
+    {
+        return jauLd(1.0, p, p, e, em, 1e-9, p1);
+
+        /* Finished. */
+    }
 
     /**
      *  Proper motion and parallax.
@@ -28523,6 +30890,39 @@ public static class SphericalCoordinateEO {
     public static double[] jauPmpx(double rc, double dc, double pr, double pd,
             double px, double rv, double pmt, double pob[]
             )
+    {
+        return jauPmpx(rc, dc, pr, pd, px, rv, pmt, pob, new double[3]);
+
+        /* Finished. */
+
+
+    }
+    
+    /**
+     *  Proper motion and parallax, into a given array.
+     *  See {@link #jauPmpx(double, double, double, double, double, double, double, double[])}.
+     *
+     *<p>Status:  support function.
+     *
+     *<!-- Given: -->
+     *     @param rc,dc  double     ICRS RA,Dec at catalog epoch (radians)
+     *     @param pr     double     RA proper motion (radians/year; Note 1)
+     *     @param pd     double     Dec proper motion (radians/year)
+     *     @param px     double     parallax (arcsec)
+     *     @param rv     double     radial velocity (km/s, +ve if receding)
+     *     @param pmt    double     proper motion time interval (SSB, Julian years)
+     *     @param pob    double[3]  SSB to observer vector (au)
+     *
+     *<!-- Returned:-->
+     *     @param pco    double[3]  <b>Returned</b> coordinate direction (BCRS unit vector)
+     *     @return pco
+     *
+     *  Note:
+     *     It is permissible for pob and pco to be the same array.  No
+     *     workspace is allocated.
+     */
+    public static double[] jauPmpx(double rc, double dc, double pr, double pd,
+            double px, double rv, double pmt, double pob[], double pco[])
     {
         /* Km/s to au/year */
         final double VF = DAYSEC*DJM/DAU;
@@ -28530,8 +30930,7 @@ public static class SphericalCoordinateEO {
         /* Light time for 1 au, Julian years */
         final double AULTY = AULT/DAYSEC/DJY;
 
-        int i;
-        double sr, cr, sd, cd, x, y, z, p[] = new double[3], dt, pxr, w, pdz, pm[] = new double[3];
+        double sr, cr, sd, cd, x, y, z, dt, pxr, w, pdz, p0, p1, p2;
 
 
         /* Spherical coordinates to unit vector (and useful functions). */
@@ -28539,28 +30938,35 @@ public static class SphericalCoordinateEO {
         cr = cos(rc);
         sd = sin(dc);
         cd = cos(dc);
-        p[0] = x = cr*cd;
-        p[1] = y = sr*cd;
-        p[2] = z = sd;
+        x = cr*cd;
+        y = sr*cd;
+        z = sd;
 
         /* Proper motion time interval (y) including Roemer effect. */
-        dt = pmt + jauPdp(p,pob)*AULTY;
+        dt = pmt + (x * pob[0] + y * pob[1] + z * pob[2])*AULTY;
 
         /* Space motion (radians per year). */
         pxr = px * DAS2R;
         w = VF * rv * pxr;
         pdz = pd * z;
-        pm[0] = - pr*y - pdz*cr + w*x;
-        pm[1] =   pr*x - pdz*sr + w*y;
-        pm[2] =   pd*cd + w*z;
 
         /* Coordinate direction of star (unit vector, BCRS). */
-        for (i = 0; i < 3; i++) {
-            p[i] += dt*pm[i] - pxr*pob[i];
+        p0 = x + (dt*(- pr*y - pdz*cr + w*x) - pxr*pob[0]);
+        p1 = y + (dt*(  pr*x - pdz*sr + w*y) - pxr*pob[1]);
+        p2 = z + (dt*(  pd*cd + w*z) - pxr*pob[2]);
+        w = sqrt(p0 * p0 + p1 * p1 + p2 * p2);
+        if (w == 0.0) {
+            pco[0] = 0.0;
+            pco[1] = 0.0;
+            pco[2] = 0.0;
+        } else {
+            w = 1.0/w;
+            pco[0] = w * p0;
+            pco[1] = w * p1;
+            pco[2] = w * p2;
         }
-        NormalizedVector pco = jauPn(p);
 
-        return pco.u;
+        return pco;
         /* Finished. */
 
 
@@ -35,6 +35,20 @@ public class JSOFAException extends Exception {
         super(message);
         this.status = status;
     }
+
+    /**
+     * Create an exception, optionally without capturing the stack trace.
+     * Routine validation failures, such as a date before UTC, are thrown
+     * without one, as filling in the stack trace is by far the most
+     * expensive part of creating an exception.
+     * @param message     description of the problem
+     * @param status      original JSOFA status value
+     * @param stackTrace  whether to capture the stack trace
+     */
+    public JSOFAException(String message, int status, boolean stackTrace) {
+        super(message, null, true, stackTrace);
+        this.status = status;
+    }
 }
 
 /*
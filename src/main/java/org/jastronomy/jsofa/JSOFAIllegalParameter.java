@@ -24,10 +24,26 @@ public class JSOFAIllegalParameter extends JSOFAException {
      */
     private static final long serialVersionUID = 4164536110692125140L;
 
+    /**
+     * Status of the batch functions when their arrays differ in length,
+     * distinct from the status values of the SOFA functions themselves.
+     */
+    public static final int BATCH_LENGTH = -100;
+
     public JSOFAIllegalParameter(String message, int status) {
         super(message, status);
     }
 
+    /**
+     * @param message     description of the problem
+     * @param status      original JSOFA status value
+     * @param stackTrace  whether to capture the stack trace
+     * @see JSOFAException#JSOFAException(String, int, boolean)
+     */
+    public JSOFAIllegalParameter(String message, int status, boolean stackTrace) {
+        super(message, status, stackTrace);
+    }
+
 }
 
 
@@ -27,6 +27,16 @@ public class JSOFAInternalError extends JSOFAException {
         super(message, status);
     }
 
+    /**
+     * @param message     description of the problem
+     * @param status      original JSOFA status value
+     * @param stackTrace  whether to capture the stack trace
+     * @see JSOFAException#JSOFAException(String, int, boolean)
+     */
+    public JSOFAInternalError(String message, int status, boolean stackTrace) {
+        super(message, status, stackTrace);
+    }
+
 }
 
 
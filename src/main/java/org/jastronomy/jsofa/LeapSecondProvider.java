@@ -0,0 +1,35 @@
+/*
+ * $Id$
+ *
+ * Created on 16 Oct 2026
+ *
+ * This software is published under the terms of the
+ * software license which has been included
+ * with this distribution in the LICENSE.txt file.
+ *
+ */
+
+package org.jastronomy.jsofa;
+
+/**
+ * A source of the leap second table used by {@link JSOFA#jauDat} and hence
+ * by all the routines that work with UTC.
+ *
+ * The provider is consulted on every call, so implementations must be cheap
+ * and safe to call from many threads; typically they return a table held in
+ * a final or volatile field. A {@link LeapSecondTable} is itself a provider
+ * that always returns itself.
+ *
+ * @see JSOFA#setLeapSecondProvider(LeapSecondProvider)
+ */
+public interface LeapSecondProvider {
+
+    /**
+     * @return the leap second table currently in force, never null.
+     */
+    LeapSecondTable getLeapSecondTable();
+}
+
+/*
+ * $Log$
+ */
@@ -0,0 +1,382 @@
+/*
+ * $Id$
+ *
+ * Created on 16 Oct 2026
+ *
+ * This software is published under the terms of the
+ * software license which has been included
+ * with this distribution in the LICENSE.txt file.
+ *
+ */
+
+package org.jastronomy.jsofa;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An immutable table of the changes in Delta(AT) = TAI-UTC, indexed by the
+ * MJD at which each change takes effect.
+ *
+ * Each entry applies from 0h UTC on the first day of the given month until
+ * the next entry takes effect. The first few entries (before leap seconds
+ * were introduced at the end of 1971) may also carry a reference date and
+ * drift rate, in which case the value increases linearly with time as in
+ * the tai-utc.dat expressions.
+ *
+ * Lookup is by binary search, with a constant-time path for dates after the
+ * last change, which is the usual case. Instances are safe to share between
+ * threads.
+ *
+ * Tables can be read from the USNO tai-utc.dat and IERS Leap_Second.dat
+ * files, and installed with {@link JSOFA#setLeapSecondProvider} so that a
+ * running application picks up newly announced leap seconds.
+ *
+ * Since leap seconds are announced only months ahead, each table also has
+ * an expiry date, from which jauDat reports dates as dubious. This is the
+ * expiry declared by the Leap_Second.dat file if there is one, otherwise
+ * the start of the sixth year after the last change, matching the SOFA
+ * rule of five years after the release year.
+ *
+ * @see JSOFA#jauDat
+ */
+@ThreadSafe
+public final class LeapSecondTable implements LeapSecondProvider {
+
+    /** year of each change */
+    private final int year[];
+    /** month of each change */
+    private final int month[];
+    /** MJD of 0h UTC on the first day of the month of each change */
+    private final double mjd[];
+    /** Delta(AT) (s) at each change (the constant part for drifting entries) */
+    private final double delat[];
+    /** reference dates (MJD) for the drifting entries */
+    private final double driftMjd[];
+    /** drift rates (s/day) for the drifting entries */
+    private final double driftRate[];
+    /** MJD from which the table is not known to be complete */
+    private final double expiry;
+
+    /**
+     * Create a table.
+     * @param year   int[n]    year of each change, in date order
+     * @param month  int[n]    month of each change
+     * @param delat  double[n] Delta(AT) (s) from the start of that month
+     * @param drift  double[m][2] reference date (MJD) and drift rate (s/day)
+     *                 for each of the first m entries, m &le; n (may be empty)
+     * @throws JSOFAIllegalParameter if the arrays are inconsistent, an entry
+     *                 has a bad month or the dates are not in order.
+     */
+    public LeapSecondTable(int year[], int month[], double delat[], double drift[][]) throws JSOFAIllegalParameter {
+        this(year, month, delat, drift, Double.NaN);
+    }
+
+    /**
+     * Create a table with a declared expiry date.
+     * @param year   int[n]    year of each change, in date order
+     * @param month  int[n]    month of each change
+     * @param delat  double[n] Delta(AT) (s) from the start of that month
+     * @param drift  double[m][2] reference date (MJD) and drift rate (s/day)
+     *                 for each of the first m entries, m &le; n (may be empty)
+     * @param expiry double    UTC date (MJD) from which the table is not known
+     *                 to be complete, or NaN for the start of the sixth year
+     *                 after the last change
+     * @throws JSOFAIllegalParameter if the arrays are inconsistent, an entry
+     *                 has a bad month or the dates are not in order.
+     */
+    public LeapSecondTable(int year[], int month[], double delat[], double drift[][], double expiry) throws JSOFAIllegalParameter {
+        final int n = year.length;
+        if (n == 0 || month.length != n || delat.length != n || drift.length > n)
+            throw new JSOFAIllegalParameter("inconsistent leap second table", -1);
+        this.year = year.clone();
+        this.month = month.clone();
+        this.delat = delat.clone();
+        mjd = new double[n];
+        for (int i = 0; i < n; i++) {
+            mjd[i] = JSOFA.jauCal2jd(year[i], month[i], 1).djm1;
+            if (i > 0 && mjd[i] <= mjd[i-1])
+                throw new JSOFAIllegalParameter("leap second table not in date order", -3);
+        }
+        driftMjd = new double[drift.length];
+        driftRate = new double[drift.length];
+        for (int i = 0; i < drift.length; i++) {
+            driftMjd[i] = drift[i][0];
+            driftRate[i] = drift[i][1];
+        }
+        this.expiry = Double.isNaN(expiry) ? JSOFA.jauCal2mjd(year[n-1] + 6, 1, 1) : expiry;
+    }
+
+    /**
+     * @return the number of entries in the table.
+     */
+    public int size() {
+        return mjd.length;
+    }
+
+    /**
+     * @param i  index of an entry
+     * @return the year in which the entry takes effect.
+     */
+    public int getYear(int i) {
+        return year[i];
+    }
+
+    /**
+     * @param i  index of an entry
+     * @return the month in which the entry takes effect.
+     */
+    public int getMonth(int i) {
+        return month[i];
+    }
+
+    /**
+     * @param i  index of an entry
+     * @return the MJD at which the entry takes effect.
+     */
+    public double getMJD(int i) {
+        return mjd[i];
+    }
+
+    /**
+     * @return the year of the first entry, before which UTC is not defined.
+     */
+    public int getFirstYear() {
+        return year[0];
+    }
+
+    /**
+     * @return the MJD of the last change in the table.
+     */
+    public double getLastMJD() {
+        return mjd[mjd.length-1];
+    }
+
+    /**
+     * @return the MJD from which the table is not known to be complete, and
+     *         so from which jauDat reports dates as dubious.
+     */
+    public double getExpiryMJD() {
+        return expiry;
+    }
+
+    /**
+     * Find the entry in force at a given UTC date.
+     * @param mjd  UTC date as an MJD
+     * @return the index of the last entry taking effect on or before the
+     *         date, or -1 if the date precedes the table.
+     */
+    public int indexOf(double mjd) {
+        final double t[] = this.mjd;
+        final int last = t.length - 1;
+
+    /* Most dates are after the latest change. */
+        if (mjd >= t[last]) return last;
+        if (mjd < t[0]) return -1;
+
+    /* Otherwise binary search for the preceding entry. */
+        int lo = 0, hi = last - 1;
+        while (lo < hi) {
+            final int mid = (lo + hi + 1) >>> 1;
+            if (mjd >= t[mid]) {
+                lo = mid;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * Delta(AT) from a given entry of the table.
+     * @param i    index of the entry, as returned by {@link #indexOf}
+     * @param mjd  UTC date as an MJD, including the fraction of the day,
+     *             used only for the pre-1972 drifting entries
+     * @return TAI minus UTC, seconds
+     */
+    public double deltaAT(int i, double mjd) {
+        double da = delat[i];
+        if (i < driftMjd.length) da += (mjd - driftMjd[i]) * driftRate[i];
+        return da;
+    }
+
+    /**
+     * Delta(AT) at a given UTC date.
+     * @param mjd  UTC date as an MJD, including the fraction of the day
+     * @return TAI minus UTC, seconds, or zero if the date precedes the table
+     */
+    public double deltaAT(double mjd) {
+        final int i = indexOf(mjd);
+        return i < 0 ? 0.0 : deltaAT(i, mjd);
+    }
+
+    /**
+     * @return this table.
+     */
+    @Override
+    public LeapSecondTable getLeapSecondTable() {
+        return this;
+    }
+
+    /** three letter month names used by tai-utc.dat */
+    private static final String MONTHS = "JANFEBMARAPRMAYJUNJULAUGSEPOCTNOVDEC";
+
+    /**
+     * Read a table in the format of the USNO tai-utc.dat file,
+     * ftp://maia.usno.navy.mil/ser7/tai-utc.dat, for example
+     * <pre>
+     * 1961 JAN  1 =JD 2437300.5  TAI-UTC=   1.4228180 S + (MJD - 37300.) X 0.001296 S
+     * 1972 JAN  1 =JD 2441317.5  TAI-UTC=  10.0       S + (MJD - 41317.) X 0.0      S
+     * </pre>
+     * Entries with a non-zero drift rate keep their reference date and rate.
+     * Blank lines are ignored. Note that the file starts at 1961 January 1,
+     * so dates in 1960 precede the resulting table.
+     * @param in  source of the file contents; not closed by this method.
+     * @return the table.
+     * @throws IOException if the source cannot be read or a line is malformed.
+     * @throws JSOFAIllegalParameter if the entries are not in date order.
+     */
+    public static LeapSecondTable readTaiUtc(Reader in) throws IOException, JSOFAIllegalParameter {
+        final List<double[]> rows = new ArrayList<double[]>();
+        final BufferedReader r = new BufferedReader(in);
+        String line;
+        int nline = 0, ndrift = 0;
+        while ((line = r.readLine()) != null) {
+            nline++;
+            if (line.trim().isEmpty()) continue;
+            final String f[] = line.replace("=JD", " ").replace("TAI-UTC=", " ")
+                    .replace("(MJD", " ").replace(")", " ").trim().split("\\s+");
+            // year month day jd delat S + - refmjd X rate S
+            try {
+                final int k = MONTHS.indexOf(f[1].toUpperCase());
+                if (f[1].length() != 3 || k < 0 || k % 3 != 0)
+                    throw new IOException("tai-utc.dat line " + nline + ": unknown month " + f[1]);
+                final int im = k / 3 + 1;
+                if (Integer.parseInt(f[2]) != 1)
+                    throw new IOException("tai-utc.dat line " + nline + ": change not at the start of a month");
+                final double rate = Double.parseDouble(f[10]);
+                rows.add(new double[] { Integer.parseInt(f[0]), im, Double.parseDouble(f[4]),
+                        Double.parseDouble(f[8]), rate });
+                if (rate != 0.0) ndrift = rows.size();
+            } catch (NumberFormatException e) {
+                throw new IOException("tai-utc.dat line " + nline + ": malformed entry", e);
+            } catch (ArrayIndexOutOfBoundsException e) {
+                throw new IOException("tai-utc.dat line " + nline + ": malformed entry", e);
+            }
+        }
+        return fromRows(rows, ndrift, Double.NaN);
+    }
+
+    /**
+     * Read a table in the format of the IERS Leap_Second.dat file,
+     * https://hpiers.obspm.fr/iers/bul/bulc/Leap_Second.dat, for example
+     * <pre>
+     * #    MJD        Date        TAI-UTC (s)
+     * #           day month year
+     *     41317.0    1  1 1972       10
+     *     41499.0    1  7 1972       11
+     * </pre>
+     * Blank lines and lines starting with # are ignored, except for the
+     * "File expires on" comment, which gives the expiry date of the table.
+     * The file starts in 1972, so the earlier entries of the base table (the
+     * period before leap seconds were introduced) are carried over into the
+     * result.
+     * @param in    source of the file contents; not closed by this method.
+     * @param base  table to take the entries preceding the file from, for
+     *              example {@link JSOFA#BUILTIN_LEAP_SECONDS}; may be null.
+     * @return the table.
+     * @throws IOException if the source cannot be read or a line is malformed.
+     * @throws JSOFAIllegalParameter if the entries are not in date order.
+     */
+    public static LeapSecondTable readLeapSecondDat(Reader in, LeapSecondTable base) throws IOException, JSOFAIllegalParameter {
+        final List<double[]> rows = new ArrayList<double[]>();
+        final BufferedReader r = new BufferedReader(in);
+        String line;
+        int nline = 0;
+        double expiry = Double.NaN;
+        while ((line = r.readLine()) != null) {
+            nline++;
+            line = line.trim();
+            if (line.startsWith("#")) {
+                final int k = line.indexOf(EXPIRES);
+                if (k >= 0) expiry = expiry(line.substring(k + EXPIRES.length()), nline);
+                continue;
+            }
+            if (line.isEmpty()) continue;
+            final String f[] = line.split("\\s+");
+            // mjd day month year delat
+            try {
+                if (Integer.parseInt(f[1]) != 1)
+                    throw new IOException("Leap_Second.dat line " + nline + ": change not at the start of a month");
+                rows.add(new double[] { Integer.parseInt(f[3]), Integer.parseInt(f[2]), Double.parseDouble(f[4]), 0.0, 0.0 });
+            } catch (NumberFormatException e) {
+                throw new IOException("Leap_Second.dat line " + nline + ": malformed entry", e);
+            } catch (ArrayIndexOutOfBoundsException e) {
+                throw new IOException("Leap_Second.dat line " + nline + ": malformed entry", e);
+            }
+        }
+        int ndrift = 0;
+        if (base != null && !rows.isEmpty()) {
+            final double first = JSOFA.jauCal2jd((int)rows.get(0)[0], (int)rows.get(0)[1], 1).djm1;
+            final List<double[]> earlier = new ArrayList<double[]>();
+            for (int i = 0; i < base.size() && base.mjd[i] < first; i++) {
+                final boolean drifting = i < base.driftMjd.length;
+                earlier.add(new double[] { base.year[i], base.month[i], base.delat[i],
+                        drifting ? base.driftMjd[i] : 0.0, drifting ? base.driftRate[i] : 0.0 });
+                if (drifting) ndrift = i + 1;
+            }
+            rows.addAll(0, earlier);
+        }
+        return fromRows(rows, ndrift, expiry);
+    }
+
+    /** the comment giving the expiry date in Leap_Second.dat */
+    private static final String EXPIRES = "File expires on";
+
+    /**
+     * The MJD of an expiry date such as "28 June 2026".
+     */
+    private static double expiry(String date, int nline) throws IOException {
+        final String f[] = date.trim().split("\\s+");
+        try {
+            final int k = f[1].length() < 3 ? -1 : MONTHS.indexOf(f[1].substring(0, 3).toUpperCase());
+            if (k < 0 || k % 3 != 0)
+                throw new IOException("Leap_Second.dat line " + nline + ": unknown month " + f[1]);
+            return JSOFA.jauCal2mjd(Integer.parseInt(f[2]), k / 3 + 1, Integer.parseInt(f[0]));
+        } catch (NumberFormatException e) {
+            throw new IOException("Leap_Second.dat line " + nline + ": malformed expiry date", e);
+        } catch (ArrayIndexOutOfBoundsException e) {
+            throw new IOException("Leap_Second.dat line " + nline + ": malformed expiry date", e);
+        } catch (JSOFAIllegalParameter e) {
+            throw new IOException("Leap_Second.dat line " + nline + ": malformed expiry date", e);
+        }
+    }
+
+    /**
+     * Build a table from rows of year, month, Delta(AT), reference MJD and
+     * drift rate, the first ndrift of which keep their drift.
+     */
+    private static LeapSecondTable fromRows(List<double[]> rows, int ndrift, double expiry) throws JSOFAIllegalParameter {
+        final int n = rows.size();
+        final int year[] = new int[n], month[] = new int[n];
+        final double delat[] = new double[n], drift[][] = new double[ndrift][2];
+        for (int i = 0; i < n; i++) {
+            final double row[] = rows.get(i);
+            year[i] = (int)row[0];
+            month[i] = (int)row[1];
+            delat[i] = row[2];
+            if (i < ndrift) {
+                drift[i][0] = row[3];
+                drift[i][1] = row[4];
+            }
+        }
+        return new LeapSecondTable(year, month, delat, drift, expiry);
+    }
+}
+
+/*
+ * $Log$
+ */
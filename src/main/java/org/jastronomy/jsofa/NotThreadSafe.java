@@ -0,0 +1,36 @@
+/*
+ * $Id$
+ *
+ * Created on 16 Oct 2026
+ *
+ * This software is published under the terms of the
+ * software license which has been included
+ * with this distribution in the LICENSE.txt file.
+ *
+ */
+
+package org.jastronomy.jsofa;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Instances of the annotated class are mutable and are not synchronized.
+ * An instance may be read by several threads at once, once it has been
+ * safely published, but must not be modified by one thread while any other
+ * is using it; otherwise use one instance per thread.
+ *
+ * @see ThreadSafe
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface NotThreadSafe {
+}
+
+/*
+ * $Log$
+ */
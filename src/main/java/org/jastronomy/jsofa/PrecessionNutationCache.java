@@ -0,0 +1,288 @@
+/*
+ * $Id$
+ *
+ * Created on 16 Oct 2026
+ *
+ * This software is published under the terms of the
+ * software license which has been included
+ * with this distribution in the LICENSE.txt file.
+ *
+ */
+
+package org.jastronomy.jsofa;
+
+import static java.lang.StrictMath.*;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.jastronomy.jsofa.JSOFA.PrecessionNutation;
+
+/**
+ * The IAU 2006/2000A precession-nutation matrices, cached by TT date so
+ * that parts of a program working at the same epoch share one evaluation
+ * of the models.
+ *
+ * TT is quantized to a multiple of a fixed interval from J2000.0, and each
+ * matrix is computed once for the quantized date, by the JSOFA routine of
+ * the same name, and then reused for every date that rounds to it. The
+ * matrices are held in a fixed number of slots chosen by the quantized
+ * date, a later date displacing an earlier one from its slot, so the
+ * memory used is bounded. Lookups take no locks.
+ *
+ * With the default interval of one second the matrices differ from those
+ * for the exact date by less than 1e-11 (2 microarcseconds) in any element
+ * over 1900-2100; with an interval of 1e-6 day, by less than 1e-12.
+ *
+ * The cached matrices are never handed out: every call returns a new copy,
+ * which the caller may change freely. The numbers of hits and misses are
+ * counted, to help choose the interval and the number of slots.
+ *
+ * @see JSOFA#jauPnm06a
+ * @see JSOFA#jauPn06a
+ */
+@ThreadSafe
+public final class PrecessionNutationCache {
+
+    /** default quantization interval (days) */
+    public static final double DEFAULT_QUANTUM = 1.0 / JSOFA.DAYSEC;
+    /** default number of slots */
+    public static final int DEFAULT_SLOTS = 64;
+
+    /** quantization interval (days) */
+    private final double quantum;
+    /** the matrices for each slot */
+    private final AtomicReferenceArray<Entry> slots;
+    /** number of calls answered from the cache, and computed afresh */
+    private final AtomicLong hits = new AtomicLong(), misses = new AtomicLong();
+
+    /**
+     * The matrices for one quantized date, each computed when first asked
+     * for. Once set a matrix is never changed.
+     */
+    private static final class Entry {
+        /** quantized date, in intervals from J2000.0 */
+        final long k;
+        /** jauPnm06a */
+        volatile double pnm[][];
+        /** jauPmat06 */
+        volatile double pmat[][];
+        /** jauC2i06a */
+        volatile double c2i[][];
+        /** jauBp06:  rb, rp and rbp */
+        volatile double bp[][][];
+        /** jauPn06a */
+        volatile PrecessionNutation pn;
+
+        Entry(long k) {
+            this.k = k;
+        }
+    }
+
+    /**
+     * Create a cache with the default interval and number of slots.
+     */
+    public PrecessionNutationCache() {
+        this(DEFAULT_QUANTUM, DEFAULT_SLOTS);
+    }
+
+    /**
+     * Create a cache.
+     * @param quantum  double  quantization interval for TT (days)
+     * @param nslots   int     number of slots
+     * @throws IllegalArgumentException if either argument is not positive.
+     */
+    public PrecessionNutationCache(double quantum, int nslots) {
+        if (!(quantum > 0.0) || nslots < 1)
+            throw new IllegalArgumentException("bad precession-nutation cache parameters");
+        this.quantum = quantum;
+        slots = new AtomicReferenceArray<Entry>(nslots);
+    }
+
+    /**
+     * Bias-precession-nutation matrix, as {@link JSOFA#jauPnm06a}.
+     *
+     *<!-- Given: -->
+     * @param date1,date2  double  TT as a 2-part Julian Date
+     *
+     * @return double[3][3]  bias-precession-nutation matrix
+     */
+    public double[][] pnm06a(double date1, double date2) {
+        final Entry e = entry(date1, date2);
+        double r[][] = e.pnm;
+        if (r == null) {
+            misses.incrementAndGet();
+            r = JSOFA.jauPnm06a(JSOFA.DJ00, e.k * quantum);
+            e.pnm = r;
+        } else {
+            hits.incrementAndGet();
+        }
+        return copy(r);
+    }
+
+    /**
+     * Bias-precession matrix, as {@link JSOFA#jauPmat06}.
+     *
+     *<!-- Given: -->
+     * @param date1,date2  double  TT as a 2-part Julian Date
+     *
+     * @return double[3][3]  bias-precession matrix
+     */
+    public double[][] pmat06(double date1, double date2) {
+        final Entry e = entry(date1, date2);
+        double r[][] = e.pmat;
+        if (r == null) {
+            misses.incrementAndGet();
+            r = JSOFA.jauPmat06(JSOFA.DJ00, e.k * quantum);
+            e.pmat = r;
+        } else {
+            hits.incrementAndGet();
+        }
+        return copy(r);
+    }
+
+    /**
+     * Frame bias and precession matrices, as {@link JSOFA#jauBp06}.
+     *
+     *<!-- Given: -->
+     * @param date1,date2  double        TT as a 2-part Julian Date
+     *
+     *<!-- Returned: -->
+     * @param rb           double[3][3]  <u>returned</u> frame bias matrix
+     * @param rp           double[3][3]  <u>returned</u> precession matrix
+     * @param rbp          double[3][3]  <u>returned</u> bias-precession matrix
+     */
+    public void bp06(double date1, double date2, double rb[][], double rp[][], double rbp[][]) {
+        final Entry e = entry(date1, date2);
+        double r[][][] = e.bp;
+        if (r == null) {
+            misses.incrementAndGet();
+            r = new double[3][3][3];
+            JSOFA.jauBp06(JSOFA.DJ00, e.k * quantum, r[0], r[1], r[2]);
+            e.bp = r;
+        } else {
+            hits.incrementAndGet();
+        }
+        JSOFA.jauCr(r[0], rb);
+        JSOFA.jauCr(r[1], rp);
+        JSOFA.jauCr(r[2], rbp);
+    }
+
+    /**
+     * Precession-nutation quantities, as {@link JSOFA#jauPn06a}.
+     *
+     *<!-- Given: -->
+     * @param date1,date2  double  TT as a 2-part Julian Date
+     *
+     * @return PrecessionNutation  nutation, mean obliquity and matrices
+     */
+    public PrecessionNutation pn06a(double date1, double date2) {
+        final Entry e = entry(date1, date2);
+        PrecessionNutation pn = e.pn;
+        if (pn == null) {
+            misses.incrementAndGet();
+            pn = JSOFA.jauPn06a(JSOFA.DJ00, e.k * quantum);
+            e.pn = pn;
+        } else {
+            hits.incrementAndGet();
+        }
+        return new PrecessionNutation(pn.nut.dpsi, pn.nut.deps, pn.epsa,
+                copy(pn.rb), copy(pn.rp), copy(pn.rbp), copy(pn.rn), copy(pn.rbpn));
+    }
+
+    /**
+     * Celestial-to-intermediate matrix, as {@link JSOFA#jauC2i06a}.
+     *
+     *<!-- Given: -->
+     * @param date1,date2  double  TT as a 2-part Julian Date
+     *
+     * @return double[3][3]  celestial-to-intermediate matrix
+     */
+    public double[][] c2i06a(double date1, double date2) {
+        final Entry e = entry(date1, date2);
+        double r[][] = e.c2i;
+        if (r == null) {
+            misses.incrementAndGet();
+            r = JSOFA.jauC2i06a(JSOFA.DJ00, e.k * quantum);
+            e.c2i = r;
+        } else {
+            hits.incrementAndGet();
+        }
+        return copy(r);
+    }
+
+    /**
+     * Celestial-to-terrestrial matrix, as {@link JSOFA#jauC2t06a}, with the
+     * celestial-to-intermediate matrix from the cache.  The Earth rotation
+     * angle and s' are for the exact dates given.
+     *
+     *<!-- Given: -->
+     * @param tta,ttb  double  TT as a 2-part Julian Date
+     * @param uta,utb  double  UT1 as a 2-part Julian Date
+     * @param xp,yp    double  coordinates of the pole (radians)
+     *
+     * @return double[3][3]  celestial-to-terrestrial matrix
+     */
+    public double[][] c2t06a(double tta, double ttb, double uta, double utb,
+                             double xp, double yp) {
+        final double rc2i[][] = c2i06a(tta, ttb);
+        final double era = JSOFA.jauEra00(uta, utb);
+        final double sp = JSOFA.jauSp00(tta, ttb);
+        final double rpom[][] = JSOFA.jauPom00(xp, yp, sp);
+        return JSOFA.jauC2tcio(rc2i, era, rpom);
+    }
+
+    /**
+     * @return the number of calls answered from the cache.
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * @return the number of calls for which a matrix was computed.
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * Discard all the matrices and reset the counters.
+     */
+    public void clear() {
+        for (int i = 0; i < slots.length(); i++) {
+            slots.set(i, null);
+        }
+        hits.set(0);
+        misses.set(0);
+    }
+
+    /**
+     * Find the slot entry for a date, replacing the entry for another date
+     * if need be.
+     */
+    private Entry entry(double date1, double date2) {
+        final long k = (long) rint(((date1 - JSOFA.DJ00) + date2) / quantum);
+        final int n = slots.length();
+        final int i = (int) (((k % n) + n) % n);
+        Entry e = slots.get(i);
+        if (e == null || e.k != k) {
+            e = new Entry(k);
+            slots.set(i, e);
+        }
+        return e;
+    }
+
+    /**
+     * @return a copy of an r-matrix.
+     */
+    private static double[][] copy(double r[][]) {
+        final double c[][] = new double[3][3];
+        JSOFA.jauCr(r, c);
+        return c;
+    }
+}
+
+/*
+ * $Log$
+ */
@@ -0,0 +1,39 @@
+/*
+ * $Id$
+ *
+ * Created on 16 Oct 2026
+ *
+ * This software is published under the terms of the
+ * software license which has been included
+ * with this distribution in the LICENSE.txt file.
+ *
+ */
+
+package org.jastronomy.jsofa;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The annotated class may be used from many threads at once without
+ * external synchronization: its static methods, and the methods of a
+ * shared instance, give the same results as if the calls were made one
+ * after the other.
+ *
+ * Any cache or other mutable state added to such a class must keep this
+ * promise, for example by holding it per thread or behind a lock.
+ *
+ * @see NotThreadSafe
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface ThreadSafe {
+}
+
+/*
+ * $Log$
+ */
@@ -0,0 +1,37 @@
+/*
+ * $Id$
+ *
+ * Created on 16 Oct 2026
+ *
+ * This software is published under the terms of the
+ * software license which has been included
+ * with this distribution in the LICENSE.txt file.
+ *
+ */
+
+package org.jastronomy.jsofa;
+
+/**
+ * The time scales between which JSOFA converts, for use with
+ * {@link TimeScaleConversion}.
+ */
+public enum TimeScale {
+    /** International Atomic Time */
+    TAI,
+    /** Barycentric Coordinate Time */
+    TCB,
+    /** Geocentric Coordinate Time */
+    TCG,
+    /** Barycentric Dynamical Time */
+    TDB,
+    /** Terrestrial Time */
+    TT,
+    /** Universal Time */
+    UT1,
+    /** Coordinated Universal Time, as a quasi Julian Date (see {@link JSOFA#jauUtctai}) */
+    UTC
+}
+
+/*
+ * $Log$
+ */
@@ -0,0 +1,506 @@
+/*
+ * $Id$
+ *
+ * Created on 16 Oct 2026
+ *
+ * This software is published under the terms of the
+ * software license which has been included
+ * with this distribution in the LICENSE.txt file.
+ *
+ */
+
+package org.jastronomy.jsofa;
+
+import static java.lang.StrictMath.*;
+
+import org.jastronomy.jsofa.JSOFA.JulianDate;
+
+/**
+ * The time scale transformations, and the conversions between Julian Date
+ * and the Gregorian calendar, applied to many dates at once.
+ *
+ * The dates are given as two parallel arrays holding the two parts of each
+ * Julian Date, and the results are written into two arrays supplied by the
+ * caller, which may be the input arrays themselves to convert in place.
+ * Nothing is allocated per date, and the results are the same as those of
+ * the JSOFA function of the same name, date by date.
+ *
+ * The transformations from UTC look up Delta(AT) for today and tomorrow
+ * (to detect a leap second at the end of the day) only when the calendar
+ * day changes from one date to the next, so runs of dates on the same day,
+ * as from a detector, share one lookup. The leap second table in force at
+ * the start of each such run is used for the whole run.
+ *
+ * The calendar conversions take and return the year, month and day in
+ * separate int arrays, so that log and header processing can convert
+ * dates in bulk without a Calendar or JulianDate object for each.
+ *
+ * @see JSOFA#jauUtctai
+ * @see JSOFA#jauTaitt
+ */
+@ThreadSafe
+public final class TimeScaleBatch {
+
+    private TimeScaleBatch() {
+    }
+
+    /**
+     * TAI to TT for many dates, as {@link JSOFA#jauTaitt}.
+     *
+     *<!-- Given: -->
+     * @param tai1,tai2  double[n]  TAI as 2-part Julian Dates
+     *
+     *<!-- Returned: -->
+     * @param tt1,tt2    double[n]  <u>returned</u> TT as 2-part Julian Dates
+     * @throws JSOFAIllegalParameter  the arrays are not all the same length.
+     */
+    public static void taitt(double tai1[], double tai2[], double tt1[], double tt2[]) throws JSOFAIllegalParameter {
+        check(tai1.length, tai2, tt1, tt2);
+        final double dtat = JSOFA.TTMTAI / JSOFA.DAYSEC;
+        for (int i = 0; i < tai1.length; i++) {
+            final double a = tai1[i], b = tai2[i];
+            if (a > b) {
+                tt1[i] = a;
+                tt2[i] = b + dtat;
+            } else {
+                tt1[i] = a + dtat;
+                tt2[i] = b;
+            }
+        }
+    }
+
+    /**
+     * TT to TDB for many dates, as {@link JSOFA#jauTttdb}.
+     *
+     *<!-- Given: -->
+     * @param tt1,tt2    double[n]  TT as 2-part Julian Dates
+     * @param dtr        double[n]  TDB-TT in seconds
+     *
+     *<!-- Returned: -->
+     * @param tdb1,tdb2  double[n]  <u>returned</u> TDB as 2-part Julian Dates
+     * @throws JSOFAIllegalParameter  the arrays are not all the same length.
+     */
+    public static void tttdb(double tt1[], double tt2[], double dtr[], double tdb1[], double tdb2[]) throws JSOFAIllegalParameter {
+        check(tt1.length, tt2, dtr, tdb1, tdb2);
+        shift(tt1, tt2, dtr, tdb1, tdb2);
+    }
+
+    /**
+     * TAI to UT1 for many dates, as {@link JSOFA#jauTaiut1}.
+     *
+     *<!-- Given: -->
+     * @param tai1,tai2  double[n]  TAI as 2-part Julian Dates
+     * @param dta        double[n]  UT1-TAI in seconds
+     *
+     *<!-- Returned: -->
+     * @param ut11,ut12  double[n]  <u>returned</u> UT1 as 2-part Julian Dates
+     * @throws JSOFAIllegalParameter  the arrays are not all the same length.
+     */
+    public static void taiut1(double tai1[], double tai2[], double dta[], double ut11[], double ut12[]) throws JSOFAIllegalParameter {
+        check(tai1.length, tai2, dta, ut11, ut12);
+        shift(tai1, tai2, dta, ut11, ut12);
+    }
+
+    /**
+     * TDB to TCB for many dates, as {@link JSOFA#jauTdbtcb}.
+     *
+     *<!-- Given: -->
+     * @param tdb1,tdb2  double[n]  TDB as 2-part Julian Dates
+     *
+     *<!-- Returned: -->
+     * @param tcb1,tcb2  double[n]  <u>returned</u> TCB as 2-part Julian Dates
+     * @throws JSOFAIllegalParameter  the arrays are not all the same length.
+     */
+    public static void tdbtcb(double tdb1[], double tdb2[], double tcb1[], double tcb2[]) throws JSOFAIllegalParameter {
+        check(tdb1.length, tdb2, tcb1, tcb2);
+        final double t77td = JSOFA.DJM0 + JSOFA.DJM77;
+        final double t77tf = JSOFA.TTMTAI / JSOFA.DAYSEC;
+        final double tdb0 = JSOFA.TDB0 / JSOFA.DAYSEC;
+        final double elbb = JSOFA.ELB / (1.0 - JSOFA.ELB);
+        for (int i = 0; i < tdb1.length; i++) {
+            final double a = tdb1[i], b = tdb2[i];
+            double d, f;
+            if (a > b) {
+                d = t77td - a;
+                f = b - tdb0;
+                tcb1[i] = a;
+                tcb2[i] = f - (d - (f - t77tf)) * elbb;
+            } else {
+                d = t77td - b;
+                f = a - tdb0;
+                tcb1[i] = f + (d - (f - t77tf)) * elbb;
+                tcb2[i] = b;
+            }
+        }
+    }
+
+    /**
+     * TT to TCG for many dates, as {@link JSOFA#jauTttcg}.
+     *
+     *<!-- Given: -->
+     * @param tt1,tt2    double[n]  TT as 2-part Julian Dates
+     *
+     *<!-- Returned: -->
+     * @param tcg1,tcg2  double[n]  <u>returned</u> TCG as 2-part Julian Dates
+     * @throws JSOFAIllegalParameter  the arrays are not all the same length.
+     */
+    public static void tttcg(double tt1[], double tt2[], double tcg1[], double tcg2[]) throws JSOFAIllegalParameter {
+        check(tt1.length, tt2, tcg1, tcg2);
+        final double t77t = JSOFA.DJM77 + JSOFA.TTMTAI / JSOFA.DAYSEC;
+        final double elgg = JSOFA.ELG / (1.0 - JSOFA.ELG);
+        for (int i = 0; i < tt1.length; i++) {
+            final double a = tt1[i], b = tt2[i];
+            if (a > b) {
+                tcg1[i] = a;
+                tcg2[i] = b + ((a - JSOFA.DJM0) + (b - t77t)) * elgg;
+            } else {
+                tcg1[i] = a + ((b - JSOFA.DJM0) + (a - t77t)) * elgg;
+                tcg2[i] = b;
+            }
+        }
+    }
+
+    /**
+     * UTC to TAI for many dates, as {@link JSOFA#jauUtctai(double, double)}.
+     *
+     *<!-- Given: -->
+     * @param utc1,utc2  double[n]  UTC as 2-part quasi Julian Dates
+     *
+     *<!-- Returned: -->
+     * @param tai1,tai2  double[n]  <u>returned</u> TAI as 2-part Julian Dates
+     * @throws JSOFAIllegalParameter  an unacceptable date, or the arrays are
+     *                                not all the same length.
+     * @throws JSOFAInternalError     a date before UTC began.
+     */
+    public static void utctai(double utc1[], double utc2[], double tai1[], double tai2[]) throws JSOFAIllegalParameter, JSOFAInternalError {
+        check(utc1.length, utc2, tai1, tai2);
+        fromUtc(utc1, utc2, null, tai1, tai2, null);
+    }
+
+    /**
+     * UTC to TAI for many dates, reporting the status of each, as
+     * {@link JSOFA#jauUtctai(double, double, int[])}.
+     *
+     *<!-- Given: -->
+     * @param utc1,utc2  double[n]  UTC as 2-part quasi Julian Dates
+     *
+     *<!-- Returned: -->
+     * @param tai1,tai2  double[n]  <u>returned</u> TAI as 2-part Julian Dates,
+     *                              NaN where the date is unacceptable
+     * @param status     int[n]     <u>returned</u> status: +1 = dubious year,
+     *                              0 = OK, -1 = unacceptable date
+     * @return           int        the number of unacceptable dates
+     * @throws JSOFAIllegalParameter  the arrays are not all the same length.
+     */
+    public static int utctai(double utc1[], double utc2[], double tai1[], double tai2[], int status[]) throws JSOFAIllegalParameter {
+        check(utc1.length, utc2, tai1, tai2);
+        if (status.length != utc1.length)
+            throw new JSOFAIllegalParameter("batch arrays differ in length", JSOFAIllegalParameter.BATCH_LENGTH);
+        try {
+            return fromUtc(utc1, utc2, null, tai1, tai2, status);
+        } catch (JSOFAException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * UTC to UT1 for many dates, as {@link JSOFA#jauUtcut1(double, double, double)}.
+     *
+     *<!-- Given: -->
+     * @param utc1,utc2  double[n]  UTC as 2-part quasi Julian Dates
+     * @param dut1       double[n]  Delta UT1 = UT1-UTC in seconds
+     *
+     *<!-- Returned: -->
+     * @param ut11,ut12  double[n]  <u>returned</u> UT1 as 2-part Julian Dates
+     * @throws JSOFAIllegalParameter  an unacceptable date, or the arrays are
+     *                                not all the same length.
+     * @throws JSOFAInternalError     a date before UTC began.
+     */
+    public static void utcut1(double utc1[], double utc2[], double dut1[], double ut11[], double ut12[]) throws JSOFAIllegalParameter, JSOFAInternalError {
+        check(utc1.length, utc2, dut1, ut11, ut12);
+        fromUtc(utc1, utc2, dut1, ut11, ut12, null);
+    }
+
+    /**
+     * UTC to UT1 for many dates, reporting the status of each, as
+     * {@link JSOFA#jauUtcut1(double, double, double, int[])}.
+     *
+     *<!-- Given: -->
+     * @param utc1,utc2  double[n]  UTC as 2-part quasi Julian Dates
+     * @param dut1       double[n]  Delta UT1 = UT1-UTC in seconds
+     *
+     *<!-- Returned: -->
+     * @param ut11,ut12  double[n]  <u>returned</u> UT1 as 2-part Julian Dates,
+     *                              NaN where the date is unacceptable
+     * @param status     int[n]     <u>returned</u> status: +1 = dubious year,
+     *                              0 = OK, -1 = unacceptable date
+     * @return           int        the number of unacceptable dates
+     * @throws JSOFAIllegalParameter  the arrays are not all the same length.
+     */
+    public static int utcut1(double utc1[], double utc2[], double dut1[], double ut11[], double ut12[], int status[]) throws JSOFAIllegalParameter {
+        check(utc1.length, utc2, dut1, ut11, ut12);
+        if (status.length != utc1.length)
+            throw new JSOFAIllegalParameter("batch arrays differ in length", JSOFAIllegalParameter.BATCH_LENGTH);
+        try {
+            return fromUtc(utc1, utc2, dut1, ut11, ut12, status);
+        } catch (JSOFAException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Gregorian calendar to Modified Julian Date for many dates, as
+     * {@link JSOFA#jauCal2mjd}.
+     *
+     *<!-- Given: -->
+     * @param iy,im,id  int[n]     year, month, day in Gregorian calendar
+     *
+     *<!-- Returned: -->
+     * @param djm       double[n]  <u>returned</u> MJD for 0 hrs (the Julian Date
+     *                             is 2400000.5 + djm)
+     * @throws JSOFAIllegalParameter  a bad year or month, or the arrays are
+     *                                not all the same length.
+     */
+    public static void cal2jd(int iy[], int im[], int id[], double djm[]) throws JSOFAIllegalParameter {
+        if (im.length != iy.length || id.length != iy.length || djm.length != iy.length)
+            throw new JSOFAIllegalParameter("batch arrays differ in length", JSOFAIllegalParameter.BATCH_LENGTH);
+        for (int i = 0; i < iy.length; i++) {
+            djm[i] = JSOFA.jauCal2mjd(iy[i], im[i], id[i]);
+        }
+    }
+
+    /**
+     * Julian Date to Gregorian year, month, day and fraction of a day for
+     * many dates, as {@link JSOFA#jauJd2cal(double, double)}.
+     *
+     *<!-- Given: -->
+     * @param dj1,dj2   double[n]  Julian Dates
+     *
+     *<!-- Returned: -->
+     * @param iy,im,id  int[n]     <u>returned</u> year, month, day
+     * @param fd        double[n]  <u>returned</u> fraction of day
+     * @throws JSOFAIllegalParameter  an unacceptable date, or the arrays are
+     *                                not all the same length.
+     */
+    public static void jd2cal(double dj1[], double dj2[], int iy[], int im[], int id[], double fd[]) throws JSOFAIllegalParameter {
+        check(dj1.length, dj2, fd);
+        if (iy.length != dj1.length || im.length != dj1.length || id.length != dj1.length)
+            throw new JSOFAIllegalParameter("batch arrays differ in length", JSOFAIllegalParameter.BATCH_LENGTH);
+        final int ymd[] = new int[3];
+        for (int i = 0; i < dj1.length; i++) {
+            fd[i] = JSOFA.jauJd2cal(dj1[i], dj2[i], ymd);
+            iy[i] = ymd[0];
+            im[i] = ymd[1];
+            id[i] = ymd[2];
+        }
+    }
+
+    /**
+     * Add a number of seconds to each date, to the smaller part, as
+     * jauTttdb and jauTaiut1.
+     */
+    private static void shift(double d1[], double d2[], double ds[], double r1[], double r2[]) {
+        for (int i = 0; i < d1.length; i++) {
+            final double a = d1[i], b = d2[i], dd = ds[i] / JSOFA.DAYSEC;
+            if (a > b) {
+                r1[i] = a;
+                r2[i] = b + dd;
+            } else {
+                r1[i] = a + dd;
+                r2[i] = b;
+            }
+        }
+    }
+
+    /**
+     * UTC to TAI and, if dut1 is given, on to UT1.  Errors are thrown if
+     * status is null, otherwise reported there.
+     */
+    private static int fromUtc(double utc1[], double utc2[], double dut1[], double r1[], double r2[],
+            int status[]) throws JSOFAIllegalParameter, JSOFAInternalError {
+        final UtcDay day = new UtcDay(status != null);
+        final double tai[] = new double[2];
+        int bad = 0;
+
+        for (int i = 0; i < utc1.length; i++) {
+            try {
+                final int js = day.utctai(utc1[i], utc2[i], tai);
+                if (status != null) status[i] = js;
+            } catch (JSOFAException e) {
+                if (status == null) throw e;
+                status[i] = -1;
+                r1[i] = r2[i] = Double.NaN;
+                bad++;
+                continue;
+            }
+
+        /* UT1 if wanted, as jauUtcut1:  UT1-TAI from Delta(AT) at 0h. */
+            if (dut1 != null) {
+                final double dtad = (dut1[i] - day.dat0) / JSOFA.DAYSEC;
+                if (tai[0] > tai[1]) {
+                    tai[1] += dtad;
+                } else {
+                    tai[0] += dtad;
+                }
+            }
+            r1[i] = tai[0];
+            r2[i] = tai[1];
+        }
+        return bad;
+    }
+
+    /**
+     * UTC to TAI as {@link JSOFA#jauUtctai}, remembering the quantities for
+     * the last UTC calendar day so that they are looked up only once for a
+     * run of dates on the same day.
+     */
+    static final class UtcDay {
+        /** margin (days) either side of a UTC day boundary, wider than the
+         *  pre-1972 steps and drift that jauTaiutc treats approximately */
+        private static final double EDGE = 1e-5;
+        /** whether to report the status as the jauUtctai(..., int[]) form */
+        private final boolean report;
+        /** whether the quantities below are for a day */
+        private boolean have;
+        /** the day */
+        private int iy, im, id;
+        /** the day as a 2-part JD */
+        private double djm0, djm1;
+        /** the leap second table and the entry in force, or -1 if the
+         *  year precedes UTC (status +1, Delta(AT) zero) */
+        private LeapSecondTable table;
+        private int entry;
+        /** Delta(AT) at noon tomorrow */
+        private double datt;
+        /** status of the lookups */
+        private int status;
+        /** year, month, day of the date being converted */
+        private final int ymd[] = new int[3];
+        /** Delta(AT) at the start of the day of the last date converted */
+        double dat0;
+        /** TAI (MJD) at the start and end of the UTC day last found by
+         *  {@link #dat0(double, double)}, and Delta(AT) at its start */
+        private double taiStart = Double.NaN, taiEnd = Double.NaN, taiDat;
+
+        /**
+         * @param report  boolean  false to throw as jauUtctai(utc1, utc2),
+         *                         true to behave as jauUtctai(utc1, utc2, status)
+         */
+        UtcDay(boolean report) {
+            this.report = report;
+        }
+
+        /**
+         * UTC to TAI for one date.
+         * @param utca,utcb  double     UTC as a 2-part quasi Julian Date
+         * @param tai        double[2]  <u>returned</u> TAI as a 2-part Julian Date
+         * @return           int        status: +1 = dubious year, 0 = OK
+         * @throws JSOFAIllegalParameter  an unacceptable date.
+         * @throws JSOFAInternalError     a date before UTC began, if not reporting.
+         */
+        int utctai(double utca, double utcb, double tai[]) throws JSOFAIllegalParameter, JSOFAInternalError {
+
+        /* Put the two parts of the UTC into big-first order. */
+            final boolean big1 = utca >= utcb;
+            final double u1 = big1 ? utca : utcb, u2 = big1 ? utcb : utca;
+
+        /* Today's calendar date, and the day's quantities if it is new. */
+            double fd = JSOFA.jauJd2cal(u1, u2, ymd);
+            if (!have || ymd[2] != id || ymd[1] != im || ymd[0] != iy) {
+                have = false;
+                newDay(ymd[0], ymd[1], ymd[2], fd, u1, u2);
+                have = true;
+            }
+
+        /* Get TAI-UTC now. */
+            final double dats = entry < 0 ? 0.0 : table.deltaAT(entry, djm1 + fd);
+
+        /* If today ends in a leap second, scale the fraction into SI days. */
+            final double ddat = datt - dats;
+            if (abs(ddat) > 0.5) fd += fd * ddat / JSOFA.DAYSEC;
+
+        /* Assemble the TAI result, preserving the UTC split and order. */
+            double a2 = djm0 - u1;
+            a2 += djm1;
+            a2 += fd + dats / JSOFA.DAYSEC;
+            if (big1) {
+                tai[0] = u1;
+                tai[1] = a2;
+            } else {
+                tai[0] = a2;
+                tai[1] = u1;
+            }
+            return status;
+        }
+
+        /**
+         * Delta(AT) at the start of the UTC day in which a TAI date falls,
+         * as jauDat for the calendar date of jauTaiutc, looked up again
+         * only when the date leaves the day last found.  Within EDGE of
+         * either end of the day the full calculation is done, so that the
+         * result is always that of the JSOFA functions.
+         * @param taia,taib  double  TAI as a 2-part Julian Date
+         * @return           double  Delta(AT) at 0h UTC of that day, seconds
+         * @throws JSOFAIllegalParameter  an unacceptable date.
+         * @throws JSOFAInternalError     a date before UTC began, if not reporting.
+         */
+        double dat0(double taia, double taib) throws JSOFAIllegalParameter, JSOFAInternalError {
+            final double t = taia >= taib ? (taia - JSOFA.DJM0) + taib : (taib - JSOFA.DJM0) + taia;
+            if (!(t >= taiStart + EDGE && t < taiEnd - EDGE)) {
+                final int js[] = report ? new int[1] : null;
+                final JulianDate utc = JSOFA.jauTaiutc(taia, taib);
+                JSOFA.jauJd2cal(utc.djm0, utc.djm1, ymd);
+                final double dats = JSOFA.dat(ymd[0], ymd[1], ymd[2], 0.0, js);
+                final double djm = JSOFA.jauCal2mjd(ymd[0], ymd[1], ymd[2]);
+                JSOFA.jauJd2cal(JSOFA.DJM0, djm + 1.0, ymd);
+                final double datn = JSOFA.dat(ymd[0], ymd[1], ymd[2], 0.0, js);
+                taiStart = djm + dats / JSOFA.DAYSEC;
+                taiEnd = djm + 1.0 + datn / JSOFA.DAYSEC;
+                taiDat = dats;
+            }
+            return taiDat;
+        }
+
+        /**
+         * Look up the quantities for a new day, as jauUtctai and jauUtcut1
+         * do for every date.
+         */
+        private void newDay(int dy, int dm, int dd, double fd, double u1, double u2) throws JSOFAIllegalParameter, JSOFAInternalError {
+            final int js[] = report ? new int[1] : null;
+            table = JSOFA.getLeapSecondProvider().getLeapSecondTable();
+
+        /* Delta(AT) at the start of the day (also checks the date). */
+            dat0 = JSOFA.dat(dy, dm, dd, 0.0, js);
+
+        /* Delta(AT) tomorrow. */
+            final double fdt = JSOFA.jauJd2cal(u1 + 1.5, u2 - fd, ymd);
+            datt = JSOFA.dat(ymd[0], ymd[1], ymd[2], fdt, js);
+
+        /* Today's calendar date to 2-part JD. */
+            djm0 = JSOFA.DJM0;
+            djm1 = JSOFA.jauCal2mjd(dy, dm, dd);
+
+        /* The table entry, as jauDat. */
+            entry = table.indexOf(djm1 - (dd - 1));
+
+            iy = dy;
+            im = dm;
+            id = dd;
+            status = js == null ? 0 : js[0];
+        }
+    }
+
+    /**
+     * Check that all the arrays have the same length.
+     */
+    private static void check(int n, double[]... a) throws JSOFAIllegalParameter {
+        for (double x[] : a) {
+            if (x.length != n)
+                throw new JSOFAIllegalParameter("batch arrays differ in length", JSOFAIllegalParameter.BATCH_LENGTH);
+        }
+    }
+}
+
+/*
+ * $Log$
+ */
@@ -0,0 +1,483 @@
+/*
+ * $Id$
+ *
+ * Created on 16 Oct 2026
+ *
+ * This software is published under the terms of the
+ * software license which has been included
+ * with this distribution in the LICENSE.txt file.
+ *
+ */
+
+package org.jastronomy.jsofa;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.jastronomy.jsofa.JSOFA.JulianDate;
+
+/**
+ * A plan for converting dates from one time scale to another.
+ *
+ * A plan is made once, by {@link #plan}, for a pair of time scales: the
+ * shortest chain of the JSOFA transformations between them is found
+ *
+ * <pre>
+ *        UT1 --- TAI --- TT --- TDB --- TCB
+ *          \     /       |
+ *           UTC         TCG
+ * </pre>
+ *
+ * (UT1 is reached from UTC through TAI, and UTC from UT1 directly) and
+ * compiled into a short list of steps, which {@link #convert} then applies
+ * to each date with no further decisions. In compiling, steps that only
+ * add a number of seconds, such as TAI to TT and TT to TDB, are fused into
+ * a single addition; TDB-TT, from {@link JSOFA#jauDtdb}, is evaluated once
+ * per date however many steps need it; and Delta(AT) found in going from
+ * UTC to TAI is used again for UT1, as in {@link JSOFA#jauUtcut1}. The
+ * steps work on the two parts of the date directly. In the batch form,
+ * Delta(AT) is looked up once for each run of dates on the same UTC day,
+ * as in {@link TimeScaleBatch}, both from UTC and for UT1 from TAI; only
+ * TAI to UTC and UT1 to UTC still go through the JSOFA functions for
+ * every date.
+ *
+ * A conversion that is a single JSOFA transformation gives the same result
+ * as the JSOFA function, bit for bit. A chain of them gives the same result
+ * as calling the functions in turn within one or two units in the last
+ * place of the smaller part of the date, the fused additions rounding once
+ * where the functions round at each step. For a date split as JD and
+ * fraction that is about 2e-16 day (the unit in the last place of a
+ * fraction between 0.5 and 1 is 1.1e-16); for an MJD split (2400000.5 and
+ * about 5e4) it is about 7e-12 day, 0.6 microsecond.
+ *
+ * TDB-TT is for the geocenter unless a site is given to {@link #plan}.
+ * Conversions involving UT1 need UT1-UTC, and are called with it.
+ *
+ * Plans are immutable and safe to share between threads.
+ *
+ * @see TimeScaleBatch
+ */
+@ThreadSafe
+public final class TimeScaleConversion {
+
+    /* The kinds of step. */
+    /** UTC to TAI, as jauUtctai */
+    private static final int UTCTAI = 0;
+    /** TAI to UTC, as jauTaiutc */
+    private static final int TAIUTC = 1;
+    /** Delta(AT) for the UTC day of a TAI date, without changing the date */
+    private static final int DAT0 = 2;
+    /** UT1 to UTC, as jauUt1utc */
+    private static final int UT1UTC = 3;
+    /** add a number of seconds, as jauTaitt, jauTttdb, jauTaiut1 and their inverses */
+    private static final int SHIFT = 4;
+    /** TDB to TCB, as jauTdbtcb */
+    private static final int TDBTCB = 5;
+    /** TCB to TDB, as jauTcbtdb */
+    private static final int TCBTDB = 6;
+    /** TT to TCG, as jauTttcg */
+    private static final int TTTCG = 7;
+    /** TCG to TT, as jauTcgtt */
+    private static final int TCGTT = 8;
+
+    /** the time scales each can be converted to directly, by ordinal */
+    private static final TimeScale LINKS[][] = new TimeScale[TimeScale.values().length][];
+    static {
+        LINKS[TimeScale.TAI.ordinal()] = new TimeScale[] {TimeScale.TT, TimeScale.UTC, TimeScale.UT1};
+        LINKS[TimeScale.TCB.ordinal()] = new TimeScale[] {TimeScale.TDB};
+        LINKS[TimeScale.TCG.ordinal()] = new TimeScale[] {TimeScale.TT};
+        LINKS[TimeScale.TDB.ordinal()] = new TimeScale[] {TimeScale.TT, TimeScale.TCB};
+        LINKS[TimeScale.TT.ordinal()] = new TimeScale[] {TimeScale.TAI, TimeScale.TDB, TimeScale.TCG};
+        LINKS[TimeScale.UT1.ordinal()] = new TimeScale[] {TimeScale.UTC};
+        LINKS[TimeScale.UTC.ordinal()] = new TimeScale[] {TimeScale.TAI};
+    }
+
+    /** geocentric plans for every pair of time scales, by ordinal */
+    private static final TimeScaleConversion PLANS[][] = new TimeScaleConversion[LINKS.length][LINKS.length];
+    static {
+        for (TimeScale from : TimeScale.values()) {
+            for (TimeScale to : TimeScale.values()) {
+                PLANS[from.ordinal()][to.ordinal()] = new TimeScaleConversion(from, to, 0.0, 0.0, 0.0);
+            }
+        }
+    }
+
+    /**
+     * One step of a plan.
+     */
+    private static final class Step {
+        /** kind of step */
+        final int kind;
+        /** SHIFT:  constant seconds to add, and the part of it that comes
+         *  before the date at which TDB-TT is evaluated */
+        final double secs, before;
+        /** SHIFT:  the multiple (+1, -1 or 0) of TDB-TT to add */
+        final int dtr;
+        /** SHIFT:  whether to add UT1-TAI */
+        final boolean ut1;
+
+        Step(int kind) {
+            this(kind, 0.0, 0.0, 0, false);
+        }
+
+        Step(int kind, double secs, double before, int dtr, boolean ut1) {
+            this.kind = kind;
+            this.secs = secs;
+            this.before = before;
+            this.dtr = dtr;
+            this.ut1 = ut1;
+        }
+    }
+
+    /** source and target time scales */
+    private final TimeScale from, to;
+    /** the time scales passed through, from source to target */
+    private final TimeScale path[];
+    /** the steps */
+    private final Step steps[];
+    /** site for TDB-TT (Note 1 of jauDtdb) */
+    private final double elong, u, v;
+    /** whether UT1-UTC is needed */
+    private final boolean dut1;
+    /** whether Delta(AT) is needed, from UTC or for UT1 */
+    private final boolean leap;
+
+    /**
+     * Plan a conversion, with TDB-TT for the geocenter.
+     *
+     *<!-- Given: -->
+     * @param from  TimeScale  time scale of the dates given
+     * @param to    TimeScale  time scale of the dates returned
+     *
+     * @return TimeScaleConversion  the plan
+     */
+    public static TimeScaleConversion plan(TimeScale from, TimeScale to) {
+        return PLANS[from.ordinal()][to.ordinal()];
+    }
+
+    /**
+     * Plan a conversion, with TDB-TT for a site, as {@link JSOFA#jauDtdb}.
+     *
+     *<!-- Given: -->
+     * @param from   TimeScale  time scale of the dates given
+     * @param to     TimeScale  time scale of the dates returned
+     * @param elong  double     longitude (east positive, radians)
+     * @param u      double     distance from Earth spin axis (km)
+     * @param v      double     distance north of equatorial plane (km)
+     *
+     * @return TimeScaleConversion  the plan
+     */
+    public static TimeScaleConversion plan(TimeScale from, TimeScale to, double elong, double u, double v) {
+        return new TimeScaleConversion(from, to, elong, u, v);
+    }
+
+    private TimeScaleConversion(TimeScale from, TimeScale to, double elong, double u, double v) {
+        this.from = from;
+        this.to = to;
+        this.elong = elong;
+        this.u = u;
+        this.v = v;
+        path = route(from, to);
+
+    /* Compile the path into steps, fusing the additions. */
+        final List<Step> s = new ArrayList<Step>();
+        boolean dat0 = false, needDut1 = false;
+        for (int i = 1; i < path.length; i++) {
+            final TimeScale a = path[i - 1], b = path[i];
+            Step t;
+            if (a == TimeScale.UTC && b == TimeScale.TAI) {
+                t = new Step(UTCTAI);
+            } else if (a == TimeScale.TAI && b == TimeScale.UTC) {
+                t = new Step(TAIUTC);
+            } else if (a == TimeScale.UT1 && b == TimeScale.UTC) {
+                t = new Step(UT1UTC);
+                needDut1 = true;
+            } else if (a == TimeScale.TAI && b == TimeScale.UT1) {
+                if (!dat0) s.add(new Step(DAT0));
+                t = new Step(SHIFT, 0.0, 0.0, 0, true);
+                needDut1 = true;
+            } else if (a == TimeScale.TAI && b == TimeScale.TT) {
+                t = new Step(SHIFT, JSOFA.TTMTAI, JSOFA.TTMTAI, 0, false);
+            } else if (a == TimeScale.TT && b == TimeScale.TAI) {
+                t = new Step(SHIFT, -JSOFA.TTMTAI, -JSOFA.TTMTAI, 0, false);
+            } else if (a == TimeScale.TT && b == TimeScale.TDB) {
+                t = new Step(SHIFT, 0.0, 0.0, 1, false);
+            } else if (a == TimeScale.TDB && b == TimeScale.TT) {
+                t = new Step(SHIFT, 0.0, 0.0, -1, false);
+            } else if (a == TimeScale.TDB && b == TimeScale.TCB) {
+                t = new Step(TDBTCB);
+            } else if (a == TimeScale.TCB && b == TimeScale.TDB) {
+                t = new Step(TCBTDB);
+            } else if (a == TimeScale.TT && b == TimeScale.TCG) {
+                t = new Step(TTTCG);
+            } else {
+                t = new Step(TCGTT);
+            }
+            dat0 = t.kind == UTCTAI;
+
+        /* Two additions in a row become one.  TDB-TT is evaluated at the
+           date the unfused step would have seen. */
+            final Step p = s.isEmpty() ? null : s.get(s.size() - 1);
+            if (t.kind == SHIFT && p != null && p.kind == SHIFT && !p.ut1 && !t.ut1
+                    && (p.dtr == 0 || t.dtr == 0)) {
+                s.set(s.size() - 1, new Step(SHIFT, p.secs + t.secs,
+                        p.dtr != 0 ? p.before : p.secs + t.before,
+                        p.dtr + t.dtr, p.ut1 || t.ut1));
+            } else {
+                s.add(t);
+            }
+        }
+        steps = s.toArray(new Step[s.size()]);
+        dut1 = needDut1;
+        boolean l = false;
+        for (Step t : steps) l |= t.kind == UTCTAI || t.kind == DAT0;
+        leap = l;
+    }
+
+    /**
+     * @return the time scale of the dates given.
+     */
+    public TimeScale getSource() {
+        return from;
+    }
+
+    /**
+     * @return the time scale of the dates returned.
+     */
+    public TimeScale getTarget() {
+        return to;
+    }
+
+    /**
+     * @return the time scales passed through, from the source to the
+     *         target inclusive.
+     */
+    public TimeScale[] getPath() {
+        return path.clone();
+    }
+
+    /**
+     * @return whether the conversion needs UT1-UTC.
+     */
+    public boolean needsDut1() {
+        return dut1;
+    }
+
+    /**
+     * Convert a date.
+     *
+     *<!-- Given: -->
+     * @param d1,d2  double  date in the source time scale, as a 2-part Julian Date
+     *
+     * @return JulianDate  the date in the target time scale, as a 2-part
+     *                     Julian Date ordered as the one given
+     * @throws JSOFAIllegalParameter  an unacceptable date, or the conversion
+     *                                needs UT1-UTC.
+     * @throws JSOFAInternalError     a UTC before UTC began.
+     */
+    public JulianDate convert(double d1, double d2) throws JSOFAIllegalParameter, JSOFAInternalError {
+        if (dut1) throw new JSOFAIllegalParameter("UT1-UTC needed", -1);
+        return convert(d1, d2, 0.0);
+    }
+
+    /**
+     * Convert a date, with UT1-UTC.
+     *
+     *<!-- Given: -->
+     * @param d1,d2  double  date in the source time scale, as a 2-part Julian Date
+     * @param dut1   double  Delta UT1 = UT1-UTC in seconds (ignored if
+     *                       neither time scale is UT1)
+     *
+     * @return JulianDate  the date in the target time scale, as a 2-part
+     *                     Julian Date ordered as the one given
+     * @throws JSOFAIllegalParameter  an unacceptable date.
+     * @throws JSOFAInternalError     a UTC before UTC began.
+     */
+    public JulianDate convert(double d1, double d2, double dut1) throws JSOFAIllegalParameter, JSOFAInternalError {
+        final double r[] = {d1, d2};
+        run(r, dut1, leap ? new TimeScaleBatch.UtcDay(false) : null);
+        return new JulianDate(r[0], r[1]);
+    }
+
+    /**
+     * Convert many dates.  The results may be written over the dates given.
+     *
+     *<!-- Given: -->
+     * @param d1,d2  double[n]  dates in the source time scale, as 2-part Julian Dates
+     *
+     *<!-- Returned: -->
+     * @param r1,r2  double[n]  <u>returned</u> the dates in the target time scale
+     * @throws JSOFAIllegalParameter  an unacceptable date, the conversion
+     *                                needs UT1-UTC, or the arrays are not all
+     *                                the same length.
+     * @throws JSOFAInternalError     a UTC before UTC began.
+     */
+    public void convert(double d1[], double d2[], double r1[], double r2[]) throws JSOFAIllegalParameter, JSOFAInternalError {
+        convert(d1, d2, null, r1, r2);
+    }
+
+    /**
+     * Convert many dates, with UT1-UTC.  The results may be written over
+     * the dates given.
+     *
+     *<!-- Given: -->
+     * @param d1,d2  double[n]  dates in the source time scale, as 2-part Julian Dates
+     * @param dut1   double[n]  Delta UT1 = UT1-UTC in seconds (may be null if
+     *                          neither time scale is UT1)
+     *
+     *<!-- Returned: -->
+     * @param r1,r2  double[n]  <u>returned</u> the dates in the target time scale
+     * @throws JSOFAIllegalParameter  an unacceptable date, or the arrays are
+     *                                not all the same length.
+     * @throws JSOFAInternalError     a UTC before UTC began.
+     */
+    public void convert(double d1[], double d2[], double dut1[], double r1[], double r2[]) throws JSOFAIllegalParameter, JSOFAInternalError {
+        final int n = d1.length;
+        if (dut1 == null && this.dut1) throw new JSOFAIllegalParameter("UT1-UTC needed", -1);
+        if (d2.length != n || r1.length != n || r2.length != n || (dut1 != null && dut1.length != n))
+            throw new JSOFAIllegalParameter("batch arrays differ in length", JSOFAIllegalParameter.BATCH_LENGTH);
+        final TimeScaleBatch.UtcDay day = leap ? new TimeScaleBatch.UtcDay(false) : null;
+        final double r[] = new double[2];
+        for (int i = 0; i < n; i++) {
+            r[0] = d1[i];
+            r[1] = d2[i];
+            run(r, dut1 == null ? 0.0 : dut1[i], day);
+            r1[i] = r[0];
+            r2[i] = r[1];
+        }
+    }
+
+    /**
+     * Apply the steps to one date.
+     */
+    private void run(double r[], double dut1, TimeScaleBatch.UtcDay day) throws JSOFAIllegalParameter, JSOFAInternalError {
+        double a = r[0], b = r[1];
+        double dat0 = 0.0;
+        for (Step t : steps) {
+            switch (t.kind) {
+            case UTCTAI:
+                day.utctai(a, b, r);
+                a = r[0];
+                b = r[1];
+                dat0 = day.dat0;
+                break;
+            case TAIUTC: {
+                final JulianDate jd = JSOFA.jauTaiutc(a, b);
+                a = jd.djm0;
+                b = jd.djm1;
+                break;
+            }
+            case DAT0:
+                dat0 = day.dat0(a, b);
+                break;
+            case UT1UTC: {
+                final JulianDate jd = JSOFA.jauUt1utc(a, b, dut1);
+                a = jd.djm0;
+                b = jd.djm1;
+                break;
+            }
+            case SHIFT: {
+                double s = t.secs;
+                if (t.ut1) s += dut1 - dat0;
+                if (t.dtr != 0) {
+                    final double c = t.before / JSOFA.DAYSEC;
+                    final double e1 = a > b ? a : a + c, e2 = a > b ? b + c : b;
+                    final double ut = (e1 - 0.5) % 1.0 + e2 % 1.0;
+                    final double dtr = JSOFA.jauDtdb(e1, e2, ut, elong, u, v);
+                    s += t.dtr > 0 ? dtr : -dtr;
+                }
+                final double ds = s / JSOFA.DAYSEC;
+                if (a > b) {
+                    b += ds;
+                } else {
+                    a += ds;
+                }
+                break;
+            }
+            case TDBTCB: {
+                final double t77td = JSOFA.DJM0 + JSOFA.DJM77;
+                final double t77tf = JSOFA.TTMTAI / JSOFA.DAYSEC;
+                final double tdb0 = JSOFA.TDB0 / JSOFA.DAYSEC;
+                final double elbb = JSOFA.ELB / (1.0 - JSOFA.ELB);
+                double d, f;
+                if (a > b) {
+                    d = t77td - a;
+                    f = b - tdb0;
+                    b = f - (d - (f - t77tf)) * elbb;
+                } else {
+                    d = t77td - b;
+                    f = a - tdb0;
+                    a = f + (d - (f - t77tf)) * elbb;
+                }
+                break;
+            }
+            case TCBTDB: {
+                final double t77td = JSOFA.DJM0 + JSOFA.DJM77;
+                final double t77tf = JSOFA.TTMTAI / JSOFA.DAYSEC;
+                final double tdb0 = JSOFA.TDB0 / JSOFA.DAYSEC;
+                if (a > b) {
+                    b = b + tdb0 - ((a - t77td) + (b - t77tf)) * JSOFA.ELB;
+                } else {
+                    a = a + tdb0 - ((b - t77td) + (a - t77tf)) * JSOFA.ELB;
+                }
+                break;
+            }
+            case TTTCG: {
+                final double t77t = JSOFA.DJM77 + JSOFA.TTMTAI / JSOFA.DAYSEC;
+                final double elgg = JSOFA.ELG / (1.0 - JSOFA.ELG);
+                if (a > b) {
+                    b = b + ((a - JSOFA.DJM0) + (b - t77t)) * elgg;
+                } else {
+                    a = a + ((b - JSOFA.DJM0) + (a - t77t)) * elgg;
+                }
+                break;
+            }
+            default: {
+                final double t77t = JSOFA.DJM77 + JSOFA.TTMTAI / JSOFA.DAYSEC;
+                if (a > b) {
+                    b = b - ((a - JSOFA.DJM0) + (b - t77t)) * JSOFA.ELG;
+                } else {
+                    a = a - ((b - JSOFA.DJM0) + (a - t77t)) * JSOFA.ELG;
+                }
+                break;
+            }
+            }
+        }
+        r[0] = a;
+        r[1] = b;
+    }
+
+    /**
+     * The shortest chain of time scales from one to another, by a breadth
+     * first search of the direct transformations.
+     */
+    private static TimeScale[] route(TimeScale from, TimeScale to) {
+        final int n = LINKS.length;
+        final int prev[] = new int[n];
+        Arrays.fill(prev, -1);
+        prev[from.ordinal()] = from.ordinal();
+        final int queue[] = new int[n];
+        int head = 0, tail = 0;
+        queue[tail++] = from.ordinal();
+        while (head < tail && prev[to.ordinal()] < 0) {
+            final int k = queue[head++];
+            for (TimeScale next : LINKS[k]) {
+                if (prev[next.ordinal()] < 0) {
+                    prev[next.ordinal()] = k;
+                    queue[tail++] = next.ordinal();
+                }
+            }
+        }
+        int len = 1;
+        for (int k = to.ordinal(); k != from.ordinal(); k = prev[k]) len++;
+        final TimeScale path[] = new TimeScale[len];
+        final TimeScale all[] = TimeScale.values();
+        for (int k = to.ordinal(), i = len - 1; i >= 0; k = prev[k], i--) path[i] = all[k];
+        return path;
+    }
+}
+
+/*
+ * $Log$
+ */
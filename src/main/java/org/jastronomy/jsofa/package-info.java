@@ -26,6 +26,10 @@
  *   <ul>
  *     <li>The "functions" of the library are all static member functions of {@link org.jastronomy.jsofa.JSOFA}</li>
  *     <li>Class data members are typically publicly visible and no accessors are used - This makes the library code more "C"-like</li>
+ *     <li>The core rotation-matrix routines (e.g. {@link org.jastronomy.jsofa.JSOFA#jauRxr(double[], double[], double[])}, 
+ *     {@link org.jastronomy.jsofa.JSOFA#jauPnm06a(double, double, double[])}) also have overloads taking a flat row-major <code>double[9]</code>, 
+ *     element [i][j] being stored at [3*i+j], which avoids the row arrays and indirection of <code>double[3][3]</code> in tight loops.
+ *     {@link org.jastronomy.jsofa.JSOFA#jauCr(double[][], double[])} and {@link org.jastronomy.jsofa.JSOFA#jauCr(double[], double[][])} convert between the two forms.</li>
  *   </ul>
  *</p>
  * 
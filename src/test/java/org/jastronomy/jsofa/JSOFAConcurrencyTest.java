@@ -0,0 +1,233 @@
+/*
+ * $Id$
+ *
+ * Created on 16 Oct 2026
+ *
+ * This software is published under the terms of the
+ * software license which has been included
+ * with this distribution in the LICENSE.txt file.
+ *
+ */
+
+package org.jastronomy.jsofa;
+
+import static org.junit.Assert.*;
+import static org.junit.Assume.assumeNotNull;
+
+import java.io.File;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.jastronomy.jsofa.JSOFA.Astrom;
+import org.jastronomy.jsofa.JSOFA.SphericalCoordinate;
+import org.junit.Test;
+
+/**
+ * Checks that JSOFA can be used from many threads at once.
+ *
+ * The reference cases of {@link JSOFATest} are run once in a single thread,
+ * recording every value they check, and then from several threads at once
+ * in a different order in each; every value must be the same bit for bit.
+ * A shared {@link Astrom} is used in the same way with the quick
+ * transformations that only read it. Lastly the classes of the package are
+ * checked for static state that is neither final nor volatile, for static
+ * collections, and for a missing {@link ThreadSafe} or
+ * {@link NotThreadSafe} annotation.
+ */
+public class JSOFAConcurrencyTest {
+
+    /** number of threads running the reference cases at once */
+    private static final int THREADS = 6;
+
+    /** reference cases that change process-wide settings, and so cannot
+     *  run alongside the others */
+    private static final Set<String> EXCLUDED = new HashSet<String>(Arrays.asList(
+            "t_leapSecondProvider"));
+
+    @Test
+    public void t_referenceCases() throws Exception
+    {
+       final List<Method> cases = new ArrayList<Method>();
+       for (Method m : JSOFATest.class.getMethods()) {
+          if (m.isAnnotationPresent(Test.class) && !EXCLUDED.contains(m.getName())) {
+             cases.add(m);
+          }
+       }
+       Collections.sort(cases, new java.util.Comparator<Method>() {
+          @Override
+          public int compare(Method a, Method b) {
+             return a.getName().compareTo(b.getName());
+          }
+       });
+
+    /* Single-threaded reference values. */
+       final Map<String, List<Long>> expected = run(cases);
+
+    /* The same cases from several threads, each in its own order. */
+       final CountDownLatch start = new CountDownLatch(1);
+       ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+       try {
+          List<Future<Map<String, List<Long>>>> futures =
+                new ArrayList<Future<Map<String, List<Long>>>>();
+          for (int i = 0; i < THREADS; i++) {
+             final long seed = i;
+             futures.add(pool.submit(new Callable<Map<String, List<Long>>>() {
+                @Override
+                public Map<String, List<Long>> call() throws Exception {
+                   List<Method> order = new ArrayList<Method>(cases);
+                   Collections.shuffle(order, new Random(seed));
+                   start.await();
+                   return run(order);
+                }
+             }));
+          }
+          start.countDown();
+          for (Future<Map<String, List<Long>>> f : futures) {
+             Map<String, List<Long>> got = f.get();
+             for (Map.Entry<String, List<Long>> e : expected.entrySet()) {
+                assertEquals(e.getKey(), e.getValue(), got.get(e.getKey()));
+             }
+          }
+       } finally {
+          pool.shutdown();
+       }
+    }
+
+    @Test
+    public void t_sharedAstrom() throws Exception
+    {
+       final Astrom astrom = new Astrom();
+       JSOFA.jauApco13(2456384.5, 0.969254051, 0.1550675, -0.527800806,
+                       -1.2345856, 2738.0, 2.47230737e-7, 1.82640464e-6,
+                       731.0, 12.8, 0.59, 0.55, astrom);
+
+    /* Single-threaded reference values. */
+       final int n = 500;
+       final long expected[] = new long[2 * n];
+       atciq(astrom, n, expected);
+
+    /* Many threads reading the one Astrom. */
+       final CountDownLatch start = new CountDownLatch(1);
+       ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+       try {
+          List<Future<long[]>> futures = new ArrayList<Future<long[]>>();
+          for (int i = 0; i < THREADS; i++) {
+             futures.add(pool.submit(new Callable<long[]>() {
+                @Override
+                public long[] call() throws Exception {
+                   long got[] = new long[2 * n];
+                   start.await();
+                   atciq(astrom, n, got);
+                   return got;
+                }
+             }));
+          }
+          start.countDown();
+          for (Future<long[]> f : futures) {
+             assertArrayEquals("jauAtciq shared Astrom", expected, f.get());
+          }
+       } finally {
+          pool.shutdown();
+       }
+    }
+
+    @Test
+    public void t_staticState() throws Exception
+    {
+       final String pkg = JSOFA.class.getPackage().getName();
+       final String path = pkg.replace('.', File.separatorChar);
+
+    /* The classes compiled from the main sources, which may share their
+       output directory with the tests;  not checked if JSOFA comes from a
+       jar or the sources are not at hand. */
+       File dir = new File(JSOFA.class.getProtectionDomain().getCodeSource()
+                           .getLocation().toURI());
+       String files[] = new File(dir, path).list();
+       assumeNotNull((Object)files);
+       String sources[] = new File("src" + File.separator + "main" + File.separator
+                                   + "java" + File.separator + path).list();
+       assumeNotNull((Object)sources);
+       Set<String> main = new HashSet<String>(Arrays.asList(sources));
+
+       List<String> problems = new ArrayList<String>();
+       for (String file : files) {
+          if (!file.endsWith(".class") || file.equals("package-info.class")) continue;
+          String name = file.substring(0, file.length() - 6);
+          int outer = name.indexOf('$');
+          if (!main.contains((outer < 0 ? name : name.substring(0, outer)) + ".java")) continue;
+          Class<?> c = Class.forName(pkg + "." + name);
+
+       /* Static fields must be final or volatile, and not collections. */
+          for (Field f : c.getDeclaredFields()) {
+             int m = f.getModifiers();
+             if (!Modifier.isStatic(m) || f.isSynthetic()) continue;
+             if (!Modifier.isFinal(m) && !Modifier.isVolatile(m)) {
+                problems.add(c.getName() + "." + f.getName() + " is mutable");
+             }
+             if (Collection.class.isAssignableFrom(f.getType())
+                 || Map.class.isAssignableFrom(f.getType())) {
+                problems.add(c.getName() + "." + f.getName() + " is a static collection");
+             }
+          }
+
+       /* Public classes must say whether they may be shared. */
+          if (Modifier.isPublic(c.getModifiers()) && c.getEnclosingClass() == null
+              && !c.isInterface() && !c.isEnum() && !Throwable.class.isAssignableFrom(c)
+              && !c.isAnnotationPresent(ThreadSafe.class)
+              && !c.isAnnotationPresent(NotThreadSafe.class)) {
+             problems.add(c.getName() + " has no thread-safety annotation");
+          }
+       }
+       assertEquals(problems.toString(), 0, problems.size());
+       assertTrue(JSOFA.Astrom.class.isAnnotationPresent(NotThreadSafe.class));
+       assertTrue(JSOFA.Ldbody.class.isAnnotationPresent(NotThreadSafe.class));
+    }
+
+    /**
+     * Run reference cases, recording the values each checks.
+     */
+    private static Map<String, List<Long>> run(List<Method> cases) throws Exception
+    {
+       Map<String, List<Long>> results = new LinkedHashMap<String, List<Long>>();
+       JSOFATest t = new JSOFATest();
+       for (Method m : cases) {
+          t.results = new ArrayList<Long>();
+          m.invoke(t);
+          results.put(m.getName(), t.results);
+       }
+       return results;
+    }
+
+    /**
+     * Transform a grid of stars with jauAtciq, recording the results.
+     */
+    private static void atciq(Astrom astrom, int n, long out[])
+    {
+       for (int i = 0; i < n; i++) {
+          SphericalCoordinate co = JSOFA.jauAtciq(0.01 * i, -1.0 + 0.004 * i,
+                                                  1e-8, -4e-9, 0.1, 20.0, astrom);
+          out[2*i] = Double.doubleToLongBits(co.alpha);
+          out[2*i+1] = Double.doubleToLongBits(co.delta);
+       }
+    }
+}
+
+/*
+ * $Log$
+ */
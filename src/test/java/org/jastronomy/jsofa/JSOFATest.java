@@ -32,6 +32,7 @@ import org.jastronomy.jsofa.JSOFA.CelestialIntermediatePole;
 import org.jastronomy.jsofa.JSOFA.EulerAngles;
 import org.jastronomy.jsofa.JSOFA.FWPrecessionAngles;
 import org.jastronomy.jsofa.JSOFA.FrameBias;
+import org.jastronomy.jsofa.JSOFA.FundamentalArguments;
 import org.jastronomy.jsofa.JSOFA.GeodeticCoord;
 import org.jastronomy.jsofa.JSOFA.ICRFrame;
 import org.jastronomy.jsofa.JSOFA.JulianDate;
@@ -55,6 +56,10 @@ public class JSOFATest {
 
     private static boolean verbose;
 
+    /** if not null, every value checked by viv and vvd is appended, for
+     *  {@link JSOFAConcurrencyTest} to compare bit for bit */
+    java.util.List<Long> results;
+
     @BeforeClass
     public static void setUpBeforeClass() throws Exception {
     }
@@ -107,6 +112,7 @@ public class JSOFATest {
     **  This revision:  2009 November 4
     */
     {
+       if (results != null) results.add((long) ival);
        if (ival != ivalok) {
           System.err.printf("%s failed: %s want %d got %d\n",
                  func, test, ivalok, ival);
@@ -144,6 +150,7 @@ public class JSOFATest {
     {
        double a, f;   /* absolute and fractional error */
 
+       if (results != null) results.add(Double.doubleToLongBits(val));
 
        a = val - valok;
        f = abs(valok / a);
@@ -823,6 +830,14 @@ public class JSOFATest {
        vvd(rc2t[2][1], 0.3961816829632690581e-4, 1e-12,"jauC2t06a", "32");
        vvd(rc2t[2][2], 0.9999998325501747785, 1e-12,"jauC2t06a", "33");
 
+       double f[] = jauC2t06a(tta, ttb, uta, utb, xp, yp, new double[9]);
+
+       for (int i = 0; i < 3; i++) {
+          for (int j = 0; j < 3; j++) {
+             vvd(f[3*i+j], rc2t[i][j], 1e-15, "jauC2t06a", "flat");
+          }
+       }
+
     }
 
     @Test
@@ -1064,14 +1079,67 @@ public class JSOFATest {
 
            vvd(jd.djm0, 2400000.5, 0.0, "jauCal2jd", "djm0");
            vvd(jd.djm1,    52791.0, 0.0, "jauCal2jd", "djm");
+           vvd(jauCal2mjd(2003, 06, 01), 52791.0, 0.0, "jauCal2mjd", "djm");
+
+    /* Many dates at once. */
+           int iy[] = {2003, 1996, -4799}, im[] = {6, 2, 1}, id[] = {1, 29, 1};
+           double djm[] = new double[3];
+           TimeScaleBatch.cal2jd(iy, im, id, djm);
+           for (int i = 0; i < 3; i++) {
+              vvd(djm[i], jauCal2jd(iy[i], im[i], id[i]).djm1, 0.0, "TimeScaleBatch", "cal2jd");
+           }
     } catch (JSOFAIllegalParameter e) {
         fail("jauCal2jd should not throw execption");
     }
 
+    /* A length mismatch is distinct from a bad year. */
+       try {
+           TimeScaleBatch.cal2jd(new int[] {2003}, new int[] {6}, new int[] {1}, new double[2]);
+           fail("TimeScaleBatch.cal2jd should reject arrays of different lengths");
+       } catch (JSOFAIllegalParameter e) {
+           viv(e.getStatus(), JSOFAIllegalParameter.BATCH_LENGTH, "TimeScaleBatch", "cal2jd length");
+       }
+       try {
+           TimeScaleBatch.cal2jd(new int[] {-4800}, new int[] {1}, new int[] {1}, new double[1]);
+           fail("TimeScaleBatch.cal2jd should reject a bad year");
+       } catch (JSOFAIllegalParameter e) {
+           viv(e.getStatus(), -1, "TimeScaleBatch", "cal2jd bad year");
+       }
+
      //  viv(j, 0, "jauCal2jd", "j");
 
     }
 
+    @Test
+    public void t_cipInterpolator()
+    /*
+    **  Test CipInterpolator against jauXys06a.
+    */
+    {
+       CipInterpolator cip = new CipInterpolator(0.5, 8, 12);
+       double dates[] = { 53736.0, 53736.3, 53737.1, 53740.9, 41317.0, 69807.25 };
+       ICRFrame fr, fr0;
+       int i;
+
+       for (i = 0; i < dates.length; i++) {
+          fr = cip.xys(2400000.5, dates[i]);
+          fr0 = jauXys06a(2400000.5, dates[i]);
+          vvd(fr.cip.x, fr0.cip.x, 1e-12, "CipInterpolator", "x");
+          vvd(fr.cip.y, fr0.cip.y, 1e-12, "CipInterpolator", "y");
+          vvd(fr.s, fr0.s, 1e-14, "CipInterpolator", "s");
+       }
+       viv(cip.size(), 12, "CipInterpolator", "size");
+
+    /* At a sample the result is jauXys06a's own. */
+       fr = cip.xys(2400000.5, 53736.5);
+       fr0 = jauXys06a(2400000.5, 53736.5);
+       vvd(fr.cip.x, fr0.cip.x, 0.0, "CipInterpolator", "x sample");
+
+       cip.clear();
+       viv(cip.size(), 0, "CipInterpolator", "clear");
+
+    }
+
     @Test
     public void t_cp()
     /*
@@ -1265,7 +1333,148 @@ public class JSOFATest {
        } catch (Exception e) {
            fail("jauDat j3");
        }
-       
+
+       try {
+           deltat = jauDat(2012, 6, 30, 0.5);
+           vvd(deltat, 34.0, 0.0, "jauDat", "d4");
+           deltat = jauDat(2012, 7, 1, 0.0);
+           vvd(deltat, 35.0, 0.0, "jauDat", "d5");
+           deltat = jauDat(1965, 1, 1, 0.5);
+           vvd(deltat, 3.5401300 + 0.5 * 0.0012960, 1e-12, "jauDat", "d6");
+       } catch (Exception e) {
+           fail("jauDat j4");
+       }
+
+       try {
+           jauDat(1959, 12, 31, 0.0);
+           fail("jauDat j5");
+       } catch (JSOFAException e) {
+           viv(e.getStatus(), 1, "jauDat", "j5");
+       }
+
+    }
+
+    @Test
+    public void t_datStatus() throws JSOFAException
+    {
+       int status[] = new int[1];
+
+       vvd(jauDat(2003, 6, 1, 0.0, status), 32.0, 0.0, "jauDat", "status d1");
+       viv(status[0], 0, "jauDat", "status j1");
+       vvd(jauDat(1900, 1, 1, 0.0, status), 0.0, 0.0, "jauDat", "status d2");
+       viv(status[0], 1, "jauDat", "status j2");
+       vvd(jauDat(2100, 1, 1, 0.0, status), jauDat(2100, 1, 1, 0.0), 0.0, "jauDat", "status d3");
+       viv(status[0], 1, "jauDat", "status j3");
+       jauDat(IYV + 5, 12, 31, 0.0, status);
+       viv(status[0], 0, "jauDat", "status j3a");
+       jauDat(IYV + 6, 1, 1, 0.0, status);
+       viv(status[0], 1, "jauDat", "status j3b");
+       jauDat(2003, 13, 1, 0.0, status);
+       viv(status[0], -2, "jauDat", "status j4");
+       jauDat(2003, 2, 29, 0.0, status);
+       viv(status[0], -3, "jauDat", "status j4a");
+       jauDat(2003, 6, 1, 1.5, status);
+       viv(status[0], -4, "jauDat", "status j5");
+
+    /* Warnings and errors from the routines built on jauDat. */
+       JulianDate tai = jauUtctai(2433282.5, 0.25, status);
+       viv(status[0], 1, "jauUtctai", "status pre-UTC");
+       vvd(tai.djm0 + tai.djm1, 2433282.75, 1e-9, "jauUtctai", "status pre-UTC");
+       tai = jauUtctai(2453750.5, 0.892100694, status);
+       viv(status[0], 0, "jauUtctai", "status OK");
+       JulianDate ok = jauUtctai(2453750.5, 0.892100694);
+       vvd(tai.djm1, ok.djm1, 0.0, "jauUtctai", "status tai2");
+       jauUtcut1(2488070.5, 0.0, 0.3, status);
+       viv(status[0], 1, "jauUtcut1", "status dubious");
+       assertNull(jauTaiutc(-1e10, 0.0, status));
+       viv(status[0], -1, "jauTaiutc", "status bad date");
+       CalendarHMS c = jauD2dtf("UTC", 3, 2433282.5, 0.25, status);
+       viv(status[0], 1, "jauD2dtf", "status pre-UTC");
+       viv(c.iy, 1950, "jauD2dtf", "status iy");
+
+    /* The throwing variants are unchanged, but skip the stack trace. */
+       try {
+          jauUtctai(2433282.5, 0.25);
+          fail("jauUtctai should throw for a date before UTC");
+       } catch (JSOFAInternalError e) {
+          viv(e.getStatus(), 1, "jauUtctai", "pre-UTC status");
+          viv(e.getStackTrace().length, 0, "jauUtctai", "stackless");
+       }
+    }
+
+    @Test
+    public void t_leapSecondProvider() throws Exception
+    /*
+    **  Test reading leap second tables and installing them for jauDat.
+    */
+    {
+       String taiutc =
+            " 1961 JAN  1 =JD 2437300.5  TAI-UTC=   1.4228180 S + (MJD - 37300.) X 0.001296 S\n"
+          + " 1961 AUG  1 =JD 2437512.5  TAI-UTC=   1.3728180 S + (MJD - 37300.) X 0.001296 S\n"
+          + " 1972 JAN  1 =JD 2441317.5  TAI-UTC=  10.0       S + (MJD - 41317.) X 0.0      S\n"
+          + " 1972 JUL  1 =JD 2441499.5  TAI-UTC=  11.0       S + (MJD - 41317.) X 0.0      S\n";
+       LeapSecondTable t = LeapSecondTable.readTaiUtc(new java.io.StringReader(taiutc));
+       viv(t.size(), 4, "LeapSecondTable", "tai-utc size");
+       vvd(t.deltaAT(37300.5), 1.4228180 + 0.5 * 0.001296, 1e-12, "LeapSecondTable", "tai-utc drift");
+       vvd(t.deltaAT(41498.9), 10.0, 0.0, "LeapSecondTable", "tai-utc d1");
+       vvd(t.deltaAT(41499.0), 11.0, 0.0, "LeapSecondTable", "tai-utc d2");
+       viv(t.indexOf(37299.0), -1, "LeapSecondTable", "tai-utc before");
+
+       String lsdat =
+            "#  File expires on 28 December 2017\n"
+          + "#    MJD        Date        TAI-UTC (s)\n"
+          + "#           day month year\n"
+          + "    41317.0    1  1 1972       10\n"
+          + "    57204.0    1  7 2015       36\n"
+          + "    57754.0    1  1 2017       37\n";
+       t = LeapSecondTable.readLeapSecondDat(new java.io.StringReader(lsdat), BUILTIN_LEAP_SECONDS);
+       viv(t.size(), 17, "LeapSecondTable", "Leap_Second.dat size");
+       viv(t.getFirstYear(), 1960, "LeapSecondTable", "Leap_Second.dat first");
+       vvd(t.getExpiryMJD(), 58115.0, 0.0, "LeapSecondTable", "Leap_Second.dat expiry");
+       vvd(LeapSecondTable.readTaiUtc(new java.io.StringReader(taiutc)).getExpiryMJD(),
+             jauCal2mjd(1978, 1, 1), 0.0, "LeapSecondTable", "tai-utc expiry");
+       vvd(BUILTIN_LEAP_SECONDS.getExpiryMJD(), jauCal2mjd(IYV + 6, 1, 1), 0.0, "LeapSecondTable", "built-in expiry");
+
+       try {
+           setLeapSecondProvider(t);
+           vvd(jauDat(2017, 2, 1, 0.0), 37.0, 0.0, "jauDat", "provider d1");
+           vvd(jauDat(1965, 1, 1, 0.5), 3.5401300 + 0.5 * 0.0012960, 1e-12, "jauDat", "provider d2");
+           int status[] = new int[1];
+           vvd(jauDat(2017, 12, 27, 0.0, status), 37.0, 0.0, "jauDat", "provider d4");
+           viv(status[0], 0, "jauDat", "provider j4");
+           vvd(jauDat(2017, 12, 28, 0.0, status), 37.0, 0.0, "jauDat", "provider d5");
+           viv(status[0], 1, "jauDat", "provider j5");
+       } finally {
+           setLeapSecondProvider(null);
+       }
+       vvd(jauDat(2017, 2, 1, 0.0), 36.0, 0.0, "jauDat", "provider d3");
+
+    /* A table starting mid-year:  earlier dates that year are pre-UTC. */
+       LeapSecondTable july = new LeapSecondTable(new int[] { 1972, 1973 },
+             new int[] { 7, 1 }, new double[] { 11.0, 12.0 }, new double[0][]);
+       try {
+           setLeapSecondProvider(july);
+           try {
+              jauDat(1972, 3, 1, 0.0);
+              fail("jauDat should throw for a date before the table");
+           } catch (JSOFAInternalError e) {
+              viv(e.getStatus(), 1, "jauDat", "july status");
+           }
+           int status[] = new int[1];
+           vvd(jauDat(1972, 3, 1, 0.0, status), 0.0, 0.0, "jauDat", "july d1");
+           viv(status[0], 1, "jauDat", "july j1");
+           vvd(jauDat(1972, 7, 1, 0.0, status), 11.0, 0.0, "jauDat", "july d2");
+           viv(status[0], 0, "jauDat", "july j2");
+           double u1[] = { 2441377.5, 2441499.5 }, u2[] = { 0.25, 0.25 },
+                  t1[] = new double[2], t2[] = new double[2];
+           int js[] = new int[2];
+           viv(TimeScaleBatch.utctai(u1, u2, t1, t2, js), 0, "TimeScaleBatch", "july bad");
+           viv(js[0], 1, "TimeScaleBatch", "july j1");
+           viv(js[1], 0, "TimeScaleBatch", "july j2");
+           vvd(t1[1] + t2[1], 2441499.75 + 11.0 / 86400.0, 1e-9, "TimeScaleBatch", "july tai");
+       } finally {
+           setLeapSecondProvider(null);
+       }
     }
 
     @Test
@@ -1294,6 +1503,92 @@ public class JSOFATest {
 
     }
 
+    @Test
+    public void t_earthOrientationTable() throws java.io.IOException, JSOFAIllegalParameter, JSOFAInternalError
+    /*
+    **  Test EarthOrientationTable across the 2015 June 30 leap second, read
+    **  from both file formats, and the "13" functions that use it.
+    */
+    {
+       StringBuilder finals = new StringBuilder(), c04 = new StringBuilder();
+       c04.append("# EOP 14 C04 header\n");
+       for (int i = 0; i < 6; i++) {
+          int mjd = 57201 + i;
+          double dut1 = -0.3195 - 0.0005 * i + (mjd >= 57204 ? 1.0 : 0.0);
+          double xp = 0.1 + 0.001 * i, yp = 0.4 - 0.001 * i;
+          int d = 28 + i;
+          String date = d <= 30 ? String.format("15 6%2d", d) : String.format("15 7%2d", d - 30);
+          char flag = i < 4 ? 'I' : 'P';
+          finals.append(String.format(java.util.Locale.US,
+                "%-6s %8.2f %c %9.6f%9.6f %9.6f%9.6f  %c%10.7f%10.7f  0.0000 0.0000\n",
+                date, (double) mjd, flag, xp, 2e-5, yp, 2e-5, flag, dut1, 5e-6));
+          c04.append(String.format(java.util.Locale.US,
+                "2015  %2d  %2d  %d  %9.6f  %9.6f  %10.7f   0.0000000\n",
+                d <= 30 ? 6 : 7, d <= 30 ? d : d - 30, mjd, xp, yp, dut1));
+       }
+       finals.append("15 7 4 57207.00                                                                   \n");
+
+       EarthOrientationTable t = EarthOrientationTable.readFinals2000A(new java.io.StringReader(finals.toString()));
+       EarthOrientationTable t2 = EarthOrientationTable.readC04(new java.io.StringReader(c04.toString()));
+       vvd(t.getFirstMJD(), 57201.0, 0.0, "EarthOrientationTable", "first");
+       vvd(t.getLastMJD(), 57206.0, 0.0, "EarthOrientationTable", "last");
+       vvd(t2.getLastMJD(), 57206.0, 0.0, "EarthOrientationTable", "last C04");
+       vvd(t.getLastObservedMJD(), 57204.0, 0.0, "EarthOrientationTable", "last observed");
+       vvd(t.withInterpolation(2).getLastObservedMJD(), 57204.0, 0.0, "EarthOrientationTable", "last observed 2");
+       vvd(t2.getLastObservedMJD(), 57206.0, 0.0, "EarthOrientationTable", "last observed C04");
+
+    /* UT1-TAI is linear, so interpolation is exact on both sides of the leap. */
+       double e[] = new double[3];
+       t.eop(2400000.5, 57203.5, e);
+       vvd(e[0], -0.32075, 1e-12, "EarthOrientationTable", "dut1 before");
+       vvd(e[1], 0.1025 * DAS2R, 1e-18, "EarthOrientationTable", "xp");
+       vvd(e[2], 0.3975 * DAS2R, 1e-18, "EarthOrientationTable", "yp");
+       t2.withInterpolation(2).eop(2400000.5, 57204.25, e);
+       vvd(e[0], 0.678875, 1e-12, "EarthOrientationTable", "dut1 after");
+
+    /* Outside the table. */
+       try {
+          t.eop(2400000.5, 57207.5, e);
+          viv(0, 1, "EarthOrientationTable", "outside");
+       } catch (JSOFAIllegalParameter ex) {
+          viv(ex.getStatus(), -1, "EarthOrientationTable", "outside");
+       }
+
+    /* Corrections are added. */
+       EarthOrientationTable tc = t.withCorrection(new EarthOrientationTable.Correction() {
+          @Override
+          public void correct(double mjd, double eop[]) {
+             eop[0] += 1e-5;
+             eop[1] += 1e-9;
+          }
+       });
+       tc.eop(2400000.5, 57203.5, e);
+       vvd(e[0], -0.32074, 1e-12, "EarthOrientationTable", "corrected dut1");
+       vvd(e[1], 0.1025 * DAS2R + 1e-9, 1e-18, "EarthOrientationTable", "corrected xp");
+
+    /* The "13" functions take the values from the table. */
+       final double utc1 = 2457204.5, utc2 = 0.25;
+       t.eop(utc1, utc2, e);
+       JulianDate u = jauUtcut1(utc1, utc2, t);
+       JulianDate ur = jauUtcut1(utc1, utc2, e[0]);
+       vvd(u.djm1, ur.djm1, 0.0, "EarthOrientationTable", "jauUtcut1");
+       Astrom a = new Astrom(), ar = new Astrom();
+       double eo = jauApco13(utc1, utc2, t, -0.527800806, -1.2345856, 2738.0,
+                             731.0, 12.8, 0.59, 0.55, a);
+       double eor = jauApco13(utc1, utc2, e[0], -0.527800806, -1.2345856, 2738.0, e[1], e[2],
+                              731.0, 12.8, 0.59, 0.55, ar);
+       vvd(eo, eor, 0.0, "EarthOrientationTable", "jauApco13 eo");
+       vvd(a.eral, ar.eral, 0.0, "EarthOrientationTable", "jauApco13 eral");
+       vvd(a.xpl, ar.xpl, 0.0, "EarthOrientationTable", "jauApco13 xpl");
+       ObservedPositionEO o = jauAtco13(2.71, 0.174, 1e-5, 5e-6, 0.1, 55.0, utc1, utc2, t,
+                                        -0.527800806, -1.2345856, 2738.0, 731.0, 12.8, 0.59, 0.55);
+       ObservedPositionEO or = jauAtco13(2.71, 0.174, 1e-5, 5e-6, 0.1, 55.0, utc1, utc2, e[0],
+                                         -0.527800806, -1.2345856, 2738.0, e[1], e[2],
+                                         731.0, 12.8, 0.59, 0.55);
+       vvd(o.op.aob, or.op.aob, 0.0, "EarthOrientationTable", "jauAtco13 aob");
+       vvd(o.op.zob, or.op.zob, 0.0, "EarthOrientationTable", "jauAtco13 zob");
+    }
+
     @Test
     public void t_ee00()
     /*
@@ -1710,6 +2005,128 @@ public class JSOFATest {
 
     }
 
+    @Test
+    public void t_earthEphemerisCache()
+    /*
+    **  Test EarthEphemerisCache against jauEpv00.
+    */
+    {
+       EarthEphemerisCache cache = new EarthEphemerisCache(4.0, 12, 2);
+       double pvh[][] = new double[2][3], pvb[][] = new double[2][3];
+       double pvh0[][] = new double[2][3], pvb0[][] = new double[2][3];
+       double dates[] = { 53411.52501161, 53411.9, 53413.1, 41317.0, 69807.25 };
+       int i, j, k;
+
+       for (i = 0; i < dates.length; i++) {
+          j = cache.epv(2400000.5, dates[i], pvh, pvb);
+          viv(j, jauEpv00(2400000.5, dates[i], pvh0, pvb0), "EarthEphemerisCache", "j");
+          for (k = 0; k < 3; k++) {
+             vvd(pvh[0][k], pvh0[0][k], 1e-12, "EarthEphemerisCache", "ph");
+             vvd(pvh[1][k], pvh0[1][k], 1e-13, "EarthEphemerisCache", "vh");
+             vvd(pvb[0][k], pvb0[0][k], 1e-12, "EarthEphemerisCache", "pb");
+             vvd(pvb[1][k], pvb0[1][k], 1e-13, "EarthEphemerisCache", "vb");
+          }
+       }
+       viv(cache.size(), 2, "EarthEphemerisCache", "size");
+
+       cache.clear();
+       viv(cache.size(), 0, "EarthEphemerisCache", "clear");
+
+    }
+
+    @Test
+    public void t_earthEphemerisSeries()
+    /*
+    **  Test EarthEphemerisSeries against jauEpv00.
+    */
+    {
+       EarthEphemerisSeries series = new EarthEphemerisSeries(2400000.5, 53411.52501161, 0.25, 4);
+       double pvh[][] = new double[2][3], pvb[][] = new double[2][3];
+       double pvh0[][] = new double[2][3], pvb0[][] = new double[2][3];
+       double date2, tol;
+       int i, j, k;
+
+       for (i = 0; i < 10; i++) {
+          viv((int) series.getIndex(), i, "EarthEphemerisSeries", "index");
+          date2 = series.getDate2();
+          vvd(date2, 53411.52501161 + i * 0.25, 0.0, "EarthEphemerisSeries", "date");
+          j = series.next(pvh, pvb);
+          viv(j, jauEpv00(2400000.5, date2, pvh0, pvb0), "EarthEphemerisSeries", "j");
+
+       /* Identical at the anchor points, close in between. */
+          tol = i % 4 == 0 ? 0.0 : 1e-13;
+          for (k = 0; k < 3; k++) {
+             vvd(pvh[0][k], pvh0[0][k], tol, "EarthEphemerisSeries", "ph");
+             vvd(pvh[1][k], pvh0[1][k], tol, "EarthEphemerisSeries", "vh");
+             vvd(pvb[0][k], pvb0[0][k], tol, "EarthEphemerisSeries", "pb");
+             vvd(pvb[1][k], pvb0[1][k], tol, "EarthEphemerisSeries", "vb");
+          }
+       }
+
+    /* The default interval, through a re-anchoring, late in the range. */
+       series = new EarthEphemerisSeries(2400000.5, 70000.7, 10.0);
+       for (i = 0; i < EarthEphemerisSeries.DEFAULT_REANCHOR + 100; i++) {
+          date2 = series.getDate2();
+          series.next(pvh, pvb);
+          jauEpv00(2400000.5, date2, pvh0, pvb0);
+          tol = i % EarthEphemerisSeries.DEFAULT_REANCHOR == 0 ? 0.0 : 4e-13;
+          for (k = 0; k < 3; k++) {
+             vvd(pvh[0][k], pvh0[0][k], tol, "EarthEphemerisSeries", "default ph");
+             vvd(pvh[1][k], pvh0[1][k], tol / 50.0, "EarthEphemerisSeries", "default vh");
+             vvd(pvb[0][k], pvb0[0][k], tol, "EarthEphemerisSeries", "default pb");
+             vvd(pvb[1][k], pvb0[1][k], tol / 50.0, "EarthEphemerisSeries", "default vb");
+          }
+       }
+
+    }
+
+    @Test
+    public void t_ephemerisFile() throws java.io.IOException, JSOFAIllegalParameter
+    /*
+    **  Test EphemerisFile against EarthEphemerisCache and jauPlan94.
+    */
+    {
+       java.io.File file = java.io.File.createTempFile("jsofa", ".eph");
+       file.deleteOnExit();
+       EphemerisFile.write(file, 2453400.5, 2453430.5, 8.0, 12);
+       EphemerisFile eph = EphemerisFile.open(file);
+       EarthEphemerisCache cache = new EarthEphemerisCache(8.0, 12, 8);
+       double pvh[][] = new double[2][3], pvb[][] = new double[2][3];
+       double pvh0[][] = new double[2][3], pvb0[][] = new double[2][3];
+       double dates[] = { 53400.0, 53411.52501161, 53429.9 };
+       int i, j, k, np;
+
+       vvd(eph.getStart(), 2453393.0, 0.0, "EphemerisFile", "start");
+       vvd(eph.getEnd(), 2453433.0, 0.0, "EphemerisFile", "end");
+
+       for (i = 0; i < dates.length; i++) {
+          j = eph.epv(2400000.5, dates[i], pvh, pvb);
+          viv(j, cache.epv(2400000.5, dates[i], pvh0, pvb0), "EphemerisFile", "j");
+          for (k = 0; k < 3; k++) {
+             vvd(pvh[0][k], pvh0[0][k], 0.0, "EphemerisFile", "ph");
+             vvd(pvh[1][k], pvh0[1][k], 0.0, "EphemerisFile", "vh");
+             vvd(pvb[0][k], pvb0[0][k], 0.0, "EphemerisFile", "pb");
+             vvd(pvb[1][k], pvb0[1][k], 0.0, "EphemerisFile", "vb");
+          }
+          for (np = 1; np <= 8; np++) {
+             j = eph.plan(2400000.5, dates[i], np, pvh);
+             viv(j, jauPlan94(2400000.5, dates[i], np, pvh0), "EphemerisFile", "jp");
+             for (k = 0; k < 3; k++) {
+                vvd(pvh[0][k], pvh0[0][k], 1e-12, "EphemerisFile", "p");
+                vvd(pvh[1][k], pvh0[1][k], 1e-12, "EphemerisFile", "v");
+             }
+          }
+       }
+       viv(eph.plan(2400000.5, 53411.5, 9, pvh), -1, "EphemerisFile", "np");
+
+       try {
+          eph.epv(2400000.5, 53440.0, pvh, pvb);
+          fail("date outside the file accepted");
+       } catch (JSOFAIllegalParameter e) {
+       }
+
+    }
+
     @Test
     public void t_eqeq94()
     /*
@@ -2056,6 +2473,38 @@ public class JSOFATest {
            "jauFave03", "");
     }
 
+    @Test
+    public void t_fa03()
+    /*
+    **  Test jauFa03 and the overloads that take FundamentalArguments.
+    */
+    {
+       FundamentalArguments fa = jauFa03(2400000.5, 53736.0);
+       double t = ((2400000.5 - DJ00) + 53736.0) / DJC;
+
+       vvd(fa.t, t, 0.0, "jauFa03", "t");
+       vvd(fa.l, jauFal03(t), 0.0, "jauFa03", "l");
+       vvd(fa.om, jauFaom03(t), 0.0, "jauFa03", "om");
+       vvd(fa.ne, jauFane03(t), 0.0, "jauFa03", "ne");
+       vvd(fa.pa, jauFapa03(t), 0.0, "jauFa03", "pa");
+
+    /* The last date is remembered. */
+       assertSame("jauFa03 memo", fa, jauFa03(2400000.5, 53736.0));
+       assertNotSame("jauFa03 new date", fa, jauFa03(2400000.5, 53737.0));
+
+       NutationTerms nut = jauNut00a(fa);
+       vvd(nut.dpsi, -0.9630909107115518431e-5, 1e-13, "jauNut00a", "dpsi fa");
+       vvd(nut.deps,  0.4063239174001678710e-4, 1e-13, "jauNut00a", "deps fa");
+
+       CelestialIntermediatePole xy = jauXy06(fa);
+       vvd(xy.x, jauXy06(2400000.5, 53736.0).x, 0.0, "jauXy06", "x fa");
+       vvd(jauS06(fa, xy.x, xy.y), jauS06(2400000.5, 53736.0, xy.x, xy.y), 0.0, "jauS06", "s fa");
+       vvd(jauEect00(fa), jauEect00(2400000.5, 53736.0), 0.0, "jauEect00", "fa");
+       vvd(jauEe00(fa, 0.4090789763356509900, -0.9630909107115582393e-5),
+           -0.8834193235367965479e-5, 1e-18, "jauEe00", "fa");
+
+    }
+
     @Test
     public void t_fk52h()
     /*
@@ -2782,6 +3231,29 @@ public class JSOFATest {
        vvd(cal.fd, 0.9999, 1e-7, "jauJd2cal", "fd");
 //FIXME should test j when   jauJd2cal returns status     viv(j, 0, "jauJd2cal", "j");
 
+    /* Into a holder, the same bit for bit. */
+       int ymd[] = new int[3];
+       vvd(jauJd2cal(dj1, dj2, ymd), cal.fd, 0.0, "jauJd2cal", "fd holder");
+       viv(ymd[0], 1996, "jauJd2cal", "y holder");
+       viv(ymd[1], 2, "jauJd2cal", "m holder");
+       viv(ymd[2], 10, "jauJd2cal", "d holder");
+
+    /* Many dates at once, including whole and negative parts. */
+       double d1[] = {dj1, 2451545.0, -3.0, 0.25, 2457204.5},
+              d2[] = {dj2, -0.5, 2451548.0, 2451544.25, -1e-9};
+       int iy[] = new int[5], im[] = new int[5], id[] = new int[5];
+       double fd[] = new double[5];
+       TimeScaleBatch.jd2cal(d1, d2, iy, im, id, fd);
+       for (int i = 0; i < d1.length; i++) {
+          Calendar c = jauJd2cal(d1[i], d2[i]);
+          viv(iy[i], c.iy, "TimeScaleBatch", "jd2cal y");
+          viv(im[i], c.im, "TimeScaleBatch", "jd2cal m");
+          viv(id[i], c.id, "TimeScaleBatch", "jd2cal d");
+          vvd(fd[i], c.fd, 0.0, "TimeScaleBatch", "jd2cal fd");
+       }
+       viv(iy[1], 2000, "TimeScaleBatch", "J2000 y");
+       vvd(fd[1], 0.0, 0.0, "TimeScaleBatch", "J2000 fd");
+
     }
 
     @Test
@@ -2989,6 +3461,16 @@ public class JSOFATest {
        vvd(nut.dpsi, -0.9630909107115518431e-5, 1e-13,"jauNut00a", "dpsi");
        vvd(nut.deps,  0.4063239174001678710e-4, 1e-13,"jauNut00a", "deps");
 
+    /* Truncated series. */
+       NutationTerms nutt = jauNut00a(2400000.5, 53736.0, DMAS2R);
+       vvd(nutt.dpsi, nut.dpsi, DMAS2R, "jauNut00a", "dpsi 1 mas");
+       vvd(nutt.deps, nut.deps, DMAS2R, "jauNut00a", "deps 1 mas");
+       nutt = jauNut00a(2400000.5, 53736.0, 0.1 * DMAS2R);
+       vvd(nutt.dpsi, nut.dpsi, 0.1 * DMAS2R, "jauNut00a", "dpsi 0.1 mas");
+       vvd(nutt.deps, nut.deps, 0.1 * DMAS2R, "jauNut00a", "deps 0.1 mas");
+       nutt = jauNut00a(2400000.5, 53736.0, 0.0);
+       vvd(nutt.dpsi, nut.dpsi, 0.0, "jauNut00a", "dpsi full");
+
     }
 
     @Test
@@ -3420,7 +3902,7 @@ public class JSOFATest {
     }
 
     @Test
-    public void t_plan94()
+    public void t_plan94() throws JSOFAIllegalParameter
     /*
     **  - - - - - - - - -
     **   t _ p l a n 9 4
@@ -3480,6 +3962,50 @@ public class JSOFATest {
 
        viv(j, 0, "jauPlan94", "j 4");
 
+       double all[] = new double[48];
+       j = jauPlan94(2400000.5, 43999.9, all);
+       viv(j, 0, "jauPlan94", "j all");
+       for (int np = 1; np <= 8; np++) {
+          jauPlan94(2400000.5, 43999.9, np, pv);
+          for (int k = 0; k < 3; k++) {
+             vvd(all[6*(np-1)+k], pv[0][k], 0.0, "jauPlan94", "p all");
+             vvd(all[6*(np-1)+3+k], pv[1][k], 0.0, "jauPlan94", "v all");
+          }
+       }
+
+       double date1[] = { 2400000.5, 2400000.5 }, date2[] = { 43999.9, -320000 };
+       double many[] = new double[12];
+       j = jauPlan94(date1, date2, 3, many);
+       viv(j, 1, "jauPlan94", "j many");
+       vvd(many[6], 0.9308038666832975759, 1e-11,"jauPlan94", "x many");
+       vvd(many[10], 0.1468570657704237764e-1, 1e-11,"jauPlan94", "yd many");
+       jauPlan94(2400000.5, 43999.9, 3, pv);
+       vvd(many[0], pv[0][0], 0.0, "jauPlan94", "x many 0");
+       vvd(many[5], pv[1][2], 0.0, "jauPlan94", "zd many 0");
+
+       j = jauPlan94(date1, date2, 0, many);
+       viv(j, -1, "jauPlan94", "j many np");
+       vvd(many[6], 0.0, 0.0, "jauPlan94", "x many np");
+
+       try {
+          jauPlan94(date1, date2, 3, new double[11]);
+          fail("jauPlan94 should reject a short pv array");
+       } catch (JSOFAIllegalParameter e) {
+          viv(e.getStatus(), JSOFAIllegalParameter.BATCH_LENGTH, "jauPlan94", "pv length");
+       }
+       try {
+          jauPlan94(date1, new double[1], 3, many);
+          fail("jauPlan94 should reject date arrays of different lengths");
+       } catch (JSOFAIllegalParameter e) {
+          viv(e.getStatus(), JSOFAIllegalParameter.BATCH_LENGTH, "jauPlan94", "date length");
+       }
+       try {
+          jauPlan94(2400000.5, 43999.9, new double[47]);
+          fail("jauPlan94 should reject a short pv array for all the planets");
+       } catch (JSOFAIllegalParameter e) {
+          viv(e.getStatus(), JSOFAIllegalParameter.BATCH_LENGTH, "jauPlan94", "all length");
+       }
+
     }
 
     @Test
@@ -4233,6 +4759,66 @@ public class JSOFATest {
        vvd(rbpn[2][1], -0.4163377605910663999e-4, 1e-14,"jauPnm06a", "32");
        vvd(rbpn[2][2], 0.9999999329094260057, 1e-12,"jauPnm06a", "33");
 
+       double f[] = jauPnm06a(2400000.5, 50123.9999, new double[9]);
+
+       for (int i = 0; i < 3; i++) {
+          for (int j = 0; j < 3; j++) {
+             vvd(f[3*i+j], rbpn[i][j], 1e-15, "jauPnm06a", "flat");
+          }
+       }
+
+    /* Flat product and transpose against the 3x3 forms. */
+       double r[][] = jauRxr(rbpn, jauTr(rbpn)), t[] = new double[9];
+       jauRxr(f, jauTr(f, t), t);
+       for (int i = 0; i < 3; i++) {
+          for (int j = 0; j < 3; j++) {
+             vvd(t[3*i+j], r[i][j], 1e-15, "jauRxr", "flat");
+          }
+       }
+
+    }
+
+    @Test
+    public void t_precessionNutationCache()
+    /*
+    **  Test PrecessionNutationCache against the JSOFA routines.
+    */
+    {
+       PrecessionNutationCache cache = new PrecessionNutationCache(1e-6, 4);
+       double rb[][] = new double[3][3], rp[][] = new double[3][3], rbp[][] = new double[3][3];
+       double r[][], r0[][];
+       int i, j;
+
+       r = cache.pnm06a(2400000.5, 50123.9999);
+       r0 = jauPnm06a(2400000.5, 50123.9999);
+       for (i = 0; i < 3; i++) {
+          for (j = 0; j < 3; j++) {
+             vvd(r[i][j], r0[i][j], 1e-12, "PrecessionNutationCache", "pnm06a");
+          }
+       }
+       viv((int) cache.getMisses(), 1, "PrecessionNutationCache", "miss");
+
+    /* A date in the same interval shares the matrix; the copy is new. */
+       double r2[][] = cache.pnm06a(2400000.5, 50123.9999 + 1e-7);
+       viv((int) cache.getHits(), 1, "PrecessionNutationCache", "hit");
+       vvd(r2[0][1], r[0][1], 0.0, "PrecessionNutationCache", "shared");
+       assertNotSame("PrecessionNutationCache copy", r, r2);
+
+    /* The other matrices. */
+       cache.bp06(2400000.5, 50123.9999, rb, rp, rbp);
+       vvd(rbp[0][1], jauPmat06(2400000.5, 50123.9999)[0][1], 1e-14, "PrecessionNutationCache", "bp06");
+       vvd(cache.pmat06(2400000.5, 50123.9999)[2][0], rbp[2][0], 1e-14, "PrecessionNutationCache", "pmat06");
+       PrecessionNutation pn = cache.pn06a(2400000.5, 50123.9999);
+       vvd(pn.rbpn[1][2], r0[1][2], 1e-12, "PrecessionNutationCache", "pn06a");
+       r = cache.c2t06a(2400000.5, 53736.0, 2400000.5, 53736.0, 2.55060238e-7, 1.860359247e-6);
+       r0 = jauC2t06a(2400000.5, 53736.0, 2400000.5, 53736.0, 2.55060238e-7, 1.860359247e-6);
+       vvd(r[0][0], r0[0][0], 1e-12, "PrecessionNutationCache", "c2t06a");
+       vvd(r[2][1], r0[2][1], 1e-12, "PrecessionNutationCache", "c2t06a");
+       viv((int) cache.getMisses(), 5, "PrecessionNutationCache", "misses");
+
+       cache.clear();
+       viv((int) cache.getHits(), 0, "PrecessionNutationCache", "clear");
+
     }
 
     @Test
@@ -5180,6 +5766,15 @@ public class JSOFATest {
        vvd(atb[2][1], 10.0, 1e-12, "jauRxr", "32");
        vvd(atb[2][2], 15.0, 1e-12, "jauRxr", "33");
 
+    /* Result written over the second argument. */
+       jauRxr(a, b, b);
+
+       vvd(b[0][0], 20.0, 1e-12, "jauRxr", "b11");
+       vvd(b[0][2],  9.0, 1e-12, "jauRxr", "b13");
+       vvd(b[1][1],  8.0, 1e-12, "jauRxr", "b22");
+       vvd(b[2][0], 34.0, 1e-12, "jauRxr", "b31");
+       vvd(b[2][2], 15.0, 1e-12, "jauRxr", "b33");
+
     }
 
     @Test
@@ -6115,6 +6710,13 @@ public class JSOFATest {
        vvd(trp[1], 4.0, 1e-12, "jauTrxp", "2");
        vvd(trp[2], 5.4, 1e-12, "jauTrxp", "3");
 
+    /* Result written over the vector. */
+       jauTrxp(r, p, p);
+
+       vvd(p[0], 5.2, 1e-12, "jauTrxp", "p1");
+       vvd(p[1], 4.0, 1e-12, "jauTrxp", "p2");
+       vvd(p[2], 5.4, 1e-12, "jauTrxp", "p3");
+
     }
 
     @Test
@@ -6409,6 +7011,176 @@ public class JSOFATest {
 
     }
 
+    @Test
+    public void t_timeScaleBatch() throws JSOFAIllegalParameter, JSOFAInternalError
+    /*
+    **  Test TimeScaleBatch against the single-date functions, across the
+    **  2015 June 30 leap second and in the pre-1972 drift era.
+    */
+    {
+       final double base[] = {2457203.5, 2439000.5, 2453750.5};
+       final int n = 3 * 200;
+       double u1[] = new double[n], u2[] = new double[n], dut1[] = new double[n],
+              r1[] = new double[n], r2[] = new double[n];
+       int status[] = new int[n];
+       for (int i = 0; i < n; i++) {
+          final double d = base[i / 200] + (i % 200) * 0.01;
+          if (i % 2 == 0) {
+             u1[i] = d;
+             u2[i] = 0.0;
+          } else {
+             u1[i] = 2400000.5;
+             u2[i] = d - 2400000.5;
+          }
+          dut1[i] = 0.3341 - 1e-3 * (i % 7);
+       }
+
+       TimeScaleBatch.utctai(u1, u2, r1, r2);
+       for (int i = 0; i < n; i++) {
+          JulianDate jd = jauUtctai(u1[i], u2[i]);
+          vvd(r1[i], jd.djm0, 0.0, "TimeScaleBatch", "utctai 1");
+          vvd(r2[i], jd.djm1, 0.0, "TimeScaleBatch", "utctai 2");
+       }
+       TimeScaleBatch.utcut1(u1, u2, dut1, r1, r2);
+       for (int i = 0; i < n; i++) {
+          JulianDate jd = jauUtcut1(u1[i], u2[i], dut1[i]);
+          vvd(r1[i], jd.djm0, 0.0, "TimeScaleBatch", "utcut1 1");
+          vvd(r2[i], jd.djm1, 0.0, "TimeScaleBatch", "utcut1 2");
+       }
+       TimeScaleBatch.taitt(u1, u2, r1, r2);
+       for (int i = 0; i < n; i++) {
+          JulianDate jd = jauTaitt(u1[i], u2[i]);
+          vvd(r1[i], jd.djm0, 0.0, "TimeScaleBatch", "taitt 1");
+          vvd(r2[i], jd.djm1, 0.0, "TimeScaleBatch", "taitt 2");
+       }
+       TimeScaleBatch.tttdb(u1, u2, dut1, r1, r2);
+       for (int i = 0; i < n; i++) {
+          JulianDate jd = jauTttdb(u1[i], u2[i], dut1[i]);
+          vvd(r1[i], jd.djm0, 0.0, "TimeScaleBatch", "tttdb 1");
+          vvd(r2[i], jd.djm1, 0.0, "TimeScaleBatch", "tttdb 2");
+       }
+       TimeScaleBatch.taiut1(u1, u2, dut1, r1, r2);
+       for (int i = 0; i < n; i++) {
+          JulianDate jd = jauTaiut1(u1[i], u2[i], dut1[i]);
+          vvd(r1[i], jd.djm0, 0.0, "TimeScaleBatch", "taiut1 1");
+          vvd(r2[i], jd.djm1, 0.0, "TimeScaleBatch", "taiut1 2");
+       }
+       TimeScaleBatch.tdbtcb(u1, u2, r1, r2);
+       for (int i = 0; i < n; i++) {
+          JulianDate jd = jauTdbtcb(u1[i], u2[i]);
+          vvd(r1[i], jd.djm0, 0.0, "TimeScaleBatch", "tdbtcb 1");
+          vvd(r2[i], jd.djm1, 0.0, "TimeScaleBatch", "tdbtcb 2");
+       }
+       TimeScaleBatch.tttcg(u1, u2, r1, r2);
+       for (int i = 0; i < n; i++) {
+          JulianDate jd = jauTttcg(u1[i], u2[i]);
+          vvd(r1[i], jd.djm0, 0.0, "TimeScaleBatch", "tttcg 1");
+          vvd(r2[i], jd.djm1, 0.0, "TimeScaleBatch", "tttcg 2");
+       }
+
+    /* In place, with an unacceptable date reported rather than thrown. */
+       double v1[] = {2453750.5, 1e12, 2457204.5}, v2[] = {0.892100694, 0.0, 0.5};
+       int st[] = new int[1];
+       viv(TimeScaleBatch.utctai(v1, v2, v1, v2, new int[3]), 1, "TimeScaleBatch", "bad");
+       vvd(v2[0], 0.8924826384444444444, 1e-12, "TimeScaleBatch", "u2");
+       viv(Double.isNaN(v1[1]) ? 1 : 0, 1, "TimeScaleBatch", "NaN");
+       JulianDate jd = jauUtctai(2457204.5, 0.5, st);
+       vvd(v2[2], jd.djm1, 0.0, "TimeScaleBatch", "leap");
+       viv(TimeScaleBatch.utcut1(u1, u2, dut1, r1, r2, status), 0, "TimeScaleBatch", "status");
+    }
+
+    @Test
+    public void t_timeScaleConversion() throws JSOFAIllegalParameter, JSOFAInternalError
+    /*
+    **  Test TimeScaleConversion against chains of the single-step functions.
+    */
+    {
+       final double utc1 = 2453750.5, utc2 = 0.892100694, dut1 = 0.3341;
+
+    /* The route found. */
+       TimeScaleConversion p = TimeScaleConversion.plan(TimeScale.UTC, TimeScale.TCB);
+       TimeScale path[] = p.getPath();
+       viv(path.length, 5, "TimeScaleConversion", "path");
+       viv(path[2].ordinal(), TimeScale.TT.ordinal(), "TimeScaleConversion", "TT");
+       viv(p.needsDut1() ? 1 : 0, 0, "TimeScaleConversion", "dut1");
+
+    /* UTC to TCB, as jauUtctai, jauTaitt, jauTttdb and jauTdbtcb. */
+       JulianDate jd = jauUtctai(utc1, utc2);
+       jd = jauTaitt(jd.djm0, jd.djm1);
+       jd = jauTttdb(jd.djm0, jd.djm1, jauDtdb(jd.djm0, jd.djm1, 0.392, 0.0, 0.0, 0.0));
+       jd = jauTdbtcb(jd.djm0, jd.djm1);
+       JulianDate r = p.convert(utc1, utc2);
+       vvd(r.djm0, jd.djm0, 0.0, "TimeScaleConversion", "tcb1");
+       vvd(r.djm1, jd.djm1, 2.0 * Math.ulp(jd.djm1), "TimeScaleConversion", "tcb2");
+
+    /* And back again. */
+       JulianDate b = TimeScaleConversion.plan(TimeScale.TCB, TimeScale.UTC).convert(r.djm0, r.djm1);
+       vvd(b.djm0, utc1, 0.0, "TimeScaleConversion", "utc1");
+       vvd(b.djm1, utc2, 1e-15, "TimeScaleConversion", "utc2");
+
+    /* UTC to UT1 exactly as jauUtcut1. */
+       p = TimeScaleConversion.plan(TimeScale.UTC, TimeScale.UT1);
+       viv(p.needsDut1() ? 1 : 0, 1, "TimeScaleConversion", "needs dut1");
+       jd = jauUtcut1(utc1, utc2, dut1);
+       r = p.convert(utc1, utc2, dut1);
+       vvd(r.djm0, jd.djm0, 0.0, "TimeScaleConversion", "ut11");
+       vvd(r.djm1, jd.djm1, 0.0, "TimeScaleConversion", "ut12");
+       try {
+          p.convert(utc1, utc2);
+          viv(0, 1, "TimeScaleConversion", "no dut1");
+       } catch (JSOFAIllegalParameter e) {
+          viv(e.getStatus(), -1, "TimeScaleConversion", "no dut1");
+       }
+
+    /* TT to TCG exactly as jauTttcg, and the same in the batch form. */
+       p = TimeScaleConversion.plan(TimeScale.TT, TimeScale.TCG);
+       jd = jauTttcg(2453750.5, 0.892482639);
+       r = p.convert(2453750.5, 0.892482639);
+       vvd(r.djm0, jd.djm0, 0.0, "TimeScaleConversion", "tcg1");
+       vvd(r.djm1, jd.djm1, 0.0, "TimeScaleConversion", "tcg2");
+
+       p = TimeScaleConversion.plan(TimeScale.UT1, TimeScale.TT);
+       double d1[] = new double[50], d2[] = new double[50], du[] = new double[50];
+       for (int i = 0; i < d1.length; i++) {
+          d1[i] = 2457204.5;
+          d2[i] = 0.98 + 0.001 * i;
+          du[i] = 0.3 - 0.01 * i;
+       }
+       double r1[] = new double[50], r2[] = new double[50];
+       p.convert(d1, d2, du, r1, r2);
+       for (int i = 0; i < d1.length; i++) {
+          r = p.convert(d1[i], d2[i], du[i]);
+          vvd(r1[i], r.djm0, 0.0, "TimeScaleConversion", "batch 1");
+          vvd(r2[i], r.djm1, 0.0, "TimeScaleConversion", "batch 2");
+       }
+
+    /* TAI to UT1 across the 2015 leap second exactly as the functions. */
+       p = TimeScaleConversion.plan(TimeScale.TAI, TimeScale.UT1);
+       for (int i = 0; i < d1.length; i++) {
+          d1[i] = 2400000.5;
+          d2[i] = 57203.9997 + 0.00001 * i;
+       }
+       p.convert(d1, d2, du, r1, r2);
+       for (int i = 0; i < d1.length; i++) {
+          JulianDate u = jauTaiutc(d1[i], d2[i]);
+          Calendar dt = jauJd2cal(u.djm0, u.djm1);
+          jd = jauTaiut1(d1[i], d2[i], du[i] - jauDat(dt.iy, dt.im, dt.id, 0.0));
+          vvd(r1[i], jd.djm0, 0.0, "TimeScaleConversion", "ut1 leap 1");
+          vvd(r2[i], jd.djm1, 0.0, "TimeScaleConversion", "ut1 leap 2");
+       }
+
+    /* With an MJD split a chain differs by one or two ULP of the smaller part. */
+       p = TimeScaleConversion.plan(TimeScale.UTC, TimeScale.TCB);
+       final double m1 = 2400000.5, m2 = 53750.392100694;
+       jd = jauUtctai(m1, m2);
+       jd = jauTaitt(jd.djm0, jd.djm1);
+       jd = jauTttdb(jd.djm0, jd.djm1, jauDtdb(jd.djm0, jd.djm1, 0.392, 0.0, 0.0, 0.0));
+       jd = jauTdbtcb(jd.djm0, jd.djm1);
+       r = p.convert(m1, m2);
+       vvd(r.djm0, jd.djm0, 0.0, "TimeScaleConversion", "mjd tcb1");
+       vvd(r.djm1, jd.djm1, 2.0 * Math.ulp(m2), "TimeScaleConversion", "mjd tcb2");
+    }
+
     @Test
     public void t_xy06()
     /*
@@ -6513,6 +7285,30 @@ public class JSOFATest {
 
     }
 
+    @Test
+    public void t_xys06()
+    /*
+    **  Test jauXys06 against jauXy06 and jauS06, and against jauXys06a.
+    */
+    {
+       double d2[] = { 53736.0, 33282.0, 69807.0 };
+
+       for (int i = 0; i < d2.length; i++) {
+          ICRFrame fr = jauXys06(2400000.5, d2[i]);
+          CelestialIntermediatePole xy = jauXy06(2400000.5, d2[i]);
+
+          vvd(fr.cip.x, xy.x, 0.0, "jauXys06", "x");
+          vvd(fr.cip.y, xy.y, 0.0, "jauXys06", "y");
+          vvd(fr.s, jauS06(2400000.5, d2[i], xy.x, xy.y), 0.0, "jauXys06", "s");
+       }
+
+       ICRFrame fr = jauXys06(2400000.5, 53736.0);
+       vvd(fr.cip.x,  0.5791308482835292617e-3, 1e-11, "jauXys06", "x 06a");
+       vvd(fr.cip.y,  0.4020580099454020310e-4, 1e-11, "jauXys06", "y 06a");
+       vvd(fr.s, -0.1220032294164579896e-7, 1e-15, "jauXys06", "s 06a");
+
+    }
+
     @Test
     public void t_zp()
     /*
@@ -7762,6 +8558,144 @@ public void t_apcg()
 
 }
 
+    @Test
+    public void t_trackingContext() throws JSOFAIllegalParameter, JSOFAInternalError
+    {
+       double rc = 2.71, dc = 0.174, pr = 1e-5, pd = 5e-6, px = 0.1, rv = 55.0,
+              utc1 = 2456384.5, utc2 = 0.969254051, dut1 = 0.1550675,
+              elong = -0.527800806, phi = -1.2345856, hm = 2738.0,
+              xp = 2.47230737e-7, yp = 1.82640464e-6,
+              phpa = 731.0, tc = 12.8, rh = 0.59, wl = 0.55;
+
+       TrackingContext tr = new TrackingContext(elong, phi, hm, xp, yp,
+                 phpa, tc, rh, wl, 60.0 / 86400.0);
+
+    /* The first update is a full one and agrees exactly with jauAtco13. */
+       viv(tr.update(utc1, utc2, dut1) ? 1 : 0, 1, "TrackingContext", "full");
+       ObservedPosition op = tr.observed(rc, dc, pr, pd, px, rv);
+       ObservedPositionEO ope = jauAtco13(rc, dc, pr, pd, px, rv,
+                 utc1, utc2, dut1, elong, phi, hm, xp, yp, phpa, tc, rh, wl);
+       vvd(op.aob, ope.op.aob, 1e-15, "TrackingContext", "aob");
+       vvd(op.zob, ope.op.zob, 1e-15, "TrackingContext", "zob");
+       vvd(op.rob, ope.op.rob, 1e-15, "TrackingContext", "rob");
+       vvd(tr.getEo(), ope.eo, 1e-15, "TrackingContext", "eo");
+
+    /* 20 Hz ticks for 30s only refresh the Earth rotation and orbit. */
+       for (int i = 1; i <= 600; i++) {
+          viv(tr.update(utc1, utc2 + i / (20.0 * 86400.0), dut1) ? 1 : 0, 0, "TrackingContext", "tick");
+       }
+       op = tr.observed(rc, dc, pr, pd, px, rv);
+       ope = jauAtco13(rc, dc, pr, pd, px, rv,
+                 utc1, utc2 + 30.0 / 86400.0, dut1, elong, phi, hm, xp, yp, phpa, tc, rh, wl);
+       vvd(op.aob, ope.op.aob, 3e-10, "TrackingContext", "aob tick");
+       vvd(op.zob, ope.op.zob, 3e-10, "TrackingContext", "zob tick");
+       vvd(op.hob, ope.op.hob, 3e-10, "TrackingContext", "hob tick");
+       vvd(op.dob, ope.op.dob, 3e-10, "TrackingContext", "dob tick");
+       vvd(op.rob, ope.op.rob, 3e-10, "TrackingContext", "rob tick");
+
+    /* At the equator, where the diurnal aberration is largest. */
+       TrackingContext eq = new TrackingContext(elong, 0.0, 0.0, xp, yp,
+                 phpa, tc, rh, wl, 60.0 / 86400.0);
+       eq.update(utc1, utc2, dut1);
+       for (int i = 1; i <= 1200; i++) {
+          eq.update(utc1, utc2 + i / (20.0 * 86400.0), dut1);
+       }
+       op = eq.observed(rc, dc, pr, pd, px, rv);
+       ope = jauAtco13(rc, dc, pr, pd, px, rv,
+                 utc1, utc2 + 60.0 / 86400.0, dut1, elong, 0.0, 0.0, xp, yp, phpa, tc, rh, wl);
+       vvd(op.hob, ope.op.hob, 3e-10, "TrackingContext", "hob equator");
+       vvd(op.dob, ope.op.dob, 3e-10, "TrackingContext", "dob equator");
+       vvd(op.zob, ope.op.zob, 3e-10, "TrackingContext", "zob equator");
+       viv((int)eq.getFullUpdates(), 1, "TrackingContext", "count equator");
+
+    /* Beyond the tolerance there is another full update. */
+       viv(tr.update(utc1, utc2 + 61.0 / 86400.0, dut1) ? 1 : 0, 1, "TrackingContext", "refresh");
+       viv((int)tr.getFullUpdates(), 2, "TrackingContext", "count");
+    }
+
+    @Test
+    public void t_astrometryBatch() throws JSOFAIllegalParameter, JSOFAInternalError
+    {
+       final int n = 10000;
+       double rc[] = new double[n], dc[] = new double[n], pr[] = new double[n],
+              pd[] = new double[n], px[] = new double[n], rv[] = new double[n],
+              ri[] = new double[n], di[] = new double[n],
+              aob[] = new double[n], zob[] = new double[n], hob[] = new double[n],
+              dob[] = new double[n], rob[] = new double[n], zob2[] = new double[n];
+       Astrom astrom = new Astrom();
+
+       jauApco13(2456384.5, 0.969254051, 0.1550675, -0.527800806, -1.2345856, 2738.0,
+                 2.47230737e-7, 1.82640464e-6, 731.0, 12.8, 0.59, 0.55, astrom);
+
+       java.util.Random rand = new java.util.Random(42);
+       for (int i = 0; i < n; i++) {
+          rc[i] = rand.nextDouble() * D2PI;
+          dc[i] = Math.asin(2.0 * rand.nextDouble() - 1.0);
+          pr[i] = 1e-5 * rand.nextGaussian();
+          pd[i] = 1e-5 * rand.nextGaussian();
+          px[i] = 0.1 * rand.nextDouble();
+          rv[i] = 50.0 * rand.nextGaussian();
+       }
+
+       java.util.concurrent.ForkJoinPool pool = new java.util.concurrent.ForkJoinPool(4);
+       try {
+          AstrometryBatch.atco(rc, dc, pr, pd, px, rv, astrom, aob, zob, hob, dob, rob, pool);
+          AstrometryBatch.atciq(rc, dc, pr, pd, px, rv, astrom, ri, di, null);
+          AstrometryBatch.atioq(ri, di, astrom, null, zob2, null, null, null, pool);
+       } finally {
+          pool.shutdown();
+       }
+
+    /* Star by star agreement with the single-star functions. */
+       for (int i = 0; i < n; i += 97) {
+          SphericalCoordinate co = jauAtciq(rc[i], dc[i], pr[i], pd[i], px[i], rv[i], astrom);
+          ObservedPosition op = jauAtioq(co.alpha, co.delta, astrom);
+          vvd(ri[i], co.alpha, 0.0, "AstrometryBatch", "ri");
+          vvd(di[i], co.delta, 0.0, "AstrometryBatch", "di");
+          vvd(aob[i], op.aob, 0.0, "AstrometryBatch", "aob");
+          vvd(zob[i], op.zob, 0.0, "AstrometryBatch", "zob");
+          vvd(hob[i], op.hob, 0.0, "AstrometryBatch", "hob");
+          vvd(dob[i], op.dob, 0.0, "AstrometryBatch", "dob");
+          vvd(rob[i], op.rob, 0.0, "AstrometryBatch", "rob");
+          vvd(zob2[i], op.zob, 0.0, "AstrometryBatch", "zob2");
+       }
+
+    /* With deflection by the Sun, Jupiter and Saturn. */
+       Ldbody b[] = new Ldbody[3];
+       for (int k = 0; k < 3; k++) b[k] = new Ldbody();
+       b[0].bm = 0.00028574;
+       b[0].dl = 3e-10;
+       b[0].pv = new double[][] {{-7.81014427, -5.60956681, -1.98079819},
+                                 {0.0030723249, -0.00406995477, -0.00181335842}};
+       b[1].bm = 0.00095435;
+       b[1].dl = 3e-9;
+       b[1].pv = new double[][] {{0.738098796, 4.63658692, 1.9693136},
+                                 {-0.00755816922, 0.00126913722, 0.000727999001}};
+       b[2].bm = 1.0;
+       b[2].dl = 6e-6;
+       b[2].pv = new double[][] {{-0.000712174377, -0.00230478303, -0.00105865966},
+                                 {6.29235213e-6, -3.30888387e-7, -2.96486623e-7}};
+       AstrometryBatch.Deflectors bodies = new AstrometryBatch.Deflectors(3, b, astrom);
+       pool = new java.util.concurrent.ForkJoinPool(4);
+       try {
+          AstrometryBatch.atciqn(rc, dc, pr, pd, px, rv, astrom, bodies, ri, di, pool);
+       } finally {
+          pool.shutdown();
+       }
+       for (int i = 0; i < n; i += 97) {
+          SphericalCoordinate co = jauAtciqn(rc[i], dc[i], pr[i], pd[i], px[i], rv[i], astrom, 3, b);
+          vvd(ri[i], co.alpha, 0.0, "AstrometryBatch", "ri n");
+          vvd(di[i], co.delta, 0.0, "AstrometryBatch", "di n");
+       }
+
+       try {
+          AstrometryBatch.atciq(rc, dc, pr, pd, px, rv, astrom, ri, new double[1], null);
+          fail("AstrometryBatch should reject arrays of different lengths");
+       } catch (JSOFAIllegalParameter e) {
+          viv(e.getStatus(), JSOFAIllegalParameter.BATCH_LENGTH, "AstrometryBatch", "length");
+       }
+    }
+
 @Test
     public void t_atic13()
 /*